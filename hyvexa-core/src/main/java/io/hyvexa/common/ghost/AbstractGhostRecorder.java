@@ -1,70 +1,57 @@
 package io.hyvexa.common.ghost;
 
-import com.hypixel.hytale.component.Ref;
-import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.logger.HytaleLogger;
-import com.hypixel.hytale.math.vector.Vector3d;
-import com.hypixel.hytale.math.vector.Vector3f;
-import com.hypixel.hytale.server.core.HytaleServer;
-import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
-import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.world.World;
-import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
-
-import java.util.ArrayList;
-import java.util.List;
+
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
-/** Shared sampling pipeline for ghost recording. */
-public abstract class AbstractGhostRecorder<TSample, TRecording> implements AutoCloseable {
+/**
+ * Shared sampling pipeline for ghost recording.
+ * <p>
+ * Positions are pushed in by {@link GhostSamplingSystem} from each world's tick, on the world thread,
+ * into a per-run {@link GhostSampleBuffer}. Sampling is capped at one sample per
+ * {@link #SAMPLE_INTERVAL_MS} and {@link GhostStore#MAX_SAMPLES} per run.
+ */
+public abstract class AbstractGhostRecorder implements AutoCloseable {
 
-    private static final long SAMPLE_INTERVAL_MS = 50L;
-    private static final int MAX_SAMPLES = 12000;
+    static final long SAMPLE_INTERVAL_MS = 50L;
+    static final int MAX_SAMPLES = GhostStore.MAX_SAMPLES;
 
     @FunctionalInterface
-    public interface RecordingWriter<TRecording> {
-        void saveRecording(UUID playerId, String mapId, TRecording recording);
+    public interface RecordingWriter {
+        void saveRecording(UUID playerId, String mapId, GhostRecording recording);
     }
 
-    private final RecordingWriter<TRecording> recordingWriter;
-    private final Map<UUID, ActiveRecording<TSample>> activeRecordings = new ConcurrentHashMap<>();
-    private ScheduledFuture<?> samplingTask;
+    private final RecordingWriter recordingWriter;
+    private final LongSupplier clock;
+    private final Map<UUID, ActiveRecording> activeRecordings = new ConcurrentHashMap<>();
+    private volatile boolean started;
+
+    protected AbstractGhostRecorder(RecordingWriter recordingWriter) {
+        this(recordingWriter, System::currentTimeMillis);
+    }
 
-    protected AbstractGhostRecorder(RecordingWriter<TRecording> recordingWriter) {
+    protected AbstractGhostRecorder(RecordingWriter recordingWriter, LongSupplier clock) {
         this.recordingWriter = recordingWriter;
+        this.clock = clock;
     }
 
     protected abstract HytaleLogger logger();
 
-    protected abstract PlayerRef resolvePlayerRef(UUID playerId);
-
-    protected abstract TRecording createRecording(List<TSample> samples, long completionTimeMs);
-
-    protected abstract TSample createSample(Vector3d position, float yaw, long timestampMs);
-
     public void start() {
-        if (samplingTask != null && !samplingTask.isDone()) {
-            logger().atWarning().log("GhostRecorder sampling task already running");
+        if (started) {
+            logger().atWarning().log("GhostRecorder sampling already running");
             return;
         }
-
-        samplingTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleWithFixedDelay(
-                this::sampleActiveRecordings,
-                SAMPLE_INTERVAL_MS,
-                SAMPLE_INTERVAL_MS,
-                TimeUnit.MILLISECONDS
-        );
+        started = true;
+        GhostSamplingSystem.attach(this);
     }
 
     public void stop() {
-        if (samplingTask != null) {
-            samplingTask.cancel(false);
-            samplingTask = null;
-        }
+        started = false;
+        GhostSamplingSystem.detach(this);
         activeRecordings.clear();
     }
 
@@ -74,32 +61,24 @@ public abstract class AbstractGhostRecorder<TSample, TRecording> implements Auto
     }
 
     public void startRecording(UUID playerId, String mapId) {
-        activeRecordings.put(playerId, new ActiveRecording<>(playerId, mapId, System.currentTimeMillis()));
+        activeRecordings.put(playerId, new ActiveRecording(mapId,
+                new GhostSampleBuffer(clock.getAsLong(), SAMPLE_INTERVAL_MS, MAX_SAMPLES)));
     }
 
     public void stopRecording(UUID playerId, long completionTimeMs, boolean isPersonalBest) {
-        ActiveRecording<TSample> recording = activeRecordings.remove(playerId);
+        ActiveRecording recording = activeRecordings.remove(playerId);
         if (recording == null || !isPersonalBest) {
             return;
         }
 
-        int sampleCount;
-        synchronized (recording.samples) {
-            sampleCount = recording.samples.size();
-        }
-
-        if (sampleCount == 0) {
+        if (recording.samples.size() == 0) {
             logger().atWarning().log("Ghost recording has no samples for player " + playerId
                     + " - sampling may have failed");
             return;
         }
 
         try {
-            List<TSample> samplesCopy;
-            synchronized (recording.samples) {
-                samplesCopy = new ArrayList<>(recording.samples);
-            }
-            TRecording ghost = createRecording(samplesCopy, completionTimeMs);
+            GhostRecording ghost = recording.samples.toRecording(completionTimeMs);
             recordingWriter.saveRecording(playerId, recording.mapId, ghost);
         } catch (Exception e) {
             logger().atSevere().withCause(e)
@@ -111,84 +90,15 @@ public abstract class AbstractGhostRecorder<TSample, TRecording> implements Auto
         activeRecordings.remove(playerId);
     }
 
-    private void sampleActiveRecordings() {
-        long now = System.currentTimeMillis();
-        List<ActiveRecording<TSample>> snapshot = new ArrayList<>(activeRecordings.values());
-        for (ActiveRecording<TSample> recording : snapshot) {
-            try {
-                samplePlayer(recording, now);
-            } catch (Exception e) {
-                logger().atWarning().withCause(e)
-                        .log("Failed to sample player " + recording.playerId);
-            }
-        }
-    }
-
-    private void samplePlayer(ActiveRecording<TSample> recording, long now) {
-        synchronized (recording.samples) {
-            if (recording.samples.size() >= MAX_SAMPLES) {
-                return;
-            }
-        }
-
-        PlayerRef playerRef = resolvePlayerRef(recording.playerId);
-        if (playerRef == null) {
-            return;
-        }
-
-        Ref<EntityStore> ref = playerRef.getReference();
-        if (ref == null || !ref.isValid()) {
-            return;
-        }
-
-        Store<EntityStore> store = ref.getStore();
-        if (store == null) {
+    /** Called from the world tick for every player; ignores players without an active recording. */
+    void samplePlayer(UUID playerId, double x, double y, double z, float yaw) {
+        ActiveRecording recording = activeRecordings.get(playerId);
+        if (recording == null) {
             return;
         }
-
-        if (store.getExternalData() == null) return;
-        World world = store.getExternalData().getWorld();
-        if (world == null) {
-            return;
-        }
-
-        long timestampMs = now - recording.startTimeMs;
-
-        world.execute(() -> {
-            try {
-                TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
-                if (transform == null) {
-                    return;
-                }
-
-                Vector3d position = transform.getPosition();
-                if (position == null) {
-                    return;
-                }
-
-                Vector3f bodyRotation = transform.getRotation();
-                float yaw = bodyRotation != null ? bodyRotation.getY() : 0f;
-
-                TSample sample = createSample(position, yaw, timestampMs);
-                synchronized (recording.samples) {
-                    recording.samples.add(sample);
-                }
-            } catch (Exception e) {
-                logger().atWarning().withCause(e).log("Error sampling ghost position");
-            }
-        });
+        recording.samples.offer(clock.getAsLong(), x, y, z, yaw);
     }
 
-    private static final class ActiveRecording<TSample> {
-        private final UUID playerId;
-        private final String mapId;
-        private final long startTimeMs;
-        private final List<TSample> samples = new ArrayList<>();
-
-        private ActiveRecording(UUID playerId, String mapId, long startTimeMs) {
-            this.playerId = playerId;
-            this.mapId = mapId;
-            this.startTimeMs = startTimeMs;
-        }
+    private record ActiveRecording(String mapId, GhostSampleBuffer samples) {
     }
 }
@@ -23,6 +23,25 @@ public final class GhostInterpolation {
         TSample create(double x, double y, double z, float yaw, long timestampMs);
     }
 
+    /** Index-based access to columnar samples, so lookups do not need a sample object per index. */
+    public interface IndexedSamples {
+        int size();
+
+        long timestampMs(int index);
+
+        double x(int index);
+
+        double y(int index);
+
+        double z(int index);
+
+        float yaw(int index);
+    }
+
+    public interface SampleFactory<TSample> {
+        TSample create(double x, double y, double z, float yaw, long timestampMs);
+    }
+
     public static <TSample> TSample interpolateAt(List<TSample> samples, long completionTimeMs, double progress,
                                                   SampleAdapter<TSample> adapter,
                                                   Supplier<TSample> emptySupplier) {
@@ -76,11 +95,81 @@ public final class GhostInterpolation {
         return adapter.create(x, y, z, yaw, targetTimestamp);
     }
 
-    private static double lerp(double a, double b, double t) {
+    /** Same lookup as {@link #interpolateAt(List, long, double, SampleAdapter, Supplier)} over columns. */
+    public static <TSample> TSample interpolateAt(IndexedSamples samples, long completionTimeMs, double progress,
+                                                  SampleFactory<TSample> factory,
+                                                  Supplier<TSample> emptySupplier) {
+        int size = samples.size();
+        if (size == 0) {
+            return emptySupplier.get();
+        }
+        if (size == 1 || progress <= 0.0) {
+            return sampleAt(samples, 0, factory);
+        }
+        if (progress >= 1.0) {
+            return sampleAt(samples, size - 1, factory);
+        }
+
+        long targetTimestamp = (long) (progress * completionTimeMs);
+
+        int found = binarySearch(samples, targetTimestamp);
+        if (found >= 0) {
+            return sampleAt(samples, found, factory);
+        }
+
+        int upperIndex = Math.min(size - 1, Math.max(0, -found - 1));
+        int lowerIndex = Math.max(0, upperIndex - 1);
+
+        long lowerTimestamp = samples.timestampMs(lowerIndex);
+        long upperTimestamp = samples.timestampMs(upperIndex);
+        if (lowerTimestamp == upperTimestamp) {
+            return sampleAt(samples, lowerIndex, factory);
+        }
+
+        double timeDiff = upperTimestamp - lowerTimestamp;
+        double timeOffset = targetTimestamp - lowerTimestamp;
+        double t = timeOffset / timeDiff;
+
+        double x = lerp(samples.x(lowerIndex), samples.x(upperIndex), t);
+        double y = lerp(samples.y(lowerIndex), samples.y(upperIndex), t);
+        double z = lerp(samples.z(lowerIndex), samples.z(upperIndex), t);
+        float yaw = lerpAngle(samples.yaw(lowerIndex), samples.yaw(upperIndex), (float) t);
+
+        return factory.create(x, y, z, yaw, targetTimestamp);
+    }
+
+    /**
+     * Binary search over the sample timestamps, probing the same indices as the list-based lookup.
+     *
+     * @return the matching index, or {@code -(insertionPoint + 1)} when no timestamp matches
+     */
+    static int binarySearch(IndexedSamples samples, long targetTimestamp) {
+        int low = 0;
+        int high = samples.size() - 1;
+        while (low <= high) {
+            int mid = low + (high - low) / 2;
+            long timestamp = samples.timestampMs(mid);
+            if (timestamp < targetTimestamp) {
+                low = mid + 1;
+            } else if (timestamp > targetTimestamp) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static <TSample> TSample sampleAt(IndexedSamples samples, int index, SampleFactory<TSample> factory) {
+        return factory.create(samples.x(index), samples.y(index), samples.z(index), samples.yaw(index),
+                samples.timestampMs(index));
+    }
+
+    static double lerp(double a, double b, double t) {
         return a + (b - a) * t;
     }
 
-    private static float lerpAngle(float a, float b, float t) {
+    static float lerpAngle(float a, float b, float t) {
         a = normalizeAngle(a);
         b = normalizeAngle(b);
 
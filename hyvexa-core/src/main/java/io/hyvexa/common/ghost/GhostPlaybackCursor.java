@@ -0,0 +1,138 @@
+package io.hyvexa.common.ghost;
+
+/**
+ * Stateful playback over a {@link GhostRecording}.
+ * <p>
+ * Produces exactly what {@link GhostRecording#interpolateAt(double)} would, but remembers the segment
+ * it stopped at: playback that moves forward a few samples per call costs O(1) amortized, larger jumps
+ * and rewinds fall back to a binary search. Results are written into a caller-owned
+ * {@link MutableGhostSample}, so sampling allocates nothing. Not thread-safe.
+ */
+public final class GhostPlaybackCursor {
+
+    /** Forward steps to walk before switching to a binary search over the remaining samples. */
+    private static final int MAX_LINEAR_STEPS = 8;
+
+    private GhostRecording recording;
+    private GhostInterpolation.IndexedSamples samples;
+    /** First index whose timestamp is after {@link #lastTargetMs}; every earlier sample is at or before it. */
+    private int upper;
+    private long lastTargetMs;
+
+    public GhostPlaybackCursor() {
+        rewind();
+    }
+
+    public GhostPlaybackCursor(GhostRecording recording) {
+        bind(recording);
+    }
+
+    /** Switches to {@code recording}, rewinding only if it differs from the current one. */
+    public GhostPlaybackCursor bind(GhostRecording recording) {
+        if (recording != this.recording) {
+            this.recording = recording;
+            this.samples = recording != null ? recording.columns() : null;
+            rewind();
+        }
+        return this;
+    }
+
+    public GhostRecording recording() {
+        return recording;
+    }
+
+    public void rewind() {
+        upper = 0;
+        lastTargetMs = Long.MIN_VALUE;
+    }
+
+    /**
+     * Writes the interpolated sample at {@code progress} (0..1 of the completion time) into {@code out}.
+     *
+     * @return false if no recording is bound or it has no samples; {@code out} is then zeroed
+     */
+    public boolean sample(double progress, MutableGhostSample out) {
+        int size = samples != null ? samples.size() : 0;
+        if (size == 0) {
+            out.set(0, 0, 0, 0, 0);
+            return false;
+        }
+        if (size == 1 || progress <= 0.0) {
+            copy(0, out);
+            return true;
+        }
+        if (progress >= 1.0) {
+            copy(size - 1, out);
+            return true;
+        }
+
+        long targetTimestamp = (long) (progress * recording.getCompletionTimeMs());
+        seek(targetTimestamp, size);
+
+        int exact = upper - 1;
+        if (exact >= 0 && samples.timestampMs(exact) == targetTimestamp) {
+            if (exact > 0 && samples.timestampMs(exact - 1) == targetTimestamp) {
+                // Duplicate timestamps: pick the same one the binary search lands on.
+                exact = GhostInterpolation.binarySearch(samples, targetTimestamp);
+            }
+            copy(exact, out);
+            return true;
+        }
+
+        int upperIndex = Math.min(size - 1, upper);
+        int lowerIndex = Math.max(0, upperIndex - 1);
+        long lowerTimestamp = samples.timestampMs(lowerIndex);
+        long upperTimestamp = samples.timestampMs(upperIndex);
+        if (lowerTimestamp == upperTimestamp) {
+            copy(lowerIndex, out);
+            return true;
+        }
+
+        double timeDiff = upperTimestamp - lowerTimestamp;
+        double timeOffset = targetTimestamp - lowerTimestamp;
+        double t = timeOffset / timeDiff;
+
+        out.set(GhostInterpolation.lerp(samples.x(lowerIndex), samples.x(upperIndex), t),
+                GhostInterpolation.lerp(samples.y(lowerIndex), samples.y(upperIndex), t),
+                GhostInterpolation.lerp(samples.z(lowerIndex), samples.z(upperIndex), t),
+                GhostInterpolation.lerpAngle(samples.yaw(lowerIndex), samples.yaw(upperIndex), (float) t),
+                targetTimestamp);
+        return true;
+    }
+
+    private void seek(long targetTimestamp, int size) {
+        if (targetTimestamp < lastTargetMs) {
+            upper = upperBound(0, size, targetTimestamp);
+        } else {
+            int steps = 0;
+            while (upper < size && samples.timestampMs(upper) <= targetTimestamp) {
+                if (++steps > MAX_LINEAR_STEPS) {
+                    upper = upperBound(upper, size, targetTimestamp);
+                    break;
+                }
+                upper++;
+            }
+        }
+        lastTargetMs = targetTimestamp;
+    }
+
+    /** First index in {@code [from, to)} whose timestamp is after {@code targetTimestamp}, or {@code to}. */
+    private int upperBound(int from, int to, long targetTimestamp) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (samples.timestampMs(mid) <= targetTimestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void copy(int index, MutableGhostSample out) {
+        out.set(samples.x(index), samples.y(index), samples.z(index), samples.yaw(index),
+                samples.timestampMs(index));
+    }
+}
@@ -1,66 +1,139 @@
 package io.hyvexa.common.ghost;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
+/**
+ * Immutable ghost recording stored column-wise (one primitive array per field) rather than as a
+ * list of {@link GhostSample} objects, which roughly halves its heap footprint.
+ */
 public class GhostRecording {
-    private static final GhostInterpolation.SampleAdapter<GhostSample> SAMPLE_ADAPTER =
-            new GhostInterpolation.SampleAdapter<>() {
-                @Override
-                public long timestampMs(GhostSample sample) {
-                    return sample.timestampMs();
-                }
-
-                @Override
-                public double x(GhostSample sample) {
-                    return sample.x();
-                }
-
-                @Override
-                public double y(GhostSample sample) {
-                    return sample.y();
-                }
-
-                @Override
-                public double z(GhostSample sample) {
-                    return sample.z();
-                }
-
-                @Override
-                public float yaw(GhostSample sample) {
-                    return sample.yaw();
-                }
-
-                @Override
-                public GhostSample create(double x, double y, double z, float yaw, long timestampMs) {
-                    return new GhostSample(x, y, z, yaw, timestampMs);
-                }
-            };
-
-    private final List<GhostSample> samples;
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final float[] yaws;
+    private final long[] timestamps;
     private final long completionTimeMs;
+    private final GhostInterpolation.IndexedSamples columns = new Columns();
 
     public GhostRecording(List<GhostSample> samples, long completionTimeMs) {
-        this.samples = new ArrayList<>(samples);
+        int size = samples.size();
+        this.xs = new double[size];
+        this.ys = new double[size];
+        this.zs = new double[size];
+        this.yaws = new float[size];
+        this.timestamps = new long[size];
+        for (int i = 0; i < size; i++) {
+            GhostSample sample = samples.get(i);
+            xs[i] = sample.x();
+            ys[i] = sample.y();
+            zs[i] = sample.z();
+            yaws[i] = sample.yaw();
+            timestamps[i] = sample.timestampMs();
+        }
+        this.completionTimeMs = completionTimeMs;
+    }
+
+    /** Takes ownership of the arrays, which must all have the same length. */
+    GhostRecording(double[] xs, double[] ys, double[] zs, float[] yaws, long[] timestamps, long completionTimeMs) {
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.yaws = yaws;
+        this.timestamps = timestamps;
         this.completionTimeMs = completionTimeMs;
     }
 
+    /** Read-only view; each {@code get} builds a new sample, so prefer the indexed accessors in loops. */
     public List<GhostSample> getSamples() {
-        return Collections.unmodifiableList(samples);
+        return new SampleView();
+    }
+
+    public int getSampleCount() {
+        return timestamps.length;
     }
 
     public long getCompletionTimeMs() {
         return completionTimeMs;
     }
 
+    double xAt(int index) {
+        return xs[index];
+    }
+
+    double yAt(int index) {
+        return ys[index];
+    }
+
+    double zAt(int index) {
+        return zs[index];
+    }
+
+    float yawAt(int index) {
+        return yaws[index];
+    }
+
+    long timestampAt(int index) {
+        return timestamps[index];
+    }
+
+    GhostInterpolation.IndexedSamples columns() {
+        return columns;
+    }
+
     public GhostSample interpolateAt(double progress) {
         return GhostInterpolation.interpolateAt(
-                samples,
+                columns,
                 completionTimeMs,
                 progress,
-                SAMPLE_ADAPTER,
+                GhostSample::new,
                 () -> new GhostSample(0, 0, 0, 0, 0)
         );
     }
+
+    private final class Columns implements GhostInterpolation.IndexedSamples {
+        @Override
+        public int size() {
+            return timestamps.length;
+        }
+
+        @Override
+        public long timestampMs(int index) {
+            return timestamps[index];
+        }
+
+        @Override
+        public double x(int index) {
+            return xs[index];
+        }
+
+        @Override
+        public double y(int index) {
+            return ys[index];
+        }
+
+        @Override
+        public double z(int index) {
+            return zs[index];
+        }
+
+        @Override
+        public float yaw(int index) {
+            return yaws[index];
+        }
+    }
+
+    private final class SampleView extends AbstractList<GhostSample> implements RandomAccess {
+        @Override
+        public GhostSample get(int index) {
+            return new GhostSample(xs[index], ys[index], zs[index], yaws[index], timestamps[index]);
+        }
+
+        @Override
+        public int size() {
+            return timestamps.length;
+        }
+    }
 }
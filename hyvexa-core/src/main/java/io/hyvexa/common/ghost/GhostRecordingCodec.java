@@ -0,0 +1,205 @@
+package io.hyvexa.common.ghost;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Binary encoding of ghost recordings.
+ * <p>
+ * Version 2 (written): magic {@code "GR"}, a version byte, the sample count, then one column per
+ * field. Positions are quantized to {@link #POSITION_SCALE} units per block and yaw to
+ * {@link #YAW_SCALE} units; every column stores its first value followed by zigzag varint deltas.
+ * Consecutive 50ms samples move a fraction of a block, so most deltas take one or two bytes.
+ * <p>
+ * Version 1 (read only): a GZIP'd stream of an int count followed by three doubles, a float and a
+ * long per sample. Recognized by the GZIP magic, so existing rows keep loading.
+ */
+final class GhostRecordingCodec {
+
+    static final int POSITION_SCALE = 1000;
+    static final int YAW_SCALE = 1000;
+
+    private static final byte MAGIC_0 = 'G';
+    private static final byte MAGIC_1 = 'R';
+    private static final byte VERSION_COLUMNAR = 2;
+
+    private GhostRecordingCodec() {
+    }
+
+    static byte[] encode(GhostRecording recording) {
+        int count = recording.getSampleCount();
+        // Typical samples take about 8 bytes; the stream grows if needed.
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + count * 8);
+        out.write(MAGIC_0);
+        out.write(MAGIC_1);
+        out.write(VERSION_COLUMNAR);
+        writeVarLong(out, count);
+
+        long previous = 0L;
+        for (int i = 0; i < count; i++) {
+            long value = recording.timestampAt(i);
+            writeVarLong(out, zigzag(value - previous));
+            previous = value;
+        }
+        writePositionColumn(out, recording, 0);
+        writePositionColumn(out, recording, 1);
+        writePositionColumn(out, recording, 2);
+        previous = 0L;
+        for (int i = 0; i < count; i++) {
+            long value = Math.round((double) recording.yawAt(i) * YAW_SCALE);
+            writeVarLong(out, zigzag(value - previous));
+            previous = value;
+        }
+        return out.toByteArray();
+    }
+
+    static GhostRecording decode(byte[] blob, long completionTimeMs) throws IOException {
+        if (blob == null || blob.length < 3) {
+            throw new IOException("Ghost recording blob too short");
+        }
+        if (blob[0] == MAGIC_0 && blob[1] == MAGIC_1) {
+            if (blob[2] != VERSION_COLUMNAR) {
+                throw new IOException("Unsupported ghost recording version " + blob[2]);
+            }
+            return decodeColumnar(blob, completionTimeMs);
+        }
+        if ((blob[0] & 0xFF) == 0x1F && (blob[1] & 0xFF) == 0x8B) {
+            return decodeLegacy(blob, completionTimeMs);
+        }
+        throw new IOException("Unrecognized ghost recording format");
+    }
+
+    private static GhostRecording decodeColumnar(byte[] blob, long completionTimeMs) throws IOException {
+        Reader in = new Reader(blob, 3);
+        int count = checkedCount(in.readVarLong());
+        long[] timestamps = new long[count];
+        long value = 0L;
+        for (int i = 0; i < count; i++) {
+            value += unzigzag(in.readVarLong());
+            timestamps[i] = value;
+        }
+        double[] xs = readPositionColumn(in, count);
+        double[] ys = readPositionColumn(in, count);
+        double[] zs = readPositionColumn(in, count);
+        float[] yaws = new float[count];
+        value = 0L;
+        for (int i = 0; i < count; i++) {
+            value += unzigzag(in.readVarLong());
+            yaws[i] = (float) ((double) value / YAW_SCALE);
+        }
+        if (in.position != blob.length) {
+            throw new IOException("Trailing bytes in ghost recording");
+        }
+        return new GhostRecording(xs, ys, zs, yaws, timestamps, completionTimeMs);
+    }
+
+    /** Reads the original GZIP'd layout written before the columnar format. */
+    private static GhostRecording decodeLegacy(byte[] blob, long completionTimeMs) throws IOException {
+        try (DataInputStream dataIn = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(blob)))) {
+            int count = checkedCount(dataIn.readInt());
+            double[] xs = new double[count];
+            double[] ys = new double[count];
+            double[] zs = new double[count];
+            float[] yaws = new float[count];
+            long[] timestamps = new long[count];
+            for (int i = 0; i < count; i++) {
+                xs[i] = dataIn.readDouble();
+                ys[i] = dataIn.readDouble();
+                zs[i] = dataIn.readDouble();
+                yaws[i] = dataIn.readFloat();
+                timestamps[i] = dataIn.readLong();
+            }
+            return new GhostRecording(xs, ys, zs, yaws, timestamps, completionTimeMs);
+        }
+    }
+
+    /** Writes the version 1 layout. Only used to produce legacy blobs in tests. */
+    static byte[] encodeLegacy(GhostRecording recording) throws IOException {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (DataOutputStream dataOut = new DataOutputStream(new GZIPOutputStream(byteOut))) {
+            int count = recording.getSampleCount();
+            dataOut.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                dataOut.writeDouble(recording.xAt(i));
+                dataOut.writeDouble(recording.yAt(i));
+                dataOut.writeDouble(recording.zAt(i));
+                dataOut.writeFloat(recording.yawAt(i));
+                dataOut.writeLong(recording.timestampAt(i));
+            }
+        }
+        return byteOut.toByteArray();
+    }
+
+    private static int checkedCount(long count) throws IOException {
+        if (count < 0 || count > GhostStore.MAX_SAMPLES) {
+            throw new IOException("Invalid sample count: " + count + " (max " + GhostStore.MAX_SAMPLES + ")");
+        }
+        return (int) count;
+    }
+
+    private static void writePositionColumn(ByteArrayOutputStream out, GhostRecording recording, int axis) {
+        long previous = 0L;
+        for (int i = 0, count = recording.getSampleCount(); i < count; i++) {
+            double coordinate = axis == 0 ? recording.xAt(i) : axis == 1 ? recording.yAt(i) : recording.zAt(i);
+            long value = Math.round(coordinate * POSITION_SCALE);
+            writeVarLong(out, zigzag(value - previous));
+            previous = value;
+        }
+    }
+
+    private static double[] readPositionColumn(Reader in, int count) throws IOException {
+        double[] column = new double[count];
+        long value = 0L;
+        for (int i = 0; i < count; i++) {
+            value += unzigzag(in.readVarLong());
+            column[i] = (double) value / POSITION_SCALE;
+        }
+        return column;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        long readVarLong() throws IOException {
+            long result = 0L;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= data.length) {
+                    throw new IOException("Truncated ghost recording");
+                }
+                byte b = data[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IOException("Malformed varint in ghost recording");
+        }
+    }
+}
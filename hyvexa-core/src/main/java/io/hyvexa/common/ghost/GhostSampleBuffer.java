@@ -0,0 +1,92 @@
+package io.hyvexa.common.ghost;
+
+import java.util.Arrays;
+
+/**
+ * Samples of one in-progress recording, kept in primitive columns.
+ * <p>
+ * Fed from the world tick: {@link #offer} is called every tick and only keeps a sample when the next
+ * {@code intervalMs} slot is due, so the stored rate never exceeds one sample per interval on average
+ * regardless of the tick rate. Once {@code maxSamples} are stored further samples are dropped; the
+ * start of the run is kept, since playback is timed from it.
+ */
+final class GhostSampleBuffer {
+
+    /** One minute at 20 samples per second; most runs never grow past it. */
+    static final int INITIAL_CAPACITY = 1200;
+
+    private final long startTimeMs;
+    private final long intervalMs;
+    private final int maxSamples;
+    private double[] xs;
+    private double[] ys;
+    private double[] zs;
+    private float[] yaws;
+    private long[] timestamps;
+    private int size;
+    private long nextSampleAtMs;
+
+    GhostSampleBuffer(long startTimeMs, long intervalMs, int maxSamples) {
+        this(startTimeMs, intervalMs, maxSamples, Math.min(INITIAL_CAPACITY, maxSamples));
+    }
+
+    GhostSampleBuffer(long startTimeMs, long intervalMs, int maxSamples, int initialCapacity) {
+        this.startTimeMs = startTimeMs;
+        this.intervalMs = intervalMs;
+        this.maxSamples = maxSamples;
+        this.xs = new double[initialCapacity];
+        this.ys = new double[initialCapacity];
+        this.zs = new double[initialCapacity];
+        this.yaws = new float[initialCapacity];
+        this.timestamps = new long[initialCapacity];
+        this.nextSampleAtMs = startTimeMs;
+    }
+
+    /** @return true if the sample was stored */
+    synchronized boolean offer(long nowMs, double x, double y, double z, float yaw) {
+        if (size >= maxSamples || nowMs < nextSampleAtMs) {
+            return false;
+        }
+        // Stay on the interval grid, but do not burst to catch up after a stall.
+        nextSampleAtMs += intervalMs;
+        if (nextSampleAtMs <= nowMs) {
+            nextSampleAtMs = nowMs + intervalMs;
+        }
+        if (size == timestamps.length) {
+            grow();
+        }
+        xs[size] = x;
+        ys[size] = y;
+        zs[size] = z;
+        yaws[size] = yaw;
+        timestamps[size] = nowMs - startTimeMs;
+        size++;
+        return true;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized boolean isFull() {
+        return size >= maxSamples;
+    }
+
+    long startTimeMs() {
+        return startTimeMs;
+    }
+
+    synchronized GhostRecording toRecording(long completionTimeMs) {
+        return new GhostRecording(Arrays.copyOf(xs, size), Arrays.copyOf(ys, size), Arrays.copyOf(zs, size),
+                Arrays.copyOf(yaws, size), Arrays.copyOf(timestamps, size), completionTimeMs);
+    }
+
+    private void grow() {
+        int capacity = Math.min(maxSamples, Math.max(16, timestamps.length * 2));
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        zs = Arrays.copyOf(zs, capacity);
+        yaws = Arrays.copyOf(yaws, capacity);
+        timestamps = Arrays.copyOf(timestamps, capacity);
+    }
+}
@@ -0,0 +1,81 @@
+package io.hyvexa.common.ghost;
+
+import com.hypixel.hytale.component.Archetype;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3f;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Feeds player positions to every started {@link AbstractGhostRecorder} from the world tick.
+ * Registered once and shared by all recorders, since each mode has its own recorder.
+ */
+public class GhostSamplingSystem extends EntityTickingSystem<EntityStore> {
+
+    private static final List<AbstractGhostRecorder> RECORDERS = new CopyOnWriteArrayList<>();
+
+    private volatile Query<EntityStore> query;
+
+    static void attach(AbstractGhostRecorder recorder) {
+        var registry = EntityStore.REGISTRY;
+        synchronized (RECORDERS) {
+            if (!registry.hasSystemClass(GhostSamplingSystem.class)) {
+                registry.registerSystem(new GhostSamplingSystem());
+            }
+        }
+        RECORDERS.addIfAbsent(recorder);
+    }
+
+    static void detach(AbstractGhostRecorder recorder) {
+        RECORDERS.remove(recorder);
+    }
+
+    @Override
+    public void tick(float delta, int entityId, ArchetypeChunk<EntityStore> chunk, Store<EntityStore> store,
+                     CommandBuffer<EntityStore> buffer) {
+        if (RECORDERS.isEmpty()) {
+            return;
+        }
+        PlayerRef playerRef = chunk.getComponent(entityId, PlayerRef.getComponentType());
+        TransformComponent transform = chunk.getComponent(entityId, TransformComponent.getComponentType());
+        if (playerRef == null || transform == null) {
+            return;
+        }
+        Vector3d position = transform.getPosition();
+        if (position == null) {
+            return;
+        }
+        Vector3f rotation = transform.getRotation();
+        float yaw = rotation != null ? rotation.getY() : 0f;
+        for (AbstractGhostRecorder recorder : RECORDERS) {
+            recorder.samplePlayer(playerRef.getUuid(), position.getX(), position.getY(), position.getZ(), yaw);
+        }
+    }
+
+    @Override
+    public Query<EntityStore> getQuery() {
+        Query<EntityStore> current = query;
+        if (current != null) {
+            return current;
+        }
+        var playerType = Player.getComponentType();
+        var playerRefType = PlayerRef.getComponentType();
+        var transformType = TransformComponent.getComponentType();
+        if (playerType == null || playerRefType == null || transformType == null) {
+            return Query.any();
+        }
+        current = Archetype.of(playerType, playerRefType, transformType);
+        query = current;
+        return current;
+    }
+}
@@ -4,50 +4,95 @@ import com.hypixel.hytale.logger.HytaleLogger;
 import io.hyvexa.core.db.ConnectionProvider;
 import io.hyvexa.core.db.DatabaseManager;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * MySQL + in-memory cache for ghost recordings using GhostSample/GhostRecording types.
  * Configured via constructor params for table name and mode label.
+ * <p>
+ * Startup only indexes which (player, map) pairs have a recording; blobs are loaded in the
+ * background and kept in an LRU cache of {@code maxCachedRecordings} entries. Lookups never touch
+ * the database: a miss schedules the load and returns null until it lands, so callers on the tick
+ * thread retry on their next refresh. A null from {@link #getRecording} therefore does not mean the
+ * recording is missing; use {@link #hasRecording} for that, or {@link #loadRecordingAsync} to act once
+ * the load completes. {@link #prefetchRecordings} warms a player's recordings on join.
  */
 public class GhostStore {
 
     public static final int MAX_SAMPLES = 12000;
+    public static final int DEFAULT_MAX_CACHED_RECORDINGS = 1024;
+    private static final AtomicInteger LOAD_THREAD_ID = new AtomicInteger(1);
+    private static final ExecutorService GHOST_LOAD_EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+        Thread t = new Thread(runnable, "GhostLoad-" + LOAD_THREAD_ID.getAndIncrement());
+        t.setDaemon(true);
+        return t;
+    });
 
     private final HytaleLogger logger;
     private final String tableName;
     private final String modeLabel;
     private final ConnectionProvider db;
-    private final Map<String, GhostRecording> cache = new ConcurrentHashMap<>();
+    private final int maxCachedRecordings;
+    private final Executor loadExecutor;
+    private final Map<String, Integer> mapIndices = new ConcurrentHashMap<>();
+    private final AtomicInteger nextMapIndex = new AtomicInteger();
+    // Recordings known to exist in the database (or saved this session).
+    private final Set<GhostKey> stored = ConcurrentHashMap.newKeySet();
+    // Access-ordered LRU of decoded recordings. Guarded by itself.
+    private final LinkedHashMap<GhostKey, GhostRecording> cache;
+    // Background loads in flight, so repeated misses share a single load.
+    private final Map<GhostKey, CompletableFuture<GhostRecording>> loading = new ConcurrentHashMap<>();
 
     public GhostStore(String tableName, String modeLabel, ConnectionProvider db) {
+        this(tableName, modeLabel, db, DEFAULT_MAX_CACHED_RECORDINGS);
+    }
+
+    public GhostStore(String tableName, String modeLabel, ConnectionProvider db, int maxCachedRecordings) {
+        this(tableName, modeLabel, db, maxCachedRecordings, GHOST_LOAD_EXECUTOR);
+    }
+
+    GhostStore(String tableName, String modeLabel, ConnectionProvider db, int maxCachedRecordings,
+               Executor loadExecutor) {
         this.logger = HytaleLogger.forEnclosingClass();
         this.tableName = tableName;
         this.modeLabel = modeLabel;
         this.db = db;
+        this.maxCachedRecordings = Math.max(1, maxCachedRecordings);
+        this.loadExecutor = loadExecutor;
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<GhostKey, GhostRecording> eldest) {
+                return size() > GhostStore.this.maxCachedRecordings;
+            }
+        };
         validateTableName();
     }
 
+    /** Primitive lookup key: the player UUID's two halves plus an interned map index. */
+    private record GhostKey(long playerMost, long playerLeast, int mapIndex) {}
+
     private void validateTableName() {
         if (tableName == null || !tableName.matches("[a-zA-Z0-9_]+")) {
             throw new IllegalStateException("Invalid table name: " + tableName);
         }
     }
 
-    private record GhostRow(String playerUuid, String mapId, byte[] blob, long completionTimeMs) {}
+    private record GhostRow(byte[] blob, long completionTimeMs) {}
+
+    private record PlayerGhostRow(String mapId, byte[] blob, long completionTimeMs) {}
 
     public void syncLoad() {
         if (!this.db.isInitialized()) {
@@ -56,43 +101,40 @@ public class GhostStore {
         }
 
         ensureGhostTableExists();
-        cache.clear();
-
-        List<GhostRow> rows = DatabaseManager.queryList(this.db,
-                "SELECT player_uuid, map_id, recording_blob, completion_time_ms FROM " + tableName,
-                rs -> new GhostRow(
-                        rs.getString("player_uuid"),
-                        rs.getString("map_id"),
-                        rs.getBytes("recording_blob"),
-                        rs.getLong("completion_time_ms")));
+        synchronized (cache) {
+            cache.clear();
+        }
+        stored.clear();
 
-        for (GhostRow row : rows) {
+        List<String[]> rows = DatabaseManager.queryList(this.db,
+                "SELECT player_uuid, map_id FROM " + tableName,
+                rs -> new String[]{rs.getString("player_uuid"), rs.getString("map_id")});
+        for (String[] row : rows) {
             try {
-                GhostRecording recording = deserialize(row.blob, row.completionTimeMs);
-                String key = makeKey(UUID.fromString(row.playerUuid), row.mapId);
-                cache.put(key, recording);
-            } catch (Exception e) {
-                logger.atWarning().withCause(e)
-                        .log("Failed to deserialize " + modeLabel
-                                + " ghost recording for " + row.playerUuid + "/" + row.mapId);
+                stored.add(makeKey(UUID.fromString(row[0]), row[1]));
+            } catch (IllegalArgumentException e) {
+                logger.atWarning().log("Skipping " + modeLabel + " ghost recording with invalid player id " + row[0]);
             }
         }
-        logger.atInfo().log("Loaded " + cache.size() + " " + modeLabel + " ghost recordings");
+        logger.atInfo().log("Indexed " + stored.size() + " " + modeLabel + " ghost recordings");
     }
 
     public void saveRecording(UUID playerId, String mapId, GhostRecording recording) {
-        List<GhostSample> samples = recording.getSamples();
-        if (samples.size() > MAX_SAMPLES) {
+        int sampleCount = recording.getSampleCount();
+        if (sampleCount > MAX_SAMPLES) {
             logger.atWarning().log("Rejecting " + modeLabel + " ghost recording for " + playerId + "/" + mapId
-                    + " - sample count " + samples.size() + " exceeds max " + MAX_SAMPLES);
+                    + " - sample count " + sampleCount + " exceeds max " + MAX_SAMPLES);
             return;
         }
 
-        String key = makeKey(playerId, mapId);
-        cache.put(key, recording);
+        GhostKey key = makeKey(playerId, mapId);
+        synchronized (cache) {
+            cache.put(key, recording);
+        }
+        stored.add(key);
 
         try {
-            byte[] blob = serialize(recording);
+            byte[] blob = GhostRecordingCodec.encode(recording);
             DatabaseManager.execute(this.db,
                     """
                     INSERT INTO %s (player_uuid, map_id, recording_blob, completion_time_ms)
@@ -113,12 +155,85 @@ public class GhostStore {
         }
     }
 
+    /**
+     * Returns the cached recording. On a miss for a stored recording this schedules a background
+     * load and returns null; the recording is available to a later call once the load finishes.
+     */
     public GhostRecording getRecording(UUID playerId, String mapId) {
-        return cache.get(makeKey(playerId, mapId));
+        if (playerId == null || mapId == null) {
+            return null;
+        }
+        GhostKey key = makeKey(playerId, mapId);
+        GhostRecording recording;
+        synchronized (cache) {
+            recording = cache.get(key);
+        }
+        if (recording == null) {
+            scheduleLoad(playerId, mapId, key);
+        }
+        return recording;
+    }
+
+    /**
+     * Returns the recording once it is loaded: already completed when cached, otherwise completed from
+     * the background load. Completes with null when no recording is stored or it fails to load.
+     * Dependent actions run on the loader thread unless the future was already complete.
+     */
+    public CompletableFuture<GhostRecording> loadRecordingAsync(UUID playerId, String mapId) {
+        if (playerId == null || mapId == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        GhostKey key = makeKey(playerId, mapId);
+        GhostRecording recording;
+        synchronized (cache) {
+            recording = cache.get(key);
+        }
+        if (recording != null) {
+            return CompletableFuture.completedFuture(recording);
+        }
+        return scheduleLoad(playerId, mapId, key);
+    }
+
+    /** Schedules a background load of one recording if it is stored but not cached. */
+    public void prefetchRecording(UUID playerId, String mapId) {
+        if (playerId == null || mapId == null) {
+            return;
+        }
+        GhostKey key = makeKey(playerId, mapId);
+        synchronized (cache) {
+            if (cache.containsKey(key)) {
+                return;
+            }
+        }
+        scheduleLoad(playerId, mapId, key);
+    }
+
+    /** Loads all of a player's recordings in the background with a single query. Call on join. */
+    public void prefetchRecordings(UUID playerId) {
+        if (playerId == null || !this.db.isInitialized()) {
+            return;
+        }
+        loadExecutor.execute(() -> {
+            try {
+                loadPlayerRecordings(playerId);
+            } catch (Exception e) {
+                logger.atWarning().withCause(e)
+                        .log("Failed to prefetch " + modeLabel + " ghost recordings for " + playerId);
+            }
+        });
+    }
+
+    /** Whether a recording exists, without loading it. */
+    public boolean hasRecording(UUID playerId, String mapId) {
+        return playerId != null && mapId != null && stored.contains(makeKey(playerId, mapId));
     }
 
     public void deleteRecording(UUID playerId, String mapId) {
-        cache.remove(makeKey(playerId, mapId));
+        GhostKey key = makeKey(playerId, mapId);
+        stored.remove(key);
+        synchronized (cache) {
+            cache.remove(key);
+        }
         DatabaseManager.execute(this.db,
                 "DELETE FROM " + tableName + " WHERE player_uuid = ? AND map_id = ?",
                 stmt -> {
@@ -127,47 +242,82 @@ public class GhostStore {
                 });
     }
 
-    private byte[] serialize(GhostRecording recording) throws Exception {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        try (GZIPOutputStream gzipOut = new GZIPOutputStream(byteOut);
-             DataOutputStream dataOut = new DataOutputStream(gzipOut)) {
+    private CompletableFuture<GhostRecording> scheduleLoad(UUID playerId, String mapId, GhostKey key) {
+        if (!stored.contains(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<GhostRecording> future = new CompletableFuture<>();
+        CompletableFuture<GhostRecording> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        loadExecutor.execute(() -> {
+            GhostRecording recording = null;
+            try {
+                recording = cacheLoaded(key, loadRecording(playerId, mapId));
+            } catch (Exception e) {
+                logger.atWarning().withCause(e)
+                        .log("Failed to load " + modeLabel + " ghost recording for " + playerId + "/" + mapId);
+            } finally {
+                loading.remove(key, future);
+                future.complete(recording);
+            }
+        });
+        return future;
+    }
 
-            List<GhostSample> samples = recording.getSamples();
-            dataOut.writeInt(samples.size());
+    private void loadPlayerRecordings(UUID playerId) {
+        List<PlayerGhostRow> rows = DatabaseManager.queryList(this.db,
+                "SELECT map_id, recording_blob, completion_time_ms FROM " + tableName + " WHERE player_uuid = ?",
+                stmt -> stmt.setString(1, playerId.toString()),
+                rs -> new PlayerGhostRow(rs.getString("map_id"), rs.getBytes("recording_blob"),
+                        rs.getLong("completion_time_ms")));
+        for (PlayerGhostRow row : rows) {
+            cacheLoaded(makeKey(playerId, row.mapId), decode(playerId, row.mapId,
+                    new GhostRow(row.blob, row.completionTimeMs)));
+        }
+    }
 
-            for (GhostSample sample : samples) {
-                dataOut.writeDouble(sample.x());
-                dataOut.writeDouble(sample.y());
-                dataOut.writeDouble(sample.z());
-                dataOut.writeFloat(sample.yaw());
-                dataOut.writeLong(sample.timestampMs());
+    /** Caches a loaded recording and returns the cached one, or null if it was deleted meanwhile. */
+    private GhostRecording cacheLoaded(GhostKey key, GhostRecording recording) {
+        if (recording == null) {
+            return null;
+        }
+        synchronized (cache) {
+            // A delete that ran while the blob was loading must not be undone by the late result.
+            if (!stored.contains(key)) {
+                return null;
             }
+            GhostRecording existing = cache.putIfAbsent(key, recording);
+            return existing != null ? existing : recording;
         }
-        return byteOut.toByteArray();
     }
 
-    private GhostRecording deserialize(byte[] blob, long completionTimeMs) throws Exception {
-        ByteArrayInputStream byteIn = new ByteArrayInputStream(blob);
-        try (GZIPInputStream gzipIn = new GZIPInputStream(byteIn);
-             DataInputStream dataIn = new DataInputStream(gzipIn)) {
-
-            int sampleCount = dataIn.readInt();
-            if (sampleCount < 0 || sampleCount > MAX_SAMPLES) {
-                throw new IllegalArgumentException(
-                        "Invalid sample count: " + sampleCount + " (max " + MAX_SAMPLES + ")");
-            }
-            List<GhostSample> samples = new ArrayList<>(sampleCount);
-
-            for (int i = 0; i < sampleCount; i++) {
-                double x = dataIn.readDouble();
-                double y = dataIn.readDouble();
-                double z = dataIn.readDouble();
-                float yaw = dataIn.readFloat();
-                long timestampMs = dataIn.readLong();
-                samples.add(new GhostSample(x, y, z, yaw, timestampMs));
-            }
+    private GhostRecording loadRecording(UUID playerId, String mapId) {
+        if (!this.db.isInitialized()) {
+            return null;
+        }
+        GhostRow row = DatabaseManager.queryOne(this.db,
+                "SELECT recording_blob, completion_time_ms FROM " + tableName
+                        + " WHERE player_uuid = ? AND map_id = ?",
+                stmt -> {
+                    stmt.setString(1, playerId.toString());
+                    stmt.setString(2, mapId);
+                },
+                rs -> new GhostRow(rs.getBytes("recording_blob"), rs.getLong("completion_time_ms")),
+                null);
+        return row != null ? decode(playerId, mapId, row) : null;
+    }
 
-            return new GhostRecording(samples, completionTimeMs);
+    private GhostRecording decode(UUID playerId, String mapId, GhostRow row) {
+        try {
+            return GhostRecordingCodec.decode(row.blob, row.completionTimeMs);
+        } catch (Exception e) {
+            // Forget the key so a corrupt row is not re-read on every lookup.
+            stored.remove(makeKey(playerId, mapId));
+            logger.atWarning().withCause(e)
+                    .log("Failed to deserialize " + modeLabel + " ghost recording for " + playerId + "/" + mapId);
+            return null;
         }
     }
 
@@ -192,7 +342,8 @@ public class GhostStore {
         }
     }
 
-    private String makeKey(UUID playerId, String mapId) {
-        return playerId.toString() + ":" + mapId;
+    private GhostKey makeKey(UUID playerId, String mapId) {
+        int mapIndex = mapIndices.computeIfAbsent(mapId, ignored -> nextMapIndex.getAndIncrement());
+        return new GhostKey(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits(), mapIndex);
     }
 }
@@ -0,0 +1,46 @@
+package io.hyvexa.common.ghost;
+
+/**
+ * Reusable output for {@link GhostPlaybackCursor}, so per-tick playback does not allocate a
+ * {@link GhostSample}. Not thread-safe; each caller owns its instance.
+ */
+public final class MutableGhostSample {
+
+    private double x;
+    private double y;
+    private double z;
+    private float yaw;
+    private long timestampMs;
+
+    public void set(double x, double y, double z, float yaw, long timestampMs) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.yaw = yaw;
+        this.timestampMs = timestampMs;
+    }
+
+    public double x() {
+        return x;
+    }
+
+    public double y() {
+        return y;
+    }
+
+    public double z() {
+        return z;
+    }
+
+    public float yaw() {
+        return yaw;
+    }
+
+    public long timestampMs() {
+        return timestampMs;
+    }
+
+    public GhostSample toSample() {
+        return new GhostSample(x, y, z, yaw, timestampMs);
+    }
+}
@@ -30,6 +30,11 @@ public final class BigNumber implements Comparable<BigNumber> {
         return normalize(mantissa, exponent);
     }
 
+    /** Wrap an already-normalized mantissa/exponent pair without re-normalizing it. */
+    static BigNumber ofNormalized(double mantissa, int exponent) {
+        return mantissa == 0.0 ? ZERO : new BigNumber(mantissa, exponent);
+    }
+
     public static BigNumber fromDouble(double value) {
         if (value == 0.0 || Double.isNaN(value)) {
             return ZERO;
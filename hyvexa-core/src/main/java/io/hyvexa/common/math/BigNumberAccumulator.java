@@ -0,0 +1,232 @@
+package io.hyvexa.common.math;
+
+/**
+ * Mutable counterpart of {@link BigNumber} for hot loops that fold many values into one
+ * (multiplier products, cost sums). Arithmetic updates the accumulator in place, so a loop
+ * allocates only when the final value is read back with {@link #toBigNumber()}.
+ * <p>
+ * Results match the equivalent {@code BigNumber} chain to within a few ulps of the mantissa:
+ * normalization shifts by comparing against a power-of-ten table instead of calling
+ * {@code Math.log10}, which only differs from {@code BigNumber} right at a power-of-ten boundary.
+ * Not thread-safe — keep instances local to one computation.
+ */
+public final class BigNumberAccumulator {
+
+    /** Largest shift resolved through the tables; anything further falls back to log10. */
+    private static final int TABLE_RANGE = 308;
+    private static final double[] POW10 = new double[TABLE_RANGE + 1];
+    private static final double[] NEG_POW10 = new double[TABLE_RANGE + 1];
+
+    static {
+        // Same Math.pow values BigNumber divides by, so equal shifts give bit-identical mantissas
+        for (int i = 0; i <= TABLE_RANGE; i++) {
+            POW10[i] = Math.pow(10.0, i);
+            NEG_POW10[i] = Math.pow(10.0, -i);
+        }
+    }
+
+    private double mantissa; // [1,10) or 0; can be negative
+    private int exponent;
+
+    public BigNumberAccumulator() {
+    }
+
+    public BigNumberAccumulator(BigNumber initial) {
+        set(initial);
+    }
+
+    // State
+
+    public BigNumberAccumulator set(BigNumber value) {
+        this.mantissa = value.getMantissa();
+        this.exponent = value.getExponent();
+        return this;
+    }
+
+    public BigNumberAccumulator set(BigNumberAccumulator value) {
+        this.mantissa = value.mantissa;
+        this.exponent = value.exponent;
+        return this;
+    }
+
+    public BigNumberAccumulator setZero() {
+        this.mantissa = 0.0;
+        this.exponent = 0;
+        return this;
+    }
+
+    public BigNumberAccumulator setOne() {
+        this.mantissa = 1.0;
+        this.exponent = 0;
+        return this;
+    }
+
+    // Arithmetic
+
+    public BigNumberAccumulator add(BigNumber other) {
+        return add(other.getMantissa(), other.getExponent());
+    }
+
+    public BigNumberAccumulator add(BigNumberAccumulator other) {
+        return add(other.mantissa, other.exponent);
+    }
+
+    public BigNumberAccumulator multiply(BigNumber other) {
+        return multiply(other.getMantissa(), other.getExponent());
+    }
+
+    public BigNumberAccumulator multiply(BigNumberAccumulator other) {
+        return multiply(other.mantissa, other.exponent);
+    }
+
+    /**
+     * Multiply by a plain double, like {@code multiply(BigNumber.fromDouble(factor))}.
+     * NaN and zero factors yield zero, matching {@code fromDouble}.
+     */
+    public BigNumberAccumulator multiply(double factor) {
+        if (factor == 0.0 || Double.isNaN(factor) || Double.isInfinite(factor)) {
+            return multiply(BigNumber.fromDouble(factor));
+        }
+        if (mantissa == 0.0) {
+            return this;
+        }
+        normalize(mantissa * factor, exponent);
+        return this;
+    }
+
+    /** Keep the larger of this and {@code other}, like {@link BigNumber#max}. */
+    public BigNumberAccumulator max(BigNumber other) {
+        if (compareTo(other) < 0) {
+            set(other);
+        }
+        return this;
+    }
+
+    private BigNumberAccumulator add(double otherMantissa, int otherExponent) {
+        if (otherMantissa == 0.0) {
+            return this;
+        }
+        if (mantissa == 0.0) {
+            mantissa = otherMantissa;
+            exponent = otherExponent;
+            return this;
+        }
+        int expDiff = exponent - otherExponent;
+        // Same cut-off as BigNumber.add: beyond 15 digits the smaller value vanishes in a double
+        if (expDiff > 15) {
+            return this;
+        }
+        if (expDiff < -15) {
+            mantissa = otherMantissa;
+            exponent = otherExponent;
+            return this;
+        }
+        if (expDiff >= 0) {
+            normalize(mantissa + otherMantissa / POW10[expDiff], exponent);
+        } else {
+            normalize(mantissa / POW10[-expDiff] + otherMantissa, otherExponent);
+        }
+        return this;
+    }
+
+    private BigNumberAccumulator multiply(double otherMantissa, int otherExponent) {
+        if (mantissa == 0.0 || otherMantissa == 0.0) {
+            return setZero();
+        }
+        normalize(mantissa * otherMantissa, exponent + otherExponent);
+        return this;
+    }
+
+    private void normalize(double value, int valueExponent) {
+        if (value == 0.0 || Double.isNaN(value)) {
+            setZero();
+            return;
+        }
+        double abs = Math.abs(value);
+        int shift;
+        if (abs >= 10.0) {
+            shift = 1;
+            while (shift < TABLE_RANGE && abs >= POW10[shift + 1]) {
+                shift++;
+            }
+            if (shift == TABLE_RANGE || Double.isInfinite(abs)) {
+                shift = (int) Math.floor(Math.log10(abs));
+            }
+        } else if (abs < 1.0) {
+            shift = -1;
+            while (shift > -TABLE_RANGE && abs < NEG_POW10[-shift]) {
+                shift--;
+            }
+            if (shift == -TABLE_RANGE) {
+                shift = (int) Math.floor(Math.log10(abs));
+            }
+        } else {
+            shift = 0;
+        }
+        if (shift != 0) {
+            abs /= shift > 0 && shift <= TABLE_RANGE ? POW10[shift]
+                    : shift < 0 && shift >= -TABLE_RANGE ? NEG_POW10[-shift]
+                    : Math.pow(10.0, shift);
+            valueExponent += shift;
+            if (abs >= 10.0) {
+                // Division rounded up onto the boundary (e.g. 99.99999999999999 / 10)
+                abs /= 10.0;
+                valueExponent++;
+            }
+        }
+        mantissa = value < 0 ? -abs : abs;
+        exponent = valueExponent;
+    }
+
+    // Comparison
+
+    public int compareTo(BigNumber other) {
+        double otherMantissa = other.getMantissa();
+        boolean thisZero = mantissa == 0.0;
+        boolean otherZero = otherMantissa == 0.0;
+        boolean thisNeg = mantissa < 0;
+        boolean otherNeg = otherMantissa < 0;
+        if (thisZero && otherZero) return 0;
+        if (thisZero) return otherNeg ? 1 : -1;
+        if (otherZero) return thisNeg ? -1 : 1;
+        if (thisNeg && !otherNeg) return -1;
+        if (!thisNeg && otherNeg) return 1;
+
+        int expCmp = Integer.compare(exponent, other.getExponent());
+        if (expCmp != 0) {
+            return thisNeg ? -expCmp : expCmp;
+        }
+        return Double.compare(mantissa, otherMantissa);
+    }
+
+    public boolean gt(BigNumber other) {
+        return compareTo(other) > 0;
+    }
+
+    public boolean lte(BigNumber other) {
+        return compareTo(other) <= 0;
+    }
+
+    public boolean isZero() {
+        return mantissa == 0.0;
+    }
+
+    // Conversion
+
+    public BigNumber toBigNumber() {
+        return BigNumber.ofNormalized(mantissa, exponent);
+    }
+
+    public double getMantissa() {
+        return mantissa;
+    }
+
+    public int getExponent() {
+        return exponent;
+    }
+
+    @Override
+    public String toString() {
+        return toBigNumber().toString();
+    }
+}
@@ -14,6 +14,8 @@ import java.util.UUID;
  * <p>
  * Subclasses implement {@link #loadRows()} to provide sorted, ranked, formatted rows.
  * The base class handles search filtering, pagination, row rendering, and empty states.
+ * Subclasses backed by a ranked index can also override {@link #countRankedRows()} and
+ * {@link #loadRowRange} so an unfiltered page reads only the rows it shows.
  * <p>
  * For multi-column layouts (e.g. Parkour medal columns), override {@link #renderRow} and
  * store extra data in a side map keyed by {@link LeaderboardRow#playerId()}.
@@ -72,6 +74,20 @@ public abstract class AbstractLeaderboardPage extends AbstractSearchablePaginate
         return "No matches.";
     }
 
+    /**
+     * Row count of the current tab when {@link #loadRowRange} can serve single pages, or -1 (default)
+     * to render everything from {@link #loadRows()}. Only consulted while the search field is empty;
+     * a search, or a count of 0, goes through {@link #loadRows()}.
+     */
+    protected int countRankedRows() {
+        return -1;
+    }
+
+    /** Ranked rows {@code offset} to {@code offset + limit} of the current tab. See {@link #countRankedRows()}. */
+    protected List<LeaderboardRow> loadRowRange(int offset, int limit) {
+        return List.of();
+    }
+
     /**
      * Whether to reassign ranks based on position in the filtered (search) results.
      * Default: false — ranks from {@link #loadRows()} are preserved (global ranks).
@@ -95,6 +111,14 @@ public abstract class AbstractLeaderboardPage extends AbstractSearchablePaginate
 
         onBuildLeaderboard(cmd);
 
+        int rankedCount = getSearchText().trim().isEmpty() ? countRankedRows() : -1;
+        if (rankedCount > 0) {
+            cmd.set("#EmptyText.Text", "");
+            PaginationState.PageSlice slice = getPagination().slice(rankedCount);
+            renderRows(cmd, loadRowRange(slice.startIndex, slice.endIndex - slice.startIndex), 0, slice);
+            return;
+        }
+
         List<LeaderboardRow> rows = loadRows();
         if (rows == null) {
             showEmpty(cmd, getNoDataMessage());
@@ -122,9 +146,16 @@ public abstract class AbstractLeaderboardPage extends AbstractSearchablePaginate
 
         cmd.set("#EmptyText.Text", "");
         PaginationState.PageSlice slice = getPagination().slice(filtered.size());
+        renderRows(cmd, filtered, slice.startIndex, slice);
+    }
+
+    private void renderRows(UICommandBuilder cmd, List<LeaderboardRow> rows, int firstRow,
+                            PaginationState.PageSlice slice) {
+        String containerId = getCardContainerId();
+        int end = Math.min(rows.size(), firstRow + (slice.endIndex - slice.startIndex));
         int index = 0;
-        for (int i = slice.startIndex; i < slice.endIndex; i++) {
-            LeaderboardRow row = filtered.get(i);
+        for (int i = firstRow; i < end; i++) {
+            LeaderboardRow row = rows.get(i);
             cmd.append(containerId, getCardTemplatePath());
             String cardPrefix = containerId + "[" + index + "]";
             String accentColor = getRankAccentColor(row.rank());
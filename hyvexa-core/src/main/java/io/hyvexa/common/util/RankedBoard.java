@@ -0,0 +1,222 @@
+package io.hyvexa.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.BiConsumer;
+
+/**
+ * Leaderboard entries in rank order, at most one per key.
+ * <p>
+ * Backed by a size-augmented treap, so updating or removing an entry, rank-of-key,
+ * counting entries ahead of an arbitrary probe and reading a page all run in O(log n)
+ * (plus the page length) instead of re-sorting every entry per request. {@code order}
+ * must be a total order over the stored values.
+ * <p>
+ * Not thread-safe on its own; callers must serialize access.
+ */
+public final class RankedBoard<K, V> {
+
+    private final Comparator<? super V> order;
+    private final Map<K, Node<K, V>> nodesByKey = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<K, V> root;
+
+    // Scratch outputs of split(); avoids allocating a pair per call.
+    private Node<K, V> splitLeft;
+    private Node<K, V> splitRight;
+
+    public RankedBoard(Comparator<? super V> order) {
+        this.order = order;
+    }
+
+    public int size() {
+        return nodesByKey.size();
+    }
+
+    public boolean isEmpty() {
+        return nodesByKey.isEmpty();
+    }
+
+    public V get(K key) {
+        Node<K, V> node = nodesByKey.get(key);
+        return node != null ? node.value : null;
+    }
+
+    /** Best-ranked value, or null when the board is empty. */
+    public V first() {
+        Node<K, V> node = root;
+        if (node == null) {
+            return null;
+        }
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    /** Sets the key's value, replacing any previous one. Returns false when the value is unchanged. */
+    public boolean put(K key, V value) {
+        Node<K, V> existing = nodesByKey.get(key);
+        if (existing != null) {
+            if (existing.value.equals(value)) {
+                return false;
+            }
+            detach(existing);
+        }
+        Node<K, V> node = new Node<>(key, value, random.nextInt());
+        split(root, value);
+        Node<K, V> left = splitLeft;
+        Node<K, V> right = splitRight;
+        root = merge(merge(left, node), right);
+        nodesByKey.put(key, node);
+        return true;
+    }
+
+    public boolean remove(K key) {
+        Node<K, V> existing = nodesByKey.remove(key);
+        if (existing == null) {
+            return false;
+        }
+        detach(existing);
+        return true;
+    }
+
+    /** 1-based rank, or -1 when the key is not on this board. */
+    public int rankOf(K key) {
+        Node<K, V> node = nodesByKey.get(key);
+        return node != null ? countBefore(node.value) + 1 : -1;
+    }
+
+    /** Number of entries ranked strictly before {@code probe}, which need not be on the board. */
+    public int countBefore(V probe) {
+        int count = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            if (order.compare(node.value, probe) < 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /** Up to {@code limit} values in rank order, starting at 0-based position {@code offset}. */
+    public List<V> range(int offset, int limit) {
+        int start = Math.max(0, offset);
+        int count = Math.max(0, Math.min(limit, size() - start));
+        List<V> out = new ArrayList<>(count);
+        collect(root, start, count, out);
+        return out;
+    }
+
+    /** Visits every entry, in no particular order. */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (Node<K, V> node : nodesByKey.values()) {
+            action.accept(node.key, node.value);
+        }
+    }
+
+    // ---- Treap internals ----
+
+    private void detach(Node<K, V> node) {
+        split(root, node.value);
+        Node<K, V> left = splitLeft;
+        Node<K, V> right = removeMin(splitRight);
+        root = merge(left, right);
+    }
+
+    /** Splits {@code node} into values ranked strictly before {@code key} and values at or after it. */
+    private void split(Node<K, V> node, V key) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+            return;
+        }
+        if (order.compare(node.value, key) < 0) {
+            split(node.right, key);
+            node.right = splitLeft;
+            update(node);
+            splitLeft = node;
+        } else {
+            split(node.left, key);
+            node.left = splitRight;
+            update(node);
+            splitRight = node;
+        }
+    }
+
+    private static <K, V> Node<K, V> merge(Node<K, V> left, Node<K, V> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static <K, V> Node<K, V> removeMin(Node<K, V> node) {
+        if (node == null) {
+            return null;
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        update(node);
+        return node;
+    }
+
+    private static <K, V> void collect(Node<K, V> node, int skip, int limit, List<V> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (skip < leftSize) {
+            collect(node.left, skip, limit, out);
+        }
+        if (out.size() >= limit) {
+            return;
+        }
+        if (skip <= leftSize) {
+            out.add(node.value);
+        }
+        collect(node.right, Math.max(0, skip - leftSize - 1), limit, out);
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static void update(Node<?, ?> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final int priority;
+        int size = 1;
+        Node<K, V> left;
+        Node<K, V> right;
+
+        Node(K key, V value, int priority) {
+            this.key = key;
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.hyvexa.common.ghost;
+
+import io.hyvexa.common.bench.Microbenchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Microbenchmark comparing {@link GhostRecording#interpolateAt(double)} with {@link GhostPlaybackCursor}
+ * for the robot/ghost tick pattern: many recordings, each advanced by one 50ms step per tick.
+ * Run with {@link Microbenchmark}.
+ */
+public final class GhostPlaybackCursorBenchmark {
+
+    private static final int RECORDINGS = 500;
+    private static final int SAMPLES = 2_400;
+    private static final int TICKS_PER_ITERATION = 2_000;
+
+    private GhostPlaybackCursorBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        Random random = new Random(42L);
+        GhostRecording[] recordings = new GhostRecording[RECORDINGS];
+        for (int i = 0; i < RECORDINGS; i++) {
+            recordings[i] = recording(random);
+        }
+        GhostPlaybackCursor[] cursors = new GhostPlaybackCursor[RECORDINGS];
+        for (int i = 0; i < RECORDINGS; i++) {
+            cursors[i] = new GhostPlaybackCursor(recordings[i]);
+        }
+        MutableGhostSample out = new MutableGhostSample();
+        Microbenchmark bench = new Microbenchmark(5, 10);
+        double calls = (double) RECORDINGS * TICKS_PER_ITERATION;
+
+        bench.report("interpolateAt", calls, "op", () -> {
+            double acc = 0;
+            for (int tick = 0; tick < TICKS_PER_ITERATION; tick++) {
+                double progress = (double) tick / TICKS_PER_ITERATION;
+                for (GhostRecording recording : recordings) {
+                    acc += recording.interpolateAt(progress).x();
+                }
+            }
+            bench.consume(acc);
+        });
+        bench.report("cursor", calls, "op", () -> {
+            double acc = 0;
+            for (GhostPlaybackCursor cursor : cursors) {
+                cursor.rewind();
+            }
+            for (int tick = 0; tick < TICKS_PER_ITERATION; tick++) {
+                double progress = (double) tick / TICKS_PER_ITERATION;
+                for (GhostPlaybackCursor cursor : cursors) {
+                    cursor.sample(progress, out);
+                    acc += out.x();
+                }
+            }
+            bench.consume(acc);
+        });
+        bench.finish();
+    }
+
+    private static GhostRecording recording(Random random) {
+        List<GhostSample> samples = new ArrayList<>(SAMPLES);
+        double x = 0;
+        long timestamp = 0L;
+        for (int i = 0; i < SAMPLES; i++) {
+            samples.add(new GhostSample(x, 64, x * 0.5, (float) (i % 360 - 180), timestamp));
+            x += random.nextDouble();
+            timestamp += 49 + random.nextInt(3);
+        }
+        return new GhostRecording(samples, timestamp);
+    }
+}
@@ -0,0 +1,105 @@
+package io.hyvexa.common.ghost;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GhostPlaybackCursorTest {
+
+    /** 50ms-ish samples with occasional repeated timestamps, as a wall-clock sampler produces. */
+    private static GhostRecording randomRun(Random random, int sampleCount, long completionPaddingMs) {
+        List<GhostSample> samples = new ArrayList<>(sampleCount);
+        double x = random.nextDouble() * 100;
+        double y = 64;
+        double z = random.nextDouble() * 100;
+        float yaw = 0f;
+        long timestamp = 0L;
+        for (int i = 0; i < sampleCount; i++) {
+            samples.add(new GhostSample(x, y, z, yaw, timestamp));
+            x += random.nextDouble() - 0.3;
+            y += random.nextDouble() - 0.5;
+            z += random.nextDouble() - 0.5;
+            yaw = (float) (yaw + (random.nextDouble() - 0.5) * 40);
+            timestamp += random.nextInt(10) == 0 ? 0 : 45 + random.nextInt(10);
+        }
+        return new GhostRecording(samples, timestamp + completionPaddingMs);
+    }
+
+    private static void assertMatches(GhostRecording recording, GhostPlaybackCursor cursor, double progress,
+                                      MutableGhostSample out) {
+        assertTrue(cursor.sample(progress, out));
+        assertEquals(recording.interpolateAt(progress), out.toSample(), "progress " + progress);
+    }
+
+    @Test
+    void forwardPlaybackMatchesInterpolateAt() {
+        Random random = new Random(7L);
+        for (long padding : new long[]{0L, 120L}) {
+            GhostRecording recording = randomRun(random, 600, padding);
+            GhostPlaybackCursor cursor = new GhostPlaybackCursor(recording);
+            MutableGhostSample out = new MutableGhostSample();
+            for (int tick = -2; tick <= 2_100; tick++) {
+                assertMatches(recording, cursor, tick / 2_000.0, out);
+            }
+        }
+    }
+
+    @Test
+    void exactTimestampHitsMatchInterpolateAt() {
+        GhostRecording recording = randomRun(new Random(13L), 300, 0L);
+        GhostPlaybackCursor cursor = new GhostPlaybackCursor(recording);
+        MutableGhostSample out = new MutableGhostSample();
+        for (long ms = 0; ms <= recording.getCompletionTimeMs(); ms++) {
+            assertMatches(recording, cursor, (double) ms / recording.getCompletionTimeMs(), out);
+        }
+    }
+
+    @Test
+    void seeksAndRewindsMatchInterpolateAt() {
+        Random random = new Random(99L);
+        GhostRecording recording = randomRun(random, 1_000, 60L);
+        GhostPlaybackCursor cursor = new GhostPlaybackCursor(recording);
+        MutableGhostSample out = new MutableGhostSample();
+        for (int i = 0; i < 5_000; i++) {
+            double progress = switch (random.nextInt(4)) {
+                case 0 -> random.nextDouble();
+                case 1 -> 1.0 - random.nextDouble() * 0.01;
+                case 2 -> random.nextDouble() * 1.2 - 0.1;
+                default -> Math.min(1.0, (i % 500) / 500.0);
+            };
+            assertMatches(recording, cursor, progress, out);
+        }
+    }
+
+    @Test
+    void rebindingRestartsOnTheNewRecording() {
+        Random random = new Random(3L);
+        GhostRecording first = randomRun(random, 200, 0L);
+        GhostRecording second = randomRun(random, 50, 0L);
+        GhostPlaybackCursor cursor = new GhostPlaybackCursor(first);
+        MutableGhostSample out = new MutableGhostSample();
+        assertMatches(first, cursor, 0.9, out);
+
+        cursor.bind(second);
+        assertSame(second, cursor.recording());
+        assertMatches(second, cursor, 0.1, out);
+        assertMatches(second, cursor, 0.5, out);
+    }
+
+    @Test
+    void emptyOrUnboundRecordingWritesZeroes() {
+        MutableGhostSample out = new MutableGhostSample();
+        out.set(1, 2, 3, 4f, 5L);
+        assertFalse(new GhostPlaybackCursor().sample(0.5, out));
+        assertEquals(new GhostSample(0, 0, 0, 0, 0), out.toSample());
+
+        GhostPlaybackCursor cursor = new GhostPlaybackCursor(new GhostRecording(List.of(), 1_000L));
+        out.set(1, 2, 3, 4f, 5L);
+        assertFalse(cursor.sample(0.5, out));
+        assertEquals(new GhostSample(0, 0, 0, 0, 0), out.toSample());
+    }
+}
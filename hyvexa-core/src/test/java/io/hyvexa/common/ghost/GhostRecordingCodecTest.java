@@ -0,0 +1,149 @@
+package io.hyvexa.common.ghost;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GhostRecordingCodecTest {
+
+    private static final double POSITION_TOLERANCE = 0.5 / GhostRecordingCodec.POSITION_SCALE + 1e-9;
+    private static final double YAW_TOLERANCE = 0.5 / GhostRecordingCodec.YAW_SCALE + 1e-4;
+
+    /** A plausible run: 50ms samples, walking/jumping speeds, slowly turning yaw, far from origin. */
+    private static GhostRecording randomRun(Random random, int sampleCount) {
+        List<GhostSample> samples = new ArrayList<>(sampleCount);
+        double x = 12_000 + random.nextDouble() * 100;
+        double y = 64 + random.nextDouble() * 10;
+        double z = -8_000 - random.nextDouble() * 100;
+        float yaw = (float) (random.nextDouble() * 360 - 180);
+        long timestamp = 0L;
+        for (int i = 0; i < sampleCount; i++) {
+            samples.add(new GhostSample(x, y, z, yaw, timestamp));
+            x += (random.nextDouble() - 0.3) * 0.6;
+            y += (random.nextDouble() - 0.5) * 0.4;
+            z += (random.nextDouble() - 0.5) * 0.6;
+            yaw = (float) (yaw + (random.nextDouble() - 0.5) * 20);
+            timestamp += 50 + random.nextInt(3) - 1;
+        }
+        return new GhostRecording(samples, timestamp);
+    }
+
+    private static void assertClose(GhostRecording expected, GhostRecording actual) {
+        assertEquals(expected.getSampleCount(), actual.getSampleCount());
+        assertEquals(expected.getCompletionTimeMs(), actual.getCompletionTimeMs());
+        for (int i = 0; i < expected.getSampleCount(); i++) {
+            assertEquals(expected.timestampAt(i), actual.timestampAt(i));
+            assertEquals(expected.xAt(i), actual.xAt(i), POSITION_TOLERANCE);
+            assertEquals(expected.yAt(i), actual.yAt(i), POSITION_TOLERANCE);
+            assertEquals(expected.zAt(i), actual.zAt(i), POSITION_TOLERANCE);
+            assertEquals(expected.yawAt(i), actual.yawAt(i), YAW_TOLERANCE);
+        }
+    }
+
+    @Test
+    void roundTripsWithinQuantization() throws IOException {
+        Random random = new Random(11L);
+        for (int n : new int[]{0, 1, 2, 100, GhostStore.MAX_SAMPLES}) {
+            GhostRecording recording = randomRun(random, n);
+            byte[] blob = GhostRecordingCodec.encode(recording);
+            assertClose(recording, GhostRecordingCodec.decode(blob, recording.getCompletionTimeMs()));
+        }
+    }
+
+    @Test
+    void reencodingDecodedRecordingIsStable() throws IOException {
+        GhostRecording recording = randomRun(new Random(3L), 500);
+        byte[] first = GhostRecordingCodec.encode(recording);
+        GhostRecording decoded = GhostRecordingCodec.decode(first, recording.getCompletionTimeMs());
+        assertArrayEquals(first, GhostRecordingCodec.encode(decoded));
+    }
+
+    @Test
+    void handlesExtremeValues() throws IOException {
+        GhostRecording recording = new GhostRecording(List.of(
+                new GhostSample(-30_000_000.0, -64.0, 30_000_000.0, -180f, Long.MAX_VALUE / 2),
+                new GhostSample(30_000_000.0, 320.0, -30_000_000.0, 180f, 0L)
+        ), 1_000L);
+        assertClose(recording, GhostRecordingCodec.decode(GhostRecordingCodec.encode(recording), 1_000L));
+    }
+
+    @Test
+    void readsLegacyBlobsExactly() throws IOException {
+        GhostRecording recording = randomRun(new Random(5L), 1_000);
+        byte[] legacy = GhostRecordingCodec.encodeLegacy(recording);
+        GhostRecording decoded = GhostRecordingCodec.decode(legacy, recording.getCompletionTimeMs());
+        assertEquals(recording.getSamples(), decoded.getSamples());
+    }
+
+    @Test
+    void columnarBlobIsMuchSmallerThanLegacy() throws IOException {
+        GhostRecording recording = randomRun(new Random(9L), GhostStore.MAX_SAMPLES);
+        int legacySize = GhostRecordingCodec.encodeLegacy(recording).length;
+        int columnarSize = GhostRecordingCodec.encode(recording).length;
+        int rawSize = GhostStore.MAX_SAMPLES * (3 * Double.BYTES + Float.BYTES + Long.BYTES);
+        assertTrue(columnarSize * 2 < legacySize, "columnar " + columnarSize + " vs legacy " + legacySize);
+        assertTrue(columnarSize * 3 < rawSize, "columnar " + columnarSize + " vs raw " + rawSize);
+    }
+
+    @Test
+    void rejectsCorruptBlobs() {
+        assertThrows(IOException.class, () -> GhostRecordingCodec.decode(new byte[]{1, 2, 3, 4}, 0L));
+        assertThrows(IOException.class, () -> GhostRecordingCodec.decode(new byte[]{'G', 'R', 9, 0}, 0L));
+        assertThrows(IOException.class, () -> GhostRecordingCodec.decode(null, 0L));
+
+        byte[] blob = GhostRecordingCodec.encode(randomRun(new Random(1L), 50));
+        byte[] truncated = java.util.Arrays.copyOf(blob, blob.length - 3);
+        assertThrows(IOException.class, () -> GhostRecordingCodec.decode(truncated, 0L));
+
+        byte[] tooMany = {'G', 'R', 2, (byte) 0xFF, (byte) 0xFF, 0x7F};
+        assertThrows(IOException.class, () -> GhostRecordingCodec.decode(tooMany, 0L));
+    }
+
+    @Test
+    void interpolationMatchesListBasedPath() {
+        GhostRecording recording = randomRun(new Random(21L), 400);
+        List<GhostSample> samples = recording.getSamples();
+        GhostInterpolation.SampleAdapter<GhostSample> adapter = new GhostInterpolation.SampleAdapter<>() {
+            @Override
+            public long timestampMs(GhostSample sample) {
+                return sample.timestampMs();
+            }
+
+            @Override
+            public double x(GhostSample sample) {
+                return sample.x();
+            }
+
+            @Override
+            public double y(GhostSample sample) {
+                return sample.y();
+            }
+
+            @Override
+            public double z(GhostSample sample) {
+                return sample.z();
+            }
+
+            @Override
+            public float yaw(GhostSample sample) {
+                return sample.yaw();
+            }
+
+            @Override
+            public GhostSample create(double x, double y, double z, float yaw, long timestampMs) {
+                return new GhostSample(x, y, z, yaw, timestampMs);
+            }
+        };
+        for (int i = -5; i <= 1005; i++) {
+            double progress = i / 1000.0;
+            GhostSample expected = GhostInterpolation.interpolateAt(samples, recording.getCompletionTimeMs(),
+                    progress, adapter, () -> new GhostSample(0, 0, 0, 0, 0));
+            assertEquals(expected, recording.interpolateAt(progress));
+        }
+    }
+}
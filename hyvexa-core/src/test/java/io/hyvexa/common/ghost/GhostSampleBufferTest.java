@@ -0,0 +1,113 @@
+package io.hyvexa.common.ghost;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GhostSampleBufferTest {
+
+    private static final long START_MS = 1_000_000L;
+
+    /** Feeds one tick every {@code tickMs} for {@code durationMs} and returns the buffer. */
+    private static GhostSampleBuffer tickFor(double tickMs, long durationMs, int maxSamples) {
+        GhostSampleBuffer buffer = new GhostSampleBuffer(START_MS, AbstractGhostRecorder.SAMPLE_INTERVAL_MS,
+                maxSamples, 8);
+        for (int tick = 0; tick * tickMs <= durationMs; tick++) {
+            long now = START_MS + (long) (tick * tickMs);
+            buffer.offer(now, tick, 64, -tick, tick % 360);
+        }
+        return buffer;
+    }
+
+    private static long[] timestamps(GhostSampleBuffer buffer) {
+        GhostRecording recording = buffer.toRecording(0L);
+        long[] timestamps = new long[recording.getSampleCount()];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = recording.timestampAt(i);
+        }
+        return timestamps;
+    }
+
+    @Test
+    void twentyTpsKeepsEveryTick() {
+        long[] timestamps = timestamps(tickFor(50, 10_000, AbstractGhostRecorder.MAX_SAMPLES));
+        assertEquals(201, timestamps.length);
+        for (int i = 0; i < timestamps.length; i++) {
+            assertEquals(i * 50L, timestamps[i]);
+        }
+    }
+
+    @Test
+    void fasterTicksAreCappedAtTheSampleRate() {
+        for (double tickMs : new double[]{1000.0 / 30, 1000.0 / 60, 10}) {
+            long[] timestamps = timestamps(tickFor(tickMs, 60_000, AbstractGhostRecorder.MAX_SAMPLES));
+            // One sample per 50ms slot on average, never two within a tick of each other.
+            assertEquals(60_000 / 50 + 1, timestamps.length, 1.0, "tick " + tickMs);
+            for (int i = 1; i < timestamps.length; i++) {
+                long spacing = timestamps[i] - timestamps[i - 1];
+                assertTrue(spacing >= 50 - tickMs && spacing < 50 + tickMs,
+                        "tick " + tickMs + " spacing " + spacing + " at " + i);
+            }
+        }
+    }
+
+    @Test
+    void stallDoesNotBurstToCatchUp() {
+        GhostSampleBuffer buffer = new GhostSampleBuffer(START_MS, 50, 100);
+        assertTrue(buffer.offer(START_MS, 0, 0, 0, 0f));
+        assertTrue(buffer.offer(START_MS + 2_000, 0, 0, 0, 0f));
+        assertFalse(buffer.offer(START_MS + 2_010, 0, 0, 0, 0f));
+        assertFalse(buffer.offer(START_MS + 2_040, 0, 0, 0, 0f));
+        assertTrue(buffer.offer(START_MS + 2_050, 0, 0, 0, 0f));
+        assertEquals(3, buffer.size());
+    }
+
+    @Test
+    void truncatesAtMaxSamplesKeepingTheStart() {
+        int max = AbstractGhostRecorder.MAX_SAMPLES;
+        GhostSampleBuffer buffer = tickFor(50, (max + 500) * 50L, max);
+        assertTrue(buffer.isFull());
+        assertFalse(buffer.offer(START_MS + (max + 1_000) * 50L, 0, 0, 0, 0f));
+
+        GhostRecording recording = buffer.toRecording(123L);
+        assertEquals(max, recording.getSampleCount());
+        assertEquals(0L, recording.timestampAt(0));
+        assertEquals((max - 1) * 50L, recording.timestampAt(max - 1));
+        assertEquals(max - 1, recording.xAt(max - 1), 0.0);
+        assertEquals(123L, recording.getCompletionTimeMs());
+    }
+
+    @Test
+    void recorderSamplesOnlyActiveRecordingsOnTheSyntheticClock() {
+        long[] now = {START_MS};
+        List<GhostRecording> saved = new ArrayList<>();
+        AbstractGhostRecorder recorder = new AbstractGhostRecorder(
+                (playerId, mapId, recording) -> saved.add(recording), () -> now[0]) {
+            @Override
+            protected HytaleLogger logger() {
+                return HytaleLogger.forEnclosingClass();
+            }
+        };
+        UUID runner = UUID.randomUUID();
+        UUID idle = UUID.randomUUID();
+        recorder.startRecording(runner, "map");
+        for (int tick = 0; tick < 90; tick++) {
+            recorder.samplePlayer(runner, tick, 0, 0, 0f);
+            recorder.samplePlayer(idle, tick, 0, 0, 0f);
+            now[0] += 1000 / 30;
+        }
+        recorder.stopRecording(idle, 3_000L, true);
+        recorder.stopRecording(runner, 3_000L, true);
+
+        assertEquals(1, saved.size());
+        GhostRecording recording = saved.get(0);
+        assertEquals(3_000L, recording.getCompletionTimeMs());
+        assertEquals(60, recording.getSampleCount(), 1.0);
+        assertEquals(0L, recording.timestampAt(0));
+    }
+}
@@ -0,0 +1,69 @@
+package io.hyvexa.common.math;
+
+import io.hyvexa.common.bench.Microbenchmark;
+
+import java.util.Random;
+
+/**
+ * Microbenchmark comparing immutable {@link BigNumber} chains with {@link BigNumberAccumulator}
+ * for the Ascend economy patterns: a multiplier product over the map slots and a running cost sum.
+ * Run with {@link Microbenchmark}.
+ */
+public final class BigNumberAccumulatorBenchmark {
+
+    private static final int OPERANDS = 4_096;
+    private static final int OPS_PER_ITERATION = 2_000_000;
+    private static final int SLOTS = 5;
+
+    private BigNumberAccumulatorBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        Random random = new Random(42L);
+        BigNumber[] operands = new BigNumber[OPERANDS];
+        for (int i = 0; i < OPERANDS; i++) {
+            operands[i] = BigNumber.of(1.0 + random.nextDouble() * 9.0, random.nextInt(40));
+        }
+        int mask = OPERANDS - 1;
+        Microbenchmark bench = new Microbenchmark(5, 10);
+
+        bench.report("product/immutable", OPS_PER_ITERATION, "op", () -> {
+            double acc = 0;
+            for (int op = 0; op < OPS_PER_ITERATION; op += SLOTS) {
+                BigNumber product = BigNumber.ONE;
+                for (int slot = 0; slot < SLOTS; slot++) {
+                    product = product.multiply(operands[(op + slot) & mask].max(BigNumber.ONE));
+                }
+                acc += product.getMantissa();
+            }
+            bench.consume(acc);
+        });
+        bench.report("product/accumulator", OPS_PER_ITERATION, "op", () -> {
+            double acc = 0;
+            BigNumberAccumulator product = new BigNumberAccumulator();
+            for (int op = 0; op < OPS_PER_ITERATION; op += SLOTS) {
+                product.setOne();
+                for (int slot = 0; slot < SLOTS; slot++) {
+                    product.multiply(operands[(op + slot) & mask].max(BigNumber.ONE));
+                }
+                acc += product.getMantissa();
+            }
+            bench.consume(acc);
+        });
+        bench.report("sum/immutable", OPS_PER_ITERATION, "op", () -> {
+            BigNumber total = BigNumber.ZERO;
+            for (int op = 0; op < OPS_PER_ITERATION; op++) {
+                total = total.add(operands[op & mask]);
+            }
+            bench.consume(total.getMantissa());
+        });
+        bench.report("sum/accumulator", OPS_PER_ITERATION, "op", () -> {
+            BigNumberAccumulator total = new BigNumberAccumulator();
+            for (int op = 0; op < OPS_PER_ITERATION; op++) {
+                total.add(operands[op & mask]);
+            }
+            bench.consume(total.getMantissa());
+        });
+        bench.finish();
+    }
+}
@@ -0,0 +1,137 @@
+package io.hyvexa.common.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BigNumberAccumulatorTest {
+
+    private static final int CASES = 20_000;
+
+    private static BigNumber randomNumber(Random random) {
+        if (random.nextInt(20) == 0) {
+            return BigNumber.ZERO;
+        }
+        double mantissa = 1.0 + random.nextDouble() * 9.0;
+        if (random.nextInt(4) == 0) {
+            mantissa = -mantissa;
+        }
+        return BigNumber.of(mantissa, random.nextInt(60) - 20);
+    }
+
+    private static void assertSameValue(BigNumber expected, BigNumberAccumulator actual, String label) {
+        BigNumber result = actual.toBigNumber();
+        assertEquals(expected.isZero(), result.isZero(), label + " = " + result);
+        if (expected.isZero()) {
+            return;
+        }
+        double mantissa = Math.abs(result.getMantissa());
+        assertTrue(mantissa >= 1.0 && mantissa < 10.0, label + " not normalized: " + result);
+        // Compare as log10 so a mantissa on either side of a power-of-ten boundary still matches
+        double expectedLog = Math.log10(Math.abs(expected.getMantissa())) + expected.getExponent();
+        double actualLog = Math.log10(mantissa) + result.getExponent();
+        assertEquals(expectedLog, actualLog, 1e-9 * Math.max(1.0, Math.abs(expectedLog)), label);
+        assertEquals(expected.isNegative(), result.isNegative(), label);
+    }
+
+    @Test
+    void addMatchesBigNumber() {
+        Random random = new Random(1L);
+        BigNumberAccumulator acc = new BigNumberAccumulator();
+        for (int i = 0; i < CASES; i++) {
+            BigNumber a = randomNumber(random);
+            BigNumber b = randomNumber(random);
+            assertSameValue(a.add(b), acc.set(a).add(b), a + " + " + b);
+        }
+    }
+
+    @Test
+    void multiplyMatchesBigNumber() {
+        Random random = new Random(2L);
+        BigNumberAccumulator acc = new BigNumberAccumulator();
+        for (int i = 0; i < CASES; i++) {
+            BigNumber a = randomNumber(random);
+            BigNumber b = randomNumber(random);
+            assertSameValue(a.multiply(b), acc.set(a).multiply(b), a + " * " + b);
+
+            double factor = (random.nextDouble() - 0.25) * Math.pow(10.0, random.nextInt(12) - 4);
+            assertSameValue(a.multiply(BigNumber.fromDouble(factor)), acc.set(a).multiply(factor), a + " * " + factor);
+        }
+    }
+
+    @Test
+    void longChainsMatchBigNumber() {
+        Random random = new Random(3L);
+        for (int chain = 0; chain < 500; chain++) {
+            BigNumber expected = BigNumber.ONE;
+            BigNumberAccumulator acc = new BigNumberAccumulator(BigNumber.ONE);
+            for (int step = 0; step < 40; step++) {
+                // Positive operands only, so rounding error can't be amplified by cancellation
+                BigNumber operand = randomNumber(random).abs();
+                if (random.nextBoolean()) {
+                    expected = expected.add(operand);
+                    acc.add(operand);
+                } else {
+                    expected = expected.multiply(operand.max(BigNumber.ONE));
+                    acc.multiply(operand.max(BigNumber.ONE));
+                }
+                assertSameValue(expected, acc, "chain " + chain + " step " + step);
+            }
+        }
+    }
+
+    @Test
+    void comparisonMatchesBigNumber() {
+        Random random = new Random(4L);
+        BigNumberAccumulator acc = new BigNumberAccumulator();
+        for (int i = 0; i < CASES; i++) {
+            BigNumber a = randomNumber(random);
+            BigNumber b = random.nextInt(10) == 0 ? a : randomNumber(random);
+            acc.set(a);
+            assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(acc.compareTo(b)), a + " vs " + b);
+            assertEquals(a.max(b), acc.max(b).toBigNumber());
+        }
+    }
+
+    @Test
+    void normalizesAcrossPowerOfTenBoundaries() {
+        BigNumberAccumulator acc = new BigNumberAccumulator(BigNumber.of(9.999999999999998, 4));
+        acc.add(BigNumber.of(9.999999999999998, 4));
+        assertEquals(5, acc.getExponent());
+        assertTrue(acc.getMantissa() >= 1.0 && acc.getMantissa() < 10.0);
+
+        acc.set(BigNumber.of(5, 10)).add(BigNumber.of(-4.9999, 10));
+        assertEquals(BigNumber.of(5, 10).add(BigNumber.of(-4.9999, 10)).getExponent(), acc.getExponent());
+
+        acc.set(BigNumber.of(3, 0)).multiply(BigNumber.of(4, 0));
+        assertEquals(BigNumber.of(1.2, 1), acc.toBigNumber());
+    }
+
+    @Test
+    void zeroHandling() {
+        BigNumberAccumulator acc = new BigNumberAccumulator();
+        assertTrue(acc.isZero());
+        assertSame(BigNumber.ZERO, acc.toBigNumber());
+        acc.add(BigNumber.of(5, 3));
+        assertEquals(BigNumber.of(5, 3), acc.toBigNumber());
+        acc.multiply(BigNumber.ZERO);
+        assertTrue(acc.isZero());
+        acc.setOne().multiply(Double.NaN);
+        assertTrue(acc.isZero());
+        acc.set(BigNumber.of(7, 2)).add(BigNumber.of(-7, 2));
+        assertTrue(acc.isZero());
+    }
+
+    @Test
+    void extremeExponentsFallBackToLog10() {
+        BigNumberAccumulator acc = new BigNumberAccumulator(BigNumber.of(5, 999_000));
+        acc.multiply(BigNumber.of(4, 999_000));
+        assertEquals(BigNumber.of(5, 999_000).multiply(BigNumber.of(4, 999_000)), acc.toBigNumber());
+
+        acc.set(BigNumber.of(2, 0)).multiply(1e300).multiply(1e300);
+        assertEquals(600, acc.getExponent());
+        assertEquals(2.0, acc.getMantissa(), 1e-12);
+    }
+}
@@ -0,0 +1,108 @@
+package io.hyvexa.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankedBoardTest {
+
+    private record Score(int key, int points) {}
+
+    // Highest points first, ties broken by key so the order is total.
+    private static final Comparator<Score> ORDER = Comparator.comparingInt(Score::points).reversed()
+            .thenComparingInt(Score::key);
+
+    @Test
+    void emptyBoardHasNoEntries() {
+        RankedBoard<Integer, Score> board = new RankedBoard<>(ORDER);
+        assertTrue(board.isEmpty());
+        assertNull(board.first());
+        assertNull(board.get(1));
+        assertEquals(-1, board.rankOf(1));
+        assertEquals(0, board.countBefore(new Score(0, 10)));
+        assertTrue(board.range(0, 5).isEmpty());
+    }
+
+    @Test
+    void putSameValueIsNoop() {
+        RankedBoard<Integer, Score> board = new RankedBoard<>(ORDER);
+        assertTrue(board.put(1, new Score(1, 5)));
+        assertFalse(board.put(1, new Score(1, 5)));
+        assertTrue(board.put(1, new Score(1, 6)));
+        assertEquals(1, board.size());
+        assertEquals(6, board.get(1).points());
+    }
+
+    @Test
+    void rangeClampsToBoard() {
+        RankedBoard<Integer, Score> board = new RankedBoard<>(ORDER);
+        for (int key = 0; key < 10; key++) {
+            board.put(key, new Score(key, key * 3));
+        }
+        assertEquals(List.of(new Score(9, 27), new Score(8, 24)), board.range(-4, 2));
+        assertEquals(List.of(new Score(1, 3), new Score(0, 0)), board.range(8, 50));
+        assertTrue(board.range(10, 5).isEmpty());
+        assertTrue(board.range(3, 0).isEmpty());
+    }
+
+    @Test
+    void matchesFullSortUnderRandomChurn() {
+        Random random = new Random(7L);
+        for (int round = 0; round < 20; round++) {
+            RankedBoard<Integer, Score> board = new RankedBoard<>(ORDER);
+            Map<Integer, Score> reference = new HashMap<>();
+            for (int op = 0; op < 3000; op++) {
+                int key = random.nextInt(300);
+                if (random.nextInt(8) == 0) {
+                    assertEquals(reference.remove(key) != null, board.remove(key));
+                } else {
+                    // Narrow range forces plenty of ties on points.
+                    Score score = new Score(key, random.nextInt(40));
+                    assertEquals(!score.equals(reference.put(key, score)), board.put(key, score));
+                }
+                if (op % 50 == 0) {
+                    assertMatches(reference, board, random);
+                }
+            }
+            assertMatches(reference, board, random);
+        }
+    }
+
+    private static void assertMatches(Map<Integer, Score> reference, RankedBoard<Integer, Score> board,
+                                      Random random) {
+        List<Score> sorted = new ArrayList<>(reference.values());
+        sorted.sort(ORDER);
+        assertEquals(sorted.size(), board.size());
+        assertEquals(sorted, board.range(0, sorted.size()));
+        assertEquals(sorted.isEmpty() ? null : sorted.get(0), board.first());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i + 1, board.rankOf(sorted.get(i).key()));
+        }
+
+        int offset = random.nextInt(sorted.size() + 5);
+        int limit = random.nextInt(20);
+        int from = Math.min(offset, sorted.size());
+        assertEquals(sorted.subList(from, Math.min(sorted.size(), from + limit)), board.range(offset, limit));
+
+        // A probe that is not on the board counts everything ranked ahead of it
+        Score probe = new Score(-1, random.nextInt(40));
+        int expected = 0;
+        for (Score score : sorted) {
+            if (ORDER.compare(score, probe) < 0) {
+                expected++;
+            }
+        }
+        assertEquals(expected, board.countBefore(probe));
+
+        Map<Integer, Score> visited = new HashMap<>();
+        board.forEach(visited::put);
+        assertEquals(reference, visited);
+    }
+}
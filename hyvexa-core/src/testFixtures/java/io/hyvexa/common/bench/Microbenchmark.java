@@ -0,0 +1,61 @@
+package io.hyvexa.common.bench;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Shared harness for the microbenchmarks kept in test sources. Benchmarks are plain {@code main}
+ * classes, not JUnit tests; run them from the IDE or with the test runtime classpath.
+ * <p>
+ * Follows the JMH shape (warmup iterations, then measured iterations, result consumed by a sink)
+ * without pulling JMH into the build. Each {@link #report} prints average and best time plus bytes
+ * allocated per operation; measured work must feed its result to {@link #consume}.
+ */
+public final class Microbenchmark {
+
+    private final int warmupIterations;
+    private final int measuredIterations;
+    private double sink;
+
+    public Microbenchmark(int warmupIterations, int measuredIterations) {
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = Math.max(1, measuredIterations);
+    }
+
+    /** Times {@code iteration}, which performs {@code opsPerIteration} operations of the given unit. */
+    public void report(String name, double opsPerIteration, String unit, Runnable iteration) {
+        for (int i = 0; i < warmupIterations; i++) {
+            iteration.run();
+        }
+        long best = Long.MAX_VALUE;
+        long total = 0L;
+        long allocated = 0L;
+        for (int i = 0; i < measuredIterations; i++) {
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+            iteration.run();
+            long elapsed = System.nanoTime() - start;
+            allocated += allocatedBytes() - bytesBefore;
+            best = Math.min(best, elapsed);
+            total += elapsed;
+        }
+        double opsMeasured = opsPerIteration * measuredIterations;
+        System.out.printf("%-24s avg %8.1f ns/%s, best %8.1f ns/%s, %8.1f B/%s%n", name,
+                total / opsMeasured, unit, best / opsPerIteration, unit, allocated / opsMeasured, unit);
+    }
+
+    public void consume(double value) {
+        sink += value;
+    }
+
+    /** Prints whether the sink saw any results; call once after the last report. */
+    public void finish() {
+        System.out.println("(sink " + (sink != 0 ? "ok" : "zero") + ")");
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return 0L;
+    }
+}
@@ -1,6 +1,7 @@
 package io.hyvexa.ascend;
 
 import io.hyvexa.common.math.BigNumber;
+import io.hyvexa.common.math.BigNumberAccumulator;
 
 public final class ElevationConstants {
 
@@ -97,23 +98,24 @@ public final class ElevationConstants {
 
         // Iterate precisely from currentLevel to maxLevel, summing costs
         int levelsAffordable = 0;
-        BigNumber totalCost = BigNumber.ZERO;
+        BigNumberAccumulator totalCost = new BigNumberAccumulator();
+        BigNumberAccumulator newTotal = new BigNumberAccumulator();
         int level = currentLevel;
 
         while (level <= maxLevel) {
             BigNumber nextCost = getElevationLevelUpCost(level, costMultiplier);
-            BigNumber newTotal = totalCost.add(nextCost);
+            newTotal.set(totalCost).add(nextCost);
 
             if (newTotal.gt(availableVolt)) {
                 break;
             }
 
-            totalCost = newTotal;
+            totalCost.set(newTotal);
             levelsAffordable++;
             level++;
         }
 
-        return new ElevationPurchaseResult(levelsAffordable, totalCost);
+        return new ElevationPurchaseResult(levelsAffordable, totalCost.toBigNumber());
     }
 
     public static class ElevationPurchaseResult {
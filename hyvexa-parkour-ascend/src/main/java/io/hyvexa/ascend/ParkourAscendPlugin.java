@@ -278,7 +278,7 @@ public class ParkourAscendPlugin extends JavaPlugin {
             ghostStore = new GhostStore("ascend_ghost_recordings", "ascend", DatabaseManager.get());
             ghostStore.syncLoad();
 
-            ghostRecorder = new GhostRecorder(ghostStore, this::getPlayerRef);
+            ghostRecorder = new GhostRecorder(ghostStore);
             ghostRecorder.start();
         } catch (Exception e) {
             LOGGER.atWarning().withCause(e).log("Failed to initialize ghost system");
@@ -764,6 +764,8 @@ public class ParkourAscendPlugin extends JavaPlugin {
                 "Shutdown: tickTask cancel");
         runSafe(() -> { if (mineTickTask != null) { mineTickTask.cancel(false); mineTickTask = null; } },
                 "Shutdown: mineTickTask cancel");
+        runSafe(() -> { if (mineManager != null) mineManager.cancelRegeneration(); },
+                "Shutdown: mine regeneration cancel");
         runSafe(() -> { if (tickHandler != null) tickHandler.clearAll(); },
                 "Shutdown: tickHandler clear");
         runSafe(AscendInteractionBridge::clear, "Shutdown: interaction bridge clear");
@@ -0,0 +1,40 @@
+package io.hyvexa.ascend.data;
+
+import io.hyvexa.ascend.data.AscendPlayerStore.LeaderboardEntry;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * Global Ascend leaderboard categories: which entries qualify and how they rank.
+ * Ties are broken by player UUID so every category has a total order.
+ */
+public enum AscendLeaderboardCategory {
+    VOLT(entry -> entry.totalVoltEarnedExp10() != 0 || entry.totalVoltEarnedMantissa() != 0,
+            Comparator.comparingInt(LeaderboardEntry::totalVoltEarnedExp10).reversed()
+                    .thenComparing(Comparator.comparingDouble(LeaderboardEntry::totalVoltEarnedMantissa).reversed())),
+    ASCENSIONS(entry -> entry.ascensionCount() != 0,
+            Comparator.comparingInt(LeaderboardEntry::ascensionCount).reversed()),
+    MANUAL_RUNS(entry -> entry.totalManualRuns() != 0,
+            Comparator.comparingInt(LeaderboardEntry::totalManualRuns).reversed()),
+    FASTEST_ASCENSION(entry -> entry.fastestAscensionMs() != null,
+            Comparator.comparingLong(LeaderboardEntry::fastestAscensionMs));
+
+    private final Predicate<LeaderboardEntry> qualifies;
+    private final Comparator<LeaderboardEntry> order;
+
+    AscendLeaderboardCategory(Predicate<LeaderboardEntry> qualifies, Comparator<LeaderboardEntry> order) {
+        this.qualifies = qualifies;
+        this.order = order.thenComparing(LeaderboardEntry::playerId);
+    }
+
+    /** Whether the entry is listed in this category at all. */
+    public boolean qualifies(LeaderboardEntry entry) {
+        return qualifies.test(entry);
+    }
+
+    /** Rank order of qualifying entries, best first. */
+    public Comparator<LeaderboardEntry> order() {
+        return order;
+    }
+}
@@ -0,0 +1,91 @@
+package io.hyvexa.ascend.data;
+
+import io.hyvexa.ascend.data.AscendPlayerStore.LeaderboardEntry;
+import io.hyvexa.common.util.RankedBoard;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-process ranked index behind the global Ascend leaderboards: one {@link RankedBoard}
+ * per {@link AscendLeaderboardCategory}, kept current as player progress changes and seeded
+ * once with offline players from the database.
+ * Thread-safe: every operation is O(log n) (plus page length) under the index monitor.
+ */
+final class AscendLeaderboardIndex {
+
+    private final Map<UUID, LeaderboardEntry> entries = new HashMap<>();
+    private final Map<AscendLeaderboardCategory, RankedBoard<UUID, LeaderboardEntry>> boards = new EnumMap<>(AscendLeaderboardCategory.class);
+
+    AscendLeaderboardIndex() {
+        for (AscendLeaderboardCategory category : AscendLeaderboardCategory.values()) {
+            boards.put(category, new RankedBoard<>(category.order()));
+        }
+    }
+
+    static LeaderboardEntry entryOf(UUID playerId, String playerName, AscendPlayerProgress progress) {
+        return new LeaderboardEntry(playerId, playerName,
+                progress.economy().getTotalVoltEarned().getMantissa(),
+                progress.economy().getTotalVoltEarned().getExponent(),
+                progress.gameplay().getAscensionCount(),
+                progress.gameplay().getTotalManualRuns(),
+                progress.gameplay().getFastestAscensionMs());
+    }
+
+    /** Replaces the player's entry in every category it qualifies for. */
+    synchronized void update(LeaderboardEntry entry) {
+        LeaderboardEntry previous = entries.put(entry.playerId(), entry);
+        if (entry.equals(previous)) {
+            return;
+        }
+        for (AscendLeaderboardCategory category : AscendLeaderboardCategory.values()) {
+            RankedBoard<UUID, LeaderboardEntry> board = boards.get(category);
+            if (category.qualifies(entry)) {
+                board.put(entry.playerId(), entry);
+            } else {
+                board.remove(entry.playerId());
+            }
+        }
+    }
+
+    /**
+     * Adds database rows for players the index has not seen yet. Players already
+     * indexed were updated from live progress, which is at least as fresh as the database.
+     */
+    synchronized void seed(Collection<LeaderboardEntry> rows) {
+        for (LeaderboardEntry row : rows) {
+            if (!entries.containsKey(row.playerId())) {
+                update(row);
+            }
+        }
+    }
+
+    synchronized List<LeaderboardEntry> page(AscendLeaderboardCategory category, int offset, int limit) {
+        return boards.get(category).range(offset, limit);
+    }
+
+    /** 1-based rank of the player in the category, or -1 when not listed. */
+    synchronized int rankOf(AscendLeaderboardCategory category, UUID playerId) {
+        return boards.get(category).rankOf(playerId);
+    }
+
+    synchronized int size(AscendLeaderboardCategory category) {
+        return boards.get(category).size();
+    }
+
+    /** Number of indexed players, including those not listed in any category. */
+    synchronized int playerCount() {
+        return entries.size();
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        for (AscendLeaderboardCategory category : AscendLeaderboardCategory.values()) {
+            boards.put(category, new RankedBoard<>(category.order()));
+        }
+    }
+}
@@ -19,20 +19,25 @@ import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
- * Database-backed leaderboard queries with TTL caching for Ascend.
+ * Leaderboard queries for Ascend. Global leaderboards are served from an in-memory
+ * {@link AscendLeaderboardIndex}; per-map leaderboards are database-backed with TTL caching.
  * Package-private — accessed only through {@link AscendPlayerPersistence}.
  */
 class AscendLeaderboardQueries {
 
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
     private static final long LEADERBOARD_CACHE_TTL_MS = 30_000;
+    private static final int LEADERBOARD_SEED_LIMIT = 200;
 
     private final ConnectionProvider db;
     private final Map<UUID, AscendPlayerProgress> players;
     private final Map<UUID, String> playerNames;
 
-    private volatile List<AscendPlayerStore.LeaderboardEntry> leaderboardCache = List.of();
-    private volatile long leaderboardCacheTimestamp = 0;
+    private final AscendLeaderboardIndex leaderboardIndex = new AscendLeaderboardIndex();
+    // Serializes the one-time seed query so concurrent first reads run it once.
+    // Never held with the index monitor waiting on it, so index updates are not blocked by the query.
+    private final Object leaderboardSeedLock = new Object();
+    private volatile boolean leaderboardSeeded;
 
     private final Map<String, List<AscendPlayerStore.MapLeaderboardEntry>> mapLeaderboardCache = new ConcurrentHashMap<>();
     private final Map<String, Long> mapLeaderboardCacheTimestamps = new ConcurrentHashMap<>();
@@ -49,41 +54,62 @@ class AscendLeaderboardQueries {
     // Global Leaderboard
     // ========================================
 
-    List<AscendPlayerStore.LeaderboardEntry> getLeaderboardEntries() {
-        long now = System.currentTimeMillis();
-        if (now - leaderboardCacheTimestamp > LEADERBOARD_CACHE_TTL_MS) {
-            List<AscendPlayerStore.LeaderboardEntry> dbEntries = fetchLeaderboardFromDatabase();
-            if (dbEntries != null) {
-                leaderboardCache = dbEntries;
-                leaderboardCacheTimestamp = now;
-            }
+    /**
+     * Refreshes the player's global leaderboard entry from live progress.
+     * Called whenever the player's progress changes (see {@link AscendPlayerStore#markDirty}).
+     */
+    void updateLeaderboardEntry(UUID playerId) {
+        AscendPlayerProgress progress = players.get(playerId);
+        if (progress != null) {
+            leaderboardIndex.update(AscendLeaderboardIndex.entryOf(playerId, playerNames.get(playerId), progress));
         }
+    }
+
+    List<AscendPlayerStore.LeaderboardEntry> getLeaderboardPage(AscendLeaderboardCategory category, int offset, int limit) {
+        ensureLeaderboardSeeded();
+        return leaderboardIndex.page(category, offset, limit);
+    }
+
+    int getLeaderboardRank(AscendLeaderboardCategory category, UUID playerId) {
+        ensureLeaderboardSeeded();
+        return leaderboardIndex.rankOf(category, playerId);
+    }
+
+    int getLeaderboardSize(AscendLeaderboardCategory category) {
+        ensureLeaderboardSeeded();
+        return leaderboardIndex.size(category);
+    }
 
-        // Merge online players' fresh data on top of the DB snapshot
-        Map<UUID, AscendPlayerStore.LeaderboardEntry> merged = new LinkedHashMap<>();
-        for (AscendPlayerStore.LeaderboardEntry entry : leaderboardCache) {
-            // Enrich null names from in-memory cache (survives disconnect)
-            if (entry.playerName() == null || entry.playerName().isEmpty()) {
-                String cachedName = playerNames.get(entry.playerId());
-                if (cachedName != null) {
-                    entry = new AscendPlayerStore.LeaderboardEntry(entry.playerId(), cachedName,
-                            entry.totalVoltEarnedMantissa(), entry.totalVoltEarnedExp10(),
-                            entry.ascensionCount(), entry.totalManualRuns(), entry.fastestAscensionMs());
+    int getLeaderboardPlayerCount() {
+        ensureLeaderboardSeeded();
+        return leaderboardIndex.playerCount();
+    }
+
+    /**
+     * Loads each category's top offline players into the index once; retried on the next read if
+     * the query fails. Players outside every top {@value #LEADERBOARD_SEED_LIMIT} join the index
+     * when their progress is loaded, so ranks past that point count only the players indexed so far.
+     */
+    private void ensureLeaderboardSeeded() {
+        if (leaderboardSeeded || !this.db.isInitialized()) {
+            return;
+        }
+        synchronized (leaderboardSeedLock) {
+            if (leaderboardSeeded) {
+                return;
+            }
+            List<AscendPlayerStore.LeaderboardEntry> dbEntries = fetchLeaderboardFromDatabase();
+            if (dbEntries == null) {
+                return;
+            }
+            synchronized (leaderboardIndex) {
+                // A full reset while the query ran leaves nothing to seed
+                if (!leaderboardSeeded) {
+                    leaderboardIndex.seed(dbEntries);
+                    leaderboardSeeded = true;
                 }
             }
-            merged.put(entry.playerId(), entry);
-        }
-        for (Map.Entry<UUID, AscendPlayerProgress> e : players.entrySet()) {
-            UUID id = e.getKey();
-            AscendPlayerProgress p = e.getValue();
-            String name = playerNames.get(id);
-            merged.put(id, new AscendPlayerStore.LeaderboardEntry(
-                id, name,
-                p.economy().getTotalVoltEarned().getMantissa(), p.economy().getTotalVoltEarned().getExponent(),
-                p.gameplay().getAscensionCount(), p.gameplay().getTotalManualRuns(), p.gameplay().getFastestAscensionMs()
-            ));
         }
-        return new ArrayList<>(merged.values());
     }
 
     private List<AscendPlayerStore.LeaderboardEntry> fetchLeaderboardFromDatabase() {
@@ -91,38 +117,14 @@ class AscendLeaderboardQueries {
             return List.of();
         }
 
-        String sql = """
-            SELECT uuid, player_name, total_volt_earned_mantissa, total_volt_earned_exp10,
-                   ascension_count, total_manual_runs, fastest_ascension_ms
-            FROM ascend_players
-            WHERE total_volt_earned_exp10 > 0 OR total_volt_earned_mantissa > 0
-               OR ascension_count > 0 OR total_manual_runs > 0 OR fastest_ascension_ms IS NOT NULL
-            ORDER BY total_volt_earned_exp10 DESC, total_volt_earned_mantissa DESC
-            LIMIT 200
-            """;
-
         List<AscendPlayerStore.LeaderboardEntry> entries = new ArrayList<>();
         try (Connection conn = this.db.getConnection()) {
             if (conn == null) {
                 LOGGER.atWarning().log("Failed to acquire database connection");
                 return null;
             }
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                DatabaseManager.applyQueryTimeout(stmt);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    while (rs.next()) {
-                        UUID playerId = UUID.fromString(rs.getString("uuid"));
-                        String name = rs.getString("player_name");
-                        double mantissa = rs.getDouble("total_volt_earned_mantissa");
-                        int exp10 = rs.getInt("total_volt_earned_exp10");
-                        int ascensions = rs.getInt("ascension_count");
-                        int manualRuns = rs.getInt("total_manual_runs");
-                        long fastest = rs.getLong("fastest_ascension_ms");
-                        Long fastestMs = rs.wasNull() ? null : fastest;
-
-                        entries.add(new AscendPlayerStore.LeaderboardEntry(playerId, name, mantissa, exp10, ascensions, manualRuns, fastestMs));
-                    }
-                }
+            for (AscendLeaderboardCategory category : AscendLeaderboardCategory.values()) {
+                fetchLeaderboardSeed(conn, category, entries);
             }
         } catch (SQLException e) {
             LOGGER.atSevere().log("Failed to fetch leaderboard from database: " + e.getMessage());
@@ -131,8 +133,45 @@ class AscendLeaderboardQueries {
         return entries;
     }
 
-    void invalidateLeaderboardCache() {
-        leaderboardCacheTimestamp = 0;
+    /** Appends the category's top rows; a player in several tops is listed once per top and seeded once. */
+    private void fetchLeaderboardSeed(Connection conn, AscendLeaderboardCategory category,
+                                      List<AscendPlayerStore.LeaderboardEntry> entries) throws SQLException {
+        String filterAndOrder = switch (category) {
+            case VOLT -> "WHERE total_volt_earned_exp10 <> 0 OR total_volt_earned_mantissa <> 0 "
+                    + "ORDER BY total_volt_earned_exp10 DESC, total_volt_earned_mantissa DESC";
+            case ASCENSIONS -> "WHERE ascension_count <> 0 ORDER BY ascension_count DESC";
+            case MANUAL_RUNS -> "WHERE total_manual_runs <> 0 ORDER BY total_manual_runs DESC";
+            case FASTEST_ASCENSION -> "WHERE fastest_ascension_ms IS NOT NULL ORDER BY fastest_ascension_ms ASC";
+        };
+        String sql = """
+            SELECT uuid, player_name, total_volt_earned_mantissa, total_volt_earned_exp10,
+                   ascension_count, total_manual_runs, fastest_ascension_ms
+            FROM ascend_players
+            %s
+            LIMIT %d
+            """.formatted(filterAndOrder, LEADERBOARD_SEED_LIMIT);
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            DatabaseManager.applyQueryTimeout(stmt);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    UUID playerId = UUID.fromString(rs.getString("uuid"));
+                    String name = rs.getString("player_name");
+                    // Enrich null names from in-memory cache (survives disconnect)
+                    if (name == null || name.isEmpty()) {
+                        name = playerNames.get(playerId);
+                    }
+                    double mantissa = rs.getDouble("total_volt_earned_mantissa");
+                    int exp10 = rs.getInt("total_volt_earned_exp10");
+                    int ascensions = rs.getInt("ascension_count");
+                    int manualRuns = rs.getInt("total_manual_runs");
+                    long fastest = rs.getLong("fastest_ascension_ms");
+                    Long fastestMs = rs.wasNull() ? null : fastest;
+
+                    entries.add(new AscendPlayerStore.LeaderboardEntry(playerId, name, mantissa, exp10, ascensions, manualRuns, fastestMs));
+                }
+            }
+        }
     }
 
     void invalidateMapLeaderboardCache(String mapId) {
@@ -146,8 +185,11 @@ class AscendLeaderboardQueries {
      * Clear all leaderboard caches (used during full reset).
      */
     void clearLeaderboardCaches() {
-        leaderboardCache = List.of();
-        leaderboardCacheTimestamp = 0;
+        // The database was wiped too, so there is nothing left to seed
+        synchronized (leaderboardIndex) {
+            leaderboardIndex.clear();
+            leaderboardSeeded = true;
+        }
         mapLeaderboardCache.clear();
         mapLeaderboardCacheTimestamps.clear();
     }
@@ -340,7 +340,7 @@ public class AscendPlayerEventHandler {
                     String firstMapId = maps.get(0).getId();
                     playerStore.runners().setMapUnlocked(playerId, firstMapId, true);
                     // Auto-buy runner if player has completed map 1 before (ghost or best time)
-                    boolean hasGhost = ghostStore != null && ghostStore.getRecording(playerId, firstMapId) != null;
+                    boolean hasGhost = ghostStore != null && ghostStore.hasRecording(playerId, firstMapId);
                     boolean hasBestTime = playerStore.runners().getBestTimeMs(playerId, firstMapId) != null;
                     if (hasGhost || hasBestTime) {
                         playerStore.runners().setHasRobot(playerId, firstMapId, true);
@@ -0,0 +1,115 @@
+package io.hyvexa.ascend.data;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent player loads into batched database reads.
+ * <p>
+ * The first caller with no load in flight becomes the loader and fetches its player right away.
+ * Players requested while that read runs queue up and are fetched together by the next batch,
+ * so a burst of joins costs a handful of round-trips instead of one per player. Duplicate
+ * requests for a queued player share its result. A loader stops once its own player is read
+ * and hands the role to a waiting caller, so no join thread keeps loading for others.
+ * Package-private — owned by {@link AscendPlayerPersistence}.
+ */
+final class AscendPlayerLoadBatcher {
+
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    private final Function<List<UUID>, Map<UUID, AscendPlayerProgress>> batchLoader;
+    private final int maxBatchSize;
+
+    // Guarded by this
+    private final Map<UUID, CompletableFuture<AscendPlayerProgress>> pending = new LinkedHashMap<>();
+    private boolean loading;
+
+    /**
+     * @param batchLoader loads the given players; returns the players found, or null if the read failed
+     */
+    AscendPlayerLoadBatcher(Function<List<UUID>, Map<UUID, AscendPlayerProgress>> batchLoader, int maxBatchSize) {
+        this.batchLoader = batchLoader;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /**
+     * Blocks until the player's batch has been read. Returns null if the player
+     * doesn't exist in the database or the read failed.
+     */
+    AscendPlayerProgress load(UUID playerId) {
+        CompletableFuture<AscendPlayerProgress> result;
+        synchronized (this) {
+            result = pending.computeIfAbsent(playerId, ignored -> new CompletableFuture<>());
+        }
+        boolean interrupted = false;
+        while (!result.isDone()) {
+            synchronized (this) {
+                if (result.isDone()) {
+                    break;
+                }
+                if (loading) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                    continue;
+                }
+                loading = true;
+            }
+            drainUntil(result);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return result.join();
+    }
+
+    /** Loads queued batches in order until {@code own} is complete, then gives up the loader role. */
+    private void drainUntil(CompletableFuture<AscendPlayerProgress> own) {
+        try {
+            while (!own.isDone()) {
+                Map<UUID, CompletableFuture<AscendPlayerProgress>> batch = new LinkedHashMap<>();
+                synchronized (this) {
+                    Iterator<Map.Entry<UUID, CompletableFuture<AscendPlayerProgress>>> it = pending.entrySet().iterator();
+                    while (it.hasNext() && batch.size() < maxBatchSize) {
+                        Map.Entry<UUID, CompletableFuture<AscendPlayerProgress>> entry = it.next();
+                        batch.put(entry.getKey(), entry.getValue());
+                        it.remove();
+                    }
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+
+                Map<UUID, AscendPlayerProgress> loaded = null;
+                try {
+                    loaded = batchLoader.apply(new ArrayList<>(batch.keySet()));
+                } catch (RuntimeException e) {
+                    LOGGER.atSevere().withCause(e).log("Batched player load failed for " + batch.keySet());
+                }
+                for (Map.Entry<UUID, CompletableFuture<AscendPlayerProgress>> entry : batch.entrySet()) {
+                    entry.getValue().complete(loaded != null ? loaded.get(entry.getKey()) : null);
+                }
+                synchronized (this) {
+                    // Releases the callers whose players were in this batch
+                    notifyAll();
+                }
+            }
+        } finally {
+            synchronized (this) {
+                // A waiter whose player is still queued takes over as loader
+                loading = false;
+                notifyAll();
+            }
+        }
+    }
+}
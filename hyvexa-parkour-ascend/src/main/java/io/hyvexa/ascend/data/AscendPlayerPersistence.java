@@ -16,6 +16,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,12 +47,16 @@ class AscendPlayerPersistence {
         "ascend_challenge_records"
     };
 
+    /** Upper bound on players fetched by one coalesced load (bounds the IN (...) lists). */
+    private static final int LOAD_BATCH_SIZE = 64;
+
     private final ConnectionProvider db;
     private final Map<UUID, AscendPlayerProgress> players;
     private final Map<UUID, String> playerNames;
 
     private final AscendLeaderboardQueries leaderboardQueries;
     private final AscendSaveScheduler saveScheduler;
+    private final AscendPlayerLoadBatcher loadBatcher;
 
     AscendPlayerPersistence(ConnectionProvider db,
                             Map<UUID, AscendPlayerProgress> players,
@@ -62,6 +67,7 @@ class AscendPlayerPersistence {
         this.playerNames = playerNames;
         this.leaderboardQueries = new AscendLeaderboardQueries(db, players, playerNames);
         this.saveScheduler = new AscendSaveScheduler(db, players, playerNames, resetPendingPlayers);
+        this.loadBatcher = new AscendPlayerLoadBatcher(this::loadPlayersFromDatabase, LOAD_BATCH_SIZE);
     }
 
     void markDirty(UUID playerId) {
@@ -108,12 +114,24 @@ class AscendPlayerPersistence {
         return saveScheduler.savePlayerSync(playerId);
     }
 
-    List<AscendPlayerStore.LeaderboardEntry> getLeaderboardEntries() {
-        return leaderboardQueries.getLeaderboardEntries();
+    void updateLeaderboardEntry(UUID playerId) {
+        leaderboardQueries.updateLeaderboardEntry(playerId);
+    }
+
+    List<AscendPlayerStore.LeaderboardEntry> getLeaderboardPage(AscendLeaderboardCategory category, int offset, int limit) {
+        return leaderboardQueries.getLeaderboardPage(category, offset, limit);
     }
 
-    void invalidateLeaderboardCache() {
-        leaderboardQueries.invalidateLeaderboardCache();
+    int getLeaderboardRank(AscendLeaderboardCategory category, UUID playerId) {
+        return leaderboardQueries.getLeaderboardRank(category, playerId);
+    }
+
+    int getLeaderboardSize(AscendLeaderboardCategory category) {
+        return leaderboardQueries.getLeaderboardSize(category);
+    }
+
+    int getLeaderboardPlayerCount() {
+        return leaderboardQueries.getLeaderboardPlayerCount();
     }
 
     void invalidateMapLeaderboardCache(String mapId) {
@@ -158,6 +176,9 @@ class AscendPlayerPersistence {
     /**
      * Load a single player's data from the database (lazy loading).
      * Returns null if player doesn't exist in database.
+     * <p>
+     * Concurrent calls are coalesced by {@link AscendPlayerLoadBatcher}: players joining while
+     * a load is in flight are fetched together by the next {@link #loadPlayersFromDatabase} batch.
      */
     AscendPlayerProgress loadPlayerFromDatabase(UUID playerId) {
         if (!this.db.isInitialized()) {
@@ -171,12 +192,26 @@ class AscendPlayerPersistence {
             return detached;
         }
 
-        AscendPlayerProgress progress = null;
-        String playerIdStr = playerId.toString();
+        return loadBatcher.load(playerId);
+    }
+
+    /**
+     * Load several players on one connection: one query for the base rows and one UNION ALL
+     * query for every child table, regardless of how many players are requested.
+     * Players missing from the database are absent from the result.
+     * Returns null if the load failed.
+     */
+    Map<UUID, AscendPlayerProgress> loadPlayersFromDatabase(List<UUID> playerIds) {
+        if (!this.db.isInitialized()) {
+            return null;
+        }
+        if (playerIds.isEmpty()) {
+            return Map.of();
+        }
 
-        // Load base player data
+        String placeholders = String.join(", ", Collections.nCopies(playerIds.size(), "?"));
         String playerSql = """
-            SELECT player_name, volt_mantissa, volt_exp10, elevation_multiplier, ascension_count, skill_tree_points,
+            SELECT uuid, player_name, volt_mantissa, volt_exp10, elevation_multiplier, ascension_count, skill_tree_points,
                    total_volt_earned_mantissa, total_volt_earned_exp10, total_manual_runs, active_title,
                    ascension_started_at, fastest_ascension_ms,
                    summit_accumulated_volt_mantissa, summit_accumulated_volt_exp10,
@@ -188,9 +223,30 @@ class AscendPlayerPersistence {
                    transcendence_count, auto_ascend_enabled,
                    hud_hidden, players_hidden
             FROM ascend_players
-            WHERE uuid = ?
-            """;
+            WHERE uuid IN (%s)
+            """.formatted(placeholders);
 
+        // Child rows share the map row's column shape; summit XP travels in the mantissa column.
+        String childSql = """
+            SELECT player_uuid, 0 AS row_kind, map_id AS row_key, unlocked, completed_manually, has_robot,
+                   robot_speed_level, robot_stars, multiplier_mantissa, multiplier_exp10, best_time_ms
+            FROM ascend_player_maps WHERE player_uuid IN (%1$s)
+            UNION ALL
+            SELECT player_uuid, 1, category, NULL, NULL, NULL, NULL, NULL, xp, NULL, NULL
+            FROM ascend_player_summit WHERE player_uuid IN (%1$s)
+            UNION ALL
+            SELECT player_uuid, 2, skill_node, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL
+            FROM ascend_player_skills WHERE player_uuid IN (%1$s)
+            UNION ALL
+            SELECT player_uuid, 3, achievement, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL
+            FROM ascend_player_achievements WHERE player_uuid IN (%1$s)
+            UNION ALL
+            SELECT player_uuid, 4, cat_token, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL
+            FROM ascend_player_cats WHERE player_uuid IN (%1$s)
+            """.formatted(placeholders);
+
+        Map<UUID, AscendPlayerProgress> loaded = new HashMap<>();
+        Map<UUID, PersistedChildRows> persistedRows = new HashMap<>();
         try (Connection conn = this.db.getConnection()) {
             if (conn == null) {
                 LOGGER.atWarning().log("Failed to acquire database connection");
@@ -198,161 +254,173 @@ class AscendPlayerPersistence {
             }
             try (PreparedStatement stmt = conn.prepareStatement(playerSql)) {
                 DatabaseManager.applyQueryTimeout(stmt);
-                stmt.setString(1, playerIdStr);
+                bindPlayerIds(stmt, playerIds, 1);
                 try (ResultSet rs = stmt.executeQuery()) {
-                    if (rs.next()) {
-                        String dbName = safeGetString(rs, "player_name", null);
-                        if (dbName != null) {
-                            playerNames.put(playerId, dbName);
-                        }
-                        progress = new AscendPlayerProgress();
-                        progress.economy().setVolt(BigNumber.of(rs.getDouble("volt_mantissa"), rs.getInt("volt_exp10")));
-                        progress.economy().setElevationMultiplier(rs.getInt("elevation_multiplier"));
-
-                        progress.gameplay().setAscensionCount(safeGetInt(rs, "ascension_count", 0));
-                        progress.gameplay().setSkillTreePoints(safeGetInt(rs, "skill_tree_points", 0));
-                        progress.economy().setTotalVoltEarned(safeGetBigNumber(rs, "total_volt_earned_mantissa", "total_volt_earned_exp10"));
-                        progress.gameplay().setTotalManualRuns(safeGetInt(rs, "total_manual_runs", 0));
-
-                        Long ascensionStartedAt = safeGetLong(rs, "ascension_started_at");
-                        if (ascensionStartedAt != null) {
-                            progress.gameplay().setAscensionStartedAt(ascensionStartedAt);
-                        }
-
-                        Long fastestAscensionMs = safeGetLong(rs, "fastest_ascension_ms");
-                        if (fastestAscensionMs != null) {
-                            progress.gameplay().setFastestAscensionMs(fastestAscensionMs);
-                        }
-
-                        BigNumber summitAccumulated = safeGetBigNumber(rs, "summit_accumulated_volt_mantissa", "summit_accumulated_volt_exp10");
-                        if (!summitAccumulated.isZero()) {
-                            progress.economy().setSummitAccumulatedVolt(summitAccumulated);
-                        }
-
-                        BigNumber elevationAccumulated = safeGetBigNumber(rs, "elevation_accumulated_volt_mantissa", "elevation_accumulated_volt_exp10");
-                        if (!elevationAccumulated.isZero()) {
-                            progress.economy().setElevationAccumulatedVolt(elevationAccumulated);
-                        }
-
-                        progress.automation().setAutoUpgradeEnabled(safeGetBoolean(rs, "auto_upgrade_enabled", false));
-                        progress.automation().setAutoEvolutionEnabled(safeGetBoolean(rs, "auto_evolution_enabled", false));
-                        progress.gameplay().setSeenTutorials(safeGetInt(rs, "seen_tutorials", 0));
-                        progress.automation().setHideOtherRunners(safeGetBoolean(rs, "hide_other_runners", false));
-                        progress.session().setHudHidden(safeGetBoolean(rs, "hud_hidden", false));
-                        progress.session().setPlayersHidden(safeGetBoolean(rs, "players_hidden", false));
-                        progress.automation().setBreakAscensionEnabled(safeGetBoolean(rs, "break_ascension_enabled", false));
-
-                        progress.automation().setAutoElevationEnabled(safeGetBoolean(rs, "auto_elevation_enabled", false));
-                        progress.automation().setAutoElevationTimerSeconds(safeGetInt(rs, "auto_elevation_timer_seconds", 0));
-                        progress.automation().setAutoElevationTargets(parseTargets(safeGetString(rs, "auto_elevation_targets", "[]")));
-                        progress.automation().setAutoElevationTargetIndex(safeGetInt(rs, "auto_elevation_target_index", 0));
-
-                        progress.automation().setAutoSummitEnabled(safeGetBoolean(rs, "auto_summit_enabled", false));
-                        progress.automation().setAutoSummitTimerSeconds(safeGetInt(rs, "auto_summit_timer_seconds", 0));
-                        progress.automation().setAutoSummitConfig(parseAutoSummitConfig(safeGetString(rs, "auto_summit_config", "[]")));
-                        progress.automation().setAutoSummitRotationIndex(safeGetInt(rs, "auto_summit_rotation_index", 0));
-
-                        progress.gameplay().setTranscendenceCount(safeGetInt(rs, "transcendence_count", 0));
-                        progress.automation().setAutoAscendEnabled(safeGetBoolean(rs, "auto_ascend_enabled", false));
+                    while (rs.next()) {
+                        UUID playerId = UUID.fromString(rs.getString("uuid"));
+                        loaded.put(playerId, readPlayerRow(rs, playerId));
+                        persistedRows.put(playerId, new PersistedChildRows());
                     }
                 }
             }
 
-            // If player doesn't exist in database, return null
-            if (progress == null) {
-                return null;
+            if (!loaded.isEmpty()) {
+                try (PreparedStatement stmt = conn.prepareStatement(childSql)) {
+                    DatabaseManager.applyQueryTimeout(stmt);
+                    for (int table = 0; table < 5; table++) {
+                        bindPlayerIds(stmt, playerIds, table * playerIds.size() + 1);
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            UUID playerId = UUID.fromString(rs.getString("player_uuid"));
+                            AscendPlayerProgress progress = loaded.get(playerId);
+                            if (progress != null) {
+                                readChildRow(rs, progress, persistedRows.get(playerId));
+                            }
+                        }
+                    }
+                }
             }
-
-            // Load related data on the same connection
-            loadMapProgressForPlayer(conn, playerId, progress);
-            loadSummitLevelsForPlayer(conn, playerId, progress);
-            loadSkillNodesForPlayer(conn, playerId, progress);
-            compensateSkillTreeCostChanges(playerId, progress);
-            loadAchievementsForPlayer(conn, playerId, progress);
-            loadCatsForPlayer(conn, playerId, progress);
         } catch (SQLException e) {
-            LOGGER.atSevere().log("Failed to load player " + playerId + ": " + e.getMessage());
+            LOGGER.atSevere().log("Failed to load players " + playerIds + ": " + e.getMessage());
             return null;
         }
 
-        return progress;
+        for (UUID playerId : playerIds) {
+            AscendPlayerProgress progress = loaded.get(playerId);
+            if (progress != null) {
+                compensateSkillTreeCostChanges(playerId, progress);
+            }
+            saveScheduler.recordPersistedRows(playerId,
+                    persistedRows.getOrDefault(playerId, new PersistedChildRows()));
+        }
+        return loaded;
     }
 
-    private void loadMapProgressForPlayer(Connection conn, UUID playerId, AscendPlayerProgress progress) throws SQLException {
-        String sql = """
-            SELECT map_id, unlocked, completed_manually, has_robot,
-                   robot_speed_level, robot_stars, multiplier_mantissa, multiplier_exp10, best_time_ms
-            FROM ascend_player_maps
-            WHERE player_uuid = ?
-            """;
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            DatabaseManager.applyQueryTimeout(stmt);
-            stmt.setString(1, playerId.toString());
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String mapId = rs.getString("map_id");
-                    MapProgress mapProgress = progress.gameplay().getOrCreateMapProgress(mapId);
-                    mapProgress.setUnlocked(rs.getBoolean("unlocked"));
-                    mapProgress.setCompletedManually(rs.getBoolean("completed_manually"));
-                    mapProgress.setHasRobot(rs.getBoolean("has_robot"));
-                    mapProgress.setRobotSpeedLevel(rs.getInt("robot_speed_level"));
-                    mapProgress.setRobotStars(rs.getInt("robot_stars"));
-                    mapProgress.setMultiplier(BigNumber.of(rs.getDouble("multiplier_mantissa"), rs.getInt("multiplier_exp10")));
-                    long bestTime = rs.getLong("best_time_ms");
-                    if (!rs.wasNull()) {
-                        mapProgress.setBestTimeMs(bestTime);
-                    }
-                }
-            }
+    private static void bindPlayerIds(PreparedStatement stmt, List<UUID> playerIds, int firstIndex) throws SQLException {
+        for (int i = 0; i < playerIds.size(); i++) {
+            stmt.setString(firstIndex + i, playerIds.get(i).toString());
         }
     }
 
-    private void loadSummitLevelsForPlayer(Connection conn, UUID playerId, AscendPlayerProgress progress) throws SQLException {
-        String sql = "SELECT category, xp FROM ascend_player_summit WHERE player_uuid = ?";
+    private AscendPlayerProgress readPlayerRow(ResultSet rs, UUID playerId) throws SQLException {
+        String dbName = safeGetString(rs, "player_name", null);
+        if (dbName != null) {
+            playerNames.put(playerId, dbName);
+        }
+        AscendPlayerProgress progress = new AscendPlayerProgress();
+        progress.economy().setVolt(BigNumber.of(rs.getDouble("volt_mantissa"), rs.getInt("volt_exp10")));
+        progress.economy().setElevationMultiplier(rs.getInt("elevation_multiplier"));
+
+        progress.gameplay().setAscensionCount(safeGetInt(rs, "ascension_count", 0));
+        progress.gameplay().setSkillTreePoints(safeGetInt(rs, "skill_tree_points", 0));
+        progress.economy().setTotalVoltEarned(safeGetBigNumber(rs, "total_volt_earned_mantissa", "total_volt_earned_exp10"));
+        progress.gameplay().setTotalManualRuns(safeGetInt(rs, "total_manual_runs", 0));
+
+        Long ascensionStartedAt = safeGetLong(rs, "ascension_started_at");
+        if (ascensionStartedAt != null) {
+            progress.gameplay().setAscensionStartedAt(ascensionStartedAt);
+        }
 
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            DatabaseManager.applyQueryTimeout(stmt);
-            stmt.setString(1, playerId.toString());
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String categoryName = rs.getString("category");
-                    double xp = rs.getDouble("xp");
-                    try {
-                        SummitCategory category = SummitCategory.valueOf(categoryName);
-                        progress.economy().setSummitXp(category, xp);
-                    } catch (IllegalArgumentException ignored) {
-                        // Unknown category
-                    }
-                }
-            }
+        Long fastestAscensionMs = safeGetLong(rs, "fastest_ascension_ms");
+        if (fastestAscensionMs != null) {
+            progress.gameplay().setFastestAscensionMs(fastestAscensionMs);
         }
-    }
 
-    private void loadSkillNodesForPlayer(Connection conn, UUID playerId, AscendPlayerProgress progress) throws SQLException {
-        String sql = "SELECT skill_node FROM ascend_player_skills WHERE player_uuid = ?";
+        BigNumber summitAccumulated = safeGetBigNumber(rs, "summit_accumulated_volt_mantissa", "summit_accumulated_volt_exp10");
+        if (!summitAccumulated.isZero()) {
+            progress.economy().setSummitAccumulatedVolt(summitAccumulated);
+        }
 
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            DatabaseManager.applyQueryTimeout(stmt);
-            stmt.setString(1, playerId.toString());
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String nodeName = rs.getString("skill_node");
-                    // Migration: ELEVATION_REMNANT replaced by AUTO_ELEVATION
-                    if ("ELEVATION_REMNANT".equals(nodeName)) {
-                        nodeName = "AUTO_ELEVATION";
-                    }
-                    // Migration: ELEVATION_BOOST replaced by AUTO_ASCEND
-                    if ("ELEVATION_BOOST".equals(nodeName)) {
-                        nodeName = "AUTO_ASCEND";
-                    }
-                    try {
-                        SkillTreeNode node = SkillTreeNode.valueOf(nodeName);
-                        progress.gameplay().unlockSkillNode(node);
-                    } catch (IllegalArgumentException ignored) {
-                        // Unknown node
-                    }
+        BigNumber elevationAccumulated = safeGetBigNumber(rs, "elevation_accumulated_volt_mantissa", "elevation_accumulated_volt_exp10");
+        if (!elevationAccumulated.isZero()) {
+            progress.economy().setElevationAccumulatedVolt(elevationAccumulated);
+        }
+
+        progress.automation().setAutoUpgradeEnabled(safeGetBoolean(rs, "auto_upgrade_enabled", false));
+        progress.automation().setAutoEvolutionEnabled(safeGetBoolean(rs, "auto_evolution_enabled", false));
+        progress.gameplay().setSeenTutorials(safeGetInt(rs, "seen_tutorials", 0));
+        progress.automation().setHideOtherRunners(safeGetBoolean(rs, "hide_other_runners", false));
+        progress.session().setHudHidden(safeGetBoolean(rs, "hud_hidden", false));
+        progress.session().setPlayersHidden(safeGetBoolean(rs, "players_hidden", false));
+        progress.automation().setBreakAscensionEnabled(safeGetBoolean(rs, "break_ascension_enabled", false));
+
+        progress.automation().setAutoElevationEnabled(safeGetBoolean(rs, "auto_elevation_enabled", false));
+        progress.automation().setAutoElevationTimerSeconds(safeGetInt(rs, "auto_elevation_timer_seconds", 0));
+        progress.automation().setAutoElevationTargets(parseTargets(safeGetString(rs, "auto_elevation_targets", "[]")));
+        progress.automation().setAutoElevationTargetIndex(safeGetInt(rs, "auto_elevation_target_index", 0));
+
+        progress.automation().setAutoSummitEnabled(safeGetBoolean(rs, "auto_summit_enabled", false));
+        progress.automation().setAutoSummitTimerSeconds(safeGetInt(rs, "auto_summit_timer_seconds", 0));
+        progress.automation().setAutoSummitConfig(parseAutoSummitConfig(safeGetString(rs, "auto_summit_config", "[]")));
+        progress.automation().setAutoSummitRotationIndex(safeGetInt(rs, "auto_summit_rotation_index", 0));
+
+        progress.gameplay().setTranscendenceCount(safeGetInt(rs, "transcendence_count", 0));
+        progress.automation().setAutoAscendEnabled(safeGetBoolean(rs, "auto_ascend_enabled", false));
+        return progress;
+    }
+
+    private static void readChildRow(ResultSet rs, AscendPlayerProgress progress,
+                                     PersistedChildRows persisted) throws SQLException {
+        String key = rs.getString("row_key");
+        switch (rs.getInt("row_kind")) {
+            case 0 -> {
+                MapProgress mapProgress = progress.gameplay().getOrCreateMapProgress(key);
+                mapProgress.setUnlocked(rs.getBoolean("unlocked"));
+                mapProgress.setCompletedManually(rs.getBoolean("completed_manually"));
+                mapProgress.setHasRobot(rs.getBoolean("has_robot"));
+                mapProgress.setRobotSpeedLevel(rs.getInt("robot_speed_level"));
+                mapProgress.setRobotStars(rs.getInt("robot_stars"));
+                mapProgress.setMultiplier(BigNumber.of(rs.getDouble("multiplier_mantissa"), rs.getInt("multiplier_exp10")));
+                long bestTime = rs.getLong("best_time_ms");
+                if (!rs.wasNull()) {
+                    mapProgress.setBestTimeMs(bestTime);
                 }
+                persisted.maps.put(key, PersistedChildRows.MapRow.of(mapProgress));
+            }
+            case 1 -> {
+                double xp = rs.getDouble("multiplier_mantissa");
+                try {
+                    SummitCategory category = SummitCategory.valueOf(key);
+                    progress.economy().setSummitXp(category, xp);
+                    persisted.summitXp.put(category.name(), xp);
+                } catch (IllegalArgumentException ignored) {
+                    // Unknown category
+                }
+            }
+            case 2 -> {
+                String nodeName = key;
+                // Migration: ELEVATION_REMNANT replaced by AUTO_ELEVATION
+                if ("ELEVATION_REMNANT".equals(nodeName)) {
+                    nodeName = "AUTO_ELEVATION";
+                }
+                // Migration: ELEVATION_BOOST replaced by AUTO_ASCEND
+                if ("ELEVATION_BOOST".equals(nodeName)) {
+                    nodeName = "AUTO_ASCEND";
+                }
+                try {
+                    SkillTreeNode node = SkillTreeNode.valueOf(nodeName);
+                    progress.gameplay().unlockSkillNode(node);
+                    // Keep the stored (possibly legacy) name so the next save replaces it
+                    persisted.skillNodes.add(key);
+                } catch (IllegalArgumentException ignored) {
+                    // Unknown node
+                }
+            }
+            case 3 -> {
+                try {
+                    AchievementType achievement = AchievementType.valueOf(key);
+                    progress.gameplay().unlockAchievement(achievement);
+                    persisted.achievements.add(key);
+                } catch (IllegalArgumentException ignored) {
+                    // Unknown achievement
+                }
+            }
+            case 4 -> {
+                progress.gameplay().addFoundCat(key);
+                persisted.cats.add(key);
+            }
+            default -> {
             }
         }
     }
@@ -372,40 +440,6 @@ class AscendPlayerPersistence {
         }
     }
 
-    private void loadAchievementsForPlayer(Connection conn, UUID playerId, AscendPlayerProgress progress) throws SQLException {
-        String sql = "SELECT achievement FROM ascend_player_achievements WHERE player_uuid = ?";
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            DatabaseManager.applyQueryTimeout(stmt);
-            stmt.setString(1, playerId.toString());
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    String achievementName = rs.getString("achievement");
-                    try {
-                        AchievementType achievement = AchievementType.valueOf(achievementName);
-                        progress.gameplay().unlockAchievement(achievement);
-                    } catch (IllegalArgumentException ignored) {
-                        // Unknown achievement
-                    }
-                }
-            }
-        }
-    }
-
-    private void loadCatsForPlayer(Connection conn, UUID playerId, AscendPlayerProgress progress) throws SQLException {
-        String sql = "SELECT cat_token FROM ascend_player_cats WHERE player_uuid = ?";
-
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            DatabaseManager.applyQueryTimeout(stmt);
-            stmt.setString(1, playerId.toString());
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    progress.gameplay().addFoundCat(rs.getString("cat_token"));
-                }
-            }
-        }
-    }
-
     // ========================================
     // Delete
     // ========================================
@@ -6,9 +6,11 @@ public class AscendPlayerProgress {
     private final GameplayState gameplay = new GameplayState();
     private final AutomationConfig automation = new AutomationConfig();
     private final SessionState session = new SessionState();
+    private final CompletionPayoutCache completionPayoutCache = new CompletionPayoutCache();
 
     public EconomyState economy() { return economy; }
     public GameplayState gameplay() { return gameplay; }
     public AutomationConfig automation() { return automation; }
     public SessionState session() { return session; }
+    CompletionPayoutCache completionPayoutCache() { return completionPayoutCache; }
 }
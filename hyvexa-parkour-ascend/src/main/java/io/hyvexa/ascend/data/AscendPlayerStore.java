@@ -129,6 +129,7 @@ public class AscendPlayerStore {
         }
 
         migrateAscensionTimer(playerId, loaded);
+        persistence.updateLeaderboardEntry(playerId);
         return loaded;
     }
 
@@ -164,6 +165,7 @@ public class AscendPlayerStore {
         }
         String trimmed = name.length() > 32 ? name.substring(0, 32) : name;
         playerNames.put(playerId, trimmed);
+        persistence.updateLeaderboardEntry(playerId);
     }
 
     public String getPlayerName(UUID playerId) {
@@ -175,7 +177,11 @@ public class AscendPlayerStore {
             return;
         }
         persistence.markDirty(playerId);
+        persistence.updateLeaderboardEntry(playerId);
         persistence.queueSave();
+        if (robotManager != null) {
+            robotManager.onPlayerProgressChanged(playerId);
+        }
     }
 
     public void flushPendingSave() {
@@ -388,12 +394,26 @@ public class AscendPlayerStore {
         robotManager.markPlayerDirty(playerId);
     }
 
-    public List<LeaderboardEntry> getLeaderboardEntries() {
-        return persistence.getLeaderboardEntries();
+    /**
+     * Entries of a global leaderboard in rank order, starting at 0-based {@code offset}.
+     * Served from the in-memory index; no database read after the first call.
+     */
+    public List<LeaderboardEntry> getLeaderboardPage(AscendLeaderboardCategory category, int offset, int limit) {
+        return persistence.getLeaderboardPage(category, offset, limit);
+    }
+
+    /** 1-based rank of the player on a global leaderboard, or -1 when not listed. */
+    public int getLeaderboardRank(AscendLeaderboardCategory category, UUID playerId) {
+        return persistence.getLeaderboardRank(category, playerId);
+    }
+
+    public int getLeaderboardSize(AscendLeaderboardCategory category) {
+        return persistence.getLeaderboardSize(category);
     }
 
-    public void invalidateLeaderboardCache() {
-        persistence.invalidateLeaderboardCache();
+    /** Players known to the global leaderboards, including those not listed in any category. */
+    public int getLeaderboardPlayerCount() {
+        return persistence.getLeaderboardPlayerCount();
     }
 
     public void invalidateMapLeaderboardCache(String mapId) {
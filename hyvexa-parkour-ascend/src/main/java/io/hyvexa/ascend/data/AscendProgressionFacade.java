@@ -5,6 +5,7 @@ import io.hyvexa.ascend.SummitConstants;
 import io.hyvexa.ascend.SummitConstants.SummitCategory;
 import io.hyvexa.ascend.ascension.ChallengeManager;
 import io.hyvexa.common.math.BigNumber;
+import io.hyvexa.common.math.BigNumberAccumulator;
 
 import java.util.List;
 import java.util.Map;
@@ -153,7 +154,7 @@ public class AscendProgressionFacade {
         for (int i = 0; i < slots; i++) {
             digits[i] = BigNumber.ONE;
         }
-        BigNumber product = BigNumber.ONE;
+        BigNumberAccumulator product = new BigNumberAccumulator(BigNumber.ONE);
         if (maps != null && !maps.isEmpty() && slots > 0) {
             AscendPlayerProgress progress = players.get(playerId);
             Map<String, GameplayState.MapProgress> mapProgressMap = progress != null
@@ -172,25 +173,37 @@ public class AscendProgressionFacade {
                     value = value.multiply(BigNumber.fromDouble(challengeMapBonus));
                 }
                 digits[index] = value;
-                product = product.multiply(value.max(BigNumber.ONE));
+                product.multiply(value.max(BigNumber.ONE));
                 index++;
             }
         }
-        BigNumber elevation = BigNumber.fromDouble(getCalculatedElevationMultiplier(playerId));
-        product = product.multiply(elevation);
-        return new AscendPlayerStore.MultiplierResult(product, digits);
+        product.multiply(BigNumber.fromDouble(getCalculatedElevationMultiplier(playerId)));
+        return new AscendPlayerStore.MultiplierResult(product.toBigNumber(), digits);
     }
 
     /**
      * Computes the multiplier product (with optional bonus on one map) in a single pass.
      * Used for payout calculations where a bonus amount is added to one specific map slot.
+     * Without a bonus the result is cached per player and only the slots whose inputs changed are
+     * recomputed, so repeated calls with unchanged progress return the same instance.
      */
     public BigNumber getCompletionPayout(UUID playerId, List<AscendMap> maps, int slotCount, String mapId, BigNumber bonusAmount) {
-        BigNumber product = BigNumber.ONE;
+        if (bonusAmount != null && bonusAmount.isZero()) {
+            AscendPlayerProgress progress = players.get(playerId);
+            if (progress != null) {
+                return getCachedCompletionPayout(playerId, progress, maps, Math.max(0, slotCount));
+            }
+        }
+        return computeCompletionPayout(playerId, maps, slotCount, mapId, bonusAmount);
+    }
+
+    /** Uncached {@link #getCompletionPayout}; the cached path must always agree with it. */
+    BigNumber computeCompletionPayout(UUID playerId, List<AscendMap> maps, int slotCount, String mapId, BigNumber bonusAmount) {
+        BigNumberAccumulator product = new BigNumberAccumulator(BigNumber.ONE);
         int slots = Math.max(0, slotCount);
         if (maps == null || maps.isEmpty() || slots == 0) {
             BigNumber elevation = BigNumber.fromDouble(getCalculatedElevationMultiplier(playerId));
-            return product.multiply(elevation);
+            return product.multiply(elevation).toBigNumber();
         }
         AscendPlayerProgress progress = players.get(playerId);
         Map<String, GameplayState.MapProgress> mapProgressMap = progress != null
@@ -211,11 +224,67 @@ public class AscendProgressionFacade {
             if (map.getId().equals(mapId)) {
                 value = value.add(bonusAmount);
             }
-            product = product.multiply(value.max(BigNumber.ONE));
+            product.multiply(value.max(BigNumber.ONE));
             index++;
         }
         BigNumber elevation = BigNumber.fromDouble(getCalculatedElevationMultiplier(playerId));
-        return product.multiply(elevation);
+        return product.multiply(elevation).toBigNumber();
+    }
+
+    private BigNumber getCachedCompletionPayout(UUID playerId, AscendPlayerProgress progress, List<AscendMap> maps, int slots) {
+        CompletionPayoutCache cache = progress.completionPayoutCache();
+        synchronized (cache) {
+            // Read every stamp before the value it guards, so a concurrent change is caught on the next call.
+            GameplayState gameplay = progress.gameplay();
+            int rewardsVersion = gameplay.getChallengeRewardsVersion();
+            if (cache.slotCount != slots || cache.challengeSource != challengeManager
+                    || cache.rewardsVersion != rewardsVersion) {
+                cache.reset(slots, challengeManager, rewardsVersion);
+            }
+            int elevationLevel = progress.economy().getElevationMultiplier();
+            if (cache.elevation == null || cache.elevationLevel != elevationLevel) {
+                cache.elevationLevel = elevationLevel;
+                cache.elevation = BigNumber.fromDouble(getCalculatedElevationMultiplier(playerId));
+                cache.payout = null;
+            }
+
+            int index = 0;
+            if (maps != null && slots > 0) {
+                Map<String, GameplayState.MapProgress> mapProgressMap = gameplay.getMapProgress();
+                for (AscendMap map : maps) {
+                    if (index >= slots) {
+                        break;
+                    }
+                    if (map == null || map.getId() == null) {
+                        continue;
+                    }
+                    GameplayState.MapProgress mapProgress = mapProgressMap.get(map.getId());
+                    BigNumber multiplier = mapProgress != null ? mapProgress.getMultiplier() : null;
+                    if (index >= cache.usedSlots || !cache.slotMatches(index, map, mapProgress, multiplier)) {
+                        BigNumber value = multiplier != null ? multiplier.max(BigNumber.ONE) : BigNumber.ONE;
+                        double challengeMapBonus = getChallengeMapBonus(playerId, map.getDisplayOrder());
+                        if (challengeMapBonus > 1.0) {
+                            value = value.multiply(BigNumber.fromDouble(challengeMapBonus));
+                        }
+                        cache.setSlot(index, map, mapProgress, multiplier, value.max(BigNumber.ONE));
+                    }
+                    index++;
+                }
+            }
+            if (index != cache.usedSlots) {
+                cache.usedSlots = index;
+                cache.payout = null;
+            }
+
+            if (cache.payout == null) {
+                BigNumberAccumulator product = new BigNumberAccumulator(BigNumber.ONE);
+                for (int i = 0; i < index; i++) {
+                    product.multiply(cache.factor(i));
+                }
+                cache.payout = product.multiply(cache.elevation).toBigNumber();
+            }
+            return cache.payout;
+        }
     }
 
     private static BigNumber getMapMultiplierFromProgress(Map<String, GameplayState.MapProgress> mapProgressMap, String mapId) {
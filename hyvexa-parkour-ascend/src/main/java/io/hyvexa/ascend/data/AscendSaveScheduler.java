@@ -10,6 +10,7 @@ import io.hyvexa.ascend.data.GameplayState.MapProgress;
 import io.hyvexa.core.db.ConnectionProvider;
 import io.hyvexa.core.db.DatabaseManager;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -34,6 +35,15 @@ class AscendSaveScheduler {
 
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
 
+    /** Child tables cleared by a per-player reset before its rows are rewritten. */
+    private static final String[] RESET_CHILD_TABLES = {
+        "ascend_player_maps",
+        "ascend_player_summit",
+        "ascend_player_skills",
+        "ascend_player_achievements",
+        "ascend_player_cats"
+    };
+
     private final ConnectionProvider db;
     private final Map<UUID, AscendPlayerProgress> players;
     private final Map<UUID, String> playerNames;
@@ -45,6 +55,8 @@ class AscendSaveScheduler {
     private final AtomicBoolean saveQueued = new AtomicBoolean(false);
     private final AtomicReference<ScheduledFuture<?>> saveFuture = new AtomicReference<>();
     private final ReentrantReadWriteLock saveLock = new ReentrantReadWriteLock();
+    /** Child rows each resident player has in the database; written only by load and committed saves. */
+    private final Map<UUID, PersistedChildRows> persistedRows = new ConcurrentHashMap<>();
 
     AscendSaveScheduler(ConnectionProvider db,
                         Map<UUID, AscendPlayerProgress> players,
@@ -94,12 +106,23 @@ class AscendSaveScheduler {
         return null;
     }
 
+    /**
+     * Records the child rows a fresh database load found for a player, so the next
+     * save only writes what changed since then.
+     */
+    void recordPersistedRows(UUID playerId, PersistedChildRows rows) {
+        if (playerId != null && rows != null) {
+            persistedRows.put(playerId, rows);
+        }
+    }
+
     /**
      * Clear all dirty tracking state (used during full reset).
      */
     void clearDirtyState() {
         dirtyPlayerVersions.clear();
         detachedDirtyPlayers.clear();
+        persistedRows.clear();
     }
 
     // ========================================
@@ -147,6 +170,7 @@ class AscendSaveScheduler {
         Long dirtyVersion = dirtyPlayerVersions.get(playerId);
         if (dirtyVersion == null) {
             detachedDirtyPlayers.remove(playerId);
+            persistedRows.remove(playerId);
             return;
         }
         AscendPlayerProgress progress = detachedDirtyPlayers.get(playerId);
@@ -326,34 +350,40 @@ class AscendSaveScheduler {
             """;
 
         String deleteChildSql = "DELETE FROM %s WHERE player_uuid = ?";
+        String deleteMapSql = "DELETE FROM ascend_player_maps WHERE player_uuid = ? AND map_id = ?";
+        String deleteSkillSql = "DELETE FROM ascend_player_skills WHERE player_uuid = ? AND skill_node = ?";
+        String deleteAchievementSql = "DELETE FROM ascend_player_achievements WHERE player_uuid = ? AND achievement = ?";
+        String deleteCatSql = "DELETE FROM ascend_player_cats WHERE player_uuid = ? AND cat_token = ?";
 
         SaveResult result = this.db.withTransaction(conn -> {
-            try (PreparedStatement playerStmt = conn.prepareStatement(playerSql);
-                 PreparedStatement mapStmt = conn.prepareStatement(mapSql);
-                 PreparedStatement summitStmt = conn.prepareStatement(summitSql);
-                 PreparedStatement skillStmt = conn.prepareStatement(skillSql);
-                 PreparedStatement achievementStmt = conn.prepareStatement(achievementSql);
-                 PreparedStatement catStmt = conn.prepareStatement(catSql)) {
-                DatabaseManager.applyQueryTimeout(playerStmt);
-                DatabaseManager.applyQueryTimeout(mapStmt);
-                DatabaseManager.applyQueryTimeout(summitStmt);
-                DatabaseManager.applyQueryTimeout(skillStmt);
-                DatabaseManager.applyQueryTimeout(achievementStmt);
-                DatabaseManager.applyQueryTimeout(catStmt);
-
-                // Delete statements are only needed for reset-pending players;
-                // created lazily to avoid unnecessary PreparedStatement allocation.
-                PreparedStatement delMaps = null;
-                PreparedStatement delSummit = null;
-                PreparedStatement delSkills = null;
-                PreparedStatement delAchievements = null;
-                PreparedStatement delCats = null;
-                PreparedStatement delChallengeRecords = null;
-
-                Map<UUID, Long> persistedVersions = new HashMap<>();
-                List<UUID> committedResets = new ArrayList<>();
-                List<UUID> committedChallengeResets = new ArrayList<>();
-                try {
+            // Statements are prepared on first use so a flush that only touches a few rows
+            // does not allocate statements for tables it never writes.
+            List<LazyStatement> resetDeletes = new ArrayList<>();
+            for (String table : RESET_CHILD_TABLES) {
+                resetDeletes.add(new LazyStatement(conn, String.format(deleteChildSql, table)));
+            }
+            LazyStatement delChallengeRecords = new LazyStatement(conn, String.format(deleteChildSql, "ascend_challenge_records"));
+            LazyStatement delMap = new LazyStatement(conn, deleteMapSql);
+            LazyStatement delSkill = new LazyStatement(conn, deleteSkillSql);
+            LazyStatement delAchievement = new LazyStatement(conn, deleteAchievementSql);
+            LazyStatement delCat = new LazyStatement(conn, deleteCatSql);
+            LazyStatement playerStmt = new LazyStatement(conn, playerSql);
+            LazyStatement mapStmt = new LazyStatement(conn, mapSql);
+            LazyStatement summitStmt = new LazyStatement(conn, summitSql);
+            LazyStatement skillStmt = new LazyStatement(conn, skillSql);
+            LazyStatement achievementStmt = new LazyStatement(conn, achievementSql);
+            LazyStatement catStmt = new LazyStatement(conn, catSql);
+
+            // Execution order: full resets first, then targeted deletes, then upserts.
+            List<LazyStatement> executionOrder = new ArrayList<>(resetDeletes);
+            executionOrder.addAll(List.of(delChallengeRecords, delMap, delSkill, delAchievement, delCat,
+                    playerStmt, mapStmt, summitStmt, skillStmt, achievementStmt, catStmt));
+
+            Map<UUID, Long> persistedVersions = new HashMap<>();
+            Map<UUID, PersistedChildRows> writtenRows = new HashMap<>();
+            List<UUID> committedResets = new ArrayList<>();
+            List<UUID> committedChallengeResets = new ArrayList<>();
+            try {
                 for (Map.Entry<UUID, Long> dirtyEntry : toSave.entrySet()) {
                     UUID playerId = dirtyEntry.getKey();
                     AscendPlayerProgress progress = resolveProgressForSave(playerId, progressOverrides);
@@ -361,151 +391,115 @@ class AscendSaveScheduler {
                         continue;
                     }
                     persistedVersions.put(playerId, dirtyEntry.getValue());
+                    String pid = playerId.toString();
+
+                    // Rows already in the table. Unknown (never loaded) players diff against an empty
+                    // set: every live row is upserted and nothing is deleted, as before diffing existed.
+                    PersistedChildRows stored = persistedRows.get(playerId);
 
                     // If this player was recently reset, delete all child rows first
                     // to prevent stale upserts from re-inserting deleted data.
                     // Only remove flags after successful commit to avoid losing reset intent on rollback.
                     if (resetPendingPlayers.contains(playerId)) {
-                        if (delMaps == null) {
-                            delMaps = conn.prepareStatement(String.format(deleteChildSql, "ascend_player_maps"));
-                            delSummit = conn.prepareStatement(String.format(deleteChildSql, "ascend_player_summit"));
-                            delSkills = conn.prepareStatement(String.format(deleteChildSql, "ascend_player_skills"));
-                            delAchievements = conn.prepareStatement(String.format(deleteChildSql, "ascend_player_achievements"));
-                            delCats = conn.prepareStatement(String.format(deleteChildSql, "ascend_player_cats"));
-                        }
-                        String pid = playerId.toString();
-                        for (PreparedStatement delStmt : new PreparedStatement[]{delMaps, delSummit, delSkills, delAchievements, delCats}) {
-                            delStmt.setString(1, pid);
-                            delStmt.executeUpdate();
+                        for (LazyStatement delStmt : resetDeletes) {
+                            delStmt.get().setString(1, pid);
+                            delStmt.get().addBatch();
                         }
+                        stored = null;
                         committedResets.add(playerId);
                     }
+                    if (stored == null) {
+                        stored = new PersistedChildRows();
+                    }
 
                     // Transcendence reset: additionally delete challenge records
                     if (transcendenceResetPending.contains(playerId)) {
-                        if (delChallengeRecords == null) {
-                            delChallengeRecords = conn.prepareStatement(String.format(deleteChildSql, "ascend_challenge_records"));
-                        }
-                        delChallengeRecords.setString(1, playerId.toString());
-                        delChallengeRecords.executeUpdate();
+                        delChallengeRecords.get().setString(1, pid);
+                        delChallengeRecords.get().addBatch();
                         committedChallengeResets.add(playerId);
                     }
 
                     // Save player base data
-                    playerStmt.setString(1, playerId.toString());
-                    playerStmt.setString(2, playerNames.get(playerId));
-                    playerStmt.setDouble(3, progress.economy().getVolt().getMantissa());
-                    playerStmt.setInt(4, progress.economy().getVolt().getExponent());
-                    playerStmt.setInt(5, progress.economy().getElevationMultiplier());
-                    playerStmt.setInt(6, progress.gameplay().getAscensionCount());
-                    playerStmt.setInt(7, progress.gameplay().getSkillTreePoints());
-                    playerStmt.setDouble(8, progress.economy().getTotalVoltEarned().getMantissa());
-                    playerStmt.setInt(9, progress.economy().getTotalVoltEarned().getExponent());
-                    playerStmt.setInt(10, progress.gameplay().getTotalManualRuns());
-                    playerStmt.setNull(11, java.sql.Types.VARCHAR);
-                    if (progress.gameplay().getAscensionStartedAt() != null) {
-                        playerStmt.setLong(12, progress.gameplay().getAscensionStartedAt());
-                    } else {
-                        playerStmt.setNull(12, java.sql.Types.BIGINT);
-                    }
-                    if (progress.gameplay().getFastestAscensionMs() != null) {
-                        playerStmt.setLong(13, progress.gameplay().getFastestAscensionMs());
-                    } else {
-                        playerStmt.setNull(13, java.sql.Types.BIGINT);
-                    }
-                    playerStmt.setDouble(14, progress.economy().getSummitAccumulatedVolt().getMantissa());
-                    playerStmt.setInt(15, progress.economy().getSummitAccumulatedVolt().getExponent());
-                    playerStmt.setDouble(16, progress.economy().getElevationAccumulatedVolt().getMantissa());
-                    playerStmt.setInt(17, progress.economy().getElevationAccumulatedVolt().getExponent());
-                    playerStmt.setBoolean(18, progress.automation().isAutoUpgradeEnabled());
-                    playerStmt.setBoolean(19, progress.automation().isAutoEvolutionEnabled());
-                    playerStmt.setInt(20, progress.gameplay().getSeenTutorials());
-                    playerStmt.setBoolean(21, progress.automation().isHideOtherRunners());
-                    playerStmt.setBoolean(22, progress.automation().isBreakAscensionEnabled());
-                    playerStmt.setBoolean(23, progress.automation().isAutoElevationEnabled());
-                    playerStmt.setInt(24, progress.automation().getAutoElevationTimerSeconds());
-                    playerStmt.setString(25, AscendPlayerPersistence.serializeTargets(progress.automation().getAutoElevationTargets()));
-                    playerStmt.setInt(26, progress.automation().getAutoElevationTargetIndex());
-                    playerStmt.setBoolean(27, progress.automation().isAutoSummitEnabled());
-                    playerStmt.setInt(28, progress.automation().getAutoSummitTimerSeconds());
-                    playerStmt.setString(29, AscendPlayerPersistence.serializeAutoSummitConfig(progress.automation().getAutoSummitConfig()));
-                    playerStmt.setInt(30, progress.automation().getAutoSummitRotationIndex());
-                    playerStmt.setInt(31, progress.gameplay().getTranscendenceCount());
-                    playerStmt.setBoolean(32, progress.automation().isAutoAscendEnabled());
-                    playerStmt.setBoolean(33, progress.session().isHudHidden());
-                    playerStmt.setBoolean(34, progress.session().isPlayersHidden());
-                    playerStmt.addBatch();
-
-                    // Save map progress
+                    bindPlayerRow(playerStmt.get(), playerId, progress);
+                    playerStmt.get().addBatch();
+
+                    PersistedChildRows written = new PersistedChildRows();
+                    writtenRows.put(playerId, written);
+
+                    // Save changed map progress
                     for (Map.Entry<String, MapProgress> entry : progress.gameplay().getMapProgress().entrySet()) {
-                        MapProgress mapProgress = entry.getValue();
-                        mapStmt.setString(1, playerId.toString());
-                        mapStmt.setString(2, entry.getKey());
-                        mapStmt.setBoolean(3, mapProgress.isUnlocked());
-                        mapStmt.setBoolean(4, mapProgress.isCompletedManually());
-                        mapStmt.setBoolean(5, mapProgress.hasRobot());
-                        mapStmt.setInt(6, mapProgress.getRobotSpeedLevel());
-                        mapStmt.setInt(7, mapProgress.getRobotStars());
-                        mapStmt.setDouble(8, mapProgress.getMultiplier().getMantissa());
-                        mapStmt.setInt(9, mapProgress.getMultiplier().getExponent());
-                        if (mapProgress.getBestTimeMs() != null) {
-                            mapStmt.setLong(10, mapProgress.getBestTimeMs());
+                        PersistedChildRows.MapRow before = stored.maps.get(entry.getKey());
+                        PersistedChildRows.MapRow row = PersistedChildRows.MapRow.of(entry.getValue());
+                        PersistedChildRows.MapRow after = row.writtenOver(before);
+                        written.maps.put(entry.getKey(), after);
+                        if (after.equals(before)) {
+                            continue;
+                        }
+                        PreparedStatement stmt = mapStmt.get();
+                        stmt.setString(1, pid);
+                        stmt.setString(2, entry.getKey());
+                        stmt.setBoolean(3, row.unlocked());
+                        stmt.setBoolean(4, row.completedManually());
+                        stmt.setBoolean(5, row.hasRobot());
+                        stmt.setInt(6, row.robotSpeedLevel());
+                        stmt.setInt(7, row.robotStars());
+                        stmt.setDouble(8, row.multiplierMantissa());
+                        stmt.setInt(9, row.multiplierExp10());
+                        if (row.bestTimeMs() != null) {
+                            stmt.setLong(10, row.bestTimeMs());
                         } else {
-                            mapStmt.setNull(10, java.sql.Types.BIGINT);
+                            stmt.setNull(10, java.sql.Types.BIGINT);
+                        }
+                        stmt.addBatch();
+                    }
+                    for (String mapId : stored.maps.keySet()) {
+                        if (!written.maps.containsKey(mapId)) {
+                            addKeyedRow(delMap, pid, mapId);
                         }
-                        mapStmt.addBatch();
                     }
 
-                    // Save summit XP
+                    // Save changed summit XP
                     for (SummitCategory category : SummitCategory.values()) {
                         double xp = progress.economy().getSummitXp(category);
-                        summitStmt.setString(1, playerId.toString());
-                        summitStmt.setString(2, category.name());
-                        summitStmt.setDouble(3, xp);
-                        summitStmt.addBatch();
+                        Double before = stored.summitXp.get(category.name());
+                        written.summitXp.put(category.name(), xp);
+                        if (before != null && Double.compare(before, xp) == 0) {
+                            continue;
+                        }
+                        summitStmt.get().setString(1, pid);
+                        summitStmt.get().setString(2, category.name());
+                        summitStmt.get().setDouble(3, xp);
+                        summitStmt.get().addBatch();
                     }
 
                     // Save skill nodes
                     for (SkillTreeNode node : progress.gameplay().getUnlockedSkillNodes()) {
-                        skillStmt.setString(1, playerId.toString());
-                        skillStmt.setString(2, node.name());
-                        skillStmt.addBatch();
+                        written.skillNodes.add(node.name());
                     }
+                    diffKeyedRows(stored.skillNodes, written.skillNodes, pid, skillStmt, delSkill);
 
                     // Save achievements
                     for (AchievementType achievement : progress.gameplay().getUnlockedAchievements()) {
-                        achievementStmt.setString(1, playerId.toString());
-                        achievementStmt.setString(2, achievement.name());
-                        achievementStmt.addBatch();
+                        written.achievements.add(achievement.name());
                     }
+                    diffKeyedRows(stored.achievements, written.achievements, pid, achievementStmt, delAchievement);
 
                     // Save found cats
-                    for (String catToken : progress.gameplay().getFoundCats()) {
-                        catStmt.setString(1, playerId.toString());
-                        catStmt.setString(2, catToken);
-                        catStmt.addBatch();
-                    }
+                    written.cats.addAll(progress.gameplay().getFoundCats());
+                    diffKeyedRows(stored.cats, written.cats, pid, catStmt, delCat);
                 }
 
                 if (persistedVersions.isEmpty()) {
                     return null;
                 }
-                playerStmt.executeBatch();
-                mapStmt.executeBatch();
-                summitStmt.executeBatch();
-                skillStmt.executeBatch();
-                achievementStmt.executeBatch();
-                catStmt.executeBatch();
-
-                return new SaveResult(persistedVersions, committedResets, committedChallengeResets);
-                } finally {
-                    // Close lazily-created delete statements
-                    closeQuietly(delMaps);
-                    closeQuietly(delSummit);
-                    closeQuietly(delSkills);
-                    closeQuietly(delAchievements);
-                    closeQuietly(delCats);
-                    closeQuietly(delChallengeRecords);
+                for (LazyStatement stmt : executionOrder) {
+                    stmt.executeBatch();
+                }
+
+                return new SaveResult(persistedVersions, writtenRows, committedResets, committedChallengeResets);
+            } finally {
+                for (LazyStatement stmt : executionOrder) {
+                    stmt.close();
                 }
             }
         }, null);
@@ -514,6 +508,9 @@ class AscendSaveScheduler {
             return;
         }
 
+        // Commit succeeded — the written rows are now what the tables hold
+        persistedRows.putAll(result.writtenRows);
+
         // Commit succeeded — now safe to clear reset flags
         result.committedResets.forEach(resetPendingPlayers::remove);
         result.committedChallengeResets.forEach(transcendenceResetPending::remove);
@@ -523,12 +520,12 @@ class AscendSaveScheduler {
             UUID playerId = entry.getKey();
             Long savedVersion = entry.getValue();
             dirtyPlayerVersions.compute(playerId, (ignored, currentVersion) -> {
-                if (currentVersion == null) {
-                    detachedDirtyPlayers.remove(playerId);
-                    return null;
-                }
-                if (currentVersion.equals(savedVersion)) {
+                if (currentVersion == null || currentVersion.equals(savedVersion)) {
                     detachedDirtyPlayers.remove(playerId);
+                    // Evicted players drop their row baseline; a later load records a fresh one
+                    if (!players.containsKey(playerId)) {
+                        persistedRows.remove(playerId);
+                    }
                     return null;
                 }
                 return currentVersion;
@@ -536,13 +533,71 @@ class AscendSaveScheduler {
         }
     }
 
-    private static void closeQuietly(PreparedStatement stmt) {
-        if (stmt != null) {
-            try {
-                stmt.close();
-            } catch (SQLException ignored) {
+    private void bindPlayerRow(PreparedStatement playerStmt, UUID playerId,
+                               AscendPlayerProgress progress) throws SQLException {
+        playerStmt.setString(1, playerId.toString());
+        playerStmt.setString(2, playerNames.get(playerId));
+        playerStmt.setDouble(3, progress.economy().getVolt().getMantissa());
+        playerStmt.setInt(4, progress.economy().getVolt().getExponent());
+        playerStmt.setInt(5, progress.economy().getElevationMultiplier());
+        playerStmt.setInt(6, progress.gameplay().getAscensionCount());
+        playerStmt.setInt(7, progress.gameplay().getSkillTreePoints());
+        playerStmt.setDouble(8, progress.economy().getTotalVoltEarned().getMantissa());
+        playerStmt.setInt(9, progress.economy().getTotalVoltEarned().getExponent());
+        playerStmt.setInt(10, progress.gameplay().getTotalManualRuns());
+        playerStmt.setNull(11, java.sql.Types.VARCHAR);
+        if (progress.gameplay().getAscensionStartedAt() != null) {
+            playerStmt.setLong(12, progress.gameplay().getAscensionStartedAt());
+        } else {
+            playerStmt.setNull(12, java.sql.Types.BIGINT);
+        }
+        if (progress.gameplay().getFastestAscensionMs() != null) {
+            playerStmt.setLong(13, progress.gameplay().getFastestAscensionMs());
+        } else {
+            playerStmt.setNull(13, java.sql.Types.BIGINT);
+        }
+        playerStmt.setDouble(14, progress.economy().getSummitAccumulatedVolt().getMantissa());
+        playerStmt.setInt(15, progress.economy().getSummitAccumulatedVolt().getExponent());
+        playerStmt.setDouble(16, progress.economy().getElevationAccumulatedVolt().getMantissa());
+        playerStmt.setInt(17, progress.economy().getElevationAccumulatedVolt().getExponent());
+        playerStmt.setBoolean(18, progress.automation().isAutoUpgradeEnabled());
+        playerStmt.setBoolean(19, progress.automation().isAutoEvolutionEnabled());
+        playerStmt.setInt(20, progress.gameplay().getSeenTutorials());
+        playerStmt.setBoolean(21, progress.automation().isHideOtherRunners());
+        playerStmt.setBoolean(22, progress.automation().isBreakAscensionEnabled());
+        playerStmt.setBoolean(23, progress.automation().isAutoElevationEnabled());
+        playerStmt.setInt(24, progress.automation().getAutoElevationTimerSeconds());
+        playerStmt.setString(25, AscendPlayerPersistence.serializeTargets(progress.automation().getAutoElevationTargets()));
+        playerStmt.setInt(26, progress.automation().getAutoElevationTargetIndex());
+        playerStmt.setBoolean(27, progress.automation().isAutoSummitEnabled());
+        playerStmt.setInt(28, progress.automation().getAutoSummitTimerSeconds());
+        playerStmt.setString(29, AscendPlayerPersistence.serializeAutoSummitConfig(progress.automation().getAutoSummitConfig()));
+        playerStmt.setInt(30, progress.automation().getAutoSummitRotationIndex());
+        playerStmt.setInt(31, progress.gameplay().getTranscendenceCount());
+        playerStmt.setBoolean(32, progress.automation().isAutoAscendEnabled());
+        playerStmt.setBoolean(33, progress.session().isHudHidden());
+        playerStmt.setBoolean(34, progress.session().isPlayersHidden());
+    }
+
+    /** Upserts keys present only in {@code written} and deletes keys present only in {@code stored}. */
+    private static void diffKeyedRows(Set<String> stored, Set<String> written, String pid,
+                                      LazyStatement insertStmt, LazyStatement deleteStmt) throws SQLException {
+        for (String key : written) {
+            if (!stored.contains(key)) {
+                addKeyedRow(insertStmt, pid, key);
             }
         }
+        for (String key : stored) {
+            if (!written.contains(key)) {
+                addKeyedRow(deleteStmt, pid, key);
+            }
+        }
+    }
+
+    private static void addKeyedRow(LazyStatement stmt, String pid, String key) throws SQLException {
+        stmt.get().setString(1, pid);
+        stmt.get().setString(2, key);
+        stmt.get().addBatch();
     }
 
     private AscendPlayerProgress resolveProgressForSave(UUID playerId, Map<UUID, AscendPlayerProgress> progressOverrides) {
@@ -559,7 +614,44 @@ class AscendSaveScheduler {
         return detachedDirtyPlayers.get(playerId);
     }
 
-    private record SaveResult(Map<UUID, Long> persistedVersions, List<UUID> committedResets,
-                               List<UUID> committedChallengeResets) {
+    private record SaveResult(Map<UUID, Long> persistedVersions, Map<UUID, PersistedChildRows> writtenRows,
+                              List<UUID> committedResets, List<UUID> committedChallengeResets) {
+    }
+
+    /**
+     * Batched statement prepared on first use, so tables without changed rows cost nothing per flush.
+     */
+    private static final class LazyStatement {
+        private final Connection conn;
+        private final String sql;
+        private PreparedStatement stmt;
+
+        LazyStatement(Connection conn, String sql) {
+            this.conn = conn;
+            this.sql = sql;
+        }
+
+        PreparedStatement get() throws SQLException {
+            if (stmt == null) {
+                stmt = conn.prepareStatement(sql);
+                DatabaseManager.applyQueryTimeout(stmt);
+            }
+            return stmt;
+        }
+
+        void executeBatch() throws SQLException {
+            if (stmt != null) {
+                stmt.executeBatch();
+            }
+        }
+
+        void close() {
+            if (stmt != null) {
+                try {
+                    stmt.close();
+                } catch (SQLException ignored) {
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,67 @@
+package io.hyvexa.ascend.data;
+
+import io.hyvexa.common.math.BigNumber;
+
+/**
+ * Last bonus-free completion payout of one player, with the inputs it was computed from.
+ * <p>
+ * Each slot remembers the map, its display order, the {@link GameplayState.MapProgress} entry and the
+ * multiplier instance it read; {@link BigNumber} is immutable, so an unchanged instance means an
+ * unchanged multiplier. Player-wide inputs are stamped by the elevation level and
+ * {@link GameplayState#getChallengeRewardsVersion()}. Guarded by its own monitor.
+ */
+final class CompletionPayoutCache {
+
+    Object challengeSource;
+    int rewardsVersion = -1;
+    int slotCount = -1;
+    int elevationLevel;
+    BigNumber elevation;
+    int usedSlots;
+    BigNumber payout;
+
+    private AscendMap[] maps = new AscendMap[0];
+    private String[] mapIds = new String[0];
+    private int[] displayOrders = new int[0];
+    private GameplayState.MapProgress[] progress = new GameplayState.MapProgress[0];
+    private BigNumber[] multipliers = new BigNumber[0];
+    private BigNumber[] factors = new BigNumber[0];
+
+    void reset(int slotCount, Object challengeSource, int rewardsVersion) {
+        this.slotCount = slotCount;
+        this.challengeSource = challengeSource;
+        this.rewardsVersion = rewardsVersion;
+        this.elevation = null;
+        this.usedSlots = 0;
+        this.payout = null;
+        maps = new AscendMap[slotCount];
+        mapIds = new String[slotCount];
+        displayOrders = new int[slotCount];
+        progress = new GameplayState.MapProgress[slotCount];
+        multipliers = new BigNumber[slotCount];
+        factors = new BigNumber[slotCount];
+    }
+
+    boolean slotMatches(int index, AscendMap map, GameplayState.MapProgress mapProgress, BigNumber multiplier) {
+        return maps[index] == map
+                && map.getId().equals(mapIds[index])
+                && displayOrders[index] == map.getDisplayOrder()
+                && progress[index] == mapProgress
+                && multipliers[index] == multiplier;
+    }
+
+    void setSlot(int index, AscendMap map, GameplayState.MapProgress mapProgress, BigNumber multiplier,
+                 BigNumber factor) {
+        maps[index] = map;
+        mapIds[index] = map.getId();
+        displayOrders[index] = map.getDisplayOrder();
+        progress[index] = mapProgress;
+        multipliers[index] = multiplier;
+        factors[index] = factor;
+        payout = null;
+    }
+
+    BigNumber factor(int index) {
+        return factors[index];
+    }
+}
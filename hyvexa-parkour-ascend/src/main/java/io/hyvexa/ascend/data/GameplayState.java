@@ -36,6 +36,7 @@ public class GameplayState {
 
     // Permanent challenge rewards (never reset by ascension/challenge)
     private final Set<AscensionConstants.ChallengeType> completedChallengeRewards = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger challengeRewardsVersion = new AtomicInteger(0);
 
     // Transcendence System (4th Prestige)
     private final AtomicInteger transcendenceCount = new AtomicInteger(0);
@@ -239,7 +240,14 @@ public class GameplayState {
     }
 
     public void addChallengeReward(AscensionConstants.ChallengeType type) {
-        completedChallengeRewards.add(type);
+        if (completedChallengeRewards.add(type)) {
+            challengeRewardsVersion.incrementAndGet();
+        }
+    }
+
+    /** Bumped whenever the set of challenge rewards changes; lets derived values be cached. */
+    public int getChallengeRewardsVersion() {
+        return challengeRewardsVersion.get();
     }
 
     public Set<AscensionConstants.ChallengeType> getCompletedChallengeRewards() {
@@ -255,6 +263,7 @@ public class GameplayState {
         if (rewards != null) {
             completedChallengeRewards.addAll(rewards);
         }
+        challengeRewardsVersion.incrementAndGet();
     }
 
     public boolean hasAllChallengeRewards() {
@@ -0,0 +1,52 @@
+package io.hyvexa.ascend.data;
+
+import io.hyvexa.ascend.data.GameplayState.MapProgress;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Child-table rows last known to be in the database for one Ascend player
+ * (maps, summit XP, skill nodes, achievements, cats).
+ * <p>
+ * {@link AscendSaveScheduler} diffs live progress against this to emit upserts only
+ * for changed rows and targeted deletes only for rows that disappeared, instead of
+ * rewriting every child row on each save. Instances are filled once (on load or while
+ * building a save) and then treated as read-only.
+ */
+final class PersistedChildRows {
+
+    final Map<String, MapRow> maps = new HashMap<>();
+    final Map<String, Double> summitXp = new HashMap<>();
+    final Set<String> skillNodes = new HashSet<>();
+    final Set<String> achievements = new HashSet<>();
+    final Set<String> cats = new HashSet<>();
+
+    record MapRow(boolean unlocked, boolean completedManually, boolean hasRobot, int robotSpeedLevel,
+                  int robotStars, double multiplierMantissa, int multiplierExp10, Long bestTimeMs) {
+
+        static MapRow of(MapProgress progress) {
+            return new MapRow(progress.isUnlocked(), progress.isCompletedManually(), progress.hasRobot(),
+                    progress.getRobotSpeedLevel(), progress.getRobotStars(),
+                    progress.getMultiplier().getMantissa(), progress.getMultiplier().getExponent(),
+                    progress.getBestTimeMs());
+        }
+
+        /**
+         * Row left in the table after upserting this row over {@code stored}.
+         * Mirrors the best_time_ms CASE in the map upsert: a null or slower time never replaces a stored one.
+         */
+        MapRow writtenOver(MapRow stored) {
+            if (stored == null || stored.bestTimeMs == null) {
+                return this;
+            }
+            if (bestTimeMs != null && bestTimeMs < stored.bestTimeMs) {
+                return this;
+            }
+            return new MapRow(unlocked, completedManually, hasRobot, robotSpeedLevel, robotStars,
+                    multiplierMantissa, multiplierExp10, stored.bestTimeMs);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.hyvexa.ascend.mine;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted block picker using Vose's alias method: O(n) to build, O(1) per sample
+ * (one uniform slot plus one biased coin), instead of a cumulative-weight scan per block.
+ */
+final class BlockAliasTable {
+
+    private final int[] blockIds;
+    private final double[] probability;
+    private final int[] alias;
+
+    /** Weights need not be normalized; non-positive weights are never picked. */
+    BlockAliasTable(int[] blockIds, double[] weights) {
+        int n = blockIds.length;
+        this.blockIds = blockIds.clone();
+        this.probability = new double[n];
+        this.alias = new int[n];
+        if (n == 0) {
+            return;
+        }
+
+        double total = 0.0;
+        for (double weight : weights) {
+            total += Math.max(0.0, weight);
+        }
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = total > 0.0 ? Math.max(0.0, weights[i]) * n / total : 1.0;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Leftovers are 1.0 up to rounding error
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+    }
+
+    boolean isEmpty() {
+        return blockIds.length == 0;
+    }
+
+    int sample(RandomGenerator random) {
+        int slot = random.nextInt(blockIds.length);
+        return random.nextDouble() < probability[slot] ? blockIds[slot] : blockIds[alias[slot]];
+    }
+}
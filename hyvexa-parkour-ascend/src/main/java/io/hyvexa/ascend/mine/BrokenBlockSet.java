@@ -0,0 +1,228 @@
+package io.hyvexa.ascend.mine;
+
+import io.hyvexa.ascend.mine.data.MineZone;
+import io.hyvexa.ascend.mine.util.MinePositionUtils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.random.RandomGenerator;
+
+/**
+ * Broken-block state for one mine zone as a dense bitset over the zone's bounding box.
+ * <p>
+ * Each Y layer occupies its own run of 64-bit words (bit index {@code (x - minX) * rangeZ + (z - minZ)},
+ * padding bits at the end of the layer are pre-set so they never read as unbroken). Broken counts are kept
+ * per layer and per 512-bit superblock, which makes "k-th unbroken block of a layer" a skip over
+ * superblocks plus one word scan. Claims are lock-free CAS on the word; counts follow the bit and may lag
+ * it briefly under contention, so selection falls back to a scan if a count was stale.
+ * Positions outside the box (zone edited after creation) are tracked in a plain set.
+ */
+final class BrokenBlockSet {
+
+    private static final int WORDS_PER_SUPERBLOCK = 8;
+    private static final int BITS_PER_SUPERBLOCK = WORDS_PER_SUPERBLOCK * Long.SIZE;
+    /** Random probes before switching to rank/select; a probe that lands succeeds with the unbroken ratio. */
+    private static final int RANDOM_PROBES = 10;
+
+    private final int minX, minY, minZ;
+    private final int rangeX, rangeY, rangeZ;
+    private final int layerSize;
+    private final int layerWords;
+    private final int superblocksPerLayer;
+
+    private final AtomicLongArray words;
+    private final AtomicIntegerArray layerBroken;
+    private final AtomicIntegerArray superblockBroken;
+    private final AtomicInteger broken = new AtomicInteger();
+    private final Set<Long> outside = ConcurrentHashMap.newKeySet();
+
+    BrokenBlockSet(MineZone zone) {
+        this(zone.getMinX(), zone.getMinY(), zone.getMinZ(), zone.getMaxX(), zone.getMaxY(), zone.getMaxZ());
+    }
+
+    BrokenBlockSet(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.rangeX = maxX - minX + 1;
+        this.rangeY = maxY - minY + 1;
+        this.rangeZ = maxZ - minZ + 1;
+        this.layerSize = rangeX * rangeZ;
+        this.layerWords = (layerSize + Long.SIZE - 1) / Long.SIZE;
+        this.superblocksPerLayer = (layerWords + WORDS_PER_SUPERBLOCK - 1) / WORDS_PER_SUPERBLOCK;
+        this.words = new AtomicLongArray(layerWords * rangeY);
+        this.layerBroken = new AtomicIntegerArray(rangeY);
+        this.superblockBroken = new AtomicIntegerArray(superblocksPerLayer * rangeY);
+
+        int padding = layerWords * Long.SIZE - layerSize;
+        if (padding > 0) {
+            long paddingMask = -1L << (Long.SIZE - padding);
+            for (int layer = 0; layer < rangeY; layer++) {
+                words.set(layer * layerWords + layerWords - 1, paddingMask);
+            }
+        }
+    }
+
+    boolean matches(MineZone zone) {
+        return zone.getMinX() == minX && zone.getMinY() == minY && zone.getMinZ() == minZ
+            && zone.getMaxX() - minX + 1 == rangeX
+            && zone.getMaxY() - minY + 1 == rangeY
+            && zone.getMaxZ() - minZ + 1 == rangeZ;
+    }
+
+    private boolean inBounds(int x, int y, int z) {
+        return x >= minX && x - minX < rangeX
+            && y >= minY && y - minY < rangeY
+            && z >= minZ && z - minZ < rangeZ;
+    }
+
+    private int localIndex(int x, int z) {
+        return (x - minX) * rangeZ + (z - minZ);
+    }
+
+    /** Marks the block broken. Returns true if it was not broken before. */
+    boolean claim(int x, int y, int z) {
+        if (!inBounds(x, y, z)) {
+            return outside.add(MinePositionUtils.packPosition(x, y, z));
+        }
+        int layer = y - minY;
+        int local = localIndex(x, z);
+        int wordIndex = layer * layerWords + (local >>> 6);
+        long bit = 1L << (local & 63);
+        while (true) {
+            long current = words.get(wordIndex);
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(wordIndex, current, current | bit)) {
+                break;
+            }
+        }
+        layerBroken.incrementAndGet(layer);
+        superblockBroken.incrementAndGet(layer * superblocksPerLayer + (local >>> 6) / WORDS_PER_SUPERBLOCK);
+        broken.incrementAndGet();
+        return true;
+    }
+
+    /** Marks the block unbroken again. Returns true if it was broken. */
+    boolean unclaim(int x, int y, int z) {
+        if (!inBounds(x, y, z)) {
+            return outside.remove(MinePositionUtils.packPosition(x, y, z));
+        }
+        int layer = y - minY;
+        int local = localIndex(x, z);
+        int wordIndex = layer * layerWords + (local >>> 6);
+        long bit = 1L << (local & 63);
+        while (true) {
+            long current = words.get(wordIndex);
+            if ((current & bit) == 0) {
+                return false;
+            }
+            if (words.compareAndSet(wordIndex, current, current & ~bit)) {
+                break;
+            }
+        }
+        layerBroken.decrementAndGet(layer);
+        superblockBroken.decrementAndGet(layer * superblocksPerLayer + (local >>> 6) / WORDS_PER_SUPERBLOCK);
+        broken.decrementAndGet();
+        return true;
+    }
+
+    boolean isBroken(int x, int y, int z) {
+        if (!inBounds(x, y, z)) {
+            return outside.contains(MinePositionUtils.packPosition(x, y, z));
+        }
+        int local = localIndex(x, z);
+        return (words.get((y - minY) * layerWords + (local >>> 6)) & (1L << (local & 63))) != 0;
+    }
+
+    /** Broken blocks inside the zone box. */
+    int brokenCount() {
+        return broken.get();
+    }
+
+    int totalBlocks() {
+        return layerSize * rangeY;
+    }
+
+    /**
+     * A uniformly random unbroken block from the highest layer that still has one,
+     * as {@code {x, y, z}}, or null if the whole zone is broken.
+     */
+    int[] pickRandomUnbroken(RandomGenerator random) {
+        for (int layer = rangeY - 1; layer >= 0; layer--) {
+            int unbroken = layerSize - layerBroken.get(layer);
+            if (unbroken <= 0) {
+                continue;
+            }
+            // Rejection sampling is uniform and O(1) while the layer is mostly intact
+            for (int attempt = 0; attempt < RANDOM_PROBES; attempt++) {
+                int local = random.nextInt(layerSize);
+                if ((words.get(layer * layerWords + (local >>> 6)) & (1L << (local & 63))) == 0) {
+                    return toPosition(layer, local);
+                }
+            }
+            int local = selectUnbroken(layer, random.nextInt(unbroken));
+            if (local < 0) {
+                local = scanUnbroken(layer);
+            }
+            if (local >= 0) {
+                return toPosition(layer, local);
+            }
+            // Counts were stale and the layer is actually full; continue downwards
+        }
+        return null;
+    }
+
+    /** Local index of the {@code rank}-th (0-based) unbroken block in the layer, or -1 if counts were stale. */
+    int selectUnbroken(int layer, int rank) {
+        int remaining = rank;
+        int superblockBase = layer * superblocksPerLayer;
+        for (int sb = 0; sb < superblocksPerLayer; sb++) {
+            int validBits = Math.min(BITS_PER_SUPERBLOCK, layerSize - sb * BITS_PER_SUPERBLOCK);
+            int unbroken = validBits - superblockBroken.get(superblockBase + sb);
+            if (remaining >= unbroken) {
+                remaining -= unbroken;
+                continue;
+            }
+            int firstWord = sb * WORDS_PER_SUPERBLOCK;
+            int lastWord = Math.min(layerWords, firstWord + WORDS_PER_SUPERBLOCK);
+            for (int w = firstWord; w < lastWord; w++) {
+                long free = ~words.get(layer * layerWords + w);
+                int freeCount = Long.bitCount(free);
+                if (remaining < freeCount) {
+                    return w * Long.SIZE + selectBit(free, remaining);
+                }
+                remaining -= freeCount;
+            }
+            return -1;
+        }
+        return -1;
+    }
+
+    private int scanUnbroken(int layer) {
+        for (int w = 0; w < layerWords; w++) {
+            long free = ~words.get(layer * layerWords + w);
+            if (free != 0) {
+                return w * Long.SIZE + Long.numberOfTrailingZeros(free);
+            }
+        }
+        return -1;
+    }
+
+    /** Position of the {@code rank}-th set bit of {@code word}. */
+    private static int selectBit(long word, int rank) {
+        long remaining = word;
+        for (int i = 0; i < rank; i++) {
+            remaining &= remaining - 1;
+        }
+        return Long.numberOfTrailingZeros(remaining);
+    }
+
+    private int[] toPosition(int layer, int local) {
+        return new int[]{minX + local / rangeZ, minY + layer, minZ + local % rangeZ};
+    }
+}
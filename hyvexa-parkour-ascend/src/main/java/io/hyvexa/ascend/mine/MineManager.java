@@ -6,9 +6,10 @@ import io.hyvexa.ascend.mine.data.MineZone;
 import io.hyvexa.ascend.mine.data.MineZoneLayer;
 import io.hyvexa.ascend.mine.system.BlockDamageTracker;
 import io.hyvexa.ascend.mine.system.BlockVisualHelper;
-import io.hyvexa.ascend.mine.util.MinePositionUtils;
 
+import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.server.core.HytaleServer;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.universe.world.World;
 
@@ -24,10 +25,12 @@ import com.hypixel.hytale.math.vector.Vector3d;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 public class MineManager {
@@ -36,14 +39,24 @@ public class MineManager {
     private final Function<UUID, PlayerRef> playerRefResolver;
     private final BlockDamageTracker blockDamageTracker = new BlockDamageTracker();
 
-    // zoneId -> set of broken block positions (packed as long: x<<38 | y<<26 | z)
-    private final Map<String, Set<Long>> brokenBlocks = new ConcurrentHashMap<>();
+    // zoneId -> bitset of broken blocks over the zone's bounds
+    private final Map<String, BrokenBlockSet> brokenBlocks = new ConcurrentHashMap<>();
 
     // Cache of resolved block tables per zone to avoid re-resolving on every regen
     private final Map<String, ResolvedZoneCache> resolvedZoneCache = new ConcurrentHashMap<>();
 
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+    private static final long REGEN_SLICE_INTERVAL_MS = 50L;
+    private static final long REGEN_SLICE_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(4);
+    private static final int REGEN_MAX_BLOCKS_PER_UNIT = 4096;
+
     private volatile long nextRegenTimestamp = 0;
     private volatile boolean regenerating = false;
+
+    // Running time-sliced refill, if any
+    private final Object regenLock = new Object();
+    private MineZoneRegenJob regenJob;
+    private ScheduledFuture<?> regenTask;
     private MineHudManager mineHudManager;
 
     private volatile World mineWorld;
@@ -67,18 +80,17 @@ public class MineManager {
      * Atomically claims a block position as broken. Returns true if this caller is the first
      * to break it (and should receive the reward). Returns false if already broken.
      */
-    public boolean tryClaimBlock(String zoneId, int x, int y, int z) {
-        return brokenBlocks.computeIfAbsent(zoneId, k -> ConcurrentHashMap.newKeySet())
-            .add(MinePositionUtils.packPosition(x, y, z));
+    public boolean tryClaimBlock(MineZone zone, int x, int y, int z) {
+        return brokenBlocksFor(zone).claim(x, y, z);
     }
 
     /**
      * Rolls back a claim (e.g. when bag is full after claiming but before breaking).
      */
-    public void unclaimBlock(String zoneId, int x, int y, int z) {
-        Set<Long> broken = brokenBlocks.get(zoneId);
+    public void unclaimBlock(MineZone zone, int x, int y, int z) {
+        BrokenBlockSet broken = brokenBlocks.get(zone.getId());
         if (broken != null) {
-            broken.remove(MinePositionUtils.packPosition(x, y, z));
+            broken.unclaim(x, y, z);
         }
     }
 
@@ -89,48 +101,22 @@ public class MineManager {
      */
     public int[] pickRandomUnbrokenBlock(MineZone zone) {
         if (zone == null) return null;
+        return brokenBlocksFor(zone).pickRandomUnbroken(ThreadLocalRandom.current());
+    }
 
-        Set<Long> broken = brokenBlocks.get(zone.getId());
-        int totalBlocks = zone.getTotalBlocks();
-        int brokenCount = broken != null ? broken.size() : 0;
-
-        if (brokenCount >= totalBlocks) return null;
-
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-        int rangeX = zone.getMaxX() - zone.getMinX() + 1;
-        int rangeZ = zone.getMaxZ() - zone.getMinZ() + 1;
-
-        // Scan from top layer down — pick a random unbroken block in the highest layer
-        for (int y = zone.getMaxY(); y >= zone.getMinY(); y--) {
-            // Quick random attempts on this layer
-            for (int attempt = 0; attempt < 10; attempt++) {
-                int x = random.nextInt(zone.getMinX(), zone.getMaxX() + 1);
-                int z = random.nextInt(zone.getMinZ(), zone.getMaxZ() + 1);
-                if (!isBlockBroken(zone.getId(), x, y, z)) {
-                    return new int[]{x, y, z};
-                }
-            }
-
-            // Fallback: linear scan of this layer from random start
-            int layerSize = rangeX * rangeZ;
-            int startIdx = random.nextInt(layerSize);
-            for (int i = 0; i < layerSize; i++) {
-                int idx = (startIdx + i) % layerSize;
-                int x = zone.getMinX() + (idx / rangeZ);
-                int z = zone.getMinZ() + (idx % rangeZ);
-                if (!isBlockBroken(zone.getId(), x, y, z)) {
-                    return new int[]{x, y, z};
-                }
-            }
-            // This layer fully broken, try next layer down
-        }
-
-        return null;
+    public boolean isBlockBroken(MineZone zone, int x, int y, int z) {
+        BrokenBlockSet broken = brokenBlocks.get(zone.getId());
+        return broken != null && broken.isBroken(x, y, z);
     }
 
-    public boolean isBlockBroken(String zoneId, int x, int y, int z) {
-        Set<Long> broken = brokenBlocks.get(zoneId);
-        return broken != null && broken.contains(MinePositionUtils.packPosition(x, y, z));
+    private BrokenBlockSet brokenBlocksFor(MineZone zone) {
+        BrokenBlockSet broken = brokenBlocks.get(zone.getId());
+        if (broken != null && broken.matches(zone)) {
+            return broken;
+        }
+        // First break since regen, or the zone bounds were edited: start a fresh bitset
+        return brokenBlocks.compute(zone.getId(),
+            (id, existing) -> existing != null && existing.matches(zone) ? existing : new BrokenBlockSet(zone));
     }
 
     public boolean isZoneInCooldown(String zoneId) {
@@ -202,10 +188,7 @@ public class MineManager {
 
         regenerating = true;
         world.execute(() -> {
-            try {
-                teleportPlayersOutOfZone(world, zone);
-                generateZone(world, zone);
-            } finally {
+            if (!startRegeneration(world, zone)) {
                 nextRegenTimestamp = System.currentTimeMillis() + zone.getRegenIntervalSeconds() * 1000L;
                 regenerating = false;
             }
@@ -249,53 +232,98 @@ public class MineManager {
         }
     }
 
+    /**
+     * Refills the whole zone in one go on the calling (world) thread. Used at startup, before anyone is mining;
+     * live refills go through {@link #startRegeneration}.
+     */
     public boolean generateZone(World world, MineZone zone) {
-        // Use cached resolved tables (avoids re-resolving BlockType asset map on every regen)
-        ResolvedZoneCache cached = resolvedZoneCache.computeIfAbsent(zone.getId(),
-                k -> buildResolvedZoneCache(zone));
-        Map<MineZoneLayer, ResolvedZoneTable> layerTables = cached.layerTables();
-        ResolvedZoneTable fallbackTable = cached.fallbackTable();
+        BlockAliasTable[] tablesByY = resolveTablesByY(zone);
+        if (tablesByY == null) return false;
+
+        cancelRegeneration();
+        MineZoneRegenJob job = new MineZoneRegenJob(zone, tablesByY, REGEN_MAX_BLOCKS_PER_UNIT,
+            ThreadLocalRandom.current());
+        job.runSlice(worldChunks(world), Long.MAX_VALUE, System::nanoTime);
+        resetZoneState(world, zone);
+        return true;
+    }
 
-        boolean hasAnyTable = !layerTables.isEmpty()
-            || (fallbackTable != null && fallbackTable.blockIds().length > 0);
-        if (!hasAnyTable) return false;
-
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-        long currentChunkIndex = ChunkUtil.indexChunkFromBlock(zone.getMinX(), zone.getMinZ());
-        var currentChunk = world.getChunkIfInMemory(currentChunkIndex);
-        if (currentChunk == null) {
-            currentChunk = world.loadChunkIfInMemory(currentChunkIndex);
+    /**
+     * Starts a time-sliced refill: every {@link #REGEN_SLICE_INTERVAL_MS} the world thread writes chunk-aligned
+     * units for up to {@link #REGEN_SLICE_BUDGET_NANOS}, so a large zone no longer stalls a single tick.
+     * Mining stays in cooldown until the job finishes, and players inside the zone are moved above it before
+     * every slice. Calling this while a refill is running cancels it and starts over from the top, so edits
+     * made mid-refill are picked up.
+     * Returns false if the zone has no resolvable block table.
+     */
+    public boolean startRegeneration(World world, MineZone zone) {
+        BlockAliasTable[] tablesByY = resolveTablesByY(zone);
+        if (tablesByY == null) return false;
+
+        MineZoneRegenJob job = new MineZoneRegenJob(zone, tablesByY, REGEN_MAX_BLOCKS_PER_UNIT,
+            ThreadLocalRandom.current());
+        MineZoneRegenJob.ChunkResolver chunks = worldChunks(world);
+        AtomicBoolean slicePending = new AtomicBoolean();
+        synchronized (regenLock) {
+            cancelRegenerationLocked();
+            regenerating = true;
+            regenJob = job;
+            regenTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleWithFixedDelay(() -> {
+                // Don't queue a second slice behind one the world thread hasn't run yet
+                if (!slicePending.compareAndSet(false, true)) return;
+                world.execute(() -> {
+                    slicePending.set(false);
+                    runRegenSlice(world, zone, job, chunks);
+                });
+            }, 0L, REGEN_SLICE_INTERVAL_MS, TimeUnit.MILLISECONDS);
         }
-        for (int x = zone.getMinX(); x <= zone.getMaxX(); x++) {
-            for (int z = zone.getMinZ(); z <= zone.getMaxZ(); z++) {
-                long chunkIndex = ChunkUtil.indexChunkFromBlock(x, z);
-                if (chunkIndex != currentChunkIndex) {
-                    currentChunkIndex = chunkIndex;
-                    currentChunk = world.getChunkIfInMemory(chunkIndex);
-                    if (currentChunk == null) {
-                        currentChunk = world.loadChunkIfInMemory(chunkIndex);
-                    }
-                }
-                if (currentChunk == null) {
-                    continue;
-                }
-                for (int y = zone.getMinY(); y <= zone.getMaxY(); y++) {
-                    ResolvedZoneTable table = resolveTableForY(y, layerTables, fallbackTable);
-                    if (table == null || table.blockIds().length == 0) continue;
-
-                    double roll = random.nextDouble() * table.totalWeight();
-                    int selectedBlockId = table.blockIds()[table.blockIds().length - 1];
-                    for (int j = 0; j < table.cumulativeWeights().length; j++) {
-                        if (roll < table.cumulativeWeights()[j]) {
-                            selectedBlockId = table.blockIds()[j];
-                            break;
-                        }
-                    }
-                    currentChunk.setBlock(x, y, z, selectedBlockId);
-                }
+        return true;
+    }
+
+    private void runRegenSlice(World world, MineZone zone, MineZoneRegenJob job,
+                               MineZoneRegenJob.ChunkResolver chunks) {
+        if (job.isCancelled()) return;
+        // The refill spans many ticks; anyone who walked back in since the last slice would be buried
+        teleportPlayersOutOfZone(world, zone);
+        try {
+            if (!job.runSlice(chunks, REGEN_SLICE_BUDGET_NANOS, System::nanoTime)) return;
+        } catch (Exception e) {
+            LOGGER.atWarning().withCause(e).log("Mine zone regeneration failed for " + zone.getId());
+        }
+        synchronized (regenLock) {
+            if (regenJob != job) return;
+            regenJob = null;
+            if (regenTask != null) {
+                regenTask.cancel(false);
+                regenTask = null;
             }
         }
+        resetZoneState(world, zone);
+        nextRegenTimestamp = System.currentTimeMillis() + zone.getRegenIntervalSeconds() * 1000L;
+        regenerating = false;
+    }
 
+    /** Stops a running time-sliced refill, leaving the zone partly refilled. */
+    public void cancelRegeneration() {
+        synchronized (regenLock) {
+            if (cancelRegenerationLocked()) {
+                regenerating = false;
+            }
+        }
+    }
+
+    private boolean cancelRegenerationLocked() {
+        if (regenJob == null) return false;
+        regenJob.cancel();
+        regenJob = null;
+        if (regenTask != null) {
+            regenTask.cancel(false);
+            regenTask = null;
+        }
+        return true;
+    }
+
+    private void resetZoneState(World world, MineZone zone) {
         brokenBlocks.remove(zone.getId());
 
         // Despawn all damage text NPCs before regen
@@ -311,12 +339,40 @@ public class MineManager {
                 }
             }
         }
+    }
 
-        return true;
+    private static MineZoneRegenJob.ChunkResolver worldChunks(World world) {
+        return (x, z) -> {
+            long chunkIndex = ChunkUtil.indexChunkFromBlock(x, z);
+            var chunk = world.getChunkIfInMemory(chunkIndex);
+            if (chunk == null) chunk = world.loadChunkIfInMemory(chunkIndex);
+            if (chunk == null) return null;
+            var loaded = chunk;
+            return (bx, by, bz, blockId) -> loaded.setBlock(bx, by, bz, blockId);
+        };
+    }
+
+    /** Block table per Y level of the zone (indexed from minY), or null if nothing resolves. */
+    private BlockAliasTable[] resolveTablesByY(MineZone zone) {
+        // Use cached resolved tables (avoids re-resolving BlockType asset map on every regen)
+        ResolvedZoneCache cached = resolvedZoneCache.computeIfAbsent(zone.getId(),
+                k -> buildResolvedZoneCache(zone));
+        Map<MineZoneLayer, BlockAliasTable> layerTables = cached.layerTables();
+        BlockAliasTable fallbackTable = cached.fallbackTable();
+
+        boolean hasAnyTable = !layerTables.isEmpty()
+            || (fallbackTable != null && !fallbackTable.isEmpty());
+        if (!hasAnyTable) return null;
+
+        BlockAliasTable[] tablesByY = new BlockAliasTable[zone.getMaxY() - zone.getMinY() + 1];
+        for (int y = zone.getMinY(); y <= zone.getMaxY(); y++) {
+            tablesByY[y - zone.getMinY()] = resolveTableForY(y, layerTables, fallbackTable);
+        }
+        return tablesByY;
     }
 
-    private ResolvedZoneTable resolveTableForY(int y, Map<MineZoneLayer, ResolvedZoneTable> layerTables,
-                                                ResolvedZoneTable fallback) {
+    private BlockAliasTable resolveTableForY(int y, Map<MineZoneLayer, BlockAliasTable> layerTables,
+                                             BlockAliasTable fallback) {
         for (var entry : layerTables.entrySet()) {
             if (entry.getKey().containsY(y)) {
                 return entry.getValue();
@@ -325,7 +381,7 @@ public class MineManager {
         return fallback;
     }
 
-    private ResolvedZoneTable resolveBlockTable(Map<String, Double> blockTable) {
+    private BlockAliasTable resolveBlockTable(Map<String, Double> blockTable) {
         Map<Integer, Double> resolvedTable = new LinkedHashMap<>();
         for (var entry : blockTable.entrySet()) {
             int blockId = BlockType.getAssetMap().getIndex(entry.getKey());
@@ -333,32 +389,27 @@ public class MineManager {
                 resolvedTable.put(blockId, entry.getValue());
             }
         }
-        if (resolvedTable.isEmpty()) {
-            return new ResolvedZoneTable(new int[0], new double[0], 0.0);
-        }
 
         int[] blockIds = new int[resolvedTable.size()];
-        double[] cumulativeWeights = new double[resolvedTable.size()];
+        double[] weights = new double[resolvedTable.size()];
         int i = 0;
-        double totalWeight = 0.0;
         for (var entry : resolvedTable.entrySet()) {
             blockIds[i] = entry.getKey();
-            totalWeight += entry.getValue();
-            cumulativeWeights[i] = totalWeight;
+            weights[i] = entry.getValue();
             i++;
         }
-        return new ResolvedZoneTable(blockIds, cumulativeWeights, totalWeight);
+        return new BlockAliasTable(blockIds, weights);
     }
 
     private ResolvedZoneCache buildResolvedZoneCache(MineZone zone) {
-        Map<MineZoneLayer, ResolvedZoneTable> layerTables = new LinkedHashMap<>();
+        Map<MineZoneLayer, BlockAliasTable> layerTables = new LinkedHashMap<>();
         for (MineZoneLayer layer : zone.getLayers()) {
-            ResolvedZoneTable resolved = resolveBlockTable(layer.getBlockTable());
-            if (resolved != null && resolved.blockIds().length > 0) {
+            BlockAliasTable resolved = resolveBlockTable(layer.getBlockTable());
+            if (!resolved.isEmpty()) {
                 layerTables.put(layer, resolved);
             }
         }
-        ResolvedZoneTable fallbackTable = resolveBlockTable(zone.getBlockTable());
+        BlockAliasTable fallbackTable = resolveBlockTable(zone.getBlockTable());
         return new ResolvedZoneCache(layerTables, fallbackTable);
     }
 
@@ -369,8 +420,6 @@ public class MineManager {
         resolvedZoneCache.remove(zoneId);
     }
 
-    private record ResolvedZoneTable(int[] blockIds, double[] cumulativeWeights, double totalWeight) {}
-
-    private record ResolvedZoneCache(Map<MineZoneLayer, ResolvedZoneTable> layerTables,
-                                     ResolvedZoneTable fallbackTable) {}
+    private record ResolvedZoneCache(Map<MineZoneLayer, BlockAliasTable> layerTables,
+                                     BlockAliasTable fallbackTable) {}
 }
@@ -0,0 +1,136 @@
+package io.hyvexa.ascend.mine;
+
+import io.hyvexa.ascend.mine.data.MineZone;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * One zone refill, split into chunk-aligned work units so it can run a few milliseconds per world tick
+ * instead of rewriting the whole zone in a single task.
+ * <p>
+ * A unit is the part of one chunk column inside the zone, cut into Y slices of at most
+ * {@code maxBlocksPerUnit} blocks, so each unit resolves its chunk once and writes only into it.
+ * {@link #runSlice} processes whole units until the time budget is spent (always at least one, so the job
+ * makes progress). Not thread-safe: run every slice on the world thread. {@link #cancel} may be called
+ * from any thread and stops the job before its next unit.
+ */
+final class MineZoneRegenJob {
+
+    /** Hytale chunk columns are 32x32 blocks (ChunkUtil indexes by {@code >> 5}). */
+    static final int CHUNK_SIZE = 32;
+
+    /** Writes into one loaded chunk. */
+    interface ChunkWriter {
+        void setBlock(int x, int y, int z, int blockId);
+    }
+
+    /** Resolves the chunk containing column (x, z), or null if it isn't loaded (its units are skipped). */
+    interface ChunkResolver {
+        ChunkWriter chunkAt(int x, int z);
+    }
+
+    record WorkUnit(int minX, int maxX, int minZ, int maxZ, int minY, int maxY) {
+        int blockCount() {
+            return (maxX - minX + 1) * (maxZ - minZ + 1) * (maxY - minY + 1);
+        }
+    }
+
+    private final int minY;
+    private final BlockAliasTable[] tablesByY;
+    private final List<WorkUnit> units;
+    private final RandomGenerator random;
+    private int nextUnit;
+    private long blocksWritten;
+    private volatile boolean cancelled;
+
+    /**
+     * @param tablesByY block table per Y level, indexed from the zone's minY; null or empty entries are left untouched
+     */
+    MineZoneRegenJob(MineZone zone, BlockAliasTable[] tablesByY, int maxBlocksPerUnit, RandomGenerator random) {
+        this.minY = zone.getMinY();
+        this.tablesByY = tablesByY;
+        this.units = planUnits(zone, Math.max(1, maxBlocksPerUnit));
+        this.random = random;
+    }
+
+    static List<WorkUnit> planUnits(MineZone zone, int maxBlocksPerUnit) {
+        List<WorkUnit> units = new ArrayList<>();
+        int firstChunkX = Math.floorDiv(zone.getMinX(), CHUNK_SIZE);
+        int lastChunkX = Math.floorDiv(zone.getMaxX(), CHUNK_SIZE);
+        int firstChunkZ = Math.floorDiv(zone.getMinZ(), CHUNK_SIZE);
+        int lastChunkZ = Math.floorDiv(zone.getMaxZ(), CHUNK_SIZE);
+        for (int chunkX = firstChunkX; chunkX <= lastChunkX; chunkX++) {
+            int minX = Math.max(zone.getMinX(), chunkX * CHUNK_SIZE);
+            int maxX = Math.min(zone.getMaxX(), chunkX * CHUNK_SIZE + CHUNK_SIZE - 1);
+            for (int chunkZ = firstChunkZ; chunkZ <= lastChunkZ; chunkZ++) {
+                int minZ = Math.max(zone.getMinZ(), chunkZ * CHUNK_SIZE);
+                int maxZ = Math.min(zone.getMaxZ(), chunkZ * CHUNK_SIZE + CHUNK_SIZE - 1);
+                int columnArea = (maxX - minX + 1) * (maxZ - minZ + 1);
+                int sliceHeight = Math.max(1, maxBlocksPerUnit / columnArea);
+                // Top-down, so the surface the miners walk on is refilled first
+                for (int top = zone.getMaxY(); top >= zone.getMinY(); top -= sliceHeight) {
+                    int bottom = Math.max(zone.getMinY(), top - sliceHeight + 1);
+                    units.add(new WorkUnit(minX, maxX, minZ, maxZ, bottom, top));
+                }
+            }
+        }
+        return units;
+    }
+
+    /**
+     * Process units until {@code budgetNanos} has elapsed on {@code clock}.
+     * Returns true once every unit is done (or the job was cancelled).
+     */
+    boolean runSlice(ChunkResolver chunks, long budgetNanos, LongSupplier clock) {
+        long start = clock.getAsLong();
+        do {
+            if (cancelled || nextUnit >= units.size()) {
+                return true;
+            }
+            writeUnit(chunks, units.get(nextUnit++));
+        } while (clock.getAsLong() - start < budgetNanos);
+        return cancelled || nextUnit >= units.size();
+    }
+
+    private void writeUnit(ChunkResolver chunks, WorkUnit unit) {
+        ChunkWriter chunk = chunks.chunkAt(unit.minX(), unit.minZ());
+        if (chunk == null) {
+            return;
+        }
+        for (int y = unit.maxY(); y >= unit.minY(); y--) {
+            BlockAliasTable table = tablesByY[y - minY];
+            if (table == null || table.isEmpty()) {
+                continue;
+            }
+            for (int x = unit.minX(); x <= unit.maxX(); x++) {
+                for (int z = unit.minZ(); z <= unit.maxZ(); z++) {
+                    chunk.setBlock(x, y, z, table.sample(random));
+                    blocksWritten++;
+                }
+            }
+        }
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    boolean isDone() {
+        return cancelled || nextUnit >= units.size();
+    }
+
+    int unitCount() {
+        return units.size();
+    }
+
+    long getBlocksWritten() {
+        return blocksWritten;
+    }
+}
@@ -3,6 +3,7 @@ package io.hyvexa.ascend.mine.data;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,13 @@ public class MinePlayerProgress {
     private final Map<String, Integer> conveyorBuffer = new HashMap<>();
     private int conveyorBufferCount;
 
+    // Keys changed since the last save, drained by createSaveDelta (guarded by this)
+    private final Set<String> dirtyInventory = new HashSet<>();
+    private final Set<String> dirtyConveyor = new HashSet<>();
+    private final Set<String> dirtyEggs = new HashSet<>();
+    private final Set<Integer> dirtySlots = new HashSet<>();
+    private final Set<Long> dirtyMiners = new HashSet<>();
+
     public MinePlayerProgress(UUID playerId) {
         this.playerId = playerId;
     }
@@ -54,6 +62,7 @@ public class MinePlayerProgress {
         }
         inventory.merge(blockTypeId, toAdd, Integer::sum);
         inventoryCount += toAdd;
+        dirtyInventory.add(blockTypeId);
         return toAdd;
     }
 
@@ -87,6 +96,7 @@ public class MinePlayerProgress {
         Integer count = inventory.remove(blockTypeId);
         if (count == null || count <= 0) return 0;
         inventoryCount -= count;
+        dirtyInventory.add(blockTypeId);
         long price = blockPrices.getOrDefault(blockTypeId, 1L);
         long earned = price * count;
         crystals += earned;
@@ -99,6 +109,7 @@ public class MinePlayerProgress {
     public synchronized long sellAll(Map<String, Long> blockPrices) {
         long total = calculateInventoryValue(blockPrices);
         crystals += total;
+        dirtyInventory.addAll(inventory.keySet());
         inventory.clear();
         inventoryCount = 0;
         return total;
@@ -117,6 +128,7 @@ public class MinePlayerProgress {
             long price = blockPrices.getOrDefault(entry.getKey(), 1L);
             total += price * entry.getValue();
             removed += entry.getValue();
+            dirtyInventory.add(entry.getKey());
             it.remove();
         }
         inventoryCount -= removed;
@@ -145,6 +157,7 @@ public class MinePlayerProgress {
     }
 
     public synchronized void clearInventory() {
+        dirtyInventory.addAll(inventory.keySet());
         inventory.clear();
         inventoryCount = 0;
     }
@@ -255,6 +268,7 @@ public class MinePlayerProgress {
             int toRemove = entry.getValue();
             Integer current = inventory.get(blockId);
             if (current == null) continue;
+            dirtyInventory.add(blockId);
             int remaining = current - toRemove;
             if (remaining <= 0) {
                 inventory.remove(blockId);
@@ -347,11 +361,13 @@ public class MinePlayerProgress {
 
     public synchronized void addEgg(String layerId) {
         eggInventory.merge(layerId, 1, Integer::sum);
+        dirtyEggs.add(layerId);
     }
 
     public synchronized boolean removeEgg(String layerId) {
         Integer count = eggInventory.get(layerId);
         if (count == null || count <= 0) return false;
+        dirtyEggs.add(layerId);
         if (count == 1) {
             eggInventory.remove(layerId);
         } else {
@@ -406,9 +422,11 @@ public class MinePlayerProgress {
 
     public synchronized void clearMinerCollection() {
         minerCollection.clear();
+        dirtyMiners.clear();
     }
 
     public synchronized void clearEggInventory() {
+        dirtyEggs.addAll(eggInventory.keySet());
         eggInventory.clear();
     }
 
@@ -416,10 +434,13 @@ public class MinePlayerProgress {
 
     public synchronized void assignMinerToSlot(int slotIndex, long minerId) {
         slotAssignments.put(slotIndex, minerId);
+        dirtySlots.add(slotIndex);
     }
 
     public synchronized void unassignSlot(int slotIndex) {
-        slotAssignments.remove(slotIndex);
+        if (slotAssignments.remove(slotIndex) != null) {
+            dirtySlots.add(slotIndex);
+        }
     }
 
     public synchronized Long getAssignedMinerId(int slotIndex) {
@@ -455,26 +476,74 @@ public class MinePlayerProgress {
         if (miner == null) return MinerSpeedUpgradeResult.NO_MINER;
         if (!trySpendCrystals(cost)) return MinerSpeedUpgradeResult.INSUFFICIENT_CRYSTALS;
         miner.setSpeedLevel(miner.getSpeedLevel() + 1);
+        dirtyMiners.add(minerId);
         return MinerSpeedUpgradeResult.SUCCESS;
     }
 
-    public synchronized PlayerSaveSnapshot createSaveSnapshot() {
+    // --- Persistence ---
+
+    /**
+     * Drains the keys changed since the last call into a save delta: rows still present become upserts with
+     * their current values, rows that are gone become deletes. Scalar fields are always included.
+     * Call {@link #restorePendingChanges} if the delta could not be written.
+     */
+    public synchronized PlayerSaveDelta createSaveDelta() {
         Map<MineUpgradeType, Integer> upgradeSnapshot = new EnumMap<>(MineUpgradeType.class);
         upgradeSnapshot.putAll(upgradeLevels);
-        return new PlayerSaveSnapshot(
+        Map<Long, Integer> minerSpeeds = new LinkedHashMap<>();
+        for (long minerId : dirtyMiners) {
+            CollectedMiner miner = getMinerById(minerId);
+            if (miner != null) minerSpeeds.put(minerId, miner.getSpeedLevel());
+        }
+        dirtyMiners.clear();
+        return new PlayerSaveDelta(
             crystals,
             upgradeSnapshot,
-            new LinkedHashMap<>(inventory),
-            new LinkedHashMap<>(eggInventory),
-            new ArrayList<>(minerCollection),
-            new LinkedHashMap<>(slotAssignments),
             inMine,
             pickaxeTier,
             pickaxeEnhancement,
-            new LinkedHashMap<>(conveyorBuffer)
+            drainChanges(dirtyInventory, inventory),
+            drainChanges(dirtyConveyor, conveyorBuffer),
+            drainChanges(dirtyEggs, eggInventory),
+            drainChanges(dirtySlots, slotAssignments),
+            minerSpeeds
         );
     }
 
+    /** Marks the rows of a delta that failed to save as changed again, so the next delta retries them. */
+    public synchronized void restorePendingChanges(PlayerSaveDelta delta) {
+        delta.inventory().addKeysTo(dirtyInventory);
+        delta.conveyorBuffer().addKeysTo(dirtyConveyor);
+        delta.eggInventory().addKeysTo(dirtyEggs);
+        delta.slotAssignments().addKeysTo(dirtySlots);
+        dirtyMiners.addAll(delta.minerSpeedLevels().keySet());
+    }
+
+    /** Forgets pending row changes; used once loaded state matches what the tables hold. */
+    public synchronized void markPersisted() {
+        dirtyInventory.clear();
+        dirtyConveyor.clear();
+        dirtyEggs.clear();
+        dirtySlots.clear();
+        dirtyMiners.clear();
+    }
+
+    private static <K, V> RowChanges<K, V> drainChanges(Set<K> dirtyKeys, Map<K, V> rows) {
+        if (dirtyKeys.isEmpty()) return RowChanges.empty();
+        Map<K, V> upserts = new LinkedHashMap<>();
+        Set<K> deletes = new HashSet<>();
+        for (K key : dirtyKeys) {
+            V value = rows.get(key);
+            if (value != null) {
+                upserts.put(key, value);
+            } else {
+                deletes.add(key);
+            }
+        }
+        dirtyKeys.clear();
+        return new RowChanges<>(upserts, deletes);
+    }
+
     // --- Conveyor buffer ---
 
     public synchronized void loadConveyorBufferItem(String blockTypeId, int amount) {
@@ -495,6 +564,7 @@ public class MinePlayerProgress {
         int toAdd = Math.min(amount, remaining);
         conveyorBuffer.merge(blockTypeId, toAdd, Integer::sum);
         conveyorBufferCount += toAdd;
+        dirtyConveyor.add(blockTypeId);
         return true;
     }
 
@@ -514,6 +584,8 @@ public class MinePlayerProgress {
             inventory.merge(entry.getKey(), toMove, Integer::sum);
             inventoryCount += toMove;
             transferred += toMove;
+            dirtyInventory.add(entry.getKey());
+            dirtyConveyor.add(entry.getKey());
             int remaining = entry.getValue() - toMove;
             if (remaining <= 0) {
                 it.remove();
@@ -538,6 +610,7 @@ public class MinePlayerProgress {
     }
 
     public synchronized void clearConveyorBuffer() {
+        dirtyConveyor.addAll(conveyorBuffer.keySet());
         conveyorBuffer.clear();
         conveyorBufferCount = 0;
     }
@@ -555,6 +628,8 @@ public class MinePlayerProgress {
         int toMove = Math.min(count, space);
         inventory.merge(blockTypeId, toMove, Integer::sum);
         inventoryCount += toMove;
+        dirtyInventory.add(blockTypeId);
+        dirtyConveyor.add(blockTypeId);
         int remaining = count - toMove;
         if (remaining <= 0) {
             conveyorBuffer.remove(blockTypeId);
@@ -571,14 +646,36 @@ public class MinePlayerProgress {
         INSUFFICIENT_CRYSTALS
     }
 
-    public record PlayerSaveSnapshot(double crystals,
-                                     Map<MineUpgradeType, Integer> upgradeLevels,
-                                     Map<String, Integer> inventory,
-                                     Map<String, Integer> eggInventory,
-                                     List<CollectedMiner> minerCollection,
-                                     Map<Integer, Long> slotAssignments,
-                                     boolean inMine,
-                                     int pickaxeTier,
-                                     int pickaxeEnhancement,
-                                     Map<String, Integer> conveyorBuffer) {}
+    /**
+     * Row-level changes for one child table: keys to insert or update with their current value, and keys
+     * whose row must be deleted.
+     */
+    public record RowChanges<K, V>(Map<K, V> upserts, Set<K> deletes) {
+        private static final RowChanges<?, ?> EMPTY = new RowChanges<>(Map.of(), Set.of());
+
+        @SuppressWarnings("unchecked")
+        static <K, V> RowChanges<K, V> empty() {
+            return (RowChanges<K, V>) EMPTY;
+        }
+
+        public boolean isEmpty() {
+            return upserts.isEmpty() && deletes.isEmpty();
+        }
+
+        void addKeysTo(Set<K> keys) {
+            keys.addAll(upserts.keySet());
+            keys.addAll(deletes);
+        }
+    }
+
+    public record PlayerSaveDelta(double crystals,
+                                  Map<MineUpgradeType, Integer> upgradeLevels,
+                                  boolean inMine,
+                                  int pickaxeTier,
+                                  int pickaxeEnhancement,
+                                  RowChanges<String, Integer> inventory,
+                                  RowChanges<String, Integer> conveyorBuffer,
+                                  RowChanges<String, Integer> eggInventory,
+                                  RowChanges<Integer, Long> slotAssignments,
+                                  Map<Long, Integer> minerSpeedLevels) {}
 }
@@ -11,12 +11,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 public class MinePlayerStore {
     private static final FluentLogger LOGGER = FluentLogger.forEnclosingClass();
@@ -25,9 +28,17 @@ public class MinePlayerStore {
     private final Map<UUID, MinePlayerProgress> players = new ConcurrentHashMap<>();
     private final Map<UUID, Long> dirtyVersions = new ConcurrentHashMap<>();
     private final AtomicBoolean saveScheduled = new AtomicBoolean(false);
+    // Serializes flushes so two deltas for the same row can never commit out of order
+    private final Object saveLock = new Object();
+    private final Consumer<Runnable> saveScheduler;
 
     public MinePlayerStore(ConnectionProvider db) {
+        this(db, task -> HytaleServer.SCHEDULED_EXECUTOR.schedule(task, 5, TimeUnit.SECONDS));
+    }
+
+    MinePlayerStore(ConnectionProvider db, Consumer<Runnable> saveScheduler) {
         this.db = db;
+        this.saveScheduler = saveScheduler;
     }
 
     public MinePlayerProgress getPlayer(UUID playerId) {
@@ -61,17 +72,15 @@ public class MinePlayerStore {
     }
 
     public void flushAll() {
-        for (UUID playerId : new ArrayList<>(dirtyVersions.keySet())) {
-            flushPlayer(playerId);
-        }
+        flushPlayers(new ArrayList<>(dirtyVersions.keySet()));
     }
 
     private void queueSave() {
         if (saveScheduled.compareAndSet(false, true)) {
-            HytaleServer.SCHEDULED_EXECUTOR.schedule(() -> {
+            saveScheduler.accept(() -> {
                 saveScheduled.set(false);
                 flushAll();
-            }, 5, TimeUnit.SECONDS);
+            });
         }
     }
 
@@ -177,6 +186,8 @@ public class MinePlayerStore {
                 }
             }
 
+            // Loaded rows mirror the tables; only later changes need writing
+            progress.markPersisted();
             return progress;
         } catch (SQLException e) {
             LOGGER.atSevere().log("Failed to load mine player %s: %s", playerId, e.getMessage());
@@ -190,14 +201,34 @@ public class MinePlayerStore {
     }
 
     private boolean flushPlayer(UUID playerId) {
-        Long dirtyVersion = dirtyVersions.get(playerId);
-        if (dirtyVersion == null) {
-            return true;
-        }
-        if (!savePlayerSync(playerId)) {
-            return false;
+        return flushPlayers(List.of(playerId));
+    }
+
+    /**
+     * Saves the given dirty players in one transaction. Returns true if every one of them is clean afterwards
+     * (false if the save failed or a player was marked dirty again while it ran).
+     */
+    private boolean flushPlayers(Collection<UUID> playerIds) {
+        synchronized (saveLock) {
+            Map<UUID, Long> versions = new LinkedHashMap<>();
+            for (UUID playerId : playerIds) {
+                Long dirtyVersion = dirtyVersions.get(playerId);
+                if (dirtyVersion != null) {
+                    versions.put(playerId, dirtyVersion);
+                }
+            }
+            if (versions.isEmpty()) {
+                return true;
+            }
+            if (!savePlayersSync(versions.keySet())) {
+                return false;
+            }
+            boolean allClean = true;
+            for (Map.Entry<UUID, Long> entry : versions.entrySet()) {
+                allClean &= dirtyVersions.remove(entry.getKey(), entry.getValue());
+            }
+            return allClean;
         }
-        return dirtyVersions.remove(playerId, dirtyVersion);
     }
 
     /**
@@ -240,166 +271,220 @@ public class MinePlayerStore {
         }
     }
 
-    private boolean savePlayerSync(UUID playerId) {
-        MinePlayerProgress progress = players.get(playerId);
-        if (progress == null) return true;
+    private static final String PLAYER_UPSERT_SQL = """
+            INSERT INTO mine_players (uuid, crystals,
+                bag_capacity_level, upgrade_momentum, upgrade_fortune,
+                upgrade_jackhammer, upgrade_stomp, upgrade_blast, upgrade_haste,
+                upgrade_conveyor_capacity, upgrade_cashback,
+                in_mine, pickaxe_tier, pickaxe_enhancement)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE crystals = VALUES(crystals),
+                                    bag_capacity_level = VALUES(bag_capacity_level),
+                                    upgrade_momentum = VALUES(upgrade_momentum),
+                                    upgrade_fortune = VALUES(upgrade_fortune),
+                                    upgrade_jackhammer = VALUES(upgrade_jackhammer),
+                                    upgrade_stomp = VALUES(upgrade_stomp),
+                                    upgrade_blast = VALUES(upgrade_blast),
+                                    upgrade_haste = VALUES(upgrade_haste),
+                                    upgrade_conveyor_capacity = VALUES(upgrade_conveyor_capacity),
+                                    upgrade_cashback = VALUES(upgrade_cashback),
+                                    in_mine = VALUES(in_mine),
+                                    pickaxe_tier = VALUES(pickaxe_tier),
+                                    pickaxe_enhancement = VALUES(pickaxe_enhancement)
+            """;
+
+    /**
+     * Writes the pending row changes of the given players: the player row, then targeted deletes and
+     * upserts for only the child rows that changed since the last save. Rows of all players share one batch
+     * per statement. On failure the drained changes are handed back to each player for the next attempt.
+     */
+    private boolean savePlayersSync(Collection<UUID> playerIds) {
         if (!this.db.isInitialized()) return true;
 
-        MinePlayerProgress.PlayerSaveSnapshot snapshot = progress.createSaveSnapshot();
+        Map<UUID, MinePlayerProgress.PlayerSaveDelta> deltas = new LinkedHashMap<>();
+        for (UUID playerId : playerIds) {
+            MinePlayerProgress progress = players.get(playerId);
+            if (progress != null) {
+                deltas.put(playerId, progress.createSaveDelta());
+            }
+        }
+        if (deltas.isEmpty()) return true;
 
+        boolean saved = false;
         try (Connection conn = this.db.getConnection()) {
-            if (conn == null) return false;
-
-            conn.setAutoCommit(false);
-            try {
-                // Save crystals + upgrades
-                try (PreparedStatement ps = conn.prepareStatement("""
-                        INSERT INTO mine_players (uuid, crystals,
-                            bag_capacity_level, upgrade_momentum, upgrade_fortune,
-                            upgrade_jackhammer, upgrade_stomp, upgrade_blast, upgrade_haste,
-                            upgrade_conveyor_capacity, upgrade_cashback,
-                            in_mine, pickaxe_tier, pickaxe_enhancement)
-                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-                        ON DUPLICATE KEY UPDATE crystals = VALUES(crystals),
-                                                bag_capacity_level = VALUES(bag_capacity_level),
-                                                upgrade_momentum = VALUES(upgrade_momentum),
-                                                upgrade_fortune = VALUES(upgrade_fortune),
-                                                upgrade_jackhammer = VALUES(upgrade_jackhammer),
-                                                upgrade_stomp = VALUES(upgrade_stomp),
-                                                upgrade_blast = VALUES(upgrade_blast),
-                                                upgrade_haste = VALUES(upgrade_haste),
-                                                upgrade_conveyor_capacity = VALUES(upgrade_conveyor_capacity),
-                                                upgrade_cashback = VALUES(upgrade_cashback),
-                                                in_mine = VALUES(in_mine),
-                                                pickaxe_tier = VALUES(pickaxe_tier),
-                                                pickaxe_enhancement = VALUES(pickaxe_enhancement)
-                        """)) {
-                    ps.setString(1, playerId.toString());
-                    ps.setDouble(2, snapshot.crystals());
-                    ps.setInt(3, snapshot.upgradeLevels().getOrDefault(MineUpgradeType.BAG_CAPACITY, 0));
-                    ps.setInt(4, snapshot.upgradeLevels().getOrDefault(MineUpgradeType.MOMENTUM, 0));
-                    ps.setInt(5, snapshot.upgradeLevels().getOrDefault(MineUpgradeType.FORTUNE, 0));
-                    ps.setInt(6, snapshot.upgradeLevels().getOrDefault(MineUpgradeType.JACKHAMMER, 0));
-                    ps.setInt(7, snapshot.upgradeLevels().getOrDefault(MineUpgradeType.STOMP, 0));
-                    ps.setInt(8, snapshot.upgradeLevels().getOrDefault(MineUpgradeType.BLAST, 0));
-                    ps.setInt(9, snapshot.upgradeLevels().getOrDefault(MineUpgradeType.HASTE, 0));
-                    ps.setInt(10, snapshot.upgradeLevels().getOrDefault(MineUpgradeType.CONVEYOR_CAPACITY, 0));
-                    ps.setInt(11, snapshot.upgradeLevels().getOrDefault(MineUpgradeType.CASHBACK, 0));
-                    ps.setBoolean(12, snapshot.inMine());
-                    ps.setInt(13, snapshot.pickaxeTier());
-                    ps.setInt(14, snapshot.pickaxeEnhancement());
-                    ps.executeUpdate();
+            if (conn != null) {
+                writeDeltas(conn, deltas);
+                saved = true;
+            }
+        } catch (SQLException e) {
+            LOGGER.atSevere().log("Failed to save %d mine player(s): %s", deltas.size(), e.getMessage());
+        }
+        if (!saved) {
+            for (Map.Entry<UUID, MinePlayerProgress.PlayerSaveDelta> entry : deltas.entrySet()) {
+                MinePlayerProgress progress = players.get(entry.getKey());
+                if (progress != null) {
+                    progress.restorePendingChanges(entry.getValue());
                 }
+            }
+        }
+        return saved;
+    }
 
-                // Save inventory — delete + re-insert
-                try (PreparedStatement ps = conn.prepareStatement(
-                        "DELETE FROM mine_player_inventory WHERE player_uuid = ?")) {
-                    ps.setString(1, playerId.toString());
-                    ps.executeUpdate();
+    private void writeDeltas(Connection conn, Map<UUID, MinePlayerProgress.PlayerSaveDelta> deltas)
+            throws SQLException {
+        BatchedStatement playerStmt = new BatchedStatement(conn, PLAYER_UPSERT_SQL);
+        BatchedStatement delInventory = new BatchedStatement(conn,
+            "DELETE FROM mine_player_inventory WHERE player_uuid = ? AND block_type_id = ?");
+        BatchedStatement delConveyor = new BatchedStatement(conn,
+            "DELETE FROM mine_player_conveyor_buffer WHERE player_uuid = ? AND block_type_id = ?");
+        BatchedStatement delEggs = new BatchedStatement(conn,
+            "DELETE FROM mine_player_eggs WHERE player_uuid = ? AND layer_id = ?");
+        BatchedStatement delSlots = new BatchedStatement(conn,
+            "DELETE FROM mine_player_slot_assignments WHERE player_uuid = ? AND slot_index = ?");
+        BatchedStatement inventoryStmt = new BatchedStatement(conn,
+            "INSERT INTO mine_player_inventory (player_uuid, block_type_id, amount) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE amount = VALUES(amount)");
+        BatchedStatement conveyorStmt = new BatchedStatement(conn,
+            "INSERT INTO mine_player_conveyor_buffer (player_uuid, block_type_id, amount) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE amount = VALUES(amount)");
+        BatchedStatement eggStmt = new BatchedStatement(conn,
+            "INSERT INTO mine_player_eggs (player_uuid, layer_id, count) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE count = VALUES(count)");
+        BatchedStatement slotStmt = new BatchedStatement(conn,
+            "INSERT INTO mine_player_slot_assignments (player_uuid, slot_index, miner_id) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE miner_id = VALUES(miner_id)");
+        // Miner INSERTs happen at egg-open time via insertMiner; saves only carry speed upgrades
+        BatchedStatement minerStmt = new BatchedStatement(conn,
+            "UPDATE mine_player_miners_v2 SET speed_level = ? WHERE id = ?");
+
+        // Player rows first (child tables reference them), then deletes, then upserts
+        List<BatchedStatement> executionOrder = List.of(playerStmt, delInventory, delConveyor, delEggs, delSlots,
+            inventoryStmt, conveyorStmt, eggStmt, slotStmt, minerStmt);
+
+        conn.setAutoCommit(false);
+        try {
+            for (Map.Entry<UUID, MinePlayerProgress.PlayerSaveDelta> entry : deltas.entrySet()) {
+                String pid = entry.getKey().toString();
+                MinePlayerProgress.PlayerSaveDelta delta = entry.getValue();
+
+                PreparedStatement ps = playerStmt.get();
+                ps.setString(1, pid);
+                ps.setDouble(2, delta.crystals());
+                ps.setInt(3, delta.upgradeLevels().getOrDefault(MineUpgradeType.BAG_CAPACITY, 0));
+                ps.setInt(4, delta.upgradeLevels().getOrDefault(MineUpgradeType.MOMENTUM, 0));
+                ps.setInt(5, delta.upgradeLevels().getOrDefault(MineUpgradeType.FORTUNE, 0));
+                ps.setInt(6, delta.upgradeLevels().getOrDefault(MineUpgradeType.JACKHAMMER, 0));
+                ps.setInt(7, delta.upgradeLevels().getOrDefault(MineUpgradeType.STOMP, 0));
+                ps.setInt(8, delta.upgradeLevels().getOrDefault(MineUpgradeType.BLAST, 0));
+                ps.setInt(9, delta.upgradeLevels().getOrDefault(MineUpgradeType.HASTE, 0));
+                ps.setInt(10, delta.upgradeLevels().getOrDefault(MineUpgradeType.CONVEYOR_CAPACITY, 0));
+                ps.setInt(11, delta.upgradeLevels().getOrDefault(MineUpgradeType.CASHBACK, 0));
+                ps.setBoolean(12, delta.inMine());
+                ps.setInt(13, delta.pickaxeTier());
+                ps.setInt(14, delta.pickaxeEnhancement());
+                ps.addBatch();
+
+                for (String blockTypeId : delta.inventory().deletes()) {
+                    addDelete(delInventory, pid, blockTypeId);
                 }
-
-                Map<String, Integer> inventory = snapshot.inventory();
-                if (!inventory.isEmpty()) {
-                    try (PreparedStatement ps = conn.prepareStatement(
-                            "INSERT INTO mine_player_inventory (player_uuid, block_type_id, amount) VALUES (?, ?, ?)")) {
-                        for (var entry : inventory.entrySet()) {
-                            ps.setString(1, playerId.toString());
-                            ps.setString(2, entry.getKey());
-                            ps.setInt(3, entry.getValue());
-                            ps.addBatch();
-                        }
-                        ps.executeBatch();
-                    }
+                for (String blockTypeId : delta.conveyorBuffer().deletes()) {
+                    addDelete(delConveyor, pid, blockTypeId);
                 }
-
-                // Save conveyor buffer — delete + re-insert
-                try (PreparedStatement ps = conn.prepareStatement(
-                        "DELETE FROM mine_player_conveyor_buffer WHERE player_uuid = ?")) {
-                    ps.setString(1, playerId.toString());
-                    ps.executeUpdate();
+                for (String layerId : delta.eggInventory().deletes()) {
+                    addDelete(delEggs, pid, layerId);
                 }
-
-                Map<String, Integer> conveyorBuffer = snapshot.conveyorBuffer();
-                if (!conveyorBuffer.isEmpty()) {
-                    try (PreparedStatement ps = conn.prepareStatement(
-                            "INSERT INTO mine_player_conveyor_buffer (player_uuid, block_type_id, amount) VALUES (?, ?, ?)")) {
-                        for (var entry : conveyorBuffer.entrySet()) {
-                            ps.setString(1, playerId.toString());
-                            ps.setString(2, entry.getKey());
-                            ps.setInt(3, entry.getValue());
-                            ps.addBatch();
-                        }
-                        ps.executeBatch();
-                    }
+                for (int slotIndex : delta.slotAssignments().deletes()) {
+                    PreparedStatement del = delSlots.get();
+                    del.setString(1, pid);
+                    del.setInt(2, slotIndex);
+                    del.addBatch();
                 }
 
-                // Save egg inventory — delete + re-insert
-                try (PreparedStatement ps = conn.prepareStatement(
-                        "DELETE FROM mine_player_eggs WHERE player_uuid = ?")) {
-                    ps.setString(1, playerId.toString());
-                    ps.executeUpdate();
+                addCounts(inventoryStmt, pid, delta.inventory().upserts());
+                addCounts(conveyorStmt, pid, delta.conveyorBuffer().upserts());
+                addCounts(eggStmt, pid, delta.eggInventory().upserts());
+                for (var slot : delta.slotAssignments().upserts().entrySet()) {
+                    PreparedStatement upsert = slotStmt.get();
+                    upsert.setString(1, pid);
+                    upsert.setInt(2, slot.getKey());
+                    upsert.setLong(3, slot.getValue());
+                    upsert.addBatch();
                 }
-
-                Map<String, Integer> eggs = snapshot.eggInventory();
-                if (!eggs.isEmpty()) {
-                    try (PreparedStatement ps = conn.prepareStatement(
-                            "INSERT INTO mine_player_eggs (player_uuid, layer_id, count) VALUES (?, ?, ?)")) {
-                        for (var entry : eggs.entrySet()) {
-                            ps.setString(1, playerId.toString());
-                            ps.setString(2, entry.getKey());
-                            ps.setInt(3, entry.getValue());
-                            ps.addBatch();
-                        }
-                        ps.executeBatch();
-                    }
+                for (var miner : delta.minerSpeedLevels().entrySet()) {
+                    PreparedStatement update = minerStmt.get();
+                    update.setInt(1, miner.getValue());
+                    update.setLong(2, miner.getKey());
+                    update.addBatch();
                 }
+            }
 
-                // Save miner speed levels (INSERTs happen at egg-open time via insertMiner)
-                List<CollectedMiner> miners = snapshot.minerCollection();
-                if (!miners.isEmpty()) {
-                    try (PreparedStatement ps = conn.prepareStatement(
-                            "UPDATE mine_player_miners_v2 SET speed_level = ? WHERE id = ?")) {
-                        for (CollectedMiner m : miners) {
-                            ps.setInt(1, m.getSpeedLevel());
-                            ps.setLong(2, m.getId());
-                            ps.addBatch();
-                        }
-                        ps.executeBatch();
-                    }
-                }
+            for (BatchedStatement stmt : executionOrder) {
+                stmt.executeBatch();
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            for (BatchedStatement stmt : executionOrder) {
+                stmt.close();
+            }
+            conn.setAutoCommit(true);
+        }
+    }
 
-                // Save slot assignments — delete + re-insert
-                try (PreparedStatement ps = conn.prepareStatement(
-                        "DELETE FROM mine_player_slot_assignments WHERE player_uuid = ?")) {
-                    ps.setString(1, playerId.toString());
-                    ps.executeUpdate();
-                }
+    private static void addDelete(BatchedStatement stmt, String pid, String key) throws SQLException {
+        PreparedStatement ps = stmt.get();
+        ps.setString(1, pid);
+        ps.setString(2, key);
+        ps.addBatch();
+    }
 
-                Map<Integer, Long> slots = snapshot.slotAssignments();
-                if (!slots.isEmpty()) {
-                    try (PreparedStatement ps = conn.prepareStatement(
-                            "INSERT INTO mine_player_slot_assignments (player_uuid, slot_index, miner_id) VALUES (?, ?, ?)")) {
-                        for (var entry : slots.entrySet()) {
-                            ps.setString(1, playerId.toString());
-                            ps.setInt(2, entry.getKey());
-                            ps.setLong(3, entry.getValue());
-                            ps.addBatch();
-                        }
-                        ps.executeBatch();
-                    }
-                }
+    private static void addCounts(BatchedStatement stmt, String pid, Map<String, Integer> counts) throws SQLException {
+        for (var entry : counts.entrySet()) {
+            PreparedStatement ps = stmt.get();
+            ps.setString(1, pid);
+            ps.setString(2, entry.getKey());
+            ps.setInt(3, entry.getValue());
+            ps.addBatch();
+        }
+    }
 
-                conn.commit();
-            } catch (SQLException e) {
-                conn.rollback();
-                throw e;
-            } finally {
-                conn.setAutoCommit(true);
+    /**
+     * A statement that is only prepared once a row is added to it, so a save touching a few tables
+     * does not round-trip for the others.
+     */
+    private static final class BatchedStatement {
+        private final Connection conn;
+        private final String sql;
+        private PreparedStatement stmt;
+
+        BatchedStatement(Connection conn, String sql) {
+            this.conn = conn;
+            this.sql = sql;
+        }
+
+        PreparedStatement get() throws SQLException {
+            if (stmt == null) {
+                stmt = conn.prepareStatement(sql);
+                DatabaseManager.applyQueryTimeout(stmt);
+            }
+            return stmt;
+        }
+
+        void executeBatch() throws SQLException {
+            if (stmt != null) {
+                stmt.executeBatch();
+            }
+        }
+
+        void close() {
+            if (stmt != null) {
+                try {
+                    stmt.close();
+                } catch (SQLException ignored) {
+                }
             }
-            return true;
-        } catch (SQLException e) {
-            LOGGER.atSevere().log("Failed to save mine player %s: %s", playerId, e.getMessage());
-            return false;
         }
     }
 }
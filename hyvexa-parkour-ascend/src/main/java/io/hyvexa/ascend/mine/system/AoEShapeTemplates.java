@@ -0,0 +1,167 @@
+package io.hyvexa.ascend.mine.system;
+
+import io.hyvexa.ascend.mine.data.MineUpgradeType;
+import io.hyvexa.ascend.mine.data.MineZone;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed AoE shapes for Jackhammer (column below), Stomp (layer around) and Blast (sphere),
+ * one per upgrade level, stored as packed {@code dx, dy, dz} offset triples relative to the broken block.
+ * Templates are built once and shared; never mutate the returned arrays.
+ * <p>
+ * {@link #collect} expands the active shapes around a center in a single pass, dropping offsets that an
+ * earlier shape already covered (shapes are axis-aligned, so overlap is a bounds test rather than a set),
+ * positions outside the zone, and blocks already broken. Output order matches the old list-based builder:
+ * jackhammer, then stomp, then blast.
+ */
+final class AoEShapeTemplates {
+
+    /** Skips positions that should not be processed (e.g. already broken). */
+    interface PositionFilter {
+        boolean skip(int x, int y, int z);
+    }
+
+    private static final int[] EMPTY = new int[0];
+    private static final int[][] JACKHAMMER = buildForLevels(MineUpgradeType.JACKHAMMER);
+    private static final int[][] STOMP = buildForLevels(MineUpgradeType.STOMP);
+    private static final int[][] BLAST = buildForLevels(MineUpgradeType.BLAST);
+
+    private AoEShapeTemplates() {}
+
+    /** Column of {@code level} blocks below the center. */
+    static int[] jackhammer(int level) {
+        return level >= 0 && level < JACKHAMMER.length ? JACKHAMMER[level] : build(MineUpgradeType.JACKHAMMER, level);
+    }
+
+    /** Square layer of the level's radius around the center, center excluded. */
+    static int[] stomp(int level) {
+        return level >= 0 && level < STOMP.length ? STOMP[level] : build(MineUpgradeType.STOMP, level);
+    }
+
+    /** Sphere of the level's radius around the center, center excluded. */
+    static int[] blast(int level) {
+        return level >= 0 && level < BLAST.length ? BLAST[level] : build(MineUpgradeType.BLAST, level);
+    }
+
+    /**
+     * Writes the union of the active shapes (level 0 = inactive) around the center into {@code out} as
+     * {@code x, y, z} triples and returns the number of positions written. {@code out} must hold at least
+     * {@link #capacity} ints for the same levels.
+     */
+    static int collect(int centerX, int centerY, int centerZ, int jackhammerLevel, int stompLevel, int blastLevel,
+                       MineZone zone, PositionFilter filter, int[] out) {
+        int count = 0;
+        int depth = jackhammerLevel > 0 ? jackhammerLevel : 0;
+        int stompRadius = stompLevel > 0 ? (int) MineUpgradeType.STOMP.getEffect(stompLevel) : -1;
+
+        if (jackhammerLevel > 0) {
+            count = append(jackhammer(jackhammerLevel), centerX, centerY, centerZ, zone, filter, out, count,
+                0, -1);
+        }
+        if (stompLevel > 0) {
+            // Stomp (dy == 0) never overlaps the jackhammer column (dy < 0)
+            count = append(stomp(stompLevel), centerX, centerY, centerZ, zone, filter, out, count, 0, -1);
+        }
+        if (blastLevel > 0) {
+            count = append(blast(blastLevel), centerX, centerY, centerZ, zone, filter, out, count,
+                depth, stompRadius);
+        }
+        return count;
+    }
+
+    /** Ints needed in the {@link #collect} buffer for these levels. */
+    static int capacity(int jackhammerLevel, int stompLevel, int blastLevel) {
+        int length = 0;
+        if (jackhammerLevel > 0) length += jackhammer(jackhammerLevel).length;
+        if (stompLevel > 0) length += stomp(stompLevel).length;
+        if (blastLevel > 0) length += blast(blastLevel).length;
+        return length;
+    }
+
+    /**
+     * Appends one template, skipping offsets inside the jackhammer column of {@code coveredDepth} or the stomp
+     * layer of {@code coveredRadius} (-1 = none), which an earlier template already emitted.
+     */
+    private static int append(int[] template, int centerX, int centerY, int centerZ, MineZone zone,
+                              PositionFilter filter, int[] out, int count, int coveredDepth, int coveredRadius) {
+        int index = count * 3;
+        for (int i = 0; i < template.length; i += 3) {
+            int dx = template[i];
+            int dy = template[i + 1];
+            int dz = template[i + 2];
+            if (dx == 0 && dz == 0 && dy < 0 && dy >= -coveredDepth) continue;
+            if (dy == 0 && Math.abs(dx) <= coveredRadius && Math.abs(dz) <= coveredRadius) continue;
+
+            int x = centerX + dx;
+            int y = centerY + dy;
+            int z = centerZ + dz;
+            if (!zone.contains(x, y, z)) continue;
+            if (filter != null && filter.skip(x, y, z)) continue;
+            out[index++] = x;
+            out[index++] = y;
+            out[index++] = z;
+        }
+        return index / 3;
+    }
+
+    private static int[][] buildForLevels(MineUpgradeType type) {
+        int[][] templates = new int[type.getMaxLevel() + 1][];
+        for (int level = 0; level < templates.length; level++) {
+            templates[level] = build(type, level);
+        }
+        return templates;
+    }
+
+    private static int[] build(MineUpgradeType type, int level) {
+        if (level <= 0) return EMPTY;
+        return switch (type) {
+            case JACKHAMMER -> buildColumn(level);
+            case STOMP -> buildLayer((int) type.getEffect(level));
+            case BLAST -> buildSphere((int) type.getEffect(level));
+            default -> EMPTY;
+        };
+    }
+
+    private static int[] buildColumn(int depth) {
+        int[] offsets = new int[depth * 3];
+        for (int dy = 1; dy <= depth; dy++) {
+            offsets[(dy - 1) * 3 + 1] = -dy;
+        }
+        return offsets;
+    }
+
+    private static int[] buildLayer(int radius) {
+        int side = 2 * radius + 1;
+        int[] offsets = new int[(side * side - 1) * 3];
+        int index = 0;
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                if (dx == 0 && dz == 0) continue; // skip center (already broken)
+                offsets[index++] = dx;
+                offsets[index++] = 0;
+                offsets[index++] = dz;
+            }
+        }
+        return offsets;
+    }
+
+    private static int[] buildSphere(int radius) {
+        int side = 2 * radius + 1;
+        int[] offsets = new int[side * side * side * 3];
+        int index = 0;
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    if (dx == 0 && dy == 0 && dz == 0) continue; // skip center
+                    if (dx * dx + dy * dy + dz * dz <= radius * radius) {
+                        offsets[index++] = dx;
+                        offsets[index++] = dy;
+                        offsets[index++] = dz;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(offsets, index);
+    }
+}
@@ -3,23 +3,78 @@ package io.hyvexa.ascend.mine.system;
 import io.hyvexa.ascend.mine.util.MinePositionUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 
 /**
  * Tracks per-player block damage for multi-HP blocks.
  * Each player has independent damage progress on each block position.
- * Damage persists until the block breaks or the zone regenerates.
+ * Damage persists until the block breaks, the zone regenerates, or nobody has hit it for
+ * {@link #DEFAULT_EXPIRY_MS}.
+ * <p>
+ * Storage is position-major and primitive: an open-addressing {@code long -> entry} table keyed by packed
+ * position, with damage entries pooled in parallel arrays. Each entry sits on three intrusive lists
+ * (players damaging its position, positions damaged by its player, and all entries by last hit), so
+ * clearing a position or a player touches only its own entries and expiry pops the oldest entries a few
+ * at a time on each hit instead of sweeping. A steady-state hit allocates nothing but its {@link HitResult}.
  */
 public class BlockDamageTracker {
 
-    // playerId -> (packedPos -> state)
-    private final Map<UUID, Map<Long, BlockDamageState>> playerDamage = new ConcurrentHashMap<>();
+    /** Damage nobody has touched for this long is forgotten (the block heals). */
+    public static final long DEFAULT_EXPIRY_MS = 10 * 60 * 1000L;
+    /** Expired entries reclaimed per hit; enough to outpace creation, small enough to stay O(1). */
+    private static final int EXPIRE_PER_HIT = 4;
+    private static final int NIL = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final LongSupplier clock;
+    private final long expiryMs;
+
+    // Position table (linear probing); posHeads[slot] == NIL marks an empty slot
+    private long[] posKeys = new long[INITIAL_CAPACITY];
+    private int[] posHeads = filled(INITIAL_CAPACITY);
+    private int posCount;
+
+    // Entry pool
+    private long[] entryPos = new long[INITIAL_CAPACITY];
+    private int[] entryPlayer = new int[INITIAL_CAPACITY];
+    private String[] entryBlockType = new String[INITIAL_CAPACITY];
+    private double[] entryHp = new double[INITIAL_CAPACITY];
+    private long[] entryLastHit = new long[INITIAL_CAPACITY];
+    private int[] posNext = new int[INITIAL_CAPACITY];
+    private int[] posPrev = new int[INITIAL_CAPACITY];
+    private int[] playerNext = new int[INITIAL_CAPACITY];
+    private int[] playerPrev = new int[INITIAL_CAPACITY];
+    private int[] ageNext = new int[INITIAL_CAPACITY];
+    private int[] agePrev = new int[INITIAL_CAPACITY];
+    private int entryCount;
+    private int entryHighWater;
+    private int freeEntry = NIL;
+    private int ageHead = NIL;
+    private int ageTail = NIL;
+
+    // Player slots
+    private final Map<UUID, Integer> playerSlots = new HashMap<>();
+    private UUID[] slotPlayers = new UUID[16];
+    private int[] playerHeads = filled(16);
+    private int[] freePlayerSlots = new int[16];
+    private int freePlayerSlotCount;
+    private int playerHighWater;
+
+    public BlockDamageTracker() {
+        this(System::currentTimeMillis, DEFAULT_EXPIRY_MS);
+    }
+
+    BlockDamageTracker(LongSupplier clock, long expiryMs) {
+        this.clock = clock;
+        this.expiryMs = expiryMs;
+    }
 
     /**
      * Records a hit on a block with 1 base damage.
@@ -31,51 +86,71 @@ public class BlockDamageTracker {
     /**
      * Records a hit on a block with a damage multiplier (e.g. Momentum combo bonus).
      */
-    public HitResult recordHit(UUID playerId, int x, int y, int z, String blockTypeId, int maxHp, double damageMultiplier) {
+    public synchronized HitResult recordHit(UUID playerId, int x, int y, int z, String blockTypeId, int maxHp,
+                                            double damageMultiplier) {
         if (maxHp <= 1) {
             return HitResult.INSTANT_BREAK;
         }
 
-        long packedPos = MinePositionUtils.packPosition(x, y, z);
-
-        Map<Long, BlockDamageState> blocks = playerDamage.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>());
-        BlockDamageState state = blocks.get(packedPos);
+        long now = clock.getAsLong();
+        expireOldest(now);
 
-        if (state == null || !blockTypeId.equals(state.blockTypeId)) {
-            state = new BlockDamageState(blockTypeId, maxHp, maxHp);
-            blocks.put(packedPos, state);
+        long packedPos = MinePositionUtils.packPosition(x, y, z);
+        int playerSlot = playerSlot(playerId);
+        int entry = findEntry(packedPos, playerSlot);
+        if (entry == NIL) {
+            entry = addEntry(packedPos, playerSlot, blockTypeId, maxHp);
+        } else if (!blockTypeId.equals(entryBlockType[entry]) || now - entryLastHit[entry] >= expiryMs) {
+            entryBlockType[entry] = blockTypeId;
+            entryHp[entry] = maxHp;
         }
 
         double damage = Math.max(1.0, damageMultiplier);
-        state.currentHp -= damage;
+        entryHp[entry] -= damage;
 
-        if (state.currentHp <= 0) {
-            blocks.remove(packedPos);
+        if (entryHp[entry] <= 0) {
+            removeEntry(entry);
             return new HitResult(0, maxHp, true);
         }
 
-        return new HitResult(state.currentHp, maxHp, false);
+        entryLastHit[entry] = now;
+        moveToAgeTail(entry);
+        return new HitResult(entryHp[entry], maxHp, false);
     }
 
     /**
      * Removes all damage state for a player (disconnect).
      */
-    public void evict(UUID playerId) {
-        playerDamage.remove(playerId);
+    public synchronized void evict(UUID playerId) {
+        Integer slot = playerSlots.get(playerId);
+        if (slot == null) {
+            return;
+        }
+        int entry = playerHeads[slot];
+        while (entry != NIL) {
+            int next = playerNext[entry];
+            removeEntry(entry);
+            entry = next;
+        }
     }
 
     /**
      * Clear damage state for ALL players at a given position (zone regen).
      * Returns the set of player UUIDs that had damage state (for crack clear packets).
      */
-    public Set<UUID> clearPosition(int x, int y, int z) {
+    public synchronized Set<UUID> clearPosition(int x, int y, int z) {
         long packedPos = MinePositionUtils.packPosition(x, y, z);
-        Set<UUID> affected = null;
-        for (var entry : playerDamage.entrySet()) {
-            if (entry.getValue().remove(packedPos) != null) {
-                if (affected == null) affected = new HashSet<>();
-                affected.add(entry.getKey());
-            }
+        int slot = findSlot(packedPos);
+        if (slot == NIL) {
+            return null;
+        }
+        Set<UUID> affected = new HashSet<>();
+        int entry = posHeads[slot];
+        while (entry != NIL) {
+            int next = posNext[entry];
+            affected.add(slotPlayers[entryPlayer[entry]]);
+            removeEntry(entry);
+            entry = next;
         }
         return affected;
     }
@@ -84,38 +159,281 @@ public class BlockDamageTracker {
      * Clear ALL damage state and return player -> position mappings for crack visual clears.
      * Used during zone regen when all blocks are replaced.
      */
-    public Map<UUID, List<int[]>> clearAllAndCollect() {
+    public synchronized Map<UUID, List<int[]>> clearAllAndCollect() {
         Map<UUID, List<int[]>> result = null;
-        var it = playerDamage.entrySet().iterator();
-        while (it.hasNext()) {
-            var entry = it.next();
-            UUID playerId = entry.getKey();
-            Map<Long, BlockDamageState> blocks = entry.getValue();
-            if (!blocks.isEmpty()) {
-                if (result == null) result = new HashMap<>();
-                List<int[]> positions = new ArrayList<>(blocks.size());
-                for (long packed : blocks.keySet()) {
-                    positions.add(MinePositionUtils.unpackPosition(packed));
-                }
-                result.put(playerId, positions);
+        for (int slot = 0; slot < playerHighWater; slot++) {
+            int entry = playerHeads[slot];
+            if (entry == NIL) {
+                continue;
             }
-            it.remove();
+            if (result == null) result = new HashMap<>();
+            List<int[]> positions = new ArrayList<>();
+            for (; entry != NIL; entry = playerNext[entry]) {
+                positions.add(MinePositionUtils.unpackPosition(entryPos[entry]));
+            }
+            result.put(slotPlayers[slot], positions);
         }
+
+        Arrays.fill(posHeads, NIL);
+        posCount = 0;
+        Arrays.fill(entryBlockType, 0, entryHighWater, null);
+        entryCount = 0;
+        entryHighWater = 0;
+        freeEntry = NIL;
+        ageHead = NIL;
+        ageTail = NIL;
+        playerSlots.clear();
+        Arrays.fill(slotPlayers, 0, playerHighWater, null);
+        Arrays.fill(playerHeads, 0, playerHighWater, NIL);
+        freePlayerSlotCount = 0;
+        playerHighWater = 0;
         return result;
     }
 
-    public static class BlockDamageState {
-        public final String blockTypeId;
-        public final int maxHp;
-        public double currentHp;
+    /** Live damage entries (one per player per damaged block). */
+    synchronized int size() {
+        return entryCount;
+    }
+
+    // ── Entries ──────────────────────────────────────────────────────────
+
+    private int findEntry(long packedPos, int playerSlot) {
+        int slot = findSlot(packedPos);
+        if (slot == NIL) {
+            return NIL;
+        }
+        for (int entry = posHeads[slot]; entry != NIL; entry = posNext[entry]) {
+            if (entryPlayer[entry] == playerSlot) {
+                return entry;
+            }
+        }
+        return NIL;
+    }
+
+    private int addEntry(long packedPos, int playerSlot, String blockTypeId, int maxHp) {
+        int entry;
+        if (freeEntry != NIL) {
+            entry = freeEntry;
+            freeEntry = posNext[entry];
+        } else {
+            if (entryHighWater == entryPos.length) {
+                growEntries();
+            }
+            entry = entryHighWater++;
+        }
+        entryCount++;
+        entryPos[entry] = packedPos;
+        entryPlayer[entry] = playerSlot;
+        entryBlockType[entry] = blockTypeId;
+        entryHp[entry] = maxHp;
+
+        int slot = insertSlot(packedPos);
+        int head = posHeads[slot];
+        posPrev[entry] = NIL;
+        posNext[entry] = head;
+        if (head != NIL) posPrev[head] = entry;
+        posHeads[slot] = entry;
+
+        int playerHead = playerHeads[playerSlot];
+        playerPrev[entry] = NIL;
+        playerNext[entry] = playerHead;
+        if (playerHead != NIL) playerPrev[playerHead] = entry;
+        playerHeads[playerSlot] = entry;
+
+        agePrev[entry] = ageTail;
+        ageNext[entry] = NIL;
+        if (ageTail != NIL) ageNext[ageTail] = entry; else ageHead = entry;
+        ageTail = entry;
+        return entry;
+    }
+
+    private void removeEntry(int entry) {
+        // Position list; drop the table slot once nobody is damaging the block
+        if (posPrev[entry] != NIL) {
+            posNext[posPrev[entry]] = posNext[entry];
+        } else {
+            int slot = findSlot(entryPos[entry]);
+            if (posNext[entry] != NIL) {
+                posHeads[slot] = posNext[entry];
+            } else {
+                deleteSlot(slot);
+            }
+        }
+        if (posNext[entry] != NIL) posPrev[posNext[entry]] = posPrev[entry];
+
+        // Player list; release the slot once the player has no damage left
+        int playerSlot = entryPlayer[entry];
+        if (playerPrev[entry] != NIL) playerNext[playerPrev[entry]] = playerNext[entry];
+        else playerHeads[playerSlot] = playerNext[entry];
+        if (playerNext[entry] != NIL) playerPrev[playerNext[entry]] = playerPrev[entry];
+        if (playerHeads[playerSlot] == NIL) {
+            releasePlayerSlot(playerSlot);
+        }
+
+        unlinkAge(entry);
 
-        BlockDamageState(String blockTypeId, int maxHp, double currentHp) {
-            this.blockTypeId = blockTypeId;
-            this.maxHp = maxHp;
-            this.currentHp = currentHp;
+        entryBlockType[entry] = null;
+        posNext[entry] = freeEntry;
+        freeEntry = entry;
+        entryCount--;
+    }
+
+    private void expireOldest(long now) {
+        for (int i = 0; i < EXPIRE_PER_HIT && ageHead != NIL; i++) {
+            if (now - entryLastHit[ageHead] < expiryMs) {
+                return;
+            }
+            removeEntry(ageHead);
         }
     }
 
+    private void moveToAgeTail(int entry) {
+        if (entry == ageTail) {
+            return;
+        }
+        unlinkAge(entry);
+        agePrev[entry] = ageTail;
+        ageNext[entry] = NIL;
+        if (ageTail != NIL) ageNext[ageTail] = entry; else ageHead = entry;
+        ageTail = entry;
+    }
+
+    private void unlinkAge(int entry) {
+        if (agePrev[entry] != NIL) ageNext[agePrev[entry]] = ageNext[entry]; else ageHead = ageNext[entry];
+        if (ageNext[entry] != NIL) agePrev[ageNext[entry]] = agePrev[entry]; else ageTail = agePrev[entry];
+    }
+
+    private void growEntries() {
+        int capacity = entryPos.length * 2;
+        entryPos = Arrays.copyOf(entryPos, capacity);
+        entryPlayer = Arrays.copyOf(entryPlayer, capacity);
+        entryBlockType = Arrays.copyOf(entryBlockType, capacity);
+        entryHp = Arrays.copyOf(entryHp, capacity);
+        entryLastHit = Arrays.copyOf(entryLastHit, capacity);
+        posNext = Arrays.copyOf(posNext, capacity);
+        posPrev = Arrays.copyOf(posPrev, capacity);
+        playerNext = Arrays.copyOf(playerNext, capacity);
+        playerPrev = Arrays.copyOf(playerPrev, capacity);
+        ageNext = Arrays.copyOf(ageNext, capacity);
+        agePrev = Arrays.copyOf(agePrev, capacity);
+    }
+
+    // ── Players ──────────────────────────────────────────────────────────
+
+    private int playerSlot(UUID playerId) {
+        Integer existing = playerSlots.get(playerId);
+        if (existing != null) {
+            return existing;
+        }
+        int slot;
+        if (freePlayerSlotCount > 0) {
+            slot = freePlayerSlots[--freePlayerSlotCount];
+        } else {
+            if (playerHighWater == slotPlayers.length) {
+                int capacity = slotPlayers.length * 2;
+                slotPlayers = Arrays.copyOf(slotPlayers, capacity);
+                playerHeads = Arrays.copyOf(playerHeads, capacity);
+                Arrays.fill(playerHeads, playerHighWater, capacity, NIL);
+                freePlayerSlots = Arrays.copyOf(freePlayerSlots, capacity);
+            }
+            slot = playerHighWater++;
+        }
+        slotPlayers[slot] = playerId;
+        playerSlots.put(playerId, slot);
+        return slot;
+    }
+
+    private void releasePlayerSlot(int slot) {
+        playerSlots.remove(slotPlayers[slot]);
+        slotPlayers[slot] = null;
+        freePlayerSlots[freePlayerSlotCount++] = slot;
+    }
+
+    // ── Position table ───────────────────────────────────────────────────
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int findSlot(long key) {
+        int mask = posKeys.length - 1;
+        for (int slot = hash(key) & mask; posHeads[slot] != NIL; slot = (slot + 1) & mask) {
+            if (posKeys[slot] == key) {
+                return slot;
+            }
+        }
+        return NIL;
+    }
+
+    /** Slot for {@code key}, claiming an empty one (head NIL) if the position is new. */
+    private int insertSlot(long key) {
+        if ((posCount + 1) * 2 > posKeys.length) {
+            rehash(posKeys.length * 2);
+        }
+        int mask = posKeys.length - 1;
+        int slot = hash(key) & mask;
+        while (posHeads[slot] != NIL) {
+            if (posKeys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        posKeys[slot] = key;
+        posCount++;
+        return slot;
+    }
+
+    /** Backward-shift deletion, so probe chains stay intact without tombstones. */
+    private void deleteSlot(int slot) {
+        int mask = posKeys.length - 1;
+        int hole = slot;
+        int next = hole;
+        while (true) {
+            next = (next + 1) & mask;
+            if (posHeads[next] == NIL) {
+                break;
+            }
+            int ideal = hash(posKeys[next]) & mask;
+            // Move the entry back unless its ideal slot lies cyclically in (hole, next]
+            boolean stays = hole <= next
+                    ? ideal > hole && ideal <= next
+                    : ideal > hole || ideal <= next;
+            if (!stays) {
+                posKeys[hole] = posKeys[next];
+                posHeads[hole] = posHeads[next];
+                hole = next;
+            }
+        }
+        posHeads[hole] = NIL;
+        posCount--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = posKeys;
+        int[] oldHeads = posHeads;
+        posKeys = new long[capacity];
+        posHeads = filled(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldHeads[i] == NIL) {
+                continue;
+            }
+            int slot = hash(oldKeys[i]) & mask;
+            while (posHeads[slot] != NIL) {
+                slot = (slot + 1) & mask;
+            }
+            posKeys[slot] = oldKeys[i];
+            posHeads[slot] = oldHeads[i];
+        }
+    }
+
+    private static int[] filled(int length) {
+        int[] array = new int[length];
+        Arrays.fill(array, NIL);
+        return array;
+    }
+
     public record HitResult(double remainingHp, int maxHp, boolean shouldBreak) {
         public static final HitResult INSTANT_BREAK = new HitResult(0, 1, true);
 
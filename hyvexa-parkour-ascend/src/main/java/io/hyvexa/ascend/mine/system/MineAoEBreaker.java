@@ -1,11 +1,9 @@
 package io.hyvexa.ascend.mine.system;
 
 import com.hypixel.hytale.math.util.ChunkUtil;
-import com.hypixel.hytale.math.vector.Vector3i;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.universe.world.World;
 import io.hyvexa.ascend.mine.MineManager;
-import io.hyvexa.ascend.mine.util.MinePositionUtils;
 import io.hyvexa.ascend.mine.achievement.MineAchievementTracker;
 import io.hyvexa.ascend.mine.data.BlockConfigStore;
 import io.hyvexa.ascend.mine.data.MinePlayerProgress;
@@ -16,12 +14,8 @@ import io.hyvexa.ascend.mine.hud.MineHudManager;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -40,47 +34,33 @@ public final class MineAoEBreaker {
                                    BlockDamageTracker damageTracker, PlayerRef playerRef) {
         int fortuneLevel = progress.getUpgradeLevel(MineUpgradeType.FORTUNE);
 
-        // Collect all AoE positions (deduplicated)
-        Set<Long> seen = new HashSet<>();
-        List<Vector3i> allPositions = new ArrayList<>();
-
-        // Jackhammer: column below (probability-based)
+        // Roll each AoE upgrade (probability-based); level 0 = not triggered this break
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         int jackhammerLevel = progress.getUpgradeLevel(MineUpgradeType.JACKHAMMER);
-        if (jackhammerLevel > 0 && ThreadLocalRandom.current().nextDouble() < MineUpgradeType.JACKHAMMER.getChance(jackhammerLevel)) {
-            int depth = jackhammerLevel; // depth = level
-            for (Vector3i pos : buildJackhammerPositions(centerX, centerY, centerZ, depth)) {
-                long key = MinePositionUtils.packPosition(pos.getX(), pos.getY(), pos.getZ());
-                if (seen.add(key)) allPositions.add(pos);
-            }
+        if (jackhammerLevel <= 0 || random.nextDouble() >= MineUpgradeType.JACKHAMMER.getChance(jackhammerLevel)) {
+            jackhammerLevel = 0;
         }
-
-        // Stomp: horizontal layer (probability-based)
         int stompLevel = progress.getUpgradeLevel(MineUpgradeType.STOMP);
-        if (stompLevel > 0 && ThreadLocalRandom.current().nextDouble() < MineUpgradeType.STOMP.getChance(stompLevel)) {
-            int radius = (int) MineUpgradeType.STOMP.getEffect(stompLevel);
-            for (Vector3i pos : buildStompPositions(centerX, centerY, centerZ, radius)) {
-                long key = MinePositionUtils.packPosition(pos.getX(), pos.getY(), pos.getZ());
-                if (seen.add(key)) allPositions.add(pos);
-            }
+        if (stompLevel <= 0 || random.nextDouble() >= MineUpgradeType.STOMP.getChance(stompLevel)) {
+            stompLevel = 0;
         }
-
-        // Blast: sphere (probability-based)
         int blastLevel = progress.getUpgradeLevel(MineUpgradeType.BLAST);
-        if (blastLevel > 0 && ThreadLocalRandom.current().nextDouble() < MineUpgradeType.BLAST.getChance(blastLevel)) {
-            int radius = (int) MineUpgradeType.BLAST.getEffect(blastLevel);
-            for (Vector3i pos : buildBlastPositions(centerX, centerY, centerZ, radius)) {
-                long key = MinePositionUtils.packPosition(pos.getX(), pos.getY(), pos.getZ());
-                if (seen.add(key)) allPositions.add(pos);
-            }
+        if (blastLevel <= 0 || random.nextDouble() >= MineUpgradeType.BLAST.getChance(blastLevel)) {
+            blastLevel = 0;
         }
+        if (jackhammerLevel == 0 && stompLevel == 0 && blastLevel == 0) return;
 
-        if (allPositions.isEmpty()) return;
+        // Jackhammer (column), Stomp (layer) and Blast (sphere), deduplicated and clipped to unbroken zone blocks
+        int[] positions = new int[AoEShapeTemplates.capacity(jackhammerLevel, stompLevel, blastLevel)];
+        int count = AoEShapeTemplates.collect(centerX, centerY, centerZ, jackhammerLevel, stompLevel, blastLevel,
+            zone, (x, y, z) -> mineManager.isBlockBroken(zone, x, y, z), positions);
+        if (count == 0) return;
 
-        breakBlocksAt(allPositions, zone, progress, playerId, world, mineManager, fortuneLevel,
+        breakBlocksAt(positions, count, zone, progress, playerId, world, mineManager, fortuneLevel,
             mineHudManager, achievementTracker, minePlayerStore, damageTracker, playerRef);
     }
 
-    private static int breakBlocksAt(List<Vector3i> positions, MineZone zone, MinePlayerProgress progress,
+    private static int breakBlocksAt(int[] positions, int count, MineZone zone, MinePlayerProgress progress,
                                       UUID playerId, World world, MineManager mineManager, int fortuneLevel,
                                       MineHudManager mineHudManager, MineAchievementTracker achievementTracker,
                                       MinePlayerStore minePlayerStore, BlockDamageTracker damageTracker,
@@ -91,15 +71,27 @@ public final class MineAoEBreaker {
         double cashbackPercent = cashbackLevel > 0 ? MineUpgradeType.CASHBACK.getEffect(cashbackLevel) : 0;
         double aoeDamage = progress.getPickaxeDamage() * progress.getMomentumMultiplier();
 
-        for (Vector3i pos : positions) {
-            int x = pos.getX(), y = pos.getY(), z = pos.getZ();
+        // Positions come grouped by shape, so consecutive blocks usually share a chunk
+        long chunkIndex = ChunkUtil.indexChunkFromBlock(positions[0], positions[2]);
+        var worldChunk = world.getChunkIfInMemory(chunkIndex);
+        if (worldChunk == null) worldChunk = world.loadChunkIfInMemory(chunkIndex);
+
+        for (int i = 0; i < count; i++) {
+            int x = positions[i * 3], y = positions[i * 3 + 1], z = positions[i * 3 + 2];
 
-            // Must be in zone bounds
-            if (!zone.contains(x, y, z)) continue;
+            long blockChunkIndex = ChunkUtil.indexChunkFromBlock(x, z);
+            if (blockChunkIndex != chunkIndex) {
+                chunkIndex = blockChunkIndex;
+                worldChunk = world.getChunkIfInMemory(chunkIndex);
+                if (worldChunk == null) worldChunk = world.loadChunkIfInMemory(chunkIndex);
+            }
+            if (worldChunk == null) continue; // unloaded
 
             // Get block type before any modification
-            String blockTypeId = getBlockTypeAt(world, x, y, z);
-            if (blockTypeId == null) continue; // already air or unloaded
+            int blockId = worldChunk.getBlock(x, y, z);
+            if (blockId == 0) continue; // already air
+            String blockTypeId = getBlockTypeName(blockId);
+            if (blockTypeId == null) continue;
 
             int blockHp = configStore.getBlockHp(blockTypeId);
 
@@ -121,16 +113,9 @@ public final class MineAoEBreaker {
             }
 
             // Atomically claim
-            if (!mineManager.tryClaimBlock(zone.getId(), x, y, z)) continue;
+            if (!mineManager.tryClaimBlock(zone, x, y, z)) continue;
 
             // Set to air
-            long chunkIndex = ChunkUtil.indexChunkFromBlock(x, z);
-            var worldChunk = world.getChunkIfInMemory(chunkIndex);
-            if (worldChunk == null) worldChunk = world.loadChunkIfInMemory(chunkIndex);
-            if (worldChunk == null) {
-                mineManager.unclaimBlock(zone.getId(), x, y, z);
-                continue;
-            }
             worldChunk.setBlock(x, y, z, 0);
 
             BlockVisualHelper.showDamageText(world, playerRef, x, y, z, aoeDamage, 0, blockHp);
@@ -186,68 +171,35 @@ public final class MineAoEBreaker {
         return totalBroken;
     }
 
-    // Cached reverse lookup: block runtime ID -> block type string ID
-    private static Map<Integer, String> reverseBlockMap;
-
-    private static synchronized Map<Integer, String> getReverseBlockMap() {
-        Map<Integer, String> map = reverseBlockMap;
-        if (map != null) return map;
-        map = new HashMap<>();
-        var assetMap = BlockType.getAssetMap().getAssetMap();
-        for (var entry : assetMap.entrySet()) {
-            String id = entry.getKey();
-            int index = BlockType.getAssetMap().getIndex(id);
-            if (index >= 0) {
-                map.put(index, id);
-            }
-        }
-        reverseBlockMap = map;
-        return map;
-    }
-
-    private static String getBlockTypeAt(World world, int x, int y, int z) {
-        long chunkIndex = ChunkUtil.indexChunkFromBlock(x, z);
-        var worldChunk = world.getChunkIfInMemory(chunkIndex);
-        if (worldChunk == null) worldChunk = world.loadChunkIfInMemory(chunkIndex);
-        if (worldChunk == null) return null;
-        int blockId = worldChunk.getBlock(x, y, z);
-        if (blockId == 0) return null; // already air
-        return getReverseBlockMap().get(blockId);
-    }
+    // Cached reverse lookup: block runtime ID -> block type string ID (built once, then read lock-free)
+    private static volatile String[] blockTypeNames;
 
-    private static List<Vector3i> buildJackhammerPositions(int centerX, int centerY, int centerZ, int depth) {
-        List<Vector3i> positions = new ArrayList<>();
-        for (int dy = 1; dy <= depth; dy++) {
-            positions.add(new Vector3i(centerX, centerY - dy, centerZ));
+    private static String getBlockTypeName(int blockId) {
+        String[] names = blockTypeNames;
+        if (names == null) {
+            names = buildBlockTypeNames();
         }
-        return positions;
+        return blockId >= 0 && blockId < names.length ? names[blockId] : null;
     }
 
-    private static List<Vector3i> buildStompPositions(int centerX, int centerY, int centerZ, int radius) {
-        List<Vector3i> positions = new ArrayList<>();
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dz = -radius; dz <= radius; dz++) {
-                if (dx == 0 && dz == 0) continue; // skip center (already broken)
-                positions.add(new Vector3i(centerX + dx, centerY, centerZ + dz));
+    private static synchronized String[] buildBlockTypeNames() {
+        String[] names = blockTypeNames;
+        if (names != null) return names;
+        var assetMap = BlockType.getAssetMap();
+        Map<Integer, String> byIndex = new HashMap<>();
+        int maxIndex = -1;
+        for (String id : assetMap.getAssetMap().keySet()) {
+            int index = assetMap.getIndex(id);
+            if (index >= 0) {
+                byIndex.put(index, id);
+                maxIndex = Math.max(maxIndex, index);
             }
         }
-        return positions;
-    }
-
-    private static List<Vector3i> buildBlastPositions(int centerX, int centerY, int centerZ, int radius) {
-        List<Vector3i> positions = new ArrayList<>();
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dy = -radius; dy <= radius; dy++) {
-                for (int dz = -radius; dz <= radius; dz++) {
-                    if (dx == 0 && dy == 0 && dz == 0) continue; // skip center
-                    double dist = Math.sqrt(dx * dx + dy * dy + dz * dz);
-                    if (dist <= radius) {
-                        positions.add(new Vector3i(centerX + dx, centerY + dy, centerZ + dz));
-                    }
-                }
-            }
+        names = new String[maxIndex + 1];
+        for (var entry : byIndex.entrySet()) {
+            names[entry.getKey()] = entry.getValue();
         }
-        return positions;
+        blockTypeNames = names;
+        return names;
     }
-
 }
@@ -97,7 +97,7 @@ public class MineBreakSystem extends EntityEventSystem<EntityStore, BreakBlockEv
         }
 
         // Atomically claim this block — if a miner or another player already broke it, skip
-        if (!mineManager.tryClaimBlock(zone.getId(), bx, by, bz)) {
+        if (!mineManager.tryClaimBlock(zone, bx, by, bz)) {
             return;
         }
 
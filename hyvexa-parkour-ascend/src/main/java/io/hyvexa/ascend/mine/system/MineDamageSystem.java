@@ -119,7 +119,7 @@ public class MineDamageSystem extends EntityEventSystem<EntityStore, DamageBlock
         }
 
         // Block HP depleted (or was 1 HP) — break it
-        if (!mineManager.tryClaimBlock(zone.getId(), bx, by, bz)) {
+        if (!mineManager.tryClaimBlock(zone, bx, by, bz)) {
             return;
         }
 
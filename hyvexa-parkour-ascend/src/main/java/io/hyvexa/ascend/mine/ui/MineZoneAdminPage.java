@@ -431,9 +431,8 @@ public class MineZoneAdminPage extends InteractiveCustomUIPage<MineZoneAdminPage
         }
 
         mineManager.invalidateZoneCache(zone.getId());
-        world.execute(() -> {
-            mineManager.generateZone(world, zone);
-        });
+        // Restarts the refill if one is already running, so the new table applies to the whole zone
+        mineManager.startRegeneration(world, zone);
         player.sendMessage(Message.raw("Zone regenerating: " + zone.getId() + " (" + zone.getTotalBlocks() + " blocks)"));
     }
 
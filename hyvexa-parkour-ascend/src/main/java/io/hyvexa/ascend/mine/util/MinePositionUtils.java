@@ -2,7 +2,7 @@ package io.hyvexa.ascend.mine.util;
 
 /**
  * Shared utility for packing block positions into a single long.
- * Used by BlockDamageTracker, MineManager, and MineAoEBreaker.
+ * Used by BlockDamageTracker, BrokenBlockSet, and BlockVisualHelper.
  */
 public final class MinePositionUtils {
 
@@ -0,0 +1,70 @@
+package io.hyvexa.ascend.robot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Priority queue of per-player wakeup times for the automation engine.
+ * <p>
+ * Each player has at most one live wakeup: asking for an earlier one supersedes the pending one,
+ * asking for a later one is ignored. Superseded queue entries are skipped lazily when drained.
+ * Thread-safe; {@link #wake} is called from whichever thread changed the player's progress.
+ */
+final class AutoActionSchedule {
+
+    private record Wakeup(long dueMs, UUID playerId) {}
+
+    // Guarded by this
+    private final PriorityQueue<Wakeup> queue = new PriorityQueue<>(Comparator.comparingLong(Wakeup::dueMs));
+    private final Map<UUID, Long> planned = new HashMap<>();
+
+    /**
+     * Schedule the player for evaluation at {@code dueMs} unless an earlier wakeup is already pending.
+     * {@link Long#MAX_VALUE} means "only when woken again".
+     */
+    synchronized void wake(UUID playerId, long dueMs) {
+        if (playerId == null || dueMs == Long.MAX_VALUE) {
+            return;
+        }
+        Long current = planned.get(playerId);
+        if (current != null && current <= dueMs) {
+            return;
+        }
+        planned.put(playerId, dueMs);
+        queue.add(new Wakeup(dueMs, playerId));
+    }
+
+    /** Remove and return every player whose wakeup is due at {@code now}, earliest first. */
+    synchronized List<UUID> drainDue(long now) {
+        List<UUID> due = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().dueMs() <= now) {
+            Wakeup wakeup = queue.poll();
+            Long current = planned.get(wakeup.playerId());
+            if (current != null && current == wakeup.dueMs()) {
+                planned.remove(wakeup.playerId());
+                due.add(wakeup.playerId());
+            }
+        }
+        return due;
+    }
+
+    synchronized void remove(UUID playerId) {
+        planned.remove(playerId);
+    }
+
+    synchronized void clear() {
+        planned.clear();
+        queue.clear();
+    }
+
+    /** Pending wakeup for the player, or -1 if none. */
+    synchronized long plannedAt(UUID playerId) {
+        Long current = planned.get(playerId);
+        return current != null ? current : -1L;
+    }
+}
@@ -14,7 +14,6 @@ import io.hyvexa.ascend.data.AutomationConfig;
 import io.hyvexa.ascend.data.GameplayState;
 import io.hyvexa.ascend.summit.SummitManager;
 import io.hyvexa.ascend.tracker.AscendRunTracker;
-import io.hyvexa.common.ghost.GhostRecording;
 import io.hyvexa.common.math.BigNumber;
 
 import java.util.List;
@@ -22,34 +21,65 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Auto-upgrade, auto-elevation and auto-summit, evaluated per player only when something can have changed.
+ * <p>
+ * Affordability only changes when the player's progress does (volt arrives in discrete robot and manual
+ * run payouts, all of which go through {@code markDirty}), so instead of re-checking every online player
+ * on each pass the engine keeps a wakeup schedule: progress changes wake the player for the next pass,
+ * an evaluation that acted re-checks after {@link #ACTION_INTERVAL_MS} (one action per pass, as before),
+ * a pending timer wakes when it expires, and a player waiting on volt sleeps until their balance changes.
+ * {@link #RECHECK_INTERVAL_MS} bounds how long any player goes unevaluated, covering state the engine is
+ * not notified about (a manual run starting or being abandoned).
+ */
 class AutoRunnerUpgradeEngine {
 
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
 
+    static final long ACTION_INTERVAL_MS = 50L;
+    static final long RECHECK_INTERVAL_MS = 1000L;
+    /** Nothing to do until the player's progress changes. */
+    private static final long IDLE = Long.MAX_VALUE;
+
     private final RobotManager manager;
     private final Map<UUID, Long> lastAutoElevationMs = new ConcurrentHashMap<>();
     private final Map<UUID, Long> lastAutoSummitMs = new ConcurrentHashMap<>();
+    private final AutoActionSchedule elevationSummitSchedule = new AutoActionSchedule();
+    private final AutoActionSchedule upgradeSchedule = new AutoActionSchedule();
 
     AutoRunnerUpgradeEngine(RobotManager manager) {
         this.manager = manager;
     }
 
+    /** Re-evaluate the player on the next pass; called whenever their progress changes. */
+    void wake(UUID playerId, long now) {
+        elevationSummitSchedule.wake(playerId, now);
+        upgradeSchedule.wake(playerId, now);
+    }
+
+    private static long nextCheck(long planned, long now) {
+        return Math.min(planned, now + RECHECK_INTERVAL_MS);
+    }
+
     // Auto Runner Upgrades (Skill Tree)
 
-    void performAutoRunnerUpgrades() {
+    void performAutoRunnerUpgrades(long now) {
         AscensionManager ascensionManager = manager.getAscensionManager();
-        if (ascensionManager == null) return;
-
-        for (UUID playerId : manager.getOnlinePlayers()) {
-            if (!ascensionManager.hasAutoRunners(playerId)) continue;
-            autoUpgradeRunners(playerId);
+        for (UUID playerId : upgradeSchedule.drainDue(now)) {
+            if (!manager.getOnlinePlayers().contains(playerId)) continue;
+            long next = IDLE;
+            if (ascensionManager != null && ascensionManager.hasAutoRunners(playerId)) {
+                next = autoUpgradeRunners(playerId, now);
+            }
+            upgradeSchedule.wake(playerId, nextCheck(next, now));
         }
     }
 
-    void autoUpgradeRunners(UUID playerId) {
+    /** Returns when the player should next be evaluated. */
+    long autoUpgradeRunners(UUID playerId, long now) {
         AscendPlayerProgress progress = manager.getPlayerStore().getPlayer(playerId);
-        if (progress == null) return;
-        if (!progress.automation().isAutoUpgradeEnabled()) return;
+        if (progress == null) return IDLE;
+        if (!progress.automation().isAutoUpgradeEnabled()) return IDLE;
 
         List<AscendMap> maps = manager.getMapStore().listMapsSorted();
 
@@ -59,11 +89,10 @@ class AutoRunnerUpgradeEngine {
             if (mp == null || !mp.isUnlocked() || mp.hasRobot()) continue;
 
             // Accept ghost recording OR best time as proof of completion
-            GhostRecording ghost = manager.getGhostStore().getRecording(playerId, map.getId());
-            if (ghost == null && mp.getBestTimeMs() == null) continue;
+            if (!manager.getGhostStore().hasRecording(playerId, map.getId()) && mp.getBestTimeMs() == null) continue;
 
             manager.getPlayerStore().runners().setHasRobot(playerId, map.getId(), true);
-            return; // One action per call for smooth visual
+            return now + ACTION_INTERVAL_MS; // One action per call for smooth visual
         }
 
         // Auto-evolve eligible maps (free, all at once — each map independent of others)
@@ -111,36 +140,48 @@ class AutoRunnerUpgradeEngine {
         }
 
         if (cheapestMapId != null && cheapestCost != null && volt.gte(cheapestCost)) {
-            if (!manager.getPlayerStore().volt().atomicSpendVolt(playerId, cheapestCost)) return;
+            if (!manager.getPlayerStore().volt().atomicSpendVolt(playerId, cheapestCost)) return now + ACTION_INTERVAL_MS;
             manager.getPlayerStore().runners().incrementRobotSpeedLevel(playerId, cheapestMapId);
             manager.getPlayerStore().runners().checkAndUnlockEligibleMaps(playerId, manager.getMapStore());
+            return now + ACTION_INTERVAL_MS;
         }
+        // Waiting on volt: the next payout wakes the player
+        return IDLE;
     }
 
     // Auto-Elevation
 
-    void performAutoElevation(long now) {
+    /** Auto-elevation then auto-summit for every player due at {@code now}. */
+    void performAutoElevationAndSummit(long now) {
+        for (UUID playerId : elevationSummitSchedule.drainDue(now)) {
+            if (!manager.getOnlinePlayers().contains(playerId)) continue;
+            long next = Math.min(planAutoElevation(playerId, now), planAutoSummit(playerId, now));
+            elevationSummitSchedule.wake(playerId, nextCheck(next, now));
+        }
+    }
+
+    private long planAutoElevation(UUID playerId, long now) {
         AscensionManager ascensionMgr = manager.getAscensionManager();
+        if (ascensionMgr == null || !ascensionMgr.hasAutoElevation(playerId)) return IDLE;
+        // Skip if player is actively playing a map — don't reset progress mid-run
         AscendRunTracker runTracker = manager.getRunTracker();
+        if (runTracker != null && runTracker.getActiveMapId(playerId) != null) return now + RECHECK_INTERVAL_MS;
+        // Skip if elevation is blocked by active challenge
         ChallengeManager challengeMgr = manager.getChallengeManager();
-        for (UUID playerId : manager.getOnlinePlayers()) {
-            if (ascensionMgr == null || !ascensionMgr.hasAutoElevation(playerId)) continue;
-            // Skip if player is actively playing a map — don't reset progress mid-run
-            if (runTracker != null && runTracker.getActiveMapId(playerId) != null) continue;
-            // Skip if elevation is blocked by active challenge
-            if (challengeMgr != null && challengeMgr.isElevationBlocked(playerId)) continue;
-            try {
-                autoElevatePlayer(playerId, now);
-            } catch (Exception e) {
-                LOGGER.atWarning().withCause(e).log("Auto-elevation failed for " + playerId);
-            }
+        if (challengeMgr != null && challengeMgr.isElevationBlocked(playerId)) return IDLE;
+        try {
+            return autoElevatePlayer(playerId, now);
+        } catch (Exception e) {
+            LOGGER.atWarning().withCause(e).log("Auto-elevation failed for " + playerId);
+            return now + RECHECK_INTERVAL_MS;
         }
     }
 
-    void autoElevatePlayer(UUID playerId, long now) {
+    /** Returns when the player should next be evaluated. */
+    long autoElevatePlayer(UUID playerId, long now) {
         AscendPlayerProgress progress = manager.getPlayerStore().getPlayer(playerId);
-        if (progress == null) return;
-        if (!progress.automation().isAutoElevationEnabled()) return;
+        if (progress == null) return IDLE;
+        if (!progress.automation().isAutoElevationEnabled()) return IDLE;
 
         List<Long> targets = progress.automation().getAutoElevationTargets();
         int targetIndex = progress.automation().getAutoElevationTargetIndex();
@@ -155,24 +196,26 @@ class AutoRunnerUpgradeEngine {
             manager.getPlayerStore().settings().setAutoElevationTargetIndex(playerId, targetIndex);
         }
 
-        if (targets.isEmpty() || targetIndex >= targets.size()) return;
+        if (targets.isEmpty() || targetIndex >= targets.size()) return IDLE;
 
         // Check timer
         int timerSeconds = progress.automation().getAutoElevationTimerSeconds();
         if (timerSeconds > 0) {
             Long lastMs = lastAutoElevationMs.get(playerId);
-            if (lastMs != null && (now - lastMs) < (long) timerSeconds * 1000L) return;
+            if (lastMs != null && (now - lastMs) < (long) timerSeconds * 1000L) {
+                return lastMs + (long) timerSeconds * 1000L;
+            }
         }
 
         // Calculate purchasable levels
         BigNumber accumulatedVolt = progress.economy().getElevationAccumulatedVolt();
         ElevationConstants.ElevationPurchaseResult result = ElevationConstants.calculateElevationPurchase(currentLevel, accumulatedVolt, BigNumber.ONE);
-        if (result.levels <= 0) return;
+        if (result.levels <= 0) return IDLE;
 
         int newLevel = currentLevel + result.levels;
         long newMultiplier = Math.round(ElevationConstants.getElevationMultiplier(newLevel));
         long nextTarget = targets.get(targetIndex);
-        if (newMultiplier < nextTarget) return;
+        if (newMultiplier < nextTarget) return IDLE;
 
         // Execute elevation — reset progress first, then despawn robots.
         // resetProgressForElevation sets hasRobot=false, so refreshRobots() will clean up stale
@@ -210,43 +253,46 @@ class AutoRunnerUpgradeEngine {
 
         // Close the player's ascend page so they see fresh state on reopen
         AscendCommand.forceCloseActivePage(playerId);
+        return now + ACTION_INTERVAL_MS;
     }
 
     // Auto-Summit
 
-    void performAutoSummit(long now) {
+    private long planAutoSummit(UUID playerId, long now) {
         AscensionManager ascensionMgr = manager.getAscensionManager();
+        if (ascensionMgr == null || !ascensionMgr.hasAutoSummit(playerId)) return IDLE;
+        // Skip if player is actively playing a map — don't reset progress mid-run
         AscendRunTracker runTracker = manager.getRunTracker();
+        if (runTracker != null && runTracker.getActiveMapId(playerId) != null) return now + RECHECK_INTERVAL_MS;
+        // Skip if all summit is blocked by active challenge
         ChallengeManager challengeMgr = manager.getChallengeManager();
-        for (UUID playerId : manager.getOnlinePlayers()) {
-            if (ascensionMgr == null || !ascensionMgr.hasAutoSummit(playerId)) continue;
-            // Skip if player is actively playing a map — don't reset progress mid-run
-            if (runTracker != null && runTracker.getActiveMapId(playerId) != null) continue;
-            // Skip if all summit is blocked by active challenge
-            if (challengeMgr != null && challengeMgr.isAllSummitBlocked(playerId)) continue;
-            try {
-                autoSummitPlayer(playerId, now);
-            } catch (Exception e) {
-                LOGGER.atWarning().withCause(e).log("Auto-summit failed for " + playerId);
-            }
+        if (challengeMgr != null && challengeMgr.isAllSummitBlocked(playerId)) return IDLE;
+        try {
+            return autoSummitPlayer(playerId, now);
+        } catch (Exception e) {
+            LOGGER.atWarning().withCause(e).log("Auto-summit failed for " + playerId);
+            return now + RECHECK_INTERVAL_MS;
         }
     }
 
-    void autoSummitPlayer(UUID playerId, long now) {
+    /** Returns when the player should next be evaluated. */
+    long autoSummitPlayer(UUID playerId, long now) {
         AscendPlayerProgress progress = manager.getPlayerStore().getPlayer(playerId);
-        if (progress == null) return;
-        if (!progress.automation().isAutoSummitEnabled()) return;
+        if (progress == null) return IDLE;
+        if (!progress.automation().isAutoSummitEnabled()) return IDLE;
 
         SummitManager summitManager = manager.getSummitManager();
-        if (summitManager == null) return;
+        if (summitManager == null) return IDLE;
 
-        if (!summitManager.canSummit(playerId)) return;
+        if (!summitManager.canSummit(playerId)) return IDLE;
 
         // Check timer
         int timerSeconds = progress.automation().getAutoSummitTimerSeconds();
         if (timerSeconds > 0) {
             Long lastMs = lastAutoSummitMs.get(playerId);
-            if (lastMs != null && (now - lastMs) < (long) timerSeconds * 1000L) return;
+            if (lastMs != null && (now - lastMs) < (long) timerSeconds * 1000L) {
+                return lastMs + (long) timerSeconds * 1000L;
+            }
         }
 
         List<AutomationConfig.AutoSummitCategoryConfig> config = progress.automation().getAutoSummitConfig();
@@ -297,12 +343,20 @@ class AutoRunnerUpgradeEngine {
             // Close the player's ascend page so they see fresh state on reopen
             AscendCommand.forceCloseActivePage(playerId);
 
-            return; // One summit per tick for smooth visual
+            return now + ACTION_INTERVAL_MS; // One summit per tick for smooth visual
         }
+        return IDLE;
     }
 
     void onPlayerLeave(UUID playerId) {
         lastAutoElevationMs.remove(playerId);
         lastAutoSummitMs.remove(playerId);
+        elevationSummitSchedule.remove(playerId);
+        upgradeSchedule.remove(playerId);
+    }
+
+    void clear() {
+        elevationSummitSchedule.clear();
+        upgradeSchedule.clear();
     }
 }
@@ -43,13 +43,14 @@ public class RobotManager {
 
     /*
      * Orchestrator — delegates to:
-     *   autoUpgrader:        auto-upgrade, auto-elevation, auto-summit
+     *   autoUpgrader:        auto-upgrade, auto-elevation, auto-summit (woken by progress changes)
      *   refreshSystem:       robot cache refresh, viewer context, NPC state sync, visibility
      *   movementController:  position interpolation, teleport batching, speed calculations
      *
      * Threading model:
-     * - robots, onlinePlayers, dirtyPlayers:
-     *   ConcurrentHashMap/newKeySet collections (thread-safe by construction).
+     * - robots: RobotRegistry (per-owner locking, lock-free reads).
+     * - onlinePlayers, dirtyPlayers:
+     *   ConcurrentHashMap.newKeySet collections (thread-safe by construction).
      * - orphanCleanup: owns orphan UUID + pending-removal concurrency state.
      * - spawner: owns npcPlugin lifecycle; set once in start(), thereafter read-only.
      * - tickTask: only accessed in start()/stop() (single-threaded lifecycle).
@@ -59,7 +60,6 @@ public class RobotManager {
 
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
     private static final String RUNNER_UUIDS_FILE = "runner_uuids.txt";
-    private static final long AUTO_UPGRADE_INTERVAL_MS = 50L;
     private static final double CHUNK_LOAD_DISTANCE = 128.0;
 
     private final AscendMapStore mapStore;
@@ -73,7 +73,7 @@ public class RobotManager {
     private final AchievementManager achievementManager;
     private final Function<UUID, PlayerRef> playerRefResolver;
     private volatile AscendPlayerEventHandler eventHandler;
-    private final Map<String, RobotState> robots = new ConcurrentHashMap<>();
+    private final RobotRegistry robots = new RobotRegistry();
     private final Set<UUID> activeEntityUuids = ConcurrentHashMap.newKeySet();
     private final Set<UUID> onlinePlayers = ConcurrentHashMap.newKeySet();
     private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
@@ -127,7 +127,7 @@ public class RobotManager {
         }
         // Save current runner UUIDs before despawning (in case despawn fails)
         Set<UUID> activeUuids = new HashSet<>();
-        for (RobotState state : robots.values()) {
+        for (RobotState state : robots) {
             UUID entityUuid = state.getEntityUuid();
             if (entityUuid != null) {
                 activeUuids.add(entityUuid);
@@ -138,13 +138,18 @@ public class RobotManager {
         activeEntityUuids.clear();
         onlinePlayers.clear();
         dirtyPlayers.clear();
+        autoUpgrader.clear();
         refreshSystem.resetViewerContext();
     }
 
     public void onPlayerJoin(UUID playerId) {
         if (playerId != null) {
             onlinePlayers.add(playerId);
+            if (ghostStore != null) {
+                ghostStore.prefetchRecordings(playerId);
+            }
             markPlayerDirty(playerId);
+            autoUpgrader.wake(playerId, System.currentTimeMillis());
             applyRunnerVisibility(playerId);
         }
     }
@@ -168,6 +173,16 @@ public class RobotManager {
         }
     }
 
+    /**
+     * Schedule the player's automation (auto-upgrade, elevation, summit) for the next pass.
+     * Called on every progress change; cheap enough for the hot payout path.
+     */
+    public void onPlayerProgressChanged(UUID playerId) {
+        if (playerId != null && onlinePlayers.contains(playerId)) {
+            autoUpgrader.wake(playerId, System.currentTimeMillis());
+        }
+    }
+
     public void despawnRobotsForPlayer(UUID playerId) {
         markPlayerDirty(playerId);
         removeTrackedRobotsForPlayer(playerId);
@@ -175,11 +190,13 @@ public class RobotManager {
 
     public void spawnRobot(UUID ownerId, String mapId) {
         markPlayerDirty(ownerId);
-        String key = robotKey(ownerId, mapId);
         RobotState state = new RobotState(ownerId, mapId);
-        if (robots.putIfAbsent(key, state) != null) {
+        if (robots.putIfAbsent(state) != null) {
             return; // Already existed
         }
+        if (ghostStore != null) {
+            ghostStore.prefetchRecording(ownerId, mapId);
+        }
 
         if (spawner.isNpcAvailable() && mapStore != null) {
             AscendMap map = mapStore.getMap(mapId);
@@ -191,26 +208,21 @@ public class RobotManager {
 
     public void despawnRobot(UUID ownerId, String mapId) {
         markPlayerDirty(ownerId);
-        String key = robotKey(ownerId, mapId);
-        RobotState state = robots.remove(key);
+        RobotState state = robots.remove(ownerId, mapId);
         if (state != null) {
-            UUID entityUuid = state.getEntityUuid();
-            movementController.clearTeleportWarning(state);
-            spawner.despawnNpcForRobot(state);
-            queueOrphanIfDespawnFailed(entityUuid, state);
+            releaseRemovedRobot(state);
         }
     }
 
     public void despawnAllRobots() {
-        for (RobotState state : robots.values()) {
+        for (RobotState state : robots.clear()) {
             movementController.clearTeleportWarning(state);
             spawner.despawnNpcForRobot(state);
         }
-        robots.clear();
     }
 
     public RobotState getRobot(UUID ownerId, String mapId) {
-        return robots.get(robotKey(ownerId, mapId));
+        return robots.get(ownerId, mapId);
     }
 
     /**
@@ -219,12 +231,10 @@ public class RobotManager {
      */
     public List<UUID> getRunnerUuidsForMap(String mapId) {
         List<UUID> uuids = new ArrayList<>();
-        for (RobotState state : robots.values()) {
-            if (state.getMapId().equals(mapId)) {
-                UUID entityUuid = state.getEntityUuid();
-                if (entityUuid != null) {
-                    uuids.add(entityUuid);
-                }
+        for (RobotState state : robots.forMap(mapId)) {
+            UUID entityUuid = state.getEntityUuid();
+            if (entityUuid != null) {
+                uuids.add(entityUuid);
             }
         }
         return uuids;
@@ -236,8 +246,8 @@ public class RobotManager {
      */
     public List<UUID> getRunnerUuidsForMapExcludingOwner(String mapId, UUID excludeOwner) {
         List<UUID> uuids = new ArrayList<>();
-        for (RobotState state : robots.values()) {
-            if (state.getMapId().equals(mapId) && !state.getOwnerId().equals(excludeOwner)) {
+        for (RobotState state : robots.forMap(mapId)) {
+            if (!state.getOwnerId().equals(excludeOwner)) {
                 UUID entityUuid = state.getEntityUuid();
                 if (entityUuid != null) {
                     uuids.add(entityUuid);
@@ -249,8 +259,7 @@ public class RobotManager {
 
     public void respawnRobot(UUID ownerId, String mapId, int newStars) {
         markPlayerDirty(ownerId);
-        String key = robotKey(ownerId, mapId);
-        RobotState state = robots.get(key);
+        RobotState state = robots.get(ownerId, mapId);
         if (state == null) {
             return;
         }
@@ -276,17 +285,12 @@ public class RobotManager {
             orphanCleanup.processPendingRemovals();
             refreshSystem.refreshRobots(now);
 
-            boolean doAutoOps = now - lastAutoUpgradeMs >= AUTO_UPGRADE_INTERVAL_MS;
+            boolean doAutoOps = now - lastAutoUpgradeMs >= AutoRunnerUpgradeEngine.ACTION_INTERVAL_MS;
             if (doAutoOps) {
                 try {
-                    autoUpgrader.performAutoElevation(now);
-                } catch (Exception e) {
-                    LOGGER.atWarning().withCause(e).log("Error in auto-elevation");
-                }
-                try {
-                    autoUpgrader.performAutoSummit(now);
+                    autoUpgrader.performAutoElevationAndSummit(now);
                 } catch (Exception e) {
-                    LOGGER.atWarning().withCause(e).log("Error in auto-summit");
+                    LOGGER.atWarning().withCause(e).log("Error in auto-elevation/summit");
                 }
             }
 
@@ -295,7 +299,7 @@ public class RobotManager {
 
             List<AscendMap> sortedMaps = mapStore != null ? mapStore.listMapsSorted() : List.of();
             Map<World, List<RobotMovementController.PendingTeleport>> teleportsByWorld = new HashMap<>();
-            for (RobotState robot : robots.values()) {
+            for (RobotState robot : robots) {
                 tickRobot(robot, now, sortedMaps, teleportsByWorld);
                 movementController.tickMovement(robot, now, currentViewerContext, teleportsByWorld);
             }
@@ -304,7 +308,7 @@ public class RobotManager {
             if (doAutoOps) {
                 lastAutoUpgradeMs = now;
                 try {
-                    autoUpgrader.performAutoRunnerUpgrades();
+                    autoUpgrader.performAutoRunnerUpgrades(now);
                 } catch (Exception e) {
                     LOGGER.atWarning().withCause(e).log("Error in auto-upgrades");
                 }
@@ -315,19 +319,19 @@ public class RobotManager {
     }
 
     void removeTrackedRobotsForPlayer(UUID playerId) {
-        String prefix = playerId.toString() + ":";
-        for (String key : List.copyOf(robots.keySet())) {
-            if (key.startsWith(prefix)) {
-                removeRobotState(key);
-            }
+        for (RobotState removed : robots.removeOwner(playerId)) {
+            releaseRemovedRobot(removed);
         }
     }
 
-    void removeRobotState(String key) {
-        RobotState removed = robots.remove(key);
-        if (removed == null) {
-            return;
+    void removeRobotState(UUID ownerId, String mapId) {
+        RobotState removed = robots.remove(ownerId, mapId);
+        if (removed != null) {
+            releaseRemovedRobot(removed);
         }
+    }
+
+    private void releaseRemovedRobot(RobotState removed) {
         UUID entityUuid = removed.getEntityUuid();
         movementController.clearTeleportWarning(removed);
         spawner.despawnNpcForRobot(removed);
@@ -427,10 +431,6 @@ public class RobotManager {
         return movementController.getRunnerProgress(ownerId, mapId);
     }
 
-    String robotKey(UUID ownerId, String mapId) {
-        return ownerId.toString() + ":" + mapId;
-    }
-
     /**
      * Check if a player is currently in the Ascend world.
      * Uses the plugin's PlayerRef cache for O(1) lookup instead of scanning all players.
@@ -551,7 +551,7 @@ public class RobotManager {
     SummitManager getSummitManager() { return summitManager; }
     AchievementManager getAchievementManager() { return achievementManager; }
     PlayerRef getPlayerRef(UUID playerId) { return resolvePlayerRef(playerId); }
-    Map<String, RobotState> getRobots() { return robots; }
+    RobotRegistry getRobots() { return robots; }
     Set<UUID> getActiveEntityUuids() { return activeEntityUuids; }
     OrphanedEntityCleanup getOrphanCleanup() { return orphanCleanup; }
     RobotSpawner getSpawner() { return spawner; }
@@ -12,8 +12,8 @@ import io.hyvexa.ascend.AscendConstants;
 import io.hyvexa.ascend.data.AscendMap;
 import io.hyvexa.ascend.data.AscendMapStore;
 import io.hyvexa.common.ghost.GhostRecording;
-import io.hyvexa.common.ghost.GhostSample;
 import io.hyvexa.common.ghost.GhostStore;
+import io.hyvexa.common.ghost.MutableGhostSample;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,7 +34,7 @@ class RobotMovementController {
     private final RobotManager manager;
     private final RobotRefreshSystem refreshSystem;
     private final RunnerSpeedCalculator speedCalculator;
-    private final Map<String, Long> teleportWarningByRobot = new ConcurrentHashMap<>();
+    private final Map<RobotState, Long> teleportWarningByRobot = new ConcurrentHashMap<>();
     private volatile long lastTeleportWarningCleanupMs = 0L;
 
     RobotMovementController(RobotManager manager, RobotRefreshSystem refreshSystem,
@@ -85,7 +85,10 @@ class RobotMovementController {
 
         long elapsed = now - lastCompletionMs;
         double progress = Math.min(1.0d, (double) elapsed / (double) intervalMs);
-        GhostSample sample = ghost.interpolateAt(progress);
+        MutableGhostSample sample = robot.getPlaybackSample();
+        if (!robot.getPlaybackCursor().bind(ghost).sample(progress, sample)) {
+            return;
+        }
         queueTeleport(teleportsByWorld, world, robot, entityRef, sample.x(), sample.y(), sample.z(), sample.yaw());
         robot.setPreviousPosition(sample.x(), sample.y(), sample.z());
     }
@@ -117,9 +120,9 @@ class RobotMovementController {
 
     void cleanupTeleportWarnings(long now) {
         if (now - lastTeleportWarningCleanupMs >= TELEPORT_WARNING_CLEANUP_INTERVAL_MS) {
-            Map<String, RobotState> robots = manager.getRobots();
+            RobotRegistry robots = manager.getRobots();
             teleportWarningByRobot.entrySet().removeIf(entry ->
-                    now - entry.getValue() >= TELEPORT_WARNING_CACHE_TTL_MS || !robots.containsKey(entry.getKey()));
+                    now - entry.getValue() >= TELEPORT_WARNING_CACHE_TTL_MS || !robots.contains(entry.getKey()));
             lastTeleportWarningCleanupMs = now;
         }
     }
@@ -128,12 +131,11 @@ class RobotMovementController {
         if (state == null) {
             return;
         }
-        teleportWarningByRobot.remove(manager.robotKey(state.getOwnerId(), state.getMapId()));
+        teleportWarningByRobot.remove(state);
     }
 
     double getRunnerProgress(UUID ownerId, String mapId) {
-        Map<String, RobotState> robots = manager.getRobots();
-        RobotState robot = robots.get(manager.robotKey(ownerId, mapId));
+        RobotState robot = manager.getRobots().get(ownerId, mapId);
         if (robot == null) {
             return -1;
         }
@@ -207,13 +209,12 @@ class RobotMovementController {
 
     private void logTeleportWarning(RobotState robot, World world, double x, double y, double z,
                                     float yaw, Exception error) {
-        String key = manager.robotKey(robot.getOwnerId(), robot.getMapId());
         long now = System.currentTimeMillis();
-        Long lastLogged = teleportWarningByRobot.get(key);
+        Long lastLogged = teleportWarningByRobot.get(robot);
         if (lastLogged != null && now - lastLogged < TELEPORT_WARNING_THROTTLE_MS) {
             return;
         }
-        teleportWarningByRobot.put(key, now);
+        teleportWarningByRobot.put(robot, now);
         String worldName = world != null ? world.getName() : "unknown";
         LOGGER.atWarning().withCause(error).log(
                 "Runner teleport failed owner=" + robot.getOwnerId()
@@ -106,9 +106,8 @@ class RobotRefreshSystem {
             return;
         }
 
-        Map<String, RobotState> robots = manager.getRobots();
-        GhostStore ghostStore = manager.getGhostStore();
-        Set<String> activeKeys = new HashSet<>();
+        RobotRegistry robots = manager.getRobots();
+        Set<String> activeMapIds = new HashSet<>();
         for (Map.Entry<String, GameplayState.MapProgress> mapEntry : progress.gameplay().getMapProgress().entrySet()) {
             String mapId = mapEntry.getKey();
             GameplayState.MapProgress mapProgress = mapEntry.getValue();
@@ -121,8 +120,7 @@ class RobotRefreshSystem {
                 continue;
             }
 
-            String key = manager.robotKey(playerId, mapId);
-            RobotState state = robots.computeIfAbsent(key, ignored -> new RobotState(playerId, mapId));
+            RobotState state = robots.getOrCreate(playerId, mapId);
             state.setSpeedLevel(mapProgress.getRobotSpeedLevel());
             state.setStars(mapProgress.getRobotStars());
             if (state.getLastCompletionMs() <= 0L) {
@@ -156,20 +154,17 @@ class RobotRefreshSystem {
                 }
             }
 
-            activeKeys.add(key);
+            activeMapIds.add(mapId);
         }
 
-        pruneStaleRobotsForPlayer(playerId, activeKeys);
+        pruneStaleRobotsForPlayer(playerId, activeMapIds);
     }
 
-    private void pruneStaleRobotsForPlayer(UUID playerId, Set<String> activeKeys) {
-        Map<String, RobotState> robots = manager.getRobots();
-        String prefix = playerId.toString() + ":";
-        for (String key : List.copyOf(robots.keySet())) {
-            if (!key.startsWith(prefix) || activeKeys.contains(key)) {
-                continue;
+    private void pruneStaleRobotsForPlayer(UUID playerId, Set<String> activeMapIds) {
+        for (RobotState state : manager.getRobots().forOwner(playerId)) {
+            if (!activeMapIds.contains(state.getMapId())) {
+                manager.removeRobotState(playerId, state.getMapId());
             }
-            manager.removeRobotState(key);
         }
     }
 
@@ -304,7 +299,7 @@ class RobotRefreshSystem {
     }
 
     void syncRobotNpcState(ViewerContext currentViewerContext, long now) {
-        for (RobotState robot : manager.getRobots().values()) {
+        for (RobotState robot : manager.getRobots()) {
             syncRobotNpcState(robot, currentViewerContext, now);
         }
     }
@@ -348,12 +343,12 @@ class RobotRefreshSystem {
         }
         lastHealthLogMs = now;
 
-        Map<String, RobotState> robots = manager.getRobots();
+        RobotRegistry robots = manager.getRobots();
         Set<UUID> onlinePlayers = manager.getOnlinePlayers();
         Set<UUID> dirtyPlayers = manager.getDirtyPlayers();
         int ghostCount = 0;
         int visibleNpcCount = 0;
-        for (RobotState robot : robots.values()) {
+        for (RobotState robot : robots) {
             if (getCachedGhost(robot, now) != null) {
                 ghostCount++;
             }
@@ -373,7 +368,7 @@ class RobotRefreshSystem {
         AscendPlayerStore playerStore = manager.getPlayerStore();
         boolean hide = playerStore.settings().isHideOtherRunners(viewerId);
         EntityVisibilityManager visibilityManager = EntityVisibilityManager.get();
-        for (RobotState state : manager.getRobots().values()) {
+        for (RobotState state : manager.getRobots()) {
             if (state.getOwnerId().equals(viewerId)) {
                 continue; // Skip own runners
             }
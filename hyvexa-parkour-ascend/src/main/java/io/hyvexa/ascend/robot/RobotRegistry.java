@@ -0,0 +1,251 @@
+package io.hyvexa.ascend.robot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Robots indexed by owner and by map.
+ * <p>
+ * Each owner has a slot array indexed by a per-map slot number, so lookups need no composite key.
+ * A reverse index lists the robots on each map. Writes for one owner are serialized on that owner's
+ * entry and publish a fresh slot array; reads and iteration are lock-free and weakly consistent,
+ * like the {@link ConcurrentHashMap} this replaces.
+ */
+final class RobotRegistry implements Iterable<RobotState> {
+
+    private static final RobotState[] NO_ROBOTS = new RobotState[0];
+
+    private final Map<String, Integer> slotByMapId = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final Map<UUID, OwnerRobots> byOwner = new ConcurrentHashMap<>();
+    private final Map<String, Set<RobotState>> byMap = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    RobotState get(UUID ownerId, String mapId) {
+        if (ownerId == null || mapId == null) {
+            return null;
+        }
+        OwnerRobots owner = byOwner.get(ownerId);
+        Integer slot = slotByMapId.get(mapId);
+        if (owner == null || slot == null) {
+            return null;
+        }
+        RobotState[] robots = owner.robots;
+        return slot < robots.length ? robots[slot] : null;
+    }
+
+    boolean contains(RobotState state) {
+        return state != null && get(state.getOwnerId(), state.getMapId()) == state;
+    }
+
+    /** Adds {@code state} unless its owner already has a robot on that map; returns the existing one. */
+    RobotState putIfAbsent(RobotState state) {
+        int slot = slotFor(state.getMapId());
+        while (true) {
+            OwnerRobots owner = byOwner.computeIfAbsent(state.getOwnerId(), ignored -> new OwnerRobots());
+            synchronized (owner) {
+                if (owner.retired) {
+                    continue;
+                }
+                RobotState existing = owner.get(slot);
+                if (existing != null) {
+                    return existing;
+                }
+                owner.set(slot, state);
+                byMap.computeIfAbsent(state.getMapId(), ignored -> ConcurrentHashMap.newKeySet()).add(state);
+                size.incrementAndGet();
+                return null;
+            }
+        }
+    }
+
+    /** Returns the owner's robot on {@code mapId}, creating it if there is none. */
+    RobotState getOrCreate(UUID ownerId, String mapId) {
+        RobotState existing = get(ownerId, mapId);
+        if (existing != null) {
+            return existing;
+        }
+        RobotState created = new RobotState(ownerId, mapId);
+        existing = putIfAbsent(created);
+        return existing != null ? existing : created;
+    }
+
+    RobotState remove(UUID ownerId, String mapId) {
+        OwnerRobots owner = ownerId != null ? byOwner.get(ownerId) : null;
+        Integer slot = mapId != null ? slotByMapId.get(mapId) : null;
+        if (owner == null || slot == null) {
+            return null;
+        }
+        synchronized (owner) {
+            RobotState removed = owner.get(slot);
+            if (removed == null) {
+                return null;
+            }
+            owner.set(slot, null);
+            unindex(removed);
+            retireIfEmpty(ownerId, owner);
+            return removed;
+        }
+    }
+
+    /** Removes and returns every robot of {@code ownerId}. */
+    List<RobotState> removeOwner(UUID ownerId) {
+        OwnerRobots owner = ownerId != null ? byOwner.get(ownerId) : null;
+        if (owner == null) {
+            return List.of();
+        }
+        synchronized (owner) {
+            List<RobotState> removed = new ArrayList<>(owner.count);
+            for (RobotState state : owner.robots) {
+                if (state != null) {
+                    removed.add(state);
+                    unindex(state);
+                }
+            }
+            owner.robots = NO_ROBOTS;
+            owner.count = 0;
+            retireIfEmpty(ownerId, owner);
+            return removed;
+        }
+    }
+
+    /** Removes and returns every robot. */
+    List<RobotState> clear() {
+        List<RobotState> removed = new ArrayList<>();
+        for (UUID ownerId : List.copyOf(byOwner.keySet())) {
+            removed.addAll(removeOwner(ownerId));
+        }
+        return removed;
+    }
+
+    /** Live view of the robots on {@code mapId}. */
+    Collection<RobotState> forMap(String mapId) {
+        Set<RobotState> robots = mapId != null ? byMap.get(mapId) : null;
+        return robots != null ? Collections.unmodifiableSet(robots) : List.of();
+    }
+
+    /** Snapshot of the robots owned by {@code ownerId}. */
+    List<RobotState> forOwner(UUID ownerId) {
+        OwnerRobots owner = ownerId != null ? byOwner.get(ownerId) : null;
+        if (owner == null) {
+            return List.of();
+        }
+        List<RobotState> result = new ArrayList<>();
+        for (RobotState state : owner.robots) {
+            if (state != null) {
+                result.add(state);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    @Override
+    public Iterator<RobotState> iterator() {
+        return new RobotIterator(byOwner.values().iterator());
+    }
+
+    private int slotFor(String mapId) {
+        Integer slot = slotByMapId.get(mapId);
+        if (slot != null) {
+            return slot;
+        }
+        return slotByMapId.computeIfAbsent(mapId, ignored -> nextSlot.getAndIncrement());
+    }
+
+    private void unindex(RobotState state) {
+        Set<RobotState> onMap = byMap.get(state.getMapId());
+        if (onMap != null) {
+            onMap.remove(state);
+        }
+        size.decrementAndGet();
+    }
+
+    /** Caller holds the owner's monitor. */
+    private void retireIfEmpty(UUID ownerId, OwnerRobots owner) {
+        if (owner.count == 0 && byOwner.remove(ownerId, owner)) {
+            owner.retired = true;
+        }
+    }
+
+    /** One owner's robots by map slot; the array is replaced, never mutated, once published. */
+    private static final class OwnerRobots {
+        volatile RobotState[] robots = NO_ROBOTS;
+        int count;
+        boolean retired;
+
+        RobotState get(int slot) {
+            RobotState[] current = robots;
+            return slot < current.length ? current[slot] : null;
+        }
+
+        void set(int slot, RobotState state) {
+            RobotState[] next = Arrays.copyOf(robots, Math.max(robots.length, slot + 1));
+            if (next[slot] == null && state != null) {
+                count++;
+            } else if (next[slot] != null && state == null) {
+                count--;
+            }
+            next[slot] = state;
+            robots = next;
+        }
+    }
+
+    private static final class RobotIterator implements Iterator<RobotState> {
+        private final Iterator<OwnerRobots> owners;
+        private RobotState[] current = NO_ROBOTS;
+        private int index;
+        private RobotState next;
+
+        RobotIterator(Iterator<OwnerRobots> owners) {
+            this.owners = owners;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (true) {
+                while (index < current.length) {
+                    RobotState candidate = current[index++];
+                    if (candidate != null) {
+                        next = candidate;
+                        return;
+                    }
+                }
+                if (!owners.hasNext()) {
+                    return;
+                }
+                current = owners.next().robots;
+                index = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public RobotState next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            RobotState result = next;
+            advance();
+            return result;
+        }
+    }
+}
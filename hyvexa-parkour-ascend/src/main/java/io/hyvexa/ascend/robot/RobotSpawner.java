@@ -172,7 +172,7 @@ class RobotSpawner {
         }
         // Find the owner of this runner to skip them
         UUID runnerOwnerId = null;
-        for (RobotState state : manager.getRobots().values()) {
+        for (RobotState state : manager.getRobots()) {
             if (runnerUuid.equals(state.getEntityUuid())) {
                 runnerOwnerId = state.getOwnerId();
                 break;
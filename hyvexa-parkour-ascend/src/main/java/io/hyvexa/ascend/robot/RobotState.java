@@ -4,7 +4,9 @@ import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import io.hyvexa.ascend.data.AscendMap;
+import io.hyvexa.common.ghost.GhostPlaybackCursor;
 import io.hyvexa.common.ghost.GhostRecording;
+import io.hyvexa.common.ghost.MutableGhostSample;
 import io.hyvexa.common.npc.NPCEntityState;
 
 import java.util.UUID;
@@ -36,6 +38,9 @@ public class RobotState implements NPCEntityState {
     private final AtomicLong nextMovementAtMs = new AtomicLong(0);
     private final AtomicLong movementIntervalMs = new AtomicLong(50L);
     private volatile boolean entityDesired;
+    // Only touched by the movement tick.
+    private final GhostPlaybackCursor playbackCursor = new GhostPlaybackCursor();
+    private final MutableGhostSample playbackSample = new MutableGhostSample();
 
     public RobotState(UUID ownerId, String mapId) {
         this.ownerId = ownerId;
@@ -226,6 +231,14 @@ public class RobotState implements NPCEntityState {
         this.cachedGhost = cachedGhost;
     }
 
+    public GhostPlaybackCursor getPlaybackCursor() {
+        return playbackCursor;
+    }
+
+    public MutableGhostSample getPlaybackSample() {
+        return playbackSample;
+    }
+
     public long getCacheRefreshedAtMs() {
         return cacheRefreshedAtMs.get();
     }
@@ -379,7 +379,6 @@ public class AscendRunTracker {
             mapProgress.setBestTimeMs(completionTimeMs);
             playerStore.markDirty(playerId);
             playerStore.invalidateMapLeaderboardCache(run.mapId);
-            playerStore.invalidateLeaderboardCache();
         }
 
         // Stop ghost recording and save if personal best
@@ -9,6 +9,7 @@ import com.hypixel.hytale.server.core.ui.builder.UIEventBuilder;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import io.hyvexa.ascend.data.AscendLeaderboardCategory;
 import io.hyvexa.ascend.data.AscendPlayerStore;
 import io.hyvexa.ascend.data.AscendPlayerStore.LeaderboardEntry;
 import io.hyvexa.common.ui.AbstractLeaderboardPage;
@@ -20,6 +21,7 @@ import io.hyvexa.common.math.BigNumber;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 public class AscendLeaderboardPage extends AbstractLeaderboardPage {
 
@@ -30,11 +32,13 @@ public class AscendLeaderboardPage extends AbstractLeaderboardPage {
     private static final String BUTTON_TAB_FASTEST = "TabFastest";
 
     private final AscendPlayerStore playerStore;
-    private LeaderboardCategory currentCategory = LeaderboardCategory.VOLT;
+    private final UUID viewerId;
+    private AscendLeaderboardCategory currentCategory = AscendLeaderboardCategory.VOLT;
 
     public AscendLeaderboardPage(@Nonnull PlayerRef playerRef, AscendPlayerStore playerStore) {
         super(playerRef, 50);
         this.playerStore = playerStore;
+        this.viewerId = playerRef.getUuid();
     }
 
     @Override
@@ -75,62 +79,58 @@ public class AscendLeaderboardPage extends AbstractLeaderboardPage {
     protected void handleCustomButton(String button, Ref<EntityStore> ref, Store<EntityStore> store) {
         switch (button) {
             case BUTTON_CLOSE -> this.close();
-            case BUTTON_TAB_VOLT -> switchCategory(LeaderboardCategory.VOLT);
-            case BUTTON_TAB_ASCENSIONS -> switchCategory(LeaderboardCategory.ASCENSIONS);
-            case BUTTON_TAB_RUNS -> switchCategory(LeaderboardCategory.MANUAL_RUNS);
-            case BUTTON_TAB_FASTEST -> switchCategory(LeaderboardCategory.FASTEST_ASCENSION);
+            case BUTTON_TAB_VOLT -> switchCategory(AscendLeaderboardCategory.VOLT);
+            case BUTTON_TAB_ASCENSIONS -> switchCategory(AscendLeaderboardCategory.ASCENSIONS);
+            case BUTTON_TAB_RUNS -> switchCategory(AscendLeaderboardCategory.MANUAL_RUNS);
+            case BUTTON_TAB_FASTEST -> switchCategory(AscendLeaderboardCategory.FASTEST_ASCENSION);
         }
     }
 
     @Override
     protected void onBuildLeaderboard(UICommandBuilder cmd) {
-        setTabActive(cmd, "TabVolt", currentCategory == LeaderboardCategory.VOLT);
-        setTabActive(cmd, "TabAscensions", currentCategory == LeaderboardCategory.ASCENSIONS);
-        setTabActive(cmd, "TabRuns", currentCategory == LeaderboardCategory.MANUAL_RUNS);
-        setTabActive(cmd, "TabFastest", currentCategory == LeaderboardCategory.FASTEST_ASCENSION);
+        setTabActive(cmd, "TabVolt", currentCategory == AscendLeaderboardCategory.VOLT);
+        setTabActive(cmd, "TabAscensions", currentCategory == AscendLeaderboardCategory.ASCENSIONS);
+        setTabActive(cmd, "TabRuns", currentCategory == AscendLeaderboardCategory.MANUAL_RUNS);
+        setTabActive(cmd, "TabFastest", currentCategory == AscendLeaderboardCategory.FASTEST_ASCENSION);
+
+        int selfRank = playerStore.getLeaderboardRank(currentCategory, viewerId);
+        cmd.set("#SelfRankText.Text", selfRank > 0
+                ? "You: #" + selfRank + " of " + playerStore.getLeaderboardSize(currentCategory)
+                : "");
+    }
+
+    @Override
+    protected int countRankedRows() {
+        return playerStore.getLeaderboardSize(currentCategory);
+    }
+
+    @Override
+    protected List<LeaderboardRow> loadRowRange(int offset, int limit) {
+        return toRows(playerStore.getLeaderboardPage(currentCategory, offset, limit), offset + 1);
     }
 
     @Override
     protected List<LeaderboardRow> loadRows() {
-        List<LeaderboardEntry> entries = playerStore.getLeaderboardEntries();
-        if (entries.isEmpty()) {
+        if (playerStore.getLeaderboardPlayerCount() == 0) {
             return null;
         }
 
-        List<LeaderboardEntry> sorted = new ArrayList<>(entries);
-        switch (currentCategory) {
-            case VOLT -> {
-                sorted.removeIf(e -> e.totalVoltEarnedExp10() == 0 && e.totalVoltEarnedMantissa() == 0);
-                sorted.sort((a, b) -> {
-                    int cmp = Integer.compare(b.totalVoltEarnedExp10(), a.totalVoltEarnedExp10());
-                    if (cmp != 0) return cmp;
-                    return Double.compare(b.totalVoltEarnedMantissa(), a.totalVoltEarnedMantissa());
-                });
-            }
-            case ASCENSIONS -> {
-                sorted.removeIf(e -> e.ascensionCount() == 0);
-                sorted.sort((a, b) -> Integer.compare(b.ascensionCount(), a.ascensionCount()));
-            }
-            case MANUAL_RUNS -> {
-                sorted.removeIf(e -> e.totalManualRuns() == 0);
-                sorted.sort((a, b) -> Integer.compare(b.totalManualRuns(), a.totalManualRuns()));
-            }
-            case FASTEST_ASCENSION -> {
-                sorted.removeIf(e -> e.fastestAscensionMs() == null);
-                sorted.sort((a, b) -> Long.compare(a.fastestAscensionMs(), b.fastestAscensionMs()));
-            }
-        }
+        // Only reached for searches (or an empty tab); browsing reads one page through loadRowRange.
+        int size = playerStore.getLeaderboardSize(currentCategory);
+        return toRows(playerStore.getLeaderboardPage(currentCategory, 0, size), 1);
+    }
 
-        List<LeaderboardRow> rows = new ArrayList<>();
-        int rank = 1;
-        for (LeaderboardEntry entry : sorted) {
+    private List<LeaderboardRow> toRows(List<LeaderboardEntry> ranked, int firstRank) {
+        List<LeaderboardRow> rows = new ArrayList<>(ranked.size());
+        int rank = firstRank;
+        for (LeaderboardEntry entry : ranked) {
             rows.add(new LeaderboardRow(rank, entry.playerId(), resolveName(entry), formatValue(entry)));
             rank++;
         }
         return rows;
     }
 
-    private void switchCategory(LeaderboardCategory category) {
+    private void switchCategory(AscendLeaderboardCategory category) {
         if (currentCategory == category) {
             return;
         }
@@ -164,11 +164,4 @@ public class AscendLeaderboardPage extends AbstractLeaderboardPage {
                     : "-";
         };
     }
-
-    public enum LeaderboardCategory {
-        VOLT,
-        ASCENSIONS,
-        MANUAL_RUNS,
-        FASTEST_ASCENSION
-    }
 }
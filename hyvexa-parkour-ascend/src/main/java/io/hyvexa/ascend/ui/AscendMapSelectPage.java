@@ -2,6 +2,7 @@ package io.hyvexa.ascend.ui;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -97,6 +98,8 @@ public class AscendMapSelectPage extends BaseAscendPage {
     private int lastMapCount;
     private final Set<String> displayedMapIds = new LinkedHashSet<>();
     private final Map<String, int[]> cachedMapState = new HashMap<>(); // mapId -> [speedLevel, stars, hasRobot]
+    // Cards rendered while their ghost recording was still loading; re-rendered on the next refresh
+    private final Set<String> mapsAwaitingGhost = new HashSet<>();
 
 
     public AscendMapSelectPage(@Nonnull PlayerRef playerRef, AscendMapStore mapStore,
@@ -270,6 +273,7 @@ public class AscendMapSelectPage extends BaseAscendPage {
         commandBuilder.clear("#MapCards");
         displayedMapIds.clear();
         cachedMapState.clear();
+        mapsAwaitingGhost.clear();
         PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
         if (playerRef == null) {
             return null;
@@ -336,7 +340,7 @@ public class AscendMapSelectPage extends BaseAscendPage {
                 canAffordUpgrade = currentVolt.gte(upgradeCost);
             }
 
-            boolean canBuyAll = (!hasRobot && ghostStore.getRecording(playerId, map.getId()) != null)
+            boolean canBuyAll = (!hasRobot && ghostStore.hasRecording(playerId, map.getId()))
                     || (hasRobot && speedLevel < MAX_SPEED_LEVEL && canAffordUpgrade);
             boolean canEvolve = hasRobot
                     && speedLevel >= MAX_SPEED_LEVEL
@@ -439,7 +443,13 @@ public class AscendMapSelectPage extends BaseAscendPage {
                                                   GameplayState.MapProgress mapProgress, UUID playerId,
                                                   BigNumber currentVolt) {
         boolean hasRobot = mapProgress != null && mapProgress.hasRobot();
-        boolean hasGhostRecording = ghostStore.getRecording(playerId, map.getId()) != null;
+        boolean hasGhostRecording = ghostStore.hasRecording(playerId, map.getId());
+        GhostRecording ghost = hasGhostRecording ? ghostStore.getRecording(playerId, map.getId()) : null;
+        if (hasGhostRecording && ghost == null) {
+            mapsAwaitingGhost.add(map.getId());
+        } else {
+            mapsAwaitingGhost.remove(map.getId());
+        }
         int speedLevel = mapProgress != null ? mapProgress.getRobotSpeedLevel() : 0;
         int stars = mapProgress != null ? mapProgress.getRobotStars() : 0;
 
@@ -458,7 +468,7 @@ public class AscendMapSelectPage extends BaseAscendPage {
         }
         commandBuilder.set("#MapCards[" + index + "] " + resolveButtonBgElementId(index) + ".Visible", true);
         commandBuilder.set("#MapCards[" + index + "] #MapStatus.Text",
-            buildMapStatusText(map, hasRobot, speedLevel, stars, playerId));
+            buildMapStatusText(map, hasRobot, speedLevel, stars, playerId, ghost));
 
         String levelText = buildLevelText(stars, speedLevel);
         commandBuilder.set("#MapCards[" + index + "] #RunnerLevel.Text", levelText);
@@ -519,26 +529,26 @@ public class AscendMapSelectPage extends BaseAscendPage {
         return new RunnerStatusData(runnerStatusText, displayButtonText, displayPriceText, actionPrice, isUpgrade);
     }
 
-    private String buildMapStatusText(AscendMap map, boolean hasRobot, int speedLevel, int stars, UUID playerId) {
-        String status = "Run: " + formatRunTime(map, hasRobot, speedLevel, playerId);
+    private String buildMapStatusText(AscendMap map, boolean hasRobot, int speedLevel, int stars, UUID playerId,
+                                      GhostRecording ghost) {
+        String status = "Run: " + formatRunTime(map, hasRobot, speedLevel, playerId, ghost);
         if (hasRobot) {
             status += " (" + formatMultiplierGain(stars, playerId) + ")";
         }
-        GhostRecording ghostForPb = ghostStore.getRecording(playerId, map.getId());
-        if (ghostForPb != null && ghostForPb.getCompletionTimeMs() > 0) {
-            long bestTimeMs = ghostForPb.getCompletionTimeMs();
+        if (ghost != null && ghost.getCompletionTimeMs() > 0) {
+            long bestTimeMs = ghost.getCompletionTimeMs();
             double bestTimeSec = bestTimeMs / 1000.0;
             status += " | PB: " + String.format("%.2fs", bestTimeSec);
         }
         return status;
     }
 
-    private String formatRunTime(AscendMap map, boolean hasRobot, int speedLevel, java.util.UUID playerId) {
+    private String formatRunTime(AscendMap map, boolean hasRobot, int speedLevel, java.util.UUID playerId,
+                                 GhostRecording ghost) {
         if (map == null || !hasRobot || playerId == null) {
             return "-";
         }
         // Use player's PB time as base (from ghost recording)
-        GhostRecording ghost = ghostStore.getRecording(playerId, map.getId());
         if (ghost == null) {
             return "-";
         }
@@ -620,8 +630,7 @@ public class AscendMapSelectPage extends BaseAscendPage {
         GameplayState.MapProgress mapProgress = progress.gameplay().getOrCreateMapProgress(mapId);
         if (!mapProgress.hasRobot()) {
             // Check if ghost recording exists (preserves PB across progress reset)
-            GhostRecording ghost = ghostStore.getRecording(playerRef.getUuid(), mapId);
-            if (ghost == null) {
+            if (!ghostStore.hasRecording(playerRef.getUuid(), mapId)) {
                 sendMessage(store, ref, "[Ascend] Complete the map manually before buying a runner!");
                 return;
             }
@@ -801,7 +810,8 @@ public class AscendMapSelectPage extends BaseAscendPage {
             // Check if data changed since last refresh (auto-upgrade happened)
             int[] cached = cachedMapState.get(map.getId());
             int hasRobotInt = mapState.hasRobot() ? 1 : 0;
-            boolean dataChanged = cached == null || cached[0] != speedLevel || cached[1] != stars || cached[2] != hasRobotInt;
+            boolean dataChanged = cached == null || cached[0] != speedLevel || cached[1] != stars || cached[2] != hasRobotInt
+                || mapsAwaitingGhost.contains(map.getId());
 
             if (dataChanged) {
                 RunnerCardSnapshot snapshot = renderRunnerButton(
@@ -1010,8 +1020,7 @@ public class AscendMapSelectPage extends BaseAscendPage {
 
             if (!hasRobot) {
                 // Can buy robot if ghost recording exists (preserves PB across progress reset)
-                GhostRecording ghost = ghostStore.getRecording(playerRef.getUuid(), map.getId());
-                if (ghost != null) {
+                if (ghostStore.hasRecording(playerRef.getUuid(), map.getId())) {
                     // Buying a runner is now free
                     options.add(new PurchaseOption(map.getId(), PurchaseType.BUY_ROBOT, BigNumber.ZERO));
                 }
@@ -183,6 +183,7 @@ public class StatsPage extends BaseAscendPage {
             return "0 volt/sec";
         }
         double totalVoltPerSec = 0.0;
+        boolean ghostsLoading = false;
 
         BigNumber digitsProduct = playerStore.progression().getMultiplierProductAndValues(playerId, maps, RunnerEconomyConstants.MULTIPLIER_SLOTS).product;
 
@@ -193,6 +194,11 @@ public class StatsPage extends BaseAscendPage {
             }
 
             GhostRecording ghost = ghostStore.getRecording(playerId, map.getId());
+            if (ghost == null && ghostStore.hasRecording(playerId, map.getId())) {
+                // Still loading; keep going so every missing recording gets requested in this pass
+                ghostsLoading = true;
+                continue;
+            }
             if (ghost == null || ghost.getCompletionTimeMs() <= 0) {
                 continue;
             }
@@ -212,6 +218,10 @@ public class StatsPage extends BaseAscendPage {
             totalVoltPerSec += runsPerSec * voltPerRun;
         }
 
+        if (ghostsLoading) {
+            // The auto-refresh fills in the total once the recordings land, instead of showing a partial one
+            return "...";
+        }
         if (totalVoltPerSec < 0.01) {
             return "0 volt/sec";
         }
@@ -0,0 +1,191 @@
+package io.hyvexa.ascend.data;
+
+import io.hyvexa.ascend.data.AscendPlayerStore.LeaderboardEntry;
+import io.hyvexa.common.math.BigNumber;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AscendLeaderboardIndexTest {
+
+    /** The previous page pipeline: DB snapshot with online players merged on top, then filter and sort. */
+    private static List<LeaderboardEntry> mergeAndSort(List<LeaderboardEntry> dbRows,
+                                                       Map<UUID, AscendPlayerProgress> online,
+                                                       Map<UUID, String> names,
+                                                       AscendLeaderboardCategory category) {
+        Map<UUID, LeaderboardEntry> merged = new LinkedHashMap<>();
+        for (LeaderboardEntry row : dbRows) {
+            merged.put(row.playerId(), row);
+        }
+        for (Map.Entry<UUID, AscendPlayerProgress> e : online.entrySet()) {
+            merged.put(e.getKey(), AscendLeaderboardIndex.entryOf(e.getKey(), names.get(e.getKey()), e.getValue()));
+        }
+        List<LeaderboardEntry> sorted = new ArrayList<>(merged.values());
+        sorted.removeIf(legacyFilter(category).negate());
+        sorted.sort(legacyOrder(category));
+        return sorted;
+    }
+
+    private static Predicate<LeaderboardEntry> legacyFilter(AscendLeaderboardCategory category) {
+        return switch (category) {
+            case VOLT -> e -> !(e.totalVoltEarnedExp10() == 0 && e.totalVoltEarnedMantissa() == 0);
+            case ASCENSIONS -> e -> e.ascensionCount() != 0;
+            case MANUAL_RUNS -> e -> e.totalManualRuns() != 0;
+            case FASTEST_ASCENSION -> e -> e.fastestAscensionMs() != null;
+        };
+    }
+
+    private static Comparator<LeaderboardEntry> legacyOrder(AscendLeaderboardCategory category) {
+        return switch (category) {
+            case VOLT -> (a, b) -> {
+                int cmp = Integer.compare(b.totalVoltEarnedExp10(), a.totalVoltEarnedExp10());
+                if (cmp != 0) return cmp;
+                return Double.compare(b.totalVoltEarnedMantissa(), a.totalVoltEarnedMantissa());
+            };
+            case ASCENSIONS -> (a, b) -> Integer.compare(b.ascensionCount(), a.ascensionCount());
+            case MANUAL_RUNS -> (a, b) -> Integer.compare(b.totalManualRuns(), a.totalManualRuns());
+            case FASTEST_ASCENSION -> (a, b) -> Long.compare(a.fastestAscensionMs(), b.fastestAscensionMs());
+        };
+    }
+
+    private static void randomize(AscendPlayerProgress progress, Random random) {
+        progress.economy().setTotalVoltEarned(random.nextInt(5) == 0
+                ? BigNumber.ZERO
+                : BigNumber.of(1.0 + random.nextInt(9), random.nextInt(30)));
+        progress.gameplay().setAscensionCount(random.nextInt(4) == 0 ? 0 : random.nextInt(12));
+        progress.gameplay().setTotalManualRuns(random.nextInt(4) == 0 ? 0 : random.nextInt(60));
+        progress.gameplay().setFastestAscensionMs(random.nextInt(3) == 0 ? null : 60_000L + random.nextInt(40) * 1000L);
+    }
+
+    private static void assertMatchesLegacy(AscendLeaderboardIndex index, List<LeaderboardEntry> dbRows,
+                                            Map<UUID, AscendPlayerProgress> online, Map<UUID, String> names,
+                                            Random random, String step) {
+        for (AscendLeaderboardCategory category : AscendLeaderboardCategory.values()) {
+            List<LeaderboardEntry> expected = mergeAndSort(dbRows, online, names, category);
+            List<LeaderboardEntry> actual = index.page(category, 0, Integer.MAX_VALUE);
+            String label = step + " " + category;
+
+            assertEquals(expected.size(), index.size(category), label);
+            assertEquals(new HashSet<>(expected), new HashSet<>(actual), label);
+            Comparator<LeaderboardEntry> legacy = legacyOrder(category);
+            for (int i = 0; i < actual.size(); i++) {
+                // Same rank key at every position; only the order inside ties may differ
+                assertEquals(0, legacy.compare(expected.get(i), actual.get(i)), label + " at " + i);
+                assertEquals(i + 1, index.rankOf(category, actual.get(i).playerId()), label);
+                if (i > 0) {
+                    assertTrue(category.order().compare(actual.get(i - 1), actual.get(i)) < 0, label);
+                }
+            }
+
+            int offset = random.nextInt(actual.size() + 5);
+            int limit = random.nextInt(30);
+            List<LeaderboardEntry> page = index.page(category, offset, limit);
+            int from = Math.min(offset, actual.size());
+            assertEquals(actual.subList(from, Math.min(actual.size(), from + limit)), page, label + " page");
+        }
+    }
+
+    @Test
+    void matchesLegacyMergeForRandomData() {
+        Random random = new Random(23L);
+        Map<UUID, String> names = new LinkedHashMap<>();
+        Map<UUID, LeaderboardEntry> database = new LinkedHashMap<>();
+        List<UUID> everyone = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            UUID playerId = new UUID(random.nextLong(), random.nextLong());
+            everyone.add(playerId);
+            names.put(playerId, "player" + i);
+            AscendPlayerProgress stored = new AscendPlayerProgress();
+            randomize(stored, random);
+            database.put(playerId, AscendLeaderboardIndex.entryOf(playerId, names.get(playerId), stored));
+        }
+        for (int i = 0; i < 30; i++) {
+            UUID playerId = new UUID(random.nextLong(), random.nextLong());
+            everyone.add(playerId);
+            names.put(playerId, "new" + i);
+        }
+
+        Map<UUID, AscendPlayerProgress> online = new LinkedHashMap<>();
+        AscendLeaderboardIndex index = new AscendLeaderboardIndex();
+        for (int i = 0; i < 40; i++) {
+            UUID playerId = everyone.get(random.nextInt(everyone.size()));
+            AscendPlayerProgress progress = new AscendPlayerProgress();
+            randomize(progress, random);
+            online.put(playerId, progress);
+            // Half the joiners show up before the index is seeded
+            if (i % 2 == 0) {
+                index.update(AscendLeaderboardIndex.entryOf(playerId, names.get(playerId), progress));
+            }
+        }
+        index.seed(new ArrayList<>(database.values()));
+        for (Map.Entry<UUID, AscendPlayerProgress> e : online.entrySet()) {
+            index.update(AscendLeaderboardIndex.entryOf(e.getKey(), names.get(e.getKey()), e.getValue()));
+        }
+        assertMatchesLegacy(index, new ArrayList<>(database.values()), online, names, random, "seeded");
+
+        for (int round = 0; round < 200; round++) {
+            List<UUID> onlineIds = new ArrayList<>(online.keySet());
+            UUID playerId = onlineIds.get(random.nextInt(onlineIds.size()));
+            AscendPlayerProgress progress = online.get(playerId);
+            switch (random.nextInt(5)) {
+                case 0 -> progress.economy().setTotalVoltEarned(BigNumber.of(1.0 + random.nextInt(9), random.nextInt(30)));
+                case 1 -> progress.gameplay().setAscensionCount(progress.gameplay().getAscensionCount() + 1);
+                case 2 -> progress.gameplay().setTotalManualRuns(progress.gameplay().getTotalManualRuns() + 1);
+                case 3 -> progress.gameplay().setFastestAscensionMs(50_000L + random.nextInt(40) * 1000L);
+                default -> {
+                    // Disconnect: the save writes the live values back, then the player leaves
+                    LeaderboardEntry saved = AscendLeaderboardIndex.entryOf(playerId, names.get(playerId), progress);
+                    database.put(playerId, saved);
+                    online.remove(playerId);
+                    UUID joiner = everyone.get(random.nextInt(everyone.size()));
+                    AscendPlayerProgress joined = new AscendPlayerProgress();
+                    LeaderboardEntry row = database.get(joiner);
+                    if (online.containsKey(joiner)) {
+                        joined = online.get(joiner);
+                    } else if (row != null) {
+                        joined.economy().setTotalVoltEarned(
+                                BigNumber.of(row.totalVoltEarnedMantissa(), row.totalVoltEarnedExp10()));
+                        joined.gameplay().setAscensionCount(row.ascensionCount());
+                        joined.gameplay().setTotalManualRuns(row.totalManualRuns());
+                        joined.gameplay().setFastestAscensionMs(row.fastestAscensionMs());
+                    }
+                    online.put(joiner, joined);
+                    index.update(AscendLeaderboardIndex.entryOf(joiner, names.get(joiner), joined));
+                    continue;
+                }
+            }
+            index.update(AscendLeaderboardIndex.entryOf(playerId, names.get(playerId), progress));
+            if (round % 10 == 0) {
+                assertMatchesLegacy(index, new ArrayList<>(database.values()), online, names, random, "round " + round);
+            }
+        }
+        assertMatchesLegacy(index, new ArrayList<>(database.values()), online, names, random, "end");
+    }
+
+    @Test
+    void droppingOutOfACategoryRemovesTheRank() {
+        AscendLeaderboardIndex index = new AscendLeaderboardIndex();
+        UUID playerId = UUID.randomUUID();
+        AscendPlayerProgress progress = new AscendPlayerProgress();
+        progress.gameplay().setAscensionCount(3);
+        index.update(AscendLeaderboardIndex.entryOf(playerId, "a", progress));
+        assertEquals(1, index.rankOf(AscendLeaderboardCategory.ASCENSIONS, playerId));
+        assertEquals(-1, index.rankOf(AscendLeaderboardCategory.VOLT, playerId));
+
+        progress.gameplay().setAscensionCount(0);
+        index.update(AscendLeaderboardIndex.entryOf(playerId, "a", progress));
+        assertEquals(-1, index.rankOf(AscendLeaderboardCategory.ASCENSIONS, playerId));
+        assertEquals(0, index.size(AscendLeaderboardCategory.ASCENSIONS));
+        assertEquals(1, index.playerCount());
+    }
+}
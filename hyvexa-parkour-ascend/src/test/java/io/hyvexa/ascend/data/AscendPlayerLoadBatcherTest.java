@@ -0,0 +1,119 @@
+package io.hyvexa.ascend.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AscendPlayerLoadBatcherTest {
+
+    private record Batch(Thread thread, List<UUID> playerIds) {}
+
+    private static Map<UUID, AscendPlayerProgress> progressFor(List<UUID> playerIds) {
+        Map<UUID, AscendPlayerProgress> loaded = new HashMap<>();
+        for (UUID playerId : playerIds) {
+            loaded.put(playerId, new AscendPlayerProgress());
+        }
+        return loaded;
+    }
+
+    @Test
+    void loaderHandsOffOnceItsOwnPlayerIsLoaded() throws Exception {
+        CountDownLatch firstReadStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRead = new CountDownLatch(1);
+        List<Batch> batches = new CopyOnWriteArrayList<>();
+        AscendPlayerLoadBatcher batcher = new AscendPlayerLoadBatcher(ids -> {
+            batches.add(new Batch(Thread.currentThread(), ids));
+            if (batches.size() == 1) {
+                firstReadStarted.countDown();
+                try {
+                    releaseFirstRead.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return progressFor(ids);
+        }, 4);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            UUID first = new UUID(1, 0);
+            Future<AscendPlayerProgress> firstLoad = executor.submit(() -> batcher.load(first));
+            assertTrue(firstReadStarted.await(5, TimeUnit.SECONDS));
+
+            // Joins that arrive while the first read is in flight
+            List<Future<AscendPlayerProgress>> later = new ArrayList<>();
+            for (int i = 1; i <= 6; i++) {
+                UUID playerId = new UUID(1, i);
+                later.add(executor.submit(() -> batcher.load(playerId)));
+            }
+            Thread.sleep(100);
+            releaseFirstRead.countDown();
+
+            assertNotNull(firstLoad.get(5, TimeUnit.SECONDS));
+            for (Future<AscendPlayerProgress> load : later) {
+                assertNotNull(load.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(List.of(new UUID(1, 0)), batches.get(0).playerIds());
+        Thread firstLoader = batches.get(0).thread();
+        int loadedLater = 0;
+        for (Batch batch : batches.subList(1, batches.size())) {
+            // The queued players were read by one of their own callers, not the first joiner
+            assertNotSame(firstLoader, batch.thread());
+            assertTrue(batch.playerIds().size() <= 4);
+            loadedLater += batch.playerIds().size();
+        }
+        assertEquals(6, loadedLater);
+    }
+
+    @Test
+    void concurrentLoadsAllComplete() throws Exception {
+        UUID missing = new UUID(2, 0);
+        List<Batch> batches = new CopyOnWriteArrayList<>();
+        AscendPlayerLoadBatcher batcher = new AscendPlayerLoadBatcher(ids -> {
+            batches.add(new Batch(Thread.currentThread(), ids));
+            Map<UUID, AscendPlayerProgress> loaded = progressFor(ids);
+            loaded.remove(missing);
+            return loaded;
+        }, 8);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<AscendPlayerProgress>> loads = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                UUID playerId = new UUID(2, i % 32);
+                loads.add(executor.submit(() -> batcher.load(playerId)));
+            }
+            for (int i = 0; i < loads.size(); i++) {
+                AscendPlayerProgress progress = loads.get(i).get(5, TimeUnit.SECONDS);
+                if (i % 32 == 0) {
+                    assertNull(progress);
+                } else {
+                    assertNotNull(progress);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Batch batch : batches) {
+            assertFalse(batch.playerIds().isEmpty());
+            assertTrue(batch.playerIds().size() <= 8);
+        }
+    }
+}
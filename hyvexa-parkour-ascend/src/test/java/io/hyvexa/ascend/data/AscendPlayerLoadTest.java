@@ -0,0 +1,187 @@
+package io.hyvexa.ascend.data;
+
+import io.hyvexa.ascend.SummitConstants.SummitCategory;
+import io.hyvexa.ascend.data.GameplayState.MapProgress;
+import io.hyvexa.core.db.ConnectionProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AscendPlayerLoadTest {
+
+    private static final int PLAYER_COUNT = 24;
+    private static final int MAP_COUNT = 8;
+
+    private Connection keepAlive;
+    private String url;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger queries = new AtomicInteger();
+    private final List<UUID> playerIds = new ArrayList<>();
+    private final Map<UUID, AscendPlayerProgress> seeded = new HashMap<>();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:h2:mem:ascend_load_" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        keepAlive = DriverManager.getConnection(url);
+        AscendTestDatabase.createSchema(keepAlive);
+
+        Random random = new Random(5L);
+        Map<UUID, AscendPlayerProgress> players = new ConcurrentHashMap<>();
+        AscendPlayerPersistence seeder = new AscendPlayerPersistence(provider(() -> { }), players,
+                new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet());
+        for (int i = 0; i < PLAYER_COUNT; i++) {
+            UUID playerId = new UUID(7, i);
+            AscendPlayerProgress progress = AscendTestDatabase.randomProgress(random, MAP_COUNT);
+            progress.gameplay().setTotalManualRuns(random.nextInt(500));
+            playerIds.add(playerId);
+            seeded.put(playerId, progress);
+            players.put(playerId, progress);
+            seeder.markDirty(playerId);
+        }
+        seeder.flushPendingSave();
+        connections.set(0);
+        queries.set(0);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    /** Counts connection checkouts and executed queries; runs {@code onCheckout} before handing a connection out. */
+    private ConnectionProvider provider(Runnable onCheckout) {
+        return new ConnectionProvider() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                connections.incrementAndGet();
+                onCheckout.run();
+                Connection delegate = DriverManager.getConnection(url);
+                return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                        (proxy, method, args) -> {
+                            if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+                                queries.incrementAndGet();
+                            }
+                            try {
+                                return method.invoke(delegate, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        });
+            }
+
+            @Override
+            public boolean isInitialized() {
+                return true;
+            }
+        };
+    }
+
+    private static AscendPlayerPersistence persistence(ConnectionProvider db) {
+        return new AscendPlayerPersistence(db, new ConcurrentHashMap<>(), new ConcurrentHashMap<>(),
+                ConcurrentHashMap.newKeySet());
+    }
+
+    private static void assertSameProgress(AscendPlayerProgress expected, AscendPlayerProgress actual, String label) {
+        assertNotNull(actual, label);
+        assertEquals(expected.economy().getVolt(), actual.economy().getVolt(), label);
+        assertEquals(expected.gameplay().getTotalManualRuns(), actual.gameplay().getTotalManualRuns(), label);
+        assertEquals(expected.gameplay().getAscensionStartedAt(), actual.gameplay().getAscensionStartedAt(), label);
+        assertEquals(expected.gameplay().getMapProgress().keySet(), actual.gameplay().getMapProgress().keySet(), label);
+        for (Map.Entry<String, MapProgress> entry : expected.gameplay().getMapProgress().entrySet()) {
+            assertEquals(PersistedChildRows.MapRow.of(entry.getValue()),
+                    PersistedChildRows.MapRow.of(actual.gameplay().getMapProgress().get(entry.getKey())),
+                    label + " " + entry.getKey());
+        }
+        for (SummitCategory category : SummitCategory.values()) {
+            assertEquals(expected.economy().getSummitXp(category), actual.economy().getSummitXp(category), label);
+        }
+        assertEquals(expected.gameplay().getUnlockedSkillNodes(), actual.gameplay().getUnlockedSkillNodes(), label);
+        assertEquals(expected.gameplay().getUnlockedAchievements(), actual.gameplay().getUnlockedAchievements(), label);
+        assertEquals(expected.gameplay().getFoundCats(), actual.gameplay().getFoundCats(), label);
+    }
+
+    @Test
+    void singlePlayerLoadUsesOneCheckoutAndTwoQueries() {
+        AscendPlayerPersistence persistence = persistence(provider(() -> { }));
+        for (UUID playerId : playerIds) {
+            connections.set(0);
+            queries.set(0);
+            assertSameProgress(seeded.get(playerId), persistence.loadPlayerFromDatabase(playerId), playerId.toString());
+            assertEquals(1, connections.get());
+            assertEquals(2, queries.get());
+        }
+        assertNull(persistence.loadPlayerFromDatabase(UUID.randomUUID()));
+    }
+
+    @Test
+    void batchLoadCostsTheSameAsOnePlayer() {
+        AscendPlayerPersistence persistence = persistence(provider(() -> { }));
+        List<UUID> requested = new ArrayList<>(playerIds);
+        UUID missing = UUID.randomUUID();
+        requested.add(missing);
+
+        Map<UUID, AscendPlayerProgress> loaded = persistence.loadPlayersFromDatabase(requested);
+        assertEquals(1, connections.get());
+        assertEquals(2, queries.get());
+        assertEquals(PLAYER_COUNT, loaded.size());
+        assertFalse(loaded.containsKey(missing));
+        for (UUID playerId : playerIds) {
+            assertSameProgress(seeded.get(playerId), loaded.get(playerId), playerId.toString());
+        }
+    }
+
+    @Test
+    void concurrentJoinsAreCoalesced() throws InterruptedException {
+        CountDownLatch allRequested = new CountDownLatch(PLAYER_COUNT);
+        AtomicBoolean firstCheckout = new AtomicBoolean(true);
+        // Hold the first read until every joiner has asked, so the rest queue behind it.
+        AscendPlayerPersistence persistence = persistence(provider(() -> {
+            if (firstCheckout.getAndSet(false)) {
+                try {
+                    allRequested.await(5, TimeUnit.SECONDS);
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }));
+
+        Map<UUID, AscendPlayerProgress> results = new ConcurrentHashMap<>();
+        List<Thread> joiners = new ArrayList<>();
+        for (UUID playerId : playerIds) {
+            joiners.add(new Thread(() -> {
+                allRequested.countDown();
+                results.put(playerId, persistence.loadPlayerFromDatabase(playerId));
+            }));
+        }
+        joiners.forEach(Thread::start);
+        for (Thread joiner : joiners) {
+            joiner.join();
+        }
+
+        for (UUID playerId : playerIds) {
+            assertSameProgress(seeded.get(playerId), results.get(playerId), playerId.toString());
+        }
+        assertTrue(connections.get() <= 3, "checkouts: " + connections.get());
+        assertEquals(connections.get() * 2, queries.get());
+    }
+}
@@ -0,0 +1,316 @@
+package io.hyvexa.ascend.data;
+
+import io.hyvexa.ascend.AscensionConstants.AchievementType;
+import io.hyvexa.ascend.AscensionConstants.SkillTreeNode;
+import io.hyvexa.ascend.SummitConstants.SummitCategory;
+import io.hyvexa.ascend.data.GameplayState.MapProgress;
+import io.hyvexa.core.db.ConnectionProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AscendSaveSchedulerTest {
+
+    private static final int PLAYER_COUNT = 20;
+    private static final int MAP_COUNT = 10;
+    private static final String[] CHILD_TABLES = {
+        "ascend_player_maps", "ascend_player_summit", "ascend_player_skills",
+        "ascend_player_achievements", "ascend_player_cats"
+    };
+
+    private Connection diffKeepAlive;
+    private Connection referenceKeepAlive;
+    private ConnectionProvider diffDb;
+    private final AtomicInteger childStatements = new AtomicInteger();
+    private int referenceStatements;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        String diffUrl = "jdbc:h2:mem:ascend_diff_" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        String referenceUrl = "jdbc:h2:mem:ascend_ref_" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        diffKeepAlive = DriverManager.getConnection(diffUrl);
+        referenceKeepAlive = DriverManager.getConnection(referenceUrl);
+        AscendTestDatabase.createSchema(diffKeepAlive);
+        AscendTestDatabase.createSchema(referenceKeepAlive);
+        diffDb = new ConnectionProvider() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return countingConnection(DriverManager.getConnection(diffUrl));
+            }
+
+            @Override
+            public boolean isInitialized() {
+                return true;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        diffKeepAlive.close();
+        referenceKeepAlive.close();
+    }
+
+    /** Counts child-table rows sent to the database (batched or not) through this connection. */
+    private Connection countingConnection(Connection delegate) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(delegate, method, args);
+                    if (method.getName().equals("prepareStatement") && args != null && args[0] instanceof String sql
+                            && sql.contains("ascend_player_")) {
+                        return countingStatement((PreparedStatement) result);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement countingStatement(PreparedStatement delegate) {
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if ((name.equals("addBatch") || name.equals("executeUpdate")) && (args == null || args.length == 0)) {
+                        childStatements.incrementAndGet();
+                    }
+                    return invoke(delegate, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** The previous save strategy: wipe every child row of the player, then insert all live rows. */
+    private void deleteAndReinsert(UUID playerId, AscendPlayerProgress progress) throws SQLException {
+        String pid = playerId.toString();
+        for (String table : CHILD_TABLES) {
+            try (PreparedStatement stmt = referenceKeepAlive.prepareStatement(
+                    "DELETE FROM " + table + " WHERE player_uuid = ?")) {
+                stmt.setString(1, pid);
+                stmt.executeUpdate();
+                referenceStatements++;
+            }
+        }
+        try (PreparedStatement stmt = referenceKeepAlive.prepareStatement(
+                "INSERT INTO ascend_player_maps VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (Map.Entry<String, MapProgress> entry : progress.gameplay().getMapProgress().entrySet()) {
+                MapProgress map = entry.getValue();
+                stmt.setString(1, pid);
+                stmt.setString(2, entry.getKey());
+                stmt.setBoolean(3, map.isUnlocked());
+                stmt.setBoolean(4, map.isCompletedManually());
+                stmt.setBoolean(5, map.hasRobot());
+                stmt.setInt(6, map.getRobotSpeedLevel());
+                stmt.setInt(7, map.getRobotStars());
+                stmt.setDouble(8, map.getMultiplier().getMantissa());
+                stmt.setInt(9, map.getMultiplier().getExponent());
+                if (map.getBestTimeMs() != null) {
+                    stmt.setLong(10, map.getBestTimeMs());
+                } else {
+                    stmt.setNull(10, java.sql.Types.BIGINT);
+                }
+                stmt.executeUpdate();
+                referenceStatements++;
+            }
+        }
+        try (PreparedStatement stmt = referenceKeepAlive.prepareStatement(
+                "INSERT INTO ascend_player_summit VALUES (?, ?, ?)")) {
+            for (SummitCategory category : SummitCategory.values()) {
+                stmt.setString(1, pid);
+                stmt.setString(2, category.name());
+                stmt.setDouble(3, progress.economy().getSummitXp(category));
+                stmt.executeUpdate();
+                referenceStatements++;
+            }
+        }
+        List<String> skills = new ArrayList<>();
+        progress.gameplay().getUnlockedSkillNodes().forEach(node -> skills.add(node.name()));
+        List<String> achievements = new ArrayList<>();
+        progress.gameplay().getUnlockedAchievements().forEach(achievement -> achievements.add(achievement.name()));
+        insertKeys("ascend_player_skills", pid, skills);
+        insertKeys("ascend_player_achievements", pid, achievements);
+        insertKeys("ascend_player_cats", pid, progress.gameplay().getFoundCats());
+    }
+
+    private void insertKeys(String table, String pid, Iterable<String> keys) throws SQLException {
+        try (PreparedStatement stmt = referenceKeepAlive.prepareStatement("INSERT INTO " + table + " VALUES (?, ?)")) {
+            for (String key : keys) {
+                stmt.setString(1, pid);
+                stmt.setString(2, key);
+                stmt.executeUpdate();
+                referenceStatements++;
+            }
+        }
+    }
+
+    private static List<String> dumpTable(Connection conn, String table) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT * FROM " + table + " ORDER BY 1, 2")) {
+            ResultSetMetaData meta = rs.getMetaData();
+            while (rs.next()) {
+                StringBuilder row = new StringBuilder();
+                for (int i = 1; i <= meta.getColumnCount(); i++) {
+                    row.append(rs.getObject(i)).append('|');
+                }
+                rows.add(row.toString());
+            }
+        }
+        return rows;
+    }
+
+    private void assertTablesMatch(String step) throws SQLException {
+        for (String table : CHILD_TABLES) {
+            assertEquals(dumpTable(referenceKeepAlive, table), dumpTable(diffKeepAlive, table), step + " " + table);
+        }
+    }
+
+    /** One small gameplay change, of the kind that marks a player dirty between saves. */
+    private static void mutate(AscendPlayerProgress progress, Random random) {
+        GameplayState gameplay = progress.gameplay();
+        String mapId = "map" + random.nextInt(MAP_COUNT);
+        switch (random.nextInt(9)) {
+            case 0 -> gameplay.getOrCreateMapProgress(mapId).incrementRobotSpeedLevel();
+            case 1 -> gameplay.getOrCreateMapProgress(mapId).setUnlocked(true);
+            case 2 -> {
+                MapProgress map = gameplay.getOrCreateMapProgress(mapId);
+                Long best = map.getBestTimeMs();
+                map.setBestTimeMs(best == null ? 40_000L : best - 1 - random.nextInt(500));
+            }
+            case 3 -> {
+                // Dropping a timed map goes through a reset in gameplay; the upsert never clears best_time_ms
+                MapProgress map = gameplay.getMapProgress().get(mapId);
+                if (map != null && map.getBestTimeMs() == null) {
+                    gameplay.getMapProgress().remove(mapId);
+                }
+            }
+            case 4 -> progress.economy().addSummitXp(
+                    SummitCategory.values()[random.nextInt(SummitCategory.values().length)], 1 + random.nextInt(50));
+            case 5 -> gameplay.unlockSkillNode(SkillTreeNode.values()[random.nextInt(SkillTreeNode.values().length)]);
+            case 6 -> {
+                Set<SkillTreeNode> nodes = EnumSet.noneOf(SkillTreeNode.class);
+                nodes.addAll(gameplay.getUnlockedSkillNodes());
+                nodes.remove(SkillTreeNode.values()[random.nextInt(SkillTreeNode.values().length)]);
+                gameplay.setUnlockedSkillNodes(nodes);
+            }
+            case 7 -> gameplay.unlockAchievement(
+                    AchievementType.values()[random.nextInt(AchievementType.values().length)]);
+            default -> {
+                Set<String> cats = new HashSet<>(gameplay.getFoundCats());
+                String token = "cat" + random.nextInt(6);
+                if (!cats.remove(token)) {
+                    cats.add(token);
+                }
+                gameplay.setFoundCats(cats);
+            }
+        }
+    }
+
+    @Test
+    void diffSavesMatchDeleteAndReinsertWithFewerStatements() throws SQLException {
+        Random random = new Random(11L);
+        List<UUID> playerIds = new ArrayList<>();
+        Map<UUID, AscendPlayerProgress> seeded = new HashMap<>();
+        Map<UUID, AscendPlayerProgress> seedPlayers = new ConcurrentHashMap<>();
+        AscendPlayerPersistence seeder = new AscendPlayerPersistence(diffDb, seedPlayers,
+                new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet());
+        for (int i = 0; i < PLAYER_COUNT; i++) {
+            UUID playerId = new UUID(i, i);
+            playerIds.add(playerId);
+            AscendPlayerProgress progress = AscendTestDatabase.randomProgress(random, MAP_COUNT);
+            seeded.put(playerId, progress);
+            seedPlayers.put(playerId, progress);
+            seeder.markDirty(playerId);
+            deleteAndReinsert(playerId, progress);
+        }
+        seeder.flushPendingSave();
+        assertTablesMatch("seed");
+
+        // Fresh server: players are loaded back, which records the rows the tables hold.
+        Map<UUID, AscendPlayerProgress> players = new ConcurrentHashMap<>();
+        Set<UUID> resetPending = ConcurrentHashMap.newKeySet();
+        AscendPlayerPersistence persistence = new AscendPlayerPersistence(diffDb, players,
+                new ConcurrentHashMap<>(), resetPending);
+        for (UUID playerId : playerIds) {
+            AscendPlayerProgress loaded = persistence.loadPlayerFromDatabase(playerId);
+            assertNotNull(loaded);
+            assertEquals(seeded.get(playerId).gameplay().getMapProgress().keySet(),
+                    loaded.gameplay().getMapProgress().keySet());
+            players.put(playerId, loaded);
+        }
+
+        childStatements.set(0);
+        referenceStatements = 0;
+        for (int round = 0; round < 40; round++) {
+            Set<UUID> dirty = new HashSet<>();
+            for (int i = 0; i < 5; i++) {
+                UUID playerId = playerIds.get(random.nextInt(playerIds.size()));
+                mutate(players.get(playerId), random);
+                dirty.add(playerId);
+            }
+            if (round % 13 == 12) {
+                UUID playerId = playerIds.get(random.nextInt(playerIds.size()));
+                resetPending.add(playerId);
+                players.get(playerId).gameplay().getMapProgress().clear();
+                dirty.add(playerId);
+            }
+            for (UUID playerId : dirty) {
+                persistence.markDirty(playerId);
+                deleteAndReinsert(playerId, players.get(playerId));
+            }
+            persistence.flushPendingSave();
+            assertTablesMatch("round " + round);
+            assertTrue(resetPending.isEmpty(), "round " + round);
+        }
+
+        assertTrue(childStatements.get() * 4 < referenceStatements,
+                "diff saves sent " + childStatements.get() + " child statements, delete-and-reinsert "
+                        + referenceStatements);
+    }
+
+    @Test
+    void cleanReloadedPlayerWritesNoChildRows() throws SQLException {
+        Random random = new Random(3L);
+        UUID playerId = UUID.randomUUID();
+        Map<UUID, AscendPlayerProgress> players = new ConcurrentHashMap<>();
+        AscendPlayerPersistence persistence = new AscendPlayerPersistence(diffDb, players,
+                new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet());
+        players.put(playerId, AscendTestDatabase.randomProgress(random, MAP_COUNT));
+        persistence.markDirty(playerId);
+        persistence.flushPendingSave();
+
+        players.clear();
+        players.put(playerId, persistence.loadPlayerFromDatabase(playerId));
+        childStatements.set(0);
+        persistence.markDirty(playerId);
+        persistence.flushPendingSave();
+        assertEquals(0, childStatements.get());
+    }
+}
@@ -0,0 +1,103 @@
+package io.hyvexa.ascend.data;
+
+import io.hyvexa.ascend.AscensionConstants.AchievementType;
+import io.hyvexa.ascend.AscensionConstants.SkillTreeNode;
+import io.hyvexa.ascend.SummitConstants.SummitCategory;
+import io.hyvexa.ascend.data.GameplayState.MapProgress;
+import io.hyvexa.common.math.BigNumber;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+
+/** Embedded-database schema and randomized player data shared by the Ascend persistence tests. */
+final class AscendTestDatabase {
+
+    private AscendTestDatabase() {
+    }
+
+    static void createSchema(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("""
+                CREATE TABLE ascend_players (
+                    uuid VARCHAR(36) PRIMARY KEY, player_name VARCHAR(32),
+                    volt_mantissa DOUBLE, volt_exp10 INT, elevation_multiplier INT, ascension_count INT,
+                    skill_tree_points INT, total_volt_earned_mantissa DOUBLE, total_volt_earned_exp10 INT,
+                    total_manual_runs INT, active_title VARCHAR(64), ascension_started_at BIGINT,
+                    fastest_ascension_ms BIGINT,
+                    summit_accumulated_volt_mantissa DOUBLE, summit_accumulated_volt_exp10 INT,
+                    elevation_accumulated_volt_mantissa DOUBLE, elevation_accumulated_volt_exp10 INT,
+                    auto_upgrade_enabled BOOLEAN, auto_evolution_enabled BOOLEAN, seen_tutorials INT,
+                    hide_other_runners BOOLEAN, break_ascension_enabled BOOLEAN,
+                    auto_elevation_enabled BOOLEAN, auto_elevation_timer_seconds INT,
+                    auto_elevation_targets VARCHAR(1024), auto_elevation_target_index INT,
+                    auto_summit_enabled BOOLEAN, auto_summit_timer_seconds INT,
+                    auto_summit_config VARCHAR(1024), auto_summit_rotation_index INT,
+                    transcendence_count INT, auto_ascend_enabled BOOLEAN, hud_hidden BOOLEAN, players_hidden BOOLEAN)
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE ascend_player_maps (
+                    player_uuid VARCHAR(36), map_id VARCHAR(32), unlocked BOOLEAN, completed_manually BOOLEAN,
+                    has_robot BOOLEAN, robot_speed_level INT, robot_stars INT,
+                    multiplier_mantissa DOUBLE, multiplier_exp10 INT, best_time_ms BIGINT NULL,
+                    PRIMARY KEY (player_uuid, map_id))
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE ascend_player_summit (
+                    player_uuid VARCHAR(36), category VARCHAR(32), xp DOUBLE, PRIMARY KEY (player_uuid, category))
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE ascend_player_skills (
+                    player_uuid VARCHAR(36), skill_node VARCHAR(64), PRIMARY KEY (player_uuid, skill_node))
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE ascend_player_achievements (
+                    player_uuid VARCHAR(36), achievement VARCHAR(64), PRIMARY KEY (player_uuid, achievement))
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE ascend_player_cats (
+                    player_uuid VARCHAR(36), cat_token VARCHAR(64), PRIMARY KEY (player_uuid, cat_token))
+                """);
+        }
+    }
+
+    static AscendPlayerProgress randomProgress(Random random, int mapCount) {
+        AscendPlayerProgress progress = new AscendPlayerProgress();
+        progress.gameplay().setAscensionStartedAt(1_000L);
+        for (int m = 0; m < mapCount; m++) {
+            if (random.nextInt(3) == 0) {
+                continue;
+            }
+            MapProgress map = progress.gameplay().getOrCreateMapProgress("map" + m);
+            map.setUnlocked(true);
+            map.setCompletedManually(random.nextBoolean());
+            map.setHasRobot(random.nextBoolean());
+            map.setRobotSpeedLevel(random.nextInt(20));
+            map.setRobotStars(random.nextInt(5));
+            map.setMultiplier(BigNumber.of(1.0 + random.nextInt(9), random.nextInt(4)));
+            if (random.nextBoolean()) {
+                map.setBestTimeMs(10_000L + random.nextInt(50_000));
+            }
+        }
+        for (SummitCategory category : SummitCategory.values()) {
+            progress.economy().setSummitXp(category, random.nextInt(1000));
+        }
+        for (SkillTreeNode node : SkillTreeNode.values()) {
+            if (random.nextInt(3) == 0) {
+                progress.gameplay().unlockSkillNode(node);
+            }
+        }
+        for (AchievementType achievement : AchievementType.values()) {
+            if (random.nextInt(4) == 0) {
+                progress.gameplay().unlockAchievement(achievement);
+            }
+        }
+        for (int c = 0; c < 6; c++) {
+            if (random.nextBoolean()) {
+                progress.gameplay().addFoundCat("cat" + c);
+            }
+        }
+        return progress;
+    }
+}
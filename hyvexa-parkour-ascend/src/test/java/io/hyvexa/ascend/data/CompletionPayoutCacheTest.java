@@ -0,0 +1,121 @@
+package io.hyvexa.ascend.data;
+
+import io.hyvexa.common.math.BigNumber;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompletionPayoutCacheTest {
+
+    private static final int SLOTS = 5;
+
+    private static List<AscendMap> createMaps(int count) {
+        List<AscendMap> maps = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AscendMap map = new AscendMap();
+            map.setId("map" + i);
+            map.setDisplayOrder(i);
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    private static void assertCachedMatchesFresh(AscendProgressionFacade facade, UUID playerId,
+                                                 List<AscendMap> maps, int slots, String step) {
+        BigNumber cached = facade.getCompletionPayout(playerId, maps, slots, "map0", BigNumber.ZERO);
+        BigNumber fresh = facade.computeCompletionPayout(playerId, maps, slots, "map0", BigNumber.ZERO);
+        assertEquals(fresh, cached, step);
+        assertSame(cached, facade.getCompletionPayout(playerId, maps, slots, "map1", BigNumber.ZERO), step);
+    }
+
+    @Test
+    void cachedPayoutMatchesFreshAcrossRandomUpgrades() {
+        Map<UUID, AscendPlayerProgress> players = new HashMap<>();
+        UUID playerId = UUID.randomUUID();
+        AscendPlayerProgress progress = new AscendPlayerProgress();
+        players.put(playerId, progress);
+        AscendProgressionFacade facade = new AscendProgressionFacade(players, null);
+        List<AscendMap> allMaps = createMaps(7);
+        List<AscendMap> maps = new ArrayList<>(allMaps.subList(0, SLOTS));
+        int slots = SLOTS;
+
+        Random random = new Random(2024L);
+        for (int step = 0; step < 5_000; step++) {
+            int action = random.nextInt(10);
+            String mapId = "map" + random.nextInt(allMaps.size());
+            switch (action) {
+                case 0, 1, 2, 3 -> progress.gameplay().getOrCreateMapProgress(mapId)
+                        .addMultiplier(BigNumber.of(1 + random.nextDouble() * 9, random.nextInt(4)));
+                case 4 -> progress.gameplay().getOrCreateMapProgress(mapId)
+                        .setMultiplier(BigNumber.fromDouble(random.nextDouble() * 50));
+                case 5 -> progress.economy().setElevationMultiplier(1 + random.nextInt(200));
+                case 6 -> {
+                    if (random.nextInt(20) == 0) {
+                        progress.gameplay().resetMapProgressPreservingPBs();
+                    }
+                }
+                case 7 -> {
+                    maps = new ArrayList<>(allMaps);
+                    Collections.shuffle(maps, random);
+                    maps = maps.subList(0, 1 + random.nextInt(maps.size()));
+                }
+                case 8 -> slots = random.nextInt(SLOTS + 2);
+                default -> allMaps.get(random.nextInt(allMaps.size())).setDisplayOrder(random.nextInt(6));
+            }
+            assertCachedMatchesFresh(facade, playerId, maps, slots, "step " + step + " action " + action);
+        }
+    }
+
+    @Test
+    void unchangedProgressReturnsTheSameInstance() {
+        Map<UUID, AscendPlayerProgress> players = new HashMap<>();
+        UUID playerId = UUID.randomUUID();
+        AscendPlayerProgress progress = new AscendPlayerProgress();
+        players.put(playerId, progress);
+        AscendProgressionFacade facade = new AscendProgressionFacade(players, null);
+        List<AscendMap> maps = createMaps(SLOTS);
+        progress.gameplay().getOrCreateMapProgress("map2").setMultiplier(BigNumber.fromLong(40));
+
+        BigNumber first = facade.getCompletionPayout(playerId, maps, SLOTS, "map0", BigNumber.ZERO);
+        assertSame(first, facade.getCompletionPayout(playerId, maps, SLOTS, "map3", BigNumber.ZERO));
+
+        progress.gameplay().getOrCreateMapProgress("map2").addMultiplier(BigNumber.ONE);
+        BigNumber afterUpgrade = facade.getCompletionPayout(playerId, maps, SLOTS, "map0", BigNumber.ZERO);
+        assertNotSame(first, afterUpgrade);
+        assertEquals(BigNumber.fromLong(41), afterUpgrade);
+    }
+
+    @Test
+    void bonusAndUnknownPlayersBypassTheCache() {
+        Map<UUID, AscendPlayerProgress> players = new HashMap<>();
+        UUID playerId = UUID.randomUUID();
+        players.put(playerId, new AscendPlayerProgress());
+        AscendProgressionFacade facade = new AscendProgressionFacade(players, null);
+        List<AscendMap> maps = createMaps(SLOTS);
+
+        BigNumber withBonus = facade.getCompletionPayout(playerId, maps, SLOTS, "map1", BigNumber.fromLong(4));
+        assertEquals(BigNumber.fromLong(5), withBonus);
+        assertEquals(BigNumber.ONE, facade.getCompletionPayout(UUID.randomUUID(), maps, SLOTS, "map1", BigNumber.ZERO));
+    }
+
+    @Test
+    void challengeRewardChangesBumpTheVersion() {
+        GameplayState gameplay = new GameplayState();
+        int initial = gameplay.getChallengeRewardsVersion();
+        gameplay.addChallengeReward(io.hyvexa.ascend.AscensionConstants.ChallengeType.CHALLENGE_1);
+        int afterAdd = gameplay.getChallengeRewardsVersion();
+        assertNotEquals(initial, afterAdd);
+        gameplay.addChallengeReward(io.hyvexa.ascend.AscensionConstants.ChallengeType.CHALLENGE_1);
+        assertEquals(afterAdd, gameplay.getChallengeRewardsVersion());
+        gameplay.setCompletedChallengeRewards(java.util.Set.of());
+        assertNotEquals(afterAdd, gameplay.getChallengeRewardsVersion());
+    }
+}
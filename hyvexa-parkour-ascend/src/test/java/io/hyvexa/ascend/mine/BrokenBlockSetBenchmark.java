@@ -0,0 +1,77 @@
+package io.hyvexa.ascend.mine;
+
+import io.hyvexa.ascend.mine.util.MinePositionUtils;
+import io.hyvexa.common.bench.Microbenchmark;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Microbenchmark comparing {@link BrokenBlockSet} with the previous {@code Set<Long>} of packed positions
+ * for the miner pattern: pick a random unbroken block in the top layer, claim it, repeat until the zone is empty.
+ * Reports time and bytes allocated per pick+claim. Run with {@link Microbenchmark}.
+ */
+public final class BrokenBlockSetBenchmark {
+
+    private static final int SIZE_X = 32;
+    private static final int SIZE_Y = 12;
+    private static final int SIZE_Z = 32;
+
+    private BrokenBlockSetBenchmark() {
+    }
+
+    /** The previous MineManager selection: ten random probes per layer, then a linear scan. */
+    private static int[] pickFromSet(Set<Long> broken) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (broken.size() >= SIZE_X * SIZE_Y * SIZE_Z) return null;
+        for (int y = SIZE_Y - 1; y >= 0; y--) {
+            for (int attempt = 0; attempt < 10; attempt++) {
+                int x = random.nextInt(SIZE_X);
+                int z = random.nextInt(SIZE_Z);
+                if (!broken.contains(MinePositionUtils.packPosition(x, y, z))) {
+                    return new int[]{x, y, z};
+                }
+            }
+            int layerSize = SIZE_X * SIZE_Z;
+            int startIdx = random.nextInt(layerSize);
+            for (int i = 0; i < layerSize; i++) {
+                int idx = (startIdx + i) % layerSize;
+                int x = idx / SIZE_Z;
+                int z = idx % SIZE_Z;
+                if (!broken.contains(MinePositionUtils.packPosition(x, y, z))) {
+                    return new int[]{x, y, z};
+                }
+            }
+        }
+        return null;
+    }
+
+    public static void main(String[] args) {
+        Microbenchmark bench = new Microbenchmark(2, 3);
+        double blocks = (double) SIZE_X * SIZE_Y * SIZE_Z;
+
+        bench.report("set", blocks, "block", () -> {
+            Set<Long> broken = ConcurrentHashMap.newKeySet();
+            long acc = 0L;
+            int[] pick;
+            while ((pick = pickFromSet(broken)) != null) {
+                broken.add(MinePositionUtils.packPosition(pick[0], pick[1], pick[2]));
+                acc += pick[0];
+            }
+            bench.consume(acc);
+        });
+        bench.report("bitset", blocks, "block", () -> {
+            BrokenBlockSet broken = new BrokenBlockSet(0, 0, 0, SIZE_X - 1, SIZE_Y - 1, SIZE_Z - 1);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long acc = 0L;
+            int[] pick;
+            while ((pick = broken.pickRandomUnbroken(random)) != null) {
+                broken.claim(pick[0], pick[1], pick[2]);
+                acc += pick[0];
+            }
+            bench.consume(acc);
+        });
+        bench.finish();
+    }
+}
@@ -0,0 +1,162 @@
+package io.hyvexa.ascend.mine;
+
+import io.hyvexa.ascend.mine.util.MinePositionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrokenBlockSetTest {
+
+    // 5 x 13 = 65 blocks per layer: one full word plus a padded one
+    private static final int MIN_X = -3, MIN_Y = 10, MIN_Z = 100;
+    private static final int MAX_X = 1, MAX_Y = 14, MAX_Z = 112;
+
+    private static int[] randomPosition(Random random) {
+        return new int[]{
+            MIN_X + random.nextInt(MAX_X - MIN_X + 1),
+            MIN_Y + random.nextInt(MAX_Y - MIN_Y + 1),
+            MIN_Z + random.nextInt(MAX_Z - MIN_Z + 1)};
+    }
+
+    /** Highest layer with an unbroken block according to the reference set, or -1. */
+    private static int topOpenLayer(Set<Long> reference) {
+        for (int y = MAX_Y; y >= MIN_Y; y--) {
+            for (int x = MIN_X; x <= MAX_X; x++) {
+                for (int z = MIN_Z; z <= MAX_Z; z++) {
+                    if (!reference.contains(MinePositionUtils.packPosition(x, y, z))) {
+                        return y;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    void matchesReferenceSetUnderRandomClaims() {
+        Random random = new Random(16L);
+        BrokenBlockSet set = new BrokenBlockSet(MIN_X, MIN_Y, MIN_Z, MAX_X, MAX_Y, MAX_Z);
+        Set<Long> reference = new HashSet<>();
+        int total = set.totalBlocks();
+        assertEquals(5 * 5 * 13, total);
+
+        for (int step = 0; step < 20_000; step++) {
+            int[] p = randomPosition(random);
+            long packed = MinePositionUtils.packPosition(p[0], p[1], p[2]);
+            if (random.nextInt(4) == 0) {
+                assertEquals(reference.remove(packed), set.unclaim(p[0], p[1], p[2]));
+            } else {
+                assertEquals(reference.add(packed), set.claim(p[0], p[1], p[2]));
+            }
+            assertEquals(reference.size(), set.brokenCount());
+            if (step % 50 == 0) {
+                int[] pick = set.pickRandomUnbroken(random);
+                int topLayer = topOpenLayer(reference);
+                if (topLayer < 0) {
+                    assertNull(pick);
+                } else {
+                    assertNotNull(pick);
+                    assertEquals(topLayer, pick[1]);
+                    assertFalse(reference.contains(MinePositionUtils.packPosition(pick[0], pick[1], pick[2])));
+                }
+            }
+        }
+        for (int x = MIN_X; x <= MAX_X; x++) {
+            for (int y = MIN_Y; y <= MAX_Y; y++) {
+                for (int z = MIN_Z; z <= MAX_Z; z++) {
+                    assertEquals(reference.contains(MinePositionUtils.packPosition(x, y, z)), set.isBroken(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Test
+    void emptiesTopDownAndReturnsNullWhenFull() {
+        BrokenBlockSet set = new BrokenBlockSet(MIN_X, MIN_Y, MIN_Z, MAX_X, MAX_Y, MAX_Z);
+        Random random = new Random(3L);
+        int expectedLayer = MAX_Y;
+        for (int i = 0; i < set.totalBlocks(); i++) {
+            int[] pick = set.pickRandomUnbroken(random);
+            assertNotNull(pick);
+            assertTrue(pick[1] <= expectedLayer);
+            expectedLayer = pick[1];
+            assertTrue(set.claim(pick[0], pick[1], pick[2]));
+        }
+        assertEquals(set.totalBlocks(), set.brokenCount());
+        assertNull(set.pickRandomUnbroken(random));
+    }
+
+    @Test
+    void selectEnumeratesEveryUnbrokenBlockInOrder() {
+        BrokenBlockSet set = new BrokenBlockSet(0, 0, 0, 39, 0, 29); // 1200 blocks: 19 words, 3 superblocks
+        Random random = new Random(5L);
+        for (int i = 0; i < 900; i++) {
+            set.claim(random.nextInt(40), 0, random.nextInt(30));
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (int x = 0; x < 40; x++) {
+            for (int z = 0; z < 30; z++) {
+                if (!set.isBroken(x, 0, z)) {
+                    expected.add(x * 30 + z);
+                }
+            }
+        }
+        List<Integer> selected = new ArrayList<>();
+        for (int rank = 0; rank < expected.size(); rank++) {
+            selected.add(set.selectUnbroken(0, rank));
+        }
+        assertEquals(expected, selected);
+        assertEquals(-1, set.selectUnbroken(0, expected.size()));
+    }
+
+    @Test
+    void selectionIsUniformOverUnbrokenBlocks() {
+        BrokenBlockSet set = new BrokenBlockSet(0, 0, 0, 19, 0, 19);
+        Random random = new Random(7L);
+        // Leave 20 unbroken: most picks miss every probe and go through rank/select
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            order.add(i);
+        }
+        Collections.shuffle(order, random);
+        for (int i = 0; i < 380; i++) {
+            set.claim(order.get(i) / 20, 0, order.get(i) % 20);
+        }
+
+        int samples = 200_000;
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int i = 0; i < samples; i++) {
+            int[] pick = set.pickRandomUnbroken(random);
+            assertFalse(set.isBroken(pick[0], pick[1], pick[2]));
+            counts.merge(pick[0] * 20 + pick[2], 1, Integer::sum);
+        }
+        assertEquals(20, counts.size());
+        double expected = samples / 20.0;
+        double chiSquare = 0;
+        for (int count : counts.values()) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        // 19 degrees of freedom; 43.8 is the 0.1% critical value
+        assertTrue(chiSquare < 43.8, "chi-square " + chiSquare);
+    }
+
+    @Test
+    void positionsOutsideTheBoxAreTrackedSeparately() {
+        BrokenBlockSet set = new BrokenBlockSet(MIN_X, MIN_Y, MIN_Z, MAX_X, MAX_Y, MAX_Z);
+        assertTrue(set.claim(MAX_X + 1, MIN_Y, MIN_Z));
+        assertFalse(set.claim(MAX_X + 1, MIN_Y, MIN_Z));
+        assertTrue(set.isBroken(MAX_X + 1, MIN_Y, MIN_Z));
+        assertEquals(0, set.brokenCount());
+        assertTrue(set.unclaim(MAX_X + 1, MIN_Y, MIN_Z));
+        assertFalse(set.isBroken(MAX_X + 1, MIN_Y, MIN_Z));
+    }
+}
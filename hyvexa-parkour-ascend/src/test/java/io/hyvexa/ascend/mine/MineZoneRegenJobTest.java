@@ -0,0 +1,197 @@
+package io.hyvexa.ascend.mine;
+
+import io.hyvexa.ascend.mine.data.MineZone;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MineZoneRegenJobTest {
+
+    /** Nanoseconds the fake clock advances per block write. */
+    private static final long NANOS_PER_BLOCK = 100L;
+
+    /**
+     * In-memory world: records the block written at each position, checks every write lands in the chunk
+     * that was resolved for it, and advances a fake clock per write.
+     */
+    private static final class FakeWorld implements MineZoneRegenJob.ChunkResolver {
+        final Map<Long, Integer> blocks = new HashMap<>();
+        final Set<Long> unloadedChunks = new HashSet<>();
+        long nanos;
+        int chunkLookups;
+        int writes;
+
+        @Override
+        public MineZoneRegenJob.ChunkWriter chunkAt(int x, int z) {
+            int chunkX = Math.floorDiv(x, MineZoneRegenJob.CHUNK_SIZE);
+            int chunkZ = Math.floorDiv(z, MineZoneRegenJob.CHUNK_SIZE);
+            chunkLookups++;
+            if (unloadedChunks.contains(chunkKey(chunkX, chunkZ))) {
+                return null;
+            }
+            return (bx, by, bz, blockId) -> {
+                assertEquals(chunkX, Math.floorDiv(bx, MineZoneRegenJob.CHUNK_SIZE), "write outside resolved chunk");
+                assertEquals(chunkZ, Math.floorDiv(bz, MineZoneRegenJob.CHUNK_SIZE), "write outside resolved chunk");
+                blocks.put(key(bx, by, bz), blockId);
+                writes++;
+                nanos += NANOS_PER_BLOCK;
+            };
+        }
+
+        static long key(int x, int y, int z) {
+            return ((long) x << 40) ^ ((long) (y & 0xFFFF) << 20) ^ (z & 0xFFFFF);
+        }
+
+        static long chunkKey(int chunkX, int chunkZ) {
+            return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        }
+    }
+
+    private static BlockAliasTable[] uniformTables(MineZone zone, BlockAliasTable table) {
+        BlockAliasTable[] tables = new BlockAliasTable[zone.getMaxY() - zone.getMinY() + 1];
+        Arrays.fill(tables, table);
+        return tables;
+    }
+
+    @Test
+    void everyBlockWrittenOnceWithinBudget() {
+        // Spans 3x2 chunks, with negative coordinates
+        MineZone zone = new MineZone("z", "m", -40, 10, -5, 50, 29, 40);
+        BlockAliasTable table = new BlockAliasTable(new int[]{1, 2}, new double[]{1.0, 1.0});
+        MineZoneRegenJob job = new MineZoneRegenJob(zone, uniformTables(zone, table), 2048, new Random(1));
+        FakeWorld world = new FakeWorld();
+
+        long budget = 50_000L;
+        long maxUnitNanos = 2048 * NANOS_PER_BLOCK;
+        int slices = 0;
+        boolean done = false;
+        while (!done) {
+            long start = world.nanos;
+            done = job.runSlice(world, budget, () -> world.nanos);
+            assertTrue(world.nanos - start < budget + maxUnitNanos, "slice overran budget by more than one unit");
+            slices++;
+        }
+
+        assertEquals(zone.getTotalBlocks(), world.blocks.size());
+        assertEquals(zone.getTotalBlocks(), world.writes);
+        assertEquals(zone.getTotalBlocks(), job.getBlocksWritten());
+        assertEquals(job.unitCount(), world.chunkLookups);
+        assertTrue(slices > 1);
+        assertTrue(job.isDone());
+    }
+
+    @Test
+    void unitsAreChunkAlignedAndBounded() {
+        MineZone zone = new MineZone("z", "m", 0, 0, 0, 70, 15, 33);
+        int total = 0;
+        for (MineZoneRegenJob.WorkUnit unit : MineZoneRegenJob.planUnits(zone, 1000)) {
+            assertEquals(unit.minX() / MineZoneRegenJob.CHUNK_SIZE, unit.maxX() / MineZoneRegenJob.CHUNK_SIZE);
+            assertEquals(unit.minZ() / MineZoneRegenJob.CHUNK_SIZE, unit.maxZ() / MineZoneRegenJob.CHUNK_SIZE);
+            // A single layer of a full chunk column is the smallest unit
+            assertTrue(unit.blockCount() <= Math.max(1000, MineZoneRegenJob.CHUNK_SIZE * MineZoneRegenJob.CHUNK_SIZE));
+            total += unit.blockCount();
+        }
+        assertEquals(zone.getTotalBlocks(), total);
+    }
+
+    @Test
+    void distributionMatchesWeights() {
+        MineZone zone = new MineZone("z", "m", 0, 0, 0, 63, 31, 63);
+        int[] ids = {7, 8, 9, 10};
+        double[] weights = {50.0, 30.0, 15.0, 5.0};
+        BlockAliasTable table = new BlockAliasTable(ids, weights);
+        MineZoneRegenJob job = new MineZoneRegenJob(zone, uniformTables(zone, table), 4096, new Random(42));
+        FakeWorld world = new FakeWorld();
+        while (!job.runSlice(world, 1_000_000L, () -> world.nanos)) {
+            // keep slicing
+        }
+
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int id : world.blocks.values()) {
+            counts.merge(id, 1, Integer::sum);
+        }
+        int n = world.blocks.size();
+        double chiSquare = 0.0;
+        for (int i = 0; i < ids.length; i++) {
+            double expected = n * weights[i] / 100.0;
+            double diff = counts.getOrDefault(ids[i], 0) - expected;
+            chiSquare += diff * diff / expected;
+        }
+        // 3 degrees of freedom, p = 0.001
+        assertTrue(chiSquare < 16.27, "chi-square " + chiSquare);
+    }
+
+    @Test
+    void layersUseTheirOwnTable() {
+        MineZone zone = new MineZone("z", "m", 0, 0, 0, 9, 3, 9);
+        BlockAliasTable[] tables = new BlockAliasTable[4];
+        tables[0] = new BlockAliasTable(new int[]{1}, new double[]{1.0});
+        tables[1] = new BlockAliasTable(new int[]{2}, new double[]{1.0});
+        tables[2] = new BlockAliasTable(new int[0], new double[0]);
+        tables[3] = null;
+        MineZoneRegenJob job = new MineZoneRegenJob(zone, tables, 4096, new Random(3));
+        FakeWorld world = new FakeWorld();
+        assertTrue(job.runSlice(world, Long.MAX_VALUE, () -> world.nanos));
+
+        assertEquals(200, world.blocks.size());
+        assertEquals(1, world.blocks.get(FakeWorld.key(4, 0, 4)));
+        assertEquals(2, world.blocks.get(FakeWorld.key(4, 1, 4)));
+        assertNull(world.blocks.get(FakeWorld.key(4, 2, 4)));
+        assertNull(world.blocks.get(FakeWorld.key(4, 3, 4)));
+    }
+
+    @Test
+    void cancelStopsWritesAndRestartRefillsEverything() {
+        MineZone zone = new MineZone("z", "m", 0, 0, 0, 63, 15, 63);
+        BlockAliasTable table = new BlockAliasTable(new int[]{5}, new double[]{1.0});
+        FakeWorld world = new FakeWorld();
+
+        MineZoneRegenJob first = new MineZoneRegenJob(zone, uniformTables(zone, table), 1024, new Random(1));
+        assertFalse(first.runSlice(world, 1L, () -> world.nanos));
+        first.cancel();
+        int writesAtCancel = world.writes;
+        assertTrue(first.runSlice(world, Long.MAX_VALUE, () -> world.nanos));
+        assertEquals(writesAtCancel, world.writes);
+        assertTrue(world.blocks.size() < zone.getTotalBlocks());
+
+        MineZoneRegenJob restart = new MineZoneRegenJob(zone, uniformTables(zone, table), 1024, new Random(2));
+        while (!restart.runSlice(world, 10_000L, () -> world.nanos)) {
+            // keep slicing
+        }
+        assertEquals(zone.getTotalBlocks(), world.blocks.size());
+        assertEquals(zone.getTotalBlocks(), restart.getBlocksWritten());
+    }
+
+    @Test
+    void unloadedChunksAreSkipped() {
+        MineZone zone = new MineZone("z", "m", 0, 0, 0, 63, 3, 31);
+        BlockAliasTable table = new BlockAliasTable(new int[]{5}, new double[]{1.0});
+        FakeWorld world = new FakeWorld();
+        world.unloadedChunks.add(FakeWorld.chunkKey(1, 0));
+        MineZoneRegenJob job = new MineZoneRegenJob(zone, uniformTables(zone, table), 4096, new Random(1));
+        assertTrue(job.runSlice(world, Long.MAX_VALUE, () -> world.nanos));
+
+        assertEquals(zone.getTotalBlocks() / 2, world.blocks.size());
+        assertNull(world.blocks.get(FakeWorld.key(40, 0, 0)));
+    }
+
+    @Test
+    void aliasTableNeverPicksZeroWeight() {
+        BlockAliasTable table = new BlockAliasTable(new int[]{1, 2, 3}, new double[]{3.0, 0.0, 1.0});
+        Random random = new Random(9);
+        int[] counts = new int[4];
+        for (int i = 0; i < 40_000; i++) {
+            counts[table.sample(random)]++;
+        }
+        assertEquals(0, counts[2]);
+        assertEquals(0.75, counts[1] / 40_000.0, 0.01);
+        assertEquals(0.25, counts[3] / 40_000.0, 0.01);
+    }
+}
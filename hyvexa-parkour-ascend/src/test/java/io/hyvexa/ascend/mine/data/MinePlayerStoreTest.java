@@ -0,0 +1,382 @@
+package io.hyvexa.ascend.mine.data;
+
+import io.hyvexa.core.db.ConnectionProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinePlayerStoreTest {
+
+    private static final int PLAYER_COUNT = 12;
+    private static final int MINERS_PER_PLAYER = 4;
+    private static final int ROUNDS = 40;
+    private static final String[] BLOCKS = {"stone", "coal", "iron", "gold", "ruby", "crystal", "obsidian", "moss"};
+    private static final String[] LAYERS = {"shallow", "deep", "core"};
+    private static final String[] CHILD_TABLES = {
+        "mine_player_inventory", "mine_player_conveyor_buffer", "mine_player_eggs",
+        "mine_player_slot_assignments", "mine_player_miners_v2"
+    };
+    private static final Map<String, Long> PRICES = Map.of("stone", 1L, "gold", 20L);
+
+    private String deltaUrl;
+    private Connection deltaKeepAlive;
+    private Connection referenceKeepAlive;
+    private ConnectionProvider deltaDb;
+    private final AtomicInteger childStatements = new AtomicInteger();
+    private int referenceStatements;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        deltaUrl = "jdbc:h2:mem:mine_delta_" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        String referenceUrl = "jdbc:h2:mem:mine_ref_" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        deltaKeepAlive = DriverManager.getConnection(deltaUrl);
+        referenceKeepAlive = DriverManager.getConnection(referenceUrl);
+        createSchema(deltaKeepAlive);
+        createSchema(referenceKeepAlive);
+        deltaDb = new ConnectionProvider() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return countingConnection(DriverManager.getConnection(deltaUrl));
+            }
+
+            @Override
+            public boolean isInitialized() {
+                return true;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        deltaKeepAlive.close();
+        referenceKeepAlive.close();
+    }
+
+    private static void createSchema(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("""
+                CREATE TABLE mine_players (
+                    uuid VARCHAR(36) PRIMARY KEY, crystals DECIMAL(20,2) NOT NULL DEFAULT 0,
+                    bag_capacity_level INT NOT NULL DEFAULT 0, upgrade_momentum INT NOT NULL DEFAULT 0,
+                    upgrade_fortune INT NOT NULL DEFAULT 0, upgrade_jackhammer INT NOT NULL DEFAULT 0,
+                    upgrade_stomp INT NOT NULL DEFAULT 0, upgrade_blast INT NOT NULL DEFAULT 0,
+                    upgrade_haste INT NOT NULL DEFAULT 0, upgrade_conveyor_capacity INT NOT NULL DEFAULT 0,
+                    upgrade_cashback INT NOT NULL DEFAULT 0, in_mine BOOLEAN NOT NULL DEFAULT FALSE,
+                    pickaxe_tier INT NOT NULL DEFAULT 0, pickaxe_enhancement INT NOT NULL DEFAULT 0)
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE mine_player_inventory (
+                    player_uuid VARCHAR(36) NOT NULL, block_type_id VARCHAR(64) NOT NULL, amount INT NOT NULL,
+                    PRIMARY KEY (player_uuid, block_type_id),
+                    FOREIGN KEY (player_uuid) REFERENCES mine_players(uuid) ON DELETE CASCADE)
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE mine_player_conveyor_buffer (
+                    player_uuid VARCHAR(36) NOT NULL, block_type_id VARCHAR(64) NOT NULL, amount INT NOT NULL,
+                    PRIMARY KEY (player_uuid, block_type_id),
+                    FOREIGN KEY (player_uuid) REFERENCES mine_players(uuid) ON DELETE CASCADE)
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE mine_player_eggs (
+                    player_uuid VARCHAR(36) NOT NULL, layer_id VARCHAR(64) NOT NULL, count INT NOT NULL,
+                    PRIMARY KEY (player_uuid, layer_id))
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE mine_player_miners_v2 (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY, player_uuid VARCHAR(36) NOT NULL,
+                    layer_id VARCHAR(64) NOT NULL, rarity VARCHAR(16) NOT NULL, speed_level INT NOT NULL DEFAULT 0)
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE mine_player_slot_assignments (
+                    player_uuid VARCHAR(36) NOT NULL, slot_index INT NOT NULL, miner_id BIGINT NOT NULL,
+                    PRIMARY KEY (player_uuid, slot_index))
+                """);
+        }
+    }
+
+    /** Counts child-table rows sent to the database (batched or not) through this connection. */
+    private Connection countingConnection(Connection delegate) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(delegate, method, args);
+                    if (method.getName().equals("prepareStatement") && args != null && args[0] instanceof String sql
+                            && sql.contains("mine_player_") && !sql.contains("mine_player_miners_v2 (")) {
+                        return countingStatement((PreparedStatement) result);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement countingStatement(PreparedStatement delegate) {
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if ((name.equals("addBatch") || name.equals("executeUpdate")) && (args == null || args.length == 0)) {
+                        childStatements.incrementAndGet();
+                    }
+                    return invoke(delegate, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** The previous save strategy: wipe every child row of the player, then insert all live rows. */
+    private void deleteAndReinsert(UUID playerId, MinePlayerProgress progress) throws SQLException {
+        String pid = playerId.toString();
+        for (String table : new String[]{"mine_player_inventory", "mine_player_conveyor_buffer",
+                "mine_player_eggs", "mine_player_slot_assignments"}) {
+            try (PreparedStatement stmt = referenceKeepAlive.prepareStatement(
+                    "DELETE FROM " + table + " WHERE player_uuid = ?")) {
+                stmt.setString(1, pid);
+                stmt.executeUpdate();
+                referenceStatements++;
+            }
+        }
+        insertCounts("mine_player_inventory", pid, progress.getInventory());
+        insertCounts("mine_player_conveyor_buffer", pid, progress.getConveyorBuffer());
+        insertCounts("mine_player_eggs", pid, progress.getEggInventory());
+        try (PreparedStatement stmt = referenceKeepAlive.prepareStatement(
+                "UPDATE mine_player_miners_v2 SET speed_level = ? WHERE id = ?")) {
+            for (CollectedMiner miner : progress.getMinerCollection()) {
+                stmt.setInt(1, miner.getSpeedLevel());
+                stmt.setLong(2, miner.getId());
+                stmt.executeUpdate();
+                referenceStatements++;
+            }
+        }
+        try (PreparedStatement stmt = referenceKeepAlive.prepareStatement(
+                "INSERT INTO mine_player_slot_assignments VALUES (?, ?, ?)")) {
+            for (Map.Entry<Integer, Long> entry : progress.getSlotAssignments().entrySet()) {
+                stmt.setString(1, pid);
+                stmt.setInt(2, entry.getKey());
+                stmt.setLong(3, entry.getValue());
+                stmt.executeUpdate();
+                referenceStatements++;
+            }
+        }
+    }
+
+    private void insertCounts(String table, String pid, Map<String, Integer> counts) throws SQLException {
+        try (PreparedStatement stmt = referenceKeepAlive.prepareStatement("INSERT INTO " + table + " VALUES (?, ?, ?)")) {
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                stmt.setString(1, pid);
+                stmt.setString(2, entry.getKey());
+                stmt.setInt(3, entry.getValue());
+                stmt.executeUpdate();
+                referenceStatements++;
+            }
+        }
+    }
+
+    private void seedReference(UUID playerId, List<CollectedMiner> miners) throws SQLException {
+        try (PreparedStatement stmt = referenceKeepAlive.prepareStatement("INSERT INTO mine_players (uuid) VALUES (?)")) {
+            stmt.setString(1, playerId.toString());
+            stmt.executeUpdate();
+        }
+        try (PreparedStatement stmt = referenceKeepAlive.prepareStatement(
+                "INSERT INTO mine_player_miners_v2 (id, player_uuid, layer_id, rarity, speed_level) VALUES (?, ?, ?, ?, ?)")) {
+            for (CollectedMiner miner : miners) {
+                stmt.setLong(1, miner.getId());
+                stmt.setString(2, playerId.toString());
+                stmt.setString(3, miner.getLayerId());
+                stmt.setString(4, miner.getRarity().name());
+                stmt.setInt(5, miner.getSpeedLevel());
+                stmt.executeUpdate();
+            }
+        }
+    }
+
+    private static List<String> dumpTable(Connection conn, String table) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT * FROM " + table + " ORDER BY 1, 2")) {
+            ResultSetMetaData meta = rs.getMetaData();
+            while (rs.next()) {
+                StringBuilder row = new StringBuilder();
+                for (int i = 1; i <= meta.getColumnCount(); i++) {
+                    row.append(rs.getObject(i)).append('|');
+                }
+                rows.add(row.toString());
+            }
+        }
+        return rows;
+    }
+
+    private void assertTablesMatch(String step) throws SQLException {
+        for (String table : CHILD_TABLES) {
+            assertEquals(dumpTable(referenceKeepAlive, table), dumpTable(deltaKeepAlive, table), step + " " + table);
+        }
+    }
+
+    /** One gameplay change, weighted towards mining (most changes touch one or two inventory rows). */
+    private static void mutate(MinePlayerProgress progress, List<CollectedMiner> miners, Random random) {
+        String block = BLOCKS[random.nextInt(BLOCKS.length)];
+        String layer = LAYERS[random.nextInt(LAYERS.length)];
+        int roll = random.nextInt(100);
+        if (roll < 55) {
+            progress.addToInventoryUpTo(block, 1 + random.nextInt(3));
+        } else if (roll < 65) {
+            progress.addToConveyorBuffer(block, 1 + random.nextInt(4));
+        } else if (roll < 70) {
+            progress.transferBlockFromBuffer(block);
+        } else if (roll < 72) {
+            progress.transferBufferToInventory();
+        } else if (roll < 77) {
+            progress.sellBlock(block, PRICES);
+        } else if (roll < 78) {
+            progress.sellAllExcept(Set.of("gold", "ruby"), PRICES);
+        } else if (roll < 79) {
+            progress.sellAll(PRICES);
+        } else if (roll < 80) {
+            progress.clearConveyorBuffer();
+        } else if (roll < 85) {
+            progress.addEgg(layer);
+        } else if (roll < 88) {
+            progress.removeEgg(layer);
+        } else if (roll < 92) {
+            progress.assignMinerToSlot(random.nextInt(5), miners.get(random.nextInt(miners.size())).getId());
+        } else if (roll < 95) {
+            progress.unassignSlot(random.nextInt(5));
+        } else {
+            progress.upgradeMinerSpeed(miners.get(random.nextInt(miners.size())).getId(), 0);
+        }
+    }
+
+    @Test
+    void deltaSavesMatchDeleteAndReinsertWithFewerStatements() throws SQLException {
+        Random random = new Random(23L);
+        MinePlayerStore store = new MinePlayerStore(deltaDb, task -> {});
+        List<UUID> playerIds = new ArrayList<>();
+        Map<UUID, List<CollectedMiner>> miners = new HashMap<>();
+        for (int i = 0; i < PLAYER_COUNT; i++) {
+            UUID playerId = new UUID(7L, i);
+            playerIds.add(playerId);
+            MinePlayerProgress progress = store.getOrCreatePlayer(playerId);
+            progress.setUpgradeLevel(MineUpgradeType.BAG_CAPACITY, MineUpgradeType.BAG_CAPACITY.getMaxLevel());
+            progress.setUpgradeLevel(MineUpgradeType.CONVEYOR_CAPACITY, MineUpgradeType.CONVEYOR_CAPACITY.getMaxLevel());
+            List<CollectedMiner> owned = new ArrayList<>();
+            for (int m = 0; m < MINERS_PER_PLAYER; m++) {
+                CollectedMiner miner = new CollectedMiner(0L, LAYERS[m % LAYERS.length], MinerRarity.COMMON, 0);
+                miner.setId(store.insertMiner(playerId, miner));
+                progress.addMiner(miner);
+                owned.add(miner);
+            }
+            miners.put(playerId, owned);
+            seedReference(playerId, owned);
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            Set<UUID> dirty = new HashSet<>();
+            for (UUID playerId : playerIds) {
+                if (random.nextInt(4) == 0) continue; // some players are idle this round
+                MinePlayerProgress progress = store.getPlayer(playerId);
+                int changes = 1 + random.nextInt(6);
+                for (int c = 0; c < changes; c++) {
+                    mutate(progress, miners.get(playerId), random);
+                }
+                store.markDirty(playerId);
+                dirty.add(playerId);
+            }
+            store.flushAll();
+            for (UUID playerId : dirty) {
+                deleteAndReinsert(playerId, store.getPlayer(playerId));
+            }
+            assertTablesMatch("round " + round);
+        }
+
+        // A fresh server loads back exactly the in-memory state
+        MinePlayerStore reloaded = new MinePlayerStore(deltaDb, task -> {});
+        for (UUID playerId : playerIds) {
+            MinePlayerProgress expected = store.getPlayer(playerId);
+            MinePlayerProgress actual = reloaded.getOrCreatePlayer(playerId);
+            assertEquals(expected.getInventory(), actual.getInventory());
+            assertEquals(expected.getConveyorBuffer(), actual.getConveyorBuffer());
+            assertEquals(expected.getEggInventory(), actual.getEggInventory());
+            assertEquals(expected.getSlotAssignments(), actual.getSlotAssignments());
+            assertEquals(expected.getCrystals(), actual.getCrystals(), 0.001);
+            for (CollectedMiner miner : expected.getMinerCollection()) {
+                assertEquals(miner.getSpeedLevel(), actual.getMinerById(miner.getId()).getSpeedLevel());
+            }
+        }
+
+        int deltaStatements = childStatements.get();
+        assertTrue(deltaStatements * 4 < referenceStatements,
+                "delta " + deltaStatements + " vs delete-and-reinsert " + referenceStatements);
+    }
+
+    @Test
+    void failedSaveKeepsChangesForTheNextFlush() throws SQLException {
+        UUID playerId = new UUID(9L, 1L);
+        MinePlayerStore store = new MinePlayerStore(deltaDb, task -> {});
+        MinePlayerProgress progress = store.getOrCreatePlayer(playerId);
+        progress.addToInventoryUpTo("stone", 5);
+        progress.addEgg("deep");
+        store.markDirty(playerId);
+
+        try (Statement stmt = deltaKeepAlive.createStatement()) {
+            stmt.executeUpdate("ALTER TABLE mine_player_eggs RENAME TO mine_player_eggs_offline");
+        }
+        store.flushAll();
+        assertEquals(List.of(), dumpTable(deltaKeepAlive, "mine_player_inventory"));
+
+        try (Statement stmt = deltaKeepAlive.createStatement()) {
+            stmt.executeUpdate("ALTER TABLE mine_player_eggs_offline RENAME TO mine_player_eggs");
+        }
+        store.flushAll();
+        String pid = playerId.toString();
+        assertEquals(List.of(pid + "|stone|5|"), dumpTable(deltaKeepAlive, "mine_player_inventory"));
+        assertEquals(List.of(pid + "|deep|1|"), dumpTable(deltaKeepAlive, "mine_player_eggs"));
+    }
+
+    @Test
+    void loadedRowsAreNotRewritten() throws SQLException {
+        UUID playerId = new UUID(9L, 2L);
+        MinePlayerStore store = new MinePlayerStore(deltaDb, task -> {});
+        MinePlayerProgress progress = store.getOrCreatePlayer(playerId);
+        for (String block : BLOCKS) {
+            progress.addToInventoryUpTo(block, 2);
+        }
+        progress.assignMinerToSlot(0, 42L);
+        store.markDirty(playerId);
+        store.flushAll();
+
+        MinePlayerStore reloaded = new MinePlayerStore(deltaDb, task -> {});
+        MinePlayerProgress loaded = reloaded.getOrCreatePlayer(playerId);
+        childStatements.set(0);
+        loaded.addToInventoryUpTo("stone", 1);
+        reloaded.markDirty(playerId);
+        reloaded.flushAll();
+
+        assertEquals(1, childStatements.get());
+        assertTrue(dumpTable(deltaKeepAlive, "mine_player_inventory").contains(playerId + "|stone|3|"));
+    }
+}
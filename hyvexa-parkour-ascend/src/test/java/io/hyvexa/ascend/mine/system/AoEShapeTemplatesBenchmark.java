@@ -0,0 +1,121 @@
+package io.hyvexa.ascend.mine.system;
+
+import io.hyvexa.ascend.mine.data.MineUpgradeType;
+import io.hyvexa.ascend.mine.data.MineZone;
+import io.hyvexa.ascend.mine.util.MinePositionUtils;
+import io.hyvexa.common.bench.Microbenchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Microbenchmark of AoE position collection at max upgrade levels (jackhammer, stomp and blast all firing):
+ * the previous per-activation lists with set deduplication against {@link AoEShapeTemplates}.
+ * Both clip to the zone and skip broken blocks. Run with {@link Microbenchmark}.
+ */
+public final class AoEShapeTemplatesBenchmark {
+
+    private static final int ACTIVATIONS_PER_ITERATION = 20_000;
+    private static final int JACKHAMMER = MineUpgradeType.JACKHAMMER.getMaxLevel();
+    private static final int STOMP = MineUpgradeType.STOMP.getMaxLevel();
+    private static final int BLAST = MineUpgradeType.BLAST.getMaxLevel();
+
+    private static final MineZone ZONE = new MineZone("bench", "bench", 0, 0, 0, 47, 23, 47);
+
+    private AoEShapeTemplatesBenchmark() {
+    }
+
+    /** Stand-in for the Vector3i the old builders allocated per position. */
+    private record Position(int x, int y, int z) {
+    }
+
+    private static void addShape(List<Position> shape, Set<Long> seen, List<Position> all) {
+        for (Position pos : shape) {
+            if (seen.add(MinePositionUtils.packPosition(pos.x(), pos.y(), pos.z()))) all.add(pos);
+        }
+    }
+
+    private static int legacyActivation(int cx, int cy, int cz, Set<Long> broken) {
+        Set<Long> seen = new HashSet<>();
+        List<Position> all = new ArrayList<>();
+
+        List<Position> column = new ArrayList<>();
+        for (int dy = 1; dy <= JACKHAMMER; dy++) {
+            column.add(new Position(cx, cy - dy, cz));
+        }
+        addShape(column, seen, all);
+
+        int stompRadius = (int) MineUpgradeType.STOMP.getEffect(STOMP);
+        List<Position> layer = new ArrayList<>();
+        for (int dx = -stompRadius; dx <= stompRadius; dx++) {
+            for (int dz = -stompRadius; dz <= stompRadius; dz++) {
+                if (dx == 0 && dz == 0) continue;
+                layer.add(new Position(cx + dx, cy, cz + dz));
+            }
+        }
+        addShape(layer, seen, all);
+
+        int blastRadius = (int) MineUpgradeType.BLAST.getEffect(BLAST);
+        List<Position> sphere = new ArrayList<>();
+        for (int dx = -blastRadius; dx <= blastRadius; dx++) {
+            for (int dy = -blastRadius; dy <= blastRadius; dy++) {
+                for (int dz = -blastRadius; dz <= blastRadius; dz++) {
+                    if (dx == 0 && dy == 0 && dz == 0) continue;
+                    if (Math.sqrt(dx * dx + dy * dy + dz * dz) <= blastRadius) {
+                        sphere.add(new Position(cx + dx, cy + dy, cz + dz));
+                    }
+                }
+            }
+        }
+        addShape(sphere, seen, all);
+
+        int kept = 0;
+        for (Position pos : all) {
+            if (!ZONE.contains(pos.x(), pos.y(), pos.z())) continue;
+            if (broken.contains(MinePositionUtils.packPosition(pos.x(), pos.y(), pos.z()))) continue;
+            kept += pos.x();
+        }
+        return kept;
+    }
+
+    private static int templateActivation(int cx, int cy, int cz, Set<Long> broken) {
+        int[] out = new int[AoEShapeTemplates.capacity(JACKHAMMER, STOMP, BLAST)];
+        int count = AoEShapeTemplates.collect(cx, cy, cz, JACKHAMMER, STOMP, BLAST, ZONE,
+                (x, y, z) -> broken.contains(MinePositionUtils.packPosition(x, y, z)), out);
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            kept += out[i * 3];
+        }
+        return kept;
+    }
+
+    private interface Activation {
+        int run(int cx, int cy, int cz, Set<Long> broken);
+    }
+
+    public static void main(String[] args) {
+        Set<Long> broken = new HashSet<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 5_000; i++) {
+            broken.add(MinePositionUtils.packPosition(random.nextInt(48), random.nextInt(24), random.nextInt(48)));
+        }
+        Microbenchmark bench = new Microbenchmark(5, 10);
+        bench.report("lists", ACTIVATIONS_PER_ITERATION, "activation",
+                () -> bench.consume(iteration(broken, AoEShapeTemplatesBenchmark::legacyActivation)));
+        bench.report("templates", ACTIVATIONS_PER_ITERATION, "activation",
+                () -> bench.consume(iteration(broken, AoEShapeTemplatesBenchmark::templateActivation)));
+        bench.finish();
+    }
+
+    private static long iteration(Set<Long> broken, Activation activation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long acc = 0L;
+        for (int i = 0; i < ACTIVATIONS_PER_ITERATION; i++) {
+            acc += activation.run(random.nextInt(48), random.nextInt(24), random.nextInt(48), broken);
+        }
+        return acc;
+    }
+}
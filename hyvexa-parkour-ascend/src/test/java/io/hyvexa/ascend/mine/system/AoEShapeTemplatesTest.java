@@ -0,0 +1,148 @@
+package io.hyvexa.ascend.mine.system;
+
+import io.hyvexa.ascend.mine.data.MineUpgradeType;
+import io.hyvexa.ascend.mine.data.MineZone;
+import io.hyvexa.ascend.mine.util.MinePositionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AoEShapeTemplatesTest {
+
+    // The list builders MineAoEBreaker used before templates, as {x, y, z} arrays
+
+    private static List<int[]> legacyJackhammer(int cx, int cy, int cz, int depth) {
+        List<int[]> positions = new ArrayList<>();
+        for (int dy = 1; dy <= depth; dy++) {
+            positions.add(new int[]{cx, cy - dy, cz});
+        }
+        return positions;
+    }
+
+    private static List<int[]> legacyStomp(int cx, int cy, int cz, int radius) {
+        List<int[]> positions = new ArrayList<>();
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                if (dx == 0 && dz == 0) continue;
+                positions.add(new int[]{cx + dx, cy, cz + dz});
+            }
+        }
+        return positions;
+    }
+
+    private static List<int[]> legacyBlast(int cx, int cy, int cz, int radius) {
+        List<int[]> positions = new ArrayList<>();
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    if (dx == 0 && dy == 0 && dz == 0) continue;
+                    double dist = Math.sqrt(dx * dx + dy * dy + dz * dz);
+                    if (dist <= radius) {
+                        positions.add(new int[]{cx + dx, cy + dy, cz + dz});
+                    }
+                }
+            }
+        }
+        return positions;
+    }
+
+    /** Old triggerAoE collection: shapes in order, deduplicated with a set, then clipped per block. */
+    private static List<String> legacyCollect(int cx, int cy, int cz, int jackhammer, int stomp, int blast,
+                                              MineZone zone, Set<Long> broken) {
+        Set<Long> seen = new HashSet<>();
+        List<int[]> all = new ArrayList<>();
+        List<List<int[]>> shapes = new ArrayList<>();
+        if (jackhammer > 0) shapes.add(legacyJackhammer(cx, cy, cz, jackhammer));
+        if (stomp > 0) shapes.add(legacyStomp(cx, cy, cz, (int) MineUpgradeType.STOMP.getEffect(stomp)));
+        if (blast > 0) shapes.add(legacyBlast(cx, cy, cz, (int) MineUpgradeType.BLAST.getEffect(blast)));
+        for (List<int[]> shape : shapes) {
+            for (int[] pos : shape) {
+                if (seen.add(MinePositionUtils.packPosition(pos[0], pos[1], pos[2]))) all.add(pos);
+            }
+        }
+        List<String> result = new ArrayList<>();
+        for (int[] pos : all) {
+            if (!zone.contains(pos[0], pos[1], pos[2])) continue;
+            if (broken.contains(MinePositionUtils.packPosition(pos[0], pos[1], pos[2]))) continue;
+            result.add(pos[0] + "," + pos[1] + "," + pos[2]);
+        }
+        return result;
+    }
+
+    private static List<String> offsetsAround(int[] template, int cx, int cy, int cz) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < template.length; i += 3) {
+            result.add((cx + template[i]) + "," + (cy + template[i + 1]) + "," + (cz + template[i + 2]));
+        }
+        return result;
+    }
+
+    private static List<String> strings(List<int[]> positions) {
+        List<String> result = new ArrayList<>();
+        for (int[] pos : positions) {
+            result.add(pos[0] + "," + pos[1] + "," + pos[2]);
+        }
+        return result;
+    }
+
+    @Test
+    void templatesMatchLegacyShapesAtEveryLevel() {
+        for (int level = 0; level <= MineUpgradeType.JACKHAMMER.getMaxLevel() + 2; level++) {
+            assertEquals(strings(legacyJackhammer(5, 50, -3, level)),
+                    offsetsAround(AoEShapeTemplates.jackhammer(level), 5, 50, -3), "jackhammer " + level);
+        }
+        for (int level = 1; level <= MineUpgradeType.STOMP.getMaxLevel() + 2; level++) {
+            int radius = (int) MineUpgradeType.STOMP.getEffect(level);
+            assertEquals(strings(legacyStomp(5, 50, -3, radius)),
+                    offsetsAround(AoEShapeTemplates.stomp(level), 5, 50, -3), "stomp " + level);
+        }
+        for (int level = 1; level <= MineUpgradeType.BLAST.getMaxLevel() + 2; level++) {
+            int radius = (int) MineUpgradeType.BLAST.getEffect(level);
+            assertEquals(strings(legacyBlast(5, 50, -3, radius)),
+                    offsetsAround(AoEShapeTemplates.blast(level), 5, 50, -3), "blast " + level);
+        }
+        assertSame(AoEShapeTemplates.blast(7), AoEShapeTemplates.blast(7));
+    }
+
+    @Test
+    void collectMatchesLegacyUnionClippedToZoneAndBrokenBlocks() {
+        MineZone zone = new MineZone("z", "m", 0, 0, 0, 20, 20, 20);
+        Set<Long> broken = new HashSet<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 800; i++) {
+            broken.add(MinePositionUtils.packPosition(random.nextInt(21), random.nextInt(21), random.nextInt(21)));
+        }
+        int[][] centers = {{10, 10, 10}, {0, 0, 0}, {20, 3, 19}, {2, 20, 7}};
+        for (int[] c : centers) {
+            for (int jackhammer : new int[]{0, 1, 4, 10}) {
+                for (int stomp : new int[]{0, 1, 5, 15}) {
+                    for (int blast : new int[]{0, 1, 9, 15}) {
+                        int[] out = new int[AoEShapeTemplates.capacity(jackhammer, stomp, blast)];
+                        int count = AoEShapeTemplates.collect(c[0], c[1], c[2], jackhammer, stomp, blast, zone,
+                                (x, y, z) -> broken.contains(MinePositionUtils.packPosition(x, y, z)), out);
+                        List<String> actual = new ArrayList<>();
+                        for (int i = 0; i < count; i++) {
+                            actual.add(out[i * 3] + "," + out[i * 3 + 1] + "," + out[i * 3 + 2]);
+                        }
+                        assertEquals(legacyCollect(c[0], c[1], c[2], jackhammer, stomp, blast, zone, broken), actual,
+                                "center " + c[0] + "," + c[1] + "," + c[2] + " j" + jackhammer + " s" + stomp
+                                        + " b" + blast);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void inactiveShapesCollectNothing() {
+        MineZone zone = new MineZone("z", "m", 0, 0, 0, 20, 20, 20);
+        assertEquals(0, AoEShapeTemplates.capacity(0, 0, 0));
+        assertEquals(0, AoEShapeTemplates.collect(10, 10, 10, 0, 0, 0, zone, null, new int[0]));
+    }
+}
@@ -0,0 +1,97 @@
+package io.hyvexa.ascend.mine.system;
+
+import io.hyvexa.common.bench.Microbenchmark;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Microbenchmark comparing {@link BlockDamageTracker} with the previous map-of-maps
+ * ({@link MapBlockDamageTracker}) on a mining pattern: players hit random blocks of a zone until they break,
+ * with occasional position clears and disconnects. Run with {@link Microbenchmark}.
+ */
+public final class BlockDamageTrackerBenchmark {
+
+    private static final int PLAYERS = 32;
+    private static final int ZONE_SIZE = 40;
+    private static final int OPS_PER_ITERATION = 500_000;
+
+    private BlockDamageTrackerBenchmark() {
+    }
+
+    private interface Ops {
+        BlockDamageTracker.HitResult hit(UUID player, int x, int y, int z, int maxHp);
+
+        void clearPosition(int x, int y, int z);
+
+        void evict(UUID player);
+    }
+
+    public static void main(String[] args) {
+        UUID[] players = new UUID[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            players[i] = UUID.randomUUID();
+        }
+        Microbenchmark bench = new Microbenchmark(5, 10);
+
+        MapBlockDamageTracker maps = new MapBlockDamageTracker();
+        measure(bench, "maps", players, new Ops() {
+            @Override
+            public BlockDamageTracker.HitResult hit(UUID player, int x, int y, int z, int maxHp) {
+                return maps.recordHit(player, x, y, z, "stone", maxHp, 1.0);
+            }
+
+            @Override
+            public void clearPosition(int x, int y, int z) {
+                maps.clearPosition(x, y, z);
+            }
+
+            @Override
+            public void evict(UUID player) {
+                maps.evict(player);
+            }
+        });
+
+        BlockDamageTracker primitive = new BlockDamageTracker();
+        measure(bench, "primitive", players, new Ops() {
+            @Override
+            public BlockDamageTracker.HitResult hit(UUID player, int x, int y, int z, int maxHp) {
+                return primitive.recordHit(player, x, y, z, "stone", maxHp, 1.0);
+            }
+
+            @Override
+            public void clearPosition(int x, int y, int z) {
+                primitive.clearPosition(x, y, z);
+            }
+
+            @Override
+            public void evict(UUID player) {
+                primitive.evict(player);
+            }
+        });
+        bench.finish();
+    }
+
+    private static void measure(Microbenchmark bench, String name, UUID[] players, Ops ops) {
+        Random random = new Random(1);
+        bench.report(name, OPS_PER_ITERATION, "op", () -> bench.consume(iteration(players, ops, random)));
+    }
+
+    private static double iteration(UUID[] players, Ops ops, Random random) {
+        double acc = 0;
+        for (int i = 0; i < OPS_PER_ITERATION; i++) {
+            int roll = random.nextInt(1000);
+            int x = random.nextInt(ZONE_SIZE);
+            int y = random.nextInt(8);
+            int z = random.nextInt(ZONE_SIZE);
+            if (roll < 990) {
+                acc += ops.hit(players[random.nextInt(players.length)], x, y, z, 8).remainingHp();
+            } else if (roll < 999) {
+                ops.clearPosition(x, y, z);
+            } else {
+                ops.evict(players[random.nextInt(players.length)]);
+            }
+        }
+        return acc;
+    }
+}
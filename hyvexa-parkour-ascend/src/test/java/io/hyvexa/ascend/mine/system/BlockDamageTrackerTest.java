@@ -4,10 +4,18 @@ import io.hyvexa.ascend.mine.system.BlockDamageTracker.HitResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -123,4 +131,93 @@ class BlockDamageTrackerTest {
         assertEquals(0.0f, new HitResult(0, 10, true).healthFraction(), 1e-6f);
         assertEquals(1.0f, new HitResult(10, 10, false).healthFraction(), 1e-6f);
     }
+
+    @Test
+    void clearPositionRemovesEveryPlayersDamageThere() {
+        tracker.recordHit(playerA, 0, 0, 0, "stone", 10, 1.0);
+        tracker.recordHit(playerB, 0, 0, 0, "stone", 10, 1.0);
+        tracker.recordHit(playerA, 1, 0, 0, "stone", 10, 1.0);
+
+        assertEquals(Set.of(playerA, playerB), tracker.clearPosition(0, 0, 0));
+        assertNull(tracker.clearPosition(0, 0, 0));
+        assertEquals(9.0, tracker.recordHit(playerB, 0, 0, 0, "stone", 10, 1.0).remainingHp(), 1e-9);
+        assertEquals(8.0, tracker.recordHit(playerA, 1, 0, 0, "stone", 10, 1.0).remainingHp(), 1e-9);
+    }
+
+    @Test
+    void staleDamageExpiresWithoutSweep() {
+        AtomicLong now = new AtomicLong(1_000L);
+        BlockDamageTracker expiring = new BlockDamageTracker(now::get, 5_000L);
+        for (int i = 0; i < 20; i++) {
+            expiring.recordHit(playerA, i, 0, 0, "stone", 10, 1.0);
+        }
+        now.addAndGet(3_000L);
+        expiring.recordHit(playerB, 0, 0, 0, "stone", 10, 1.0);
+        assertEquals(21, expiring.size());
+
+        // Past the expiry, a hit on old damage starts fresh and each hit reclaims a few stale entries
+        now.addAndGet(2_500L);
+        assertEquals(9.0, expiring.recordHit(playerA, 5, 0, 0, "stone", 10, 1.0).remainingHp(), 1e-9);
+        assertTrue(expiring.size() < 21);
+        for (int i = 0; i < 10; i++) {
+            expiring.recordHit(playerA, 100, 0, 0, "stone", 1000, 1.0);
+        }
+        // Only player B's hit (2.5s old) and the two fresh blocks survive
+        assertEquals(3, expiring.size());
+        assertEquals(8.0, expiring.recordHit(playerB, 0, 0, 0, "stone", 10, 1.0).remainingHp(), 1e-9);
+    }
+
+    @Test
+    void randomizedOperationsMatchMapTracker() {
+        Random random = new Random(7);
+        UUID[] players = new UUID[6];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new UUID(0L, i);
+        }
+        String[] types = {"stone", "gold", "ruby"};
+        MapBlockDamageTracker reference = new MapBlockDamageTracker();
+
+        for (int op = 0; op < 200_000; op++) {
+            int roll = random.nextInt(1000);
+            int x = random.nextInt(12) - 6;
+            int y = random.nextInt(4);
+            int z = random.nextInt(12) - 6;
+            if (roll < 960) {
+                UUID player = players[random.nextInt(players.length)];
+                String type = types[random.nextInt(random.nextInt(10) == 0 ? types.length : 1)];
+                int maxHp = random.nextInt(12);
+                double multiplier = random.nextDouble() * 3.0;
+                HitResult expected = reference.recordHit(player, x, y, z, type, maxHp, multiplier);
+                HitResult actual = tracker.recordHit(player, x, y, z, type, maxHp, multiplier);
+                assertEquals(expected, actual, "op " + op);
+            } else if (roll < 985) {
+                assertEquals(reference.clearPosition(x, y, z), tracker.clearPosition(x, y, z), "op " + op);
+            } else if (roll < 999) {
+                UUID player = players[random.nextInt(players.length)];
+                reference.evict(player);
+                tracker.evict(player);
+            } else {
+                assertEquals(collected(reference.clearAllAndCollect()), collected(tracker.clearAllAndCollect()),
+                        "op " + op);
+            }
+        }
+        assertEquals(collected(reference.clearAllAndCollect()), collected(tracker.clearAllAndCollect()));
+        assertEquals(0, tracker.size());
+    }
+
+    private static Map<UUID, List<String>> collected(Map<UUID, List<int[]>> positions) {
+        if (positions == null) {
+            return null;
+        }
+        Map<UUID, List<String>> result = new TreeMap<>();
+        for (var entry : positions.entrySet()) {
+            List<String> keys = new ArrayList<>();
+            for (int[] pos : entry.getValue()) {
+                keys.add(pos[0] + "," + pos[1] + "," + pos[2]);
+            }
+            keys.sort(null);
+            result.put(entry.getKey(), keys);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,93 @@
+package io.hyvexa.ascend.mine.system;
+
+import io.hyvexa.ascend.mine.system.BlockDamageTracker.HitResult;
+import io.hyvexa.ascend.mine.util.MinePositionUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The previous map-of-maps {@link BlockDamageTracker} ({@code playerId -> packedPos -> state}), kept as the
+ * reference model for the equivalence test and the baseline for the benchmark. Damage never expires.
+ */
+final class MapBlockDamageTracker {
+
+    private final Map<UUID, Map<Long, BlockDamageState>> playerDamage = new ConcurrentHashMap<>();
+
+    HitResult recordHit(UUID playerId, int x, int y, int z, String blockTypeId, int maxHp, double damageMultiplier) {
+        if (maxHp <= 1) {
+            return HitResult.INSTANT_BREAK;
+        }
+
+        long packedPos = MinePositionUtils.packPosition(x, y, z);
+
+        Map<Long, BlockDamageState> blocks = playerDamage.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>());
+        BlockDamageState state = blocks.get(packedPos);
+
+        if (state == null || !blockTypeId.equals(state.blockTypeId)) {
+            state = new BlockDamageState(blockTypeId, maxHp);
+            blocks.put(packedPos, state);
+        }
+
+        double damage = Math.max(1.0, damageMultiplier);
+        state.currentHp -= damage;
+
+        if (state.currentHp <= 0) {
+            blocks.remove(packedPos);
+            return new HitResult(0, maxHp, true);
+        }
+
+        return new HitResult(state.currentHp, maxHp, false);
+    }
+
+    void evict(UUID playerId) {
+        playerDamage.remove(playerId);
+    }
+
+    Set<UUID> clearPosition(int x, int y, int z) {
+        long packedPos = MinePositionUtils.packPosition(x, y, z);
+        Set<UUID> affected = null;
+        for (var entry : playerDamage.entrySet()) {
+            if (entry.getValue().remove(packedPos) != null) {
+                if (affected == null) affected = new HashSet<>();
+                affected.add(entry.getKey());
+            }
+        }
+        return affected;
+    }
+
+    Map<UUID, List<int[]>> clearAllAndCollect() {
+        Map<UUID, List<int[]>> result = null;
+        var it = playerDamage.entrySet().iterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            Map<Long, BlockDamageState> blocks = entry.getValue();
+            if (!blocks.isEmpty()) {
+                if (result == null) result = new HashMap<>();
+                List<int[]> positions = new ArrayList<>(blocks.size());
+                for (long packed : blocks.keySet()) {
+                    positions.add(MinePositionUtils.unpackPosition(packed));
+                }
+                result.put(entry.getKey(), positions);
+            }
+            it.remove();
+        }
+        return result;
+    }
+
+    private static final class BlockDamageState {
+        final String blockTypeId;
+        double currentHp;
+
+        BlockDamageState(String blockTypeId, int maxHp) {
+            this.blockTypeId = blockTypeId;
+            this.currentHp = maxHp;
+        }
+    }
+}
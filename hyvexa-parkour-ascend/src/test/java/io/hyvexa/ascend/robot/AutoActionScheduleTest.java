@@ -0,0 +1,202 @@
+package io.hyvexa.ascend.robot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoActionScheduleTest {
+
+    private static final long PASS_MS = AutoRunnerUpgradeEngine.ACTION_INTERVAL_MS;
+    private static final long IDLE = Long.MAX_VALUE;
+
+    /**
+     * Small model of the Ascend automation loop on a virtual clock: robots pay out on fixed intervals,
+     * auto-upgrade buys the cheapest upgrade once affordable, and a timed auto-summit spends
+     * a threshold at most once per timer period. Every volt change "marks dirty".
+     */
+    private static final class SimPlayer {
+        final UUID id;
+        final long[] robotIntervals;
+        final long[] nextCompletion;
+        double volt;
+        double payout;
+        double upgradeCost;
+        final double summitThreshold;
+        final long summitTimerMs;
+        long lastSummitMs = -1L;
+
+        SimPlayer(UUID id, Random random) {
+            this.id = id;
+            int robots = 1 + random.nextInt(4);
+            this.robotIntervals = new long[robots];
+            this.nextCompletion = new long[robots];
+            for (int i = 0; i < robots; i++) {
+                robotIntervals[i] = 400L + random.nextInt(40) * 100L;
+                nextCompletion[i] = robotIntervals[i] + random.nextInt(1000);
+            }
+            this.payout = 1.0 + random.nextInt(5);
+            this.upgradeCost = 5.0 + random.nextInt(20);
+            this.summitThreshold = 200.0 + random.nextInt(400);
+            this.summitTimerMs = random.nextBoolean() ? 0L : 2_000L + random.nextInt(8) * 1000L;
+        }
+    }
+
+    private static final class Sim {
+        final Map<UUID, SimPlayer> players = new LinkedHashMap<>();
+        final List<String> actions = new ArrayList<>();
+        final AutoActionSchedule summitSchedule = new AutoActionSchedule();
+        final AutoActionSchedule upgradeSchedule = new AutoActionSchedule();
+        final boolean eventDriven;
+        int evaluations;
+
+        Sim(long seed, int playerCount, boolean eventDriven) {
+            this.eventDriven = eventDriven;
+            Random random = new Random(seed);
+            for (int i = 0; i < playerCount; i++) {
+                SimPlayer player = new SimPlayer(new UUID(seed, i), random);
+                players.put(player.id, player);
+                summitSchedule.wake(player.id, 0L);
+                upgradeSchedule.wake(player.id, 0L);
+            }
+        }
+
+        static String action(long now, SimPlayer player, String kind) {
+            return String.format("%08d %s %s", now, player.id, kind);
+        }
+
+        /** Players are independent, so within one pass only the set of actions matters, not their order. */
+        List<String> sortedActions() {
+            List<String> sorted = new ArrayList<>(actions);
+            sorted.sort(null);
+            return sorted;
+        }
+
+        void markDirty(SimPlayer player, long now) {
+            if (eventDriven) {
+                summitSchedule.wake(player.id, now);
+                upgradeSchedule.wake(player.id, now);
+            }
+        }
+
+        long autoSummit(SimPlayer player, long now) {
+            evaluations++;
+            if (player.summitTimerMs > 0 && player.lastSummitMs >= 0 && now - player.lastSummitMs < player.summitTimerMs) {
+                return player.lastSummitMs + player.summitTimerMs;
+            }
+            if (player.volt < player.summitThreshold) {
+                return IDLE;
+            }
+            player.volt -= player.summitThreshold;
+            player.payout *= 1.5;
+            player.lastSummitMs = now;
+            actions.add(action(now, player, "summit"));
+            markDirty(player, now);
+            return now + PASS_MS;
+        }
+
+        long autoUpgrade(SimPlayer player, long now) {
+            evaluations++;
+            if (player.volt < player.upgradeCost) {
+                return IDLE;
+            }
+            player.volt -= player.upgradeCost;
+            player.upgradeCost *= 1.3;
+            player.payout += 0.5;
+            actions.add(action(now, player, "upgrade"));
+            markDirty(player, now);
+            return now + PASS_MS;
+        }
+
+        void pass(long now) {
+            // Same phase order as RobotManager.tick: elevation/summit, robot payouts, then upgrades
+            if (eventDriven) {
+                for (UUID id : summitSchedule.drainDue(now)) {
+                    long next = autoSummit(players.get(id), now);
+                    summitSchedule.wake(id, Math.min(next, now + AutoRunnerUpgradeEngine.RECHECK_INTERVAL_MS));
+                }
+            } else {
+                for (SimPlayer player : players.values()) {
+                    autoSummit(player, now);
+                }
+            }
+            for (SimPlayer player : players.values()) {
+                for (int i = 0; i < player.robotIntervals.length; i++) {
+                    if (now >= player.nextCompletion[i]) {
+                        player.volt += player.payout;
+                        player.nextCompletion[i] += player.robotIntervals[i];
+                        markDirty(player, now);
+                    }
+                }
+            }
+            if (eventDriven) {
+                for (UUID id : upgradeSchedule.drainDue(now)) {
+                    long next = autoUpgrade(players.get(id), now);
+                    upgradeSchedule.wake(id, Math.min(next, now + AutoRunnerUpgradeEngine.RECHECK_INTERVAL_MS));
+                }
+            } else {
+                for (SimPlayer player : players.values()) {
+                    autoUpgrade(player, now);
+                }
+            }
+        }
+
+        void run(long durationMs) {
+            for (long now = 0; now <= durationMs; now += PASS_MS) {
+                pass(now);
+            }
+        }
+    }
+
+    @Test
+    void eventDrivenMatchesPollingWithFewerEvaluations() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Sim polling = new Sim(seed, 40, false);
+            Sim events = new Sim(seed, 40, true);
+            polling.run(120_000L);
+            events.run(120_000L);
+
+            assertFalse(polling.actions.isEmpty());
+            assertEquals(polling.actions.size(), events.actions.size(), "seed " + seed);
+            assertEquals(polling.sortedActions(), events.sortedActions(), "seed " + seed);
+            assertTrue(events.evaluations * 5 < polling.evaluations,
+                    "seed " + seed + ": " + events.evaluations + " vs " + polling.evaluations);
+        }
+    }
+
+    @Test
+    void earlierWakeupSupersedesLaterOne() {
+        AutoActionSchedule schedule = new AutoActionSchedule();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        schedule.wake(a, 500L);
+        schedule.wake(a, 100L);
+        schedule.wake(a, 900L);
+        schedule.wake(b, 200L);
+        assertEquals(100L, schedule.plannedAt(a));
+
+        assertEquals(List.of(), schedule.drainDue(50L));
+        assertEquals(List.of(a, b), schedule.drainDue(500L));
+        // The superseded 500ms entry for a must not fire again
+        assertEquals(List.of(), schedule.drainDue(1_000L));
+        assertEquals(-1L, schedule.plannedAt(a));
+    }
+
+    @Test
+    void removedAndIdlePlayersAreNotDrained() {
+        AutoActionSchedule schedule = new AutoActionSchedule();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        schedule.wake(a, 10L);
+        schedule.wake(b, Long.MAX_VALUE);
+        schedule.remove(a);
+        assertEquals(List.of(), schedule.drainDue(Long.MAX_VALUE - 1));
+        assertEquals(-1L, schedule.plannedAt(b));
+    }
+}
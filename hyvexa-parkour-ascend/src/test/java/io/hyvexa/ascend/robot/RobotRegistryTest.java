@@ -0,0 +1,165 @@
+package io.hyvexa.ascend.robot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RobotRegistryTest {
+
+    /** The previous registry: one map keyed by "owner:mapId", scanned for per-map and per-owner queries. */
+    private static final class ReferenceRegistry {
+        final Map<String, RobotState> robots = new ConcurrentHashMap<>();
+
+        static String key(UUID ownerId, String mapId) {
+            return ownerId.toString() + ":" + mapId;
+        }
+
+        Set<RobotState> forMap(String mapId) {
+            Set<RobotState> result = new HashSet<>();
+            for (RobotState state : robots.values()) {
+                if (state.getMapId().equals(mapId)) {
+                    result.add(state);
+                }
+            }
+            return result;
+        }
+
+        Set<RobotState> removeOwner(UUID ownerId) {
+            String prefix = ownerId.toString() + ":";
+            Set<RobotState> removed = new HashSet<>();
+            for (String key : List.copyOf(robots.keySet())) {
+                if (key.startsWith(prefix)) {
+                    removed.add(robots.remove(key));
+                }
+            }
+            return removed;
+        }
+    }
+
+    private static void assertSameContents(ReferenceRegistry expected, RobotRegistry actual, List<UUID> owners,
+                                           List<String> mapIds, String step) {
+        assertEquals(expected.robots.size(), actual.size(), step);
+        Set<RobotState> iterated = new HashSet<>();
+        for (RobotState state : actual) {
+            assertTrue(iterated.add(state), step);
+        }
+        assertEquals(new HashSet<>(expected.robots.values()), iterated, step);
+        for (String mapId : mapIds) {
+            assertEquals(expected.forMap(mapId), new HashSet<>(actual.forMap(mapId)), step + " map " + mapId);
+        }
+        for (UUID ownerId : owners) {
+            for (String mapId : mapIds) {
+                assertSame(expected.robots.get(ReferenceRegistry.key(ownerId, mapId)), actual.get(ownerId, mapId), step);
+            }
+        }
+    }
+
+    @Test
+    void matchesStringKeyedMapUnderRandomChurn() {
+        Random random = new Random(17L);
+        List<UUID> owners = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            owners.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        List<String> mapIds = List.of("m1", "m2", "m3", "m4", "m5", "m6", "m7");
+        ReferenceRegistry expected = new ReferenceRegistry();
+        RobotRegistry actual = new RobotRegistry();
+
+        for (int step = 0; step < 20_000; step++) {
+            UUID ownerId = owners.get(random.nextInt(owners.size()));
+            String mapId = mapIds.get(random.nextInt(mapIds.size()));
+            String key = ReferenceRegistry.key(ownerId, mapId);
+            int action = random.nextInt(10);
+            switch (action) {
+                case 0, 1, 2 -> {
+                    RobotState state = new RobotState(ownerId, mapId);
+                    assertSame(expected.robots.putIfAbsent(key, state), actual.putIfAbsent(state));
+                }
+                case 3, 4 -> {
+                    RobotState existing = actual.getOrCreate(ownerId, mapId);
+                    assertSame(existing, expected.robots.computeIfAbsent(key, ignored -> existing));
+                }
+                case 5, 6 -> assertSame(expected.robots.remove(key), actual.remove(ownerId, mapId));
+                case 7 -> {
+                    if (random.nextInt(4) == 0) {
+                        assertEquals(expected.removeOwner(ownerId), new HashSet<>(actual.removeOwner(ownerId)));
+                    }
+                }
+                case 8 -> assertEquals(new HashSet<>(actual.forOwner(ownerId)),
+                        expected.robots.values().stream()
+                                .filter(state -> state.getOwnerId().equals(ownerId))
+                                .collect(java.util.stream.Collectors.toSet()));
+                default -> {
+                    if (random.nextInt(200) == 0) {
+                        assertEquals(new HashSet<>(expected.robots.values()), new HashSet<>(actual.clear()));
+                        expected.robots.clear();
+                    }
+                }
+            }
+            if (step % 50 == 0 || action == 7 || action == 9) {
+                assertSameContents(expected, actual, owners, mapIds, "step " + step);
+            }
+        }
+        assertSameContents(expected, actual, owners, mapIds, "end");
+    }
+
+    @Test
+    void containsTracksIdentityNotKey() {
+        RobotRegistry registry = new RobotRegistry();
+        UUID ownerId = UUID.randomUUID();
+        RobotState first = registry.getOrCreate(ownerId, "map");
+        assertTrue(registry.contains(first));
+        assertSame(first, registry.remove(ownerId, "map"));
+        assertFalse(registry.contains(first));
+
+        RobotState second = registry.getOrCreate(ownerId, "map");
+        assertNotSame(first, second);
+        assertFalse(registry.contains(first));
+        assertTrue(registry.contains(second));
+        assertEquals(List.of(second), registry.forOwner(ownerId));
+    }
+
+    @Test
+    void concurrentOwnersDoNotLoseRobots() throws InterruptedException {
+        RobotRegistry registry = new RobotRegistry();
+        int threads = 8;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            workers.add(new Thread(() -> {
+                Random random = new Random(seed);
+                UUID ownerId = new UUID(seed, seed);
+                for (int i = 0; i < 2_000; i++) {
+                    String mapId = "m" + random.nextInt(5);
+                    if (random.nextBoolean()) {
+                        registry.getOrCreate(ownerId, mapId);
+                    } else if (random.nextInt(10) == 0) {
+                        registry.removeOwner(ownerId);
+                    } else {
+                        registry.remove(ownerId, mapId);
+                    }
+                }
+                for (int m = 0; m < 5; m++) {
+                    registry.getOrCreate(ownerId, "m" + m);
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(threads * 5, registry.size());
+        for (int m = 0; m < 5; m++) {
+            assertEquals(threads, registry.forMap("m" + m).size());
+        }
+    }
+}
@@ -37,6 +37,7 @@ import io.hyvexa.core.vote.VoteConfig;
 import io.hyvexa.core.vote.VoteManager;
 import io.hyvexa.core.vote.VoteStore;
 
+import io.hyvexa.parkour.ParkourConstants;
 import io.hyvexa.parkour.data.GlobalMessageStore;
 import io.hyvexa.parkour.data.MapStore;
 import io.hyvexa.parkour.data.ParkourDatabaseSetup;
@@ -263,7 +264,7 @@ public class HyvexaPlugin extends JavaPlugin {
         if (PurgeSkinStore.isInitialized()) {
             PurgeSkinStore.get().setVexaStore(vexaStore);
         }
-        this.progressStore = new ProgressStore(DatabaseManager.get());
+        this.progressStore = new ProgressStore(DatabaseManager.get(), ParkourConstants.PROGRESS_MAX_RESIDENT_OFFLINE_PLAYERS);
         this.progressStore.setAnalytics(analytics);
         this.progressStore.syncLoad();
         this.playerCountStore = new PlayerCountStore(DatabaseManager.get());
@@ -179,6 +179,18 @@ class ParkourEventRouter {
         } catch (Exception e) {
             LOGGER.atWarning().withCause(e).log("Exception in PlayerConnectEvent (broadcast)");
         }
+        try {
+            if (ghostNpcManager != null && playerRef != null) {
+                ghostNpcManager.prefetchRecordings(playerRef.getUuid());
+            }
+        } catch (Exception e) {
+            LOGGER.atWarning().withCause(e).log("Exception in PlayerConnectEvent (ghost prefetch)");
+        }
+        try {
+            progressStore.retainPlayer(playerRef.getUuid());
+        } catch (Exception e) {
+            LOGGER.atWarning().withCause(e).log("Exception in PlayerConnectEvent (progress load)");
+        }
         try {
             UUID playerId = playerRef.getUuid();
             boolean isNew = progressStore.shouldShowWelcome(playerId);
@@ -333,6 +345,9 @@ class ParkourEventRouter {
             try { if (medalStore != null) { medalStore.evictPlayer(playerId); } }
             catch (Exception e) { LOGGER.atWarning().withCause(e).log("Disconnect cleanup: MedalStore"); }
 
+            try { if (progressStore != null) { progressStore.releasePlayer(playerId); } }
+            catch (Exception e) { LOGGER.atWarning().withCause(e).log("Disconnect cleanup: ProgressStore"); }
+
             try { if (trailManager != null) { trailManager.stopTrail(playerId); } }
             catch (Exception e) { LOGGER.atWarning().withCause(e).log("Disconnect cleanup: TrailManager"); }
 
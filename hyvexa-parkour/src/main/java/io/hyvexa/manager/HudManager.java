@@ -7,7 +7,6 @@ import com.hypixel.hytale.math.vector.Vector3f;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import io.hyvexa.common.hud.AbstractHudManager;
@@ -16,6 +15,7 @@ import io.hyvexa.common.util.FormatUtils;
 import io.hyvexa.common.util.MultiHudBridge;
 import io.hyvexa.parkour.tracker.HiddenRunHud;
 import io.hyvexa.parkour.tracker.RunHud;
+import io.hyvexa.parkour.tracker.RunHudFrame;
 import io.hyvexa.parkour.tracker.RunRecordsHud;
 import io.hyvexa.parkour.tracker.RunTracker;
 import io.hyvexa.parkour.data.MapStore;
@@ -151,54 +151,60 @@ public class HudManager extends AbstractHudManager<HudManager.PlayerHudState> {
             attachHud(playerRef, player, recordsHud, true);
             hud = recordsHud;
         }
-        int completedMaps = progressStore.getCompletedMapCount(playerRef.getUuid());
-        int totalMaps = mapStore.getMapCount();
-        hud.updateInfo(playerRef.getUsername(), rankName, completedMaps, totalMaps, SERVER_IP_DISPLAY);
-        hud.updatePlayerCount();
-        hud.updateVexa(vexaStore.getBalance(playerId));
-        hud.updateFeathers(featherStore.getBalance(playerId));
-        updateAdvancedHudData(ref, store, playerRef, hud);
-        if (!running) {
-            if (wasRunning) {
-                hud.updateText("");
-                hud.updateCheckpointText("");
-                state.wasRunning = false;
+        // Collect every field change of this tick and send them as one UI update.
+        hud.beginFrame();
+        try {
+            int completedMaps = progressStore.getCompletedMapCount(playerRef.getUuid());
+            int totalMaps = mapStore.getMapCount();
+            hud.updateInfo(playerRef.getUsername(), rankName, completedMaps, totalMaps, SERVER_IP_DISPLAY);
+            hud.updatePlayerCount();
+            hud.updateVexa(vexaStore.getBalance(playerId));
+            hud.updateFeathers(featherStore.getBalance(playerId));
+            updateAdvancedHudData(ref, store, playerRef, hud);
+            if (!running) {
+                if (wasRunning) {
+                    hud.updateText("");
+                    hud.updateCheckpointText("");
+                    state.wasRunning = false;
+                }
+                state.recordsMapId = null;
+                state.recordsLeaderboardVersion = -1L;
+                hud.updateCheckpointSplit("", null, false);
+                if (hud instanceof RunRecordsHud recordsHud) {
+                    recordsHud.updateTopTimes(List.of());
+                    recordsHud.updateMedals(null);
+                }
+                state.checkpointSplit = null;
+                updateMedalNotifHud(hud, playerId);
+                return;
+            }
+            state.wasRunning = true;
+            String mapId = duelActive ? duelTracker.getActiveMapId(playerId) : runTracker.getActiveMapId(playerId);
+            io.hyvexa.parkour.data.Map map = mapId != null ? mapStore.getMapReadonly(mapId) : null;
+            String mapName = mapId;
+            if (map != null && map.getName() != null && !map.getName().isBlank()) {
+                mapName = map.getName();
+            }
+            String timeText = (mapName == null ? "Map" : mapName) + " - " + FormatUtils.formatDuration(elapsedMs);
+            RunTracker.CheckpointProgress checkpointProgress = duelActive
+                    ? duelTracker.getCheckpointProgress(playerId)
+                    : runTracker.getCheckpointProgress(playerId);
+            String checkpointText = "";
+            if (checkpointProgress != null && checkpointProgress.total > 0) {
+                checkpointText = checkpointProgress.touched + "/" + checkpointProgress.total;
             }
-            state.recordsMapId = null;
-            state.recordsLeaderboardVersion = -1L;
-            hud.updateCheckpointSplit("", null, false);
             if (hud instanceof RunRecordsHud recordsHud) {
-                recordsHud.updateTopTimes(List.of());
-                recordsHud.updateMedals(null);
+                recordsHud.updateText(timeText);
+                updateRecordRowsIfNeeded(recordsHud, state, mapId, playerRef.getUuid());
+                recordsHud.updateMedals(map);
+            } else {
+                hud.updateText(timeText);
             }
-            state.checkpointSplit = null;
-            updateMedalNotifHud(hud, playerId);
-            return;
-        }
-        state.wasRunning = true;
-        String mapId = duelActive ? duelTracker.getActiveMapId(playerId) : runTracker.getActiveMapId(playerId);
-        io.hyvexa.parkour.data.Map map = mapId != null ? mapStore.getMapReadonly(mapId) : null;
-        String mapName = mapId;
-        if (map != null && map.getName() != null && !map.getName().isBlank()) {
-            mapName = map.getName();
-        }
-        String timeText = (mapName == null ? "Map" : mapName) + " - " + FormatUtils.formatDuration(elapsedMs);
-        RunTracker.CheckpointProgress checkpointProgress = duelActive
-                ? duelTracker.getCheckpointProgress(playerId)
-                : runTracker.getCheckpointProgress(playerId);
-        String checkpointText = "";
-        if (checkpointProgress != null && checkpointProgress.total > 0) {
-            checkpointText = checkpointProgress.touched + "/" + checkpointProgress.total;
-        }
-        if (hud instanceof RunRecordsHud recordsHud) {
-            recordsHud.updateText(timeText);
-            updateRecordRowsIfNeeded(recordsHud, state, mapId, playerRef.getUuid());
-            recordsHud.updateMedals(map);
-        } else {
-            hud.updateText(timeText);
+            hud.updateCheckpointText(checkpointText);
+            updateCheckpointSplitHud(playerRef, hud, running, duelActive);
+        } finally {
+            hud.flushFrame();
         }
-        hud.updateCheckpointText(checkpointText);
-        updateCheckpointSplitHud(playerRef, hud, running, duelActive);
     }
 
     public void hideRunHud(PlayerRef playerRef) {
@@ -574,35 +580,21 @@ public class HudManager extends AbstractHudManager<HudManager.PlayerHudState> {
         MedalNotifState notif = state != null ? state.medalNotif : null;
 
         if (notif == null) {
-            UICommandBuilder cmd = new UICommandBuilder();
-            cmd.set("#MedalNotif.Visible", false);
-            hud.updateMedalNotif(null, cmd);
+            hud.updateMedalNotif(null);
             return;
         }
 
         long elapsed = System.currentTimeMillis() - notif.startedAt;
         if (elapsed >= ParkourTimingConstants.MEDAL_NOTIF_DURATION_MS) {
             state.medalNotif = null;
-            UICommandBuilder cmd = new UICommandBuilder();
-            cmd.set("#MedalNotif.Visible", false);
-            hud.updateMedalNotif(null, cmd);
+            hud.updateMedalNotif(null);
             return;
         }
 
-        MedalVisibility vis = calculateMedalVisibility(elapsed, notif);
-
-        String cacheKey = notif.medal.name() + "|" + vis.iconVisible + "|" + vis.titleVisible + "|"
-                + vis.titleColor + "|" + vis.featherVisible + "|" + vis.barVisible + "|" + vis.barValue;
-
-        UICommandBuilder cmd = new UICommandBuilder();
-        cmd.set("#MedalNotif.Visible", true);
-        buildMedalIconAndTextCommands(cmd, notif, vis);
-        buildMedalBarCommands(cmd, notif.medal, vis.barVisible, vis.barValue);
-
-        hud.updateMedalNotif(cacheKey, cmd);
+        hud.updateMedalNotif(calculateMedalNotif(elapsed, notif));
     }
 
-    private static MedalVisibility calculateMedalVisibility(long elapsed, MedalNotifState notif) {
+    private static RunHudFrame.MedalNotif calculateMedalNotif(long elapsed, MedalNotifState notif) {
         boolean iconVisible = elapsed >= 200;
         boolean titleVisible = elapsed >= 500;
         boolean featherVisible = elapsed >= 800 && notif.feathers > 0;
@@ -625,67 +617,8 @@ public class HudManager extends AbstractHudManager<HudManager.PlayerHudState> {
             barValue = Math.max(0f, 1f - (float) barElapsed / barTotal);
         }
 
-        return new MedalVisibility(iconVisible, titleVisible, titleColor, featherVisible, barVisible, barValue);
-    }
-
-    private static void buildMedalIconAndTextCommands(UICommandBuilder cmd, MedalNotifState notif,
-                                                      MedalVisibility vis) {
-        // Icon: show only the correct medal's icon
-        cmd.set("#MedalNotifBronzeIcon.Visible", vis.iconVisible && notif.medal == Medal.BRONZE);
-        cmd.set("#MedalNotifSilverIcon.Visible", vis.iconVisible && notif.medal == Medal.SILVER);
-        cmd.set("#MedalNotifGoldIcon.Visible", vis.iconVisible && notif.medal == Medal.GOLD);
-        cmd.set("#MedalNotifEmeraldIcon.Visible", vis.iconVisible && notif.medal == Medal.EMERALD);
-        cmd.set("#MedalNotifInsaneIcon.Visible", vis.iconVisible && notif.medal == Medal.INSANE);
-
-        // Title
-        cmd.set("#MedalNotifTitle.Visible", vis.titleVisible);
-        if (vis.titleVisible) {
-            cmd.set("#MedalNotifTitle.Text", notif.medal.name() + " MEDAL!");
-            cmd.set("#MedalNotifTitle.Style.TextColor", vis.titleColor);
-        }
-
-        // Feather row
-        cmd.set("#MedalNotifFeatherRow.Visible", vis.featherVisible);
-        if (vis.featherVisible) {
-            cmd.set("#MedalNotifFeathers.Text", "+" + notif.feathers + " feathers");
-        }
-    }
-
-    private static void buildMedalBarCommands(UICommandBuilder cmd, Medal medal, boolean barVisible,
-                                              float barValue) {
-        cmd.set("#MedalNotifBarBronze.Visible", barVisible && medal == Medal.BRONZE);
-        cmd.set("#MedalNotifBarSilver.Visible", barVisible && medal == Medal.SILVER);
-        cmd.set("#MedalNotifBarGold.Visible", barVisible && medal == Medal.GOLD);
-        cmd.set("#MedalNotifBarEmerald.Visible", barVisible && medal == Medal.EMERALD);
-        cmd.set("#MedalNotifBarInsane.Visible", barVisible && medal == Medal.INSANE);
-        if (barVisible) {
-            String barId = "#MedalNotifBar" + capitalize(medal.name()) + ".Value";
-            cmd.set(barId, barValue);
-        }
-    }
-
-    private static final class MedalVisibility {
-        final boolean iconVisible;
-        final boolean titleVisible;
-        final String titleColor;
-        final boolean featherVisible;
-        final boolean barVisible;
-        final float barValue;
-
-        MedalVisibility(boolean iconVisible, boolean titleVisible, String titleColor,
-                        boolean featherVisible, boolean barVisible, float barValue) {
-            this.iconVisible = iconVisible;
-            this.titleVisible = titleVisible;
-            this.titleColor = titleColor;
-            this.featherVisible = featherVisible;
-            this.barVisible = barVisible;
-            this.barValue = barValue;
-        }
-    }
-
-    private static String capitalize(String s) {
-        if (s == null || s.isEmpty()) return s;
-        return s.charAt(0) + s.substring(1).toLowerCase();
+        return new RunHudFrame.MedalNotif(notif.medal, notif.feathers, iconVisible, titleVisible, titleColor,
+                featherVisible, barVisible, barValue);
     }
 
     private void persistHudHidden(UUID playerId, boolean hidden) {
@@ -170,9 +170,9 @@ public class LeaderboardHologramManager {
         if (progressStore == null || mapId == null) {
             return lines;
         }
-        List<Map.Entry<UUID, Long>> entries = progressStore.getLeaderboardEntries(mapId);
-        int limit = Math.min(entries.size(), ParkourTimingConstants.MAP_HOLOGRAM_TOP_LIMIT);
-        for (int i = 0; i < limit; i++) {
+        List<Map.Entry<UUID, Long>> entries = progressStore.getLeaderboardTopEntries(mapId,
+                ParkourTimingConstants.MAP_HOLOGRAM_TOP_LIMIT);
+        for (int i = 0; i < entries.size(); i++) {
             Map.Entry<UUID, Long> entry = entries.get(i);
             String name = ParkourUtils.resolveName(entry.getKey(), progressStore);
             String safeName = FormatUtils.truncate(name, ParkourTimingConstants.MAP_HOLOGRAM_NAME_MAX);
@@ -55,6 +55,9 @@ public final class ParkourConstants {
     public static final long MAP_XP_INSANE = 100L;
     public static final int DEFAULT_MAP_ORDER = 1000;
 
+    /** Offline players kept in ProgressStore memory before least-recently-used eviction. */
+    public static final int PROGRESS_MAX_RESIDENT_OFFLINE_PLAYERS = 500;
+
     public static final double DEFAULT_FALL_RESPAWN_SECONDS = 3.0;
     public static final double FALL_FAILSAFE_VOID_Y = -10.0;
     public static final Vector3d DEFAULT_SPAWN_POSITION = new Vector3d(-484.70, 306.00, 627.48);
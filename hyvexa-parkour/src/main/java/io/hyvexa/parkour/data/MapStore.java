@@ -27,7 +27,7 @@ public class MapStore {
 
     private final ConnectionProvider db;
     private final java.util.Map<String, Map> maps = new LinkedHashMap<>();
-    private final java.util.Map<String, List<Map>> activeStartTriggerMapsByWorld = new HashMap<>();
+    private volatile java.util.Map<String, TriggerGridIndex<Map>> startTriggerIndexByWorld = java.util.Map.of();
     private final ReadWriteLock fileLock = new ReentrantReadWriteLock();
     private volatile Runnable onChangeListener;
 
@@ -118,7 +118,6 @@ public class MapStore {
         fileLock.writeLock().lock();
         try {
             maps.clear();
-            activeStartTriggerMapsByWorld.clear();
 
             for (Map map : loadedMaps) {
                 maps.put(map.getId(), map);
@@ -262,28 +261,12 @@ public class MapStore {
         if (worldName == null || worldName.isBlank()) {
             return null;
         }
-        fileLock.readLock().lock();
-        try {
-            List<Map> mapsInWorld = activeStartTriggerMapsByWorld.get(worldName);
-            if (mapsInWorld == null || mapsInWorld.isEmpty()) {
-                return null;
-            }
-            for (Map map : mapsInWorld) {
-                TransformData trigger = map.getStartTrigger();
-                if (trigger == null) {
-                    continue;
-                }
-                double dx = x - trigger.getX();
-                double dy = y - trigger.getY();
-                double dz = z - trigger.getZ();
-                if (dx * dx + dy * dy + dz * dz <= touchRadiusSq) {
-                    return map;
-                }
-            }
-        } finally {
-            fileLock.readLock().unlock();
+        // Immutable snapshot swapped in under the write lock; safe to read without locking.
+        TriggerGridIndex<Map> index = startTriggerIndexByWorld.get(worldName);
+        if (index == null) {
+            return null;
         }
-        return null;
+        return index.findFirstWithin(x, y, z, touchRadiusSq);
     }
 
     public int getMapCount() {
@@ -535,7 +518,7 @@ public class MapStore {
     }
 
     private void rebuildRuntimeIndexesLocked() {
-        activeStartTriggerMapsByWorld.clear();
+        java.util.Map<String, TriggerGridIndex.Builder<Map>> builders = new HashMap<>();
         for (Map map : maps.values()) {
             if (map == null || !map.isActive()) {
                 continue;
@@ -545,8 +528,14 @@ public class MapStore {
             if (world == null || world.isBlank() || trigger == null) {
                 continue;
             }
-            activeStartTriggerMapsByWorld.computeIfAbsent(world, ignored -> new ArrayList<>()).add(map);
+            builders.computeIfAbsent(world, ignored -> TriggerGridIndex.builder())
+                    .add(trigger.getX(), trigger.getY(), trigger.getZ(), map);
+        }
+        java.util.Map<String, TriggerGridIndex<Map>> indexes = new HashMap<>(builders.size());
+        for (var entry : builders.entrySet()) {
+            indexes.put(entry.getKey(), entry.getValue().build());
         }
+        startTriggerIndexByWorld = indexes;
     }
 
     private static Map copyMap(Map source) {
@@ -3,136 +3,245 @@ package io.hyvexa.parkour.data;
 import io.hyvexa.common.util.FormatUtils;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * In-memory leaderboard cache built from player progress data.
- * Thread-safe: cache entries are lazily built and invalidated on best-time changes.
+ * Each map keeps an incremental {@link RankedTimeBoard}, seeded once from the best-time source on first access and
+ * then updated in O(log n) per best-time change. The seed runs on {@code seedExecutor}, so a first read from the
+ * HUD or hologram thread never waits for the query: until the seed lands it sees only the changes made since,
+ * and positions read as unknown. Thread-safe: mutations and reads synchronize on the board, and the seed merges
+ * under the same monitor without undoing changes that arrived while it ran.
  */
 public class ParkourLeaderboardCache {
 
-    private final Map<UUID, ProgressStore.PlayerProgress> progress;
+    private static final int HUD_TOP_ROWS = 5;
+
+    private final Function<String, Map<UUID, Long>> bestTimeSource;
     private final Map<UUID, String> lastKnownNames;
-    private final Map<String, LeaderboardEntry> leaderboardCache = new ConcurrentHashMap<>();
+    private final Map<String, RankedTimeBoard> boards = new ConcurrentHashMap<>();
     private final Map<String, Long> leaderboardVersions = new ConcurrentHashMap<>();
-
-    ParkourLeaderboardCache(Map<UUID, ProgressStore.PlayerProgress> progress,
-                            Map<UUID, String> lastKnownNames) {
-        this.progress = progress;
+    private final Map<String, TopRowsEntry> topRowsCache = new ConcurrentHashMap<>();
+    private final Map<String, EntriesSnapshot> entriesCache = new ConcurrentHashMap<>();
+    private final Executor seedExecutor;
+    // Boards whose seed has not landed yet, with the players removed meanwhile so the seed does not restore them
+    private final Map<RankedTimeBoard, Set<UUID>> seeding = new ConcurrentHashMap<>();
+
+    /**
+     * @param bestTimeSource returns every player's best time on a map; called once per map to seed its board
+     * @param seedExecutor   runs {@code bestTimeSource}; pass {@code Runnable::run} to seed on the reading thread
+     */
+    ParkourLeaderboardCache(Function<String, Map<UUID, Long>> bestTimeSource,
+                            Map<UUID, String> lastKnownNames, Executor seedExecutor) {
+        this.bestTimeSource = bestTimeSource;
         this.lastKnownNames = lastKnownNames;
+        this.seedExecutor = seedExecutor;
     }
 
+    /** Drops the map's board so it is reseeded from progress on next access. */
     void invalidateLeaderboardCache(String mapId) {
         if (mapId == null) {
             return;
         }
-        leaderboardVersions.merge(mapId, 1L, Long::sum);
-        leaderboardCache.remove(mapId);
+        boards.remove(mapId);
+        bumpVersion(mapId);
+    }
+
+    /** Marks display-only data (player names) stale without touching rankings. */
+    void invalidateDisplay(String mapId) {
+        if (mapId == null) {
+            return;
+        }
+        bumpVersion(mapId);
+    }
+
+    void onBestTimeChanged(String mapId, UUID playerId, long timeMs) {
+        if (mapId == null || playerId == null) {
+            return;
+        }
+        RankedTimeBoard board = boards.get(mapId);
+        if (board != null) {
+            synchronized (board) {
+                // Best times only improve; ignore a stale update that lost a race with a faster one.
+                Long current = board.getTime(playerId);
+                if (current == null || timeMs < current) {
+                    board.put(playerId, timeMs);
+                }
+            }
+        }
+        bumpVersion(mapId);
+    }
+
+    void onBestTimeRemoved(String mapId, UUID playerId) {
+        if (mapId == null || playerId == null) {
+            return;
+        }
+        RankedTimeBoard board = boards.get(mapId);
+        if (board != null) {
+            synchronized (board) {
+                board.remove(playerId);
+                Set<UUID> removedWhileSeeding = seeding.get(board);
+                if (removedWhileSeeding != null) {
+                    removedWhileSeeding.add(playerId);
+                }
+            }
+        }
+        bumpVersion(mapId);
     }
 
     void clearAll() {
-        leaderboardCache.clear();
+        boards.clear();
+        seeding.clear();
         leaderboardVersions.clear();
+        topRowsCache.clear();
+        entriesCache.clear();
     }
 
     Map<UUID, Long> getBestTimesForMap(String mapId) {
         if (mapId == null) {
             return Map.of();
         }
-        LeaderboardEntry cache = leaderboardCache.computeIfAbsent(mapId, this::buildLeaderboardCache);
-        return new HashMap<>(cache.timesByPlayer);
+        RankedTimeBoard board = getBoard(mapId);
+        synchronized (board) {
+            return board.timesByPlayer();
+        }
     }
 
     List<Map.Entry<UUID, Long>> getLeaderboardEntries(String mapId) {
         if (mapId == null) {
             return List.of();
         }
-        LeaderboardEntry cache = leaderboardCache.computeIfAbsent(mapId, this::buildLeaderboardCache);
-        return cache.entries;
+        long version = getVersion(mapId);
+        EntriesSnapshot cached = entriesCache.get(mapId);
+        if (cached != null && cached.version == version) {
+            return cached.entries;
+        }
+        RankedTimeBoard board = getBoard(mapId);
+        List<Map.Entry<UUID, Long>> entries;
+        synchronized (board) {
+            entries = List.copyOf(board.entries());
+        }
+        entriesCache.put(mapId, new EntriesSnapshot(version, entries));
+        return entries;
+    }
+
+    List<Map.Entry<UUID, Long>> getLeaderboardTopEntries(String mapId, int limit) {
+        if (mapId == null || limit <= 0) {
+            return List.of();
+        }
+        RankedTimeBoard board = getBoard(mapId);
+        synchronized (board) {
+            return List.copyOf(board.top(limit));
+        }
     }
 
     int getLeaderboardPosition(String mapId, UUID playerId) {
         if (mapId == null || playerId == null) {
             return -1;
         }
-        LeaderboardEntry cache = leaderboardCache.computeIfAbsent(mapId, this::buildLeaderboardCache);
-        Integer position = cache.positions.get(playerId);
-        return position != null ? position : -1;
+        RankedTimeBoard board = getBoard(mapId);
+        synchronized (board) {
+            // A partial board would rank the player too high
+            return seeding.containsKey(board) ? -1 : board.positionOf(playerId);
+        }
     }
 
     Long getWorldRecordTimeMs(String mapId) {
         if (mapId == null) {
             return null;
         }
-        LeaderboardEntry cache = leaderboardCache.computeIfAbsent(mapId, this::buildLeaderboardCache);
-        return cache.worldRecordMs;
+        RankedTimeBoard board = getBoard(mapId);
+        synchronized (board) {
+            return board.getBestTime();
+        }
     }
 
     LeaderboardHudSnapshot getLeaderboardHudSnapshot(String mapId, UUID playerId) {
         if (mapId == null) {
             return LeaderboardHudSnapshot.empty();
         }
-        LeaderboardEntry cache = leaderboardCache.computeIfAbsent(mapId, this::buildLeaderboardCache);
-        LeaderboardHudRow selfRow = LeaderboardHudRow.empty();
-        if (playerId != null) {
-            Integer ordinalPosition = cache.ordinalPositions.get(playerId);
-            Long selfTime = cache.timesByPlayer.get(playerId);
-            if (ordinalPosition != null && selfTime != null) {
-                selfRow = new LeaderboardHudRow(String.valueOf(ordinalPosition),
-                        getDisplayPlayerName(playerId), FormatUtils.formatDuration(selfTime));
+        long version = getVersion(mapId);
+        RankedTimeBoard board = getBoard(mapId);
+        TopRowsEntry topRows = topRowsCache.get(mapId);
+        int ordinalPosition = -1;
+        Long selfTime = null;
+        synchronized (board) {
+            if (topRows == null || topRows.version != version) {
+                topRows = new TopRowsEntry(version, buildTopRows(board.top(HUD_TOP_ROWS)));
+                topRowsCache.put(mapId, topRows);
+            }
+            if (playerId != null && !seeding.containsKey(board)) {
+                ordinalPosition = board.ordinalOf(playerId);
+                selfTime = board.getTime(playerId);
             }
         }
-        return new LeaderboardHudSnapshot(cache.version, cache.topRows, selfRow);
+        LeaderboardHudRow selfRow = LeaderboardHudRow.empty();
+        if (ordinalPosition > 0 && selfTime != null) {
+            selfRow = new LeaderboardHudRow(String.valueOf(ordinalPosition),
+                    getDisplayPlayerName(playerId), FormatUtils.formatDuration(selfTime));
+        }
+        return new LeaderboardHudSnapshot(version, topRows.rows, selfRow);
     }
 
-    private LeaderboardEntry buildLeaderboardCache(String mapId) {
-        if (mapId == null) {
-            return LeaderboardEntry.empty();
+    private RankedTimeBoard getBoard(String mapId) {
+        RankedTimeBoard board = boards.get(mapId);
+        if (board != null) {
+            return board;
         }
-        List<Map.Entry<UUID, Long>> entries = new ArrayList<>();
-        for (Map.Entry<UUID, ProgressStore.PlayerProgress> entry : progress.entrySet()) {
-            Long best = entry.getValue().bestMapTimes.get(mapId);
-            if (best != null) {
-                entries.add(Map.entry(entry.getKey(), best));
-            }
+        RankedTimeBoard created = new RankedTimeBoard();
+        // Registered before the board is visible, so no removal can slip past the seed
+        seeding.put(created, ConcurrentHashMap.newKeySet());
+        board = boards.putIfAbsent(mapId, created);
+        if (board != null) {
+            seeding.remove(created);
+            return board;
+        }
+        seedExecutor.execute(() -> seedBoard(mapId, created));
+        return created;
+    }
+
+    private void seedBoard(String mapId, RankedTimeBoard board) {
+        Map<UUID, Long> seed;
+        try {
+            seed = bestTimeSource.apply(mapId);
+        } catch (RuntimeException e) {
+            // Drop the board so the next read retries the seed
+            boards.remove(mapId, board);
+            seeding.remove(board);
+            throw e;
         }
-        entries.sort(Comparator.comparingLong(Map.Entry::getValue));
-        Map<UUID, Integer> positions = new HashMap<>();
-        Map<UUID, Integer> ordinalPositions = new HashMap<>();
-        Map<UUID, Long> timesByPlayer = new HashMap<>(entries.size());
-        Long worldRecordMs = entries.isEmpty() ? null : entries.get(0).getValue();
-        long lastTime = Long.MIN_VALUE;
-        int rank = 0;
-        for (int i = 0; i < entries.size(); i++) {
-            Map.Entry<UUID, Long> leaderboardEntry = entries.get(i);
-            long time = toDisplayedCentiseconds(leaderboardEntry.getValue());
-            if (i == 0 || time > lastTime) {
-                rank = i + 1;
-                lastTime = time;
+        synchronized (board) {
+            Set<UUID> removedWhileSeeding = seeding.remove(board);
+            for (Map.Entry<UUID, Long> entry : seed.entrySet()) {
+                if (removedWhileSeeding != null && removedWhileSeeding.contains(entry.getKey())) {
+                    continue;
+                }
+                Long current = board.getTime(entry.getKey());
+                if (current == null || entry.getValue() < current) {
+                    board.put(entry.getKey(), entry.getValue());
+                }
             }
-            UUID entryPlayerId = leaderboardEntry.getKey();
-            positions.put(entryPlayerId, rank);
-            ordinalPositions.put(entryPlayerId, i + 1);
-            timesByPlayer.put(entryPlayerId, leaderboardEntry.getValue());
         }
-        long version = leaderboardVersions.getOrDefault(mapId, 0L);
-        return new LeaderboardEntry(List.copyOf(entries), Map.copyOf(positions),
-                Map.copyOf(ordinalPositions), Map.copyOf(timesByPlayer),
-                buildTopRows(entries), worldRecordMs, version);
+        bumpVersion(mapId);
+    }
+
+    private long getVersion(String mapId) {
+        return leaderboardVersions.getOrDefault(mapId, 0L);
     }
 
-    private static long toDisplayedCentiseconds(long durationMs) {
-        return Math.round(durationMs / 10.0);
+    private void bumpVersion(String mapId) {
+        leaderboardVersions.merge(mapId, 1L, Long::sum);
     }
 
     private List<LeaderboardHudRow> buildTopRows(List<Map.Entry<UUID, Long>> entries) {
-        List<LeaderboardHudRow> topRows = new ArrayList<>(5);
-        for (int i = 0; i < 5; i++) {
+        List<LeaderboardHudRow> topRows = new ArrayList<>(HUD_TOP_ROWS);
+        for (int i = 0; i < HUD_TOP_ROWS; i++) {
             if (i < entries.size()) {
                 Map.Entry<UUID, Long> entry = entries.get(i);
                 topRows.add(new LeaderboardHudRow(String.valueOf(i + 1), getDisplayPlayerName(entry.getKey()),
@@ -154,38 +263,9 @@ public class ParkourLeaderboardCache {
 
     // ---- Inner data classes ----
 
-    static final class LeaderboardEntry {
-        final List<Map.Entry<UUID, Long>> entries;
-        final Map<UUID, Integer> positions;
-        final Map<UUID, Integer> ordinalPositions;
-        final Map<UUID, Long> timesByPlayer;
-        final List<LeaderboardHudRow> topRows;
-        final Long worldRecordMs;
-        final long version;
-
-        LeaderboardEntry(List<Map.Entry<UUID, Long>> entries, Map<UUID, Integer> positions,
-                         Map<UUID, Integer> ordinalPositions, Map<UUID, Long> timesByPlayer,
-                         List<LeaderboardHudRow> topRows, Long worldRecordMs, long version) {
-            this.entries = entries;
-            this.positions = positions;
-            this.ordinalPositions = ordinalPositions;
-            this.timesByPlayer = timesByPlayer;
-            this.topRows = topRows;
-            this.worldRecordMs = worldRecordMs;
-            this.version = version;
-        }
+    private record TopRowsEntry(long version, List<LeaderboardHudRow> rows) {}
 
-        private static LeaderboardEntry empty() {
-            return new LeaderboardEntry(List.of(), Map.of(), Map.of(), Map.of(),
-                    List.of(
-                            LeaderboardHudRow.empty(1),
-                            LeaderboardHudRow.empty(2),
-                            LeaderboardHudRow.empty(3),
-                            LeaderboardHudRow.empty(4),
-                            LeaderboardHudRow.empty(5)
-                    ), null, 0L);
-        }
-    }
+    private record EntriesSnapshot(long version, List<Map.Entry<UUID, Long>> entries) {}
 
     public static final class LeaderboardHudSnapshot {
         private static final LeaderboardHudSnapshot EMPTY =
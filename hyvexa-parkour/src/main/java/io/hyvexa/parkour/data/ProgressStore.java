@@ -12,27 +12,59 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
-/** MySQL-backed storage for player progress, completions, and leaderboard caches. */
+/**
+ * MySQL-backed storage for player progress, completions, and leaderboard caches.
+ * <p>
+ * Runs in one of two modes. Full-load mode reads every player with their completions and checkpoint
+ * times at startup. Lazy mode only loads a compact player directory (uuid, name, completion count) at
+ * startup, loads a player's progress on first access, and evicts offline players beyond a bounded
+ * resident set. Leaderboards in lazy mode are seeded from {@code player_completions} per map.
+ * <p>
+ * Read-only lookups never query the database on the caller's thread in lazy mode: an offline player
+ * who is not resident is loaded in the background and reads as having no progress until the load
+ * lands, and leaderboard seeds run in the background the same way. Online players are loaded when
+ * they are retained on join.
+ * <p>
+ * Locking: per-player mutations hold the shared side of {@code fileLock} plus the player's lock
+ * stripe, so writers for unrelated players do not block each other. Store-wide operations (load,
+ * map purge) take the exclusive side. In lazy mode a player is loaded before either lock is taken,
+ * so database reads never run under them. The debounced save snapshots each dirty player's row
+ * under its stripe and writes the batch without holding any lock.
+ */
 public class ProgressStore {
 
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
     private static final long SAVE_DEBOUNCE_MS = 5000L;
     private static final int MAX_PLAYER_NAME_LENGTH = 32;
+    private static final int PLAYER_LOCK_STRIPES = 64;
+    private static final AtomicInteger LOAD_THREAD_ID = new AtomicInteger(1);
+    private static final ExecutorService PROGRESS_LOAD_EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+        Thread t = new Thread(runnable, "ProgressLoad-" + LOAD_THREAD_ID.getAndIncrement());
+        t.setDaemon(true);
+        return t;
+    });
 
     private final ConnectionProvider db;
     private final java.util.Map<UUID, PlayerProgress> progress = new ConcurrentHashMap<>();
@@ -41,14 +73,70 @@ public class ProgressStore {
     private final java.util.Map<UUID, Long> dirtyPlayerVersions = new ConcurrentHashMap<>();
     private final AtomicBoolean saveQueued = new AtomicBoolean(false);
     private final AtomicReference<ScheduledFuture<?>> saveFuture = new AtomicReference<>();
-    private final ReadWriteLock fileLock = new ReentrantReadWriteLock();
+    private final ReentrantReadWriteLock fileLock = new ReentrantReadWriteLock();
+    private final ReentrantLock[] playerLocks;
+    private final ScheduledExecutorService saveExecutor;
+    private final Executor loadExecutor;
     private final AtomicLong cachedTotalXp = new AtomicLong(-1L);
     private volatile PlayerAnalytics analytics;
     private volatile java.util.function.Consumer<UUID> rankCacheInvalidator;
 
+    // Lazy mode only: directory of every persisted player and their completion counts.
+    private final int maxResidentPlayers;
+    private final Set<UUID> knownPlayerIds = ConcurrentHashMap.newKeySet();
+    private final java.util.Map<UUID, Integer> completionCounts = new ConcurrentHashMap<>();
+    private final Set<UUID> retainedPlayers = ConcurrentHashMap.newKeySet();
+    // Players loaded by a writer that has not taken their stripe yet; never evicted meanwhile.
+    private final java.util.Map<UUID, Integer> loadPins = new ConcurrentHashMap<>();
+    // Offline players with a background load queued, so repeated reads queue a single load.
+    private final Set<UUID> loadingPlayers = ConcurrentHashMap.newKeySet();
+    // Offline resident players in access order, eldest first. Guarded by itself.
+    private final LinkedHashMap<UUID, Boolean> evictionOrder = new LinkedHashMap<>(16, 0.75f, true);
+
     public ProgressStore(ConnectionProvider db) {
+        this(db, 0);
+    }
+
+    /**
+     * @param maxResidentPlayers {@code 0} loads every player at startup; a positive value enables lazy
+     *                           mode and keeps at most this many offline players in memory
+     */
+    public ProgressStore(ConnectionProvider db, int maxResidentPlayers) {
+        this(db, maxResidentPlayers, null);
+    }
+
+    /** @param saveExecutor executor for debounced and completion saves; {@code null} uses the server's */
+    ProgressStore(ConnectionProvider db, int maxResidentPlayers, ScheduledExecutorService saveExecutor) {
+        this(db, maxResidentPlayers, saveExecutor, PROGRESS_LOAD_EXECUTOR);
+    }
+
+    /** @param loadExecutor runs lazy-mode background loads of offline players and leaderboard seeds */
+    ProgressStore(ConnectionProvider db, int maxResidentPlayers, ScheduledExecutorService saveExecutor,
+                  Executor loadExecutor) {
+        this(db, maxResidentPlayers, saveExecutor, loadExecutor, PLAYER_LOCK_STRIPES);
+    }
+
+    /** @param lockStripes number of player lock stripes, a power of two; {@code 1} is a single global lock */
+    ProgressStore(ConnectionProvider db, int maxResidentPlayers, ScheduledExecutorService saveExecutor,
+                  Executor loadExecutor, int lockStripes) {
+        if (lockStripes <= 0 || Integer.bitCount(lockStripes) != 1) {
+            throw new IllegalArgumentException("lockStripes must be a power of two: " + lockStripes);
+        }
         this.db = db;
-        this.leaderboardCache = new ParkourLeaderboardCache(progress, lastKnownNames);
+        this.maxResidentPlayers = Math.max(0, maxResidentPlayers);
+        this.saveExecutor = saveExecutor;
+        this.loadExecutor = loadExecutor;
+        // Full-load boards seed from memory, so only lazy mode needs the query off the reading thread
+        this.leaderboardCache = new ParkourLeaderboardCache(this::loadBestTimesForMap, lastKnownNames,
+                isLazyLoading() ? loadExecutor : Runnable::run);
+        this.playerLocks = new ReentrantLock[lockStripes];
+        for (int i = 0; i < playerLocks.length; i++) {
+            playerLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public boolean isLazyLoading() {
+        return maxResidentPlayers > 0;
     }
 
     public void setAnalytics(PlayerAnalytics analytics) {
@@ -59,6 +147,45 @@ public class ProgressStore {
         this.rankCacheInvalidator = rankCacheInvalidator;
     }
 
+    private ReentrantLock playerLock(UUID playerId) {
+        int hash = playerId.hashCode();
+        return playerLocks[(hash ^ (hash >>> 16)) & (playerLocks.length - 1)];
+    }
+
+    /** Takes the shared store lock and the player's stripe. Release with {@link #unlockPlayer}. */
+    private ReentrantLock lockPlayer(UUID playerId) {
+        ReentrantLock lock = playerLock(playerId);
+        fileLock.readLock().lock();
+        lock.lock();
+        return lock;
+    }
+
+    private void unlockPlayer(ReentrantLock lock) {
+        lock.unlock();
+        fileLock.readLock().unlock();
+    }
+
+    /**
+     * Like {@link #lockPlayer}, but in lazy mode loads the player's progress first, without holding
+     * any lock. The player is pinned until their stripe is held, so it cannot be evicted in between.
+     */
+    private ReentrantLock lockResidentPlayer(UUID playerId) {
+        if (!isLazyLoading() || playerId == null) {
+            return lockPlayer(playerId);
+        }
+        loadPins.merge(playerId, 1, Integer::sum);
+        try {
+            resolveProgress(playerId);
+            return lockPlayer(playerId);
+        } finally {
+            loadPins.computeIfPresent(playerId, (ignored, pins) -> pins > 1 ? pins - 1 : null);
+        }
+    }
+
+    private ScheduledExecutorService saveExecutor() {
+        return saveExecutor != null ? saveExecutor : HytaleServer.SCHEDULED_EXECUTOR;
+    }
+
     public void syncLoad() {
         if (!this.db.isInitialized()) {
             LOGGER.atWarning().log("Database not initialized, ProgressStore will be empty");
@@ -71,9 +198,29 @@ public class ProgressStore {
             lastKnownNames.clear();
             leaderboardCache.clearAll();
             dirtyPlayerVersions.clear();
+            knownPlayerIds.clear();
+            completionCounts.clear();
+            synchronized (evictionOrder) {
+                evictionOrder.clear();
+            }
 
             long totalStart = System.nanoTime();
 
+            if (isLazyLoading()) {
+                long start = System.nanoTime();
+                loadPlayerDirectory();
+                DatabaseManager.logSlowQuery("ProgressStore.loadPlayerDirectory", start);
+
+                start = System.nanoTime();
+                loadCompletionCounts();
+                DatabaseManager.logSlowQuery("ProgressStore.loadCompletionCounts", start);
+
+                DatabaseManager.logSlowQuery("ProgressStore.syncLoad (total)", totalStart);
+                LOGGER.atInfo().log("ProgressStore indexed " + knownPlayerIds.size()
+                        + " players from database (lazy, max " + maxResidentPlayers + " offline resident)");
+                return;
+            }
+
             long start = System.nanoTime();
             loadPlayers();
             DatabaseManager.logSlowQuery("ProgressStore.loadPlayers", start);
@@ -172,25 +319,307 @@ public class ProgressStore {
         }
     }
 
-    public boolean isMapCompleted(UUID playerId, String mapId) {
+    private void loadPlayerDirectory() {
+        String sql = "SELECT uuid, name FROM players";
+
+        List<Object[]> rows = DatabaseManager.queryList(this.db, sql, rs -> new Object[]{
+                UUID.fromString(rs.getString("uuid")),
+                rs.getString("name")
+        });
+        for (Object[] row : rows) {
+            UUID uuid = (UUID) row[0];
+            knownPlayerIds.add(uuid);
+            String name = (String) row[1];
+            if (name != null && !name.isBlank()) {
+                lastKnownNames.put(uuid, name);
+            }
+        }
+    }
+
+    private void loadCompletionCounts() {
+        String sql = "SELECT player_uuid, COUNT(*) AS completed FROM player_completions GROUP BY player_uuid";
+
+        List<Object[]> rows = DatabaseManager.queryList(this.db, sql, rs -> new Object[]{
+                UUID.fromString(rs.getString("player_uuid")),
+                rs.getInt("completed")
+        });
+        for (Object[] row : rows) {
+            UUID uuid = (UUID) row[0];
+            if (knownPlayerIds.contains(uuid)) {
+                completionCounts.put(uuid, (int) row[1]);
+            }
+        }
+    }
+
+    private PlayerProgress loadPlayerFromDatabase(UUID playerId) {
+        String playerSql = "SELECT name, xp, level, welcome_shown, playtime_ms, vip, founder, teleport_item_use_count,"
+                + " jump_count FROM players WHERE uuid = ?";
+        String completionSql = "SELECT map_id, best_time_ms FROM player_completions WHERE player_uuid = ?";
+        String checkpointSql = "SELECT map_id, checkpoint_index, time_ms FROM player_checkpoint_times"
+                + " WHERE player_uuid = ? ORDER BY checkpoint_index";
+        String uuid = playerId.toString();
+
+        long start = System.nanoTime();
+        Object[] row = DatabaseManager.queryOne(this.db, playerSql, stmt -> stmt.setString(1, uuid), rs -> {
+            PlayerProgress playerProgress = new PlayerProgress();
+            playerProgress.xp = rs.getLong("xp");
+            playerProgress.level = rs.getInt("level");
+            playerProgress.welcomeShown = rs.getBoolean("welcome_shown");
+            playerProgress.playtimeMs = rs.getLong("playtime_ms");
+            playerProgress.vip = rs.getBoolean("vip");
+            playerProgress.founder = rs.getBoolean("founder");
+            playerProgress.teleportItemUseCount = rs.getInt("teleport_item_use_count");
+            playerProgress.jumpCount = rs.getLong("jump_count");
+            return new Object[]{playerProgress, rs.getString("name")};
+        }, null);
+        if (row == null) {
+            return null;
+        }
+        PlayerProgress playerProgress = (PlayerProgress) row[0];
+        String name = (String) row[1];
+        if (name != null && !name.isBlank()) {
+            lastKnownNames.putIfAbsent(playerId, name);
+        }
+
+        List<Object[]> completions = DatabaseManager.queryList(this.db, completionSql,
+                stmt -> stmt.setString(1, uuid),
+                rs -> new Object[]{rs.getString("map_id"), rs.getLong("best_time_ms")});
+        for (Object[] completion : completions) {
+            String mapId = (String) completion[0];
+            long bestTime = (long) completion[1];
+            playerProgress.completedMaps.add(mapId);
+            if (bestTime > 0) {
+                playerProgress.bestMapTimes.put(mapId, bestTime);
+            }
+        }
+
+        List<Object[]> checkpoints = DatabaseManager.queryList(this.db, checkpointSql,
+                stmt -> stmt.setString(1, uuid),
+                rs -> new Object[]{rs.getString("map_id"), rs.getInt("checkpoint_index"), rs.getLong("time_ms")});
+        for (Object[] checkpoint : checkpoints) {
+            List<Long> times = playerProgress.checkpointTimes
+                    .computeIfAbsent((String) checkpoint[0], k -> new ArrayList<>());
+            int checkpointIndex = (int) checkpoint[1];
+            while (times.size() <= checkpointIndex) {
+                times.add(0L);
+            }
+            times.set(checkpointIndex, (long) checkpoint[2]);
+        }
+        DatabaseManager.logSlowQuery("ProgressStore.loadPlayerFromDatabase", start);
+        return playerProgress;
+    }
+
+    /**
+     * Returns the player's progress, loading it from the database in lazy mode when it is not resident.
+     * Returns {@code null} for players with no stored progress.
+     */
+    private PlayerProgress resolveProgress(UUID playerId) {
+        if (playerId == null) {
+            return null;
+        }
+        PlayerProgress playerProgress = progress.get(playerId);
+        if (!isLazyLoading()) {
+            return playerProgress;
+        }
+        if (playerProgress == null) {
+            if (!knownPlayerIds.contains(playerId) || !this.db.isInitialized()) {
+                return null;
+            }
+            PlayerProgress loaded = loadPlayerFromDatabase(playerId);
+            if (loaded == null) {
+                return null;
+            }
+            PlayerProgress existing = progress.putIfAbsent(playerId, loaded);
+            playerProgress = existing != null ? existing : loaded;
+            touchResident(playerId);
+            trimResidentPlayers();
+            return playerProgress;
+        }
+        touchResident(playerId);
+        return playerProgress;
+    }
+
+    /**
+     * Read-only variant of {@link #resolveProgress(UUID)} that never blocks on the database for offline
+     * players: a non-resident one is loaded on {@code loadExecutor} and reads as {@code null} until then.
+     * Retained (online) players are still resolved directly.
+     */
+    private PlayerProgress peekProgress(UUID playerId) {
+        if (!isLazyLoading() || playerId == null) {
+            return resolveProgress(playerId);
+        }
         PlayerProgress playerProgress = progress.get(playerId);
+        if (playerProgress != null || retainedPlayers.contains(playerId)) {
+            return resolveProgress(playerId);
+        }
+        if (knownPlayerIds.contains(playerId) && this.db.isInitialized() && loadingPlayers.add(playerId)) {
+            loadExecutor.execute(() -> {
+                try {
+                    resolveProgress(playerId);
+                } catch (Exception e) {
+                    LOGGER.atWarning().withCause(e).log("Failed to load parkour progress for " + playerId);
+                } finally {
+                    loadingPlayers.remove(playerId);
+                }
+            });
+        }
+        return progress.get(playerId);
+    }
+
+    /** Like {@link #resolveProgress(UUID)}, but creates empty progress for new players. */
+    private PlayerProgress resolveOrCreateProgress(UUID playerId) {
+        PlayerProgress playerProgress = resolveProgress(playerId);
+        if (playerProgress != null) {
+            return playerProgress;
+        }
+        playerProgress = progress.computeIfAbsent(playerId, ignored -> new PlayerProgress());
+        if (isLazyLoading()) {
+            knownPlayerIds.add(playerId);
+            touchResident(playerId);
+        }
+        return playerProgress;
+    }
+
+    /** Keeps the player resident while online. No-op in full-load mode. */
+    public void retainPlayer(UUID playerId) {
+        if (playerId == null || !isLazyLoading()) {
+            return;
+        }
+        retainedPlayers.add(playerId);
+        synchronized (evictionOrder) {
+            evictionOrder.remove(playerId);
+        }
+        resolveProgress(playerId);
+    }
+
+    /** Lets an offline player's progress be evicted once the resident set is over capacity. */
+    public void releasePlayer(UUID playerId) {
+        if (playerId == null || !isLazyLoading()) {
+            return;
+        }
+        retainedPlayers.remove(playerId);
+        if (progress.containsKey(playerId)) {
+            touchResident(playerId);
+        }
+        trimResidentPlayers();
+    }
+
+    int getResidentPlayerCount() {
+        return progress.size();
+    }
+
+    private void touchResident(UUID playerId) {
+        if (retainedPlayers.contains(playerId)) {
+            return;
+        }
+        synchronized (evictionOrder) {
+            evictionOrder.put(playerId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Evicts the least recently used offline players over capacity. Players with unsaved changes stay
+     * resident until the next save, and pinned players or players whose stripe is busy are skipped,
+     * since a writer may be between resolving them and marking them dirty. Skipped entirely under the
+     * exclusive lock.
+     */
+    private void trimResidentPlayers() {
+        if (!isLazyLoading() || fileLock.isWriteLockedByCurrentThread()) {
+            return;
+        }
+        fileLock.readLock().lock();
+        try {
+            synchronized (evictionOrder) {
+                int excess = evictionOrder.size() - maxResidentPlayers;
+                Iterator<UUID> iterator = evictionOrder.keySet().iterator();
+                while (excess > 0 && iterator.hasNext()) {
+                    UUID playerId = iterator.next();
+                    if (retainedPlayers.contains(playerId)) {
+                        iterator.remove();
+                        excess--;
+                        continue;
+                    }
+                    if (loadPins.containsKey(playerId)) {
+                        continue;
+                    }
+                    ReentrantLock lock = playerLock(playerId);
+                    if (lock.isHeldByCurrentThread() || !lock.tryLock()) {
+                        continue;
+                    }
+                    try {
+                        if (dirtyPlayerVersions.containsKey(playerId)) {
+                            continue;
+                        }
+                        iterator.remove();
+                        progress.remove(playerId);
+                        excess--;
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    private void syncCompletionCount(UUID playerId, PlayerProgress playerProgress) {
+        if (!isLazyLoading()) {
+            return;
+        }
+        int count = playerProgress.completedMaps.size();
+        if (count > 0) {
+            completionCounts.put(playerId, count);
+        } else {
+            completionCounts.remove(playerId);
+        }
+    }
+
+    /**
+     * Best times for one map, used to seed its leaderboard. In lazy mode the database rows are
+     * overlaid with resident players, whose in-memory state may be ahead of the database.
+     */
+    private java.util.Map<UUID, Long> loadBestTimesForMap(String mapId) {
+        java.util.Map<UUID, Long> times = new HashMap<>();
+        if (isLazyLoading()) {
+            String sql = "SELECT player_uuid, best_time_ms FROM player_completions WHERE map_id = ? AND best_time_ms > 0";
+            List<Object[]> rows = DatabaseManager.queryList(this.db, sql, stmt -> stmt.setString(1, mapId),
+                    rs -> new Object[]{UUID.fromString(rs.getString("player_uuid")), rs.getLong("best_time_ms")});
+            for (Object[] row : rows) {
+                times.put((UUID) row[0], (Long) row[1]);
+            }
+            for (java.util.Map.Entry<UUID, PlayerProgress> entry : progress.entrySet()) {
+                times.remove(entry.getKey());
+            }
+        }
+        for (java.util.Map.Entry<UUID, PlayerProgress> entry : progress.entrySet()) {
+            Long best = entry.getValue().bestMapTimes.get(mapId);
+            if (best != null) {
+                times.put(entry.getKey(), best);
+            }
+        }
+        return times;
+    }
+
+    public boolean isMapCompleted(UUID playerId, String mapId) {
+        PlayerProgress playerProgress = peekProgress(playerId);
         return playerProgress != null && playerProgress.completedMaps.contains(mapId);
     }
 
     public boolean shouldShowWelcome(UUID playerId) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        PlayerProgress playerProgress = peekProgress(playerId);
         return playerProgress == null || !playerProgress.welcomeShown;
     }
 
     public void markWelcomeShown(UUID playerId, String playerName) {
-        fileLock.writeLock().lock();
+        ReentrantLock lock = lockResidentPlayer(playerId);
         try {
-            PlayerProgress playerProgress = progress.computeIfAbsent(playerId, ignored -> new PlayerProgress());
+            PlayerProgress playerProgress = resolveOrCreateProgress(playerId);
             storePlayerName(playerId, playerName);
             playerProgress.welcomeShown = true;
             markDirty(playerId);
         } finally {
-            fileLock.writeLock().unlock();
+            unlockPlayer(lock);
         }
         queueSave();
     }
@@ -199,9 +628,9 @@ public class ProgressStore {
         if (playerId == null) {
             return 0;
         }
+        PlayerProgress playerProgress = peekProgress(playerId);
         fileLock.readLock().lock();
         try {
-            PlayerProgress playerProgress = progress.get(playerId);
             return playerProgress != null ? playerProgress.teleportItemUseCount : 0;
         } finally {
             fileLock.readLock().unlock();
@@ -212,14 +641,14 @@ public class ProgressStore {
         if (playerId == null) {
             return;
         }
-        fileLock.writeLock().lock();
+        ReentrantLock lock = lockResidentPlayer(playerId);
         try {
-            PlayerProgress playerProgress = progress.computeIfAbsent(playerId, ignored -> new PlayerProgress());
+            PlayerProgress playerProgress = resolveOrCreateProgress(playerId);
             storePlayerName(playerId, playerName);
             playerProgress.teleportItemUseCount++;
             markDirty(playerId);
         } finally {
-            fileLock.writeLock().unlock();
+            unlockPlayer(lock);
         }
         queueSave();
     }
@@ -229,9 +658,9 @@ public class ProgressStore {
             return false;
         }
         boolean changed = false;
-        fileLock.writeLock().lock();
+        ReentrantLock lock = lockResidentPlayer(playerId);
         try {
-            PlayerProgress playerProgress = progress.computeIfAbsent(playerId, ignored -> new PlayerProgress());
+            PlayerProgress playerProgress = resolveOrCreateProgress(playerId);
             storePlayerName(playerId, playerName);
             if (founder) {
                 vip = true;
@@ -243,7 +672,7 @@ public class ProgressStore {
                 changed = true;
             }
         } finally {
-            fileLock.writeLock().unlock();
+            unlockPlayer(lock);
         }
         if (changed) {
             queueSave();
@@ -252,12 +681,12 @@ public class ProgressStore {
     }
 
     public boolean isVip(UUID playerId) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        PlayerProgress playerProgress = peekProgress(playerId);
         return playerProgress != null && (playerProgress.vip || playerProgress.founder);
     }
 
     public boolean isFounder(UUID playerId) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        PlayerProgress playerProgress = peekProgress(playerId);
         return playerProgress != null && playerProgress.founder;
     }
 
@@ -277,7 +706,7 @@ public class ProgressStore {
     }
 
     public Long getBestTimeMs(UUID playerId, String mapId) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        PlayerProgress playerProgress = peekProgress(playerId);
         if (playerProgress == null) {
             return null;
         }
@@ -285,7 +714,7 @@ public class ProgressStore {
     }
 
     public List<Long> getCheckpointTimes(UUID playerId, String mapId) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        PlayerProgress playerProgress = peekProgress(playerId);
         if (playerProgress == null) {
             return List.of();
         }
@@ -307,12 +736,12 @@ public class ProgressStore {
     public ProgressionResult recordMapCompletion(UUID playerId, String playerName, String mapId, long timeMs,
                                                  MapStore mapStore, List<Long> checkpointTimes,
                                                  Consumer<Boolean> completionSavedCallback) {
-        fileLock.writeLock().lock();
+        ReentrantLock lock = lockResidentPlayer(playerId);
         ProgressionResult result;
         boolean newBest = false;
         CompletionPersistenceRequest completionPersistenceRequest = null;
         try {
-            PlayerProgress playerProgress = progress.computeIfAbsent(playerId, ignored -> new PlayerProgress());
+            PlayerProgress playerProgress = resolveOrCreateProgress(playerId);
             storePlayerName(playerId, playerName);
             boolean firstCompletionForMap = playerProgress.completedMaps.add(mapId);
             Long best = playerProgress.bestMapTimes.get(mapId);
@@ -332,6 +761,7 @@ public class ProgressStore {
             long xpAwarded = Math.max(0L, playerProgress.xp - oldXp);
 
             markDirty(playerId);
+            syncCompletionCount(playerId, playerProgress);
             List<Long> checkpointSnapshot = newBest && checkpointTimes != null && !checkpointTimes.isEmpty()
                     ? List.copyOf(checkpointTimes)
                     : List.of();
@@ -341,10 +771,10 @@ public class ProgressStore {
             result = new ProgressionResult(firstCompletionForMap, newBest, personalBest, xpAwarded,
                     oldLevel, playerProgress.level, completionSaveQueued);
         } finally {
-            fileLock.writeLock().unlock();
+            unlockPlayer(lock);
         }
         if (newBest) {
-            leaderboardCache.invalidateLeaderboardCache(mapId);
+            leaderboardCache.onBestTimeChanged(mapId, playerId, timeMs);
         }
         queueSave();
         persistCompletionAsync(completionPersistenceRequest, completionSavedCallback);
@@ -365,7 +795,7 @@ public class ProgressStore {
     }
 
     private void persistCompletionAsync(CompletionPersistenceRequest request, Consumer<Boolean> completionSavedCallback) {
-        CompletableFuture.supplyAsync(() -> persistCompletion(request), HytaleServer.SCHEDULED_EXECUTOR)
+        CompletableFuture.supplyAsync(() -> persistCompletion(request), saveExecutor())
                 .whenComplete((saved, throwable) -> {
                     if (throwable != null) {
                         LOGGER.atSevere().withCause(throwable)
@@ -435,6 +865,13 @@ public class ProgressStore {
     }
 
     public java.util.Map<UUID, Integer> getMapCompletionCounts() {
+        if (isLazyLoading()) {
+            java.util.Map<UUID, Integer> counts = new HashMap<>();
+            for (UUID playerId : getPlayerIds()) {
+                counts.put(playerId, getCompletedMapCount(playerId));
+            }
+            return counts;
+        }
         java.util.Map<UUID, Integer> counts = new HashMap<>();
         for (java.util.Map.Entry<UUID, PlayerProgress> entry : progress.entrySet()) {
             counts.put(entry.getKey(), entry.getValue().completedMaps.size());
@@ -452,6 +889,10 @@ public class ProgressStore {
         return leaderboardCache.getLeaderboardEntries(mapId);
     }
 
+    public List<java.util.Map.Entry<UUID, Long>> getLeaderboardTopEntries(String mapId, int limit) {
+        return leaderboardCache.getLeaderboardTopEntries(mapId, limit);
+    }
+
     public int getLeaderboardPosition(String mapId, UUID playerId) {
         return leaderboardCache.getLeaderboardPosition(mapId, playerId);
     }
@@ -467,12 +908,12 @@ public class ProgressStore {
     // ---- XP / Level ----
 
     public long getXp(UUID playerId) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        PlayerProgress playerProgress = peekProgress(playerId);
         return playerProgress != null ? playerProgress.xp : 0L;
     }
 
     public int getLevel(UUID playerId) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        PlayerProgress playerProgress = peekProgress(playerId);
         return playerProgress != null ? playerProgress.level : 1;
     }
 
@@ -527,11 +968,16 @@ public class ProgressStore {
     }
 
     public Set<String> getCompletedMaps(UUID playerId) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        PlayerProgress playerProgress = peekProgress(playerId);
         return playerProgress != null ? Set.copyOf(playerProgress.completedMaps) : Set.of();
     }
 
     public Set<UUID> getPlayerIds() {
+        if (isLazyLoading()) {
+            Set<UUID> ids = new java.util.HashSet<>(knownPlayerIds);
+            ids.addAll(progress.keySet());
+            return Set.copyOf(ids);
+        }
         return Set.copyOf(progress.keySet());
     }
 
@@ -540,25 +986,39 @@ public class ProgressStore {
     }
 
     public int getCompletedMapCount(UUID playerId) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        if (isLazyLoading()) {
+            // Answer from the aggregate so listing offline players does not load them.
+            PlayerProgress resident = playerId != null ? progress.get(playerId) : null;
+            if (resident != null) {
+                return resident.completedMaps.size();
+            }
+            return playerId != null ? completionCounts.getOrDefault(playerId, 0) : 0;
+        }
+        PlayerProgress playerProgress = peekProgress(playerId);
         return playerProgress != null ? playerProgress.completedMaps.size() : 0;
     }
 
     public boolean clearProgress(UUID playerId) {
-        fileLock.writeLock().lock();
+        ReentrantLock lock = lockResidentPlayer(playerId);
         boolean removed;
         PlayerProgress removedProgress;
         try {
+            resolveProgress(playerId);
             removedProgress = progress.remove(playerId);
             removed = removedProgress != null;
             lastKnownNames.remove(playerId);
             dirtyPlayerVersions.remove(playerId);
+            knownPlayerIds.remove(playerId);
+            completionCounts.remove(playerId);
+            synchronized (evictionOrder) {
+                evictionOrder.remove(playerId);
+            }
         } finally {
-            fileLock.writeLock().unlock();
+            unlockPlayer(lock);
         }
         if (removed) {
             for (String mapId : removedProgress.bestMapTimes.keySet()) {
-                leaderboardCache.invalidateLeaderboardCache(mapId);
+                leaderboardCache.onBestTimeRemoved(mapId, playerId);
             }
             deletePlayerFromDatabase(playerId);
             if (rankCacheInvalidator != null) {
@@ -584,9 +1044,13 @@ public class ProgressStore {
             return new MapPurgeResult(0, 0L);
         }
         String trimmedId = mapId.trim();
-        List<UUID> affectedPlayers = new ArrayList<>();
+        Set<UUID> affectedPlayers = new java.util.HashSet<>();
         long totalXpRemoved = 0L;
 
+        // Lazy mode: offline players are purged in the database without being loaded. Resident players
+        // are handled in memory below; their next save overwrites whatever the update wrote for them.
+        OfflineMapPurge offlinePurge = isLazyLoading() ? purgeMapForOfflinePlayers(trimmedId, mapStore) : null;
+
         fileLock.writeLock().lock();
         try {
             for (java.util.Map.Entry<UUID, PlayerProgress> entry : progress.entrySet()) {
@@ -602,15 +1066,31 @@ public class ProgressStore {
                     playerProgress.xp = Math.max(0L, newXp);
                     playerProgress.level = calculateLevel(playerProgress.xp);
                     markDirty(entry.getKey());
+                    syncCompletionCount(entry.getKey(), playerProgress);
                 }
             }
         } finally {
             fileLock.writeLock().unlock();
         }
 
+        if (offlinePurge != null) {
+            for (UUID playerId : offlinePurge.completerIds()) {
+                // Players purged in memory already had their count synced
+                if (!affectedPlayers.contains(playerId)) {
+                    completionCounts.computeIfPresent(playerId, (ignored, count) -> count > 1 ? count - 1 : null);
+                }
+            }
+            for (UUID playerId : offlinePurge.playerIds()) {
+                if (affectedPlayers.add(playerId)) {
+                    totalXpRemoved += offlinePurge.xpRemoved().getOrDefault(playerId, 0L);
+                }
+            }
+        }
         if (!affectedPlayers.isEmpty()) {
             leaderboardCache.invalidateLeaderboardCache(trimmedId);
-            purgeMapFromDatabase(trimmedId);
+            if (offlinePurge == null) {
+                purgeMapFromDatabase(trimmedId);
+            }
             queueSave();
             if (rankCacheInvalidator != null) {
                 for (UUID playerId : affectedPlayers) {
@@ -621,15 +1101,96 @@ public class ProgressStore {
         return new MapPurgeResult(affectedPlayers.size(), totalXpRemoved);
     }
 
+    /** Players the database purge touched, those who had completed the map, and the XP each completer lost. */
+    private record OfflineMapPurge(List<UUID> playerIds, Set<UUID> completerIds, java.util.Map<UUID, Long> xpRemoved) {}
+
+    /**
+     * Removes the map from every player in the database in one transaction: recomputes XP and level of
+     * the players who completed it, then deletes its completions and checkpoint times. XP is rebuilt
+     * from each completer's other persisted completions, as the in-memory purge does, so it is right
+     * even when the map has already been removed from {@code mapStore}. Holds no store lock, so a
+     * player loaded meanwhile either still has the map in memory (and is purged there) or already
+     * reads the purged rows.
+     */
+    private OfflineMapPurge purgeMapForOfflinePlayers(String mapId, MapStore mapStore) {
+        if (!this.db.isInitialized()) {
+            return new OfflineMapPurge(List.of(), Set.of(), java.util.Map.of());
+        }
+        List<UUID> playerIds = loadPlayerIdsWithMapProgress(mapId);
+        String completersSql = " IN (SELECT player_uuid FROM player_completions WHERE map_id = ?)";
+        java.util.Map<UUID, Long> oldXp = new HashMap<>();
+        List<Object[]> rows = DatabaseManager.queryList(this.db, "SELECT uuid, xp FROM players WHERE uuid"
+                        + completersSql, stmt -> stmt.setString(1, mapId),
+                rs -> new Object[]{UUID.fromString(rs.getString("uuid")), rs.getLong("xp")});
+        for (Object[] row : rows) {
+            oldXp.put((UUID) row[0], (Long) row[1]);
+        }
+        java.util.Map<UUID, Long> newXp = new HashMap<>();
+        if (mapStore != null) {
+            for (UUID playerId : oldXp.keySet()) {
+                newXp.put(playerId, 0L);
+            }
+            List<Object[]> remaining = DatabaseManager.queryList(this.db,
+                    "SELECT player_uuid, map_id FROM player_completions WHERE map_id <> ? AND player_uuid"
+                            + completersSql,
+                    stmt -> {
+                        stmt.setString(1, mapId);
+                        stmt.setString(2, mapId);
+                    },
+                    rs -> new Object[]{UUID.fromString(rs.getString("player_uuid")), rs.getString("map_id")});
+            for (Object[] row : remaining) {
+                newXp.computeIfPresent((UUID) row[0],
+                        (ignored, xp) -> xp + getMapCompletionXp(mapStore.getMapReadonly((String) row[1])));
+            }
+        }
+        java.util.Map<UUID, Long> xpRemoved = new HashMap<>();
+        for (java.util.Map.Entry<UUID, Long> entry : newXp.entrySet()) {
+            xpRemoved.put(entry.getKey(), Math.max(0L, oldXp.get(entry.getKey()) - entry.getValue()));
+        }
+        long start = System.nanoTime();
+        try (Connection conn = this.db.getConnection()) {
+            DatabaseManager.withTransaction(conn, c -> {
+                if (!newXp.isEmpty()) {
+                    try (PreparedStatement stmt = DatabaseManager.prepare(c,
+                            "UPDATE players SET xp = ?, level = ? WHERE uuid = ?")) {
+                        for (java.util.Map.Entry<UUID, Long> entry : newXp.entrySet()) {
+                            long xp = Math.max(0L, entry.getValue());
+                            stmt.setLong(1, xp);
+                            stmt.setInt(2, calculateLevel(xp));
+                            stmt.setString(3, entry.getKey().toString());
+                            stmt.addBatch();
+                        }
+                        stmt.executeBatch();
+                    }
+                }
+                try (PreparedStatement stmt = DatabaseManager.prepare(c,
+                        "DELETE FROM player_checkpoint_times WHERE map_id = ?")) {
+                    stmt.setString(1, mapId);
+                    stmt.executeUpdate();
+                }
+                try (PreparedStatement stmt = DatabaseManager.prepare(c,
+                        "DELETE FROM player_completions WHERE map_id = ?")) {
+                    stmt.setString(1, mapId);
+                    stmt.executeUpdate();
+                }
+            });
+        } catch (SQLException e) {
+            LOGGER.atSevere().log("Failed to purge map " + mapId + " from database: " + e.getMessage());
+            return new OfflineMapPurge(List.of(), Set.of(), java.util.Map.of());
+        }
+        DatabaseManager.logSlowQuery("ProgressStore.purgeMapForOfflinePlayers", start);
+        return new OfflineMapPurge(playerIds, oldXp.keySet(), xpRemoved);
+    }
+
     public boolean clearPlayerMapProgress(UUID playerId, String mapId, MapStore mapStore) {
         if (playerId == null || mapId == null || mapId.isBlank()) {
             return false;
         }
         String trimmedId = mapId.trim();
         boolean removed;
-        fileLock.writeLock().lock();
+        ReentrantLock lock = lockResidentPlayer(playerId);
         try {
-            PlayerProgress playerProgress = progress.get(playerId);
+            PlayerProgress playerProgress = resolveProgress(playerId);
             if (playerProgress == null) {
                 return false;
             }
@@ -642,13 +1203,14 @@ public class ProgressStore {
                 playerProgress.xp = Math.max(0L, newXp);
                 playerProgress.level = calculateLevel(playerProgress.xp);
                 markDirty(playerId);
+                syncCompletionCount(playerId, playerProgress);
             }
         } finally {
-            fileLock.writeLock().unlock();
+            unlockPlayer(lock);
         }
         if (removed) {
             deletePlayerMapCompletion(playerId, trimmedId);
-            leaderboardCache.invalidateLeaderboardCache(trimmedId);
+            leaderboardCache.onBestTimeRemoved(trimmedId, playerId);
             queueSave();
             if (rankCacheInvalidator != null) {
                 rankCacheInvalidator.accept(playerId);
@@ -657,6 +1219,15 @@ public class ProgressStore {
         return removed;
     }
 
+    private List<UUID> loadPlayerIdsWithMapProgress(String mapId) {
+        String sql = "SELECT player_uuid FROM player_completions WHERE map_id = ?"
+                + " UNION SELECT player_uuid FROM player_checkpoint_times WHERE map_id = ?";
+        return DatabaseManager.queryList(this.db, sql, stmt -> {
+            stmt.setString(1, mapId);
+            stmt.setString(2, mapId);
+        }, rs -> UUID.fromString(rs.getString("player_uuid")));
+    }
+
     private void deletePlayerMapCompletion(UUID playerId, String mapId) {
         if (!this.db.isInitialized()) return;
 
@@ -686,39 +1257,61 @@ public class ProgressStore {
     public void addPlaytime(UUID playerId, String playerName, long deltaMs) {
         if (playerId == null || deltaMs <= 0L) return;
 
-        fileLock.writeLock().lock();
+        ReentrantLock lock = lockResidentPlayer(playerId);
         try {
-            PlayerProgress playerProgress = progress.computeIfAbsent(playerId, ignored -> new PlayerProgress());
+            PlayerProgress playerProgress = resolveOrCreateProgress(playerId);
             storePlayerName(playerId, playerName);
             playerProgress.playtimeMs = Math.max(0L, playerProgress.playtimeMs + deltaMs);
             markDirty(playerId);
         } finally {
-            fileLock.writeLock().unlock();
+            unlockPlayer(lock);
         }
         queueSave();
     }
 
     public long getPlaytimeMs(UUID playerId) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        PlayerProgress playerProgress = peekProgress(playerId);
         return playerProgress != null ? playerProgress.playtimeMs : 0L;
     }
 
+    /**
+     * Playtime of every known player. In lazy mode this is one query over the players table overlaid
+     * with resident players, so listing offline players does not load them.
+     */
+    public java.util.Map<UUID, Long> getPlaytimeSnapshot() {
+        java.util.Map<UUID, Long> playtimes = new HashMap<>();
+        if (isLazyLoading() && this.db.isInitialized()) {
+            List<Object[]> rows = DatabaseManager.queryList(this.db, "SELECT uuid, playtime_ms FROM players",
+                    rs -> new Object[]{UUID.fromString(rs.getString("uuid")), rs.getLong("playtime_ms")});
+            for (Object[] row : rows) {
+                UUID playerId = (UUID) row[0];
+                if (knownPlayerIds.contains(playerId)) {
+                    playtimes.put(playerId, (Long) row[1]);
+                }
+            }
+        }
+        for (java.util.Map.Entry<UUID, PlayerProgress> entry : progress.entrySet()) {
+            playtimes.put(entry.getKey(), entry.getValue().playtimeMs);
+        }
+        return playtimes;
+    }
+
     public long getJumpCount(UUID playerId) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        PlayerProgress playerProgress = peekProgress(playerId);
         return playerProgress != null ? playerProgress.jumpCount : 0L;
     }
 
     public void addJumps(UUID playerId, String playerName, int count) {
         if (playerId == null || count <= 0) return;
 
-        fileLock.writeLock().lock();
+        ReentrantLock lock = lockResidentPlayer(playerId);
         try {
-            PlayerProgress playerProgress = progress.computeIfAbsent(playerId, ignored -> new PlayerProgress());
+            PlayerProgress playerProgress = resolveOrCreateProgress(playerId);
             storePlayerName(playerId, playerName);
             playerProgress.jumpCount = Math.max(0L, playerProgress.jumpCount + count);
             markDirty(playerId);
         } finally {
-            fileLock.writeLock().unlock();
+            unlockPlayer(lock);
         }
         queueSave();
     }
@@ -762,7 +1355,7 @@ public class ProgressStore {
     }
 
     private long getPlayerCompletionXp(UUID playerId, MapStore mapStore) {
-        PlayerProgress playerProgress = progress.get(playerId);
+        PlayerProgress playerProgress = peekProgress(playerId);
         if (playerProgress == null) return 0L;
         return calculateCompletionXp(playerProgress, mapStore);
     }
@@ -813,7 +1406,7 @@ public class ProgressStore {
             return;
         }
         for (String mapId : playerProgress.bestMapTimes.keySet()) {
-            leaderboardCache.invalidateLeaderboardCache(mapId);
+            leaderboardCache.invalidateDisplay(mapId);
         }
     }
 
@@ -839,9 +1432,10 @@ public class ProgressStore {
 
     private void queueSave(long delayMs) {
         if (!saveQueued.compareAndSet(false, true)) return;
-        ScheduledFuture<?> future = HytaleServer.SCHEDULED_EXECUTOR.schedule(() -> {
+        ScheduledFuture<?> future = saveExecutor().schedule(() -> {
             try {
                 syncSave();
+                trimResidentPlayers();
             } finally {
                 saveFuture.set(null);
                 saveQueued.set(false);
@@ -859,7 +1453,11 @@ public class ProgressStore {
         if (toSave.isEmpty()) return;
         if (!this.db.isInitialized()) return;
         java.util.Map<UUID, Long> skippedIds = new HashMap<>();
-        List<UUID> batchedIds = new ArrayList<>();
+        List<PlayerRow> rows = snapshotRows(toSave, skippedIds);
+        if (rows.isEmpty()) {
+            clearSavedVersions(skippedIds);
+            return;
+        }
 
         String sql = """
             INSERT INTO players (uuid, name, xp, level, welcome_shown, playtime_ms, vip, founder, teleport_item_use_count, jump_count)
@@ -873,30 +1471,18 @@ public class ProgressStore {
 
         try (Connection conn = this.db.getConnection();
              PreparedStatement stmt = DatabaseManager.prepare(conn, sql)) {
-            for (java.util.Map.Entry<UUID, Long> dirtyEntry : toSave.entrySet()) {
-                UUID playerId = dirtyEntry.getKey();
-                PlayerProgress playerProgress = progress.get(playerId);
-                if (playerProgress == null) {
-                    skippedIds.put(playerId, dirtyEntry.getValue());
-                    continue;
-                }
-
-                stmt.setString(1, playerId.toString());
-                stmt.setString(2, lastKnownNames.get(playerId));
-                stmt.setLong(3, playerProgress.xp);
-                stmt.setInt(4, playerProgress.level);
-                stmt.setBoolean(5, playerProgress.welcomeShown);
-                stmt.setLong(6, playerProgress.playtimeMs);
-                stmt.setBoolean(7, playerProgress.vip);
-                stmt.setBoolean(8, playerProgress.founder);
-                stmt.setInt(9, playerProgress.teleportItemUseCount);
-                stmt.setLong(10, playerProgress.jumpCount);
+            for (PlayerRow row : rows) {
+                stmt.setString(1, row.playerId().toString());
+                stmt.setString(2, row.name());
+                stmt.setLong(3, row.xp());
+                stmt.setInt(4, row.level());
+                stmt.setBoolean(5, row.welcomeShown());
+                stmt.setLong(6, row.playtimeMs());
+                stmt.setBoolean(7, row.vip());
+                stmt.setBoolean(8, row.founder());
+                stmt.setInt(9, row.teleportItemUseCount());
+                stmt.setLong(10, row.jumpCount());
                 stmt.addBatch();
-                batchedIds.add(playerId);
-            }
-            if (batchedIds.isEmpty()) {
-                clearSavedVersions(skippedIds);
-                return;
             }
             stmt.executeBatch();
             clearSavedVersions(toSave);
@@ -907,6 +1493,42 @@ public class ProgressStore {
         }
     }
 
+    /**
+     * Copies the players row of each dirty player under its stripe, so the batch write below runs
+     * without holding any lock. Players no longer in memory are collected into {@code skippedIds}.
+     */
+    private List<PlayerRow> snapshotRows(java.util.Map<UUID, Long> toSave, java.util.Map<UUID, Long> skippedIds) {
+        List<PlayerRow> rows = new ArrayList<>(toSave.size());
+        fileLock.readLock().lock();
+        try {
+            for (java.util.Map.Entry<UUID, Long> dirtyEntry : toSave.entrySet()) {
+                UUID playerId = dirtyEntry.getKey();
+                ReentrantLock lock = playerLock(playerId);
+                lock.lock();
+                try {
+                    PlayerProgress playerProgress = progress.get(playerId);
+                    if (playerProgress == null) {
+                        skippedIds.put(playerId, dirtyEntry.getValue());
+                        continue;
+                    }
+                    rows.add(new PlayerRow(playerId, lastKnownNames.get(playerId), playerProgress.xp,
+                            playerProgress.level, playerProgress.welcomeShown, playerProgress.playtimeMs,
+                            playerProgress.vip, playerProgress.founder, playerProgress.teleportItemUseCount,
+                            playerProgress.jumpCount));
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            fileLock.readLock().unlock();
+        }
+        return rows;
+    }
+
+    private record PlayerRow(UUID playerId, String name, long xp, int level, boolean welcomeShown,
+                             long playtimeMs, boolean vip, boolean founder, int teleportItemUseCount,
+                             long jumpCount) {}
+
     private void clearSavedVersions(java.util.Map<UUID, Long> snapshot) {
         for (java.util.Map.Entry<UUID, Long> entry : snapshot.entrySet()) {
             UUID playerId = entry.getKey();
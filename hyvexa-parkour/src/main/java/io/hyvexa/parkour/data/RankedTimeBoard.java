@@ -0,0 +1,110 @@
+package io.hyvexa.parkour.data;
+
+import io.hyvexa.common.util.RankedBoard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Incremental per-map leaderboard ordered by (best time, arrival sequence, player UUID).
+ * <p>
+ * Backed by a {@link RankedBoard}, so inserting or improving a time, removing a player,
+ * rank-of-player and top-N queries all run in O(log n) (plus N for range reads) instead of
+ * re-sorting every player on each change. Ties on time keep the order in which the times
+ * were recorded.
+ * <p>
+ * Not thread-safe on its own; callers must synchronize on the board.
+ */
+final class RankedTimeBoard {
+
+    // A null player sorts before every player, so probes can count entries ahead of a bare time.
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::time)
+            .thenComparingLong(Entry::sequence)
+            .thenComparing(Entry::playerId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private record Entry(long time, long sequence, UUID playerId) {}
+
+    private final RankedBoard<UUID, Entry> board = new RankedBoard<>(ORDER);
+    private long nextSequence;
+
+    int size() {
+        return board.size();
+    }
+
+    boolean isEmpty() {
+        return board.isEmpty();
+    }
+
+    Long getTime(UUID playerId) {
+        Entry entry = board.get(playerId);
+        return entry != null ? entry.time : null;
+    }
+
+    Long getBestTime() {
+        Entry entry = board.first();
+        return entry != null ? entry.time : null;
+    }
+
+    /**
+     * Sets the player's time, replacing any previous entry. Returns false when the player
+     * already holds exactly this time, in which case their tie-break order is kept.
+     */
+    boolean put(UUID playerId, long timeMs) {
+        Entry existing = board.get(playerId);
+        if (existing != null && existing.time == timeMs) {
+            return false;
+        }
+        return board.put(playerId, new Entry(timeMs, nextSequence++, playerId));
+    }
+
+    boolean remove(UUID playerId) {
+        return board.remove(playerId);
+    }
+
+    /** 1-based position in sort order, or -1 when the player has no time. */
+    int ordinalOf(UUID playerId) {
+        return board.rankOf(playerId);
+    }
+
+    /**
+     * 1-based competition rank: players whose times display the same to the centisecond share a
+     * position, and the next distinct time skips ahead. Returns -1 when the player has no time.
+     */
+    int positionOf(UUID playerId) {
+        Entry entry = board.get(playerId);
+        if (entry == null) {
+            return -1;
+        }
+        // round(ms / 10.0) < c  <=>  ms < 10c - 5
+        long threshold = toDisplayedCentiseconds(entry.time) * 10L - 5L;
+        return board.countBefore(new Entry(threshold, Long.MIN_VALUE, null)) + 1;
+    }
+
+    /** First {@code limit} entries in rank order. */
+    List<Map.Entry<UUID, Long>> top(int limit) {
+        List<Entry> ranked = board.range(0, limit);
+        List<Map.Entry<UUID, Long>> out = new ArrayList<>(ranked.size());
+        for (Entry entry : ranked) {
+            out.add(Map.entry(entry.playerId, entry.time));
+        }
+        return out;
+    }
+
+    List<Map.Entry<UUID, Long>> entries() {
+        return top(size());
+    }
+
+    Map<UUID, Long> timesByPlayer() {
+        Map<UUID, Long> times = new HashMap<>(board.size() * 2);
+        board.forEach((playerId, entry) -> times.put(playerId, entry.time));
+        return times;
+    }
+
+    static long toDisplayedCentiseconds(long durationMs) {
+        return Math.round(durationMs / 10.0);
+    }
+}
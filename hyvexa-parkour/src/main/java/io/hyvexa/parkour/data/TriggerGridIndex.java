@@ -0,0 +1,213 @@
+package io.hyvexa.parkour.data;
+
+import java.util.Arrays;
+
+/**
+ * Immutable uniform-grid index of point triggers, bucketed by (x, z) column.
+ * <p>
+ * Lookups only visit the columns overlapping the query sphere, so the cost is proportional to the
+ * triggers near the query point instead of every trigger in the world. When several triggers match,
+ * the one added first wins, which mirrors a linear scan over the insertion order.
+ * <p>
+ * Instances are built once and never mutated, so they can be published through a volatile field and
+ * read without locking.
+ */
+final class TriggerGridIndex<T> {
+
+    static final double DEFAULT_CELL_SIZE = 8.0;
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final double cellSize;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final Object[] values;
+
+    // Open-addressing table: column key -> [cellStart, cellStart + cellCount) in cellEntries.
+    private final long[] cellKeys;
+    private final int[] cellStart;
+    private final int[] cellCount;
+    private final boolean[] cellUsed;
+    private final int cellMask;
+    private final int usedCells;
+    private final int[] cellEntries;
+
+    private TriggerGridIndex(double cellSize, double[] xs, double[] ys, double[] zs, Object[] values) {
+        this.cellSize = cellSize;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.values = values;
+
+        int size = values.length;
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = columnKey(cellCoord(xs[i]), cellCoord(zs[i]));
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(4, size * 2 - 1)) << 1;
+        this.cellKeys = new long[capacity];
+        this.cellStart = new int[capacity];
+        this.cellCount = new int[capacity];
+        this.cellUsed = new boolean[capacity];
+        this.cellMask = capacity - 1;
+
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            int slot = findSlot(keys[i]);
+            if (!cellUsed[slot]) {
+                cellUsed[slot] = true;
+                cellKeys[slot] = keys[i];
+                distinct++;
+            }
+            cellCount[slot]++;
+        }
+        this.usedCells = distinct;
+
+        int offset = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (cellUsed[slot]) {
+                cellStart[slot] = offset;
+                offset += cellCount[slot];
+            }
+        }
+
+        // Fill in insertion order so every bucket is sorted by entry index.
+        this.cellEntries = new int[size];
+        int[] fill = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            int slot = findSlot(keys[i]);
+            cellEntries[cellStart[slot] + fill[slot]++] = i;
+        }
+    }
+
+    static <T> Builder<T> builder() {
+        return new Builder<>(DEFAULT_CELL_SIZE);
+    }
+
+    static <T> Builder<T> builder(double cellSize) {
+        return new Builder<>(cellSize);
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the first-added value whose trigger point lies within {@code sqrt(radiusSq)} of the
+     * given position, or {@code null} when none does.
+     */
+    @SuppressWarnings("unchecked")
+    T findFirstWithin(double x, double y, double z, double radiusSq) {
+        if (values.length == 0 || !(radiusSq >= 0.0)) {
+            return null;
+        }
+        double radius = Math.sqrt(radiusSq);
+        long minCx = cellCoord(x - radius);
+        long maxCx = cellCoord(x + radius);
+        long minCz = cellCoord(z - radius);
+        long maxCz = cellCoord(z + radius);
+        double span = ((double) maxCx - minCx + 1.0) * ((double) maxCz - minCz + 1.0);
+
+        int best = NO_MATCH;
+        if (span > usedCells) {
+            // Query covers more columns than exist; scanning everything is cheaper.
+            for (int i = 0; i < values.length; i++) {
+                if (isWithin(i, x, y, z, radiusSq)) {
+                    best = i;
+                    break;
+                }
+            }
+        } else {
+            for (long cx = minCx; cx <= maxCx; cx++) {
+                for (long cz = minCz; cz <= maxCz; cz++) {
+                    int slot = findSlot(columnKey(cx, cz));
+                    if (!cellUsed[slot]) {
+                        continue;
+                    }
+                    int start = cellStart[slot];
+                    int end = start + cellCount[slot];
+                    for (int j = start; j < end; j++) {
+                        int entry = cellEntries[j];
+                        if (entry >= best) {
+                            break;
+                        }
+                        if (isWithin(entry, x, y, z, radiusSq)) {
+                            best = entry;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return best == NO_MATCH ? null : (T) values[best];
+    }
+
+    private boolean isWithin(int entry, double x, double y, double z, double radiusSq) {
+        double dx = x - xs[entry];
+        double dy = y - ys[entry];
+        double dz = z - zs[entry];
+        return dx * dx + dy * dy + dz * dz <= radiusSq;
+    }
+
+    private long cellCoord(double value) {
+        return (long) Math.floor(value / cellSize);
+    }
+
+    private static long columnKey(long cx, long cz) {
+        return (cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private int findSlot(long key) {
+        int slot = mix(key) & cellMask;
+        while (cellUsed[slot] && cellKeys[slot] != key) {
+            slot = (slot + 1) & cellMask;
+        }
+        return slot;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    static final class Builder<T> {
+        private final double cellSize;
+        private double[] xs = new double[16];
+        private double[] ys = new double[16];
+        private double[] zs = new double[16];
+        private Object[] values = new Object[16];
+        private int size;
+
+        private Builder(double cellSize) {
+            if (!(cellSize > 0.0) || Double.isInfinite(cellSize)) {
+                throw new IllegalArgumentException("Cell size must be positive and finite.");
+            }
+            this.cellSize = cellSize;
+        }
+
+        Builder<T> add(double x, double y, double z, T value) {
+            if (size == values.length) {
+                int grown = size * 2;
+                xs = Arrays.copyOf(xs, grown);
+                ys = Arrays.copyOf(ys, grown);
+                zs = Arrays.copyOf(zs, grown);
+                values = Arrays.copyOf(values, grown);
+            }
+            xs[size] = x;
+            ys[size] = y;
+            zs[size] = z;
+            values[size] = value;
+            size++;
+            return this;
+        }
+
+        TriggerGridIndex<T> build() {
+            return new TriggerGridIndex<>(cellSize,
+                    Arrays.copyOf(xs, size),
+                    Arrays.copyOf(ys, size),
+                    Arrays.copyOf(zs, size),
+                    Arrays.copyOf(values, size));
+        }
+    }
+}
@@ -16,9 +16,10 @@ import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.npc.NPCPlugin;
+import io.hyvexa.common.ghost.GhostPlaybackCursor;
 import io.hyvexa.common.ghost.GhostRecording;
-import io.hyvexa.common.ghost.GhostSample;
 import io.hyvexa.common.ghost.GhostStore;
+import io.hyvexa.common.ghost.MutableGhostSample;
 import io.hyvexa.common.util.EntityUtils;
 import io.hyvexa.common.util.OrphanedEntityCleanup;
 import io.hyvexa.common.visibility.EntityVisibilityManager;
@@ -47,6 +48,8 @@ public class GhostNpcManager {
     private final GhostStore ghostStore;
     private final MapStore mapStore;
     private final ConcurrentHashMap<UUID, GhostNpcState> activeGhosts = new ConcurrentHashMap<>();
+    // Spawns waiting for a recording that was not cached yet; replaced by a newer spawn, cleared by despawn
+    private final ConcurrentHashMap<UUID, PendingSpawn> pendingSpawns = new ConcurrentHashMap<>();
     private final OrphanedEntityCleanup orphanCleanup;
     private ScheduledFuture<?> tickTask;
     private volatile NPCPlugin npcPlugin;
@@ -96,6 +99,11 @@ public class GhostNpcManager {
         activeGhosts.clear();
     }
 
+    /** Warms the player's recordings in the background so a later {@link #spawnGhost} finds them cached. */
+    public void prefetchRecordings(UUID playerId) {
+        ghostStore.prefetchRecordings(playerId);
+    }
+
     public void spawnGhost(UUID playerId, String mapId) {
         if (npcPlugin == null || playerId == null || mapId == null) {
             return;
@@ -107,17 +115,39 @@ public class GhostNpcManager {
 
         GhostRecording recording = ghostStore.getRecording(playerId, mapId);
         if (recording == null) {
+            if (ghostStore.hasRecording(playerId, mapId)) {
+                spawnWhenLoaded(playerId, mapId);
+            }
             return; // No recording, no ghost
         }
 
+        // Despawn existing ghost for this player first
+        despawnGhost(playerId);
+        spawnLoadedGhost(playerId, mapId, recording, 0L);
+    }
+
+    /** The recording is stored but not cached: spawn once the background load lands, unless superseded. */
+    private void spawnWhenLoaded(UUID playerId, String mapId) {
+        despawnGhost(playerId);
+        PendingSpawn pending = new PendingSpawn();
+        pendingSpawns.put(playerId, pending);
+        ghostStore.loadRecordingAsync(playerId, mapId).thenAccept(recording -> {
+            synchronized (pending) {
+                // Registered before the pending entry goes away, so startPlayback always reaches one of them
+                if (recording != null && pendingSpawns.get(playerId) == pending) {
+                    spawnLoadedGhost(playerId, mapId, recording, pending.playbackStartMs);
+                }
+                pendingSpawns.remove(playerId, pending);
+            }
+        });
+    }
+
+    private void spawnLoadedGhost(UUID playerId, String mapId, GhostRecording recording, long playbackStartMs) {
         Map map = mapStore.getMapReadonly(mapId);
         if (map == null || map.getStart() == null) {
             return;
         }
 
-        // Despawn existing ghost for this player first
-        despawnGhost(playerId);
-
         String worldName = map.getWorld();
         if (worldName == null || worldName.isEmpty()) {
             return;
@@ -129,6 +159,7 @@ public class GhostNpcManager {
         }
 
         GhostNpcState state = new GhostNpcState(playerId, mapId, recording, worldName);
+        state.playbackStartMs = playbackStartMs;
         activeGhosts.put(playerId, state);
 
         state.spawning = true;
@@ -136,17 +167,25 @@ public class GhostNpcManager {
     }
 
     public void startPlayback(UUID playerId) {
+        long now = System.currentTimeMillis();
+        PendingSpawn pending = pendingSpawns.get(playerId);
+        if (pending != null) {
+            synchronized (pending) {
+                pending.playbackStartMs = now;
+            }
+        }
         GhostNpcState state = activeGhosts.get(playerId);
         if (state == null) {
             return;
         }
-        state.playbackStartMs = System.currentTimeMillis();
+        state.playbackStartMs = now;
     }
 
     public void despawnGhost(UUID playerId) {
         if (playerId == null) {
             return;
         }
+        pendingSpawns.remove(playerId);
         GhostNpcState state = activeGhosts.remove(playerId);
         if (state == null) {
             return;
@@ -320,16 +359,21 @@ public class GhostNpcManager {
             return true;
         }
 
-        GhostSample sample = recording.interpolateAt(progress);
-        double[] targetPos = sample.toPositionArray();
+        MutableGhostSample sample = state.playbackSample;
+        if (!state.playbackCursor.sample(progress, sample)) {
+            return true;
+        }
+        double x = sample.x();
+        double y = sample.y();
+        double z = sample.z();
         float yaw = sample.yaw();
 
-        world.execute(() -> teleportNpc(entityRef, world, targetPos, yaw));
+        world.execute(() -> teleportNpc(entityRef, world, x, y, z, yaw));
         return false;
     }
 
     private void teleportNpc(Ref<EntityStore> entityRef, World world,
-                             double[] targetPos, float yaw) {
+                             double x, double y, double z, float yaw) {
         if (entityRef == null || !entityRef.isValid()) {
             return;
         }
@@ -338,7 +382,7 @@ public class GhostNpcManager {
             if (store == null) {
                 return;
             }
-            Vector3d targetVec = new Vector3d(targetPos[0], targetPos[1], targetPos[2]);
+            Vector3d targetVec = new Vector3d(x, y, z);
             Vector3f rotation = new Vector3f(0, yaw, 0);
             store.addComponent(entityRef, Teleport.getComponentType(),
                 new Teleport(world, targetVec, rotation));
@@ -347,11 +391,19 @@ public class GhostNpcManager {
         }
     }
 
+    private static class PendingSpawn {
+        // Guarded by the instance; set if the run starts moving before the recording has loaded.
+        long playbackStartMs;
+    }
+
     private static class GhostNpcState {
         final UUID ownerId;
         final String mapId;
         final GhostRecording recording;
         final String worldName;
+        // Only touched by the ghost tick.
+        final GhostPlaybackCursor playbackCursor;
+        final MutableGhostSample playbackSample = new MutableGhostSample();
         volatile Ref<EntityStore> entityRef;
         volatile UUID entityUuid;
         volatile long playbackStartMs;
@@ -362,6 +414,7 @@ public class GhostNpcManager {
             this.mapId = mapId;
             this.recording = recording;
             this.worldName = worldName;
+            this.playbackCursor = new GhostPlaybackCursor(recording);
         }
     }
 
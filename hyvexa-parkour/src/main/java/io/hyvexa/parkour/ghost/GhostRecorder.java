@@ -1,18 +1,10 @@
 package io.hyvexa.parkour.ghost;
 
 import com.hypixel.hytale.logger.HytaleLogger;
-import com.hypixel.hytale.math.vector.Vector3d;
-import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
 import io.hyvexa.common.ghost.AbstractGhostRecorder;
-import io.hyvexa.common.ghost.GhostRecording;
-import io.hyvexa.common.ghost.GhostSample;
 import io.hyvexa.common.ghost.GhostStore;
 
-import java.util.List;
-import java.util.UUID;
-
-public class GhostRecorder extends AbstractGhostRecorder<GhostSample, GhostRecording> {
+public class GhostRecorder extends AbstractGhostRecorder {
 
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
 
@@ -24,25 +16,4 @@ public class GhostRecorder extends AbstractGhostRecorder<GhostSample, GhostRecor
     protected HytaleLogger logger() {
         return LOGGER;
     }
-
-    @Override
-    protected PlayerRef resolvePlayerRef(UUID playerId) {
-        return Universe.get().getPlayer(playerId);
-    }
-
-    @Override
-    protected GhostRecording createRecording(List<GhostSample> samples, long completionTimeMs) {
-        return new GhostRecording(samples, completionTimeMs);
-    }
-
-    @Override
-    protected GhostSample createSample(Vector3d position, float yaw, long timestampMs) {
-        return new GhostSample(
-                position.getX(),
-                position.getY(),
-                position.getZ(),
-                yaw,
-                timestampMs
-        );
-    }
 }
@@ -0,0 +1,286 @@
+package io.hyvexa.parkour.tracker;
+
+import io.hyvexa.common.util.FormatUtils;
+import io.hyvexa.parkour.data.Medal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Change detection and pending UI property sets for one run HUD.
+ * <p>
+ * Each field keeps the last value sent as a typed value; setting an unchanged value queues nothing.
+ * Between {@link #begin()} and {@link #end(Sink)} changes accumulate so a whole tick goes out as a
+ * single update. Outside a frame every change is flushed straight away. Not thread-safe; the owning
+ * HUD serializes access.
+ */
+public final class RunHudFrame {
+
+    /** Receives one combined update: parallel lists of selectors and String/Boolean/Float values. */
+    interface Sink {
+        void send(List<String> selectors, List<Object> values);
+    }
+
+    private static final Map<String, String> SPLIT_OVERLAY_MAP = Map.of(
+        "#1E4A7A", "SplitFast",
+        "#6A1E1E", "SplitSlow",
+        "#000000", "SplitTie"
+    );
+    private static final String[] SPLIT_IDS = {"SplitFast", "SplitSlow", "SplitTie"};
+    private static final String[] VEXA_GOD_LETTERS = {"V", "E", "X", "A", "G", "O", "D"};
+    private static final String[] VEXA_GOD_TEXT = {"V", "e", "x", "a", "G", "o", "d"};
+
+    private record CheckpointSplit(String text, String color, boolean visible) {}
+
+    private record Info(String playerName, String rankName, int completedMaps, int totalMaps, String serverIp) {}
+
+    private record Announcements(String line1, String line2, String line3) {}
+
+    private record AdvancedHud(String orientation, String velocity, String speed, String position) {}
+
+    /** Medal notification animation state for one frame; {@code null} hides the notification. */
+    public record MedalNotif(Medal medal, int feathers, boolean iconVisible, boolean titleVisible,
+                             String titleColor, boolean featherVisible, boolean barVisible, float barValue) {}
+
+    private final List<String> selectors = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+    private boolean batching;
+
+    private String lastTimeText;
+    private String lastCheckpointText;
+    private CheckpointSplit lastCheckpointSplit;
+    private Info lastInfo;
+    private Announcements lastAnnouncements;
+    private int lastPlayerCount = -1;
+    private long lastVexa = -1;
+    private long lastFeathers = -1;
+    private AdvancedHud lastAdvancedHud;
+    private Boolean lastAdvancedHudVisible;
+    private MedalNotif lastMedalNotif;
+
+    // ---- Frame lifecycle ----
+
+    void begin() {
+        batching = true;
+    }
+
+    /** Closes the frame and sends everything it collected as one update. */
+    boolean end(Sink sink) {
+        batching = false;
+        return flush(sink);
+    }
+
+    /** Sends pending changes now unless a frame is open. */
+    boolean flushIfUnbatched(Sink sink) {
+        return !batching && flush(sink);
+    }
+
+    boolean isEmpty() {
+        return selectors.isEmpty();
+    }
+
+    private boolean flush(Sink sink) {
+        if (selectors.isEmpty()) {
+            return false;
+        }
+        try {
+            sink.send(selectors, values);
+        } finally {
+            selectors.clear();
+            values.clear();
+        }
+        return true;
+    }
+
+    void set(String selector, String value) {
+        selectors.add(selector);
+        values.add(value);
+    }
+
+    void set(String selector, boolean value) {
+        selectors.add(selector);
+        values.add(value);
+    }
+
+    void set(String selector, float value) {
+        selectors.add(selector);
+        values.add(value);
+    }
+
+    // ---- Fields ----
+
+    void timeText(String timeText) {
+        String safeText = timeText != null ? timeText : "";
+        if (safeText.equals(lastTimeText)) {
+            return;
+        }
+        lastTimeText = safeText;
+        set("#RunTimerText.Text", safeText);
+    }
+
+    void checkpointText(String checkpointText) {
+        String safeText = checkpointText != null ? checkpointText : "";
+        if (safeText.equals(lastCheckpointText)) {
+            return;
+        }
+        lastCheckpointText = safeText;
+        set("#RunCheckpointText.Text", safeText);
+    }
+
+    void checkpointSplit(String splitText, String splitColor, boolean visible) {
+        CheckpointSplit split = new CheckpointSplit(splitText != null ? splitText : "",
+                splitColor != null ? splitColor : "#000000", visible);
+        if (split.equals(lastCheckpointSplit)) {
+            return;
+        }
+        lastCheckpointSplit = split;
+        set("#CheckpointSplitHud.Visible", visible);
+        String targetOverlay = SPLIT_OVERLAY_MAP.getOrDefault(split.color(), "SplitTie");
+        for (String id : SPLIT_IDS) {
+            set("#CheckpointSplitHud #" + id + ".Visible", id.equals(targetOverlay));
+        }
+        set("#CheckpointSplitText.Text", split.text());
+        set("#CheckpointSplitText.Style.TextColor", "#FFFFFF");
+    }
+
+    void info(String playerName, String rankName, int completedMaps, int totalMaps, String serverIp) {
+        Info info = new Info(playerName != null ? playerName : "", rankName != null ? rankName : "",
+                completedMaps, totalMaps, serverIp != null ? serverIp : "");
+        if (info.equals(lastInfo)) {
+            return;
+        }
+        lastInfo = info;
+        set("#PlayerNameText.Text", "Parkour");
+        set("#PlayerXpValue.Style.TextColor", FormatUtils.getRankColor(info.rankName()));
+        boolean isVexaGod = "VexaGod".equals(info.rankName());
+        set("#PlayerXpValue.Text", isVexaGod ? "" : info.rankName());
+        for (int i = 0; i < VEXA_GOD_LETTERS.length; i++) {
+            set("#PlayerRank" + VEXA_GOD_LETTERS[i] + ".Text", isVexaGod ? VEXA_GOD_TEXT[i] : "");
+        }
+        set("#PlayerMapsValue.Text", completedMaps + "/" + totalMaps);
+        set("#ServerIpText.Text", "IP: " + info.serverIp());
+    }
+
+    void announcements(List<String> lines) {
+        int count = lines != null ? lines.size() : 0;
+        Announcements announcements = new Announcements(
+                count > 0 ? lines.get(0) : "",
+                count > 1 ? lines.get(1) : "",
+                count > 2 ? lines.get(2) : "");
+        if (announcements.equals(lastAnnouncements)) {
+            return;
+        }
+        lastAnnouncements = announcements;
+        set("#AnnouncementLine1.Text", announcements.line1());
+        set("#AnnouncementLine2.Text", announcements.line2());
+        set("#AnnouncementLine3.Text", announcements.line3());
+    }
+
+    void advancedHud(boolean visible, String orientation, String velocity, String speed, String position) {
+        if (lastAdvancedHudVisible == null || lastAdvancedHudVisible != visible) {
+            lastAdvancedHudVisible = visible;
+            set("#AdvancedHudRoot.Visible", visible);
+            if (!visible) {
+                lastAdvancedHud = null;
+                return;
+            }
+        }
+        if (!visible) {
+            return;
+        }
+        AdvancedHud values = new AdvancedHud(orientation != null ? orientation : "",
+                velocity != null ? velocity : "", speed != null ? speed : "", position != null ? position : "");
+        if (values.equals(lastAdvancedHud)) {
+            return;
+        }
+        lastAdvancedHud = values;
+        set("#OrientationValue.Text", values.orientation());
+        set("#VelocityValue.Text", values.velocity());
+        set("#SpeedValue.Text", values.speed());
+        set("#PositionValue.Text", values.position());
+    }
+
+    void vexa(long vexa) {
+        if (vexa == lastVexa) {
+            return;
+        }
+        lastVexa = vexa;
+        set("#PlayerVexaValue.Text", String.valueOf(vexa));
+    }
+
+    void feathers(long feathers) {
+        if (feathers == lastFeathers) {
+            return;
+        }
+        lastFeathers = feathers;
+        set("#PlayerFeatherValue.Text", String.valueOf(feathers));
+    }
+
+    void playerCount(int count) {
+        if (count == lastPlayerCount) {
+            return;
+        }
+        lastPlayerCount = count;
+        set("#PlayerCountText.Text", String.valueOf(count));
+    }
+
+    void medalNotif(MedalNotif notif) {
+        if (notif == null) {
+            if (lastMedalNotif == null) {
+                return;
+            }
+            lastMedalNotif = null;
+            set("#MedalNotif.Visible", false);
+            return;
+        }
+        if (notif.equals(lastMedalNotif)) {
+            return;
+        }
+        lastMedalNotif = notif;
+        Medal medal = notif.medal();
+        set("#MedalNotif.Visible", true);
+
+        // Icon: show only the correct medal's icon
+        set("#MedalNotifBronzeIcon.Visible", notif.iconVisible() && medal == Medal.BRONZE);
+        set("#MedalNotifSilverIcon.Visible", notif.iconVisible() && medal == Medal.SILVER);
+        set("#MedalNotifGoldIcon.Visible", notif.iconVisible() && medal == Medal.GOLD);
+        set("#MedalNotifEmeraldIcon.Visible", notif.iconVisible() && medal == Medal.EMERALD);
+        set("#MedalNotifInsaneIcon.Visible", notif.iconVisible() && medal == Medal.INSANE);
+
+        set("#MedalNotifTitle.Visible", notif.titleVisible());
+        if (notif.titleVisible()) {
+            set("#MedalNotifTitle.Text", medal.name() + " MEDAL!");
+            set("#MedalNotifTitle.Style.TextColor", notif.titleColor());
+        }
+
+        set("#MedalNotifFeatherRow.Visible", notif.featherVisible());
+        if (notif.featherVisible()) {
+            set("#MedalNotifFeathers.Text", "+" + notif.feathers() + " feathers");
+        }
+
+        set("#MedalNotifBarBronze.Visible", notif.barVisible() && medal == Medal.BRONZE);
+        set("#MedalNotifBarSilver.Visible", notif.barVisible() && medal == Medal.SILVER);
+        set("#MedalNotifBarGold.Visible", notif.barVisible() && medal == Medal.GOLD);
+        set("#MedalNotifBarEmerald.Visible", notif.barVisible() && medal == Medal.EMERALD);
+        set("#MedalNotifBarInsane.Visible", notif.barVisible() && medal == Medal.INSANE);
+        if (notif.barVisible()) {
+            String name = medal.name();
+            set("#MedalNotifBar" + name.charAt(0) + name.substring(1).toLowerCase() + ".Value", notif.barValue());
+        }
+    }
+
+    void reset() {
+        lastTimeText = null;
+        lastCheckpointText = null;
+        lastCheckpointSplit = null;
+        lastInfo = null;
+        lastAnnouncements = null;
+        lastPlayerCount = -1;
+        lastVexa = -1;
+        lastFeathers = -1;
+        lastAdvancedHud = null;
+        lastAdvancedHudVisible = null;
+        lastMedalNotif = null;
+    }
+}
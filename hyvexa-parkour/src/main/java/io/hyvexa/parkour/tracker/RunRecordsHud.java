@@ -4,13 +4,20 @@ import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import io.hyvexa.common.util.FormatUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class RunRecordsHud extends RunHud {
 
     private static final String MEDAL_DEFAULT_COLOR = "#e7f1f4";
-    private String lastRecordsKey;
-    private String lastMedalsKey;
+    private static final MedalThresholds HIDDEN_MEDALS = new MedalThresholds(null, null, null, null);
+
+    /** Medal thresholds shown in the HUD; {@link #HIDDEN_MEDALS} hides the panel. */
+    private record MedalThresholds(Long bronzeMs, Long silverMs, Long goldMs, Long emeraldMs) {}
+
+    private List<RecordLine> lastRecords;
+    private MedalThresholds lastMedals;
 
     public RunRecordsHud(PlayerRef playerRef) {
         super(playerRef);
@@ -22,94 +29,78 @@ public class RunRecordsHud extends RunHud {
         commandBuilder.append("Pages/Parkour_RunRecordsHud.ui");
     }
 
-    public void updateRunDetails(String timeText, List<RecordLine> lines) {
+    public synchronized void updateRunDetails(String timeText, List<RecordLine> lines) {
         updateText(timeText);
         updateTopTimes(lines);
     }
 
-    public void updateTopTimes(List<RecordLine> lines) {
+    public synchronized void updateTopTimes(List<RecordLine> lines) {
         List<RecordLine> safeLines = lines != null ? lines : List.of();
-        RecordLine[] resolved = new RecordLine[5];
-        StringBuilder keyBuilder = new StringBuilder();
+        List<RecordLine> resolved = new ArrayList<>(6);
         for (int i = 0; i < 5; i++) {
-            RecordLine line = i < safeLines.size() ? safeLines.get(i) : RecordLine.empty(i + 1);
-            resolved[i] = line;
-            appendLineKey(keyBuilder, line);
+            resolved.add(i < safeLines.size() ? safeLines.get(i) : RecordLine.empty(i + 1));
         }
-        RecordLine self = safeLines.size() > 5 ? safeLines.get(5) : RecordLine.empty(0);
-        appendLineKey(keyBuilder, self);
-        String key = keyBuilder.toString();
-        if (key.equals(lastRecordsKey)) {
+        resolved.add(safeLines.size() > 5 ? safeLines.get(5) : RecordLine.empty(0));
+        if (resolved.equals(lastRecords)) {
             return;
         }
-        lastRecordsKey = key;
-        UICommandBuilder commandBuilder = new UICommandBuilder();
+        lastRecords = resolved;
+        RunHudFrame frame = frame();
         for (int i = 0; i < 5; i++) {
-            RecordLine line = resolved[i];
+            RecordLine line = resolved.get(i);
             String index = String.valueOf(i + 1);
-            commandBuilder.set("#RecordRank" + index + ".Text", line.rank);
-            commandBuilder.set("#RecordName" + index + ".Text", line.name);
-            commandBuilder.set("#RecordTime" + index + ".Text", line.time);
+            frame.set("#RecordRank" + index + ".Text", line.rank);
+            frame.set("#RecordName" + index + ".Text", line.name);
+            frame.set("#RecordTime" + index + ".Text", line.time);
         }
-        commandBuilder.set("#RecordRankSelf.Text", self.rank);
-        commandBuilder.set("#RecordNameSelf.Text", self.name);
-        commandBuilder.set("#RecordTimeSelf.Text", self.time);
-        update(false, commandBuilder);
-    }
-
-    private static void appendLineKey(StringBuilder builder, RecordLine line) {
-        builder.append(line.rank).append('|').append(line.name).append('|').append(line.time).append('\n');
+        RecordLine self = resolved.get(5);
+        frame.set("#RecordRankSelf.Text", self.rank);
+        frame.set("#RecordNameSelf.Text", self.name);
+        frame.set("#RecordTimeSelf.Text", self.time);
+        commit();
     }
 
-    public void updateMedals(io.hyvexa.parkour.data.Map map) {
-        Long bronzeMs = map != null ? map.getBronzeTimeMs() : null;
-        Long silverMs = map != null ? map.getSilverTimeMs() : null;
-        Long goldMs = map != null ? map.getGoldTimeMs() : null;
-        Long emeraldMs = map != null ? map.getEmeraldTimeMs() : null;
-        boolean hasMedals = bronzeMs != null || silverMs != null || goldMs != null || emeraldMs != null;
-        if (map == null || !hasMedals) {
-            String key = "hidden";
-            if (key.equals(lastMedalsKey)) {
-                return;
-            }
-            lastMedalsKey = key;
-            UICommandBuilder cmd = new UICommandBuilder();
-            cmd.set("#MedalHud.Visible", false);
-            update(false, cmd);
+    public synchronized void updateMedals(io.hyvexa.parkour.data.Map map) {
+        MedalThresholds medals = map != null
+                ? new MedalThresholds(map.getBronzeTimeMs(), map.getSilverTimeMs(), map.getGoldTimeMs(),
+                        map.getEmeraldTimeMs())
+                : HIDDEN_MEDALS;
+        if (medals.equals(lastMedals)) {
             return;
         }
-        String key = bronzeMs + "|" + silverMs + "|" + goldMs + "|" + emeraldMs;
-        if (key.equals(lastMedalsKey)) {
+        lastMedals = medals;
+        RunHudFrame frame = frame();
+        if (medals.equals(HIDDEN_MEDALS)) {
+            frame.set("#MedalHud.Visible", false);
+            commit();
             return;
         }
-        lastMedalsKey = key;
-        UICommandBuilder cmd = new UICommandBuilder();
-        cmd.set("#MedalHud.Visible", true);
-        setMedalRow(cmd, "Bronze", bronzeMs);
-        setMedalRow(cmd, "Silver", silverMs);
-        setMedalRow(cmd, "Gold", goldMs);
-        setMedalRow(cmd, "Emerald", emeraldMs);
-        update(false, cmd);
+        frame.set("#MedalHud.Visible", true);
+        setMedalRow(frame, "Bronze", medals.bronzeMs());
+        setMedalRow(frame, "Silver", medals.silverMs());
+        setMedalRow(frame, "Gold", medals.goldMs());
+        setMedalRow(frame, "Emerald", medals.emeraldMs());
+        commit();
     }
 
-    private void setMedalRow(UICommandBuilder cmd, String tier, Long thresholdMs) {
+    private static void setMedalRow(RunHudFrame frame, String tier, Long thresholdMs) {
         String rowId = "#MedalHud" + tier;
         if (thresholdMs == null || thresholdMs <= 0L) {
-            cmd.set(rowId + ".Visible", false);
+            frame.set(rowId + ".Visible", false);
             return;
         }
-        cmd.set(rowId + ".Visible", true);
+        frame.set(rowId + ".Visible", true);
         String timeText = FormatUtils.formatDuration(thresholdMs);
-        cmd.set(rowId + "Time.Text", timeText);
-        cmd.set(rowId + "Name.Style.TextColor", MEDAL_DEFAULT_COLOR);
-        cmd.set(rowId + "Time.Style.TextColor", MEDAL_DEFAULT_COLOR);
+        frame.set(rowId + "Time.Text", timeText);
+        frame.set(rowId + "Name.Style.TextColor", MEDAL_DEFAULT_COLOR);
+        frame.set(rowId + "Time.Style.TextColor", MEDAL_DEFAULT_COLOR);
     }
 
     @Override
-    public void resetCache() {
+    public synchronized void resetCache() {
         super.resetCache();
-        lastRecordsKey = null;
-        lastMedalsKey = null;
+        lastRecords = null;
+        lastMedals = null;
     }
 
     public static final class RecordLine {
@@ -126,5 +117,18 @@ public class RunRecordsHud extends RunHud {
         public static RecordLine empty(int rank) {
             return new RecordLine(rank > 0 ? String.valueOf(rank) : "", "", "");
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RecordLine other)) return false;
+            return Objects.equals(rank, other.rank) && Objects.equals(name, other.name)
+                    && Objects.equals(time, other.time);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(rank, name, time);
+        }
     }
 }
@@ -145,10 +145,8 @@ public class RunValidator {
 
         refreshHolograms(result, map, playerId, playerName, store);
 
+        // -1 while the map's leaderboard is still being seeded; the broadcast then omits the position
         int leaderboardPosition = progressStore.getLeaderboardPosition(map.getId(), playerId);
-        if (leaderboardPosition <= 0) {
-            leaderboardPosition = 1;
-        }
 
         int attempts = sessionTracker.getAttempts(playerId, map.getId()) + 1;
         sessionTracker.recordAttempt(playerId, map.getId());
@@ -355,8 +353,9 @@ public class RunValidator {
         Message rankPart = FormatUtils.getRankMessage(rank);
         String categoryColor = getCategoryColor(category);
         boolean isWorldRecord = leaderboardPosition == 1;
-        Message positionPart = Message.raw("#" + leaderboardPosition)
-                .color(isWorldRecord ? "#ffd166" : SystemMessageUtils.INFO);
+        Message positionPart = leaderboardPosition > 0
+                ? Message.raw("#" + leaderboardPosition).color(isWorldRecord ? "#ffd166" : SystemMessageUtils.INFO)
+                : Message.raw("new best").color(SystemMessageUtils.INFO);
         Message wrPart = isWorldRecord
                 ? Message.raw(" WR!").color("#ffd166")
                 : Message.raw("");
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
 public class PlaytimeAdminPage extends AbstractSearchablePaginatedPage {
@@ -59,8 +60,9 @@ public class PlaytimeAdminPage extends AbstractSearchablePaginatedPage {
     protected void buildContent(UICommandBuilder commandBuilder, UIEventBuilder eventBuilder) {
         commandBuilder.clear("#PlaytimeCards");
         commandBuilder.set("#PlaytimeSearchField.Value", getSearchText());
-        List<UUID> playerIds = new ArrayList<>(progressStore.getPlayerIds());
-        playerIds.sort(Comparator.comparingLong((UUID id) -> progressStore.getPlaytimeMs(id)).reversed());
+        Map<UUID, Long> playtimes = progressStore.getPlaytimeSnapshot();
+        List<UUID> playerIds = new ArrayList<>(playtimes.keySet());
+        playerIds.sort(Comparator.comparingLong((UUID id) -> playtimes.get(id)).reversed());
         String filter = getSearchText() != null ? getSearchText().trim().toLowerCase(Locale.ROOT) : "";
         List<UUID> filtered = new ArrayList<>();
         for (UUID playerId : playerIds) {
@@ -84,14 +86,14 @@ public class PlaytimeAdminPage extends AbstractSearchablePaginatedPage {
         PaginationState.PageSlice slice = getPagination().slice(filtered.size());
         long totalPlaytimeMs = 0L;
         for (UUID playerId : filtered) {
-            totalPlaytimeMs += progressStore.getPlaytimeMs(playerId);
+            totalPlaytimeMs += playtimes.get(playerId);
         }
         int index = 0;
         for (int i = slice.startIndex; i < slice.endIndex; i++) {
             UUID playerId = filtered.get(i);
             commandBuilder.append("#PlaytimeCards", "Pages/Parkour_PlaytimeEntry.ui");
             String name = formatDisplayName(playerId);
-            long playtimeMs = progressStore.getPlaytimeMs(playerId);
+            long playtimeMs = playtimes.get(playerId);
             commandBuilder.set("#PlaytimeCards[" + index + "] #PlaytimeName.Text", name);
             commandBuilder.set("#PlaytimeCards[" + index + "] #PlaytimeValue.Text",
                     FormatUtils.formatPlaytime(playtimeMs));
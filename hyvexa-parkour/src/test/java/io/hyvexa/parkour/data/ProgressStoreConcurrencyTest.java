@@ -0,0 +1,137 @@
+package io.hyvexa.parkour.data;
+
+import io.hyvexa.core.db.ConnectionProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProgressStoreConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int OPS_PER_THREAD = 20_000;
+    private static final int PLAYER_COUNT = 48;
+    private static final int MAP_COUNT = 6;
+
+    /** Offline database: every write stays in memory, saves are retried later and never reach SQL. */
+    static final ConnectionProvider OFFLINE_DB = new ConnectionProvider() {
+        @Override
+        public Connection getConnection() throws SQLException {
+            throw new SQLException("offline");
+        }
+
+        @Override
+        public boolean isInitialized() {
+            return false;
+        }
+    };
+
+    private ScheduledExecutorService saveExecutor;
+    private ExecutorService workers;
+
+    @BeforeEach
+    void setUp() {
+        saveExecutor = Executors.newSingleThreadScheduledExecutor();
+        workers = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+        saveExecutor.shutdownNow();
+    }
+
+    @Test
+    void concurrentWritersLoseNoUpdates() throws Exception {
+        ProgressStore store = new ProgressStore(OFFLINE_DB, 0, saveExecutor);
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < PLAYER_COUNT; i++) {
+            players.add(UUID.randomUUID());
+        }
+        AtomicLongArray expectedJumps = new AtomicLongArray(PLAYER_COUNT);
+        AtomicLongArray expectedPlaytime = new AtomicLongArray(PLAYER_COUNT);
+        Map<String, Long> expectedBest = new ConcurrentHashMap<>();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long seed = 31L * t + 7L;
+            futures.add(workers.submit(() -> {
+                Random random = new Random(seed);
+                start.await();
+                for (int op = 0; op < OPS_PER_THREAD; op++) {
+                    // Half the traffic hammers a few hot players so stripes are genuinely shared.
+                    int index = random.nextBoolean() ? random.nextInt(4) : random.nextInt(PLAYER_COUNT);
+                    UUID playerId = players.get(index);
+                    switch (random.nextInt(3)) {
+                        case 0 -> {
+                            int jumps = 1 + random.nextInt(3);
+                            store.addJumps(playerId, "P" + index, jumps);
+                            expectedJumps.addAndGet(index, jumps);
+                        }
+                        case 1 -> {
+                            long delta = 1 + random.nextInt(50);
+                            store.addPlaytime(playerId, "P" + index, delta);
+                            expectedPlaytime.addAndGet(index, delta);
+                        }
+                        default -> {
+                            String mapId = "map_" + random.nextInt(MAP_COUNT);
+                            long timeMs = 5_000L + random.nextInt(100_000);
+                            store.recordMapCompletion(playerId, "P" + index, mapId, timeMs, null,
+                                    List.of(timeMs / 2, timeMs));
+                            expectedBest.merge(index + "/" + mapId, timeMs, Math::min);
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        assertTrue(elapsedMs < TimeUnit.MINUTES.toMillis(1), "took " + elapsedMs + " ms");
+
+        for (int index = 0; index < PLAYER_COUNT; index++) {
+            UUID playerId = players.get(index);
+            assertEquals(expectedJumps.get(index), store.getJumpCount(playerId), "jumps of " + index);
+            assertEquals(expectedPlaytime.get(index), store.getPlaytimeMs(playerId), "playtime of " + index);
+            for (int m = 0; m < MAP_COUNT; m++) {
+                String mapId = "map_" + m;
+                Long best = expectedBest.get(index + "/" + mapId);
+                assertEquals(best, store.getBestTimeMs(playerId, mapId), index + "/" + mapId);
+                assertEquals(best != null, store.isMapCompleted(playerId, mapId));
+                if (best != null) {
+                    assertEquals(List.of(best / 2, best), store.getCheckpointTimes(playerId, mapId));
+                }
+            }
+        }
+
+        for (int m = 0; m < MAP_COUNT; m++) {
+            String mapId = "map_" + m;
+            Map<UUID, Long> boardTimes = store.getBestTimesForMap(mapId);
+            for (int index = 0; index < PLAYER_COUNT; index++) {
+                assertEquals(expectedBest.get(index + "/" + mapId), boardTimes.get(players.get(index)));
+            }
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package io.hyvexa.parkour.data;
+
+import io.hyvexa.core.db.ConnectionProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProgressStoreLazyLoadTest {
+
+    private static final int PLAYER_COUNT = 120;
+    private static final int MAP_COUNT = 8;
+
+    private String url;
+    private Connection keepAlive;
+    private ConnectionProvider db;
+    private final List<UUID> players = new ArrayList<>();
+    private final List<String> maps = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:h2:mem:progress_" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        keepAlive = DriverManager.getConnection(url);
+        db = new ConnectionProvider() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return DriverManager.getConnection(url);
+            }
+
+            @Override
+            public boolean isInitialized() {
+                return true;
+            }
+        };
+        try (Statement stmt = keepAlive.createStatement()) {
+            stmt.executeUpdate("""
+                CREATE TABLE players (
+                    uuid VARCHAR(36) PRIMARY KEY, name VARCHAR(32), xp BIGINT, level INT,
+                    welcome_shown BOOLEAN, playtime_ms BIGINT, vip BOOLEAN, founder BOOLEAN,
+                    teleport_item_use_count INT, jump_count BIGINT)
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE player_completions (
+                    player_uuid VARCHAR(36), map_id VARCHAR(32), best_time_ms BIGINT,
+                    PRIMARY KEY (player_uuid, map_id))
+                """);
+            stmt.executeUpdate("""
+                CREATE TABLE player_checkpoint_times (
+                    player_uuid VARCHAR(36), map_id VARCHAR(32), checkpoint_index INT, time_ms BIGINT,
+                    PRIMARY KEY (player_uuid, map_id, checkpoint_index))
+                """);
+        }
+        seed(new Random(7L));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    /** Lazy store whose background loads run inline, so reads see the loaded player straight away. */
+    private ProgressStore lazyStore(int maxResident) {
+        return new ProgressStore(db, maxResident, null, Runnable::run);
+    }
+
+    private void seed(Random random) throws SQLException {
+        for (int i = 0; i < MAP_COUNT; i++) {
+            maps.add("map_" + i);
+        }
+        try (PreparedStatement player = keepAlive.prepareStatement(
+                "INSERT INTO players VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement completion = keepAlive.prepareStatement(
+                     "INSERT INTO player_completions VALUES (?, ?, ?)");
+             PreparedStatement checkpoint = keepAlive.prepareStatement(
+                     "INSERT INTO player_checkpoint_times VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < PLAYER_COUNT; i++) {
+                UUID playerId = UUID.randomUUID();
+                players.add(playerId);
+                player.setString(1, playerId.toString());
+                player.setString(2, i % 10 == 0 ? null : "Player" + i);
+                player.setLong(3, random.nextInt(5_000));
+                player.setInt(4, 1 + random.nextInt(10));
+                player.setBoolean(5, random.nextBoolean());
+                player.setLong(6, random.nextInt(1_000_000));
+                player.setBoolean(7, random.nextInt(5) == 0);
+                player.setBoolean(8, random.nextInt(20) == 0);
+                player.setInt(9, random.nextInt(50));
+                player.setLong(10, random.nextInt(100_000));
+                player.executeUpdate();
+
+                for (String mapId : maps) {
+                    if (random.nextInt(3) != 0) {
+                        continue;
+                    }
+                    completion.setString(1, playerId.toString());
+                    completion.setString(2, mapId);
+                    // Coarse times produce ties; some rows have no recorded best time.
+                    completion.setLong(3, random.nextInt(6) == 0 ? 0L : 10_000L + random.nextInt(200) * 10L);
+                    completion.executeUpdate();
+                    for (int cp = 0; cp < random.nextInt(4); cp++) {
+                        checkpoint.setString(1, playerId.toString());
+                        checkpoint.setString(2, mapId);
+                        checkpoint.setInt(3, cp);
+                        checkpoint.setLong(4, 1_000L * (cp + 1) + random.nextInt(500));
+                        checkpoint.executeUpdate();
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void lazyModeAnswersMatchFullLoad() {
+        ProgressStore full = new ProgressStore(db);
+        full.syncLoad();
+        ProgressStore lazy = lazyStore(16);
+        lazy.syncLoad();
+
+        assertTrue(lazy.isLazyLoading());
+        assertEquals(0, lazy.getResidentPlayerCount());
+        assertEquals(full.getPlayerIds(), lazy.getPlayerIds());
+        assertEquals(full.getMapCompletionCounts(), lazy.getMapCompletionCounts());
+        // Directory-backed queries must not pull players into memory.
+        assertEquals(0, lazy.getResidentPlayerCount());
+
+        for (String mapId : maps) {
+            assertEquals(full.getWorldRecordTimeMs(mapId), lazy.getWorldRecordTimeMs(mapId), mapId);
+            assertEquals(full.getBestTimesForMap(mapId), lazy.getBestTimesForMap(mapId), mapId);
+        }
+
+        for (UUID playerId : players) {
+            assertEquals(full.getPlayerName(playerId), lazy.getPlayerName(playerId));
+            assertEquals(full.getCompletedMapCount(playerId), lazy.getCompletedMapCount(playerId));
+            assertEquals(full.getCompletedMaps(playerId), lazy.getCompletedMaps(playerId));
+            assertEquals(full.getXp(playerId), lazy.getXp(playerId));
+            assertEquals(full.getLevel(playerId), lazy.getLevel(playerId));
+            assertEquals(full.getPlaytimeMs(playerId), lazy.getPlaytimeMs(playerId));
+            assertEquals(full.getJumpCount(playerId), lazy.getJumpCount(playerId));
+            assertEquals(full.isVip(playerId), lazy.isVip(playerId));
+            assertEquals(full.isFounder(playerId), lazy.isFounder(playerId));
+            assertEquals(full.shouldShowWelcome(playerId), lazy.shouldShowWelcome(playerId));
+            assertEquals(full.getTeleportItemUseCount(playerId), lazy.getTeleportItemUseCount(playerId));
+            for (String mapId : maps) {
+                assertEquals(full.isMapCompleted(playerId, mapId), lazy.isMapCompleted(playerId, mapId));
+                assertEquals(full.getBestTimeMs(playerId, mapId), lazy.getBestTimeMs(playerId, mapId));
+                assertEquals(full.getCheckpointTimes(playerId, mapId), lazy.getCheckpointTimes(playerId, mapId));
+                assertEquals(full.getLeaderboardPosition(mapId, playerId),
+                        lazy.getLeaderboardPosition(mapId, playerId));
+            }
+        }
+    }
+
+    @Test
+    void unknownPlayersAreNotLoaded() {
+        ProgressStore lazy = lazyStore(4);
+        lazy.syncLoad();
+        UUID stranger = UUID.randomUUID();
+
+        assertTrue(lazy.shouldShowWelcome(stranger));
+        assertNull(lazy.getBestTimeMs(stranger, maps.get(0)));
+        assertEquals(0, lazy.getCompletedMapCount(stranger));
+        assertEquals(0, lazy.getResidentPlayerCount());
+    }
+
+    @Test
+    void offlineResidentSetIsBounded() {
+        int maxResident = 5;
+        ProgressStore lazy = lazyStore(maxResident);
+        lazy.syncLoad();
+
+        for (UUID playerId : players) {
+            lazy.getXp(playerId);
+            assertTrue(lazy.getResidentPlayerCount() <= maxResident,
+                    "resident " + lazy.getResidentPlayerCount());
+        }
+    }
+
+    @Test
+    void retainedPlayersSurviveEvictionUntilReleased() {
+        int maxResident = 3;
+        ProgressStore lazy = lazyStore(maxResident);
+        lazy.syncLoad();
+
+        List<UUID> online = players.subList(0, 6);
+        for (UUID playerId : online) {
+            lazy.retainPlayer(playerId);
+        }
+        for (UUID playerId : players.subList(6, 40)) {
+            lazy.getLevel(playerId);
+        }
+        assertTrue(lazy.getResidentPlayerCount() <= online.size() + maxResident);
+        assertTrue(lazy.getResidentPlayerCount() >= online.size());
+
+        for (UUID playerId : online) {
+            lazy.releasePlayer(playerId);
+        }
+        assertTrue(lazy.getResidentPlayerCount() <= maxResident);
+    }
+
+    @Test
+    void playtimeSnapshotDoesNotLoadOfflinePlayers() {
+        ProgressStore full = new ProgressStore(db);
+        full.syncLoad();
+        ProgressStore lazy = lazyStore(4);
+        lazy.syncLoad();
+        lazy.getXp(players.get(0));
+
+        java.util.Map<UUID, Long> expected = new java.util.HashMap<>();
+        for (UUID playerId : full.getPlayerIds()) {
+            expected.put(playerId, full.getPlaytimeMs(playerId));
+        }
+        assertEquals(expected, full.getPlaytimeSnapshot());
+        assertEquals(expected, lazy.getPlaytimeSnapshot());
+        assertEquals(1, lazy.getResidentPlayerCount());
+    }
+
+    @Test
+    void lazyMapPurgeMatchesFullLoadWithoutLoadingOfflinePlayers() throws SQLException {
+        long mapXp = 30L;
+        // Stored XP consistent with completions, as recordMapCompletion keeps it
+        try (Statement stmt = keepAlive.createStatement()) {
+            stmt.executeUpdate("UPDATE players SET xp = " + mapXp
+                    + " * (SELECT COUNT(*) FROM player_completions c WHERE c.player_uuid = players.uuid)");
+        }
+        MapStore mapStore = new MapStore(db) {
+            @Override
+            public Map getMapReadonly(String id) {
+                if (!maps.contains(id)) {
+                    return null;
+                }
+                Map map = new Map();
+                map.setFirstCompletionXp(mapXp);
+                return map;
+            }
+        };
+        ScheduledExecutorService saveExecutor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            ProgressStore full = new ProgressStore(db, 0, saveExecutor);
+            full.syncLoad();
+            ProgressStore lazy = new ProgressStore(db, 8, saveExecutor, Runnable::run);
+            lazy.syncLoad();
+            // A few residents, purged in memory; everyone else stays offline
+            for (UUID playerId : players.subList(0, 6)) {
+                lazy.getXp(playerId);
+            }
+            int residentBefore = lazy.getResidentPlayerCount();
+
+            String purged = maps.get(0);
+            MapPurgeResult lazyResult = lazy.purgeMapProgress(purged, mapStore);
+            assertEquals(residentBefore, lazy.getResidentPlayerCount());
+            MapPurgeResult fullResult = full.purgeMapProgress(purged, mapStore);
+
+            assertTrue(fullResult.playersUpdated > 0);
+            assertEquals(fullResult.playersUpdated, lazyResult.playersUpdated);
+            assertEquals(fullResult.totalXpRemoved, lazyResult.totalXpRemoved);
+            assertEquals(full.getMapCompletionCounts(), lazy.getMapCompletionCounts());
+            for (UUID playerId : players) {
+                assertEquals(full.getXp(playerId), lazy.getXp(playerId));
+                assertEquals(full.getLevel(playerId), lazy.getLevel(playerId));
+                assertEquals(full.getCompletedMaps(playerId), lazy.getCompletedMaps(playerId));
+                assertEquals(List.of(), lazy.getCheckpointTimes(playerId, purged));
+            }
+            assertNull(lazy.getWorldRecordTimeMs(purged));
+        } finally {
+            saveExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void offlineReadsAndLeaderboardSeedsRunInTheBackground() {
+        ProgressStore full = new ProgressStore(db);
+        full.syncLoad();
+        List<Runnable> queued = new ArrayList<>();
+        ProgressStore lazy = new ProgressStore(db, 4, null, queued::add);
+        lazy.syncLoad();
+        UUID playerId = players.get(1);
+        String mapId = maps.get(0);
+
+        // Placeholders until the queued work runs; nothing is read on this thread
+        assertEquals(0L, lazy.getXp(playerId));
+        assertEquals(java.util.Map.of(), lazy.getBestTimesForMap(mapId));
+        assertEquals(-1, lazy.getLeaderboardPosition(mapId, playerId));
+        lazy.getLevel(playerId);
+        assertEquals(0, lazy.getResidentPlayerCount());
+        // One load for the player however often it is read, plus the board seed
+        assertEquals(2, queued.size());
+
+        for (Runnable task : List.copyOf(queued)) {
+            task.run();
+        }
+        assertEquals(full.getXp(playerId), lazy.getXp(playerId));
+        assertEquals(full.getLevel(playerId), lazy.getLevel(playerId));
+        assertEquals(full.getBestTimesForMap(mapId), lazy.getBestTimesForMap(mapId));
+        assertEquals(full.getLeaderboardPosition(mapId, playerId), lazy.getLeaderboardPosition(mapId, playerId));
+    }
+
+    @Test
+    void lazyMapPurgeRemovesXpOfAMapAlreadyDeleted() throws SQLException {
+        long mapXp = 30L;
+        try (Statement stmt = keepAlive.createStatement()) {
+            stmt.executeUpdate("UPDATE players SET xp = " + mapXp
+                    + " * (SELECT COUNT(*) FROM player_completions c WHERE c.player_uuid = players.uuid)");
+        }
+        String purged = maps.get(0);
+        // The admin deleted the map before purging its progress
+        MapStore mapStore = new MapStore(db) {
+            @Override
+            public Map getMapReadonly(String id) {
+                if (!maps.contains(id) || id.equals(purged)) {
+                    return null;
+                }
+                Map map = new Map();
+                map.setFirstCompletionXp(mapXp);
+                return map;
+            }
+        };
+        ScheduledExecutorService saveExecutor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            ProgressStore full = new ProgressStore(db, 0, saveExecutor);
+            full.syncLoad();
+            ProgressStore lazy = new ProgressStore(db, 8, saveExecutor, Runnable::run);
+            lazy.syncLoad();
+
+            MapPurgeResult lazyResult = lazy.purgeMapProgress(purged, mapStore);
+            MapPurgeResult fullResult = full.purgeMapProgress(purged, mapStore);
+
+            assertTrue(lazyResult.totalXpRemoved > 0);
+            assertEquals(fullResult.totalXpRemoved, lazyResult.totalXpRemoved);
+            for (UUID playerId : players) {
+                assertEquals(mapXp * lazy.getCompletedMaps(playerId).size(), lazy.getXp(playerId));
+                assertEquals(full.getXp(playerId), lazy.getXp(playerId));
+                assertEquals(full.getLevel(playerId), lazy.getLevel(playerId));
+            }
+        } finally {
+            saveExecutor.shutdownNow();
+        }
+    }
+}
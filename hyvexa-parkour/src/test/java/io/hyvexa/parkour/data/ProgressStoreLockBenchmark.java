@@ -0,0 +1,97 @@
+package io.hyvexa.parkour.data;
+
+import io.hyvexa.common.bench.Microbenchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Throughput of {@link ProgressStore} writers with the per-player lock stripes against a single global
+ * lock, on the mixed jumps/playtime/completion workload of {@link ProgressStoreConcurrencyTest}.
+ * The baseline is the same store built with one stripe, so every mutation serializes on it.
+ * Reports time and bytes allocated per write. Run with {@link Microbenchmark}.
+ */
+public final class ProgressStoreLockBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int OPS_PER_THREAD = 20_000;
+    private static final int PLAYER_COUNT = 48;
+    private static final int MAP_COUNT = 6;
+    private static final int STRIPES = 64;
+
+    private ProgressStoreLockBenchmark() {
+    }
+
+    /** Runs one round of the workload on a fresh store and returns the summed jump count. */
+    private static long runWorkload(ExecutorService workers, ScheduledExecutorService saveExecutor,
+                                    List<UUID> players, int lockStripes) {
+        ProgressStore store = new ProgressStore(ProgressStoreConcurrencyTest.OFFLINE_DB, 0, saveExecutor,
+                Runnable::run, lockStripes);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long seed = 31L * t + 7L;
+            futures.add(workers.submit(() -> {
+                Random random = new Random(seed);
+                start.await();
+                for (int op = 0; op < OPS_PER_THREAD; op++) {
+                    // Half the traffic hammers a few hot players, as in the stress test
+                    int index = random.nextBoolean() ? random.nextInt(4) : random.nextInt(PLAYER_COUNT);
+                    UUID playerId = players.get(index);
+                    switch (random.nextInt(3)) {
+                        case 0 -> store.addJumps(playerId, "P" + index, 1 + random.nextInt(3));
+                        case 1 -> store.addPlaytime(playerId, "P" + index, 1 + random.nextInt(50));
+                        default -> {
+                            long timeMs = 5_000L + random.nextInt(100_000);
+                            store.recordMapCompletion(playerId, "P" + index, "map_" + random.nextInt(MAP_COUNT),
+                                    timeMs, null, List.of(timeMs / 2, timeMs));
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        long jumps = 0L;
+        for (UUID playerId : players) {
+            jumps += store.getJumpCount(playerId);
+        }
+        return jumps;
+    }
+
+    public static void main(String[] args) {
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < PLAYER_COUNT; i++) {
+            players.add(UUID.randomUUID());
+        }
+        ScheduledExecutorService saveExecutor = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService workers = Executors.newFixedThreadPool(THREADS);
+        try {
+            Microbenchmark bench = new Microbenchmark(3, 5);
+            double writes = (double) THREADS * OPS_PER_THREAD;
+
+            bench.report("global lock", writes, "write",
+                    () -> bench.consume(runWorkload(workers, saveExecutor, players, 1)));
+            bench.report("striped (" + STRIPES + ")", writes, "write",
+                    () -> bench.consume(runWorkload(workers, saveExecutor, players, STRIPES)));
+            bench.finish();
+        } finally {
+            workers.shutdownNow();
+            saveExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.hyvexa.parkour.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankedTimeBoardTest {
+
+    private record Recorded(UUID playerId, long time, long sequence) {}
+
+    /** Reference implementation: the full sort previously used by ParkourLeaderboardCache. */
+    private static List<Recorded> fullSort(Map<UUID, Recorded> recorded) {
+        List<Recorded> entries = new ArrayList<>(recorded.values());
+        entries.sort(Comparator.comparingLong(Recorded::time).thenComparingLong(Recorded::sequence));
+        return entries;
+    }
+
+    private static Map<UUID, Integer> fullSortPositions(List<Recorded> sorted) {
+        Map<UUID, Integer> positions = new HashMap<>();
+        long lastTime = Long.MIN_VALUE;
+        int rank = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            long time = Math.round(sorted.get(i).time() / 10.0);
+            if (i == 0 || time > lastTime) {
+                rank = i + 1;
+                lastTime = time;
+            }
+            positions.put(sorted.get(i).playerId(), rank);
+        }
+        return positions;
+    }
+
+    @Test
+    void emptyBoardHasNoEntries() {
+        RankedTimeBoard board = new RankedTimeBoard();
+        assertTrue(board.isEmpty());
+        assertNull(board.getBestTime());
+        assertEquals(-1, board.ordinalOf(UUID.randomUUID()));
+        assertEquals(-1, board.positionOf(UUID.randomUUID()));
+        assertTrue(board.top(5).isEmpty());
+    }
+
+    @Test
+    void tiesKeepRecordingOrder() {
+        RankedTimeBoard board = new RankedTimeBoard();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        board.put(first, 12_340L);
+        board.put(second, 12_340L);
+        assertEquals(first, board.top(1).get(0).getKey());
+        assertEquals(1, board.ordinalOf(first));
+        assertEquals(2, board.ordinalOf(second));
+        assertEquals(1, board.positionOf(second));
+    }
+
+    @Test
+    void sameDisplayedTimeSharesPosition() {
+        RankedTimeBoard board = new RankedTimeBoard();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        board.put(a, 10_001L);
+        board.put(b, 10_004L);
+        board.put(c, 10_006L);
+        assertEquals(1, board.positionOf(a));
+        assertEquals(1, board.positionOf(b));
+        assertEquals(3, board.positionOf(c));
+    }
+
+    @Test
+    void putSameTimeIsNoop() {
+        RankedTimeBoard board = new RankedTimeBoard();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        board.put(a, 500L);
+        board.put(b, 500L);
+        assertFalse(board.put(a, 500L));
+        assertEquals(1, board.ordinalOf(a));
+    }
+
+    @Test
+    void matchesFullSortUnderRandomChurn() {
+        Random random = new Random(42L);
+        for (int round = 0; round < 20; round++) {
+            RankedTimeBoard board = new RankedTimeBoard();
+            Map<UUID, Recorded> reference = new HashMap<>();
+            List<UUID> players = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                players.add(UUID.randomUUID());
+            }
+            long sequence = 0L;
+            for (int op = 0; op < 3000; op++) {
+                UUID playerId = players.get(random.nextInt(players.size()));
+                if (random.nextInt(8) == 0) {
+                    assertEquals(reference.remove(playerId) != null, board.remove(playerId));
+                } else {
+                    // Narrow time range forces plenty of exact and centisecond ties.
+                    long time = 1_000L + random.nextInt(2_000);
+                    Recorded previous = reference.get(playerId);
+                    boolean changed = board.put(playerId, time);
+                    assertEquals(previous == null || previous.time() != time, changed);
+                    if (changed) {
+                        reference.put(playerId, new Recorded(playerId, time, sequence++));
+                    }
+                }
+
+                if (op % 50 == 0) {
+                    assertMatches(reference, board, random);
+                }
+            }
+            assertMatches(reference, board, random);
+        }
+    }
+
+    private static void assertMatches(Map<UUID, Recorded> reference, RankedTimeBoard board, Random random) {
+        List<Recorded> sorted = fullSort(reference);
+        Map<UUID, Integer> positions = fullSortPositions(sorted);
+        assertEquals(sorted.size(), board.size());
+
+        List<Map.Entry<UUID, Long>> entries = board.entries();
+        for (int i = 0; i < sorted.size(); i++) {
+            Recorded expected = sorted.get(i);
+            assertEquals(expected.playerId(), entries.get(i).getKey());
+            assertEquals(expected.time(), entries.get(i).getValue());
+            assertEquals(i + 1, board.ordinalOf(expected.playerId()));
+            assertEquals(positions.get(expected.playerId()), board.positionOf(expected.playerId()));
+            assertEquals(expected.time(), board.getTime(expected.playerId()));
+        }
+
+        int limit = random.nextInt(10);
+        List<Map.Entry<UUID, Long>> top = board.top(limit);
+        assertEquals(Math.min(limit, sorted.size()), top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(sorted.get(i).playerId(), top.get(i).getKey());
+        }
+        assertEquals(sorted.isEmpty() ? null : sorted.get(0).time(), board.getBestTime());
+    }
+}
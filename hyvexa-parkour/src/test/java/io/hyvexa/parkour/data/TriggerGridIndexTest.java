@@ -0,0 +1,113 @@
+package io.hyvexa.parkour.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TriggerGridIndexTest {
+
+    private static final double TOUCH_RADIUS_SQ = 1.5 * 1.5;
+
+    private record Trigger(String id, double x, double y, double z) {}
+
+    private static String linearScan(List<Trigger> triggers, double x, double y, double z, double radiusSq) {
+        for (Trigger trigger : triggers) {
+            double dx = x - trigger.x();
+            double dy = y - trigger.y();
+            double dz = z - trigger.z();
+            if (dx * dx + dy * dy + dz * dz <= radiusSq) {
+                return trigger.id();
+            }
+        }
+        return null;
+    }
+
+    private static TriggerGridIndex<String> index(List<Trigger> triggers, double cellSize) {
+        TriggerGridIndex.Builder<String> builder = TriggerGridIndex.builder(cellSize);
+        for (Trigger trigger : triggers) {
+            builder.add(trigger.x(), trigger.y(), trigger.z(), trigger.id());
+        }
+        return builder.build();
+    }
+
+    @Test
+    void emptyIndexFindsNothing() {
+        TriggerGridIndex<String> index = TriggerGridIndex.<String>builder().build();
+        assertEquals(0, index.size());
+        assertNull(index.findFirstWithin(0, 0, 0, TOUCH_RADIUS_SQ));
+    }
+
+    @Test
+    void findsTriggerAcrossCellBoundary() {
+        TriggerGridIndex<String> index = TriggerGridIndex.<String>builder(8.0)
+                .add(8.2, 64, -0.3, "a")
+                .build();
+        assertEquals("a", index.findFirstWithin(7.5, 64, 0.4, TOUCH_RADIUS_SQ));
+        assertNull(index.findFirstWithin(5.0, 64, 0.0, TOUCH_RADIUS_SQ));
+    }
+
+    @Test
+    void overlappingTriggersReturnFirstAdded() {
+        TriggerGridIndex<String> index = TriggerGridIndex.<String>builder(8.0)
+                .add(16.4, 10, 0, "second-cell")
+                .add(15.6, 10, 0, "first-cell")
+                .build();
+        assertEquals("second-cell", index.findFirstWithin(16.0, 10, 0, TOUCH_RADIUS_SQ));
+    }
+
+    @Test
+    void invalidRadiusFindsNothing() {
+        TriggerGridIndex<String> index = TriggerGridIndex.<String>builder().add(0, 0, 0, "a").build();
+        assertNull(index.findFirstWithin(0, 0, 0, -1.0));
+        assertNull(index.findFirstWithin(0, 0, 0, Double.NaN));
+    }
+
+    @Test
+    void rejectsNonPositiveCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> TriggerGridIndex.builder(0.0));
+        assertThrows(IllegalArgumentException.class, () -> TriggerGridIndex.builder(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void matchesLinearScanOnRandomLayouts() {
+        Random random = new Random(0x5EEDL);
+        double[] cellSizes = {1.0, 4.0, TriggerGridIndex.DEFAULT_CELL_SIZE, 32.0};
+        for (int layout = 0; layout < 200; layout++) {
+            int count = random.nextInt(400);
+            double spread = 5.0 + random.nextDouble() * 500.0;
+            List<Trigger> triggers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                triggers.add(new Trigger("t" + i,
+                        (random.nextDouble() - 0.5) * spread,
+                        random.nextDouble() * 20.0,
+                        (random.nextDouble() - 0.5) * spread));
+            }
+            double cellSize = cellSizes[layout % cellSizes.length];
+            TriggerGridIndex<String> index = index(triggers, cellSize);
+            assertEquals(count, index.size());
+
+            for (int q = 0; q < 500; q++) {
+                double x;
+                double y;
+                double z;
+                if (count > 0 && random.nextBoolean()) {
+                    Trigger near = triggers.get(random.nextInt(count));
+                    x = near.x() + (random.nextDouble() - 0.5) * 4.0;
+                    y = near.y() + (random.nextDouble() - 0.5) * 4.0;
+                    z = near.z() + (random.nextDouble() - 0.5) * 4.0;
+                } else {
+                    x = (random.nextDouble() - 0.5) * spread;
+                    y = random.nextDouble() * 20.0;
+                    z = (random.nextDouble() - 0.5) * spread;
+                }
+                double radiusSq = q % 10 == 0 ? random.nextDouble() * 400.0 : TOUCH_RADIUS_SQ;
+                assertEquals(linearScan(triggers, x, y, z, radiusSq), index.findFirstWithin(x, y, z, radiusSq),
+                        "layout " + layout + " query " + q);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.hyvexa.parkour.tracker;
+
+import io.hyvexa.parkour.data.Medal;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunHudFrameTest {
+
+    /** Counts combined updates and keeps the selectors of the last one. */
+    private static final class CountingSink implements RunHudFrame.Sink {
+        int updates;
+        List<String> lastSelectors = List.of();
+
+        @Override
+        public void send(List<String> selectors, List<Object> values) {
+            assertEquals(selectors.size(), values.size());
+            updates++;
+            lastSelectors = new ArrayList<>(selectors);
+        }
+    }
+
+    /** One HudManager-style tick of a running player. */
+    private static void runningTick(RunHudFrame frame, String time, String checkpoints, long vexa, int online) {
+        frame.info("Player", "Gold", 12, 40, "play.example");
+        frame.playerCount(online);
+        frame.vexa(vexa);
+        frame.feathers(3);
+        frame.advancedHud(false, "", "", "", "");
+        frame.timeText(time);
+        frame.checkpointText(checkpoints);
+        frame.checkpointSplit("", null, false);
+    }
+
+    private static int tick(RunHudFrame frame, CountingSink sink, Runnable updates) {
+        int before = sink.updates;
+        frame.begin();
+        updates.run();
+        frame.end(sink);
+        return sink.updates - before;
+    }
+
+    @Test
+    void firstTickSendsEverythingInOneUpdate() {
+        RunHudFrame frame = new RunHudFrame();
+        CountingSink sink = new CountingSink();
+        assertEquals(1, tick(frame, sink, () -> runningTick(frame, "Map - 0.00", "0/3", 10, 5)));
+        assertTrue(sink.lastSelectors.contains("#RunTimerText.Text"));
+        assertTrue(sink.lastSelectors.contains("#PlayerMapsValue.Text"));
+        assertTrue(sink.lastSelectors.contains("#AdvancedHudRoot.Visible"));
+        assertTrue(frame.isEmpty());
+    }
+
+    @Test
+    void unchangedTickSendsNothing() {
+        RunHudFrame frame = new RunHudFrame();
+        CountingSink sink = new CountingSink();
+        tick(frame, sink, () -> runningTick(frame, "Map - 0.00", "0/3", 10, 5));
+        assertEquals(0, tick(frame, sink, () -> runningTick(frame, "Map - 0.00", "0/3", 10, 5)));
+    }
+
+    @Test
+    void scriptedRunSendsAtMostOneUpdatePerTick() {
+        RunHudFrame frame = new RunHudFrame();
+        CountingSink sink = new CountingSink();
+        int changedTicks = 0;
+        for (int t = 0; t < 200; t++) {
+            boolean showSplit = t % 50 == 10;
+            String time = "Map - " + (t / 4) + ".00";
+            String checkpoints = (t / 50) + "/4";
+            long vexa = 10 + t / 60;
+            int online = 5 + (t % 30 == 0 ? 1 : 0);
+            int sent = tick(frame, sink, () -> {
+                runningTick(frame, time, checkpoints, vexa, online);
+                if (showSplit) {
+                    frame.checkpointSplit("-0.42", "#1E4A7A", true);
+                }
+            });
+            assertTrue(sent <= 1, "tick " + t + " sent " + sent);
+            changedTicks += sent;
+        }
+        // The timer changes every 4 ticks; everything else rides along in those updates or adds a few.
+        assertTrue(changedTicks >= 50 && changedTicks < 120, "updates " + changedTicks);
+    }
+
+    @Test
+    void unbatchedChangesFlushImmediately() {
+        RunHudFrame frame = new RunHudFrame();
+        CountingSink sink = new CountingSink();
+        frame.timeText("a");
+        assertTrue(frame.flushIfUnbatched(sink));
+        frame.checkpointText("1/2");
+        assertTrue(frame.flushIfUnbatched(sink));
+        frame.checkpointText("1/2");
+        assertFalse(frame.flushIfUnbatched(sink));
+        assertEquals(2, sink.updates);
+
+        // The same changes inside a frame are held back until the frame ends.
+        frame.begin();
+        frame.timeText("b");
+        assertFalse(frame.flushIfUnbatched(sink));
+        frame.checkpointText("2/2");
+        assertFalse(frame.flushIfUnbatched(sink));
+        assertTrue(frame.end(sink));
+        assertEquals(3, sink.updates);
+        assertEquals(List.of("#RunTimerText.Text", "#RunCheckpointText.Text"), sink.lastSelectors);
+    }
+
+    @Test
+    void medalNotificationUsesTypedChangeDetection() {
+        RunHudFrame frame = new RunHudFrame();
+        CountingSink sink = new CountingSink();
+        RunHudFrame.MedalNotif first = new RunHudFrame.MedalNotif(Medal.GOLD, 5, true, false, "#ffd700",
+                false, false, 0f);
+
+        assertEquals(0, tick(frame, sink, () -> frame.medalNotif(null)));
+        assertEquals(1, tick(frame, sink, () -> frame.medalNotif(first)));
+        assertEquals(0, tick(frame, sink, () -> frame.medalNotif(new RunHudFrame.MedalNotif(Medal.GOLD, 5, true,
+                false, "#ffd700", false, false, 0f))));
+        assertEquals(1, tick(frame, sink, () -> frame.medalNotif(new RunHudFrame.MedalNotif(Medal.GOLD, 5, true,
+                true, "#ffffff", true, true, 0.9f))));
+        assertTrue(sink.lastSelectors.contains("#MedalNotifBarGold.Value"));
+        assertEquals(1, tick(frame, sink, () -> frame.medalNotif(null)));
+        assertEquals(List.of("#MedalNotif.Visible"), sink.lastSelectors);
+        assertEquals(0, tick(frame, sink, () -> frame.medalNotif(null)));
+    }
+
+    @Test
+    void resetResendsFieldsOnNextTick() {
+        RunHudFrame frame = new RunHudFrame();
+        CountingSink sink = new CountingSink();
+        tick(frame, sink, () -> runningTick(frame, "Map - 1.00", "1/3", 10, 5));
+        frame.reset();
+        assertEquals(1, tick(frame, sink, () -> runningTick(frame, "Map - 1.00", "1/3", 10, 5)));
+    }
+}
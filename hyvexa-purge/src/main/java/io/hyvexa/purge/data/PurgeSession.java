@@ -19,6 +19,9 @@ import java.util.function.Predicate;
 
 public class PurgeSession {
 
+    /** Cell size of the zombie spatial index, in blocks; roughly one melee reach plus position lag. */
+    private static final double ZOMBIE_INDEX_CELL_SIZE = 4.0;
+
     private final String sessionId;
     private final String instanceId;
     private final ConcurrentHashMap<UUID, PurgeSessionPlayerState> players = new ConcurrentHashMap<>();
@@ -30,10 +33,14 @@ public class PurgeSession {
     private volatile boolean spawningComplete = false;
     private final AtomicInteger waveSpawnAttempts = new AtomicInteger();
     private final AtomicInteger waveSpawnSuccesses = new AtomicInteger();
+    // Last sampled position of a random alive player; spawn points are chosen relative to it
+    private volatile double spawnAnchorX;
+    private volatile double spawnAnchorZ;
     private final AtomicBoolean transitionGuard = new AtomicBoolean(false);
     private final Set<Ref<EntityStore>> aliveZombies = ConcurrentHashMap.newKeySet();
     private final Set<Ref<EntityStore>> pendingZombieDeaths = ConcurrentHashMap.newKeySet();
     private final ConcurrentHashMap<Ref<EntityStore>, String> zombieVariants = new ConcurrentHashMap<>();
+    private final ZombieSpatialIndex<Ref<EntityStore>> zombieIndex = new ZombieSpatialIndex<>(ZOMBIE_INDEX_CELL_SIZE);
     private volatile ScheduledFuture<?> waveTick;
     private volatile ScheduledFuture<?> spawnTask;
     private volatile ScheduledFuture<?> intermissionTask;
@@ -237,6 +244,19 @@ public class PurgeSession {
         return waveSpawnSuccesses.get();
     }
 
+    public double getSpawnAnchorX() {
+        return spawnAnchorX;
+    }
+
+    public double getSpawnAnchorZ() {
+        return spawnAnchorZ;
+    }
+
+    public void setSpawnAnchor(double x, double z) {
+        this.spawnAnchorX = x;
+        this.spawnAnchorZ = z;
+    }
+
     public boolean tryBeginTransition() {
         return transitionGuard.compareAndSet(false, true);
     }
@@ -291,6 +311,7 @@ public class PurgeSession {
         aliveZombies.remove(ref);
         pendingZombieDeaths.remove(ref);
         zombieVariants.remove(ref);
+        zombieIndex.remove(ref);
     }
 
     public Set<Ref<EntityStore>> drainAliveZombies() {
@@ -298,9 +319,25 @@ public class PurgeSession {
         aliveZombies.clear();
         pendingZombieDeaths.clear();
         zombieVariants.clear();
+        zombieIndex.clear();
         return snapshot;
     }
 
+    /**
+     * Records where a tracked zombie was last seen. Positions are refreshed once per wave tick, so index
+     * queries can lag live positions by one tick of movement.
+     */
+    public void updateZombiePosition(Ref<EntityStore> ref, double x, double y, double z) {
+        if (ref != null && aliveZombies.contains(ref)) {
+            zombieIndex.update(ref, x, y, z);
+        }
+    }
+
+    /** Last-seen positions of alive zombies; entries may include refs that died since, so re-check them. */
+    public ZombieSpatialIndex<Ref<EntityStore>> getZombieIndex() {
+        return zombieIndex;
+    }
+
     public String getZombieVariantKey(Ref<EntityStore> ref) {
         return ref != null ? zombieVariants.get(ref) : null;
     }
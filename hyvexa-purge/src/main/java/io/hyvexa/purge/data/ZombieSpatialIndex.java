@@ -0,0 +1,191 @@
+package io.hyvexa.purge.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform spatial hash over the horizontal (XZ) plane. Items are bucketed into square cells of
+ * {@code cellSize} blocks; queries only visit the cells overlapping the query square, so lookups cost
+ * O(items nearby) instead of O(all items). Vertical distance is a plain filter, matching how purge
+ * hit resolution treats it.
+ * <p>
+ * Positions are whatever the caller last reported via {@link #update}; the index does not read the world.
+ */
+public final class ZombieSpatialIndex<T> {
+
+    private final double cellSize;
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+    // Query results, reused across calls (guarded by this)
+    private final List<Entry<T>> scratch = new ArrayList<>();
+
+    public ZombieSpatialIndex(double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("cellSize must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /** Inserts the item or moves it to its new position. */
+    public synchronized void update(T item, double x, double y, double z) {
+        if (item == null) {
+            return;
+        }
+        long cell = cellKey(cellCoord(x), cellCoord(z));
+        Entry<T> entry = entries.get(item);
+        if (entry == null) {
+            entry = new Entry<>(item);
+            entries.put(item, entry);
+            addToCell(entry, cell);
+        } else if (entry.cell != cell) {
+            removeFromCell(entry);
+            addToCell(entry, cell);
+        }
+        entry.x = x;
+        entry.y = y;
+        entry.z = z;
+    }
+
+    public synchronized void remove(T item) {
+        Entry<T> entry = item != null ? entries.remove(item) : null;
+        if (entry != null) {
+            removeFromCell(entry);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        cells.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the item with the smallest horizontal distance to the point, within {@code maxHorizontalDistance}
+     * (inclusive) and with a vertical offset of at most {@code maxVerticalDistance}, or null.
+     */
+    public synchronized T nearest(double x, double y, double z, double maxHorizontalDistance, double maxVerticalDistance) {
+        int found = scan(x, y, z, maxHorizontalDistance, maxVerticalDistance);
+        T best = null;
+        double bestDistanceSquared = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < found; i++) {
+            Entry<T> entry = scratch.get(i);
+            double dx = entry.x - x;
+            double dz = entry.z - z;
+            double distanceSquared = dx * dx + dz * dz;
+            if (distanceSquared < bestDistanceSquared) {
+                bestDistanceSquared = distanceSquared;
+                best = entry.item;
+            }
+        }
+        scratch.clear();
+        return best;
+    }
+
+    /**
+     * Adds every item within {@code horizontalRadius} (inclusive) and {@code maxVerticalDistance} of the point
+     * to {@code out}, in no particular order. Returns the number added.
+     */
+    public synchronized int collectWithin(double x, double y, double z, double horizontalRadius,
+                                          double maxVerticalDistance, Collection<? super T> out) {
+        int found = scan(x, y, z, horizontalRadius, maxVerticalDistance);
+        for (int i = 0; i < found; i++) {
+            out.add(scratch.get(i).item);
+        }
+        scratch.clear();
+        return found;
+    }
+
+    /**
+     * Fills {@link #scratch} with the entries inside the query cylinder. Walks the cells overlapping the query
+     * square when there are fewer of those than occupied cells, otherwise scans the occupied cells, so huge
+     * radii never cost more than a full scan.
+     */
+    private int scan(double x, double y, double z, double radius, double maxVerticalDistance) {
+        double radiusSquared = radius * radius;
+        int minCellX = cellCoord(x - radius);
+        int maxCellX = cellCoord(x + radius);
+        int minCellZ = cellCoord(z - radius);
+        int maxCellZ = cellCoord(z + radius);
+        long span = ((long) maxCellX - minCellX + 1) * ((long) maxCellZ - minCellZ + 1);
+        if (span <= cells.size()) {
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                for (int cz = minCellZ; cz <= maxCellZ; cz++) {
+                    List<Entry<T>> cell = cells.get(cellKey(cx, cz));
+                    if (cell != null) {
+                        scanCell(cell, x, y, z, radiusSquared, maxVerticalDistance);
+                    }
+                }
+            }
+        } else {
+            for (List<Entry<T>> cell : cells.values()) {
+                scanCell(cell, x, y, z, radiusSquared, maxVerticalDistance);
+            }
+        }
+        return scratch.size();
+    }
+
+    private void scanCell(List<Entry<T>> cell, double x, double y, double z, double radiusSquared,
+                          double maxVerticalDistance) {
+        for (int i = 0, n = cell.size(); i < n; i++) {
+            Entry<T> entry = cell.get(i);
+            if (Math.abs(entry.y - y) > maxVerticalDistance) {
+                continue;
+            }
+            double dx = entry.x - x;
+            double dz = entry.z - z;
+            if (dx * dx + dz * dz <= radiusSquared) {
+                scratch.add(entry);
+            }
+        }
+    }
+
+    private void addToCell(Entry<T> entry, long cell) {
+        List<Entry<T>> bucket = cells.computeIfAbsent(cell, k -> new ArrayList<>());
+        entry.cell = cell;
+        entry.slot = bucket.size();
+        bucket.add(entry);
+    }
+
+    private void removeFromCell(Entry<T> entry) {
+        List<Entry<T>> bucket = cells.get(entry.cell);
+        if (bucket == null) {
+            return;
+        }
+        // Swap-remove: move the last entry into the freed slot
+        Entry<T> last = bucket.remove(bucket.size() - 1);
+        if (last != entry) {
+            bucket.set(entry.slot, last);
+            last.slot = entry.slot;
+        }
+        if (bucket.isEmpty()) {
+            cells.remove(entry.cell);
+        }
+    }
+
+    private int cellCoord(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private double x;
+        private double y;
+        private double z;
+        private long cell;
+        private int slot;
+
+        private Entry(T item) {
+            this.item = item;
+        }
+    }
+}
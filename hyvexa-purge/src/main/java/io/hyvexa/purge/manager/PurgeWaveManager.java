@@ -35,6 +35,7 @@ import io.hyvexa.purge.data.PurgeWaveDefinition;
 import io.hyvexa.purge.data.SessionState;
 import io.hyvexa.purge.hud.PurgeHudManager;
 import io.hyvexa.purge.util.PurgePlayerNameResolver;
+import io.hyvexa.purge.util.ReflectiveAccess;
 import io.hyvexa.purge.util.UnsafeReflectionHelper;
 import io.hyvexa.purge.util.ZombieAggroBooster;
 
@@ -48,7 +49,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public class PurgeWaveManager {
 
@@ -57,9 +57,17 @@ public class PurgeWaveManager {
     private static final String PURGE_HP_MODIFIER = "purge_wave_hp";
     private static final String PURGE_VARIANT_HP_MODIFIER = "purge_variant_hp";
     private static final long WAVE_TICK_INTERVAL_MS = 200;
+    /** Zombies within this many blocks of a downed player are retargeted immediately. */
+    private static final double RETARGET_RADIUS = 32.0;
     private static final double SPAWN_RANDOM_OFFSET = 2.0;
+    /** Spawn batches are held while this many zombies are alive, resuming as they die. */
+    private static final int SPAWN_BACKPRESSURE_ALIVE = 80;
+    /** How often the spawn pipeline is polled; batches still honour the wave's spawn delay. */
+    private static final long SPAWN_POLL_INTERVAL_MS = 100;
     /** Spawn count multiplier added per extra player above 1. */
     private static final double PLAYER_SCALE_PER_EXTRA = 0.75;
+    /** Accessors tried, in order, to pull the entity ref out of the spawn result pair. */
+    private static final String[] PAIR_REF_ACCESSORS = {"getFirst", "getLeft", "getKey", "first", "left"};
 
     private final PurgeInstanceManager instanceManager;
     private final PurgeWaveConfigManager waveConfigManager;
@@ -193,87 +201,84 @@ public class PurgeWaveManager {
     }
 
     private void startSpawning(PurgeSession session, List<String> spawnQueue, PurgeWaveDefinition wave) {
-        int totalCount = spawnQueue.size();
-
-        AtomicInteger queueIndex = new AtomicInteger(0);
-
-        ScheduledFuture<?> task = HytaleServer.SCHEDULED_EXECUTOR.scheduleWithFixedDelay(() -> {
-            try {
-                if (session.getState() == SessionState.ENDED) {
-                    session.cancelSpawnTask();
-                    return;
-                }
-                int batch = Math.min(wave.spawnBatchSize(), totalCount - queueIndex.get());
-                if (batch <= 0) {
+        // Variant lookup, HP scaling and jitter are resolved here, off the world thread
+        List<WaveSpawnPipeline.PlannedSpawn> plan = WaveSpawnPipeline.plan(spawnQueue, variantConfigManager::getVariant,
+                hpMultiplier(session.getCurrentWave()), SPAWN_RANDOM_OFFSET, ThreadLocalRandom.current());
+        PurgeMapInstance instance = instanceManager.getInstance(session.getInstanceId());
+        WaveSpawnPipeline pipeline = new WaveSpawnPipeline(plan,
+                new WaveSpawnPipeline.Budget(wave.spawnBatchSize(), wave.spawnDelayMs(), SPAWN_BACKPRESSURE_ALIVE),
+                System::currentTimeMillis,
+                session::getAliveZombieCount,
+                () -> instanceManager.selectSpawnPoint(instance, session.getSpawnAnchorX(), session.getSpawnAnchorZ()),
+                order -> spawnPlannedZombie(session, order),
+                () -> {
                     markSpawningComplete(session);
                     session.cancelSpawnTask();
-                    return;
-                }
-
-                World world = getPurgeWorld();
-                if (world == null) {
-                    return;
-                }
-
-                world.execute(() -> {
-                    try {
-                        if (session.getState() == SessionState.ENDED) {
-                            return;
-                        }
-                        Store<EntityStore> store = world.getEntityStore().getStore();
-                        if (store == null) {
-                            return;
-                        }
-
-                        // Use random alive player position for spawn point selection
-                        Ref<EntityStore> targetRef = session.getRandomAlivePlayerRef();
-                        if (targetRef == null) return; // all dead, team wipe imminent
-                        double spawnX = 0, spawnZ = 0;
-                        if (targetRef.isValid()) {
-                            double[] pos = getRefPosition(targetRef);
-                            if (pos != null) {
-                                spawnX = pos[0];
-                                spawnZ = pos[2];
-                            }
-                        }
+                });
+        long pollMs = Math.max(1L, Math.min(wave.spawnDelayMs(), SPAWN_POLL_INTERVAL_MS));
+        Runnable schedule = () -> session.setSpawnTask(HytaleServer.SCHEDULED_EXECUTOR.scheduleWithFixedDelay(
+                () -> tickSpawnPipeline(session, pipeline), 0, pollMs, TimeUnit.MILLISECONDS));
 
-                        PurgeMapInstance instance = instanceManager.getInstance(session.getInstanceId());
+        World world = getPurgeWorld();
+        if (world == null) {
+            schedule.run();
+            return;
+        }
+        // Sample a player position before the first batch picks spawn points
+        world.execute(() -> {
+            refreshSpawnAnchor(session);
+            if (session.getState() != SessionState.ENDED) {
+                schedule.run();
+            }
+        });
+    }
 
-                        int toSpawn = Math.min(wave.spawnBatchSize(), totalCount - queueIndex.get());
-                        for (int i = 0; i < toSpawn; i++) {
-                            if (session.getState() == SessionState.ENDED) {
-                                return;
-                            }
-                            int idx = queueIndex.getAndIncrement();
-                            if (idx >= spawnQueue.size()) {
-                                break;
-                            }
+    private void tickSpawnPipeline(PurgeSession session, WaveSpawnPipeline pipeline) {
+        try {
+            if (session.getState() == SessionState.ENDED || pipeline.isComplete()) {
+                session.cancelSpawnTask();
+                return;
+            }
+            if (session.getRandomAlivePlayerRef() == null) {
+                return; // all dead, team wipe imminent
+            }
+            World world = getPurgeWorld();
+            if (world == null) {
+                return;
+            }
+            pipeline.tick(world::execute);
+        } catch (Exception e) {
+            LOGGER.atWarning().withCause(e).log("Spawn task error");
+        }
+    }
 
-                            session.incrementWaveSpawnAttempt();
-                            PurgeSpawnPoint spawnPoint = instanceManager.selectSpawnPoint(instance, spawnX, spawnZ);
-                            String variantKey = spawnQueue.get(idx);
-                            boolean spawned = spawnZombie(session, store, spawnPoint, variantKey, session.getCurrentWave());
-                            if (!spawned) {
-                                LOGGER.atWarning().log("Wave spawn failed: wave=" + session.getCurrentWave()
-                                        + " variant=" + variantKey);
-                            } else {
-                                session.incrementWaveSpawnSuccess();
-                            }
-                        }
+    /** Samples a random alive player's position as the anchor for spawn point selection. World thread only. */
+    private void refreshSpawnAnchor(PurgeSession session) {
+        double[] pos = getRefPosition(session.getRandomAlivePlayerRef());
+        if (pos != null) {
+            session.setSpawnAnchor(pos[0], pos[2]);
+        }
+    }
 
-                        if (queueIndex.get() >= totalCount) {
-                            markSpawningComplete(session);
-                            session.cancelSpawnTask();
-                        }
-                    } catch (Exception e) {
-                        LOGGER.atWarning().withCause(e).log("Spawn batch error");
-                    }
-                });
-            } catch (Exception e) {
-                LOGGER.atWarning().withCause(e).log("Spawn task error");
-            }
-        }, 0, wave.spawnDelayMs(), TimeUnit.MILLISECONDS);
-        session.setSpawnTask(task);
+    /** World-thread end of the spawn pipeline. */
+    private boolean spawnPlannedZombie(PurgeSession session, WaveSpawnPipeline.SpawnOrder order) {
+        if (session.getState() == SessionState.ENDED) {
+            return false;
+        }
+        World world = getPurgeWorld();
+        Store<EntityStore> store = world != null ? world.getEntityStore().getStore() : null;
+        if (store == null) {
+            return false;
+        }
+        session.incrementWaveSpawnAttempt();
+        boolean spawned = spawnZombie(session, store, order);
+        if (!spawned) {
+            LOGGER.atWarning().log("Wave spawn failed: wave=" + session.getCurrentWave()
+                    + " variant=" + order.spawn().variantKey());
+        } else {
+            session.incrementWaveSpawnSuccess();
+        }
+        return spawned;
     }
 
     private void markSpawningComplete(PurgeSession session) {
@@ -285,27 +290,27 @@ public class PurgeWaveManager {
 
     private boolean spawnZombie(PurgeSession session,
                                 Store<EntityStore> store,
-                                PurgeSpawnPoint point,
-                                String variantKey,
-                                int wave) {
+                                WaveSpawnPipeline.SpawnOrder order) {
         if (session.getState() == SessionState.ENDED) {
             return false;
         }
         if (npcPlugin == null) {
             return false;
         }
+        PurgeSpawnPoint point = order.point();
+        String variantKey = order.spawn().variantKey();
         if (point == null || variantKey == null) {
             return false;
         }
 
-        PurgeVariantConfig variantConfig = variantConfigManager.getVariant(variantKey);
+        PurgeVariantConfig variantConfig = order.spawn().variant();
         if (variantConfig == null) {
             LOGGER.atWarning().log("Unknown variant key: " + variantKey);
             return false;
         }
 
-        double x = point.x() + ThreadLocalRandom.current().nextDouble(-SPAWN_RANDOM_OFFSET, SPAWN_RANDOM_OFFSET);
-        double z = point.z() + ThreadLocalRandom.current().nextDouble(-SPAWN_RANDOM_OFFSET, SPAWN_RANDOM_OFFSET);
+        double x = order.x();
+        double z = order.z();
         Vector3d position = new Vector3d(x, point.y(), z);
         Vector3f rotation = new Vector3f(0, point.yaw(), 0);
 
@@ -323,9 +328,10 @@ public class PurgeWaveManager {
                 return false;
             }
             session.addAliveZombie(entityRef, variantKey);
+            session.updateZombiePosition(entityRef, x, point.y(), z);
 
             // Apply wave HP scaling + show HP on nameplate
-            applyZombieStats(store, entityRef, variantConfig, wave);
+            applyZombieStats(store, entityRef, variantConfig, order.spawn().hpMultiplier());
 
             // Disable drops
             clearDropList(store, entityRef);
@@ -355,7 +361,7 @@ public class PurgeWaveManager {
     }
 
     private void applyZombieStats(Store<EntityStore> store, Ref<EntityStore> entityRef,
-                                   PurgeVariantConfig variant, int wave) {
+                                   PurgeVariantConfig variant, double hpMult) {
         try {
             EntityStatMap statMap = store.getComponent(entityRef, EntityStatMap.getComponentType());
             Nameplate nameplate = store.ensureAndGetComponent(entityRef, Nameplate.getComponentType());
@@ -378,7 +384,6 @@ public class PurgeWaveManager {
                 }
 
                 // Apply wave HP scaling
-                double hpMult = hpMultiplier(wave);
                 if (hpMult > 1.0) {
                     statMap.putModifier(healthIndex, PURGE_HP_MODIFIER,
                             new StaticModifier(Modifier.ModifierTarget.MAX,
@@ -452,8 +457,11 @@ public class PurgeWaveManager {
                     return;
                 }
                 deathTracker.checkZombieDeaths(session, store);
+                if (!session.isSpawningComplete()) {
+                    refreshSpawnAnchor(session);
+                }
                 ZombieAggroBooster.refreshZombieAggro(session, store);
-                updateZombieNameplates(session, store);
+                updateZombieNameplatesAndPositions(session, store);
                 updatePlayerHealthHud(session, store, world);
                 registry.getClassManager().tickMedicRegen(session, store);
 
@@ -493,13 +501,22 @@ public class PurgeWaveManager {
         });
     }
 
-    private void updateZombieNameplates(PurgeSession session, Store<EntityStore> store) {
+    /**
+     * Refreshes every zombie's HP nameplate and, in the same pass over the horde, its position in the
+     * session's spatial index used by hit resolution and retargeting.
+     */
+    private void updateZombieNameplatesAndPositions(PurgeSession session, Store<EntityStore> store) {
         int healthIndex = DefaultEntityStatTypes.getHealth();
         for (Ref<EntityStore> ref : session.getAliveZombies()) {
             if (ref == null || !ref.isValid()) {
                 continue;
             }
             try {
+                TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
+                Vector3d pos = transform != null ? transform.getPosition() : null;
+                if (pos != null) {
+                    session.updateZombiePosition(ref, pos.getX(), pos.getY(), pos.getZ());
+                }
                 EntityStatMap statMap = store.getComponent(ref, EntityStatMap.getComponentType());
                 Nameplate nameplate = store.getComponent(ref, Nameplate.getComponentType());
                 if (statMap != null && nameplate != null) {
@@ -524,7 +541,7 @@ public class PurgeWaveManager {
 
     private void updatePlayerHealthHud(PurgeSession session, Store<EntityStore> store, World world) {
         PurgeMapInstance instance = instanceManager.getInstance(session.getInstanceId());
-        boolean[] anyDied = {false};
+        List<double[]> deathPositions = new ArrayList<>();
 
         session.forEachAliveConnectedPlayerState(ps -> {
             UUID pid = ps.getPlayerId();
@@ -553,13 +570,17 @@ public class PurgeWaveManager {
             }
 
             if (dead && session.getState() != SessionState.ENDED) {
+                // Read before handlePlayerDeath teleports the player away
+                double[] deathPosition = getRefPosition(ref);
                 handlePlayerDeath(session, pid, ps, store, world, instance);
-                anyDied[0] = true;
+                if (deathPosition != null) {
+                    deathPositions.add(deathPosition);
+                }
             }
         });
 
-        if (anyDied[0]) {
-            retargetZombies(session, store);
+        for (double[] deathPosition : deathPositions) {
+            retargetZombies(session, store, deathPosition);
         }
     }
 
@@ -637,10 +658,16 @@ public class PurgeWaveManager {
         }
     }
 
-    private void retargetZombies(PurgeSession session, Store<EntityStore> store) {
-        List<Ref<EntityStore>> aliveSnapshot = new ArrayList<>(session.getAliveZombies());
+    /**
+     * Points the zombies around a downed player at a live teammate right away. Zombies further out are
+     * re-pointed by the next wave tick's aggro refresh, so only the horde near the body is visited.
+     */
+    private void retargetZombies(PurgeSession session, Store<EntityStore> store, double[] deathPosition) {
+        List<Ref<EntityStore>> nearby = new ArrayList<>();
+        session.getZombieIndex().collectWithin(deathPosition[0], deathPosition[1], deathPosition[2],
+                RETARGET_RADIUS, RETARGET_RADIUS, nearby);
         List<Ref<EntityStore>> invalidRefs = null;
-        for (Ref<EntityStore> zombieRef : aliveSnapshot) {
+        for (Ref<EntityStore> zombieRef : nearby) {
             if (zombieRef == null || !zombieRef.isValid()) {
                 if (zombieRef != null) {
                     if (invalidRefs == null) {
@@ -859,20 +886,10 @@ public class PurgeWaveManager {
         if (pairResult == null) {
             return null;
         }
-        try {
-            for (String methodName : List.of("getFirst", "getLeft", "getKey", "first", "left")) {
-                try {
-                    java.lang.reflect.Method method = pairResult.getClass().getMethod(methodName);
-                    Object value = method.invoke(pairResult);
-                    if (value instanceof Ref<?> ref) {
-                        return (Ref<EntityStore>) ref;
-                    }
-                } catch (NoSuchMethodException ignored) {
-                    // Try next method
-                }
+        for (String methodName : PAIR_REF_ACCESSORS) {
+            if (ReflectiveAccess.invokeNoArg(pairResult, methodName) instanceof Ref<?> ref) {
+                return (Ref<EntityStore>) ref;
             }
-        } catch (Exception e) {
-            LOGGER.atWarning().withCause(e).log("Failed to extract entity ref from NPC result");
         }
         return null;
     }
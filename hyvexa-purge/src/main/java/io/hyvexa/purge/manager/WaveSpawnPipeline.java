@@ -0,0 +1,161 @@
+package io.hyvexa.purge.manager;
+
+import io.hyvexa.purge.data.PurgeSpawnPoint;
+import io.hyvexa.purge.data.PurgeVariantConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Drains a wave's precomputed spawn plan onto the world thread in budgeted batches.
+ * <p>
+ * Everything that does not need the world (variant lookup, wave HP scaling, spawn point choice and position
+ * jitter) is resolved on the thread calling {@link #tick}, so the world thread only creates entities. Each tick
+ * submits at most one batch of {@link Budget#spawnsPerTick} spawns, no sooner than {@link Budget#intervalMs}
+ * after the previous batch and never while that batch is still queued on the world. While
+ * {@link Budget#maxAlive} zombies are alive the batch shrinks, down to nothing, until kills free up room;
+ * held spawns are delayed, never dropped.
+ */
+final class WaveSpawnPipeline {
+
+    /** Per-tick spawn limits. */
+    record Budget(int spawnsPerTick, long intervalMs, int maxAlive) {
+        Budget {
+            spawnsPerTick = Math.max(1, spawnsPerTick);
+            intervalMs = Math.max(0L, intervalMs);
+            maxAlive = Math.max(1, maxAlive);
+        }
+    }
+
+    /** One zombie of the wave plan; {@code variant} is null if the key is unknown. */
+    record PlannedSpawn(int index, String variantKey, PurgeVariantConfig variant, double hpMultiplier,
+                        double jitterX, double jitterZ) {}
+
+    /** A planned spawn placed at a spawn point; {@code point} is null if none was available. */
+    record SpawnOrder(PlannedSpawn spawn, PurgeSpawnPoint point) {
+        double x() {
+            return point.x() + spawn.jitterX();
+        }
+
+        double z() {
+            return point.z() + spawn.jitterZ();
+        }
+    }
+
+    /** World-thread side of the pipeline. Returns whether an entity was created. */
+    interface SpawnTarget {
+        boolean spawn(SpawnOrder order);
+    }
+
+    private final List<PlannedSpawn> plan;
+    private final Budget budget;
+    private final LongSupplier clock;
+    private final IntSupplier aliveCount;
+    private final Supplier<PurgeSpawnPoint> spawnPoints;
+    private final SpawnTarget target;
+    private final Runnable onComplete;
+
+    // Cursor state is owned by the ticking thread; the world thread only clears batchQueued
+    private int cursor;
+    private long nextBatchAtMs = Long.MIN_VALUE;
+    private volatile boolean batchQueued;
+    private volatile boolean complete;
+
+    WaveSpawnPipeline(List<PlannedSpawn> plan, Budget budget, LongSupplier clock, IntSupplier aliveCount,
+                      Supplier<PurgeSpawnPoint> spawnPoints, SpawnTarget target, Runnable onComplete) {
+        this.plan = List.copyOf(plan);
+        this.budget = budget;
+        this.clock = clock;
+        this.aliveCount = aliveCount;
+        this.spawnPoints = spawnPoints;
+        this.target = target;
+        this.onComplete = onComplete;
+    }
+
+    /**
+     * Builds the plan for a wave: one entry per key of {@code spawnOrder}, in order, with the variant config
+     * resolved and a random horizontal jitter of up to {@code jitter} blocks.
+     */
+    static List<PlannedSpawn> plan(List<String> spawnOrder, Function<String, PurgeVariantConfig> variants,
+                                   double hpMultiplier, double jitter, RandomGenerator random) {
+        List<PlannedSpawn> plan = new ArrayList<>(spawnOrder.size());
+        for (int i = 0; i < spawnOrder.size(); i++) {
+            String key = spawnOrder.get(i);
+            double jitterX = jitter > 0 ? random.nextDouble(-jitter, jitter) : 0.0;
+            double jitterZ = jitter > 0 ? random.nextDouble(-jitter, jitter) : 0.0;
+            plan.add(new PlannedSpawn(i, key, variants.apply(key), hpMultiplier, jitterX, jitterZ));
+        }
+        return plan;
+    }
+
+    /**
+     * Submits the next batch to {@code world} if the interval has elapsed, the previous batch has run and the
+     * alive count leaves room. Returns the number of spawns submitted.
+     */
+    int tick(Executor world) {
+        if (complete || batchQueued || cursor >= plan.size()) {
+            return 0;
+        }
+        long now = clock.getAsLong();
+        if (now < nextBatchAtMs) {
+            return 0;
+        }
+        int room = budget.maxAlive() - aliveCount.getAsInt();
+        int size = Math.min(Math.min(budget.spawnsPerTick(), room), plan.size() - cursor);
+        if (size <= 0) {
+            // Held by backpressure: retry on the next tick rather than a full interval later
+            return 0;
+        }
+
+        List<SpawnOrder> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(new SpawnOrder(plan.get(cursor + i), spawnPoints.get()));
+        }
+        boolean last = cursor + size >= plan.size();
+        batchQueued = true;
+        try {
+            world.execute(() -> runBatch(batch, last));
+        } catch (RuntimeException e) {
+            // World refused the task: the batch is retried on a later tick
+            batchQueued = false;
+            throw e;
+        }
+        cursor += size;
+        nextBatchAtMs = now + budget.intervalMs();
+        return size;
+    }
+
+    private void runBatch(List<SpawnOrder> batch, boolean last) {
+        try {
+            for (SpawnOrder order : batch) {
+                target.spawn(order);
+            }
+        } finally {
+            batchQueued = false;
+            if (last) {
+                complete = true;
+                onComplete.run();
+            }
+        }
+    }
+
+    /** Number of plan entries handed to the world so far. */
+    int dispatched() {
+        return cursor;
+    }
+
+    int size() {
+        return plan.size();
+    }
+
+    /** True once the final batch has run on the world thread. */
+    boolean isComplete() {
+        return complete;
+    }
+}
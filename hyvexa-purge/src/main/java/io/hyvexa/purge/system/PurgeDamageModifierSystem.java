@@ -40,6 +40,8 @@ import io.hyvexa.purge.manager.PurgeVariantConfigManager;
 import io.hyvexa.purge.manager.PurgeWeaponConfigManager;
 import io.hyvexa.purge.manager.WeaponXpManager;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -53,6 +55,10 @@ public class PurgeDamageModifierSystem extends DamageEventSystem {
     private static final int MAX_MOUNT_RESOLUTION_DEPTH = 4;
     private static final double MELEE_TARGET_RESOLVE_MAX_HORIZONTAL_DISTANCE_SQUARED = 2.25d;
     private static final double MELEE_TARGET_RESOLVE_MAX_VERTICAL_DISTANCE = 4.0d;
+    /** How far a zombie may have moved since the wave tick last indexed its position. */
+    private static final double ZOMBIE_INDEX_POSITION_SLACK = 3.0d;
+    private static final double MELEE_TARGET_CANDIDATE_RADIUS =
+            Math.sqrt(MELEE_TARGET_RESOLVE_MAX_HORIZONTAL_DISTANCE_SQUARED) + ZOMBIE_INDEX_POSITION_SLACK;
 
     private final PurgeSessionManager sessionManager;
     private final PurgeVariantConfigManager variantConfigManager;
@@ -309,10 +315,14 @@ public class PurgeDamageModifierSystem extends DamageEventSystem {
                                                              double x,
                                                              double y,
                                                              double z) {
+        // The index narrows the search to zombies last seen near the hit; live positions decide the winner
+        List<Ref<EntityStore>> candidates = new ArrayList<>();
+        session.getZombieIndex().collectWithin(x, y, z, MELEE_TARGET_CANDIDATE_RADIUS,
+                MELEE_TARGET_RESOLVE_MAX_VERTICAL_DISTANCE + ZOMBIE_INDEX_POSITION_SLACK, candidates);
         Ref<EntityStore> bestRef = null;
         double bestDistanceSquared = MELEE_TARGET_RESOLVE_MAX_HORIZONTAL_DISTANCE_SQUARED;
-        for (Ref<EntityStore> zombieRef : session.getAliveZombies()) {
-            if (zombieRef == null || !zombieRef.isValid()) {
+        for (Ref<EntityStore> zombieRef : candidates) {
+            if (zombieRef == null || !zombieRef.isValid() || !session.getAliveZombies().contains(zombieRef)) {
                 continue;
             }
             TransformComponent transform = store.getComponent(zombieRef, TransformComponent.getComponentType());
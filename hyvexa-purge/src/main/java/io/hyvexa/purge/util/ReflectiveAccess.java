@@ -0,0 +1,127 @@
+package io.hyvexa.purge.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached reflective access to engine internals the purge module reaches into (NPC instruction trees,
+ * spawn result pairs). Each member is looked up once per (class, name) and kept in a {@link ClassValue},
+ * so repeat access costs a map hit plus a {@link MethodHandle} call instead of a
+ * {@code getDeclaredField}/{@code getMethod} walk. Missing or inaccessible members are cached as absent and
+ * read as {@code null}; nothing here throws for a member that an engine update renamed.
+ */
+public final class ReflectiveAccess {
+
+    private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Members> MEMBERS = new ClassValue<>() {
+        @Override
+        protected Members computeValue(Class<?> type) {
+            return new Members();
+        }
+    };
+
+    private ReflectiveAccess() {
+    }
+
+    /** Per-class lookups, filled lazily by name. */
+    private static final class Members {
+        final ConcurrentHashMap<String, Optional<Field>> fields = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, Optional<MethodHandle>> fieldGetters = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, Optional<MethodHandle>> methods = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The field named {@code fieldName} declared on {@code type} or its nearest superclass, made accessible,
+     * or null if there is none.
+     */
+    public static Field findField(Class<?> type, String fieldName) {
+        return MEMBERS.get(type).fields.computeIfAbsent(fieldName, name -> lookupField(type, name)).orElse(null);
+    }
+
+    /** Reads a field (searched up the hierarchy) as an object; null if the field is missing or unreadable. */
+    public static Object readField(Object target, String fieldName) {
+        if (target == null) {
+            return null;
+        }
+        Class<?> type = target.getClass();
+        MethodHandle getter = MEMBERS.get(type).fieldGetters
+                .computeIfAbsent(fieldName, name -> lookupFieldGetter(type, name))
+                .orElse(null);
+        if (getter == null) {
+            return null;
+        }
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /** Calls a public no-argument method; null if the method is missing, inaccessible or throws. */
+    public static Object invokeNoArg(Object target, String methodName) {
+        if (target == null) {
+            return null;
+        }
+        Class<?> type = target.getClass();
+        MethodHandle method = MEMBERS.get(type).methods
+                .computeIfAbsent(methodName, name -> lookupNoArgMethod(type, name))
+                .orElse(null);
+        if (method == null) {
+            return null;
+        }
+        try {
+            return (Object) method.invokeExact(target);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static Optional<Field> lookupField(Class<?> type, String fieldName) {
+        for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+            try {
+                Field field = clazz.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                return Optional.of(field);
+            } catch (NoSuchFieldException e) {
+                // Try the superclass
+            } catch (RuntimeException e) {
+                // Module or security restrictions: treat as missing
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<MethodHandle> lookupFieldGetter(Class<?> type, String fieldName) {
+        Field field = findField(type, fieldName);
+        if (field == null || Modifier.isStatic(field.getModifiers())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(MethodHandles.lookup().unreflectGetter(field).asType(OBJECT_GETTER));
+        } catch (IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<MethodHandle> lookupNoArgMethod(Class<?> type, String methodName) {
+        try {
+            Method method = type.getMethod(methodName);
+            if (Modifier.isStatic(method.getModifiers())) {
+                return Optional.empty();
+            }
+            // Public methods on non-public implementation classes still need the accessible flag
+            method.setAccessible(true);
+            return Optional.of(MethodHandles.lookup().unreflect(method).asType(OBJECT_GETTER));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
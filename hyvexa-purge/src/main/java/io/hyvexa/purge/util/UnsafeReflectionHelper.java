@@ -17,20 +17,14 @@ public final class UnsafeReflectionHelper {
     private static volatile sun.misc.Unsafe UNSAFE_INSTANCE;
     private static volatile java.lang.reflect.Field MOTION_CONTROLLERS_FIELD;
 
-    // Generic field read cache for instruction tree traversal (className#fieldName -> Field)
-    private static final ConcurrentHashMap<String, java.lang.reflect.Field> FIELD_READ_CACHE = new ConcurrentHashMap<>();
-    private static final Set<String> FIELD_READ_MISSING = ConcurrentHashMap.newKeySet();
-
-    // Aggro boost: per-class Unsafe offsets for final-field writes on instruction tree nodes
-    static final ConcurrentHashMap<Class<?>, Long> SENSOR_RANGE_OFFSETS = new ConcurrentHashMap<>();
-    static final ConcurrentHashMap<Class<?>, Long> DELAY_RANGE_OFFSETS = new ConcurrentHashMap<>();
-    static final ConcurrentHashMap<Class<?>, Long> VIEW_CONE_OFFSETS = new ConcurrentHashMap<>();
-    static final ConcurrentHashMap<Class<?>, Long> ABORT_DIST_OFFSETS = new ConcurrentHashMap<>();
-    static final ConcurrentHashMap<Class<?>, Long> ABORT_DIST_SQ_OFFSETS = new ConcurrentHashMap<>();
-    static final ConcurrentHashMap<Class<?>, Long> STEER_DIST_OFFSETS = new ConcurrentHashMap<>();
-    static final ConcurrentHashMap<Class<?>, Long> STEER_DIST_SQ_OFFSETS = new ConcurrentHashMap<>();
+    // Per-class Unsafe offsets (fieldName -> offset, -1 if missing) for final-field writes on NPC internals
+    private static final ClassValue<ConcurrentHashMap<String, Long>> FIELD_OFFSETS = new ClassValue<>() {
+        @Override
+        protected ConcurrentHashMap<String, Long> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
-    private static final ConcurrentHashMap<Class<?>, Long> MAX_SPEED_OFFSET_CACHE = new ConcurrentHashMap<>();
     private static final ConcurrentHashMap<Class<?>, java.lang.reflect.Field> DROP_LIST_FIELD_CACHE = new ConcurrentHashMap<>();
     private static final Set<Class<?>> DROP_LIST_FIELD_MISSING = ConcurrentHashMap.newKeySet();
 
@@ -50,78 +44,38 @@ public final class UnsafeReflectionHelper {
     }
 
     public static Object readFieldCached(Object target, String fieldName) {
-        if (target == null) return null;
-        String key = target.getClass().getName() + "#" + fieldName;
-        if (FIELD_READ_MISSING.contains(key)) return null;
-        java.lang.reflect.Field field = FIELD_READ_CACHE.get(key);
-        if (field == null) {
-            Class<?> clazz = target.getClass();
-            while (clazz != null) {
-                try {
-                    field = clazz.getDeclaredField(fieldName);
-                    field.setAccessible(true);
-                    FIELD_READ_CACHE.put(key, field);
-                    break;
-                } catch (NoSuchFieldException e) {
-                    clazz = clazz.getSuperclass();
-                }
-            }
-            if (field == null) {
-                FIELD_READ_MISSING.add(key);
-                return null;
-            }
-        }
-        try {
-            return field.get(target);
-        } catch (Exception e) {
-            return null;
-        }
+        return ReflectiveAccess.readField(target, fieldName);
     }
 
-    @SuppressWarnings("removal")
-    public static long resolveAggroFieldOffset(sun.misc.Unsafe unsafe, Object target, String fieldName,
-                                                ConcurrentHashMap<Class<?>, Long> cache) {
-        Class<?> targetClass = target.getClass();
-        Long cached = cache.get(targetClass);
-        if (cached != null) return cached;
-        Class<?> clazz = targetClass;
-        while (clazz != null) {
-            try {
-                java.lang.reflect.Field field = clazz.getDeclaredField(fieldName);
-                long offset = unsafe.objectFieldOffset(field);
-                cache.put(targetClass, offset);
-                return offset;
-            } catch (NoSuchFieldException e) {
-                clazz = clazz.getSuperclass();
-            }
-        }
-        cache.put(targetClass, -1L);
-        LOGGER.atFine().log(fieldName + " field not found in " + targetClass.getName() + " hierarchy");
-        return -1;
+    /** Unsafe offset of a field searched up the target's hierarchy, or -1 if it is missing. */
+    public static long resolveAggroFieldOffset(sun.misc.Unsafe unsafe, Object target, String fieldName) {
+        return resolveFieldOffset(unsafe, target.getClass(), fieldName, false);
     }
 
-    @SuppressWarnings("removal")
     public static long resolveMaxSpeedFieldOffset(sun.misc.Unsafe unsafe, Object controller) {
-        Class<?> controllerClass = controller.getClass();
-        Long cached = MAX_SPEED_OFFSET_CACHE.get(controllerClass);
+        // maxHorizontalSpeed is declared on MotionControllerBase, search up hierarchy
+        return resolveFieldOffset(unsafe, controller.getClass(), "maxHorizontalSpeed", true);
+    }
+
+    @SuppressWarnings("removal")
+    private static long resolveFieldOffset(sun.misc.Unsafe unsafe, Class<?> type, String fieldName,
+                                           boolean warnIfMissing) {
+        ConcurrentHashMap<String, Long> offsets = FIELD_OFFSETS.get(type);
+        Long cached = offsets.get(fieldName);
         if (cached != null) {
             return cached;
         }
-        // maxHorizontalSpeed is declared on MotionControllerBase, search up hierarchy
-        Class<?> clazz = controllerClass;
-        while (clazz != null) {
-            try {
-                java.lang.reflect.Field field = clazz.getDeclaredField("maxHorizontalSpeed");
-                long offset = unsafe.objectFieldOffset(field);
-                MAX_SPEED_OFFSET_CACHE.put(controllerClass, offset);
-                return offset;
-            } catch (NoSuchFieldException e) {
-                clazz = clazz.getSuperclass();
+        java.lang.reflect.Field field = ReflectiveAccess.findField(type, fieldName);
+        long offset = field != null ? unsafe.objectFieldOffset(field) : -1L;
+        if (offsets.putIfAbsent(fieldName, offset) == null && offset < 0) {
+            String message = fieldName + " field not found in " + type.getName() + " hierarchy";
+            if (warnIfMissing) {
+                LOGGER.atWarning().log(message);
+            } else {
+                LOGGER.atFine().log(message);
             }
         }
-        MAX_SPEED_OFFSET_CACHE.put(controllerClass, -1L);
-        LOGGER.atWarning().log("maxHorizontalSpeed field not found in " + controllerClass.getName() + " hierarchy");
-        return -1;
+        return offset;
     }
 
     @SuppressWarnings("unchecked")
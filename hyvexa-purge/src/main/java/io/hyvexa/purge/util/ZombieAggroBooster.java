@@ -129,8 +129,7 @@ public final class ZombieAggroBooster {
 
     @SuppressWarnings("removal")
     private static boolean boostSensorRange(sun.misc.Unsafe unsafe, Object sensor) {
-        long offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, sensor, "range",
-                UnsafeReflectionHelper.SENSOR_RANGE_OFFSETS);
+        long offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, sensor, "range");
         if (offset < 0) return false;
         double original = unsafe.getDouble(sensor, offset);
         // Don't boost small-range sensors (< 5 blocks) — they're melee/proximity checks
@@ -148,8 +147,7 @@ public final class ZombieAggroBooster {
         if (filters instanceof Object[] arr) {
             for (Object filter : arr) {
                 if (filter == null) continue;
-                long offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, filter, "viewCone",
-                        UnsafeReflectionHelper.VIEW_CONE_OFFSETS);
+                long offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, filter, "viewCone");
                 if (offset >= 0) {
                     unsafe.putFloat(filter, offset, PURGE_VIEW_CONE);
                 }
@@ -157,8 +155,7 @@ public final class ZombieAggroBooster {
         } else if (filters instanceof Iterable<?> it) {
             for (Object filter : it) {
                 if (filter == null) continue;
-                long offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, filter, "viewCone",
-                        UnsafeReflectionHelper.VIEW_CONE_OFFSETS);
+                long offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, filter, "viewCone");
                 if (offset >= 0) {
                     unsafe.putFloat(filter, offset, PURGE_VIEW_CONE);
                 }
@@ -179,26 +176,22 @@ public final class ZombieAggroBooster {
         double range = PURGE_AGGRO_RANGE;
         double rangeSq = range * range;
 
-        long offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, bodyMotion, "abortDistance",
-                UnsafeReflectionHelper.ABORT_DIST_OFFSETS);
+        long offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, bodyMotion, "abortDistance");
         if (offset >= 0) {
             unsafe.putDouble(bodyMotion, offset, range);
             modified = true;
         }
-        offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, bodyMotion, "abortDistanceSquared",
-                UnsafeReflectionHelper.ABORT_DIST_SQ_OFFSETS);
+        offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, bodyMotion, "abortDistanceSquared");
         if (offset >= 0) {
             unsafe.putDouble(bodyMotion, offset, rangeSq);
         }
 
-        offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, bodyMotion, "switchToSteeringDistance",
-                UnsafeReflectionHelper.STEER_DIST_OFFSETS);
+        offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, bodyMotion, "switchToSteeringDistance");
         if (offset >= 0) {
             unsafe.putDouble(bodyMotion, offset, range);
             modified = true;
         }
-        offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, bodyMotion, "switchToSteeringDistanceSquared",
-                UnsafeReflectionHelper.STEER_DIST_SQ_OFFSETS);
+        offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, bodyMotion, "switchToSteeringDistanceSquared");
         if (offset >= 0) {
             unsafe.putDouble(bodyMotion, offset, rangeSq);
         }
@@ -247,8 +240,7 @@ public final class ZombieAggroBooster {
 
     @SuppressWarnings("removal")
     private static boolean zeroDelayRange(sun.misc.Unsafe unsafe, Object action) {
-        long offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, action, "delayRange",
-                UnsafeReflectionHelper.DELAY_RANGE_OFFSETS);
+        long offset = UnsafeReflectionHelper.resolveAggroFieldOffset(unsafe, action, "delayRange");
         if (offset < 0) return false;
         unsafe.putObject(action, offset, PURGE_NO_DELAY);
         return true;
@@ -0,0 +1,111 @@
+package io.hyvexa.purge.data;
+
+import io.hyvexa.common.bench.Microbenchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Microbenchmark for melee hit resolution against growing hordes: the previous linear scan over the alive
+ * set with a position lookup per zombie (standing in for the component fetch) versus a
+ * {@link ZombieSpatialIndex} candidate query. Each operation walks a few zombies a short step, as between
+ * wave ticks, and resolves one hit. Reports time per hit for each horde size. Run with {@link Microbenchmark}.
+ */
+public final class ZombieSpatialIndexBenchmark {
+
+    private static final int[] HORDE_SIZES = {50, 200, 1_000, 5_000};
+    private static final double ARENA_SIZE = 120.0;
+    private static final double HIT_RADIUS = 1.5 + 3.0;
+    private static final double MAX_VERTICAL = 4.0;
+    private static final int HITS_PER_ITERATION = 20_000;
+
+    private ZombieSpatialIndexBenchmark() {
+    }
+
+    private interface Resolver {
+        void move(int zombie, double x, double y, double z);
+
+        int resolve(double x, double y, double z);
+    }
+
+    public static void main(String[] args) {
+        Microbenchmark bench = new Microbenchmark(5, 10);
+        for (int hordeSize : HORDE_SIZES) {
+            Set<Integer> alive = ConcurrentHashMap.newKeySet();
+            Map<Integer, double[]> positions = new HashMap<>();
+            measure(bench, "scan", hordeSize, new Resolver() {
+                @Override
+                public void move(int zombie, double x, double y, double z) {
+                    alive.add(zombie);
+                    positions.put(zombie, new double[]{x, y, z});
+                }
+
+                @Override
+                public int resolve(double x, double y, double z) {
+                    int best = -1;
+                    double bestDistanceSquared = HIT_RADIUS * HIT_RADIUS;
+                    for (Integer i : alive) {
+                        double[] pos = positions.get(i);
+                        if (pos == null || Math.abs(pos[1] - y) > MAX_VERTICAL) continue;
+                        double dx = pos[0] - x;
+                        double dz = pos[2] - z;
+                        double distanceSquared = dx * dx + dz * dz;
+                        if (distanceSquared > bestDistanceSquared) continue;
+                        bestDistanceSquared = distanceSquared;
+                        best = i;
+                    }
+                    return best;
+                }
+            });
+
+            ZombieSpatialIndex<Integer> index = new ZombieSpatialIndex<>(4.0);
+            List<Integer> candidates = new ArrayList<>();
+            measure(bench, "index", hordeSize, new Resolver() {
+                @Override
+                public void move(int zombie, double x, double y, double z) {
+                    index.update(zombie, x, y, z);
+                }
+
+                @Override
+                public int resolve(double x, double y, double z) {
+                    candidates.clear();
+                    index.collectWithin(x, y, z, HIT_RADIUS, MAX_VERTICAL, candidates);
+                    return candidates.isEmpty() ? -1 : candidates.get(0);
+                }
+            });
+        }
+        bench.finish();
+    }
+
+    private static long iteration(double[][] horde, Resolver resolver, Random random) {
+        long acc = 0L;
+        for (int i = 0; i < HITS_PER_ITERATION; i++) {
+            for (int m = 0; m < 4; m++) {
+                int zombie = random.nextInt(horde.length);
+                double[] pos = horde[zombie];
+                pos[0] = Math.floorMod((long) (pos[0] * 1000) + random.nextInt(2001) - 1000, (long) (ARENA_SIZE * 1000)) / 1000.0;
+                pos[2] = Math.floorMod((long) (pos[2] * 1000) + random.nextInt(2001) - 1000, (long) (ARENA_SIZE * 1000)) / 1000.0;
+                resolver.move(zombie, pos[0], pos[1], pos[2]);
+            }
+            acc += resolver.resolve(random.nextDouble() * ARENA_SIZE, 65, random.nextDouble() * ARENA_SIZE);
+        }
+        return acc;
+    }
+
+    private static void measure(Microbenchmark bench, String name, int hordeSize, Resolver resolver) {
+        Random random = new Random(1);
+        double[][] horde = new double[hordeSize][];
+        for (int i = 0; i < hordeSize; i++) {
+            horde[i] = new double[]{random.nextDouble() * ARENA_SIZE, 64 + random.nextDouble() * 2,
+                    random.nextDouble() * ARENA_SIZE};
+            resolver.move(i, horde[i][0], horde[i][1], horde[i][2]);
+        }
+        bench.report(name + " " + hordeSize + " zombies", HITS_PER_ITERATION, "hit",
+                () -> bench.consume(iteration(horde, resolver, random)));
+    }
+}
@@ -0,0 +1,127 @@
+package io.hyvexa.purge.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZombieSpatialIndexTest {
+
+    private static double horizontalDistanceSquared(double[] pos, double x, double z) {
+        double dx = pos[0] - x;
+        double dz = pos[2] - z;
+        return dx * dx + dz * dz;
+    }
+
+    private static Set<Integer> bruteForceWithin(Map<Integer, double[]> positions, double x, double y, double z,
+                                                 double radius, double maxVertical) {
+        Set<Integer> result = new HashSet<>();
+        for (Map.Entry<Integer, double[]> entry : positions.entrySet()) {
+            double[] pos = entry.getValue();
+            if (Math.abs(pos[1] - y) <= maxVertical && horizontalDistanceSquared(pos, x, z) <= radius * radius) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    /** Smallest horizontal distance squared among eligible items, or -1 if none. */
+    private static double bruteForceNearest(Map<Integer, double[]> positions, double x, double y, double z,
+                                            double maxHorizontal, double maxVertical) {
+        double best = -1;
+        for (double[] pos : positions.values()) {
+            if (Math.abs(pos[1] - y) > maxVertical) continue;
+            double distanceSquared = horizontalDistanceSquared(pos, x, z);
+            if (distanceSquared <= maxHorizontal * maxHorizontal && (best < 0 || distanceSquared < best)) {
+                best = distanceSquared;
+            }
+        }
+        return best;
+    }
+
+    private static double[] randomPosition(Random random, double extent) {
+        return new double[]{(random.nextDouble() - 0.5) * extent, 60 + random.nextDouble() * 10,
+                (random.nextDouble() - 0.5) * extent};
+    }
+
+    @Test
+    void queriesMatchBruteForceOnRandomLayouts() {
+        Random random = new Random(17);
+        for (int layout = 0; layout < 20; layout++) {
+            double extent = 10 + random.nextDouble() * 200;
+            ZombieSpatialIndex<Integer> index = new ZombieSpatialIndex<>(1 + random.nextDouble() * 8);
+            Map<Integer, double[]> positions = new HashMap<>();
+            int count = 1 + random.nextInt(400);
+            for (int i = 0; i < count; i++) {
+                double[] pos = randomPosition(random, extent);
+                positions.put(i, pos);
+                index.update(i, pos[0], pos[1], pos[2]);
+            }
+            // Zombies walk, some die, new ones spawn
+            for (int step = 0; step < 200; step++) {
+                int id = random.nextInt(count + 50);
+                if (random.nextInt(5) == 0) {
+                    positions.remove(id);
+                    index.remove(id);
+                } else {
+                    double[] pos = randomPosition(random, extent);
+                    positions.put(id, pos);
+                    index.update(id, pos[0], pos[1], pos[2]);
+                }
+            }
+            assertEquals(positions.size(), index.size());
+
+            for (int query = 0; query < 100; query++) {
+                double[] at = randomPosition(random, extent * 1.2);
+                double radius = random.nextDouble() * extent / 4;
+                double vertical = random.nextDouble() * 6;
+
+                Set<Integer> within = new HashSet<>();
+                int added = index.collectWithin(at[0], at[1], at[2], radius, vertical, within);
+                assertEquals(bruteForceWithin(positions, at[0], at[1], at[2], radius, vertical), within,
+                        "layout " + layout + " query " + query);
+                assertEquals(within.size(), added);
+
+                Integer nearest = index.nearest(at[0], at[1], at[2], radius, vertical);
+                double expected = bruteForceNearest(positions, at[0], at[1], at[2], radius, vertical);
+                if (expected < 0) {
+                    assertNull(nearest);
+                } else {
+                    assertNotNull(nearest);
+                    assertEquals(expected, horizontalDistanceSquared(positions.get(nearest), at[0], at[2]), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    void movingAcrossCellsAndNegativeCoordinates() {
+        ZombieSpatialIndex<String> index = new ZombieSpatialIndex<>(4.0);
+        index.update("a", -0.5, 64, -0.5);
+        index.update("b", 3.9, 64, 3.9);
+        assertEquals("a", index.nearest(-1, 64, -1, 2, 1));
+        assertEquals("b", index.nearest(4.1, 64, 4.1, 2, 1));
+
+        index.update("a", 100, 64, -100);
+        assertNull(index.nearest(-1, 64, -1, 2, 1));
+        assertEquals("a", index.nearest(101, 64, -101, 2, 1));
+        assertNull(index.nearest(101, 70, -101, 2, 1), "vertical offset beyond the limit");
+
+        index.remove("a");
+        index.remove("missing");
+        assertEquals(1, index.size());
+        index.clear();
+        assertEquals(0, index.size());
+        assertNull(index.nearest(4, 64, 4, 100, 100));
+    }
+
+    @Test
+    void rejectsNonPositiveCellSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ZombieSpatialIndex<>(0));
+    }
+}
@@ -0,0 +1,158 @@
+package io.hyvexa.purge.manager;
+
+import io.hyvexa.purge.data.PurgeSpawnPoint;
+import io.hyvexa.purge.data.PurgeVariantConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaveSpawnPipelineTest {
+
+    private static final Map<String, PurgeVariantConfig> VARIANTS = Map.of(
+            "walker", new PurgeVariantConfig("walker", "Walker", 49, 4f, 1.0, "Zombie", 1),
+            "runner", new PurgeVariantConfig("runner", "Runner", 30, 3f, 1.5, "Zombie", 2),
+            "brute", new PurgeVariantConfig("brute", "Brute", 120, 8f, 0.8, "Zombie_Aberrant", 5));
+
+    private static final PurgeSpawnPoint POINT = new PurgeSpawnPoint(1, 100, 64, -40, 90f);
+
+    /** Fake world: queues submitted tasks until the test runs them, like a world thread lagging a tick. */
+    private static final class FakeWorld {
+        final List<Runnable> queued = new ArrayList<>();
+
+        void execute(Runnable task) {
+            queued.add(task);
+        }
+
+        void runQueued() {
+            List<Runnable> tasks = new ArrayList<>(queued);
+            queued.clear();
+            tasks.forEach(Runnable::run);
+        }
+    }
+
+    private static final class Harness {
+        final AtomicLong clock = new AtomicLong();
+        final AtomicInteger alive = new AtomicInteger();
+        final AtomicInteger completions = new AtomicInteger();
+        final FakeWorld world = new FakeWorld();
+        final List<WaveSpawnPipeline.SpawnOrder> spawned = new ArrayList<>();
+        final WaveSpawnPipeline pipeline;
+
+        Harness(List<String> order, WaveSpawnPipeline.Budget budget) {
+            List<WaveSpawnPipeline.PlannedSpawn> plan = WaveSpawnPipeline.plan(order, VARIANTS::get, 1.24, 2.0,
+                    new Random(5));
+            pipeline = new WaveSpawnPipeline(plan, budget, clock::get, alive::get, () -> POINT, spawnOrder -> {
+                spawned.add(spawnOrder);
+                alive.incrementAndGet();
+                return true;
+            }, completions::incrementAndGet);
+        }
+
+        int tickAt(long timeMs) {
+            clock.set(timeMs);
+            return pipeline.tick(world::execute);
+        }
+    }
+
+    private static List<String> interleaved(int walkers, int runners, int brutes) {
+        List<String> order = new ArrayList<>();
+        while (walkers > 0 || runners > 0 || brutes > 0) {
+            if (walkers-- > 0) order.add("walker");
+            if (runners-- > 0) order.add("runner");
+            if (brutes-- > 0) order.add("brute");
+        }
+        return order;
+    }
+
+    @Test
+    void drainsPlanInOrderWithinBudget() {
+        List<String> order = interleaved(6, 4, 2);
+        Harness h = new Harness(order, new WaveSpawnPipeline.Budget(5, 500, 100));
+
+        assertEquals(5, h.tickAt(0));
+        // Previous batch still queued on the world: nothing more is submitted
+        assertEquals(0, h.tickAt(0));
+        assertTrue(h.spawned.isEmpty());
+        h.world.runQueued();
+        assertEquals(5, h.spawned.size());
+
+        // Interval not elapsed yet
+        assertEquals(0, h.tickAt(100));
+        assertEquals(0, h.tickAt(499));
+        assertEquals(5, h.tickAt(500));
+        h.world.runQueued();
+        assertEquals(0, h.completions.get());
+
+        assertEquals(2, h.tickAt(1000));
+        assertFalse(h.pipeline.isComplete());
+        h.world.runQueued();
+        assertTrue(h.pipeline.isComplete());
+        assertEquals(1, h.completions.get());
+        assertEquals(0, h.tickAt(5000));
+        assertTrue(h.world.queued.isEmpty());
+
+        // Same order as the queue, every entry exactly once
+        List<String> spawnedKeys = new ArrayList<>();
+        for (int i = 0; i < h.spawned.size(); i++) {
+            WaveSpawnPipeline.SpawnOrder spawn = h.spawned.get(i);
+            assertEquals(i, spawn.spawn().index());
+            spawnedKeys.add(spawn.spawn().variantKey());
+        }
+        assertEquals(order, spawnedKeys);
+    }
+
+    @Test
+    void holdsSpawnsWhileTooManyAreAlive() {
+        Harness h = new Harness(interleaved(10, 0, 0), new WaveSpawnPipeline.Budget(5, 500, 6));
+
+        assertEquals(5, h.tickAt(0));
+        h.world.runQueued();
+        // Only one slot left under the cap
+        assertEquals(1, h.tickAt(500));
+        h.world.runQueued();
+        assertEquals(6, h.alive.get());
+
+        // At the cap: held, and nothing is consumed from the plan
+        assertEquals(0, h.tickAt(1000));
+        assertEquals(0, h.tickAt(1100));
+        assertEquals(6, h.pipeline.dispatched());
+
+        // Kills free up room; spawning resumes on the next tick instead of waiting another interval
+        h.alive.addAndGet(-4);
+        assertEquals(4, h.tickAt(1200));
+        h.world.runQueued();
+        assertTrue(h.pipeline.isComplete());
+        assertEquals(10, h.spawned.size());
+    }
+
+    @Test
+    void planResolvesVariantsAndScaledStats() {
+        List<String> order = interleaved(3, 2, 1);
+        order.add("unknown");
+        List<WaveSpawnPipeline.PlannedSpawn> plan = WaveSpawnPipeline.plan(order, VARIANTS::get, 1.36, 2.0,
+                new Random(9));
+
+        assertEquals(order.size(), plan.size());
+        Map<String, Integer> composition = new HashMap<>();
+        for (WaveSpawnPipeline.PlannedSpawn spawn : plan) {
+            composition.merge(spawn.variantKey(), 1, Integer::sum);
+            assertEquals(1.36, spawn.hpMultiplier());
+            assertTrue(Math.abs(spawn.jitterX()) < 2.0 && Math.abs(spawn.jitterZ()) < 2.0);
+            assertSame(VARIANTS.get(spawn.variantKey()), spawn.variant());
+        }
+        assertEquals(Map.of("walker", 3, "runner", 2, "brute", 1, "unknown", 1), composition);
+        assertNull(plan.get(plan.size() - 1).variant());
+
+        WaveSpawnPipeline.SpawnOrder placed = new WaveSpawnPipeline.SpawnOrder(plan.get(0), POINT);
+        assertEquals(POINT.x() + plan.get(0).jitterX(), placed.x());
+        assertEquals(POINT.z() + plan.get(0).jitterZ(), placed.z());
+    }
+}
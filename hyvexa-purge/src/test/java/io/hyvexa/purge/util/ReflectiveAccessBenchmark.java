@@ -0,0 +1,104 @@
+package io.hyvexa.purge.util;
+
+import io.hyvexa.common.bench.Microbenchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Microbenchmark for the reflective reads done per zombie spawn: the previous per-call lookups
+ * ({@code getMethod} then invoke for the spawn result pair, a {@code getDeclaredField} hierarchy walk then get
+ * for instruction tree fields) versus the cached {@link ReflectiveAccess} method handles.
+ * Run with {@link Microbenchmark}.
+ */
+public final class ReflectiveAccessBenchmark {
+
+    private static final String[] PAIR_ACCESSORS = {"getFirst", "getLeft", "getKey", "first", "left"};
+    private static final int READS_PER_ITERATION = 200_000;
+
+    private ReflectiveAccessBenchmark() {
+    }
+
+    private interface Reader {
+        Object read(Object target);
+    }
+
+    public static class Pair {
+        private final Object left;
+
+        public Pair(Object left) {
+            this.left = left;
+        }
+
+        public Object getLeft() {
+            return left;
+        }
+    }
+
+    static class BaseMotion {
+        private final double maxHorizontalSpeed = 4.5;
+    }
+
+    static final class ChaseMotion extends BaseMotion {
+        private final double abortDistance = 12.0;
+    }
+
+    public static void main(String[] args) {
+        Pair pair = new Pair("ref");
+        ChaseMotion motion = new ChaseMotion();
+        Microbenchmark bench = new Microbenchmark(5, 10);
+
+        measure(bench, "pair getMethod", pair, target -> {
+            for (String name : PAIR_ACCESSORS) {
+                try {
+                    Method method = target.getClass().getMethod(name);
+                    return method.invoke(target);
+                } catch (NoSuchMethodException ignored) {
+                    // Try next accessor
+                } catch (ReflectiveOperationException e) {
+                    return null;
+                }
+            }
+            return null;
+        });
+        measure(bench, "pair cached", pair, target -> {
+            for (String name : PAIR_ACCESSORS) {
+                Object value = ReflectiveAccess.invokeNoArg(target, name);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        });
+
+        measure(bench, "field lookup", motion, target -> {
+            for (Class<?> clazz = target.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+                try {
+                    Field field = clazz.getDeclaredField("maxHorizontalSpeed");
+                    field.setAccessible(true);
+                    return field.get(target);
+                } catch (NoSuchFieldException ignored) {
+                    // Try the superclass
+                } catch (ReflectiveOperationException e) {
+                    return null;
+                }
+            }
+            return null;
+        });
+        measure(bench, "field cached", motion, target -> ReflectiveAccess.readField(target, "maxHorizontalSpeed"));
+
+        bench.finish();
+    }
+
+    private static void measure(Microbenchmark bench, String name, Object target, Reader reader) {
+        bench.report(name, READS_PER_ITERATION, "read", () -> {
+            long acc = 0L;
+            for (int i = 0; i < READS_PER_ITERATION; i++) {
+                Object value = reader.read(target);
+                acc += value != null ? value.hashCode() : 1;
+            }
+            bench.consume(acc);
+        });
+    }
+
+}
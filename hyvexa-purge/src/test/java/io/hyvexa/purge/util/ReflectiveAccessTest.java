@@ -0,0 +1,83 @@
+package io.hyvexa.purge.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReflectiveAccessTest {
+
+    // Stand-ins for engine internals: private fields spread over a hierarchy, pair-like results
+
+    private static class BaseMotion {
+        private final double maxHorizontalSpeed = 4.5;
+    }
+
+    private static final class ChaseMotion extends BaseMotion {
+        private final Object inner = "wrapped";
+        private final double abortDistance = 12.0;
+        private static final Object SHARED = new Object();
+    }
+
+    private static final class Pair {
+        private final Object left;
+
+        private Pair(Object left) {
+            this.left = left;
+        }
+
+        public Object getFirst() {
+            return left;
+        }
+
+        public Object explode() {
+            throw new IllegalStateException("boom");
+        }
+
+        public static Object create() {
+            return new Object();
+        }
+    }
+
+    @Test
+    void readsPrivateFieldsAcrossHierarchy() {
+        ChaseMotion motion = new ChaseMotion();
+        assertEquals("wrapped", ReflectiveAccess.readField(motion, "inner"));
+        assertEquals(12.0, ReflectiveAccess.readField(motion, "abortDistance"));
+        assertEquals(4.5, ReflectiveAccess.readField(motion, "maxHorizontalSpeed"));
+        assertEquals(4.5, ReflectiveAccess.readField(new BaseMotion(), "maxHorizontalSpeed"));
+    }
+
+    @Test
+    void missingOrUnusableMembersReadAsNull() {
+        ChaseMotion motion = new ChaseMotion();
+        assertNull(ReflectiveAccess.readField(motion, "noSuchField"));
+        assertNull(ReflectiveAccess.readField(motion, "SHARED"));
+        assertNull(ReflectiveAccess.readField(null, "inner"));
+        // Cached absence stays absent
+        assertNull(ReflectiveAccess.readField(motion, "noSuchField"));
+
+        Pair pair = new Pair("ref");
+        assertNull(ReflectiveAccess.invokeNoArg(pair, "getLeft"));
+        assertNull(ReflectiveAccess.invokeNoArg(pair, "explode"));
+        assertNull(ReflectiveAccess.invokeNoArg(pair, "create"));
+        assertNull(ReflectiveAccess.invokeNoArg(null, "getFirst"));
+    }
+
+    @Test
+    void invokesPublicMethodsOnNonPublicClasses() {
+        assertEquals("ref", ReflectiveAccess.invokeNoArg(new Pair("ref"), "getFirst"));
+        assertEquals(7, ReflectiveAccess.invokeNoArg(new Pair(7), "getFirst"));
+        assertNull(ReflectiveAccess.invokeNoArg(new Pair(null), "getFirst"));
+    }
+
+    @Test
+    void findFieldResolvesOncePerClass() {
+        Field field = ReflectiveAccess.findField(ChaseMotion.class, "maxHorizontalSpeed");
+        assertNotNull(field);
+        assertEquals(BaseMotion.class, field.getDeclaringClass());
+        assertSame(field, ReflectiveAccess.findField(ChaseMotion.class, "maxHorizontalSpeed"));
+        assertNull(ReflectiveAccess.findField(ChaseMotion.class, "noSuchField"));
+    }
+}
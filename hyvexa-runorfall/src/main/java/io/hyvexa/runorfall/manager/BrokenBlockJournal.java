@@ -0,0 +1,225 @@
+package io.hyvexa.runorfall.manager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary journal of the platform blocks RunOrFall set to air, so they can be put back after a crash.
+ * <p>
+ * Layout: an 8-byte header (magic {@code "RFBJ"}, version int) followed by fixed 16-byte records: the packed
+ * block position (long), the original block id (int) and a CRC32 of those 12 bytes (int). Positions pack x and
+ * z into 26 signed bits each and y into 12 signed bits.
+ * <p>
+ * Breaks are buffered by {@link #append} and written by {@link #flush}, so a round only ever adds a few records
+ * per flush instead of rewriting the whole set. {@link #compact} replaces the file with just the blocks that are
+ * still broken. Reading stops at the first short or corrupt record: a write torn by a crash loses that record and
+ * anything after it, never the records before it.
+ */
+final class BrokenBlockJournal {
+    static final int HEADER_BYTES = 8;
+    static final int RECORD_BYTES = 16;
+    static final int MAGIC = 0x5246424A; // "RFBJ"
+    static final int VERSION = 1;
+    private static final int MIN_COMPACT_RECORDS = 4096;
+    private static final int HORIZONTAL_BITS = 26;
+    private static final int VERTICAL_BITS = 12;
+
+    /** What {@link #read} found: the recovered blocks, the bytes of the valid prefix and the bytes dropped after it. */
+    record Recovery(Map<RunOrFallArena.BlockKey, Integer> blocks, int records, long validBytes, long discardedBytes) {
+        static final Recovery EMPTY = new Recovery(Map.of(), 0, 0L, 0L);
+    }
+
+    private final Path file;
+    private final List<RunOrFallArena.RemovedBlock> pending = new ArrayList<>();
+    // Length of the file as last written by this journal; -1 until the file on disk has been scanned
+    private long validLength = -1L;
+    private int recordCount;
+
+    BrokenBlockJournal(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the journal left by the previous run and rewrites it to its valid prefix, so new records are appended
+     * right after the last good one. Returns what was recovered.
+     */
+    synchronized Recovery open() throws IOException {
+        Recovery recovery = read(file);
+        writeCompacted(recovery.blocks());
+        return recovery;
+    }
+
+    /** Buffers {@code blocks} for the next flush; returns how many were skipped for lying outside the packed range. */
+    synchronized int append(Collection<RunOrFallArena.RemovedBlock> blocks) {
+        int skipped = 0;
+        for (RunOrFallArena.RemovedBlock block : blocks) {
+            RunOrFallArena.BlockKey key = block.key();
+            if (fits(key.x(), key.y(), key.z())) {
+                pending.add(block);
+            } else {
+                skipped++;
+            }
+        }
+        return skipped;
+    }
+
+    /** Writes the buffered records to disk. On failure they stay buffered and the next flush retries them. */
+    synchronized void flush() throws IOException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (validLength < 0L) {
+            writeCompacted(read(file).blocks());
+        }
+        boolean newFile = validLength == 0L;
+        ByteBuffer buffer = ByteBuffer.allocate((newFile ? HEADER_BYTES : 0) + pending.size() * RECORD_BYTES);
+        if (newFile) {
+            writeHeader(buffer);
+        }
+        for (RunOrFallArena.RemovedBlock block : pending) {
+            writeRecord(buffer, block.key(), block.originalBlockId());
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Drops the remains of an earlier failed write before appending after the last good record
+            channel.truncate(validLength);
+            channel.position(validLength);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            validLength = channel.position();
+        }
+        recordCount += pending.size();
+        pending.clear();
+    }
+
+    /**
+     * Replaces the journal with the blocks {@code liveBlocks} reports as still broken, dropping buffered records.
+     * The supplier runs under the journal's lock, so a break appended concurrently is either part of the
+     * snapshot or appended after the compaction, never lost in between.
+     */
+    synchronized void compact(Supplier<Map<RunOrFallArena.BlockKey, Integer>> liveBlocks) throws IOException {
+        pending.clear();
+        writeCompacted(liveBlocks.get());
+    }
+
+    /** True once the file holds mostly records of blocks that have since been put back. */
+    synchronized boolean shouldCompact(int liveBlockCount) {
+        return recordCount >= MIN_COMPACT_RECORDS && recordCount > 2 * Math.max(0, liveBlockCount);
+    }
+
+    /** Reads the valid prefix of the journal at {@code file}; a missing file recovers nothing. */
+    static Recovery read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Recovery.EMPTY;
+        }
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+        int length = data.remaining();
+        if (length < HEADER_BYTES || data.getInt(0) != MAGIC || data.getInt(4) != VERSION) {
+            return new Recovery(Map.of(), 0, 0L, length);
+        }
+        Map<RunOrFallArena.BlockKey, Integer> blocks = new LinkedHashMap<>();
+        CRC32 crc = new CRC32();
+        int offset = HEADER_BYTES;
+        int records = 0;
+        while (offset + RECORD_BYTES <= length) {
+            crc.reset();
+            crc.update(data.array(), offset, RECORD_BYTES - 4);
+            if ((int) crc.getValue() != data.getInt(offset + RECORD_BYTES - 4)) {
+                break;
+            }
+            // The first record of a position carries the block that was there before the round
+            blocks.putIfAbsent(unpack(data.getLong(offset)), data.getInt(offset + 8));
+            records++;
+            offset += RECORD_BYTES;
+        }
+        return new Recovery(Collections.unmodifiableMap(blocks), records, offset, length - offset);
+    }
+
+    static long pack(int x, int y, int z) {
+        long packedX = x & ((1L << HORIZONTAL_BITS) - 1);
+        long packedZ = z & ((1L << HORIZONTAL_BITS) - 1);
+        long packedY = y & ((1L << VERTICAL_BITS) - 1);
+        return (packedX << (HORIZONTAL_BITS + VERTICAL_BITS)) | (packedZ << VERTICAL_BITS) | packedY;
+    }
+
+    static RunOrFallArena.BlockKey unpack(long packed) {
+        int x = (int) (packed >> (HORIZONTAL_BITS + VERTICAL_BITS));
+        int z = (int) ((packed << HORIZONTAL_BITS) >> (HORIZONTAL_BITS + VERTICAL_BITS));
+        int y = (int) ((packed << (64 - VERTICAL_BITS)) >> (64 - VERTICAL_BITS));
+        return new RunOrFallArena.BlockKey(x, y, z);
+    }
+
+    static boolean fits(int x, int y, int z) {
+        return fitsSigned(x, HORIZONTAL_BITS) && fitsSigned(z, HORIZONTAL_BITS) && fitsSigned(y, VERTICAL_BITS);
+    }
+
+    private void writeCompacted(Map<RunOrFallArena.BlockKey, Integer> blocks) throws IOException {
+        if (blocks.isEmpty()) {
+            Files.deleteIfExists(file);
+            validLength = 0L;
+            recordCount = 0;
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + blocks.size() * RECORD_BYTES);
+        writeHeader(buffer);
+        for (Map.Entry<RunOrFallArena.BlockKey, Integer> entry : blocks.entrySet()) {
+            writeRecord(buffer, entry.getKey(), entry.getValue());
+        }
+        buffer.flip();
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        validLength = buffer.limit();
+        recordCount = blocks.size();
+    }
+
+    private static void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+    }
+
+    private static void writeRecord(ByteBuffer buffer, RunOrFallArena.BlockKey key, int blockId) {
+        int start = buffer.position();
+        buffer.putLong(pack(key.x(), key.y(), key.z()));
+        buffer.putInt(blockId);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), start, RECORD_BYTES - 4);
+        buffer.putInt((int) crc.getValue());
+    }
+
+    private static boolean fitsSigned(int value, int bits) {
+        int min = -(1 << (bits - 1));
+        int max = (1 << (bits - 1)) - 1;
+        return value >= min && value <= max;
+    }
+}
@@ -0,0 +1,102 @@
+package io.hyvexa.runorfall.manager;
+
+import io.hyvexa.runorfall.data.RunOrFallMapConfig;
+import io.hyvexa.runorfall.data.RunOrFallPlatform;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * A map's platforms bucketed by layer and 16x16 chunk column, so checking whether a block belongs to a
+ * platform only looks at the platforms overlapping that column. Immutable once built.
+ */
+final class PlatformQueryIndex {
+    static final PlatformQueryIndex EMPTY = new PlatformQueryIndex(Map.of());
+
+    private final Map<Integer, Map<Long, List<IndexedPlatform>>> platformsByLayer;
+
+    private PlatformQueryIndex(Map<Integer, Map<Long, List<IndexedPlatform>>> platformsByLayer) {
+        this.platformsByLayer = platformsByLayer;
+    }
+
+    /**
+     * Indexes the platforms of {@code map}; {@code blockIds} resolves a platform's target block item id to a
+     * block id (negative if unknown).
+     */
+    static PlatformQueryIndex build(RunOrFallMapConfig map, ToIntFunction<String> blockIds) {
+        if (map == null || map.platforms == null || map.platforms.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Integer, Map<Long, List<IndexedPlatform>>> byLayer = new HashMap<>();
+        for (RunOrFallPlatform platform : map.platforms) {
+            if (platform == null) {
+                continue;
+            }
+            IndexedPlatform indexedPlatform = new IndexedPlatform(platform, resolveTargetBlockId(platform, blockIds));
+            int minChunkX = Math.floorDiv(platform.minX, 16);
+            int maxChunkX = Math.floorDiv(platform.maxX, 16);
+            int minChunkZ = Math.floorDiv(platform.minZ, 16);
+            int maxChunkZ = Math.floorDiv(platform.maxZ, 16);
+            for (int y = platform.minY; y <= platform.maxY; y++) {
+                Map<Long, List<IndexedPlatform>> byChunk = byLayer.computeIfAbsent(y, ignored -> new HashMap<>());
+                for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                    for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                        byChunk.computeIfAbsent(chunkKey(chunkX, chunkZ), ignored -> new ArrayList<>())
+                                .add(indexedPlatform);
+                    }
+                }
+            }
+        }
+        Map<Integer, Map<Long, List<IndexedPlatform>>> immutableByLayer = new HashMap<>();
+        for (Map.Entry<Integer, Map<Long, List<IndexedPlatform>>> layerEntry : byLayer.entrySet()) {
+            Map<Long, List<IndexedPlatform>> immutableByChunk = new HashMap<>();
+            for (Map.Entry<Long, List<IndexedPlatform>> chunkEntry : layerEntry.getValue().entrySet()) {
+                immutableByChunk.put(chunkEntry.getKey(), List.copyOf(chunkEntry.getValue()));
+            }
+            immutableByLayer.put(layerEntry.getKey(), Map.copyOf(immutableByChunk));
+        }
+        return new PlatformQueryIndex(Map.copyOf(immutableByLayer));
+    }
+
+    /** True if the block at the position lies on a platform whose target block (if any) is {@code blockId}. */
+    boolean contains(int x, int y, int z, int blockId) {
+        Map<Long, List<IndexedPlatform>> byChunk = platformsByLayer.get(y);
+        if (byChunk == null) {
+            return false;
+        }
+        List<IndexedPlatform> platforms = byChunk.get(chunkKey(Math.floorDiv(x, 16), Math.floorDiv(z, 16)));
+        if (platforms == null) {
+            return false;
+        }
+        for (IndexedPlatform platform : platforms) {
+            if (platform.contains(x, y, z, blockId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Integer resolveTargetBlockId(RunOrFallPlatform platform, ToIntFunction<String> blockIds) {
+        String configuredItemId = platform.targetBlockItemId;
+        if (configuredItemId == null || configuredItemId.isBlank()) {
+            return null;
+        }
+        return blockIds.applyAsInt(configuredItemId.trim());
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private record IndexedPlatform(RunOrFallPlatform platform, Integer targetBlockId) {
+        private boolean contains(int x, int y, int z, int blockId) {
+            if (!platform.contains(x, y, z)) {
+                return false;
+            }
+            return targetBlockId == null || targetBlockId == blockId;
+        }
+    }
+}
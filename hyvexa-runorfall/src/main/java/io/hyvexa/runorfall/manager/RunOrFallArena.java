@@ -0,0 +1,505 @@
+package io.hyvexa.runorfall.manager;
+
+import io.hyvexa.runorfall.data.RunOrFallConfig;
+import io.hyvexa.runorfall.data.RunOrFallMapConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Round state of one RunOrFall map: its players, the platform blocks queued to break and already removed,
+ * and per-player round counters.
+ * <p>
+ * Every mutation runs under this arena's own monitor, so rounds on different maps tick independently of each
+ * other and of the lobby. Nothing here touches the server: blocks are read and written through
+ * {@link BlockAccess}, time comes from the injected clock, and player-facing effects (messages, teleports,
+ * stats, feathers) are left to the caller, driven by what {@link #tick} reports. Membership and counter
+ * queries used by HUD and interaction code are lock-free.
+ */
+final class RunOrFallArena {
+    static final long FEATHER_SURVIVAL_INTERVAL_MS = 60_000L;
+    static final long BLOCK_RETRY_MS = 50L;
+    private static final double PLAYER_FOOTPRINT_RADIUS = 0.37d;
+    private static final double PLAYER_BLOCK_DETECTION_Y_OFFSET = 1d;
+
+    /** World blocks as seen by the arena. */
+    interface BlockAccess {
+        /** Block id at the position, or null while its chunk is not loaded. */
+        Integer readBlockId(int x, int y, int z);
+
+        boolean writeBlockId(int x, int y, int z, int blockId);
+    }
+
+    record BlockKey(int x, int y, int z) {}
+
+    /** Position of an alive player, sampled by the caller for one tick. */
+    record PlayerSample(UUID playerId, double x, double y, double z) {}
+
+    /** A platform block removed this tick and credited to {@code playerId}, with their updated counters. */
+    record BlockBreak(UUID playerId, int brokenBlocks, int blinkCharges, int rewardedCharges, int milestoneBlocks) {}
+
+    /** A platform block this arena set to air, with the block id to put back. */
+    record RemovedBlock(BlockKey key, int originalBlockId) {}
+
+    /** Round totals of a player leaving the alive set. */
+    record PlayerResult(UUID playerId, long survivedMs, int brokenBlocks, int blinksUsed) {}
+
+    /**
+     * What one tick changed. {@code removedBlocks} lists every block set to air, credited or not;
+     * {@code featherIntervals} holds the survival intervals each player completed; {@code blockBreakCountdown}
+     * is the number of seconds to announce before blocks start breaking, or 0.
+     */
+    record TickResult(List<PlayerResult> fellIntoVoid, List<BlockBreak> blockBreaks, List<RemovedBlock> removedBlocks,
+                      Map<UUID, Long> featherIntervals, int blockBreakCountdown) {
+        static final TickResult NONE = new TickResult(List.of(), List.of(), List.of(), Map.of(), 0);
+    }
+
+    private final String mapId;
+    private final BlockAccess blocks;
+    private final int airBlockId;
+    private final ToIntFunction<String> blockIds;
+    private final LongSupplier clock;
+
+    private final Set<UUID> members = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> alivePlayers = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Long> roundStartTimesMs = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> nextAliveFeatherRewardAtMs = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> brokenBlocksByPlayer = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> blinkChargesByPlayer = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> blinksUsedByPlayer = new ConcurrentHashMap<>();
+    // Block state is only touched under the monitor
+    private final Map<BlockKey, PendingBlock> pendingBlocks = new HashMap<>();
+    private final PriorityQueue<PendingBlockQueueEntry> pendingBlockQueue =
+            new PriorityQueue<>(Comparator.comparingLong(PendingBlockQueueEntry::nextAttemptAtMs));
+    private final Map<BlockKey, Integer> removedBlocks = new HashMap<>();
+    private final Map<UUID, BlockKey> playerLastFootBlock = new HashMap<>();
+
+    private volatile boolean running;
+    private volatile boolean soloRound;
+    private volatile RunOrFallConfig roundConfig;
+    private volatile RunOrFallMapConfig map;
+    private volatile PlatformQueryIndex platformIndex = PlatformQueryIndex.EMPTY;
+    private long blockBreakEnabledAtMs;
+    private int blockBreakCountdownLastAnnounced = -1;
+
+    RunOrFallArena(String mapId, BlockAccess blocks, int airBlockId, ToIntFunction<String> blockIds,
+                   LongSupplier clock) {
+        this.mapId = mapId;
+        this.blocks = blocks;
+        this.airBlockId = airBlockId;
+        this.blockIds = blockIds;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts a round on {@code map} with {@code players} alive. Blocks start breaking once
+     * {@code blockBreakGraceMs} has passed. Returns false if a round is already running here.
+     */
+    synchronized boolean start(RunOrFallConfig config, RunOrFallMapConfig map, List<UUID> players,
+                               int startingBlinkCharges, boolean solo, long blockBreakGraceMs) {
+        if (running || players == null || players.isEmpty()) {
+            return false;
+        }
+        clearRoundState();
+        long nowMs = clock.getAsLong();
+        this.roundConfig = config;
+        this.map = map;
+        this.platformIndex = PlatformQueryIndex.build(map, blockIds);
+        this.soloRound = solo;
+        for (UUID playerId : players) {
+            members.add(playerId);
+            alivePlayers.add(playerId);
+            roundStartTimesMs.put(playerId, nowMs);
+            nextAliveFeatherRewardAtMs.put(playerId, nowMs + FEATHER_SURVIVAL_INTERVAL_MS);
+            brokenBlocksByPlayer.put(playerId, 0);
+            blinkChargesByPlayer.put(playerId, Math.max(0, startingBlinkCharges));
+            blinksUsedByPlayer.put(playerId, 0);
+        }
+        blockBreakEnabledAtMs = nowMs + blockBreakGraceMs;
+        blockBreakCountdownLastAnnounced = (int) Math.ceil(blockBreakGraceMs / 1000.0d);
+        running = true;
+        return true;
+    }
+
+    /**
+     * Advances the round: eliminates sampled players below the void, queues the platform block under each
+     * remaining player and removes the queued blocks that are due.
+     */
+    synchronized TickResult tick(List<PlayerSample> samples) {
+        if (!running) {
+            return TickResult.NONE;
+        }
+        RunOrFallConfig config = roundConfig;
+        long nowMs = clock.getAsLong();
+        boolean canBreakBlocks = nowMs >= blockBreakEnabledAtMs;
+        int blockBreakCountdown = canBreakBlocks ? 0 : nextBlockBreakCountdown(nowMs);
+        List<PlayerResult> fellIntoVoid = null;
+        Map<UUID, Long> featherIntervals = null;
+        for (PlayerSample sample : samples) {
+            UUID playerId = sample.playerId();
+            if (playerId == null || !alivePlayers.contains(playerId)) {
+                continue;
+            }
+            if (sample.y() < config.voidY) {
+                if (fellIntoVoid == null) {
+                    fellIntoVoid = new ArrayList<>();
+                }
+                fellIntoVoid.add(leaveAliveInternal(playerId, nowMs));
+                continue;
+            }
+            long intervals = takeDueFeatherIntervals(playerId, nowMs);
+            if (intervals > 0L) {
+                if (featherIntervals == null) {
+                    featherIntervals = new HashMap<>();
+                }
+                featherIntervals.put(playerId, intervals);
+            }
+            if (canBreakBlocks) {
+                int blockY = (int) Math.floor(sample.y() - PLAYER_BLOCK_DETECTION_Y_OFFSET);
+                queueFootprintBlocksInternal(playerId, sample.x(), sample.z(), blockY,
+                        config.blockBreakDelaySeconds, nowMs);
+            }
+        }
+        List<RemovedBlock> removed = new ArrayList<>();
+        List<BlockBreak> blockBreaks = processPendingBlocksInternal(nowMs,
+                Math.max(1, config.blinkChargeEveryBlocksBroken), removed);
+        return new TickResult(fellIntoVoid != null ? fellIntoVoid : List.of(), blockBreaks,
+                removed.isEmpty() ? List.of() : removed,
+                featherIntervals != null ? featherIntervals : Map.of(), blockBreakCountdown);
+    }
+
+    /** Removes {@code playerId} from the alive set; returns their round totals, or null if they were not alive. */
+    synchronized PlayerResult eliminate(UUID playerId) {
+        if (!running || playerId == null || !alivePlayers.contains(playerId)) {
+            return null;
+        }
+        return leaveAliveInternal(playerId, clock.getAsLong());
+    }
+
+    /**
+     * Drops {@code playerId} from the arena entirely (left or disconnected). Returns their round totals if they
+     * were still alive, otherwise null.
+     */
+    synchronized PlayerResult removeMember(UUID playerId) {
+        if (playerId == null || !members.remove(playerId)) {
+            return null;
+        }
+        PlayerResult result = alivePlayers.contains(playerId) ? leaveAliveInternal(playerId, clock.getAsLong()) : null;
+        brokenBlocksByPlayer.remove(playerId);
+        blinkChargesByPlayer.remove(playerId);
+        blinksUsedByPlayer.remove(playerId);
+        return result;
+    }
+
+    /** True once a solo round has no player left, or a regular round is down to one player or none. */
+    synchronized boolean isRoundOver() {
+        if (!running) {
+            return false;
+        }
+        return soloRound ? alivePlayers.isEmpty() : alivePlayers.size() <= 1;
+    }
+
+    /** Takes the last player standing out of a finished regular round; null for solo rounds or no survivor. */
+    synchronized PlayerResult takeWinner() {
+        if (!running || soloRound || alivePlayers.size() != 1) {
+            return null;
+        }
+        UUID winner = alivePlayers.iterator().next();
+        return leaveAliveInternal(winner, clock.getAsLong());
+    }
+
+    /** Ends the round: puts every removed block back and returns the players that were in it. */
+    synchronized List<UUID> end() {
+        List<UUID> roundMembers = List.copyOf(members);
+        for (Map.Entry<BlockKey, Integer> entry : removedBlocks.entrySet()) {
+            BlockKey key = entry.getKey();
+            blocks.writeBlockId(key.x(), key.y(), key.z(), entry.getValue());
+        }
+        clearRoundState();
+        running = false;
+        soloRound = false;
+        roundConfig = null;
+        map = null;
+        platformIndex = PlatformQueryIndex.EMPTY;
+        return roundMembers;
+    }
+
+    /** Spends one blink charge; returns the charges left, or -1 if the player is not alive or has none. */
+    synchronized int tryConsumeBlinkCharge(UUID playerId) {
+        if (!running || playerId == null || !alivePlayers.contains(playerId)) {
+            return -1;
+        }
+        int currentCharges = count(blinkChargesByPlayer, playerId);
+        if (currentCharges <= 0) {
+            return -1;
+        }
+        int nextCharges = currentCharges - 1;
+        blinkChargesByPlayer.put(playerId, nextCharges);
+        blinksUsedByPlayer.put(playerId, count(blinksUsedByPlayer, playerId) + 1);
+        return nextCharges;
+    }
+
+    synchronized Map<BlockKey, Integer> removedBlocksSnapshot() {
+        return Map.copyOf(removedBlocks);
+    }
+
+    synchronized int removedBlockCount() {
+        return removedBlocks.size();
+    }
+
+    synchronized int pendingBlockCount() {
+        return pendingBlocks.size();
+    }
+
+    String mapId() {
+        return mapId;
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    boolean isSoloRound() {
+        return soloRound;
+    }
+
+    RunOrFallConfig roundConfig() {
+        return roundConfig;
+    }
+
+    RunOrFallMapConfig map() {
+        return map;
+    }
+
+    boolean isMember(UUID playerId) {
+        return playerId != null && members.contains(playerId);
+    }
+
+    boolean isAlive(UUID playerId) {
+        return running && playerId != null && alivePlayers.contains(playerId);
+    }
+
+    /** Live read-only view of the players still alive. */
+    Set<UUID> alivePlayers() {
+        return Collections.unmodifiableSet(alivePlayers);
+    }
+
+    /** Live read-only view of everyone in the round, alive or spectating. */
+    Set<UUID> members() {
+        return Collections.unmodifiableSet(members);
+    }
+
+    int getBrokenBlocksCount(UUID playerId) {
+        return playerId != null ? count(brokenBlocksByPlayer, playerId) : 0;
+    }
+
+    int getBlinkCharges(UUID playerId) {
+        return playerId != null ? count(blinkChargesByPlayer, playerId) : 0;
+    }
+
+    /** True if a blink may pass through the block: air, or a block of this round's platforms. */
+    boolean canBlinkPassThrough(int x, int y, int z, int blockId) {
+        return blockId == airBlockId || platformIndex.contains(x, y, z, blockId);
+    }
+
+    private int nextBlockBreakCountdown(long nowMs) {
+        long remainingMs = blockBreakEnabledAtMs - nowMs;
+        int remainingSeconds = (int) Math.ceil(remainingMs / 1000.0d);
+        if (remainingSeconds <= 0 || remainingSeconds == blockBreakCountdownLastAnnounced) {
+            return 0;
+        }
+        blockBreakCountdownLastAnnounced = remainingSeconds;
+        return remainingSeconds;
+    }
+
+    private long takeDueFeatherIntervals(UUID playerId, long nowMs) {
+        long nextRewardAt = nextAliveFeatherRewardAtMs
+                .computeIfAbsent(playerId, ignored -> nowMs + FEATHER_SURVIVAL_INTERVAL_MS);
+        if (nowMs < nextRewardAt) {
+            return 0L;
+        }
+        long elapsedIntervals = 1L + ((nowMs - nextRewardAt) / FEATHER_SURVIVAL_INTERVAL_MS);
+        nextAliveFeatherRewardAtMs.put(playerId, nextRewardAt + (elapsedIntervals * FEATHER_SURVIVAL_INTERVAL_MS));
+        return elapsedIntervals;
+    }
+
+    private PlayerResult leaveAliveInternal(UUID playerId, long nowMs) {
+        alivePlayers.remove(playerId);
+        playerLastFootBlock.remove(playerId);
+        nextAliveFeatherRewardAtMs.remove(playerId);
+        Long roundStartMs = roundStartTimesMs.remove(playerId);
+        long survivedMs = roundStartMs != null ? Math.max(0L, nowMs - roundStartMs) : 0L;
+        return new PlayerResult(playerId, survivedMs, count(brokenBlocksByPlayer, playerId),
+                count(blinksUsedByPlayer, playerId));
+    }
+
+    private void queueFootprintBlocksInternal(UUID playerId, double centerX, double centerZ, int blockY,
+                                              double delaySeconds, long nowMs) {
+        PlatformQueryIndex index = platformIndex;
+        int minX = (int) Math.floor(centerX - PLAYER_FOOTPRINT_RADIUS);
+        int maxX = (int) Math.floor(centerX + PLAYER_FOOTPRINT_RADIUS);
+        int minZ = (int) Math.floor(centerZ - PLAYER_FOOTPRINT_RADIUS);
+        int maxZ = (int) Math.floor(centerZ + PLAYER_FOOTPRINT_RADIUS);
+        BlockKey previousKey = playerLastFootBlock.get(playerId);
+        if (previousKey != null
+                && previousKey.y() == blockY
+                && previousKey.x() >= minX && previousKey.x() <= maxX
+                && previousKey.z() >= minZ && previousKey.z() <= maxZ) {
+            Integer previousBlockId = blocks.readBlockId(previousKey.x(), previousKey.y(), previousKey.z());
+            if (previousBlockId != null
+                    && previousBlockId != airBlockId
+                    && index.contains(previousKey.x(), previousKey.y(), previousKey.z(), previousBlockId)) {
+                return;
+            }
+        }
+
+        BlockKey closestKey = null;
+        double closestDistanceSq = Double.MAX_VALUE;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                BlockKey key = new BlockKey(x, blockY, z);
+                if (removedBlocks.containsKey(key)) {
+                    continue;
+                }
+                Integer currentId = blocks.readBlockId(x, blockY, z);
+                if (currentId == null || currentId == airBlockId) {
+                    continue;
+                }
+                if (!index.contains(x, blockY, z, currentId)) {
+                    continue;
+                }
+                double dx = centerX - (x + 0.5d);
+                double dz = centerZ - (z + 0.5d);
+                double distanceSq = (dx * dx) + (dz * dz);
+                if (distanceSq < closestDistanceSq) {
+                    closestDistanceSq = distanceSq;
+                    closestKey = key;
+                }
+            }
+        }
+        if (closestKey == null) {
+            playerLastFootBlock.remove(playerId);
+            return;
+        }
+        playerLastFootBlock.put(playerId, closestKey);
+        if (pendingBlocks.containsKey(closestKey)) {
+            return;
+        }
+        queueBlockRemovalInternal(playerId, closestKey, delaySeconds, nowMs);
+    }
+
+    private void queueBlockRemovalInternal(UUID playerId, BlockKey key, double delaySeconds, long nowMs) {
+        if (removedBlocks.containsKey(key) || pendingBlocks.containsKey(key)) {
+            return;
+        }
+        Integer currentId = blocks.readBlockId(key.x(), key.y(), key.z());
+        if (currentId == null || currentId == airBlockId) {
+            return;
+        }
+        long delayMs = Math.max(0L, Math.round(delaySeconds * 1000.0d));
+        PendingBlock pending = new PendingBlock(currentId, playerId);
+        pendingBlocks.put(key, pending);
+        pendingBlockQueue.add(new PendingBlockQueueEntry(key, pending, nowMs + delayMs));
+    }
+
+    private List<BlockBreak> processPendingBlocksInternal(long nowMs, int blocksPerExtraBlink,
+                                                          List<RemovedBlock> removed) {
+        if (pendingBlocks.isEmpty()) {
+            pendingBlockQueue.clear();
+            return List.of();
+        }
+        List<BlockBreak> blockBreaks = null;
+        while (true) {
+            PendingBlockQueueEntry entry = pendingBlockQueue.peek();
+            if (entry == null || entry.nextAttemptAtMs() > nowMs) {
+                break;
+            }
+            pendingBlockQueue.poll();
+            PendingBlock pending = pendingBlocks.get(entry.key());
+            if (pending == null || pending != entry.pending()) {
+                continue;
+            }
+            BlockKey key = entry.key();
+            Integer currentId = blocks.readBlockId(key.x(), key.y(), key.z());
+            if (currentId == null) {
+                pendingBlockQueue.add(entry.retryAt(nowMs + BLOCK_RETRY_MS));
+                continue;
+            }
+            if (currentId == airBlockId) {
+                pendingBlocks.remove(key);
+                continue;
+            }
+            if (blocks.writeBlockId(key.x(), key.y(), key.z(), airBlockId)) {
+                removedBlocks.put(key, pending.originalBlockId());
+                removed.add(new RemovedBlock(key, pending.originalBlockId()));
+                pendingBlocks.remove(key);
+                BlockBreak blockBreak = creditBrokenBlockInternal(pending.playerId(), blocksPerExtraBlink);
+                if (blockBreak != null) {
+                    if (blockBreaks == null) {
+                        blockBreaks = new ArrayList<>();
+                    }
+                    blockBreaks.add(blockBreak);
+                }
+                continue;
+            }
+            pendingBlockQueue.add(entry.retryAt(nowMs + BLOCK_RETRY_MS));
+        }
+        return blockBreaks != null ? blockBreaks : List.of();
+    }
+
+    private BlockBreak creditBrokenBlockInternal(UUID playerId, int blocksPerExtraBlink) {
+        if (playerId == null || !members.contains(playerId)) {
+            return null;
+        }
+        int previousCount = count(brokenBlocksByPlayer, playerId);
+        int nextCount = previousCount + 1;
+        brokenBlocksByPlayer.put(playerId, nextCount);
+        int rewardsBefore = previousCount / blocksPerExtraBlink;
+        int rewardsAfter = nextCount / blocksPerExtraBlink;
+        int rewardedCharges = Math.max(0, rewardsAfter - rewardsBefore);
+        int charges = count(blinkChargesByPlayer, playerId);
+        if (rewardedCharges > 0) {
+            charges += rewardedCharges;
+            blinkChargesByPlayer.put(playerId, charges);
+        }
+        return new BlockBreak(playerId, nextCount, charges, rewardedCharges, rewardsAfter * blocksPerExtraBlink);
+    }
+
+    private void clearRoundState() {
+        members.clear();
+        alivePlayers.clear();
+        roundStartTimesMs.clear();
+        nextAliveFeatherRewardAtMs.clear();
+        brokenBlocksByPlayer.clear();
+        blinkChargesByPlayer.clear();
+        blinksUsedByPlayer.clear();
+        pendingBlocks.clear();
+        pendingBlockQueue.clear();
+        removedBlocks.clear();
+        playerLastFootBlock.clear();
+        blockBreakEnabledAtMs = 0L;
+        blockBreakCountdownLastAnnounced = -1;
+    }
+
+    private static int count(Map<UUID, Integer> counts, UUID playerId) {
+        return Math.max(0, counts.getOrDefault(playerId, 0));
+    }
+
+    private record PendingBlock(int originalBlockId, UUID playerId) {}
+
+    private record PendingBlockQueueEntry(BlockKey key, PendingBlock pending, long nextAttemptAtMs) {
+        private PendingBlockQueueEntry retryAt(long nextAttemptAtMs) {
+            return new PendingBlockQueueEntry(key, pending, nextAttemptAtMs);
+        }
+    }
+}
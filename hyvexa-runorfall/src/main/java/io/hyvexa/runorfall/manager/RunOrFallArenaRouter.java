@@ -0,0 +1,88 @@
+package io.hyvexa.runorfall.manager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps one {@link RunOrFallArena} per map id (case-insensitive) and which arena each player is in. Lookups are
+ * lock-free, so HUD and interaction code can find a player's arena without going through the lobby monitor.
+ */
+final class RunOrFallArenaRouter {
+    private final Function<String, RunOrFallArena> arenaFactory;
+    private final Map<String, RunOrFallArena> arenasByMap = new ConcurrentHashMap<>();
+    private final Map<UUID, RunOrFallArena> arenasByPlayer = new ConcurrentHashMap<>();
+
+    RunOrFallArenaRouter(Function<String, RunOrFallArena> arenaFactory) {
+        this.arenaFactory = arenaFactory;
+    }
+
+    /** The arena of {@code mapId}, created on first use. */
+    RunOrFallArena arenaFor(String mapId) {
+        return arenasByMap.computeIfAbsent(normalize(mapId), ignored -> arenaFactory.apply(mapId));
+    }
+
+    /** The arena {@code playerId} is playing or spectating in, or null. */
+    RunOrFallArena arenaOf(UUID playerId) {
+        return playerId != null ? arenasByPlayer.get(playerId) : null;
+    }
+
+    void route(UUID playerId, RunOrFallArena arena) {
+        arenasByPlayer.put(playerId, arena);
+    }
+
+    /** Forgets the arena of {@code playerId}; returns it, or null if the player was not routed. */
+    RunOrFallArena release(UUID playerId) {
+        return playerId != null ? arenasByPlayer.remove(playerId) : null;
+    }
+
+    /** Releases {@code playerId} only if it is still routed to {@code arena}. */
+    boolean release(UUID playerId, RunOrFallArena arena) {
+        return playerId != null && arenasByPlayer.remove(playerId, arena);
+    }
+
+    /** Normalized ids of the maps with a round in progress. */
+    Set<String> busyMapIds() {
+        Set<String> busy = new HashSet<>();
+        for (Map.Entry<String, RunOrFallArena> entry : arenasByMap.entrySet()) {
+            if (entry.getValue().isRunning()) {
+                busy.add(entry.getKey());
+            }
+        }
+        return busy;
+    }
+
+    List<RunOrFallArena> runningArenas() {
+        List<RunOrFallArena> running = new ArrayList<>();
+        for (RunOrFallArena arena : arenasByMap.values()) {
+            if (arena.isRunning()) {
+                running.add(arena);
+            }
+        }
+        return running;
+    }
+
+    Collection<RunOrFallArena> arenas() {
+        return arenasByMap.values();
+    }
+
+    boolean hasRunningArena() {
+        for (RunOrFallArena arena : arenasByMap.values()) {
+            if (arena.isRunning()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String normalize(String mapId) {
+        return mapId == null ? "" : mapId.trim().toLowerCase(Locale.ROOT);
+    }
+}
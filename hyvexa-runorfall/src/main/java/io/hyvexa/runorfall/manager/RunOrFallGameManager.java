@@ -24,7 +24,6 @@ import io.hyvexa.core.queue.RunOrFallQueueStore;
 import io.hyvexa.runorfall.data.RunOrFallConfig;
 import io.hyvexa.runorfall.data.RunOrFallLocation;
 import io.hyvexa.runorfall.data.RunOrFallMapConfig;
-import io.hyvexa.runorfall.data.RunOrFallPlatform;
 import io.hyvexa.runorfall.util.RunOrFallFeatherBridge;
 import io.hyvexa.runorfall.util.RunOrFallUtils;
 
@@ -40,20 +39,19 @@ import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 
-// Thread safety: all public methods are synchronized. Concurrent collections
-// are used as a safety net in case callbacks run outside the monitor.
+// Thread safety: the lobby, countdown and assembly phases are guarded by this monitor. Each running round
+// lives in a RunOrFallArena with its own monitor and is ticked without holding this one; when both are
+// needed, this monitor is taken first. Player lookups (isJoined, isInActiveRound, counters) are lock-free.
 public class RunOrFallGameManager {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
     private static final String PREFIX = "[RunOrFall] ";
@@ -67,23 +65,21 @@ public class RunOrFallGameManager {
     private static final int FORCED_COUNTDOWN_SECONDS = 10;
     private static final long GAME_TICK_MS = 50L;
     private static final long START_BLOCK_BREAK_GRACE_MS = 3000L;
-    private static final long FEATHER_SURVIVAL_INTERVAL_MS = 60_000L;
     private static final String FEATHER_WORD_COLOR = "#f0c040";
-    private static final double PLAYER_FOOTPRINT_RADIUS = 0.37d;
-    private static final double PLAYER_BLOCK_DETECTION_Y_OFFSET = 1d;
     private static final String SFX_BLINK_CHARGE_EARNED = "SFX_Avatar_Powers_Enable_Local";
     private static final String SFX_ROUND_WIN = "SFX_Parkour_Victory";
-    private static final File BROKEN_BLOCKS_FILE = new File("mods/RunOrFall/broken_blocks.json");
+    private static final File BROKEN_BLOCKS_JOURNAL_FILE = new File("mods/RunOrFall/broken_blocks.journal");
+    private static final File LEGACY_BROKEN_BLOCKS_FILE = new File("mods/RunOrFall/broken_blocks.json");
     private static final Gson GSON = new Gson();
     private static final Type BROKEN_BLOCKS_LIST_TYPE = new TypeToken<List<BrokenBlockEntry>>() {}.getType();
-    private static final long SAVE_DEBOUNCE_MS = 2000L;
+    private static final long JOURNAL_FLUSH_DELAY_MS = 250L;
     private static final long ASSEMBLING_TIMEOUT_MS = 5000L;
 
+    // Phases of the shared lobby; rounds themselves run in arenas
     private enum GameState {
         IDLE,
         COUNTDOWN,
-        ASSEMBLING,
-        RUNNING
+        ASSEMBLING
     }
 
     private final RunOrFallConfigStore configStore;
@@ -92,20 +88,11 @@ public class RunOrFallGameManager {
     private final RunOrFallFeatherBridge featherBridge;
     private final RunOrFallQueueStore queueStore;
     private final Set<UUID> lobbyPlayers = ConcurrentHashMap.newKeySet();
-    private final Set<UUID> alivePlayers = ConcurrentHashMap.newKeySet();
     private final Set<UUID> spectatingPlayers = ConcurrentHashMap.newKeySet();
-    private final Map<BlockKey, PendingBlock> pendingBlocks = new ConcurrentHashMap<>();
-    private final PriorityQueue<PendingBlockQueueEntry> pendingBlockQueue =
-            new PriorityQueue<>(Comparator.comparingLong(entry -> entry.nextAttemptAtMs));
-    private final Map<BlockKey, Integer> removedBlocks = new ConcurrentHashMap<>();
-    private final Map<UUID, BlockKey> playerLastFootBlock = new ConcurrentHashMap<>();
-    private final Map<UUID, Long> roundStartTimesMs = new ConcurrentHashMap<>();
-    private final Map<UUID, Long> nextAliveFeatherRewardAtMs = new ConcurrentHashMap<>();
-    private final Map<UUID, Integer> brokenBlocksByPlayer = new ConcurrentHashMap<>();
-    private final Map<UUID, Integer> blinkChargesByPlayer = new ConcurrentHashMap<>();
-    private final Map<UUID, Integer> blinksUsedByPlayer = new ConcurrentHashMap<>();
     private final Map<String, Integer> blockItemIdCache = new ConcurrentHashMap<>();
-    private volatile PlatformQueryIndex platformQueryIndex = PlatformQueryIndex.empty();
+    private final RunOrFallArena.BlockAccess worldBlocks = new WorldBlockAccess();
+    private final RunOrFallArenaRouter arenas = new RunOrFallArenaRouter(this::createArena);
+    private final Map<RunOrFallArena, ScheduledFuture<?>> arenaTickTasks = new ConcurrentHashMap<>();
 
     private volatile GameState state = GameState.IDLE;
     private volatile int countdownRemaining = FORCED_COUNTDOWN_SECONDS;
@@ -114,15 +101,12 @@ public class RunOrFallGameManager {
     private volatile int countdownOptimalTimeSeconds = 0;
     private volatile boolean countdownForced = false;
     private volatile RunOrFallMapConfig countdownSelectedMap;
-    private volatile boolean soloTestRound = false;
     private volatile ScheduledFuture<?> countdownTask;
-    private volatile ScheduledFuture<?> gameTickTask;
-    private volatile RunOrFallConfig activeRoundConfig;
     private volatile World activeWorld;
-    private volatile long blockBreakEnabledAtMs;
-    private volatile int blockBreakCountdownLastAnnounced = -1;
-    private final AtomicBoolean brokenBlocksDirty = new AtomicBoolean(false);
-    private volatile ScheduledFuture<?> brokenBlocksSaveTask;
+    private final BrokenBlockJournal brokenBlocksJournal = new BrokenBlockJournal(BROKEN_BLOCKS_JOURNAL_FILE.toPath());
+    // Blocks recovered from the journal at startup that have not been put back yet
+    private final Map<RunOrFallArena.BlockKey, Integer> recoveredBrokenBlocks = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> journalFlushTask;
     private volatile long assemblingStartedAtMs;
     private volatile ScheduledFuture<?> assemblingTask;
     private final Set<UUID> assemblingPlayerIds = ConcurrentHashMap.newKeySet();
@@ -151,16 +135,23 @@ public class RunOrFallGameManager {
         this.queueStore.setLobbyInfoProvider(new RunOrFallQueueStore.LobbyInfoProvider() {
             @Override public int getLobbySize() { return lobbyPlayers.size(); }
             @Override public int getQueueSize() { return queueStore.getQueueSize(); }
-            @Override public String getGameState() { return state.name(); }
+            @Override public String getGameState() {
+                if (state == GameState.IDLE && arenas.hasRunningArena()) {
+                    return "RUNNING";
+                }
+                return state.name();
+            }
         });
+        loadBrokenBlocksJournal();
     }
 
-    public synchronized boolean isJoined(UUID playerId) {
-        return playerId != null && lobbyPlayers.contains(playerId);
+    public boolean isJoined(UUID playerId) {
+        return playerId != null && (lobbyPlayers.contains(playerId) || arenas.arenaOf(playerId) != null);
     }
 
-    public synchronized boolean isInActiveRound(UUID playerId) {
-        return playerId != null && state == GameState.RUNNING && alivePlayers.contains(playerId);
+    public boolean isInActiveRound(UUID playerId) {
+        RunOrFallArena arena = arenas.arenaOf(playerId);
+        return arena != null && arena.isAlive(playerId);
     }
 
     public boolean isAssemblingPlayer(UUID playerId) {
@@ -176,8 +167,8 @@ public class RunOrFallGameManager {
         if (activeWorld == null) {
             activeWorld = world;
         }
+        if (arenas.arenaOf(playerId) != null) return false;
         if (!lobbyPlayers.add(playerId)) return false;
-        ensureBrokenBlocksEntry(playerId);
         teleportPlayerToLobby(playerId);
         refreshPlayerHotbar(playerId);
         updateCountdownHudForPlayer(playerId);
@@ -190,52 +181,39 @@ public class RunOrFallGameManager {
         return configStore.getBlinkDistanceBlocks();
     }
 
-    public synchronized boolean canBlinkPassThrough(int x, int y, int z, int blockId) {
+    public boolean canBlinkPassThrough(int x, int y, int z, int blockId) {
         if (blockId == RunOrFallUtils.AIR_BLOCK_ID) {
             return true;
         }
-        RunOrFallConfig config = activeRoundConfig;
-        if (config == null) {
-            config = configStore.snapshot();
-        }
-        RunOrFallMapConfig selectedMap = resolveSelectedMap(config);
-        if (selectedMap == null || selectedMap.platforms == null || selectedMap.platforms.isEmpty()) {
-            return false;
+        // Arenas of different maps never share platform blocks, so any running arena can answer
+        for (RunOrFallArena arena : arenas.runningArenas()) {
+            if (arena.canBlinkPassThrough(x, y, z, blockId)) {
+                return true;
+            }
         }
-        return isInsidePlatform(getPlatformQueryIndex(selectedMap), x, y, z, blockId);
+        return false;
     }
 
-    public synchronized int getBrokenBlocksCount(UUID playerId) {
-        if (playerId == null) {
-            return 0;
-        }
-        Integer count = brokenBlocksByPlayer.get(playerId);
-        if (count == null) {
-            return 0;
-        }
-        return Math.max(0, count);
+    public int getBrokenBlocksCount(UUID playerId) {
+        RunOrFallArena arena = arenas.arenaOf(playerId);
+        return arena != null ? arena.getBrokenBlocksCount(playerId) : 0;
     }
 
-    public synchronized int getBlinkCharges(UUID playerId) {
-        if (playerId == null) {
-            return 0;
-        }
-        return Math.max(0, blinkChargesByPlayer.getOrDefault(playerId, 0));
+    public int getBlinkCharges(UUID playerId) {
+        RunOrFallArena arena = arenas.arenaOf(playerId);
+        return arena != null ? arena.getBlinkCharges(playerId) : 0;
     }
 
-    public synchronized boolean tryConsumeBlinkCharge(UUID playerId) {
-        if (playerId == null || state != GameState.RUNNING || !alivePlayers.contains(playerId)) {
+    public boolean tryConsumeBlinkCharge(UUID playerId) {
+        RunOrFallArena arena = arenas.arenaOf(playerId);
+        if (arena == null) {
             return false;
         }
-        int currentCharges = Math.max(0, blinkChargesByPlayer.getOrDefault(playerId, 0));
-        if (currentCharges <= 0) {
+        int remainingCharges = arena.tryConsumeBlinkCharge(playerId);
+        if (remainingCharges < 0) {
             return false;
         }
-        int nextCharges = currentCharges - 1;
-        blinkChargesByPlayer.put(playerId, nextCharges);
-        int nextUsedCount = Math.max(0, blinksUsedByPlayer.getOrDefault(playerId, 0)) + 1;
-        blinksUsedByPlayer.put(playerId, nextUsedCount);
-        updateBlinkChargesHudForPlayer(playerId, nextCharges);
+        updateBlinkChargesHudForPlayer(playerId, remainingCharges);
         return true;
     }
 
@@ -244,14 +222,19 @@ public class RunOrFallGameManager {
     }
 
     public synchronized String statusLine() {
-        String mapId = activeRoundConfig != null ? activeRoundConfig.selectedMapId : configStore.getSelectedMapId();
-        return "state=" + state.name()
+        RunOrFallMapConfig countdownMap = countdownSelectedMap;
+        String mapId = countdownMap != null ? countdownMap.id : configStore.getSelectedMapId();
+        StringBuilder status = new StringBuilder("state=" + state.name()
                 + ", map=" + mapId
                 + ", lobby=" + lobbyPlayers.size()
                 + ", queue=" + this.queueStore.getQueueSize()
-                + ", alive=" + alivePlayers.size()
                 + ", countdown=" + countdownRemaining
-                + "s";
+                + "s");
+        for (RunOrFallArena arena : arenas.runningArenas()) {
+            status.append(", arena ").append(arena.mapId())
+                    .append(" alive=").append(arena.alivePlayers().size());
+        }
+        return status.toString();
     }
 
     public synchronized void joinLobby(UUID playerId, World world) {
@@ -265,35 +248,33 @@ public class RunOrFallGameManager {
             return;
         }
 
-        if (!lobbyPlayers.add(playerId)) {
-            if (state == GameState.RUNNING) {
-                if (alivePlayers.contains(playerId)) {
-                    sendToPlayer(playerId, "You are already in the current round.");
-                    return;
-                }
-                ensureBrokenBlocksEntry(playerId);
-                teleportPlayerToLobby(playerId);
-                refreshPlayerHotbar(playerId);
-                updateBrokenBlocksHudForPlayer(playerId);
-                updateBlinkChargesHudForPlayer(playerId);
-                sendToPlayer(playerId, "Round already running. You are spectating from the lobby.");
+        RunOrFallArena arena = arenas.arenaOf(playerId);
+        if (arena != null) {
+            if (arena.isAlive(playerId)) {
+                sendToPlayer(playerId, "You are already in the current round.");
                 return;
             }
+            teleportPlayerToLobby(playerId);
+            refreshPlayerHotbar(playerId);
+            updateBrokenBlocksHudForPlayer(playerId);
+            updateBlinkChargesHudForPlayer(playerId);
+            sendToPlayer(playerId, "Round already running. You are spectating from the lobby.");
+            return;
+        }
+        if (!lobbyPlayers.add(playerId)) {
             sendToPlayer(playerId, "You are already in the RunOrFall lobby.");
-            ensureBrokenBlocksEntry(playerId);
             updateBrokenBlocksHudForPlayer(playerId);
             updateBlinkChargesHudForPlayer(playerId);
             return;
         }
-        ensureBrokenBlocksEntry(playerId);
         sendToPlayer(playerId, "Joined the RunOrFall lobby.");
         teleportPlayerToLobby(playerId);
         refreshPlayerHotbar(playerId);
         updateCountdownHudForPlayer(playerId);
         updateBrokenBlocksHudForPlayer(playerId);
         updateBlinkChargesHudForPlayer(playerId);
-        if (state == GameState.RUNNING) {
-            sendToPlayer(playerId, "Round already running. You are spectating from the lobby.");
+        if (arenas.hasRunningArena()) {
+            sendToPlayer(playerId, "A round is already running. You will play in the next one.");
         }
         int queueSize = this.queueStore.getQueueSize();
         if (queueSize > 0) {
@@ -315,7 +296,7 @@ public class RunOrFallGameManager {
         }
         disableSpectatorFly(playerId);
         PlayerRemovalResult result = removePlayerInternal(playerId);
-        if (!result.wasInLobby() && !result.wasAlive()) {
+        if (!result.wasInLobby() && result.arena() == null) {
             return;
         }
         if (notify) {
@@ -349,45 +330,35 @@ public class RunOrFallGameManager {
     public synchronized void requestStop(String reason) {
         if (state == GameState.COUNTDOWN) {
             cancelCountdownInternal("Countdown stopped: " + reason);
-            return;
-        }
-        if (state == GameState.ASSEMBLING) {
+        } else if (state == GameState.ASSEMBLING) {
             cancelAssemblingInternal("Assembly stopped: " + reason);
-            return;
         }
-        if (state == GameState.RUNNING) {
-            endGameInternal("Game stopped: " + reason);
+        for (RunOrFallArena arena : arenas.runningArenas()) {
+            endArenaRoundInternal(arena, "Game stopped: " + reason);
         }
     }
 
     public synchronized void shutdown() {
         cancelCountdownTask();
-        cancelGameTickTask();
         cancelAssemblingTask();
+        for (RunOrFallArena arena : arenas.arenas()) {
+            cancelArenaTickTask(arena);
+        }
         disableAllSpectatorFly();
         assemblingPlayerIds.clear();
-        flushBrokenBlocksSave();
+        flushBrokenBlocksJournal();
         World world = activeWorld;
         if (world != null) {
             try {
-                world.execute(this::restoreAllBlocksInternal);
+                world.execute(this::endAllArenasInternal);
             } catch (Exception e) {
                 LOGGER.atWarning().withCause(e).log("Failed to restore RunOrFall blocks on shutdown.");
-                restoreAllBlocksInternal();
+                endAllArenasInternal();
             }
         } else {
-            restoreAllBlocksInternal();
+            endAllArenasInternal();
         }
-        activeRoundConfig = null;
         resetCountdownState();
-        alivePlayers.clear();
-        clearPendingBlocksInternal();
-        playerLastFootBlock.clear();
-        roundStartTimesMs.clear();
-        nextAliveFeatherRewardAtMs.clear();
-        brokenBlocksByPlayer.clear();
-        blinkChargesByPlayer.clear();
-        blinksUsedByPlayer.clear();
         clearCountdownHudForLobbyPlayers();
         lobbyPlayers.clear();
         activeWorld = null;
@@ -400,7 +371,7 @@ public class RunOrFallGameManager {
         this.queueStore.dequeue(playerId);
         assemblingPlayerIds.remove(playerId);
         PlayerRemovalResult result = removePlayerInternal(playerId);
-        if (!result.wasInLobby() && !result.wasAlive()) {
+        if (!result.wasInLobby() && result.arena() == null) {
             return;
         }
         cleanupAfterPlayerRemoval(playerId, result, "disconnected");
@@ -418,38 +389,32 @@ public class RunOrFallGameManager {
         if (state == GameState.ASSEMBLING && lobbyPlayers.size() < countdownRequiredPlayers) {
             cancelAssemblingInternal("Assembly cancelled: not enough players.");
         }
-        if (state == GameState.RUNNING && result.wasAlive()) {
-            statsStore.recordLoss(playerId, resolvePlayerName(playerId), result.survivedMs(),
-                    result.brokenBlocks(), result.blinksUsed());
-            rewardAlivePlayersForEliminationInternal(playerId);
-            broadcastEliminationInternal(playerId, eliminationReason);
-            checkWinnerInternal();
+        RunOrFallArena.PlayerResult aliveResult = result.aliveResult();
+        if (aliveResult != null) {
+            RunOrFallArena arena = result.arena();
+            recordLoss(aliveResult);
+            rewardAlivePlayersForEliminationInternal(arena, playerId);
+            broadcastEliminationInternal(arena, playerId, eliminationReason);
+            finishRoundIfOverInternal(arena);
         }
-        if (lobbyPlayers.isEmpty() && this.queueStore.getQueueSize() == 0) {
+        if (lobbyPlayers.isEmpty() && this.queueStore.getQueueSize() == 0 && !arenas.hasRunningArena()) {
             activeWorld = null;
         }
     }
 
-    private record PlayerRemovalResult(boolean wasInLobby, boolean wasAlive, long survivedMs,
-                                       int brokenBlocks, int blinksUsed) {}
+    private record PlayerRemovalResult(boolean wasInLobby, RunOrFallArena arena,
+                                       RunOrFallArena.PlayerResult aliveResult) {}
 
     private PlayerRemovalResult removePlayerInternal(UUID playerId) {
         boolean wasInLobby = lobbyPlayers.remove(playerId);
-        boolean wasAlive = alivePlayers.remove(playerId);
         spectatingPlayers.remove(playerId);
-        playerLastFootBlock.remove(playerId);
-        nextAliveFeatherRewardAtMs.remove(playerId);
-        int brokenBlocks = getRoundBrokenBlocksCount(playerId);
-        int blinksUsed = getRoundBlinksUsedCount(playerId);
-        brokenBlocksByPlayer.remove(playerId);
-        blinkChargesByPlayer.remove(playerId);
-        blinksUsedByPlayer.remove(playerId);
+        RunOrFallArena arena = arenas.release(playerId);
+        RunOrFallArena.PlayerResult aliveResult = arena != null ? arena.removeMember(playerId) : null;
         Long lostFeathers = pendingFeatherRewards.remove(playerId);
         if (lostFeathers != null && lostFeathers > 0L) {
             LOGGER.atWarning().log("Discarding " + lostFeathers + " pending feathers for " + playerId);
         }
-        long survivedMs = takeSurvivedMs(playerId);
-        return new PlayerRemovalResult(wasInLobby, wasAlive, survivedMs, brokenBlocks, blinksUsed);
+        return new PlayerRemovalResult(wasInLobby, arena, aliveResult);
     }
 
     private void startForcedCountdownIfPossible(boolean allowSoloStart) {
@@ -460,6 +425,10 @@ public class RunOrFallGameManager {
         if (getTotalPendingPlayerCount() < requiredPlayers) {
             return;
         }
+        if (!hasFreeMapFor(getTotalPendingPlayerCount())) {
+            broadcastLobby("Every map is in use. Wait for a round to finish.");
+            return;
+        }
         if (activeWorld == null) {
             activeWorld = resolveRunOrFallWorld();
         }
@@ -486,6 +455,10 @@ public class RunOrFallGameManager {
         if (getTotalPendingPlayerCount() < settings.minPlayers) {
             return;
         }
+        if (!hasFreeMapFor(getTotalPendingPlayerCount())) {
+            // Every map that fits the lobby is in use: restarted when a round ends
+            return;
+        }
         if (activeWorld == null) {
             activeWorld = resolveRunOrFallWorld();
         }
@@ -532,7 +505,7 @@ public class RunOrFallGameManager {
             return;
         }
         RunOrFallConfig config = configStore.snapshot();
-        RunOrFallMapConfig bestMap = resolveAutoSelectedMap(config, getTotalPendingPlayerCount());
+        RunOrFallMapConfig bestMap = resolveAutoSelectedMap(config, getTotalPendingPlayerCount(), arenas.busyMapIds());
         if (bestMap == null || bestMap.lobby == null) {
             return;
         }
@@ -588,188 +561,156 @@ public class RunOrFallGameManager {
             return;
         }
         RunOrFallConfig config = configStore.snapshot();
-        RunOrFallMapConfig selectedMap = resolveAutoSelectedMap(config, onlinePlayers.size());
+        RunOrFallMapConfig selectedMap = resolveAutoSelectedMap(config, onlinePlayers.size(), arenas.busyMapIds());
         if (selectedMap == null) {
-            cancelAssemblingInternal("No playable map available for lobby size " + onlinePlayers.size() + ".");
+            cancelAssemblingInternal("No free playable map available for lobby size " + onlinePlayers.size() + ".");
             return;
         }
         config.selectedMapId = selectedMap.id;
-        activeRoundConfig = config;
-        int startingBlinkCharges = resolveBlinkStartCharges(config);
-
-        resetBrokenBlocksForLobbyPlayers();
-        spectatingPlayers.clear();
-
-        alivePlayers.clear();
-        alivePlayers.addAll(onlinePlayers);
-        long roundStartMs = System.currentTimeMillis();
-        roundStartTimesMs.clear();
-        for (UUID onlinePlayerId : onlinePlayers) {
-            roundStartTimesMs.put(onlinePlayerId, roundStartMs);
-            nextAliveFeatherRewardAtMs.put(onlinePlayerId, roundStartMs + FEATHER_SURVIVAL_INTERVAL_MS);
-            blinkChargesByPlayer.put(onlinePlayerId, startingBlinkCharges);
+        boolean soloRound = countdownRequiredPlayers == 1 && onlinePlayers.size() == 1;
+        RunOrFallArena arena = arenas.arenaFor(selectedMap.id);
+        if (!arena.start(config, selectedMap, onlinePlayers, resolveBlinkStartCharges(config), soloRound,
+                START_BLOCK_BREAK_GRACE_MS)) {
+            cancelAssemblingInternal("Map " + selectedMap.id + " is already in use.");
+            return;
         }
-        soloTestRound = countdownRequiredPlayers == 1 && onlinePlayers.size() == 1;
-        clearPendingBlocksInternal();
-        removedBlocks.clear();
-        deleteBrokenBlocksFile();
-        playerLastFootBlock.clear();
 
+        clearCountdownHudForLobbyPlayers();
+        for (UUID playerId : onlinePlayers) {
+            lobbyPlayers.remove(playerId);
+            arenas.route(playerId, arena);
+        }
         for (int i = 0; i < onlinePlayers.size(); i++) {
             UUID playerId = onlinePlayers.get(i);
             RunOrFallLocation spawn = selectedMap.spawns.get(i % selectedMap.spawns.size());
             teleportPlayer(playerId, spawn);
         }
 
-        state = GameState.RUNNING;
-        clearCountdownHudForLobbyPlayers();
-        blockBreakEnabledAtMs = System.currentTimeMillis() + START_BLOCK_BREAK_GRACE_MS;
-        blockBreakCountdownLastAnnounced = (int) Math.ceil(START_BLOCK_BREAK_GRACE_MS / 1000.0d);
+        resetCountdownState();
+        int startingBlinkCharges = resolveBlinkStartCharges(config);
         for (UUID onlinePlayerId : onlinePlayers) {
             refreshPlayerHotbar(onlinePlayerId);
             updateBrokenBlocksHudForPlayer(onlinePlayerId, 0);
             updateBlinkChargesHudForPlayer(onlinePlayerId, startingBlinkCharges);
         }
-        gameTickTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
-                () -> dispatchToWorld(this::tickGameInternal),
+        arenaTickTasks.put(arena, HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+                () -> dispatchToWorld(() -> tickArena(arena)),
                 GAME_TICK_MS, GAME_TICK_MS, TimeUnit.MILLISECONDS
-        );
-        if (soloTestRound) {
-            broadcastLobby("RunOrFall solo test started.");
+        ));
+        if (soloRound) {
+            broadcastArena(arena, "RunOrFall solo test started.");
         } else {
-            broadcastLobby("RunOrFall started. Last player alive wins.");
+            broadcastArena(arena, "RunOrFall started. Last player alive wins.");
         }
-        broadcastLobby("Blocks breaking in " + blockBreakCountdownLastAnnounced + "...");
+        broadcastArena(arena, "Blocks breaking in " + (int) Math.ceil(START_BLOCK_BREAK_GRACE_MS / 1000.0d) + "...");
+        // Players still waiting can fill another free map
+        startAutoCountdownIfPossible();
     }
 
-    private void tickGameInternal() {
-        synchronized (this) {
-            if (state != GameState.RUNNING) {
-                return;
-            }
-            long nowMs = System.currentTimeMillis();
-            boolean canBreakBlocks = nowMs >= blockBreakEnabledAtMs;
-            if (!canBreakBlocks) {
-                broadcastBlockBreakCountdownIfNeeded(nowMs);
+    // Runs on the world thread under the arena's monitor only, so a busy round never stalls the lobby or
+    // other maps. Only the end of the round takes the manager monitor.
+    private void tickArena(RunOrFallArena arena) {
+        if (!arena.isRunning()) {
+            return;
+        }
+        List<RunOrFallArena.PlayerSample> samples = new ArrayList<>();
+        List<UUID> disconnected = null;
+        for (UUID playerId : arena.alivePlayers()) {
+            PlayerRef playerRef = resolvePlayer(playerId);
+            var ref = playerRef != null ? playerRef.getReference() : null;
+            if (ref == null || !ref.isValid()) {
+                if (disconnected == null) {
+                    disconnected = new ArrayList<>();
+                }
+                disconnected.add(playerId);
+                continue;
             }
-            RunOrFallConfig config = activeRoundConfig;
-            if (config == null) {
-                config = configStore.snapshot();
+            var store = ref.getStore();
+            TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
+            if (transform == null || transform.getPosition() == null) {
+                continue;
             }
-            RunOrFallMapConfig selectedMap = resolveSelectedMap(config);
-            PlatformQueryIndex platformIndex = getPlatformQueryIndex(selectedMap);
-            List<UUID> toEliminate = null;
-            List<UUID> disconnected = null;
-            for (UUID playerId : alivePlayers) {
-                PlayerRef playerRef = resolvePlayer(playerId);
-                if (playerRef == null) {
-                    if (disconnected == null) {
-                        disconnected = new ArrayList<>();
-                    }
-                    disconnected.add(playerId);
-                    continue;
-                }
-                var ref = playerRef.getReference();
-                if (ref == null || !ref.isValid()) {
-                    if (disconnected == null) {
-                        disconnected = new ArrayList<>();
-                    }
-                    disconnected.add(playerId);
-                    continue;
-                }
-                var store = ref.getStore();
-                TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
-                if (transform == null || transform.getPosition() == null) {
-                    continue;
-                }
-                Vector3d position = transform.getPosition();
-                if (position.getY() < config.voidY) {
-                    if (toEliminate == null) {
-                        toEliminate = new ArrayList<>();
-                    }
-                    toEliminate.add(playerId);
-                    continue;
-                }
-                rewardAliveTimeFeathersInternal(playerId, nowMs);
+            Vector3d position = transform.getPosition();
+            samples.add(new RunOrFallArena.PlayerSample(playerId, position.getX(), position.getY(), position.getZ()));
+        }
 
-                if (canBreakBlocks) {
-                    int blockY = (int) Math.floor(position.getY() - PLAYER_BLOCK_DETECTION_Y_OFFSET);
-                    queueFootprintBlocksInternal(playerId, position.getX(), position.getZ(), blockY,
-                            platformIndex, config.blockBreakDelaySeconds);
-                }
-            }
-            if (toEliminate != null) {
-                for (UUID playerId : toEliminate) {
-                    eliminatePlayerInternal(playerId, "fell into the void");
+        RunOrFallArena.TickResult result = arena.tick(samples);
+        RunOrFallConfig config = arena.roundConfig();
+        if (result.blockBreakCountdown() > 0) {
+            broadcastArena(arena, "Blocks breaking in " + result.blockBreakCountdown() + "...");
+        }
+        for (Map.Entry<UUID, Long> entry : result.featherIntervals().entrySet()) {
+            grantFeathersToPlayer(entry.getKey(), entry.getValue() * resolveFeathersPerMinuteAlive(config),
+                    "for staying alive");
+        }
+        for (RunOrFallArena.BlockBreak blockBreak : result.blockBreaks()) {
+            applyBlockBreakInternal(blockBreak);
+        }
+        if (!result.removedBlocks().isEmpty()) {
+            journalRemovedBlocks(result.removedBlocks());
+        }
+        for (RunOrFallArena.PlayerResult eliminated : result.fellIntoVoid()) {
+            onPlayerEliminatedInternal(arena, eliminated, "fell into the void");
+        }
+        if (disconnected != null) {
+            for (UUID playerId : disconnected) {
+                RunOrFallArena.PlayerResult eliminated = arena.eliminate(playerId);
+                if (eliminated != null) {
+                    recordLoss(eliminated);
+                    rewardAlivePlayersForEliminationInternal(arena, playerId);
+                    broadcastEliminationInternal(arena, playerId, "disconnected");
                 }
             }
-            processPendingBlocksInternal();
-            if (disconnected != null) {
-                for (UUID playerId : disconnected) {
-                    if (alivePlayers.remove(playerId)) {
-                        long survivedMs = takeSurvivedMs(playerId);
-                        statsStore.recordLoss(playerId, resolvePlayerName(playerId), survivedMs,
-                                getRoundBrokenBlocksCount(playerId), getRoundBlinksUsedCount(playerId));
-                        rewardAlivePlayersForEliminationInternal(playerId);
-                        broadcastEliminationInternal(playerId, "disconnected");
-                    }
-                }
+        }
+        if (arena.isRoundOver()) {
+            synchronized (this) {
+                finishRoundIfOverInternal(arena);
             }
-            checkWinnerInternal();
         }
     }
 
-    private void checkWinnerInternal() {
-        if (state != GameState.RUNNING) {
+    private void finishRoundIfOverInternal(RunOrFallArena arena) {
+        if (arena == null || !arena.isRoundOver()) {
             return;
         }
-        if (soloTestRound) {
-            if (!alivePlayers.isEmpty()) {
-                return;
-            }
-            broadcastLobby("Solo test finished.");
-            endGameInternal("Round finished.");
+        if (arena.isSoloRound()) {
+            broadcastArena(arena, "Solo test finished.");
+            endArenaRoundInternal(arena, "Round finished.");
             return;
         }
-        if (alivePlayers.size() > 1) {
-            return;
-        }
-        UUID winner = alivePlayers.stream().findFirst().orElse(null);
+        RunOrFallArena.PlayerResult winner = arena.takeWinner();
         if (winner != null) {
-            PlayerRef winnerRef = resolvePlayer(winner);
-            long survivedMs = takeSurvivedMs(winner);
-            String winnerName = resolvePlayerName(winner);
-            statsStore.recordWin(winner, winnerName, survivedMs,
-                    getRoundBrokenBlocksCount(winner), getRoundBlinksUsedCount(winner));
-            grantFeathersToPlayer(winner, resolveFeathersForWin(), "for winning the round");
-            playSfxForPlayer(winner, SFX_ROUND_WIN);
-            if (winnerRef != null && winnerRef.getUsername() != null && !winnerRef.getUsername().isBlank()) {
-                winnerName = winnerRef.getUsername();
-            }
-            teleportPlayerToLobby(winner);
-            broadcastLobby("Winner: " + winnerName + " wins the round.");
+            UUID winnerId = winner.playerId();
+            String winnerName = resolvePlayerName(winnerId);
+            statsStore.recordWin(winnerId, winnerName, winner.survivedMs(), winner.brokenBlocks(), winner.blinksUsed());
+            grantFeathersToPlayer(winnerId, resolveFeathersForWin(arena.roundConfig()), "for winning the round");
+            playSfxForPlayer(winnerId, SFX_ROUND_WIN);
+            teleportPlayerToLobby(winnerId);
+            broadcastArena(arena, "Winner: " + winnerName + " wins the round.");
         } else {
-            broadcastLobby("No winner this round.");
+            broadcastArena(arena, "No winner this round.");
         }
-        endGameInternal("Round finished.");
+        endArenaRoundInternal(arena, "Round finished.");
     }
 
-    private void eliminatePlayerInternal(UUID playerId, String reason) {
-        if (!alivePlayers.remove(playerId)) {
-            return;
-        }
-        long survivedMs = takeSurvivedMs(playerId);
-        statsStore.recordLoss(playerId, resolvePlayerName(playerId), survivedMs,
-                getRoundBrokenBlocksCount(playerId), getRoundBlinksUsedCount(playerId));
-        rewardAlivePlayersForEliminationInternal(playerId);
-        playerLastFootBlock.remove(playerId);
+    private void onPlayerEliminatedInternal(RunOrFallArena arena, RunOrFallArena.PlayerResult eliminated,
+                                            String reason) {
+        UUID playerId = eliminated.playerId();
+        recordLoss(eliminated);
+        rewardAlivePlayersForEliminationInternal(arena, playerId);
         teleportPlayerToLobby(playerId);
         refreshPlayerHotbar(playerId);
         updateBrokenBlocksHudForPlayer(playerId);
         updateBlinkChargesHudForPlayer(playerId);
         sendToPlayer(playerId, "Eliminated: " + reason + ". Fly around to spectate!");
         scheduleSpectatorFly(playerId);
-        broadcastEliminationInternal(playerId, reason);
+        broadcastEliminationInternal(arena, playerId, reason);
+    }
+
+    private void recordLoss(RunOrFallArena.PlayerResult result) {
+        UUID playerId = result.playerId();
+        statsStore.recordLoss(playerId, resolvePlayerName(playerId), result.survivedMs(),
+                result.brokenBlocks(), result.blinksUsed());
     }
 
     private void enableSpectatorFly(UUID playerId) {
@@ -801,30 +742,52 @@ public class RunOrFallGameManager {
         spectatingPlayers.clear();
     }
 
-    private void endGameInternal(String reason) {
-        cancelGameTickTask();
-        disableAllSpectatorFly();
-        activeRoundConfig = null;
-        restoreAllBlocksInternal();
-        alivePlayers.clear();
-        playerLastFootBlock.clear();
-        roundStartTimesMs.clear();
-        nextAliveFeatherRewardAtMs.clear();
-        blinkChargesByPlayer.clear();
-        blinksUsedByPlayer.clear();
-        resetCountdownState();
-        clearCountdownHudForLobbyPlayers();
-        resetBrokenBlocksForLobbyPlayers();
-        refreshLobbyHotbars();
-        broadcastLobby(reason);
-        startAutoCountdownIfPossible();
+    // Caller holds the manager monitor. Round members go back to the lobby for the next countdown.
+    private void endArenaRoundInternal(RunOrFallArena arena, String reason) {
+        cancelArenaTickTask(arena);
+        List<UUID> roundMembers = arena.end();
+        for (UUID playerId : roundMembers) {
+            disableSpectatorFly(playerId);
+            if (!arenas.release(playerId, arena) || resolvePlayer(playerId) == null) {
+                continue;
+            }
+            lobbyPlayers.add(playerId);
+            updateBrokenBlocksHudForPlayer(playerId, 0);
+            updateBlinkChargesHudForPlayer(playerId, 0);
+            refreshPlayerHotbar(playerId);
+            sendToPlayer(playerId, reason);
+        }
+        compactBrokenBlocksJournal();
+        if (state == GameState.IDLE) {
+            startAutoCountdownIfPossible();
+        } else if (state == GameState.COUNTDOWN && !countdownForced) {
+            reduceAutoCountdownForOptimalPopulationIfNeeded();
+            updateCountdownMapSelection();
+        }
+        for (UUID playerId : roundMembers) {
+            if (lobbyPlayers.contains(playerId)) {
+                updateCountdownHudForPlayer(playerId);
+            }
+        }
+    }
+
+    private void endAllArenasInternal() {
+        synchronized (this) {
+            for (RunOrFallArena arena : arenas.arenas()) {
+                cancelArenaTickTask(arena);
+                for (UUID playerId : arena.end()) {
+                    arenas.release(playerId, arena);
+                }
+            }
+            compactBrokenBlocksJournal();
+        }
     }
 
     private void cancelCountdownInternal(String reason) {
         cancelCountdownTask();
         resetCountdownState();
         clearCountdownHudForLobbyPlayers();
-        resetBrokenBlocksForLobbyPlayers();
+        resetRoundHudForLobbyPlayers();
         broadcastLobby(reason);
     }
 
@@ -918,11 +881,9 @@ public class RunOrFallGameManager {
             this.queueStore.dequeue(playerId);
         }
         assemblingPlayerIds.clear();
-        state = GameState.IDLE;
-        activeRoundConfig = null;
         resetCountdownState();
         clearCountdownHudForLobbyPlayers();
-        resetBrokenBlocksForLobbyPlayers();
+        resetRoundHudForLobbyPlayers();
         broadcastLobby(reason);
     }
 
@@ -934,264 +895,125 @@ public class RunOrFallGameManager {
         }
     }
 
-    private void broadcastBlockBreakCountdownIfNeeded(long nowMs) {
-        long remainingMs = blockBreakEnabledAtMs - nowMs;
-        if (remainingMs <= 0L) {
-            return;
+    private void journalRemovedBlocks(List<RunOrFallArena.RemovedBlock> removedBlocks) {
+        int skipped = brokenBlocksJournal.append(removedBlocks);
+        if (skipped > 0) {
+            LOGGER.atWarning().log("Broken block journal: %d blocks out of range were not recorded.", skipped);
         }
-        int remainingSeconds = (int) Math.ceil(remainingMs / 1000.0d);
-        if (remainingSeconds <= 0 || remainingSeconds == blockBreakCountdownLastAnnounced) {
+        if (journalFlushTask != null) {
             return;
         }
-        blockBreakCountdownLastAnnounced = remainingSeconds;
-        broadcastLobby("Blocks breaking in " + remainingSeconds + "...");
-    }
-
-    private boolean queueBlockRemovalInternal(UUID playerId, int x, int y, int z, double delaySeconds) {
-        BlockKey key = new BlockKey(x, y, z);
-        if (removedBlocks.containsKey(key) || pendingBlocks.containsKey(key)) {
-            return false;
-        }
-        World world = activeWorld;
-        if (world == null) {
-            return false;
-        }
-        Integer currentId = RunOrFallUtils.readBlockId(world, x, y, z);
-        if (currentId == null || currentId == RunOrFallUtils.AIR_BLOCK_ID) {
-            return false;
-        }
-        long delayMs = Math.max(0L, Math.round(delaySeconds * 1000.0d));
-        long dueAtMs = System.currentTimeMillis() + delayMs;
-        PendingBlock pending = new PendingBlock(currentId, dueAtMs, playerId);
-        pendingBlocks.put(key, pending);
-        pendingBlockQueue.add(new PendingBlockQueueEntry(key, pending, dueAtMs));
-        return true;
+        journalFlushTask = HytaleServer.SCHEDULED_EXECUTOR.schedule(() -> {
+            journalFlushTask = null;
+            writeBrokenBlocksJournal();
+        }, JOURNAL_FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
     }
 
-    private void processPendingBlocksInternal() {
-        if (pendingBlocks.isEmpty()) {
-            pendingBlockQueue.clear();
+    private void writeBrokenBlocksJournal() {
+        try {
+            brokenBlocksJournal.flush();
+        } catch (IOException e) {
+            LOGGER.atWarning().withCause(e).log("Failed to append to broken blocks journal.");
             return;
         }
-        World world = activeWorld;
-        if (world == null) {
-            return;
+        int liveBlockCount = recoveredBrokenBlocks.size();
+        for (RunOrFallArena arena : arenas.arenas()) {
+            liveBlockCount += arena.removedBlockCount();
         }
-        long now = System.currentTimeMillis();
-        while (true) {
-            PendingBlockQueueEntry entry = pendingBlockQueue.peek();
-            if (entry == null || entry.nextAttemptAtMs > now) {
-                return;
-            }
-            pendingBlockQueue.poll();
-            PendingBlock pending = pendingBlocks.get(entry.key);
-            if (pending == null || pending != entry.pending) {
-                continue;
-            }
-            BlockKey key = entry.key;
-            Integer currentId = RunOrFallUtils.readBlockId(world, key.x, key.y, key.z);
-            if (currentId == null) {
-                pendingBlockQueue.add(entry.retryAt(now + GAME_TICK_MS));
-                continue;
-            }
-            if (currentId == RunOrFallUtils.AIR_BLOCK_ID) {
-                pendingBlocks.remove(key, pending);
-                continue;
-            }
-            if (writeBlockId(world, key.x, key.y, key.z, RunOrFallUtils.AIR_BLOCK_ID)) {
-                removedBlocks.put(key, pending.originalBlockId);
-                pendingBlocks.remove(key, pending);
-                incrementBrokenBlocksCountInternal(pending.playerId);
-                scheduleBrokenBlocksSave();
-                continue;
-            }
-            pendingBlockQueue.add(entry.retryAt(now + GAME_TICK_MS));
+        if (brokenBlocksJournal.shouldCompact(liveBlockCount)) {
+            compactBrokenBlocksJournal();
         }
     }
 
-    private void queueFootprintBlocksInternal(UUID playerId, double centerX, double centerZ, int blockY,
-                                              PlatformQueryIndex platformIndex, double delaySeconds) {
-        if (playerId == null) {
-            return;
-        }
-        World world = activeWorld;
-        if (world == null) {
-            return;
-        }
-
-        int minX = (int) Math.floor(centerX - PLAYER_FOOTPRINT_RADIUS);
-        int maxX = (int) Math.floor(centerX + PLAYER_FOOTPRINT_RADIUS);
-        int minZ = (int) Math.floor(centerZ - PLAYER_FOOTPRINT_RADIUS);
-        int maxZ = (int) Math.floor(centerZ + PLAYER_FOOTPRINT_RADIUS);
-        BlockKey previousKey = playerLastFootBlock.get(playerId);
-        if (previousKey != null
-                && previousKey.y == blockY
-                && previousKey.x >= minX && previousKey.x <= maxX
-                && previousKey.z >= minZ && previousKey.z <= maxZ) {
-            Integer previousBlockId = RunOrFallUtils.readBlockId(world, previousKey.x, previousKey.y, previousKey.z);
-            if (previousBlockId != null
-                    && previousBlockId != RunOrFallUtils.AIR_BLOCK_ID
-                    && isInsidePlatform(platformIndex, previousKey.x, previousKey.y, previousKey.z, previousBlockId)) {
-                return;
-            }
-        }
-
-        BlockKey closestKey = null;
-        double closestDistanceSq = Double.MAX_VALUE;
-        for (int x = minX; x <= maxX; x++) {
-            for (int z = minZ; z <= maxZ; z++) {
-                BlockKey key = new BlockKey(x, blockY, z);
-                if (removedBlocks.containsKey(key)) {
-                    continue;
-                }
-                Integer currentId = RunOrFallUtils.readBlockId(world, x, blockY, z);
-                if (currentId == null || currentId == RunOrFallUtils.AIR_BLOCK_ID) {
-                    continue;
-                }
-                if (!isInsidePlatform(platformIndex, x, blockY, z, currentId)) {
-                    continue;
-                }
-                double dx = centerX - (x + 0.5d);
-                double dz = centerZ - (z + 0.5d);
-                double distanceSq = (dx * dx) + (dz * dz);
-                if (distanceSq < closestDistanceSq) {
-                    closestDistanceSq = distanceSq;
-                    closestKey = key;
-                }
-            }
-        }
-        if (closestKey == null) {
-            playerLastFootBlock.remove(playerId);
-            return;
-        }
-        playerLastFootBlock.put(playerId, closestKey);
-        if (pendingBlocks.containsKey(closestKey)) {
-            return;
-        }
-        queueBlockRemovalInternal(playerId, closestKey.x, closestKey.y, closestKey.z, delaySeconds);
+    private void flushBrokenBlocksJournal() {
+        cancelJournalFlushTask();
+        writeBrokenBlocksJournal();
     }
 
-    private void restoreAllBlocksInternal() {
-        World world = activeWorld;
-        if (world == null) {
-            clearPendingBlocksInternal();
-            removedBlocks.clear();
-            playerLastFootBlock.clear();
-            roundStartTimesMs.clear();
-            nextAliveFeatherRewardAtMs.clear();
-            brokenBlocksByPlayer.clear();
-            blinkChargesByPlayer.clear();
-            blinksUsedByPlayer.clear();
-            return;
-        }
-        for (Map.Entry<BlockKey, Integer> entry : removedBlocks.entrySet()) {
-            BlockKey key = entry.getKey();
-            Integer original = entry.getValue();
-            if (original == null) {
-                continue;
-            }
-            writeBlockId(world, key.x, key.y, key.z, original);
+    // Rewrites the journal to the blocks still broken: running arenas plus recovered blocks not yet put back
+    private void compactBrokenBlocksJournal() {
+        cancelJournalFlushTask();
+        try {
+            brokenBlocksJournal.compact(this::liveBrokenBlocks);
+        } catch (IOException e) {
+            LOGGER.atWarning().withCause(e).log("Failed to compact broken blocks journal.");
         }
-        clearPendingBlocksInternal();
-        removedBlocks.clear();
-        playerLastFootBlock.clear();
-        roundStartTimesMs.clear();
-        nextAliveFeatherRewardAtMs.clear();
-        brokenBlocksByPlayer.clear();
-        blinkChargesByPlayer.clear();
-        blinksUsedByPlayer.clear();
-        deleteBrokenBlocksFile();
     }
 
-    private void clearPendingBlocksInternal() {
-        pendingBlocks.clear();
-        pendingBlockQueue.clear();
+    private Map<RunOrFallArena.BlockKey, Integer> liveBrokenBlocks() {
+        Map<RunOrFallArena.BlockKey, Integer> live = new LinkedHashMap<>(recoveredBrokenBlocks);
+        for (RunOrFallArena arena : arenas.arenas()) {
+            live.putAll(arena.removedBlocksSnapshot());
+        }
+        return live;
     }
 
-    private void scheduleBrokenBlocksSave() {
-        brokenBlocksDirty.set(true);
-        if (brokenBlocksSaveTask != null) {
-            return;
+    private void cancelJournalFlushTask() {
+        ScheduledFuture<?> task = journalFlushTask;
+        if (task != null) {
+            task.cancel(false);
+            journalFlushTask = null;
         }
-        brokenBlocksSaveTask = HytaleServer.SCHEDULED_EXECUTOR.schedule(() -> {
-            brokenBlocksSaveTask = null;
-            if (!brokenBlocksDirty.compareAndSet(true, false)) {
-                return;
-            }
-            saveBrokenBlocksToFile();
-        }, SAVE_DEBOUNCE_MS, TimeUnit.MILLISECONDS);
     }
 
-    private void saveBrokenBlocksToFile() {
-        Map<BlockKey, Integer> snapshot = Map.copyOf(removedBlocks);
-        if (snapshot.isEmpty()) {
-            deleteBrokenBlocksFile();
-            return;
-        }
-        List<BrokenBlockEntry> entries = new ArrayList<>(snapshot.size());
-        for (Map.Entry<BlockKey, Integer> entry : snapshot.entrySet()) {
-            BlockKey key = entry.getKey();
-            entries.add(new BrokenBlockEntry(key.x, key.y, key.z, entry.getValue()));
-        }
+    // Reads what the previous run left behind; blocks are put back once the RunOrFall world is loaded
+    private void loadBrokenBlocksJournal() {
         try {
-            String json = GSON.toJson(entries);
-            Files.writeString(BROKEN_BLOCKS_FILE.toPath(), json, StandardCharsets.UTF_8);
+            BrokenBlockJournal.Recovery recovery = brokenBlocksJournal.open();
+            if (recovery.discardedBytes() > 0L) {
+                LOGGER.atWarning().log("Broken blocks journal: dropped %d damaged bytes after %d valid records.",
+                        recovery.discardedBytes(), recovery.records());
+            }
+            recoveredBrokenBlocks.putAll(recovery.blocks());
         } catch (IOException e) {
-            LOGGER.atWarning().withCause(e).log("Failed to save broken blocks file.");
+            LOGGER.atWarning().withCause(e).log("Failed to read broken blocks journal.");
         }
+        migrateLegacyBrokenBlocksFile();
     }
 
-    private void flushBrokenBlocksSave() {
-        ScheduledFuture<?> task = brokenBlocksSaveTask;
-        if (task != null) {
-            task.cancel(false);
-            brokenBlocksSaveTask = null;
-        }
-        if (brokenBlocksDirty.compareAndSet(true, false)) {
-            saveBrokenBlocksToFile();
+    private void migrateLegacyBrokenBlocksFile() {
+        if (!LEGACY_BROKEN_BLOCKS_FILE.exists()) {
+            return;
         }
-    }
-
-    private void deleteBrokenBlocksFile() {
-        brokenBlocksDirty.set(false);
-        ScheduledFuture<?> task = brokenBlocksSaveTask;
-        if (task != null) {
-            task.cancel(false);
-            brokenBlocksSaveTask = null;
+        try {
+            String json = Files.readString(LEGACY_BROKEN_BLOCKS_FILE.toPath(), StandardCharsets.UTF_8);
+            List<BrokenBlockEntry> entries = GSON.fromJson(json, BROKEN_BLOCKS_LIST_TYPE);
+            if (entries != null) {
+                for (BrokenBlockEntry entry : entries) {
+                    recoveredBrokenBlocks.putIfAbsent(new RunOrFallArena.BlockKey(entry.x, entry.y, entry.z),
+                            entry.blockId);
+                }
+                compactBrokenBlocksJournal();
+            }
+        } catch (Exception e) {
+            LOGGER.atWarning().withCause(e).log("Failed to read legacy broken blocks file.");
         }
         try {
-            Files.deleteIfExists(BROKEN_BLOCKS_FILE.toPath());
+            Files.deleteIfExists(LEGACY_BROKEN_BLOCKS_FILE.toPath());
         } catch (IOException e) {
-            LOGGER.atWarning().withCause(e).log("Failed to delete broken blocks file.");
+            LOGGER.atWarning().withCause(e).log("Failed to delete legacy broken blocks file.");
         }
     }
 
     public void restoreBrokenBlocksFromFile(World world) {
-        if (!BROKEN_BLOCKS_FILE.exists()) {
-            return;
-        }
-        List<BrokenBlockEntry> entries;
-        try {
-            String json = Files.readString(BROKEN_BLOCKS_FILE.toPath(), StandardCharsets.UTF_8);
-            entries = GSON.fromJson(json, BROKEN_BLOCKS_LIST_TYPE);
-        } catch (Exception e) {
-            LOGGER.atWarning().withCause(e).log("Failed to read broken blocks file.");
-            deleteBrokenBlocksFile();
+        if (recoveredBrokenBlocks.isEmpty()) {
             return;
         }
-        if (entries == null || entries.isEmpty()) {
-            deleteBrokenBlocksFile();
-            return;
+        List<RunOrFallArena.RemovedBlock> entries = new ArrayList<>();
+        for (Map.Entry<RunOrFallArena.BlockKey, Integer> entry : recoveredBrokenBlocks.entrySet()) {
+            entries.add(new RunOrFallArena.RemovedBlock(entry.getKey(), entry.getValue()));
         }
         LOGGER.atInfo().log("Crash recovery: %d broken blocks to restore.", entries.size());
         restoreBrokenBlocksWithRetry(world, entries, 0);
     }
 
-    private void restoreBrokenBlocksWithRetry(World world, List<BrokenBlockEntry> entries, int attempt) {
-        List<BrokenBlockEntry> failed = new ArrayList<>();
+    private void restoreBrokenBlocksWithRetry(World world, List<RunOrFallArena.RemovedBlock> entries, int attempt) {
+        List<RunOrFallArena.RemovedBlock> failed = new ArrayList<>();
         int restored = 0;
-        for (BrokenBlockEntry entry : entries) {
-            if (writeBlockId(world, entry.x, entry.y, entry.z, entry.blockId)) {
+        for (RunOrFallArena.RemovedBlock entry : entries) {
+            RunOrFallArena.BlockKey key = entry.key();
+            if (writeBlockId(world, key.x(), key.y(), key.z(), entry.originalBlockId())) {
+                recoveredBrokenBlocks.remove(key);
                 restored++;
             } else {
                 failed.add(entry);
@@ -1205,7 +1027,7 @@ public class RunOrFallGameManager {
                 LOGGER.atWarning().log("Crash recovery: %d blocks could not be restored after %d attempts (chunks not loaded).",
                         failed.size(), attempt + 1);
             }
-            deleteBrokenBlocksFile();
+            finishBrokenBlocksRecovery();
             return;
         }
         long delayMs = attempt == 0 ? 3000L : 5000L;
@@ -1214,22 +1036,14 @@ public class RunOrFallGameManager {
                 world.execute(() -> restoreBrokenBlocksWithRetry(world, failed, attempt + 1));
             } catch (Exception e) {
                 LOGGER.atWarning().withCause(e).log("Crash recovery: retry failed.");
-                deleteBrokenBlocksFile();
+                finishBrokenBlocksRecovery();
             }
         }, delayMs, TimeUnit.MILLISECONDS);
     }
 
-    private long takeSurvivedMs(UUID playerId) {
-        if (playerId == null) {
-            return 0L;
-        }
-        nextAliveFeatherRewardAtMs.remove(playerId);
-        Long roundStartMs = roundStartTimesMs.remove(playerId);
-        if (roundStartMs == null) {
-            return 0L;
-        }
-        long now = System.currentTimeMillis();
-        return Math.max(0L, now - roundStartMs);
+    private void finishBrokenBlocksRecovery() {
+        recoveredBrokenBlocks.clear();
+        compactBrokenBlocksJournal();
     }
 
     private String resolvePlayerName(UUID playerId) {
@@ -1240,96 +1054,6 @@ public class RunOrFallGameManager {
         return "Unknown";
     }
 
-    private PlatformQueryIndex getPlatformQueryIndex(RunOrFallMapConfig map) {
-        int signature = computePlatformSignature(map);
-        String mapId = map != null ? map.id : null;
-        PlatformQueryIndex cached = platformQueryIndex;
-        if (cached.matches(mapId, signature)) {
-            return cached;
-        }
-        PlatformQueryIndex rebuilt = buildPlatformQueryIndex(map, mapId, signature);
-        platformQueryIndex = rebuilt;
-        return rebuilt;
-    }
-
-    private PlatformQueryIndex buildPlatformQueryIndex(RunOrFallMapConfig map, String mapId, int signature) {
-        if (map == null || map.platforms == null || map.platforms.isEmpty()) {
-            return PlatformQueryIndex.empty();
-        }
-        Map<Integer, Map<Long, List<IndexedPlatform>>> byLayer = new ConcurrentHashMap<>();
-        for (RunOrFallPlatform platform : map.platforms) {
-            if (platform == null) {
-                continue;
-            }
-            IndexedPlatform indexedPlatform = new IndexedPlatform(platform, resolvePlatformTargetBlockId(platform));
-            int minChunkX = Math.floorDiv(platform.minX, 16);
-            int maxChunkX = Math.floorDiv(platform.maxX, 16);
-            int minChunkZ = Math.floorDiv(platform.minZ, 16);
-            int maxChunkZ = Math.floorDiv(platform.maxZ, 16);
-            for (int y = platform.minY; y <= platform.maxY; y++) {
-                Map<Long, List<IndexedPlatform>> byChunk =
-                        byLayer.computeIfAbsent(y, ignored -> new ConcurrentHashMap<>());
-                for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
-                    for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
-                        long chunkKey = ChunkUtil.indexChunkFromBlock(chunkX * 16, chunkZ * 16);
-                        byChunk.computeIfAbsent(chunkKey, ignored -> new ArrayList<>()).add(indexedPlatform);
-                    }
-                }
-            }
-        }
-        Map<Integer, Map<Long, List<IndexedPlatform>>> immutableByLayer = new ConcurrentHashMap<>();
-        for (Map.Entry<Integer, Map<Long, List<IndexedPlatform>>> layerEntry : byLayer.entrySet()) {
-            Map<Long, List<IndexedPlatform>> immutableByChunk = new ConcurrentHashMap<>();
-            for (Map.Entry<Long, List<IndexedPlatform>> chunkEntry : layerEntry.getValue().entrySet()) {
-                immutableByChunk.put(chunkEntry.getKey(), List.copyOf(chunkEntry.getValue()));
-            }
-            immutableByLayer.put(layerEntry.getKey(), Map.copyOf(immutableByChunk));
-        }
-        return new PlatformQueryIndex(mapId, signature, Map.copyOf(immutableByLayer));
-    }
-
-    private Integer resolvePlatformTargetBlockId(RunOrFallPlatform platform) {
-        if (platform == null) {
-            return null;
-        }
-        String configuredItemId = platform.targetBlockItemId;
-        if (configuredItemId == null || configuredItemId.isBlank()) {
-            return null;
-        }
-        return resolveConfiguredBlockId(configuredItemId);
-    }
-
-    private int computePlatformSignature(RunOrFallMapConfig map) {
-        if (map == null || map.platforms == null || map.platforms.isEmpty()) {
-            return 0;
-        }
-        int signature = map.id != null ? map.id.hashCode() : 0;
-        signature = 31 * signature + map.platforms.size();
-        for (RunOrFallPlatform platform : map.platforms) {
-            if (platform == null) {
-                signature = 31 * signature;
-                continue;
-            }
-            signature = 31 * signature + platform.minX;
-            signature = 31 * signature + platform.minY;
-            signature = 31 * signature + platform.minZ;
-            signature = 31 * signature + platform.maxX;
-            signature = 31 * signature + platform.maxY;
-            signature = 31 * signature + platform.maxZ;
-            signature = 31 * signature + (platform.targetBlockItemId != null ? platform.targetBlockItemId.hashCode() : 0);
-        }
-        return signature;
-    }
-
-    private boolean isInsidePlatform(PlatformQueryIndex platformIndex, int x, int y, int z, int blockId) {
-        for (IndexedPlatform platform : platformIndex.getPlatformsAt(x, y, z)) {
-            if (platform.contains(x, y, z, blockId)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private int resolveConfiguredBlockId(String blockItemId) {
         if (blockItemId == null) {
             return -1;
@@ -1341,56 +1065,6 @@ public class RunOrFallGameManager {
         return blockItemIdCache.computeIfAbsent(key, ignored -> BlockType.getAssetMap().getIndex(key));
     }
 
-    private static final class PlatformQueryIndex {
-        private static final PlatformQueryIndex EMPTY = new PlatformQueryIndex(null, 0, Map.of());
-
-        private final String mapId;
-        private final int signature;
-        private final Map<Integer, Map<Long, List<IndexedPlatform>>> platformsByLayer;
-
-        private PlatformQueryIndex(String mapId, int signature, Map<Integer, Map<Long, List<IndexedPlatform>>> platformsByLayer) {
-            this.mapId = mapId;
-            this.signature = signature;
-            this.platformsByLayer = platformsByLayer;
-        }
-
-        private static PlatformQueryIndex empty() {
-            return EMPTY;
-        }
-
-        private boolean matches(String otherMapId, int otherSignature) {
-            if (mapId == null) {
-                return otherMapId == null && otherSignature == 0;
-            }
-            return mapId.equals(otherMapId) && signature == otherSignature;
-        }
-
-        private List<IndexedPlatform> getPlatformsAt(int x, int y, int z) {
-            Map<Long, List<IndexedPlatform>> byChunk = platformsByLayer.get(y);
-            if (byChunk == null) {
-                return List.of();
-            }
-            return byChunk.getOrDefault(ChunkUtil.indexChunkFromBlock(x, z), List.of());
-        }
-    }
-
-    private static final class IndexedPlatform {
-        private final RunOrFallPlatform platform;
-        private final Integer targetBlockId;
-
-        private IndexedPlatform(RunOrFallPlatform platform, Integer targetBlockId) {
-            this.platform = platform;
-            this.targetBlockId = targetBlockId;
-        }
-
-        private boolean contains(int x, int y, int z, int blockId) {
-            if (platform == null || !platform.contains(x, y, z)) {
-                return false;
-            }
-            return targetBlockId == null || targetBlockId == blockId;
-        }
-    }
-
     private static CountdownSettings resolveCountdownSettings(RunOrFallConfig config) {
         CountdownSettings settings = new CountdownSettings();
         int minPlayers = config != null ? config.minPlayers : 2;
@@ -1410,27 +1084,12 @@ public class RunOrFallGameManager {
         return Math.max(0, configured);
     }
 
-    private int resolveBlinkChargeEveryBlocksBroken(RunOrFallConfig config) {
-        int configured = config != null ? config.blinkChargeEveryBlocksBroken : configStore.getBlinkChargeEveryBlocksBroken();
-        return Math.max(1, configured);
-    }
-
-    private static RunOrFallMapConfig resolveSelectedMap(RunOrFallConfig config) {
-        if (config == null || config.maps == null || config.maps.isEmpty()) {
-            return null;
-        }
-        String selectedMapId = config.selectedMapId;
-        if (selectedMapId != null && !selectedMapId.isBlank()) {
-            for (RunOrFallMapConfig map : config.maps) {
-                if (map != null && selectedMapId.equalsIgnoreCase(map.id)) {
-                    return map;
-                }
-            }
-        }
-        return config.maps.get(0);
+    private boolean hasFreeMapFor(int playerCount) {
+        return resolveAutoSelectedMap(configStore.snapshot(), playerCount, arenas.busyMapIds()) != null;
     }
 
-    private static RunOrFallMapConfig resolveAutoSelectedMap(RunOrFallConfig config, int playerCount) {
+    private static RunOrFallMapConfig resolveAutoSelectedMap(RunOrFallConfig config, int playerCount,
+                                                             Set<String> busyMapIds) {
         if (config == null || config.maps == null || config.maps.isEmpty()) {
             return null;
         }
@@ -1438,7 +1097,7 @@ public class RunOrFallGameManager {
         int bestMinPlayers = Integer.MIN_VALUE;
         List<RunOrFallMapConfig> candidates = new ArrayList<>();
         for (RunOrFallMapConfig map : config.maps) {
-            if (!isMapPlayable(map)) {
+            if (!isMapPlayable(map) || busyMapIds.contains(RunOrFallArenaRouter.normalize(map.id))) {
                 continue;
             }
             int mapMinPlayers = Math.max(1, map.minPlayers);
@@ -1487,11 +1146,11 @@ public class RunOrFallGameManager {
 
     private void teleportPlayerToLobby(UUID playerId) {
         RunOrFallLocation lobby = null;
-        RunOrFallConfig roundConfig = activeRoundConfig;
-        if (roundConfig != null) {
-            RunOrFallMapConfig selectedMap = resolveSelectedMap(roundConfig);
-            if (selectedMap != null && selectedMap.lobby != null) {
-                lobby = selectedMap.lobby.copy();
+        RunOrFallArena arena = arenas.arenaOf(playerId);
+        RunOrFallMapConfig arenaMap = arena != null ? arena.map() : null;
+        if (arenaMap != null) {
+            if (arenaMap.lobby != null) {
+                lobby = arenaMap.lobby.copy();
             }
         } else {
             RunOrFallMapConfig countdownMap = countdownSelectedMap;
@@ -1593,6 +1252,12 @@ public class RunOrFallGameManager {
         }
     }
 
+    private void broadcastArena(RunOrFallArena arena, String text) {
+        for (UUID playerId : arena.members()) {
+            sendToPlayer(playerId, text);
+        }
+    }
+
     private void sendToPlayer(UUID playerId, String text) {
         PlayerRef playerRef = resolvePlayer(playerId);
         if (playerRef == null) {
@@ -1609,54 +1274,34 @@ public class RunOrFallGameManager {
         }
     }
 
-    private void rewardAliveTimeFeathersInternal(UUID playerId, long nowMs) {
-        if (playerId == null || state != GameState.RUNNING || !alivePlayers.contains(playerId)) {
-            return;
-        }
-        long nextRewardAt = nextAliveFeatherRewardAtMs
-                .computeIfAbsent(playerId, ignored -> nowMs + FEATHER_SURVIVAL_INTERVAL_MS);
-        if (nowMs < nextRewardAt) {
-            return;
-        }
-        long elapsedIntervals = 1L + ((nowMs - nextRewardAt) / FEATHER_SURVIVAL_INTERVAL_MS);
-        if (elapsedIntervals <= 0L) {
-            return;
-        }
-        nextAliveFeatherRewardAtMs.put(playerId, nextRewardAt + (elapsedIntervals * FEATHER_SURVIVAL_INTERVAL_MS));
-        long rewardAmount = elapsedIntervals * resolveFeathersPerMinuteAlive();
-        grantFeathersToPlayer(playerId, rewardAmount, "for staying alive");
-    }
-
-    private void rewardAlivePlayersForEliminationInternal(UUID eliminatedPlayerId) {
-        if (state != GameState.RUNNING || alivePlayers.isEmpty()) {
+    private void rewardAlivePlayersForEliminationInternal(RunOrFallArena arena, UUID eliminatedPlayerId) {
+        if (arena == null || !arena.isRunning()) {
             return;
         }
-        for (UUID survivorId : alivePlayers) {
+        long amount = resolveFeathersPerPlayerEliminated(arena.roundConfig());
+        for (UUID survivorId : arena.alivePlayers()) {
             if (survivorId == null || survivorId.equals(eliminatedPlayerId)) {
                 continue;
             }
-            grantFeathersToPlayer(survivorId, resolveFeathersPerPlayerEliminated(), "for a player elimination");
+            grantFeathersToPlayer(survivorId, amount, "for a player elimination");
         }
     }
 
-    private long resolveFeathersPerMinuteAlive() {
-        RunOrFallConfig config = activeRoundConfig;
+    private long resolveFeathersPerMinuteAlive(RunOrFallConfig config) {
         if (config == null) {
             return configStore.getFeathersPerMinuteAlive();
         }
         return Math.max(0L, config.feathersPerMinuteAlive);
     }
 
-    private long resolveFeathersPerPlayerEliminated() {
-        RunOrFallConfig config = activeRoundConfig;
+    private long resolveFeathersPerPlayerEliminated(RunOrFallConfig config) {
         if (config == null) {
             return configStore.getFeathersPerPlayerEliminated();
         }
         return Math.max(0L, config.feathersPerPlayerEliminated);
     }
 
-    private long resolveFeathersForWin() {
-        RunOrFallConfig config = activeRoundConfig;
+    private long resolveFeathersForWin(RunOrFallConfig config) {
         if (config == null) {
             return configStore.getFeathersForWin();
         }
@@ -1761,12 +1406,6 @@ public class RunOrFallGameManager {
         }
     }
 
-    private void refreshLobbyHotbars() {
-        for (UUID playerId : lobbyPlayers) {
-            refreshPlayerHotbar(playerId);
-        }
-    }
-
     private void refreshPlayerHotbar(UUID playerId) {
         if (playerId == null) {
             return;
@@ -1774,38 +1413,22 @@ public class RunOrFallGameManager {
         pluginCallbacks.refreshRunOrFallHotbar(playerId);
     }
 
-    private void ensureBrokenBlocksEntry(UUID playerId) {
-        brokenBlocksByPlayer.putIfAbsent(playerId, 0);
-        blinkChargesByPlayer.putIfAbsent(playerId, 0);
-        blinksUsedByPlayer.putIfAbsent(playerId, 0);
-    }
-
-    private void resetBrokenBlocksForLobbyPlayers() {
+    private void resetRoundHudForLobbyPlayers() {
         for (UUID playerId : lobbyPlayers) {
-            brokenBlocksByPlayer.put(playerId, 0);
-            blinkChargesByPlayer.put(playerId, 0);
-            blinksUsedByPlayer.put(playerId, 0);
             updateBrokenBlocksHudForPlayer(playerId, 0);
             updateBlinkChargesHudForPlayer(playerId, 0);
         }
     }
 
-    private void incrementBrokenBlocksCountInternal(UUID playerId) {
-        int previousCount = Math.max(0, brokenBlocksByPlayer.getOrDefault(playerId, 0));
-        int nextCount = previousCount + 1;
-        brokenBlocksByPlayer.put(playerId, nextCount);
-        updateBrokenBlocksHudForPlayer(playerId, nextCount);
-        int blocksPerExtraBlink = resolveBlinkChargeEveryBlocksBroken(activeRoundConfig);
-        int rewardsBefore = previousCount / blocksPerExtraBlink;
-        int rewardsAfter = nextCount / blocksPerExtraBlink;
-        int rewardedCharges = Math.max(0, rewardsAfter - rewardsBefore);
+    private void applyBlockBreakInternal(RunOrFallArena.BlockBreak blockBreak) {
+        UUID playerId = blockBreak.playerId();
+        updateBrokenBlocksHudForPlayer(playerId, blockBreak.brokenBlocks());
+        int rewardedCharges = blockBreak.rewardedCharges();
         if (rewardedCharges <= 0) {
             return;
         }
-        int reachedMilestoneBlocks = rewardsAfter * blocksPerExtraBlink;
-        int nextCharges = Math.max(0, blinkChargesByPlayer.getOrDefault(playerId, 0)) + rewardedCharges;
-        blinkChargesByPlayer.put(playerId, nextCharges);
-        updateBlinkChargesHudForPlayer(playerId, nextCharges);
+        int reachedMilestoneBlocks = blockBreak.milestoneBlocks();
+        updateBlinkChargesHudForPlayer(playerId, blockBreak.blinkCharges());
         playSfxForPlayer(playerId, SFX_BLINK_CHARGE_EARNED);
         if (rewardedCharges == 1) {
             sendToPlayer(playerId, "Blink charge earned: " + reachedMilestoneBlocks + " blocks broken.");
@@ -1814,20 +1437,6 @@ public class RunOrFallGameManager {
         }
     }
 
-    private int getRoundBrokenBlocksCount(UUID playerId) {
-        if (playerId == null) {
-            return 0;
-        }
-        return Math.max(0, brokenBlocksByPlayer.getOrDefault(playerId, 0));
-    }
-
-    private int getRoundBlinksUsedCount(UUID playerId) {
-        if (playerId == null) {
-            return 0;
-        }
-        return Math.max(0, blinksUsedByPlayer.getOrDefault(playerId, 0));
-    }
-
     private void updateCountdownHudForLobbyPlayers() {
         String countdownText = buildCountdownHudText();
         for (UUID playerId : lobbyPlayers) {
@@ -1872,16 +1481,17 @@ public class RunOrFallGameManager {
         return "Starting in " + countdownRemaining + "s";
     }
 
-    private void broadcastEliminationInternal(UUID eliminatedPlayerId, String reason) {
+    private void broadcastEliminationInternal(RunOrFallArena arena, UUID eliminatedPlayerId, String reason) {
         String eliminatedName = resolvePlayerName(eliminatedPlayerId);
         if (eliminatedName == null || eliminatedName.isBlank() || "Unknown".equalsIgnoreCase(eliminatedName)) {
             eliminatedName = "A player";
         }
+        int remaining = arena.alivePlayers().size();
         if (reason == null || reason.isBlank()) {
-            broadcastLobby("Elimination: " + eliminatedName + ". " + alivePlayers.size() + " remaining.");
+            broadcastArena(arena, "Elimination: " + eliminatedName + ". " + remaining + " remaining.");
             return;
         }
-        broadcastLobby("Elimination: " + eliminatedName + " " + reason + ". " + alivePlayers.size() + " remaining.");
+        broadcastArena(arena, "Elimination: " + eliminatedName + " " + reason + ". " + remaining + " remaining.");
     }
 
     private void resetCountdownState() {
@@ -1892,9 +1502,6 @@ public class RunOrFallGameManager {
         countdownOptimalTimeSeconds = 0;
         countdownForced = false;
         countdownSelectedMap = null;
-        soloTestRound = false;
-        blockBreakEnabledAtMs = 0L;
-        blockBreakCountdownLastAnnounced = -1;
     }
 
     private void cancelCountdownTask() {
@@ -1905,39 +1512,35 @@ public class RunOrFallGameManager {
         }
     }
 
-    private void cancelGameTickTask() {
-        ScheduledFuture<?> task = gameTickTask;
+    private void cancelArenaTickTask(RunOrFallArena arena) {
+        ScheduledFuture<?> task = arenaTickTasks.remove(arena);
         if (task != null) {
             task.cancel(false);
-            gameTickTask = null;
         }
     }
 
-    private static final class PendingBlock {
-        private final int originalBlockId;
-        private final long dueAtMs;
-        private final UUID playerId;
-
-        private PendingBlock(int originalBlockId, long dueAtMs, UUID playerId) {
-            this.originalBlockId = originalBlockId;
-            this.dueAtMs = dueAtMs;
-            this.playerId = playerId;
-        }
+    private RunOrFallArena createArena(String mapId) {
+        return new RunOrFallArena(mapId, worldBlocks, RunOrFallUtils.AIR_BLOCK_ID, this::resolveConfiguredBlockId,
+                System::currentTimeMillis);
     }
 
-    private static final class PendingBlockQueueEntry {
-        private final BlockKey key;
-        private final PendingBlock pending;
-        private final long nextAttemptAtMs;
+    // All arenas share the RunOrFall world; resolved per call so restores still work after the lobby empties
+    private final class WorldBlockAccess implements RunOrFallArena.BlockAccess {
+        @Override
+        public Integer readBlockId(int x, int y, int z) {
+            World world = resolveBlockWorld();
+            return world != null ? RunOrFallUtils.readBlockId(world, x, y, z) : null;
+        }
 
-        private PendingBlockQueueEntry(BlockKey key, PendingBlock pending, long nextAttemptAtMs) {
-            this.key = key;
-            this.pending = pending;
-            this.nextAttemptAtMs = nextAttemptAtMs;
+        @Override
+        public boolean writeBlockId(int x, int y, int z, int blockId) {
+            World world = resolveBlockWorld();
+            return world != null && RunOrFallGameManager.this.writeBlockId(world, x, y, z, blockId);
         }
 
-        private PendingBlockQueueEntry retryAt(long nextAttemptAtMs) {
-            return new PendingBlockQueueEntry(key, pending, nextAttemptAtMs);
+        private World resolveBlockWorld() {
+            World world = activeWorld;
+            return world != null ? world : Universe.get().getWorld(WorldConstants.WORLD_RUN_OR_FALL);
         }
     }
 
@@ -1948,37 +1551,6 @@ public class RunOrFallGameManager {
         private int optimalPlayersTimeSeconds;
     }
 
-    private static final class BlockKey {
-        private final int x;
-        private final int y;
-        private final int z;
-
-        private BlockKey(int x, int y, int z) {
-            this.x = x;
-            this.y = y;
-            this.z = z;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (!(obj instanceof BlockKey other)) {
-                return false;
-            }
-            return x == other.x && y == other.y && z == other.z;
-        }
-
-        @Override
-        public int hashCode() {
-            int result = Integer.hashCode(x);
-            result = 31 * result + Integer.hashCode(y);
-            result = 31 * result + Integer.hashCode(z);
-            return result;
-        }
-    }
-
     private static final class BrokenBlockEntry {
         int x;
         int y;
@@ -0,0 +1,191 @@
+package io.hyvexa.runorfall.manager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrokenBlockJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<RunOrFallArena.RemovedBlock> blocks(int from, int count) {
+        List<RunOrFallArena.RemovedBlock> blocks = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            // Mixes negative coordinates and y values to exercise the sign extension of every packed field
+            blocks.add(new RunOrFallArena.RemovedBlock(
+                    new RunOrFallArena.BlockKey(i * 37 - 5000, (i % 300) - 64, -i * 11), 100 + i));
+        }
+        return blocks;
+    }
+
+    private static Map<RunOrFallArena.BlockKey, Integer> asMap(List<RunOrFallArena.RemovedBlock> blocks) {
+        Map<RunOrFallArena.BlockKey, Integer> map = new LinkedHashMap<>();
+        for (RunOrFallArena.RemovedBlock block : blocks) {
+            map.put(block.key(), block.originalBlockId());
+        }
+        return map;
+    }
+
+    private Path writeJournal(List<RunOrFallArena.RemovedBlock> written) throws IOException {
+        Path file = dir.resolve("broken_blocks.journal");
+        BrokenBlockJournal journal = new BrokenBlockJournal(file);
+        journal.open();
+        // Several flushes, as a round would produce them
+        for (int i = 0; i < written.size(); i += 7) {
+            journal.append(written.subList(i, Math.min(written.size(), i + 7)));
+            journal.flush();
+        }
+        return file;
+    }
+
+    @Test
+    void packsPositionsAcrossTheirFullRange() {
+        int[][] positions = {{0, 0, 0}, {-1, -1, -1}, {33_554_431, 2047, -33_554_432}, {-33_554_432, -2048, 33_554_431},
+                {12_345, 320, -67_890}};
+        for (int[] p : positions) {
+            assertTrue(BrokenBlockJournal.fits(p[0], p[1], p[2]));
+            assertEquals(new RunOrFallArena.BlockKey(p[0], p[1], p[2]),
+                    BrokenBlockJournal.unpack(BrokenBlockJournal.pack(p[0], p[1], p[2])));
+        }
+        assertFalse(BrokenBlockJournal.fits(33_554_432, 0, 0));
+        assertFalse(BrokenBlockJournal.fits(0, 2048, 0));
+    }
+
+    @Test
+    void recoversEveryFlushedRecord() throws IOException {
+        List<RunOrFallArena.RemovedBlock> written = blocks(0, 50);
+        Path file = writeJournal(written);
+
+        assertEquals(BrokenBlockJournal.HEADER_BYTES + 50L * BrokenBlockJournal.RECORD_BYTES, Files.size(file));
+        BrokenBlockJournal.Recovery recovery = BrokenBlockJournal.read(file);
+        assertEquals(asMap(written), recovery.blocks());
+        assertEquals(50, recovery.records());
+        assertEquals(0L, recovery.discardedBytes());
+    }
+
+    @Test
+    void truncatedJournalRecoversWrittenPrefix() throws IOException {
+        List<RunOrFallArena.RemovedBlock> written = blocks(0, 40);
+        Path file = writeJournal(written);
+        long fullLength = Files.size(file);
+
+        // Cut at every byte of the last records, like a crash in the middle of a write
+        for (long cut = fullLength; cut >= fullLength - 3L * BrokenBlockJournal.RECORD_BYTES; cut--) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(cut);
+            }
+            int complete = (int) ((cut - BrokenBlockJournal.HEADER_BYTES) / BrokenBlockJournal.RECORD_BYTES);
+            BrokenBlockJournal.Recovery recovery = BrokenBlockJournal.read(file);
+            assertEquals(asMap(written.subList(0, complete)), recovery.blocks());
+            assertEquals((cut - BrokenBlockJournal.HEADER_BYTES) % BrokenBlockJournal.RECORD_BYTES,
+                    recovery.discardedBytes());
+        }
+
+        // A journal cut inside its header recovers nothing
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(5);
+        }
+        assertTrue(BrokenBlockJournal.read(file).blocks().isEmpty());
+    }
+
+    @Test
+    void corruptRecordEndsRecoveryAtPrecedingRecord() throws IOException {
+        List<RunOrFallArena.RemovedBlock> written = blocks(0, 30);
+        Path file = writeJournal(written);
+        byte[] pristine = Files.readAllBytes(file);
+
+        for (int corrupted : new int[]{0, 12, 29}) {
+            for (int byteInRecord = 0; byteInRecord < BrokenBlockJournal.RECORD_BYTES; byteInRecord += 5) {
+                byte[] data = pristine.clone();
+                data[BrokenBlockJournal.HEADER_BYTES + corrupted * BrokenBlockJournal.RECORD_BYTES + byteInRecord] ^= 0x10;
+                Files.write(file, data);
+
+                BrokenBlockJournal.Recovery recovery = BrokenBlockJournal.read(file);
+                assertEquals(asMap(written.subList(0, corrupted)), recovery.blocks());
+                assertEquals((long) (30 - corrupted) * BrokenBlockJournal.RECORD_BYTES, recovery.discardedBytes());
+            }
+        }
+
+        // A zero-filled tail, as left by some filesystems after a crash, is not mistaken for records
+        byte[] zeroTail = new byte[pristine.length + 4 * BrokenBlockJournal.RECORD_BYTES];
+        System.arraycopy(pristine, 0, zeroTail, 0, pristine.length);
+        Files.write(file, zeroTail);
+        assertEquals(asMap(written), BrokenBlockJournal.read(file).blocks());
+    }
+
+    @Test
+    void openTrimsDamagedTailSoLaterRecordsStayReadable() throws IOException {
+        List<RunOrFallArena.RemovedBlock> written = blocks(0, 20);
+        Path file = writeJournal(written);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 9);
+        }
+
+        BrokenBlockJournal journal = new BrokenBlockJournal(file);
+        BrokenBlockJournal.Recovery recovery = journal.open();
+        assertEquals(asMap(written.subList(0, 19)), recovery.blocks());
+        assertEquals(BrokenBlockJournal.RECORD_BYTES - 9L, recovery.discardedBytes());
+
+        List<RunOrFallArena.RemovedBlock> next = blocks(100, 5);
+        journal.append(next);
+        journal.flush();
+        Map<RunOrFallArena.BlockKey, Integer> expected = asMap(written.subList(0, 19));
+        expected.putAll(asMap(next));
+        BrokenBlockJournal.Recovery reopened = BrokenBlockJournal.read(file);
+        assertEquals(expected, reopened.blocks());
+        assertEquals(0L, reopened.discardedBytes());
+    }
+
+    @Test
+    void compactionKeepsOnlyLiveBlocks() throws IOException {
+        Path file = dir.resolve("broken_blocks.journal");
+        BrokenBlockJournal journal = new BrokenBlockJournal(file);
+        journal.open();
+        List<RunOrFallArena.RemovedBlock> first = blocks(0, 10);
+        List<RunOrFallArena.RemovedBlock> second = blocks(10, 10);
+        journal.append(first);
+        journal.append(second);
+        journal.flush();
+
+        // The first arena's round ended and its blocks were put back
+        journal.compact(() -> asMap(second));
+        assertEquals(BrokenBlockJournal.HEADER_BYTES + 10L * BrokenBlockJournal.RECORD_BYTES, Files.size(file));
+        assertEquals(asMap(second), BrokenBlockJournal.read(file).blocks());
+
+        // Buffered records are dropped by a compaction, which already reflects them
+        journal.append(blocks(50, 3));
+        journal.compact(Map::of);
+        assertFalse(Files.exists(file));
+        journal.flush();
+        assertFalse(Files.exists(file));
+
+        journal.append(blocks(60, 2));
+        journal.flush();
+        assertEquals(asMap(blocks(60, 2)), BrokenBlockJournal.read(file).blocks());
+        assertFalse(journal.shouldCompact(0));
+    }
+
+    @Test
+    void outOfRangeBlocksAreSkipped() throws IOException {
+        Path file = dir.resolve("broken_blocks.journal");
+        BrokenBlockJournal journal = new BrokenBlockJournal(file);
+        List<RunOrFallArena.RemovedBlock> batch = new ArrayList<>(blocks(0, 2));
+        batch.add(new RunOrFallArena.RemovedBlock(new RunOrFallArena.BlockKey(0, 5000, 0), 7));
+
+        assertEquals(1, journal.append(batch));
+        journal.flush();
+        assertEquals(asMap(blocks(0, 2)), BrokenBlockJournal.read(file).blocks());
+    }
+}
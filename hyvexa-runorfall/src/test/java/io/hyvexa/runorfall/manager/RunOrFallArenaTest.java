@@ -0,0 +1,340 @@
+package io.hyvexa.runorfall.manager;
+
+import io.hyvexa.runorfall.data.RunOrFallConfig;
+import io.hyvexa.runorfall.data.RunOrFallLocation;
+import io.hyvexa.runorfall.data.RunOrFallMapConfig;
+import io.hyvexa.runorfall.data.RunOrFallPlatform;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunOrFallArenaTest {
+
+    private static final int AIR = 0;
+    private static final int STONE = 7;
+    private static final int PLATFORM_Y = 64;
+    private static final int PLATFORM_SIZE = 16;
+    private static final long TICK_MS = 50L;
+
+    /** One world shared by every arena, like the single RunOrFall world on the server. */
+    private static final class FakeWorld implements RunOrFallArena.BlockAccess {
+        final Map<RunOrFallArena.BlockKey, Integer> blocks = new ConcurrentHashMap<>();
+
+        @Override
+        public Integer readBlockId(int x, int y, int z) {
+            return blocks.getOrDefault(new RunOrFallArena.BlockKey(x, y, z), AIR);
+        }
+
+        @Override
+        public boolean writeBlockId(int x, int y, int z, int blockId) {
+            blocks.put(new RunOrFallArena.BlockKey(x, y, z), blockId);
+            return true;
+        }
+
+        void fill(RunOrFallPlatform platform, int blockId) {
+            for (int x = platform.minX; x <= platform.maxX; x++) {
+                for (int z = platform.minZ; z <= platform.maxZ; z++) {
+                    writeBlockId(x, platform.minY, z, blockId);
+                }
+            }
+        }
+    }
+
+    /** Arena i gets its own platform, 100 blocks further along X. */
+    private static RunOrFallMapConfig map(int index) {
+        RunOrFallMapConfig map = new RunOrFallMapConfig();
+        map.id = "Map" + index;
+        int minX = index * 100;
+        map.lobby = new RunOrFallLocation(minX, 80, -10, 0f, 0f, 0f);
+        map.spawns.add(new RunOrFallLocation(minX + 1, PLATFORM_Y + 1, 1, 0f, 0f, 0f));
+        map.platforms.add(new RunOrFallPlatform(minX, PLATFORM_Y, 0,
+                minX + PLATFORM_SIZE - 1, PLATFORM_Y, PLATFORM_SIZE - 1));
+        return map;
+    }
+
+    private static RunOrFallConfig config() {
+        RunOrFallConfig config = new RunOrFallConfig();
+        config.voidY = 40.0;
+        config.blockBreakDelaySeconds = 0.2;
+        config.blinkChargeEveryBlocksBroken = 5;
+        return config;
+    }
+
+    private static RunOrFallArena arena(String mapId, FakeWorld world, AtomicLong clock) {
+        return new RunOrFallArena(mapId, world, AIR, ignored -> -1, clock::get);
+    }
+
+    private static List<UUID> players(int count) {
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(UUID.randomUUID());
+        }
+        return players;
+    }
+
+    private record RoundOutcome(RunOrFallArena.PlayerResult winner, List<RunOrFallArena.PlayerResult> fell,
+                                Map<RunOrFallArena.BlockKey, Integer> removedBlocks, Map<UUID, Integer> brokenBlocks,
+                                int winnerCharges, List<UUID> members) {}
+
+    /**
+     * Plays a round to the end: every player walks their own row, and all but {@code survivor} drop into the
+     * void at staggered ticks.
+     */
+    private static RoundOutcome playRound(RunOrFallArena arena, AtomicLong clock, RunOrFallMapConfig map,
+                                          List<UUID> players, int survivor, int firstFallTick) {
+        assertTrue(arena.start(config(), map, players, 1, false, 500L));
+        int baseX = map.platforms.get(0).minX;
+        List<RunOrFallArena.PlayerResult> fell = new ArrayList<>();
+        for (int tick = 0; tick < 400 && !arena.isRoundOver(); tick++) {
+            clock.set(tick * TICK_MS);
+            List<RunOrFallArena.PlayerSample> samples = new ArrayList<>();
+            for (int p = 0; p < players.size(); p++) {
+                double x = baseX + 0.5 + (tick % 60) * 0.25;
+                double z = 1.5 + p * 5 + (tick / 60);
+                boolean falling = p != survivor && tick >= firstFallTick + p * 10;
+                samples.add(new RunOrFallArena.PlayerSample(players.get(p), x, falling ? 30.0 : PLATFORM_Y + 1.0, z));
+            }
+            fell.addAll(arena.tick(samples).fellIntoVoid());
+            Thread.yield();
+        }
+        assertTrue(arena.isRoundOver(), "round should end once one player is left");
+        Map<UUID, Integer> brokenBlocks = new HashMap<>();
+        for (UUID playerId : players) {
+            brokenBlocks.put(playerId, arena.getBrokenBlocksCount(playerId));
+        }
+        int winnerCharges = arena.getBlinkCharges(players.get(survivor));
+        RunOrFallArena.PlayerResult winner = arena.takeWinner();
+        Map<RunOrFallArena.BlockKey, Integer> removed = arena.removedBlocksSnapshot();
+        List<UUID> members = arena.end();
+        return new RoundOutcome(winner, fell, removed, brokenBlocks, winnerCharges, members);
+    }
+
+    @Test
+    void parallelRoundsStayIsolated() throws Exception {
+        int arenaCount = 4;
+        FakeWorld world = new FakeWorld();
+        List<RunOrFallMapConfig> maps = new ArrayList<>();
+        for (int i = 0; i < arenaCount; i++) {
+            RunOrFallMapConfig map = map(i);
+            maps.add(map);
+            world.fill(map.platforms.get(0), STONE);
+        }
+        Map<RunOrFallArena.BlockKey, Integer> initialWorld = Map.copyOf(world.blocks);
+
+        RunOrFallArenaRouter router = new RunOrFallArenaRouter(mapId -> arena(mapId, world, new AtomicLong()));
+        List<List<UUID>> playersByArena = new ArrayList<>();
+        List<AtomicLong> clocks = new ArrayList<>();
+        List<RunOrFallArena> arenas = new ArrayList<>();
+        for (int i = 0; i < arenaCount; i++) {
+            AtomicLong clock = new AtomicLong();
+            clocks.add(clock);
+            arenas.add(arena(maps.get(i).id, world, clock));
+            playersByArena.add(players(3));
+            for (UUID playerId : playersByArena.get(i)) {
+                router.route(playerId, arenas.get(i));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(arenaCount);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<RoundOutcome>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < arenaCount; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    return playRound(arenas.get(index), clocks.get(index), maps.get(index),
+                            playersByArena.get(index), index % 3, 20 + index * 5);
+                }));
+            }
+            startGate.countDown();
+
+            for (int i = 0; i < arenaCount; i++) {
+                RoundOutcome outcome = futures.get(i).get(30, TimeUnit.SECONDS);
+                List<UUID> players = playersByArena.get(i);
+                UUID expectedWinner = players.get(i % 3);
+
+                assertNotNull(outcome.winner());
+                assertEquals(expectedWinner, outcome.winner().playerId());
+                assertEquals(2, outcome.fell().size());
+                for (RunOrFallArena.PlayerResult fell : outcome.fell()) {
+                    assertTrue(players.contains(fell.playerId()));
+                    assertNotEquals(expectedWinner, fell.playerId());
+                    int p = players.indexOf(fell.playerId());
+                    assertEquals((20 + i * 5 + p * 10) * TICK_MS, fell.survivedMs());
+                }
+                long lastFallMs = outcome.fell().stream().mapToLong(RunOrFallArena.PlayerResult::survivedMs).max().orElse(0L);
+                assertEquals(lastFallMs, outcome.winner().survivedMs());
+
+                // Only this arena's platform lost blocks, and every one was credited to one of its players
+                int minX = i * 100;
+                assertFalse(outcome.removedBlocks().isEmpty());
+                for (Map.Entry<RunOrFallArena.BlockKey, Integer> removed : outcome.removedBlocks().entrySet()) {
+                    RunOrFallArena.BlockKey key = removed.getKey();
+                    assertTrue(key.x() >= minX && key.x() < minX + PLATFORM_SIZE, "block outside arena " + i);
+                    assertEquals(PLATFORM_Y, key.y());
+                    assertEquals(STONE, removed.getValue());
+                }
+                int credited = outcome.brokenBlocks().values().stream().mapToInt(Integer::intValue).sum();
+                assertEquals(outcome.removedBlocks().size(), credited);
+                int winnerBroken = outcome.brokenBlocks().get(expectedWinner);
+                assertEquals(winnerBroken, outcome.winner().brokenBlocks());
+                assertEquals(1 + winnerBroken / 5, outcome.winnerCharges());
+
+                assertEquals(Set.copyOf(players), Set.copyOf(outcome.members()));
+                for (UUID playerId : players) {
+                    assertSame(arenas.get(i), router.arenaOf(playerId));
+                    for (int other = 0; other < arenaCount; other++) {
+                        if (other != i) {
+                            assertFalse(arenas.get(other).isMember(playerId));
+                        }
+                    }
+                }
+                assertFalse(arenas.get(i).isRunning());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Every arena put its own blocks back
+        assertEquals(initialWorld, Map.copyOf(world.blocks));
+    }
+
+    @Test
+    void blinkChargesAndCountersArePerArena() {
+        FakeWorld world = new FakeWorld();
+        RunOrFallMapConfig mapA = map(0);
+        RunOrFallMapConfig mapB = map(1);
+        world.fill(mapA.platforms.get(0), STONE);
+        world.fill(mapB.platforms.get(0), STONE);
+        AtomicLong clock = new AtomicLong();
+        RunOrFallArena arenaA = arena(mapA.id, world, clock);
+        RunOrFallArena arenaB = arena(mapB.id, world, clock);
+        List<UUID> playersA = players(2);
+        List<UUID> playersB = players(2);
+        assertTrue(arenaA.start(config(), mapA, playersA, 1, false, 0L));
+        assertTrue(arenaB.start(config(), mapB, playersB, 1, false, 0L));
+        assertFalse(arenaA.start(config(), mapA, playersB, 1, false, 0L));
+
+        // Player A0 walks 12 blocks; only arena A ticks
+        UUID walker = playersA.get(0);
+        int blockBreaksSeen = 0;
+        int rewarded = 0;
+        for (int tick = 0; tick < 80; tick++) {
+            clock.set(tick * TICK_MS);
+            double x = Math.min(11.5, 0.5 + tick * 0.25);
+            RunOrFallArena.TickResult result = arenaA.tick(List.of(
+                    new RunOrFallArena.PlayerSample(walker, x, PLATFORM_Y + 1.0, 1.5)));
+            for (RunOrFallArena.BlockBreak blockBreak : result.blockBreaks()) {
+                assertEquals(walker, blockBreak.playerId());
+                blockBreaksSeen++;
+                assertEquals(blockBreaksSeen, blockBreak.brokenBlocks());
+                rewarded += blockBreak.rewardedCharges();
+                if (blockBreak.rewardedCharges() > 0) {
+                    assertEquals(blockBreak.brokenBlocks(), blockBreak.milestoneBlocks());
+                }
+            }
+        }
+        assertEquals(12, blockBreaksSeen);
+        assertEquals(12, arenaA.getBrokenBlocksCount(walker));
+        assertEquals(2, rewarded);
+        assertEquals(3, arenaA.getBlinkCharges(walker));
+        assertTrue(arenaB.removedBlocksSnapshot().isEmpty());
+        assertEquals(0, arenaB.getBrokenBlocksCount(playersB.get(0)));
+
+        assertEquals(2, arenaA.tryConsumeBlinkCharge(walker));
+        // Charges do not leak across arenas
+        assertEquals(-1, arenaB.tryConsumeBlinkCharge(walker));
+        assertEquals(0, arenaB.tryConsumeBlinkCharge(playersB.get(0)));
+        assertEquals(-1, arenaB.tryConsumeBlinkCharge(playersB.get(0)));
+        assertEquals(2, arenaA.getBlinkCharges(walker));
+
+        RunOrFallArena.PlayerResult left = arenaA.removeMember(walker);
+        assertNotNull(left);
+        assertEquals(12, left.brokenBlocks());
+        assertEquals(1, left.blinksUsed());
+        assertTrue(arenaA.isRoundOver());
+        assertFalse(arenaB.isRoundOver());
+    }
+
+    @Test
+    void blocksWaitForGraceThenBreakDelay() {
+        FakeWorld world = new FakeWorld();
+        RunOrFallMapConfig map = map(0);
+        world.fill(map.platforms.get(0), STONE);
+        AtomicLong clock = new AtomicLong();
+        RunOrFallArena arena = arena(map.id, world, clock);
+        UUID player = UUID.randomUUID();
+        assertTrue(arena.start(config(), map, List.of(player, UUID.randomUUID()), 0, false, 2000L));
+        List<RunOrFallArena.PlayerSample> standing =
+                List.of(new RunOrFallArena.PlayerSample(player, 3.5, PLATFORM_Y + 1.0, 3.5));
+
+        assertEquals(0, arena.tick(standing).blockBreakCountdown());
+        clock.set(1000L);
+        assertEquals(1, arena.tick(standing).blockBreakCountdown());
+        clock.set(1500L);
+        assertEquals(0, arena.tick(standing).blockBreakCountdown());
+        assertEquals(0, arena.pendingBlockCount());
+
+        clock.set(2000L);
+        assertTrue(arena.tick(standing).blockBreaks().isEmpty());
+        assertEquals(1, arena.pendingBlockCount());
+        clock.set(2150L);
+        assertTrue(arena.tick(standing).blockBreaks().isEmpty());
+        clock.set(2200L);
+        assertEquals(1, arena.tick(standing).blockBreaks().size());
+        assertEquals(AIR, world.readBlockId(3, PLATFORM_Y, 3));
+        assertTrue(arena.canBlinkPassThrough(3, PLATFORM_Y, 3, AIR));
+        assertTrue(arena.canBlinkPassThrough(4, PLATFORM_Y, 3, STONE));
+        assertFalse(arena.canBlinkPassThrough(4, PLATFORM_Y + 1, 3, STONE));
+
+        arena.end();
+        assertEquals(STONE, world.readBlockId(3, PLATFORM_Y, 3));
+        assertFalse(arena.canBlinkPassThrough(4, PLATFORM_Y, 3, STONE));
+    }
+
+    @Test
+    void routerTracksPlayersAndBusyMaps() {
+        FakeWorld world = new FakeWorld();
+        AtomicLong clock = new AtomicLong();
+        RunOrFallArenaRouter router = new RunOrFallArenaRouter(mapId -> arena(mapId, world, clock));
+        RunOrFallArena first = router.arenaFor("Canyon");
+        assertSame(first, router.arenaFor(" canyon "));
+        RunOrFallArena second = router.arenaFor("Glacier");
+        assertNotSame(first, second);
+        assertEquals("Canyon", first.mapId());
+
+        RunOrFallMapConfig canyon = map(0);
+        canyon.id = "Canyon";
+        UUID player = UUID.randomUUID();
+        assertTrue(first.start(config(), canyon, List.of(player), 0, true, 0L));
+        router.route(player, first);
+        assertSame(first, router.arenaOf(player));
+        assertEquals(Set.of("canyon"), router.busyMapIds());
+        assertEquals(List.of(first), router.runningArenas());
+        assertTrue(router.hasRunningArena());
+
+        assertFalse(router.release(player, second));
+        assertTrue(router.release(player, first));
+        assertNull(router.arenaOf(player));
+        assertNull(router.release(player));
+
+        first.end();
+        assertTrue(router.busyMapIds().isEmpty());
+        assertFalse(router.hasRunningArena());
+    }
+}